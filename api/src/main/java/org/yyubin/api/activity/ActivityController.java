@@ -29,12 +29,15 @@ public class ActivityController {
     public ResponseEntity<ActivityPageResponse> getActivity(
             @AuthenticationPrincipal Object principal,
             @RequestParam(value = "cursor", required = false) Long cursorEpochMillis,
+            @RequestParam(value = "cursorSourceRank", required = false) Integer cursorSourceRank,
+            @RequestParam(value = "cursorId", required = false) Long cursorId,
             @RequestParam(value = "size", required = false) @Min(1) @Max(MAX_SIZE) Integer size
     ) {
         Long userId = PrincipalUtils.requireUserId(principal);
         int pageSize = size == null ? DEFAULT_SIZE : Math.min(size, MAX_SIZE);
         ActivityFeedPageResult result =
-                getActivityFeedUseCase.query(new GetActivityFeedQuery(userId, cursorEpochMillis, pageSize));
+                getActivityFeedUseCase.query(new GetActivityFeedQuery(
+                        userId, cursorEpochMillis, cursorSourceRank, cursorId, pageSize));
         return ResponseEntity.ok(ActivityPageResponse.from(result));
     }
 }
@@ -5,12 +5,16 @@ import org.yyubin.application.activity.dto.ActivityFeedPageResult;
 
 public record ActivityPageResponse(
         List<ActivityItemResponse> items,
-        Long nextCursor
+        Long nextCursor,
+        Integer nextCursorSourceRank,
+        Long nextCursorId
 ) {
     public static ActivityPageResponse from(ActivityFeedPageResult result) {
         return new ActivityPageResponse(
                 result.items().stream().map(ActivityItemResponse::from).toList(),
-                result.nextCursorEpochMillis()
+                result.nextCursorEpochMillis(),
+                result.nextCursorSourceRank(),
+                result.nextCursorId()
         );
     }
 }
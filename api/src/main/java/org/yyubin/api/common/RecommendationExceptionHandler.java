@@ -0,0 +1,16 @@
+package org.yyubin.api.common;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.yyubin.application.recommendation.exception.InvalidRecommendationCursorException;
+
+@RestControllerAdvice
+public class RecommendationExceptionHandler {
+
+    @ExceptionHandler(InvalidRecommendationCursorException.class)
+    public ResponseEntity<Void> handleInvalidCursor(InvalidRecommendationCursorException ex) {
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+    }
+}
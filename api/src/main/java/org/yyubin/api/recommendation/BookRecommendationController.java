@@ -28,7 +28,7 @@ public class BookRecommendationController {
     @GetMapping
     public ResponseEntity<BookRecommendationResponse> getBookRecommendations(
             @AuthenticationPrincipal Object principal,
-            @RequestParam(value = "cursor", required = false) Long cursor,
+            @RequestParam(value = "cursor", required = false) String cursor,
             @RequestParam(value = "limit", required = false) @Min(1) @Max(MAX_LIMIT) Integer limit,
             @RequestParam(value = "forceRefresh", required = false, defaultValue = "false") boolean forceRefresh,
             @RequestParam(value = "enableSampling", required = false, defaultValue = "true") boolean enableSampling,
@@ -6,7 +6,7 @@ import org.yyubin.application.recommendation.dto.BookRecommendationResult;
 public record BookRecommendationResponse(
         List<BookRecommendationItemResponse> items,
         int totalItems,
-        Long nextCursor,
+        String nextCursor,
         boolean hasMore
 ) {
     public static BookRecommendationResponse from(List<BookRecommendationResult> results, int requestedLimit) {
@@ -16,8 +16,8 @@ public record BookRecommendationResponse(
 
         // 다음 페이지가 있는지 확인 (요청한 limit만큼 결과가 있으면 더 있을 수 있음)
         boolean hasMore = results.size() >= requestedLimit;
-        Long nextCursor = hasMore && !results.isEmpty()
-                ? results.get(results.size() - 1).bookId()
+        String nextCursor = hasMore && !results.isEmpty()
+                ? results.get(results.size() - 1).cursor()
                 : null;
 
         return new BookRecommendationResponse(items, items.size(), nextCursor, hasMore);
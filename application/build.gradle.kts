@@ -2,6 +2,7 @@ plugins {
     java
     id("org.springframework.boot") version "4.0.0"
     id("io.spring.dependency-management") version "1.1.7"
+    id("me.champeau.jmh") version "0.7.2"
 }
 
 group = "org.yyubin"
@@ -49,6 +50,13 @@ tasks.withType<Test> {
     useJUnitPlatform()
 }
 
+// JMH 벤치마크 (src/jmh/java) - ./gradlew :application:jmh
+jmh {
+    jmhVersion = "1.37"
+    fork = 1
+    jvmArgs = listOf("-Xms4g", "-Xmx8g")
+}
+
 tasks.bootJar {
     enabled = false
 }
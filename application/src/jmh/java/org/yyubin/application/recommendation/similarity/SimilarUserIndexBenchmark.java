@@ -0,0 +1,179 @@
+package org.yyubin.application.recommendation.similarity;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.yyubin.domain.recommendation.UserTasteVector;
+import org.yyubin.domain.review.BookGenre;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 유사 사용자 계산 벤치마크
+ * - indexedAllUsers: 역색인 + fork/join 으로 전체 사용자 top-50 계산 (인덱스 생성 포함)
+ * - allPairsSample: 기존 전수 비교 방식으로 SAMPLE_USERS 명만 계산 (전체 비용 ≈ 결과 × users / SAMPLE_USERS)
+ *
+ * 합성 데이터는 BuildUserTasteVectorUseCase 와 같은 모양의 희소·편향 벡터입니다.
+ * - 사용자당 활동(북마크/좋아요) 수는 Pareto 분포 (대부분 1~3건, 소수만 수십 건), 30% 는 활동 없음(빈 벡터)
+ * - 활동마다 장르 1개(BookGenre, Zipf) + 키워드 0~3개(20,000개 중 Zipf), 가중치는 시간 감쇠를 흉내 낸 0.1~1.0
+ * - 합산 후 L2 정규화
+ * 실행: ./gradlew :application:jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+public class SimilarUserIndexBenchmark {
+
+    private static final int TOP_N = 50;
+    private static final double MIN_SIMILARITY = 0.1;
+    private static final int SAMPLE_USERS = 100;
+
+    private static final BookGenre[] GENRES = BookGenre.values();
+    private static final int KEYWORDS = 20_000;
+    private static final double INACTIVE_RATIO = 0.3;
+    private static final double ACTIVITY_PARETO_ALPHA = 1.5;
+    private static final int MAX_ACTIVITIES = 200;
+
+    @Param({"10000", "100000", "1000000"})
+    public int users;
+
+    private List<UserTasteVector> vectors;
+    private double[] genreCdf;
+    private double[] keywordCdf;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        genreCdf = zipfCdf(GENRES.length, 1.0);
+        keywordCdf = zipfCdf(KEYWORDS, 1.1);
+        SplittableRandom random = new SplittableRandom(20240101L);
+        vectors = new ArrayList<>(users);
+        for (long userId = 1; userId <= users; userId++) {
+            vectors.add(randomVector(userId, random));
+        }
+    }
+
+    @Benchmark
+    public void indexedAllUsers(Blackhole blackhole) {
+        SimilarUserIndex index = SimilarUserIndex.build(vectors);
+        index.forEachTopNeighbours(TOP_N, MIN_SIMILARITY, ForkJoinPool.commonPool(),
+            (userId, similarUsers) -> blackhole.consume(similarUsers));
+    }
+
+    @Benchmark
+    public void allPairsSample(Blackhole blackhole) {
+        for (int i = 0; i < SAMPLE_USERS; i++) {
+            UserTasteVector target = vectors.get(i);
+            int matches = 0;
+            for (UserTasteVector other : vectors) {
+                if (other.userId().equals(target.userId())) {
+                    continue;
+                }
+                if (cosine(target.vector(), other.vector()) >= MIN_SIMILARITY) {
+                    matches++;
+                }
+            }
+            blackhole.consume(matches);
+        }
+    }
+
+    private UserTasteVector randomVector(long userId, SplittableRandom random) {
+        Map<String, Double> raw = new HashMap<>();
+        int activities = activityCount(random);
+        for (int i = 0; i < activities; i++) {
+            double weight = random.nextDouble(0.1, 1.0);
+            raw.merge("genre:" + GENRES[sampleZipf(random, genreCdf)], weight, Double::sum);
+            int keywordCount = random.nextInt(4);
+            for (int k = 0; k < keywordCount; k++) {
+                raw.merge("keyword:" + sampleZipf(random, keywordCdf), weight, Double::sum);
+            }
+        }
+        if (raw.isEmpty()) {
+            return new UserTasteVector(userId, Map.of(), LocalDateTime.now());
+        }
+
+        double norm = Math.sqrt(raw.values().stream().mapToDouble(v -> v * v).sum());
+        Map<String, Double> normalized = new HashMap<>();
+        raw.forEach((key, value) -> normalized.put(key, value / norm));
+        return new UserTasteVector(userId, normalized, LocalDateTime.now());
+    }
+
+    /**
+     * 활동 수 (INACTIVE_RATIO 만큼은 0, 나머지는 최소 1 인 Pareto 분포를 MAX_ACTIVITIES 에서 자름)
+     */
+    private static int activityCount(SplittableRandom random) {
+        if (random.nextDouble() < INACTIVE_RATIO) {
+            return 0;
+        }
+        double pareto = Math.pow(1.0 - random.nextDouble(), -1.0 / ACTIVITY_PARETO_ALPHA);
+        return (int) Math.min(MAX_ACTIVITIES, Math.floor(pareto));
+    }
+
+    private static int sampleZipf(SplittableRandom random, double[] cdf) {
+        double u = random.nextDouble();
+        int low = 0;
+        int high = cdf.length - 1;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (cdf[mid] < u) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static double[] zipfCdf(int size, double exponent) {
+        double[] cdf = new double[size];
+        double sum = 0.0;
+        for (int i = 0; i < size; i++) {
+            sum += 1.0 / Math.pow(i + 1, exponent);
+            cdf[i] = sum;
+        }
+        for (int i = 0; i < size; i++) {
+            cdf[i] /= sum;
+        }
+        return cdf;
+    }
+
+    // FindSimilarUsersUseCase.calculateCosineSimilarity 와 동일한 Map 기반 계산
+    private static double cosine(Map<String, Double> vec1, Map<String, Double> vec2) {
+        double dotProduct = 0.0;
+        double normA = 0.0;
+        double normB = 0.0;
+
+        for (Map.Entry<String, Double> entry : vec1.entrySet()) {
+            double val1 = entry.getValue();
+            normA += val1 * val1;
+            Double val2 = vec2.get(entry.getKey());
+            if (val2 != null) {
+                dotProduct += val1 * val2;
+            }
+        }
+        for (double val2 : vec2.values()) {
+            normB += val2 * val2;
+        }
+        if (normA == 0.0 || normB == 0.0) {
+            return 0.0;
+        }
+        return dotProduct / (Math.sqrt(normA) * Math.sqrt(normB));
+    }
+}
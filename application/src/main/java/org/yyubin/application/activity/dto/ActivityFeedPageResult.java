@@ -5,7 +5,9 @@ import java.util.List;
 
 public record ActivityFeedPageResult(
         List<ActivityFeedItemResult> items,
-        Long nextCursorEpochMillis
+        Long nextCursorEpochMillis,
+        Integer nextCursorSourceRank,
+        Long nextCursorId
 ) {
     public ActivityFeedPageResult {
         items = items == null ? Collections.emptyList() : List.copyOf(items);
@@ -5,5 +5,13 @@ import java.util.List;
 import org.yyubin.domain.activity.ActivityItem;
 
 public interface ActivityQueryPort {
-    List<ActivityItem> loadActivities(List<Long> followingIds, Long userId, LocalDateTime cursor, int size);
+
+    /**
+     * 팔로우 대상의 활동 + 나를 팔로우한 활동을 (createdAt, sourceRank, id) 역순으로 조회
+     *
+     * @param cursor           null 이면 첫 페이지
+     * @param cursorSourceRank 커서 활동의 소스 순위 (ActivityItem#getSourceRank, null 이면 이전 (createdAt, id) 커서)
+     * @param cursorId         같은 시각·같은 소스의 활동 중 이 ID 보다 작은 활동부터 (null 이면 cursor 이전 활동만)
+     */
+    List<ActivityItem> loadActivities(Long userId, LocalDateTime cursor, Integer cursorSourceRank, Long cursorId, int size);
 }
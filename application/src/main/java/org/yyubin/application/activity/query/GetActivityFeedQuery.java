@@ -3,6 +3,8 @@ package org.yyubin.application.activity.query;
 public record GetActivityFeedQuery(
         Long userId,
         Long cursorEpochMillis,
+        Integer cursorSourceRank,
+        Long cursorId,
         Integer size
 ) {
 }
@@ -4,6 +4,8 @@ import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -13,17 +15,14 @@ import org.yyubin.application.activity.dto.ActivityFeedItemResult;
 import org.yyubin.application.activity.dto.ActivityFeedPageResult;
 import org.yyubin.application.activity.port.ActivityQueryPort;
 import org.yyubin.application.activity.query.GetActivityFeedQuery;
-import org.yyubin.application.review.LoadHighlightsUseCase;
-import org.yyubin.application.review.LoadKeywordsUseCase;
 import org.yyubin.application.review.dto.ReviewResult;
-import org.yyubin.application.review.port.LoadBookPort;
 import org.yyubin.application.review.port.LoadReviewPort;
-import org.yyubin.application.user.port.FollowQueryPort;
+import org.yyubin.application.review.service.ReviewCardAssembler;
 import org.yyubin.domain.activity.ActivityItem;
 import org.yyubin.domain.review.Review;
+import org.yyubin.domain.review.ReviewId;
 import org.yyubin.domain.review.ReviewVisibility;
 import org.yyubin.domain.user.User;
-import org.yyubin.domain.user.UserId;
 
 @Service
 @RequiredArgsConstructor
@@ -34,11 +33,8 @@ public class ActivityFeedQueryService implements GetActivityFeedUseCase {
     private static final int MAX_SIZE = 50;
 
     private final ActivityQueryPort activityQueryPort;
-    private final FollowQueryPort followQueryPort;
     private final LoadReviewPort loadReviewPort;
-    private final LoadBookPort loadBookPort;
-    private final LoadKeywordsUseCase loadKeywordsUseCase;
-    private final LoadHighlightsUseCase loadHighlightsUseCase;
+    private final ReviewCardAssembler reviewCardAssembler;
     private final org.yyubin.application.user.port.LoadUserPort loadUserPort;
 
     @Override
@@ -46,28 +42,54 @@ public class ActivityFeedQueryService implements GetActivityFeedUseCase {
         int size = resolveSize(query.size());
         LocalDateTime cursor = toDateTime(query.cursorEpochMillis());
 
-        List<Long> followingIds = followQueryPort.loadFollowingIdsAll(query.userId());
         List<ActivityItem> activities =
-                activityQueryPort.loadActivities(followingIds, query.userId(), cursor, size + 1);
+                activityQueryPort.loadActivities(
+                        query.userId(), cursor, query.cursorSourceRank(), query.cursorId(), size + 1);
 
-        List<ActivityFeedItemResult> mapped = activities.stream()
+        List<ActivityItem> page = activities.stream()
                 .limit(size)
-                .map(this::toResult)
-                .filter(java.util.Objects::nonNull)
                 .toList();
 
-        Long nextCursor = activities.size() > size
-                ? activities.get(size).getCreatedAt().toInstant(ZoneOffset.UTC).toEpochMilli()
-                : null;
+        // 페이지 단위 배치 조회: 행위자 1 + 리뷰 1 + 리뷰 카드 조립
+        Map<Long, User> actors = loadUserPort.loadByIdsBatch(page.stream()
+                .map(item -> item.getActorId().value())
+                .distinct()
+                .toList());
+        Map<Long, Review> reviewMap = loadReviewPort.loadByIdsBatch(page.stream()
+                .map(ActivityItem::getReviewId)
+                .filter(Objects::nonNull)
+                .map(ReviewId::getValue)
+                .distinct()
+                .toList());
+        Map<Long, ReviewResult> reviewCards = reviewCardAssembler.assemble(reviewMap.values().stream()
+                .filter(review -> !review.isDeleted() && review.getVisibility() == ReviewVisibility.PUBLIC)
+                .toList());
 
-        return new ActivityFeedPageResult(mapped, nextCursor);
+        List<ActivityFeedItemResult> mapped = page.stream()
+                .map(item -> toResult(item, actors, reviewCards))
+                .filter(Objects::nonNull)
+                .toList();
+
+        // 다음 페이지는 이 페이지 마지막 활동의 (createdAt, sourceRank, id) 바로 다음부터
+        if (activities.size() <= size) {
+            return new ActivityFeedPageResult(mapped, null, null, null);
+        }
+        ActivityItem last = page.get(page.size() - 1);
+        return new ActivityFeedPageResult(
+                mapped,
+                last.getCreatedAt().toInstant(ZoneOffset.UTC).toEpochMilli(),
+                last.getSourceRank(),
+                last.getId()
+        );
     }
 
-    private ActivityFeedItemResult toResult(ActivityItem item) {
-        User actor;
-        try {
-            actor = loadUserPort.loadById(item.getActorId());
-        } catch (IllegalArgumentException ex) {
+    private ActivityFeedItemResult toResult(
+            ActivityItem item,
+            Map<Long, User> actors,
+            Map<Long, ReviewResult> reviewCards
+    ) {
+        User actor = actors.get(item.getActorId().value());
+        if (actor == null) {
             return null;
         }
         ActivityActorResult actorResult = new ActivityActorResult(
@@ -77,27 +99,13 @@ public class ActivityFeedQueryService implements GetActivityFeedUseCase {
                 actor.ProfileImageUrl()
         );
 
+        // 삭제/비공개이거나 찾을 수 없는 리뷰의 활동은 제외
         ReviewResult reviewResult = null;
         if (item.getReviewId() != null) {
-            Review review;
-            try {
-                review = loadReviewPort.loadById(item.getReviewId().getValue());
-            } catch (IllegalArgumentException ex) {
-                return null;
-            }
-            if (review.isDeleted() || review.getVisibility() != ReviewVisibility.PUBLIC) {
+            reviewResult = reviewCards.get(item.getReviewId().getValue());
+            if (reviewResult == null) {
                 return null;
             }
-            var book = loadBookPort.loadById(review.getBookId().getValue())
-                    .orElseThrow(() -> new IllegalArgumentException("Book not found: " + review.getBookId().getValue()));
-            var author = loadUserPort.loadById(review.getUserId());
-            reviewResult = ReviewResult.from(
-                    review,
-                    book,
-                    author,
-                    loadKeywordsUseCase.loadKeywords(review.getId()),
-                    loadHighlightsUseCase.loadHighlights(review.getId())
-            );
         }
 
         return new ActivityFeedItemResult(
@@ -21,6 +21,14 @@ public interface TokenBlacklistPort {
      */
     boolean isBlacklisted(String token);
 
+    /**
+     * 토큰 ID(jti)가 블랙리스트에 있는지 확인 (이미 검증한 토큰을 다시 파싱하지 않을 때 사용)
+     *
+     * @param jti 토큰 ID
+     * @return 블랙리스트에 있으면 true
+     */
+    boolean isJtiBlacklisted(String jti);
+
     /**
      * 특정 사용자의 모든 토큰 무효화
      *
@@ -0,0 +1,11 @@
+package org.yyubin.application.event;
+
+/**
+ * 이벤트 전달 등급
+ * - TRANSACTIONAL: 아웃박스에 저장한 뒤 전송 (유실 없음) - 리뷰/리액션/팔로우 같은 비즈니스 이벤트
+ * - BEST_EFFORT: 메모리 버퍼를 거쳐 비동기 배치 전송 (버퍼가 가득 차면 버려질 수 있음) - 조회/트래킹 텔레메트리
+ */
+public enum DeliveryClass {
+    TRANSACTIONAL,
+    BEST_EFFORT
+}
@@ -1,5 +1,17 @@
 package org.yyubin.application.event;
 
 public interface EventPublisher {
+
+    /**
+     * 토픽의 기본 전달 등급으로 발행 (EventTopics#deliveryClassOf)
+     */
     void publish(String topic, String key, EventPayload payload);
+
+    /**
+     * 전달 등급을 지정해 발행
+     * - 비즈니스 토픽에 실리지만 유실을 허용하는 이벤트(예: REVIEW_VIEWED)에 사용
+     */
+    default void publish(String topic, String key, EventPayload payload, DeliveryClass deliveryClass) {
+        publish(topic, key, payload);
+    }
 }
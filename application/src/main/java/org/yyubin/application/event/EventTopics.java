@@ -10,4 +10,13 @@ public final class EventTopics {
     public static final String FEED = "events.feed";
     public static final String TRACKING = "events.tracking";
     public static final String REVIEW_SEARCH_INDEX = "events.review-search-index";
+    public static final String NOTIFICATION_FANOUT = "events.notification-fanout";
+
+    /**
+     * 토픽의 기본 전달 등급
+     * - 트래킹 토픽만 BEST_EFFORT, 나머지는 아웃박스를 거치는 TRANSACTIONAL
+     */
+    public static DeliveryClass deliveryClassOf(String topic) {
+        return TRACKING.equals(topic) ? DeliveryClass.BEST_EFFORT : DeliveryClass.TRANSACTIONAL;
+    }
 }
@@ -1,24 +1,66 @@
 package org.yyubin.application.event;
 
+import java.time.Duration;
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 public interface OutboxPort {
     void save(String topic, String key, EventPayload payload);
 
     List<OutboxEvent> findPending(int limit);
 
+    /**
+     * PENDING 이벤트를 owner 이름으로 lease 기간 동안 선점 (id 오름차순)
+     * - 다른 인스턴스가 잠그거나 선점 중인 이벤트는 건너뛰므로 인스턴스마다 서로 겹치지 않는 배치를 가져감
+     * - 같은 key 의 더 이른 PENDING 이벤트가 이번 배치 밖에 있으면 그 key 의 이벤트는 선점하지 않음 (key 순서 보장)
+     * - lease 가 끝날 때까지 결과를 기록하지 못한 이벤트는 다시 선점 대상이 됨
+     */
+    List<OutboxEvent> claimPending(String owner, int limit, Duration lease);
+
     void markSent(Long id);
 
+    /**
+     * SENT 로 일괄 변경
+     */
+    void markSentAll(Collection<Long> ids);
+
     void markFailed(Long id, String errorMessage);
 
+    /**
+     * 재시도 횟수를 올리고 PENDING 으로 일괄 되돌림
+     */
+    void markFailedAll(Collection<Long> ids, String errorMessage);
+
     /**
      * 최대 재시도 횟수 초과 시 DEAD 상태로 변경 (DLQ)
      */
     void markDead(Long id, String errorMessage);
 
+    /**
+     * DEAD 로 일괄 변경
+     */
+    void markDeadAll(Collection<Long> ids, String errorMessage);
+
+    /**
+     * 선점만 해제 (상태/재시도 횟수 유지) - 앞선 이벤트 실패로 보내지 않은 이벤트 등
+     */
+    void release(Collection<Long> ids);
+
+    /**
+     * 가장 오래된 PENDING 이벤트의 발생 시각 (발행 지연 측정용)
+     */
+    Optional<Instant> findOldestPendingOccurredAt();
+
     /**
      * 특정 상태이며 지정된 시간 이전에 발생한 이벤트 삭제
      */
     int deleteByStatusAndOccurredAtBefore(OutboxEvent.OutboxStatus status, Instant cutoff);
+
+    /**
+     * 보존 기간이 지난 일 파티션 정리 (파티션 모드가 아니면 아무것도 하지 않고 0)
+     * - DEAD 이벤트는 보관 테이블로 옮기고, 아직 보내지 않은 이벤트가 남은 파티션은 DROP 하지 않음
+     */
+    int dropExpiredPartitions(Instant cutoff);
 }
@@ -0,0 +1,11 @@
+package org.yyubin.application.feed;
+
+import java.time.LocalDateTime;
+
+/**
+ * 새 리뷰를 팔로워 홈 피드에 배포
+ */
+public interface DistributeReviewToFeedsUseCase {
+
+    void distribute(Long authorId, Long reviewId, LocalDateTime createdAt);
+}
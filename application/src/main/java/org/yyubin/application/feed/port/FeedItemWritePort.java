@@ -1,7 +1,13 @@
 package org.yyubin.application.feed.port;
 
+import java.util.List;
 import org.yyubin.domain.feed.FeedItem;
 
 public interface FeedItemWritePort {
     FeedItem save(FeedItem feedItem);
+
+    /**
+     * 피드 항목 일괄 저장 (팬아웃 청크 단위, 같은 사용자/리뷰는 한 번만 저장)
+     */
+    void saveAll(List<FeedItem> feedItems);
 }
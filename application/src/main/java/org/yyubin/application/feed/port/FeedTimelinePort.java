@@ -0,0 +1,39 @@
+package org.yyubin.application.feed.port;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 홈 피드 타임라인 캐시 포트 (push/pull 혼합)
+ * - push 작성자: 리뷰를 팔로워마다의 피드에 기록 (FeedItemWritePort)
+ * - pull 작성자: 팔로워가 많은 작성자는 자기 타임라인에만 기록하고, 팔로워가 읽을 때 합침
+ */
+public interface FeedTimelinePort {
+
+    /**
+     * pull 로 배포할 작성자인지 (한 번 pull 로 분류된 작성자는 계속 pull)
+     */
+    boolean isPullAuthor(Long authorId, long followerCount);
+
+    /**
+     * pull 작성자로 등록
+     *
+     * @return 새로 등록되었으면 true
+     */
+    boolean registerPullAuthor(Long authorId);
+
+    /**
+     * 팔로워 피드 캐시에 pull 작성자 연결 (pull 로 전환된 작성자의 기존 팔로워용)
+     */
+    void linkPullAuthor(Long authorId, List<Long> followerIds);
+
+    /**
+     * pull 작성자 타임라인에 리뷰 추가
+     */
+    void appendToAuthorTimeline(Long authorId, Long reviewId, LocalDateTime createdAt);
+
+    /**
+     * 사용자 피드 캐시 무효화 (다음 조회 시 feed_item 과 팔로우 목록으로 다시 채움)
+     */
+    void invalidate(Long userId);
+}
@@ -0,0 +1,71 @@
+package org.yyubin.application.feed.service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Consumer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.yyubin.application.feed.DistributeReviewToFeedsUseCase;
+import org.yyubin.application.feed.port.FeedItemWritePort;
+import org.yyubin.application.feed.port.FeedTimelinePort;
+import org.yyubin.application.user.dto.FollowerChunk;
+import org.yyubin.application.user.port.FollowQueryPort;
+import org.yyubin.domain.feed.FeedItem;
+import org.yyubin.domain.review.ReviewId;
+import org.yyubin.domain.user.UserId;
+
+/**
+ * 새 리뷰 홈 피드 배포 (hybrid push/pull)
+ * - 일반 작성자: 팔로워를 keyset 청크로 읽어 팔로워마다 피드 항목을 일괄 저장 (fan-out on write)
+ * - 팔로워가 많은 작성자: 작성자 타임라인에만 기록하고 팔로워가 조회할 때 합침 (fan-in on read)
+ *   처음 pull 로 전환될 때만 기존 팔로워 피드 캐시에 작성자를 연결
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FeedDistributionService implements DistributeReviewToFeedsUseCase {
+
+    private static final int CHUNK_SIZE = 500;
+
+    private final FollowQueryPort followQueryPort;
+    private final FeedItemWritePort feedItemWritePort;
+    private final FeedTimelinePort feedTimelinePort;
+
+    @Override
+    public void distribute(Long authorId, Long reviewId, LocalDateTime createdAt) {
+        long followerCount = followQueryPort.countFollowers(authorId);
+        if (followerCount == 0) {
+            return;
+        }
+
+        if (feedTimelinePort.isPullAuthor(authorId, followerCount)) {
+            if (feedTimelinePort.registerPullAuthor(authorId)) {
+                forEachFollowerChunk(authorId, followerIds -> feedTimelinePort.linkPullAuthor(authorId, followerIds));
+                log.info("Author {} switched to pull feed delivery ({} followers)", authorId, followerCount);
+            }
+            feedTimelinePort.appendToAuthorTimeline(authorId, reviewId, createdAt);
+            return;
+        }
+
+        ReviewId review = ReviewId.of(reviewId);
+        forEachFollowerChunk(authorId, followerIds -> feedItemWritePort.saveAll(followerIds.stream()
+                .map(followerId -> FeedItem.of(null, new UserId(followerId), review, createdAt))
+                .toList()));
+    }
+
+    private void forEachFollowerChunk(Long authorId, Consumer<List<Long>> action) {
+        Long cursor = null;
+        while (true) {
+            FollowerChunk chunk = followQueryPort.loadFollowerChunk(authorId, cursor, CHUNK_SIZE);
+            if (chunk.isEmpty()) {
+                return;
+            }
+            action.accept(chunk.followerIds());
+            if (chunk.followerIds().size() < CHUNK_SIZE) {
+                return;
+            }
+            cursor = chunk.lastFollowId();
+        }
+    }
+}
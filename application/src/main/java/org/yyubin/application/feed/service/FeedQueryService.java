@@ -1,6 +1,7 @@
 package org.yyubin.application.feed.service;
 
 import java.util.List;
+import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -9,14 +10,9 @@ import org.yyubin.application.feed.dto.FeedItemResult;
 import org.yyubin.application.feed.dto.FeedPageResult;
 import org.yyubin.application.feed.port.FeedItemPort;
 import org.yyubin.application.feed.query.GetFeedQuery;
-import org.yyubin.application.review.LoadHighlightsUseCase;
-import org.yyubin.application.review.LoadKeywordsUseCase;
 import org.yyubin.application.review.dto.ReviewResult;
-import org.yyubin.application.review.port.LoadBookPort;
-import org.yyubin.application.review.port.LoadReviewPort;
-import org.yyubin.domain.book.Book;
+import org.yyubin.application.review.service.ReviewCardAssembler;
 import org.yyubin.domain.feed.FeedItem;
-import org.yyubin.domain.review.Review;
 import org.yyubin.domain.user.UserId;
 
 @Service
@@ -25,20 +21,28 @@ import org.yyubin.domain.user.UserId;
 public class FeedQueryService implements GetFeedUseCase {
 
     private final FeedItemPort feedItemPort;
-    private final LoadReviewPort loadReviewPort;
-    private final LoadBookPort loadBookPort;
-    private final LoadKeywordsUseCase loadKeywordsUseCase;
-    private final LoadHighlightsUseCase loadHighlightsUseCase;
-    private final org.yyubin.application.user.port.LoadUserPort loadUserPort;
+    private final ReviewCardAssembler reviewCardAssembler;
 
     @Override
     public FeedPageResult query(GetFeedQuery query) {
         Double cursorScore = query.cursorScore() != null ? query.cursorScore().doubleValue() : null;
         List<FeedItem> feedItems = feedItemPort.loadFeed(new UserId(query.userId()), cursorScore, query.size() + 1);
 
-        List<FeedItemResult> items = feedItems.stream()
+        List<FeedItem> page = feedItems.stream()
                 .limit(query.size())
-                .map(this::toResult)
+                .toList();
+        Map<Long, ReviewResult> reviews = reviewCardAssembler.assembleByIds(page.stream()
+                .map(feedItem -> feedItem.getReviewId().getValue())
+                .toList());
+
+        // 리뷰/도서/작성자를 찾을 수 없는 피드 항목은 제외
+        List<FeedItemResult> items = page.stream()
+                .filter(feedItem -> reviews.containsKey(feedItem.getReviewId().getValue()))
+                .map(feedItem -> new FeedItemResult(
+                        feedItem.getId(),
+                        feedItem.getCreatedAt(),
+                        reviews.get(feedItem.getReviewId().getValue())
+                ))
                 .toList();
 
         Long nextCursor = feedItems.size() > query.size()
@@ -47,19 +51,4 @@ public class FeedQueryService implements GetFeedUseCase {
 
         return new FeedPageResult(items, nextCursor);
     }
-
-    private FeedItemResult toResult(FeedItem feedItem) {
-        Review review = loadReviewPort.loadById(feedItem.getReviewId().getValue());
-        Book book = loadBookPort.loadById(review.getBookId().getValue())
-                .orElseThrow(() -> new IllegalArgumentException("Book not found: " + review.getBookId().getValue()));
-        org.yyubin.domain.user.User author = loadUserPort.loadById(review.getUserId());
-        ReviewResult reviewResult = ReviewResult.from(
-                review,
-                book,
-                author,
-                loadKeywordsUseCase.loadKeywords(review.getId()),
-                loadHighlightsUseCase.loadHighlights(review.getId())
-        );
-        return new FeedItemResult(feedItem.getId(), feedItem.getCreatedAt(), reviewResult);
-    }
 }
@@ -0,0 +1,16 @@
+package org.yyubin.application.notification;
+
+import java.util.List;
+
+/**
+ * 팔로우한 사용자의 새 리뷰 알림 (팔로워 청크 단위)
+ */
+public interface NotifyFolloweeReviewUseCase {
+
+    /**
+     * 팔로워 청크에 새 리뷰 알림을 일괄 생성/발행
+     *
+     * @return 알림을 보낸 팔로워 수 (작성자 본인, 알림을 끈 사용자 제외)
+     */
+    int notifyFollowers(Long authorId, Long reviewId, List<Long> followerIds);
+}
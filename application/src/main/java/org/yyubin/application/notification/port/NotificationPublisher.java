@@ -1,7 +1,12 @@
 package org.yyubin.application.notification.port;
 
+import java.util.List;
 import org.yyubin.application.notification.dto.NotificationEventPayload;
 
 public interface NotificationPublisher {
     void publish(NotificationEventPayload payload);
+
+    default void publishAll(List<NotificationEventPayload> payloads) {
+        payloads.forEach(this::publish);
+    }
 }
@@ -1,7 +1,10 @@
 package org.yyubin.application.notification.port;
 
+import java.util.List;
 import org.yyubin.domain.notification.Notification;
 
 public interface NotificationRepository {
     Notification save(Notification notification);
+
+    void saveAll(List<Notification> notifications);
 }
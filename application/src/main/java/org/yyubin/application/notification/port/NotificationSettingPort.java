@@ -1,10 +1,19 @@
 package org.yyubin.application.notification.port;
 
+import java.util.Collection;
+import java.util.Map;
 import java.util.Optional;
 import org.yyubin.domain.notification.NotificationSetting;
 import org.yyubin.domain.user.UserId;
 
 public interface NotificationSettingPort {
     Optional<NotificationSetting> load(UserId userId);
+
+    /**
+     * 설정 일괄 조회 (설정이 없는 사용자는 결과에서 제외)
+     *
+     * @return 사용자 ID → 설정
+     */
+    Map<Long, NotificationSetting> loadAll(Collection<Long> userIds);
     NotificationSetting save(NotificationSetting setting);
 }
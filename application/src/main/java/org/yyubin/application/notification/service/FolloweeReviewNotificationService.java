@@ -0,0 +1,67 @@
+package org.yyubin.application.notification.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.yyubin.application.notification.NotificationMessages;
+import org.yyubin.application.notification.NotifyFolloweeReviewUseCase;
+import org.yyubin.application.notification.dto.NotificationEventPayload;
+import org.yyubin.application.notification.port.NotificationPublisher;
+import org.yyubin.application.notification.port.NotificationSettingPort;
+import org.yyubin.domain.notification.NotificationSetting;
+import org.yyubin.domain.notification.NotificationType;
+import org.yyubin.domain.user.UserId;
+
+/**
+ * 새 리뷰 팔로워 알림 (청크 단위)
+ * - 팔로워마다 설정을 조회하지 않고 청크 단위로 설정 일괄 조회 → 알림 스트림에 일괄 발행
+ * - 저장은 알림 스트림 컨슈머가 배치로 처리
+ * - 페이징/체크포인트/속도 제한은 호출하는 팬아웃 워커가 담당
+ */
+@Service
+@RequiredArgsConstructor
+public class FolloweeReviewNotificationService implements NotifyFolloweeReviewUseCase {
+
+    private final NotificationSettingPort notificationSettingPort;
+    private final NotificationPublisher notificationPublisher;
+
+    @Override
+    public int notifyFollowers(Long authorId, Long reviewId, List<Long> followerIds) {
+        List<Long> recipients = followerIds.stream()
+                .filter(followerId -> !followerId.equals(authorId))
+                .distinct()
+                .toList();
+        if (recipients.isEmpty()) {
+            return 0;
+        }
+
+        Map<Long, NotificationSetting> settings = notificationSettingPort.loadAll(recipients);
+        List<NotificationEventPayload> payloads = new ArrayList<>(recipients.size());
+        for (Long recipientId : recipients) {
+            NotificationSetting setting = settings.get(recipientId);
+            if (setting == null) {
+                setting = NotificationSetting.defaultFor(new UserId(recipientId));
+            }
+            if (!setting.isFolloweeReviewEnabled()) {
+                continue;
+            }
+
+            NotificationEventPayload payload = new NotificationEventPayload(
+                    recipientId,
+                    NotificationType.FOLLOWEE_NEW_REVIEW,
+                    authorId,
+                    reviewId,
+                    NotificationMessages.FOLLOWEE_NEW_REVIEW
+            );
+            payloads.add(payload);
+        }
+
+        if (payloads.isEmpty()) {
+            return 0;
+        }
+        notificationPublisher.publishAll(payloads);
+        return payloads.size();
+    }
+}
@@ -1,11 +1,17 @@
 package org.yyubin.application.notification.service;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.yyubin.application.notification.dto.NotificationEventPayload;
 import org.yyubin.application.notification.port.NotificationRepository;
+import org.yyubin.application.notification.port.NotificationSettingPort;
 import org.yyubin.domain.notification.Notification;
+import org.yyubin.domain.notification.NotificationSetting;
+import org.yyubin.domain.notification.NotificationType;
 import org.yyubin.domain.user.UserId;
 
 @Service
@@ -13,16 +19,62 @@ import org.yyubin.domain.user.UserId;
 public class NotificationCreator {
 
     private final NotificationRepository notificationRepository;
+    private final NotificationSettingPort notificationSettingPort;
 
     @Transactional
     public Notification create(NotificationEventPayload payload) {
-        Notification notification = Notification.create(
+        return notificationRepository.save(toNotification(payload));
+    }
+
+    /**
+     * 알림 스트림 배치 저장
+     * - 수신자 설정을 한 번에 조회해 꺼져 있는 유형은 제외 (설정이 없으면 기본 설정)
+     * - 남은 알림은 한 번에 저장
+     *
+     * @return 저장한 알림 수
+     */
+    @Transactional
+    public int createAll(List<NotificationEventPayload> payloads) {
+        if (payloads.isEmpty()) {
+            return 0;
+        }
+
+        Map<Long, NotificationSetting> settings = notificationSettingPort.loadAll(payloads.stream()
+                .map(NotificationEventPayload::recipientId)
+                .distinct()
+                .toList());
+        List<Notification> notifications = new ArrayList<>(payloads.size());
+        for (NotificationEventPayload payload : payloads) {
+            NotificationSetting setting = settings.get(payload.recipientId());
+            if (setting == null) {
+                setting = NotificationSetting.defaultFor(new UserId(payload.recipientId()));
+            }
+            if (isEnabled(setting, payload.type())) {
+                notifications.add(toNotification(payload));
+            }
+        }
+
+        if (!notifications.isEmpty()) {
+            notificationRepository.saveAll(notifications);
+        }
+        return notifications.size();
+    }
+
+    private Notification toNotification(NotificationEventPayload payload) {
+        return Notification.create(
                 new UserId(payload.recipientId()),
                 payload.type(),
                 payload.actorId(),
                 payload.contentId(),
                 payload.message()
         );
-        return notificationRepository.save(notification);
+    }
+
+    private boolean isEnabled(NotificationSetting setting, NotificationType type) {
+        return switch (type) {
+            case LIKE_ON_REVIEW, COMMENT_ON_REVIEW -> setting.isLikeAndCommentEnabled();
+            case MENTION -> setting.isMentionEnabled();
+            case FOLLOWEE_NEW_REVIEW -> setting.isFolloweeReviewEnabled();
+        };
     }
 }
@@ -6,17 +6,20 @@ import org.springframework.stereotype.Service;
 import org.yyubin.application.notification.NotificationEventUseCase;
 import org.yyubin.application.notification.dto.NotificationEventPayload;
 import org.yyubin.application.notification.port.NotificationPublisher;
-import org.yyubin.domain.notification.Notification;
 import org.yyubin.domain.notification.NotificationSetting;
 import org.yyubin.domain.notification.NotificationType;
 import org.yyubin.domain.user.UserId;
 import org.yyubin.application.notification.port.NotificationSettingPort;
 
+/**
+ * 알림 이벤트 처리
+ * - 수신자 설정으로 꺼져 있는 알림은 거르고 나머지를 알림 스트림에 발행
+ * - 저장은 스트림 컨슈머가 배치로 하므로 여기서는 저장하지 않음
+ */
 @Service
 @RequiredArgsConstructor
 public class NotificationEventService implements NotificationEventUseCase {
 
-    private final NotificationCreator notificationCreator;
     private final NotificationPublisher notificationPublisher;
     private final NotificationSettingPort notificationSettingPort;
 
@@ -30,7 +33,6 @@ public class NotificationEventService implements NotificationEventUseCase {
             return;
         }
 
-        Notification saved = notificationCreator.create(payload);
         notificationPublisher.publish(payload);
     }
 
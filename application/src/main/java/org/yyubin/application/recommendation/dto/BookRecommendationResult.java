@@ -19,9 +19,17 @@ public record BookRecommendationResult(
         Double score,
         Integer rank,
         String source,
-        String reason
+        String reason,
+        String cursor
 ) {
-    public static BookRecommendationResult from(Book book, Double score, Integer rank, String source, String reason) {
+    public static BookRecommendationResult from(
+            Book book,
+            Double score,
+            Integer rank,
+            String source,
+            String reason,
+            String cursor
+    ) {
         return new BookRecommendationResult(
                 book.getId().getValue(),
                 book.getMetadata().getTitle(),
@@ -38,7 +46,8 @@ public record BookRecommendationResult(
                 score,
                 rank,
                 source,
-                reason
+                reason,
+                cursor
         );
     }
 }
@@ -0,0 +1,7 @@
+package org.yyubin.application.recommendation.exception;
+
+public class InvalidRecommendationCursorException extends RuntimeException {
+    public InvalidRecommendationCursorException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -7,7 +7,7 @@ public interface BookRecommendationPort {
     /**
      * 추천 조회 (기존 메서드 - 하위 호환성 유지)
      */
-    default List<RecommendationItem> getRecommendations(Long userId, Long cursor, int limit, boolean forceRefresh) {
+    default List<RecommendationItem> getRecommendations(Long userId, String cursor, int limit, boolean forceRefresh) {
         return getRecommendations(userId, cursor, limit, forceRefresh, false, null);
     }
 
@@ -15,7 +15,7 @@ public interface BookRecommendationPort {
      * 추천 조회 (샘플링 지원)
      *
      * @param userId 사용자 ID
-     * @param cursor 페이징 커서
+     * @param cursor 페이징 커서 (이전 페이지 마지막 항목의 cursor)
      * @param limit 조회 개수
      * @param forceRefresh 캐시 강제 갱신
      * @param enableSampling 윈도우 샘플링 활성화
@@ -24,7 +24,7 @@ public interface BookRecommendationPort {
      */
     List<RecommendationItem> getRecommendations(
             Long userId,
-            Long cursor,
+            String cursor,
             int limit,
             boolean forceRefresh,
             boolean enableSampling,
@@ -36,7 +36,8 @@ public interface BookRecommendationPort {
             Double score,
             Integer rank,
             String source,
-            String reason
+            String reason,
+            String cursor
     ) {
     }
 }
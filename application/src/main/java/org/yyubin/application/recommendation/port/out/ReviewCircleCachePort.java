@@ -22,6 +22,12 @@ public interface ReviewCircleCachePort {
      */
     Optional<UserTasteVector> getTasteVector(Long userId);
 
+    /**
+     * 사용자 취향 벡터 일괄 조회 (파이프라인 MGET)
+     * 벡터가 없는 사용자는 제외되며, 결과는 입력 순서를 따릅니다.
+     */
+    List<UserTasteVector> getTasteVectors(List<Long> userIds);
+
     /**
      * 유사 사용자 목록 저장
      */
@@ -2,7 +2,7 @@ package org.yyubin.application.recommendation.query;
 
 public record GetBookRecommendationsQuery(
         Long userId,
-        Long cursor,
+        String cursor,
         int limit,
         boolean forceRefresh,
         boolean enableSampling,
@@ -20,7 +20,7 @@ public record GetBookRecommendationsQuery(
     /**
      * 기존 호환성 유지용 생성자
      */
-    public GetBookRecommendationsQuery(Long userId, Long cursor, int limit, boolean forceRefresh) {
+    public GetBookRecommendationsQuery(Long userId, String cursor, int limit, boolean forceRefresh) {
         this(userId, cursor, limit, forceRefresh, true, null);
     }
 }
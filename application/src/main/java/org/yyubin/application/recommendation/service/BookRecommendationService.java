@@ -67,7 +67,8 @@ public class BookRecommendationService implements GetBookRecommendationsUseCase
                     item.score(),
                     item.rank(),
                     item.source(),
-                    item.reason()
+                    item.reason(),
+                    item.cursor()
             ));
         }
 
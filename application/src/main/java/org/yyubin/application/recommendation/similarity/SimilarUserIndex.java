@@ -0,0 +1,342 @@
+package org.yyubin.application.recommendation.similarity;
+
+import org.yyubin.domain.recommendation.SimilarUser;
+import org.yyubin.domain.recommendation.UserTasteVector;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * 유사 사용자 계산용 희소 벡터 인덱스
+ * - genre:/keyword: 피처 키를 int id로 인터닝하고, 사용자 벡터를 CSR(primitive 배열)로 보관합니다.
+ * - 피처 → 사용자 역색인을 통해 피처를 하나 이상 공유하는 사용자만 점수를 계산합니다.
+ * - 대상 사용자 구간을 fork/join 으로 나누어 코어별로 병렬 계산합니다.
+ *
+ * 결과는 FindSimilarUsersUseCase 의 전수 비교와 동일한 코사인 유사도/정렬 규칙을 따릅니다.
+ * (동점은 입력 순서가 앞선 사용자가 먼저)
+ */
+public final class SimilarUserIndex {
+
+    private static final int MIN_USERS_PER_TASK = 64;
+    private static final int TASKS_PER_WORKER = 4;
+
+    private final long[] userIds;
+
+    // 사용자 → 피처 (CSR)
+    private final int[] rowOffsets;
+    private final int[] rowFeatures;
+    private final double[] rowWeights;
+    private final double[] norms;
+
+    // 피처 → 사용자 (역색인, CSR)
+    private final int[] postingOffsets;
+    private final int[] postingUsers;
+    private final double[] postingWeights;
+
+    private SimilarUserIndex(
+        long[] userIds,
+        int[] rowOffsets,
+        int[] rowFeatures,
+        double[] rowWeights,
+        double[] norms,
+        int[] postingOffsets,
+        int[] postingUsers,
+        double[] postingWeights
+    ) {
+        this.userIds = userIds;
+        this.rowOffsets = rowOffsets;
+        this.rowFeatures = rowFeatures;
+        this.rowWeights = rowWeights;
+        this.norms = norms;
+        this.postingOffsets = postingOffsets;
+        this.postingUsers = postingUsers;
+        this.postingWeights = postingWeights;
+    }
+
+    /**
+     * 취향 벡터 목록으로 인덱스를 생성합니다.
+     * 비어 있거나 norm 이 0인 벡터는 어떤 사용자와도 유사도가 0이므로 제외합니다.
+     */
+    public static SimilarUserIndex build(List<UserTasteVector> tasteVectors) {
+        Map<String, Integer> featureIds = new HashMap<>();
+
+        int userCount = 0;
+        int entryCount = 0;
+        for (UserTasteVector tasteVector : tasteVectors) {
+            if (isIndexable(tasteVector)) {
+                userCount++;
+                entryCount += tasteVector.vector().size();
+            }
+        }
+
+        long[] userIds = new long[userCount];
+        int[] rowOffsets = new int[userCount + 1];
+        int[] rowFeatures = new int[entryCount];
+        double[] rowWeights = new double[entryCount];
+        double[] norms = new double[userCount];
+
+        int user = 0;
+        int cursor = 0;
+        for (UserTasteVector tasteVector : tasteVectors) {
+            if (!isIndexable(tasteVector)) {
+                continue;
+            }
+            double sumSquares = 0.0;
+            for (Map.Entry<String, Double> entry : tasteVector.vector().entrySet()) {
+                Integer featureId = featureIds.get(entry.getKey());
+                if (featureId == null) {
+                    featureId = featureIds.size();
+                    featureIds.put(entry.getKey(), featureId);
+                }
+                double weight = entry.getValue();
+                rowFeatures[cursor] = featureId;
+                rowWeights[cursor] = weight;
+                sumSquares += weight * weight;
+                cursor++;
+            }
+            userIds[user] = tasteVector.userId();
+            norms[user] = Math.sqrt(sumSquares);
+            rowOffsets[++user] = cursor;
+        }
+
+        int featureCount = featureIds.size();
+        int[] postingOffsets = new int[featureCount + 1];
+        for (int i = 0; i < entryCount; i++) {
+            postingOffsets[rowFeatures[i] + 1]++;
+        }
+        for (int f = 0; f < featureCount; f++) {
+            postingOffsets[f + 1] += postingOffsets[f];
+        }
+
+        int[] postingUsers = new int[entryCount];
+        double[] postingWeights = new double[entryCount];
+        int[] fill = new int[featureCount];
+        // 사용자 순서대로 채우므로 각 posting list 는 사용자 인덱스 오름차순
+        for (int u = 0; u < userCount; u++) {
+            for (int i = rowOffsets[u]; i < rowOffsets[u + 1]; i++) {
+                int f = rowFeatures[i];
+                int slot = postingOffsets[f] + fill[f]++;
+                postingUsers[slot] = u;
+                postingWeights[slot] = rowWeights[i];
+            }
+        }
+
+        return new SimilarUserIndex(
+            userIds, rowOffsets, rowFeatures, rowWeights, norms,
+            postingOffsets, postingUsers, postingWeights
+        );
+    }
+
+    private static boolean isIndexable(UserTasteVector tasteVector) {
+        if (tasteVector.vector().isEmpty()) {
+            return false;
+        }
+        for (double weight : tasteVector.vector().values()) {
+            if (weight != 0.0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 인덱싱된 사용자 수
+     */
+    public int size() {
+        return userIds.length;
+    }
+
+    /**
+     * 인덱싱된 서로 다른 피처 수
+     */
+    public int featureCount() {
+        return postingOffsets.length - 1;
+    }
+
+    /**
+     * 모든 사용자에 대해 상위 topN 유사 사용자를 계산하여 consumer 로 전달합니다.
+     * consumer 는 pool 의 워커 스레드에서 동시에 호출되므로 thread-safe 해야 합니다.
+     */
+    public void forEachTopNeighbours(
+        int topN,
+        double minSimilarity,
+        ForkJoinPool pool,
+        NeighbourConsumer consumer
+    ) {
+        int userCount = size();
+        if (userCount == 0 || topN <= 0) {
+            return;
+        }
+        int tasks = Math.max(1, pool.getParallelism() * TASKS_PER_WORKER);
+        int chunkSize = Math.max(MIN_USERS_PER_TASK, (userCount + tasks - 1) / tasks);
+        pool.invoke(new NeighbourTask(0, userCount, chunkSize, topN, minSimilarity, consumer));
+    }
+
+    @FunctionalInterface
+    public interface NeighbourConsumer {
+        void accept(Long userId, List<SimilarUser> similarUsers);
+    }
+
+    private final class NeighbourTask extends RecursiveAction {
+
+        private final int from;
+        private final int to;
+        private final int chunkSize;
+        private final int topN;
+        private final double minSimilarity;
+        private final NeighbourConsumer consumer;
+
+        private NeighbourTask(int from, int to, int chunkSize, int topN, double minSimilarity,
+                              NeighbourConsumer consumer) {
+            this.from = from;
+            this.to = to;
+            this.chunkSize = chunkSize;
+            this.topN = topN;
+            this.minSimilarity = minSimilarity;
+            this.consumer = consumer;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= chunkSize) {
+                // 누산 버퍼는 태스크(청크) 단위로 한 번만 할당하여 재사용
+                Scratch scratch = new Scratch(size(), topN);
+                for (int u = from; u < to; u++) {
+                    consumer.accept(userIds[u], scratch.topNeighbours(u, minSimilarity));
+                }
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(
+                new NeighbourTask(from, mid, chunkSize, topN, minSimilarity, consumer),
+                new NeighbourTask(mid, to, chunkSize, topN, minSimilarity, consumer)
+            );
+        }
+    }
+
+    /**
+     * 워커별 누산 버퍼 + 크기 제한 최소 힙
+     */
+    private final class Scratch {
+
+        private final double[] dots;
+        private final int[] marks;
+        private final int[] touched;
+        private final int topN;
+        private final double[] heapScores;
+        private final int[] heapUsers;
+
+        private Scratch(int userCount, int topN) {
+            this.dots = new double[userCount];
+            this.marks = new int[userCount];
+            this.touched = new int[userCount];
+            this.topN = topN;
+            this.heapScores = new double[topN];
+            this.heapUsers = new int[topN];
+        }
+
+        private List<SimilarUser> topNeighbours(int target, double minSimilarity) {
+            int mark = target + 1;
+            int touchedCount = 0;
+            for (int i = rowOffsets[target]; i < rowOffsets[target + 1]; i++) {
+                int feature = rowFeatures[i];
+                double weight = rowWeights[i];
+                for (int p = postingOffsets[feature]; p < postingOffsets[feature + 1]; p++) {
+                    int other = postingUsers[p];
+                    if (other == target) {
+                        continue;
+                    }
+                    if (marks[other] != mark) {
+                        marks[other] = mark;
+                        touched[touchedCount++] = other;
+                    }
+                    dots[other] += weight * postingWeights[p];
+                }
+            }
+
+            int heapSize = 0;
+            double targetNorm = norms[target];
+            for (int t = 0; t < touchedCount; t++) {
+                int other = touched[t];
+                double similarity = dots[other] / (targetNorm * norms[other]);
+                dots[other] = 0.0;
+
+                if (similarity < minSimilarity) {
+                    continue;
+                }
+                if (heapSize < topN) {
+                    heapScores[heapSize] = similarity;
+                    heapUsers[heapSize] = other;
+                    siftUp(heapSize++);
+                } else if (isBetter(similarity, other, heapScores[0], heapUsers[0])) {
+                    heapScores[0] = similarity;
+                    heapUsers[0] = other;
+                    siftDown(0, heapSize);
+                }
+            }
+
+            if (heapSize == 0) {
+                return List.of();
+            }
+
+            // 힙에서 가장 낮은 순위부터 꺼내 뒤에서부터 채우면 내림차순
+            SimilarUser[] ordered = new SimilarUser[heapSize];
+            for (int size = heapSize; size > 0; size--) {
+                double score = heapScores[0];
+                int user = heapUsers[0];
+                ordered[size - 1] = SimilarUser.of(userIds[user], Math.min(1.0, score));
+                heapScores[0] = heapScores[size - 1];
+                heapUsers[0] = heapUsers[size - 1];
+                siftDown(0, size - 1);
+            }
+            return List.of(ordered);
+        }
+
+        // 점수가 높을수록, 동점이면 입력 순서가 앞설수록 순위가 높음
+        private boolean isBetter(double score, int user, double otherScore, int otherUser) {
+            return score > otherScore || (score == otherScore && user < otherUser);
+        }
+
+        private void siftUp(int index) {
+            while (index > 0) {
+                int parent = (index - 1) >>> 1;
+                if (!isBetter(heapScores[parent], heapUsers[parent], heapScores[index], heapUsers[index])) {
+                    break;
+                }
+                swap(index, parent);
+                index = parent;
+            }
+        }
+
+        private void siftDown(int index, int size) {
+            while (true) {
+                int left = 2 * index + 1;
+                if (left >= size) {
+                    return;
+                }
+                int worst = left;
+                int right = left + 1;
+                if (right < size && isBetter(heapScores[left], heapUsers[left], heapScores[right], heapUsers[right])) {
+                    worst = right;
+                }
+                if (!isBetter(heapScores[index], heapUsers[index], heapScores[worst], heapUsers[worst])) {
+                    return;
+                }
+                swap(index, worst);
+                index = worst;
+            }
+        }
+
+        private void swap(int a, int b) {
+            double score = heapScores[a];
+            heapScores[a] = heapScores[b];
+            heapScores[b] = score;
+            int user = heapUsers[a];
+            heapUsers[a] = heapUsers[b];
+            heapUsers[b] = user;
+        }
+    }
+}
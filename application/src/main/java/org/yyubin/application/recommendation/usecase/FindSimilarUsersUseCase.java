@@ -5,13 +5,15 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.yyubin.application.recommendation.port.out.ReviewCircleCachePort;
+import org.yyubin.application.recommendation.similarity.SimilarUserIndex;
 import org.yyubin.domain.recommendation.SimilarUser;
 import org.yyubin.domain.recommendation.UserTasteVector;
 
 import java.util.ArrayList;
-import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * 유사 사용자 찾기 Use Case
@@ -65,9 +67,9 @@ public class FindSimilarUsersUseCase {
             }
         }
 
-        // 3. 상위 N명 선택
+        // 3. 상위 N명 선택 (SimilarUser 의 자연 순서가 유사도 내림차순)
         List<SimilarUser> topSimilarUsers = similarities.stream()
-            .sorted(Comparator.reverseOrder())
+            .sorted()
             .limit(TOP_N_SIMILAR_USERS)
             .toList();
 
@@ -82,6 +84,53 @@ public class FindSimilarUsersUseCase {
         return topSimilarUsers;
     }
 
+    /**
+     * 전체 사용자의 유사 사용자 일괄 계산
+     * 피처 역색인으로 피처를 공유하는 사용자만 비교하고, fork/join 으로 병렬 처리합니다.
+     * 사용자별 결과는 execute 와 동일하며 계산되는 대로 Redis에 캐싱됩니다.
+     */
+    public BatchResult executeAll(List<UserTasteVector> allTasteVectors) {
+        return executeAll(allTasteVectors, ForkJoinPool.commonPool());
+    }
+
+    public BatchResult executeAll(List<UserTasteVector> allTasteVectors, ForkJoinPool pool) {
+        SimilarUserIndex index = SimilarUserIndex.build(allTasteVectors);
+        log.info("Built similar user index - users: {}, features: {}", index.size(), index.featureCount());
+
+        AtomicInteger processed = new AtomicInteger(0);
+        AtomicInteger saved = new AtomicInteger(0);
+        AtomicInteger failed = new AtomicInteger(0);
+
+        index.forEachTopNeighbours(TOP_N_SIMILAR_USERS, MIN_SIMILARITY_THRESHOLD, pool, (userId, topSimilarUsers) -> {
+            try {
+                if (!topSimilarUsers.isEmpty()) {
+                    cachePort.saveSimilarUsers(userId, topSimilarUsers);
+                    saved.incrementAndGet();
+                }
+            } catch (Exception e) {
+                log.error("Failed to save similar users for user {}", userId, e);
+                failed.incrementAndGet();
+            }
+
+            int count = processed.incrementAndGet();
+            if (count % 10_000 == 0) {
+                log.info("Progress: {}/{} users processed", count, index.size());
+            }
+        });
+
+        return new BatchResult(processed.get(), saved.get(), failed.get());
+    }
+
+    /**
+     * 일괄 계산 결과
+     */
+    public record BatchResult(
+        int processedCount,
+        int savedCount,
+        int failureCount
+    ) {
+    }
+
     /**
      * 코사인 유사도 계산
      */
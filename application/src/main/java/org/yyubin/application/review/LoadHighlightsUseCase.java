@@ -1,9 +1,15 @@
 package org.yyubin.application.review;
 
 import java.util.List;
+import java.util.Map;
 import org.yyubin.domain.review.ReviewId;
 
 public interface LoadHighlightsUseCase {
 
     List<String> loadHighlights(ReviewId reviewId);
+
+    /**
+     * 여러 리뷰의 하이라이트를 배치로 조회 (하이라이트가 없는 리뷰는 결과에서 제외)
+     */
+    Map<Long, List<String>> loadHighlightsBatch(List<Long> reviewIds);
 }
@@ -1,9 +1,15 @@
 package org.yyubin.application.review;
 
 import java.util.List;
+import java.util.Map;
 import org.yyubin.domain.review.ReviewId;
 
 public interface LoadKeywordsUseCase {
 
     List<String> loadKeywords(ReviewId reviewId);
+
+    /**
+     * 여러 리뷰의 키워드를 배치로 조회 (키워드가 없는 리뷰는 결과에서 제외)
+     */
+    Map<Long, List<String>> loadKeywordsBatch(List<Long> reviewIds);
 }
@@ -168,4 +168,59 @@ public record ReviewResult(
                 likeCount
         );
     }
+
+    /**
+     * 조회수만 바꾼 카드
+     */
+    public ReviewResult withViewCount(long viewCount) {
+        return withInteraction(viewCount, bookmarked, reactions, userReaction, isLiked, likeCount);
+    }
+
+    /**
+     * 공유 카드에 요청별 값(조회수, 리액션/좋아요 집계, 조회자 상태)을 덧씌운 카드
+     * - 캐시에는 조회자와 무관한 카드만 두고, 조회자별 값은 요청마다 이 메서드로 채움
+     */
+    public ReviewResult withInteraction(
+            long viewCount,
+            boolean bookmarked,
+            List<ReactionSummary> reactions,
+            String userReaction,
+            boolean isLiked,
+            long likeCount
+    ) {
+        return new ReviewResult(
+                reviewId,
+                userId,
+                authorNickname,
+                authorTasteTag,
+                bookId,
+                title,
+                authors,
+                isbn10,
+                isbn13,
+                coverUrl,
+                publisher,
+                publishedDate,
+                description,
+                language,
+                pageCount,
+                googleVolumeId,
+                rating,
+                summary,
+                content,
+                createdAt,
+                visibility,
+                deleted,
+                viewCount,
+                genre,
+                keywords,
+                highlights,
+                mentions,
+                bookmarked,
+                reactions != null ? reactions : Collections.emptyList(),
+                userReaction,
+                isLiked,
+                likeCount
+        );
+    }
 }
@@ -1,6 +1,7 @@
 package org.yyubin.application.review.port;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import org.yyubin.domain.book.Book;
 
@@ -9,5 +10,10 @@ public interface LoadBookPort {
 
     Optional<Book> loadById(Long bookId);
 
+    /**
+     * 여러 도서를 한 번의 IN 쿼리로 조회 (존재하지 않는 ID 는 결과에서 제외)
+     */
+    Map<Long, Book> loadByIdsBatch(List<Long> bookIds);
+
     List<Book> findAll();
 }
@@ -1,11 +1,17 @@
 package org.yyubin.application.review.port;
 
 import java.util.List;
+import java.util.Map;
 import org.yyubin.domain.review.Review;
 
 public interface LoadReviewPort {
     Review loadById(Long reviewId);
 
+    /**
+     * 여러 리뷰를 한 번의 IN 쿼리로 조회 (존재하지 않는 ID 는 결과에서 제외)
+     */
+    Map<Long, Review> loadByIdsBatch(List<Long> reviewIds);
+
     List<Review> loadByUserId(Long userId, Long viewerId, Long cursor, int size);
 
     List<Review> loadByHighlightNormalized(String normalizedHighlight, Long cursor, int size);
@@ -0,0 +1,29 @@
+package org.yyubin.application.review.port;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import org.yyubin.application.review.dto.ReviewResult;
+
+/**
+ * 리뷰 카드 캐시 포트
+ * - 조회자와 무관한 카드(리뷰 + 도서 + 작성자 + 키워드 + 하이라이트)만 저장
+ * - 리뷰 수정/삭제 이벤트로 무효화
+ */
+public interface ReviewCardCachePort {
+
+    /**
+     * 캐시된 카드 일괄 조회 (없는 리뷰는 결과에서 제외)
+     */
+    Map<Long, ReviewResult> getAll(List<Long> reviewIds);
+
+    /**
+     * 카드 일괄 저장
+     */
+    void putAll(Collection<ReviewResult> cards);
+
+    /**
+     * 카드 무효화
+     */
+    void evict(Long reviewId);
+}
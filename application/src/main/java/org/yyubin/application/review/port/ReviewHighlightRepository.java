@@ -10,4 +10,6 @@ public interface ReviewHighlightRepository {
     void deleteAllByReviewId(Long reviewId);
 
     List<ReviewHighlight> findByReviewId(Long reviewId);
+
+    List<ReviewHighlight> findByReviewIds(List<Long> reviewIds);
 }
@@ -11,4 +11,6 @@ public interface ReviewKeywordRepository {
     void deleteAllByReviewId(Long reviewId);
 
     List<ReviewKeyword> findByReviewId(Long reviewId);
+
+    List<ReviewKeyword> findByReviewIds(List<Long> reviewIds);
 }
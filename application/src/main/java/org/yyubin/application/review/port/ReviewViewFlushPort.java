@@ -15,6 +15,13 @@ public interface ReviewViewFlushPort {
      */
     Optional<Long> findCurrentViewCount(Long reviewId);
 
+    /**
+     * 여러 리뷰의 현재 DB 조회수를 한 번에 조회 (IN 쿼리 1회)
+     *
+     * @return 리뷰 ID → 조회수 (존재하지 않는 리뷰는 포함하지 않음)
+     */
+    Map<Long, Long> findCurrentViewCounts(List<Long> reviewIds);
+
     /**
      * DB 조회수 업데이트
      */
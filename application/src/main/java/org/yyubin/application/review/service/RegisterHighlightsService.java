@@ -1,7 +1,10 @@
 package org.yyubin.application.review.service;
 
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -52,4 +55,35 @@ public class RegisterHighlightsService implements RegisterHighlightsUseCase, Loa
                 .map(Highlight::getRawValue)
                 .toList();
     }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Map<Long, List<String>> loadHighlightsBatch(List<Long> reviewIds) {
+        if (reviewIds == null || reviewIds.isEmpty()) {
+            return Map.of();
+        }
+
+        List<ReviewHighlight> mappings = reviewHighlightRepository.findByReviewIds(reviewIds);
+        if (mappings.isEmpty()) {
+            return Map.of();
+        }
+
+        List<HighlightId> highlightIds = mappings.stream()
+                .map(ReviewHighlight::highlightId)
+                .map(HighlightId::value)
+                .distinct()
+                .map(HighlightId::new)
+                .toList();
+        Map<Long, String> rawValues = highlightRepository.findAllByIds(highlightIds).stream()
+                .collect(Collectors.toMap(highlight -> highlight.getId().value(), Highlight::getRawValue, (a, b) -> a));
+
+        Map<Long, List<String>> result = new LinkedHashMap<>();
+        for (ReviewHighlight mapping : mappings) {
+            String raw = rawValues.get(mapping.highlightId().value());
+            if (raw != null) {
+                result.computeIfAbsent(mapping.reviewId().getValue(), id -> new ArrayList<>()).add(raw);
+            }
+        }
+        return result;
+    }
 }
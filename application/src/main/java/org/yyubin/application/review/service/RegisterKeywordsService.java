@@ -1,7 +1,10 @@
 package org.yyubin.application.review.service;
 
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -53,4 +56,30 @@ public class RegisterKeywordsService implements RegisterKeywordsUseCase, LoadKey
                 .map(Keyword::getRawValue)
                 .toList();
     }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Map<Long, List<String>> loadKeywordsBatch(List<Long> reviewIds) {
+        if (reviewIds == null || reviewIds.isEmpty()) {
+            return Map.of();
+        }
+
+        List<ReviewKeyword> mappings = reviewKeywordRepository.findByReviewIds(reviewIds);
+        if (mappings.isEmpty()) {
+            return Map.of();
+        }
+
+        List<KeywordId> keywordIds = mappings.stream().map(ReviewKeyword::keywordId).distinct().toList();
+        Map<Long, String> rawValues = keywordRepository.findAllByIds(keywordIds).stream()
+                .collect(Collectors.toMap(keyword -> keyword.getId().value(), Keyword::getRawValue, (a, b) -> a));
+
+        Map<Long, List<String>> result = new LinkedHashMap<>();
+        for (ReviewKeyword mapping : mappings) {
+            String raw = rawValues.get(mapping.keywordId().value());
+            if (raw != null) {
+                result.computeIfAbsent(mapping.reviewId().getValue(), id -> new ArrayList<>()).add(raw);
+            }
+        }
+        return result;
+    }
 }
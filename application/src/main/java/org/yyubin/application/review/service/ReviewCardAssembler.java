@@ -0,0 +1,207 @@
+package org.yyubin.application.review.service;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.yyubin.application.review.LoadHighlightsUseCase;
+import org.yyubin.application.review.LoadKeywordsUseCase;
+import org.yyubin.application.review.dto.ReviewResult;
+import org.yyubin.application.review.port.LoadBookPort;
+import org.yyubin.application.review.port.LoadReviewPort;
+import org.yyubin.application.review.port.ReviewCardCachePort;
+import org.yyubin.application.review.port.ReviewViewMetricPort;
+import org.yyubin.application.user.port.LoadUserPort;
+import org.yyubin.domain.book.Book;
+import org.yyubin.domain.review.Review;
+import org.yyubin.domain.user.User;
+
+/**
+ * 리뷰 카드 조립기
+ * - 피드/활동/사용자 리뷰 목록처럼 리뷰 한 페이지를 ReviewResult 로 만들 때 사용
+ * - 카드 캐시(ReviewCardCachePort)에 있는 리뷰는 그대로 쓰고, 없는 리뷰만 조립해 캐시에 저장
+ * - 캐시 적중분도 리뷰 행과 대조해 삭제/공개 범위/본문이 바뀐 카드는 버리고 다시 조립
+ *   (무효화 이벤트가 도착하기 전에도 삭제되거나 비공개로 바뀐 리뷰를 옛 카드로 내보내지 않음)
+ * - 조립은 도서/작성자/키워드/하이라이트를 항목마다 조회하지 않고 페이지 단위 배치 조회로 채움
+ *   (리뷰 1 + 도서 1 + 작성자 1 + 키워드 2 + 하이라이트 2 쿼리, 페이지 크기와 무관)
+ * - 도서나 작성자를 찾을 수 없는 리뷰는 결과에서 제외
+ *
+ * 캐시되는 카드는 조회자와 무관한 값만 담습니다. 조회수/좋아요/북마크 같은 요청별 값은
+ * 호출하는 쪽에서 ReviewResult#withInteraction 으로 덧씌웁니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReviewCardAssembler {
+
+    private final LoadReviewPort loadReviewPort;
+    private final LoadBookPort loadBookPort;
+    private final LoadUserPort loadUserPort;
+    private final LoadKeywordsUseCase loadKeywordsUseCase;
+    private final LoadHighlightsUseCase loadHighlightsUseCase;
+    private final ReviewViewMetricPort reviewViewMetricPort;
+    private final ReviewCardCachePort reviewCardCachePort;
+
+    /**
+     * 리뷰 ID 목록을 카드로 조립 (리뷰 행은 배치 조회 한 번, 캐시 미스만 도서/작성자 등을 조회)
+     *
+     * @return 리뷰 ID → 카드 (입력 순서 유지, 없는 리뷰는 제외)
+     */
+    public Map<Long, ReviewResult> assembleByIds(List<Long> reviewIds) {
+        if (reviewIds.isEmpty()) {
+            return Map.of();
+        }
+
+        List<Long> ids = reviewIds.stream().distinct().toList();
+        Map<Long, Review> reviewMap = loadReviewPort.loadByIdsBatch(ids);
+        return assemble(ids.stream()
+                .map(reviewMap::get)
+                .filter(Objects::nonNull)
+                .toList());
+    }
+
+    /**
+     * 이미 조회한 리뷰를 카드로 조립 (리뷰 행과 일치하는 캐시 카드 우선)
+     *
+     * @return 리뷰 ID → 카드 (입력 순서 유지)
+     */
+    public Map<Long, ReviewResult> assemble(List<Review> reviews) {
+        if (reviews.isEmpty()) {
+            return Map.of();
+        }
+
+        List<Long> ids = reviewIdsOf(reviews);
+        Map<Long, ReviewResult> cached = freshCards(reviews, reviewCardCachePort.getAll(ids));
+        Map<Long, ReviewResult> built = buildAndCache(reviews.stream()
+                .filter(review -> !cached.containsKey(review.getId().getValue()))
+                .toList());
+        return ordered(ids, cached, built);
+    }
+
+    /**
+     * 이미 조회한 리뷰를 카드로 조립하고 조회수를 덧씌움
+     * - 캐시된 조회수(Redis)가 있으면 우선 사용하고, 없으면 리뷰 엔티티의 조회수 사용
+     *
+     * @return 리뷰 ID → 카드 (입력 순서 유지)
+     */
+    public Map<Long, ReviewResult> assembleWithViewCounts(List<Review> reviews) {
+        if (reviews.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<Long, ReviewResult> cards = assemble(reviews);
+        Map<Long, Long> viewCounts = reviewViewMetricPort.getBatchCachedCounts(reviewIdsOf(reviews));
+
+        Map<Long, ReviewResult> results = new LinkedHashMap<>(cards.size() * 2);
+        for (Review review : reviews) {
+            Long reviewId = review.getId().getValue();
+            ReviewResult card = cards.get(reviewId);
+            if (card != null) {
+                results.put(reviewId, card.withViewCount(viewCounts.getOrDefault(reviewId, review.getViewCount())));
+            }
+        }
+        return results;
+    }
+
+    /**
+     * 리뷰 행과 삭제 여부/공개 범위/평점/본문이 같은 캐시 카드만 남김
+     */
+    private Map<Long, ReviewResult> freshCards(List<Review> reviews, Map<Long, ReviewResult> cached) {
+        if (cached.isEmpty()) {
+            return cached;
+        }
+
+        Map<Long, ReviewResult> fresh = new HashMap<>(cached.size() * 2);
+        for (Review review : reviews) {
+            Long reviewId = review.getId().getValue();
+            ReviewResult card = cached.get(reviewId);
+            if (card == null) {
+                continue;
+            }
+            if (card.deleted() == review.isDeleted()
+                    && card.visibility() == review.getVisibility()
+                    && card.rating() == review.getRating().getValue()
+                    && Objects.equals(card.content(), review.getContent())) {
+                fresh.put(reviewId, card);
+            } else {
+                log.debug("Discarding stale review card {}", reviewId);
+            }
+        }
+        return fresh;
+    }
+
+    private Map<Long, ReviewResult> buildAndCache(List<Review> reviews) {
+        Map<Long, ReviewResult> built = build(reviews);
+        if (!built.isEmpty()) {
+            reviewCardCachePort.putAll(built.values());
+        }
+        return built;
+    }
+
+    private Map<Long, ReviewResult> build(List<Review> reviews) {
+        if (reviews.isEmpty()) {
+            return Map.of();
+        }
+
+        List<Long> reviewIds = reviewIdsOf(reviews);
+        Map<Long, Book> books = loadBookPort.loadByIdsBatch(reviews.stream()
+                .map(review -> review.getBookId().getValue())
+                .distinct()
+                .toList());
+        Map<Long, User> authors = loadUserPort.loadByIdsBatch(reviews.stream()
+                .map(review -> review.getUserId().value())
+                .distinct()
+                .toList());
+        Map<Long, List<String>> keywords = loadKeywordsUseCase.loadKeywordsBatch(reviewIds);
+        Map<Long, List<String>> highlights = loadHighlightsUseCase.loadHighlightsBatch(reviewIds);
+
+        Map<Long, ReviewResult> results = new LinkedHashMap<>(reviews.size() * 2);
+        for (Review review : reviews) {
+            Long reviewId = review.getId().getValue();
+            Book book = books.get(review.getBookId().getValue());
+            User author = authors.get(review.getUserId().value());
+            if (book == null || author == null) {
+                log.warn("Skipping review card {} (book found: {}, author found: {})",
+                        reviewId, book != null, author != null);
+                continue;
+            }
+
+            results.put(reviewId, ReviewResult.from(
+                    review,
+                    book,
+                    author,
+                    keywords.getOrDefault(reviewId, List.of()),
+                    highlights.getOrDefault(reviewId, List.of())
+            ));
+        }
+        return results;
+    }
+
+    private Map<Long, ReviewResult> ordered(
+            List<Long> reviewIds,
+            Map<Long, ReviewResult> cached,
+            Map<Long, ReviewResult> built
+    ) {
+        Map<Long, ReviewResult> results = new LinkedHashMap<>(reviewIds.size() * 2);
+        for (Long reviewId : reviewIds) {
+            ReviewResult card = cached.get(reviewId);
+            if (card == null) {
+                card = built.get(reviewId);
+            }
+            if (card != null) {
+                results.put(reviewId, card);
+            }
+        }
+        return results;
+    }
+
+    private List<Long> reviewIdsOf(List<Review> reviews) {
+        return reviews.stream()
+                .map(review -> review.getId().getValue())
+                .toList();
+    }
+}
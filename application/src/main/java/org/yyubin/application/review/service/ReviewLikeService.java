@@ -1,8 +1,14 @@
 package org.yyubin.application.review.service;
 
+import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.yyubin.application.event.EventPayload;
+import org.yyubin.application.event.EventPublisher;
+import org.yyubin.application.event.EventTopics;
 import org.yyubin.application.review.ToggleReviewLikeUseCase;
 import org.yyubin.application.review.command.ToggleReviewLikeCommand;
 import org.yyubin.application.review.port.ReviewLikePort;
@@ -16,6 +22,7 @@ import org.yyubin.domain.user.UserId;
 public class ReviewLikeService implements ToggleReviewLikeUseCase {
 
     private final ReviewLikePort reviewLikePort;
+    private final EventPublisher eventPublisher;
 
     @Override
     public ToggleResult execute(ToggleReviewLikeCommand command) {
@@ -27,14 +34,34 @@ public class ReviewLikeService implements ToggleReviewLikeUseCase {
         if (exists) {
             // Unlike
             reviewLikePort.delete(reviewId, userId);
+            publishLikeEvent("REVIEW_UNLIKED", reviewId, userId);
             long likeCount = reviewLikePort.countByReviewId(reviewId);
             return new ToggleResult(false, likeCount);
         } else {
             // Like
             ReviewLike reviewLike = ReviewLike.create(reviewId, userId);
             reviewLikePort.save(reviewLike);
+            publishLikeEvent("REVIEW_LIKED", reviewId, userId);
             long likeCount = reviewLikePort.countByReviewId(reviewId);
             return new ToggleResult(true, likeCount);
         }
     }
+
+    private void publishLikeEvent(String eventType, ReviewId reviewId, UserId userId) {
+        eventPublisher.publish(
+                EventTopics.REACTION,
+                userId.value().toString(),
+                new EventPayload(
+                        UUID.randomUUID(),
+                        eventType,
+                        userId.value(),
+                        "REVIEW",
+                        reviewId.getValue().toString(),
+                        Map.of("reviewId", reviewId.getValue()),
+                        Instant.now(),
+                        "api",
+                        1
+                )
+        );
+    }
 }
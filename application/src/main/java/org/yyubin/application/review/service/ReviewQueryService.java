@@ -6,6 +6,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.yyubin.application.event.DeliveryClass;
 import org.yyubin.application.event.EventPayload;
 import org.yyubin.application.event.EventPublisher;
 import org.yyubin.application.event.EventTopics;
@@ -13,11 +14,8 @@ import org.yyubin.application.review.CheckUserReviewUseCase;
 import org.yyubin.application.review.GetReviewUseCase;
 import org.yyubin.application.review.GetReviewsByHighlightUseCase;
 import org.yyubin.application.review.GetUserReviewsUseCase;
-import org.yyubin.application.review.LoadHighlightsUseCase;
-import org.yyubin.application.review.LoadKeywordsUseCase;
 import org.yyubin.application.review.dto.PagedReviewResult;
 import org.yyubin.application.review.dto.ReviewResult;
-import org.yyubin.application.review.port.LoadBookPort;
 import org.yyubin.application.review.port.LoadReviewPort;
 import org.yyubin.application.review.port.ReviewExistencePort;
 import org.yyubin.application.review.port.ReviewViewMetricPort;
@@ -28,7 +26,6 @@ import org.yyubin.application.review.query.GetReviewsByHighlightQuery;
 import org.yyubin.application.review.query.GetUserReviewsQuery;
 import org.yyubin.application.review.exception.ReviewAccessDeniedException;
 import org.yyubin.application.review.exception.ReviewNotFoundException;
-import org.yyubin.domain.book.Book;
 import org.yyubin.domain.review.Review;
 import org.yyubin.domain.book.BookId;
 import org.yyubin.domain.review.ReviewId;
@@ -42,17 +39,14 @@ import org.yyubin.domain.user.UserId;
 public class ReviewQueryService implements GetReviewUseCase, GetUserReviewsUseCase, GetReviewsByHighlightUseCase, CheckUserReviewUseCase {
 
     private final LoadReviewPort loadReviewPort;
-    private final LoadBookPort loadBookPort;
-    private final LoadKeywordsUseCase loadKeywordsUseCase;
-    private final LoadHighlightsUseCase loadHighlightsUseCase;
     private final ReviewViewMetricPort reviewViewMetricPort;
     private final ReviewExistencePort reviewExistencePort;
     private final ReviewReactionPort reviewReactionPort;
     private final org.yyubin.application.bookmark.port.ReviewBookmarkRepository reviewBookmarkRepository;
     private final EventPublisher eventPublisher;
     private final HighlightNormalizer highlightNormalizer;
-    private final org.yyubin.application.user.port.LoadUserPort loadUserPort;
     private final org.yyubin.application.review.port.ReviewLikePort reviewLikePort;
+    private final ReviewCardAssembler reviewCardAssembler;
 
     @Override
     public ReviewResult query(GetReviewQuery query) {
@@ -67,12 +61,14 @@ public class ReviewQueryService implements GetReviewUseCase, GetUserReviewsUseCa
             review.getId().getValue(), review.getVisibility(), review.isDeleted());
         validateViewPermission(review, query.viewerId());
         log.debug("View permission validated for review {}", review.getId().getValue());
-        Book book = loadBookPort.loadById(review.getBookId().getValue())
-                .orElseThrow(() -> new ReviewNotFoundException("Book not found: " + review.getBookId().getValue()));
-        org.yyubin.domain.user.User author = loadUserPort.loadById(review.getUserId());
+        ReviewResult card = reviewCardAssembler.assemble(List.of(review)).get(review.getId().getValue());
+        if (card == null) {
+            // 조립기는 도서나 작성자를 찾지 못한 리뷰를 결과에서 뺌
+            throw new ReviewNotFoundException("Book or author not found for review: " + review.getId().getValue());
+        }
 
         long cachedView = reviewViewMetricPort.incrementAndGet(review.getId().getValue(), query.viewerId());
-        publishViewEvent(review, book, cachedView, query.viewerId());
+        publishViewEvent(review, cachedView, query.viewerId());
 
         long viewForResponse = reviewViewMetricPort.getCachedCount(review.getId().getValue())
                 .orElse(review.getViewCount());
@@ -107,12 +103,7 @@ public class ReviewQueryService implements GetReviewUseCase, GetUserReviewsUseCa
         }
         long likeCount = reviewLikePort.countByReviewId(review.getId());
 
-        return ReviewResult.fromWithViewCountAndInteraction(
-                review,
-                book,
-                author,
-                loadKeywordsUseCase.loadKeywords(ReviewId.of(review.getId().getValue())),
-                loadHighlightsUseCase.loadHighlights(ReviewId.of(review.getId().getValue())),
+        return card.withInteraction(
                 viewForResponse,
                 bookmarked,
                 reactions,
@@ -133,10 +124,10 @@ public class ReviewQueryService implements GetReviewUseCase, GetUserReviewsUseCa
         );
     }
 
-    private void publishViewEvent(Review review, Book book, long cachedView, Long viewerId) {
+    private void publishViewEvent(Review review, long cachedView, Long viewerId) {
         java.util.Map<String, Object> metadata = new java.util.HashMap<>();
         metadata.put("reviewId", review.getId().getValue());
-        metadata.put("bookId", book.getId().getValue());
+        metadata.put("bookId", review.getBookId().getValue());
         metadata.put("viewCount", cachedView);
 
         eventPublisher.publish(
@@ -152,7 +143,8 @@ public class ReviewQueryService implements GetReviewUseCase, GetUserReviewsUseCa
                         java.time.Instant.now(),
                         "api",
                         1
-                )
+                ),
+                DeliveryClass.BEST_EFFORT
         );
     }
 
@@ -160,10 +152,9 @@ public class ReviewQueryService implements GetReviewUseCase, GetUserReviewsUseCa
     public PagedReviewResult query(GetUserReviewsQuery query) {
         List<Review> reviews = loadReviewPort.loadByUserId(query.userId(), query.viewerId(), query.cursor(), query.size() + 1);
 
-        List<ReviewResult> mapped = reviews.stream()
+        List<ReviewResult> mapped = toResults(reviews.stream()
                 .limit(query.size())
-                .map(this::toResult)
-                .collect(Collectors.toList());
+                .toList());
 
         Long nextCursor = reviews.size() > query.size()
                 ? reviews.get(query.size()).getId().getValue()
@@ -180,10 +171,9 @@ public class ReviewQueryService implements GetReviewUseCase, GetUserReviewsUseCa
         String normalized = highlightNormalizer.normalize(query.highlight());
         List<Review> reviews = loadReviewPort.loadByHighlightNormalized(normalized, query.cursor(), query.size() + 1);
 
-        List<ReviewResult> mapped = reviews.stream()
+        List<ReviewResult> mapped = toResults(reviews.stream()
                 .limit(query.size())
-                .map(this::toResult)
-                .collect(Collectors.toList());
+                .toList());
 
         Long nextCursor = reviews.size() > query.size()
                 ? reviews.get(query.size()).getId().getValue()
@@ -192,20 +182,8 @@ public class ReviewQueryService implements GetReviewUseCase, GetUserReviewsUseCa
         return new PagedReviewResult(mapped, nextCursor);
     }
 
-    private ReviewResult toResult(Review review) {
-        Book book = loadBookPort.loadById(review.getBookId().getValue())
-                .orElseThrow(() -> new ReviewNotFoundException("Book not found: " + review.getBookId().getValue()));
-        org.yyubin.domain.user.User author = loadUserPort.loadById(review.getUserId());
-        long viewForResponse = reviewViewMetricPort.getCachedCount(review.getId().getValue())
-                .orElse(review.getViewCount());
-        return ReviewResult.fromWithViewCount(
-                review,
-                book,
-                author,
-                loadKeywordsUseCase.loadKeywords(review.getId()),
-                loadHighlightsUseCase.loadHighlights(review.getId()),
-                viewForResponse
-        );
+    private List<ReviewResult> toResults(List<Review> reviews) {
+        return List.copyOf(reviewCardAssembler.assembleWithViewCounts(reviews).values());
     }
 
     private void validateViewPermission(Review review, Long viewerId) {
@@ -5,6 +5,8 @@ import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.yyubin.application.event.EventPayload;
 import org.yyubin.application.event.EventPublisher;
 import org.yyubin.application.event.EventTopics;
@@ -27,11 +29,11 @@ import org.yyubin.application.review.search.event.ReviewSearchIndexEventPublishe
 import org.yyubin.application.review.search.event.ReviewSearchIndexEventType;
 import org.yyubin.application.review.port.LoadBookPort;
 import org.yyubin.application.review.port.LoadReviewPort;
+import org.yyubin.application.review.port.ReviewCardCachePort;
 import org.yyubin.application.review.port.SaveBookPort;
 import org.yyubin.application.review.port.SaveReviewPort;
 import org.yyubin.application.userbook.EnsureCompletedUserBookUseCase;
 import org.yyubin.application.userbook.command.EnsureCompletedUserBookCommand;
-import org.yyubin.application.user.port.FollowQueryPort;
 import org.yyubin.application.user.port.LoadUserPort;
 import org.yyubin.domain.book.Book;
 import org.yyubin.domain.book.BookId;
@@ -60,10 +62,10 @@ public class ReviewService implements CreateReviewUseCase, UpdateReviewUseCase,
     private final HighlightNormalizer highlightNormalizer;
     private final MentionParser mentionParser;
     private final NotificationEventUseCase notificationEventUseCase;
-    private final FollowQueryPort followQueryPort;
     private final EventPublisher eventPublisher;
     private final ReviewSearchIndexEventPublisher reviewSearchIndexEventPublisher;
     private final EnsureCompletedUserBookUseCase ensureCompletedUserBookUseCase;
+    private final ReviewCardCachePort reviewCardCachePort;
 
     @Override
     @Transactional
@@ -92,7 +94,6 @@ public class ReviewService implements CreateReviewUseCase, UpdateReviewUseCase,
         ));
         registerKeywordsUseCase.register(savedReview.getId(), command.keywords());
         registerHighlightsUseCase.register(savedReview.getId(), command.highlights());
-        notifyFollowersOnNewReview(savedReview);
         notifyMentions(savedReview.getMentions(), userId, savedReview.getId().getValue(), null);
         publishReviewEvent(
                 "REVIEW_CREATED",
@@ -152,6 +153,7 @@ public class ReviewService implements CreateReviewUseCase, UpdateReviewUseCase,
         }
 
         Review saved = saveReviewPort.save(updated);
+        evictCardAfterCommit(saved.getId().getValue());
         registerKeywordsUseCase.register(saved.getId(), command.keywords());
         registerHighlightsUseCase.register(saved.getId(), command.highlights());
         publishReviewEvent(
@@ -187,6 +189,7 @@ public class ReviewService implements CreateReviewUseCase, UpdateReviewUseCase,
 
         Review deleted = existing.markDeleted();
         Review saved = saveReviewPort.save(deleted);
+        evictCardAfterCommit(saved.getId().getValue());
 
         Book book = loadBookPort.loadById(saved.getBookId().getValue())
                 .orElseThrow(() -> new IllegalArgumentException("Book not found: " + saved.getBookId().getValue()));
@@ -207,18 +210,22 @@ public class ReviewService implements CreateReviewUseCase, UpdateReviewUseCase,
         );
     }
 
-    private void notifyFollowersOnNewReview(Review review) {
-        List<Long> followerIds = followQueryPort.loadFollowerIdsAll(review.getUserId().value());
-        for (Long followerId : followerIds) {
-            if (followerId.equals(review.getUserId().value())) continue;
-            notificationEventUseCase.handle(new NotificationEventPayload(
-                    followerId,
-                    NotificationType.FOLLOWEE_NEW_REVIEW,
-                    review.getUserId().value(),
-                    review.getId().getValue(),
-                    NotificationMessages.FOLLOWEE_NEW_REVIEW
-            ));
+    /**
+     * 이 인스턴스의 카드 캐시(로컬 + Redis)를 커밋 직후 바로 무효화
+     * - 커밋 전에 지우면 그 사이 다른 요청이 옛 행으로 카드를 다시 채울 수 있음
+     * - 다른 인스턴스의 로컬 캐시는 REVIEW_UPDATED/REVIEW_DELETED 이벤트로 무효화
+     */
+    private void evictCardAfterCommit(Long reviewId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            reviewCardCachePort.evict(reviewId);
+            return;
         }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                reviewCardCachePort.evict(reviewId);
+            }
+        });
     }
 
     private void notifyMentions(List<Mention> mentions, UserId writer, Long reviewId, Long commentId) {
@@ -7,7 +7,6 @@ import java.util.Map;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 import org.yyubin.application.event.EventPayload;
 import org.yyubin.application.event.EventPublisher;
 import org.yyubin.application.event.EventTopics;
@@ -24,7 +23,6 @@ public class RecommendationTrackingService implements TrackRecommendationEventsU
     private final EventPublisher eventPublisher;
 
     @Override
-    @Transactional
     public void track(TrackRecommendationEventsCommand command) {
         List<TrackingEventCommand> events = command.events();
         for (TrackingEventCommand event : events) {
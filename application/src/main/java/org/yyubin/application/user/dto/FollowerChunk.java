@@ -0,0 +1,19 @@
+package org.yyubin.application.user.dto;
+
+import java.util.List;
+
+/**
+ * 팔로워 keyset 청크
+ *
+ * @param followerIds 팔로워 ID (팔로우 ID 오름차순)
+ * @param lastFollowId 청크 마지막 팔로우 ID - 다음 청크의 커서 (빈 청크면 null)
+ */
+public record FollowerChunk(
+        List<Long> followerIds,
+        Long lastFollowId
+) {
+
+    public boolean isEmpty() {
+        return followerIds.isEmpty();
+    }
+}
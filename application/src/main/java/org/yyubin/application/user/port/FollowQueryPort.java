@@ -1,6 +1,7 @@
 package org.yyubin.application.user.port;
 
 import java.util.List;
+import org.yyubin.application.user.dto.FollowerChunk;
 
 public interface FollowQueryPort {
 
@@ -15,4 +16,9 @@ public interface FollowQueryPort {
     long countFollowers(Long userId);
 
     List<Long> loadFollowerIdsAll(Long userId);
+
+    /**
+     * 팔로우 ID 오름차순 keyset 청크 (afterFollowId 가 null 이면 처음부터)
+     */
+    FollowerChunk loadFollowerChunk(Long userId, Long afterFollowId, int size);
 }
@@ -3,6 +3,7 @@ package org.yyubin.application.user.service;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.yyubin.application.feed.port.FeedTimelinePort;
 import org.yyubin.application.user.ToggleFollowUseCase;
 import org.yyubin.application.user.command.ToggleFollowCommand;
 import org.yyubin.application.user.dto.ToggleFollowResult;
@@ -16,6 +17,7 @@ public class FollowService implements ToggleFollowUseCase {
 
     private final FollowPort followPort;
     private final LoadUserPort loadUserPort;
+    private final FeedTimelinePort feedTimelinePort;
 
     @Override
     @Transactional
@@ -35,10 +37,11 @@ public class FollowService implements ToggleFollowUseCase {
 
         if (alreadyFollowing) {
             followPort.delete(followerId.value(), followeeId.value());
-            return new ToggleFollowResult(false);
         } else {
             followPort.create(followerId.value(), followeeId.value());
-            return new ToggleFollowResult(true);
         }
+        // 팔로우 대상이 바뀌면 pull 작성자 연결이 달라지므로 피드 캐시를 다시 채우게 함
+        feedTimelinePort.invalidate(followerId.value());
+        return new ToggleFollowResult(!alreadyFollowing);
     }
 }
@@ -11,11 +11,9 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.yyubin.application.activity.dto.ActivityFeedPageResult;
 import org.yyubin.application.activity.port.ActivityQueryPort;
 import org.yyubin.application.activity.query.GetActivityFeedQuery;
-import org.yyubin.application.review.LoadHighlightsUseCase;
-import org.yyubin.application.review.LoadKeywordsUseCase;
-import org.yyubin.application.review.port.LoadBookPort;
+import org.yyubin.application.review.dto.ReviewResult;
 import org.yyubin.application.review.port.LoadReviewPort;
-import org.yyubin.application.user.port.FollowQueryPort;
+import org.yyubin.application.review.service.ReviewCardAssembler;
 import org.yyubin.application.user.port.LoadUserPort;
 import org.yyubin.domain.activity.ActivityItem;
 import org.yyubin.domain.activity.ActivityType;
@@ -33,8 +31,9 @@ import org.yyubin.domain.user.UserId;
 
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
@@ -54,20 +53,11 @@ class ActivityFeedQueryServiceTest {
     @Mock
     private ActivityQueryPort activityQueryPort;
 
-    @Mock
-    private FollowQueryPort followQueryPort;
-
     @Mock
     private LoadReviewPort loadReviewPort;
 
     @Mock
-    private LoadBookPort loadBookPort;
-
-    @Mock
-    private LoadKeywordsUseCase loadKeywordsUseCase;
-
-    @Mock
-    private LoadHighlightsUseCase loadHighlightsUseCase;
+    private ReviewCardAssembler reviewCardAssembler;
 
     @Mock
     private LoadUserPort loadUserPort;
@@ -88,6 +78,17 @@ class ActivityFeedQueryServiceTest {
         testActor = createTestUser(2L, "actor@test.com", "testactor");
         testBook = createTestBook(1L);
         testReview = createTestReview(100L, 2L, 1L);
+
+        // 전달받은 리뷰를 그대로 카드로 조립
+        lenient().when(reviewCardAssembler.assemble(anyList())).thenAnswer(invocation -> {
+            List<Review> reviews = invocation.getArgument(0);
+            Map<Long, ReviewResult> cards = new LinkedHashMap<>();
+            reviews.forEach(review -> cards.put(
+                    review.getId().getValue(),
+                    ReviewResult.from(review, testBook, testActor, List.of(), List.of())
+            ));
+            return cards;
+        });
     }
 
     private User createTestUser(Long userId, String email, String username) {
@@ -179,8 +180,7 @@ class ActivityFeedQueryServiceTest {
         @DisplayName("피드 조회 성공 - 다음 페이지 있음")
         void query_Success_WithNextPage() {
             // Given
-            GetActivityFeedQuery query = new GetActivityFeedQuery(1L, null, 2);
-            List<Long> followingIds = List.of(2L, 3L);
+            GetActivityFeedQuery query = new GetActivityFeedQuery(1L, null, null, null, 2);
 
             ActivityItem activity1 = ActivityItem.reviewCreated(1L, new UserId(2L), ReviewId.of(100L), now.minusMinutes(1));
             ActivityItem activity2 = ActivityItem.reviewCreated(2L, new UserId(2L), ReviewId.of(101L), now.minusMinutes(2));
@@ -189,44 +189,37 @@ class ActivityFeedQueryServiceTest {
             Review review1 = createTestReview(100L, 2L, 1L);
             Review review2 = createTestReview(101L, 2L, 1L);
 
-            when(followQueryPort.loadFollowingIdsAll(1L)).thenReturn(followingIds);
-            when(activityQueryPort.loadActivities(eq(followingIds), eq(1L), any(), eq(3)))
+            when(activityQueryPort.loadActivities(eq(1L), any(), any(), any(), eq(3)))
                     .thenReturn(List.of(activity1, activity2, activity3));
-            when(loadUserPort.loadById(new UserId(2L))).thenReturn(testActor);
-            when(loadReviewPort.loadById(100L)).thenReturn(review1);
-            when(loadReviewPort.loadById(101L)).thenReturn(review2);
-            when(loadBookPort.loadById(1L)).thenReturn(Optional.of(testBook));
-            when(loadKeywordsUseCase.loadKeywords(any())).thenReturn(List.of());
-            when(loadHighlightsUseCase.loadHighlights(any())).thenReturn(List.of());
+            when(loadUserPort.loadByIdsBatch(List.of(2L))).thenReturn(Map.of(2L, testActor));
+            when(loadReviewPort.loadByIdsBatch(List.of(100L, 101L))).thenReturn(Map.of(100L, review1, 101L, review2));
 
             // When
             ActivityFeedPageResult result = activityFeedQueryService.query(query);
 
             // Then
             assertThat(result.items()).hasSize(2);
-            assertThat(result.nextCursorEpochMillis()).isNotNull();
+            // 다음 커서는 이 페이지 마지막 활동(activity2)의 (createdAt, sourceRank, id)
+            assertThat(result.nextCursorEpochMillis())
+                    .isEqualTo(activity2.getCreatedAt().toInstant(ZoneOffset.UTC).toEpochMilli());
+            assertThat(result.nextCursorSourceRank()).isEqualTo(ActivityItem.ACTIVITY_SOURCE_RANK);
+            assertThat(result.nextCursorId()).isEqualTo(2L);
 
-            verify(followQueryPort).loadFollowingIdsAll(1L);
-            verify(activityQueryPort).loadActivities(eq(followingIds), eq(1L), any(), eq(3));
+            verify(activityQueryPort).loadActivities(eq(1L), any(), any(), any(), eq(3));
         }
 
         @Test
         @DisplayName("피드 조회 성공 - 다음 페이지 없음")
         void query_Success_NoNextPage() {
             // Given
-            GetActivityFeedQuery query = new GetActivityFeedQuery(1L, null, 10);
-            List<Long> followingIds = List.of(2L);
+            GetActivityFeedQuery query = new GetActivityFeedQuery(1L, null, null, null, 10);
 
             ActivityItem activity1 = ActivityItem.reviewCreated(1L, new UserId(2L), ReviewId.of(100L), now);
 
-            when(followQueryPort.loadFollowingIdsAll(1L)).thenReturn(followingIds);
-            when(activityQueryPort.loadActivities(eq(followingIds), eq(1L), any(), eq(11)))
+            when(activityQueryPort.loadActivities(eq(1L), any(), any(), any(), eq(11)))
                     .thenReturn(List.of(activity1));
-            when(loadUserPort.loadById(new UserId(2L))).thenReturn(testActor);
-            when(loadReviewPort.loadById(100L)).thenReturn(testReview);
-            when(loadBookPort.loadById(1L)).thenReturn(Optional.of(testBook));
-            when(loadKeywordsUseCase.loadKeywords(any())).thenReturn(List.of());
-            when(loadHighlightsUseCase.loadHighlights(any())).thenReturn(List.of());
+            when(loadUserPort.loadByIdsBatch(List.of(2L))).thenReturn(Map.of(2L, testActor));
+            when(loadReviewPort.loadByIdsBatch(List.of(100L))).thenReturn(Map.of(100L, testReview));
 
             // When
             ActivityFeedPageResult result = activityFeedQueryService.query(query);
@@ -240,11 +233,9 @@ class ActivityFeedQueryServiceTest {
         @DisplayName("피드 조회 성공 - 빈 결과")
         void query_Success_EmptyResult() {
             // Given
-            GetActivityFeedQuery query = new GetActivityFeedQuery(1L, null, 10);
-            List<Long> followingIds = List.of();
+            GetActivityFeedQuery query = new GetActivityFeedQuery(1L, null, null, null, 10);
 
-            when(followQueryPort.loadFollowingIdsAll(1L)).thenReturn(followingIds);
-            when(activityQueryPort.loadActivities(eq(followingIds), eq(1L), any(), eq(11)))
+            when(activityQueryPort.loadActivities(eq(1L), any(), any(), any(), eq(11)))
                     .thenReturn(List.of());
 
             // When
@@ -260,19 +251,14 @@ class ActivityFeedQueryServiceTest {
         void query_Success_WithCursor() {
             // Given
             long cursorEpochMillis = now.toInstant(ZoneOffset.UTC).toEpochMilli();
-            GetActivityFeedQuery query = new GetActivityFeedQuery(1L, cursorEpochMillis, 5);
-            List<Long> followingIds = List.of(2L);
+            GetActivityFeedQuery query = new GetActivityFeedQuery(1L, cursorEpochMillis, ActivityItem.ACTIVITY_SOURCE_RANK, 7L, 5);
 
             ActivityItem activity1 = ActivityItem.reviewCreated(1L, new UserId(2L), ReviewId.of(100L), now.minusMinutes(5));
 
-            when(followQueryPort.loadFollowingIdsAll(1L)).thenReturn(followingIds);
-            when(activityQueryPort.loadActivities(eq(followingIds), eq(1L), any(LocalDateTime.class), eq(6)))
+            when(activityQueryPort.loadActivities(eq(1L), any(LocalDateTime.class), eq(ActivityItem.ACTIVITY_SOURCE_RANK), eq(7L), eq(6)))
                     .thenReturn(List.of(activity1));
-            when(loadUserPort.loadById(new UserId(2L))).thenReturn(testActor);
-            when(loadReviewPort.loadById(100L)).thenReturn(testReview);
-            when(loadBookPort.loadById(1L)).thenReturn(Optional.of(testBook));
-            when(loadKeywordsUseCase.loadKeywords(any())).thenReturn(List.of());
-            when(loadHighlightsUseCase.loadHighlights(any())).thenReturn(List.of());
+            when(loadUserPort.loadByIdsBatch(List.of(2L))).thenReturn(Map.of(2L, testActor));
+            when(loadReviewPort.loadByIdsBatch(List.of(100L))).thenReturn(Map.of(100L, testReview));
 
             // When
             ActivityFeedPageResult result = activityFeedQueryService.query(query);
@@ -286,15 +272,13 @@ class ActivityFeedQueryServiceTest {
         @DisplayName("USER_FOLLOWED 타입 액티비티 - reviewId 없이 처리")
         void query_Success_UserFollowedActivity() {
             // Given
-            GetActivityFeedQuery query = new GetActivityFeedQuery(1L, null, 10);
-            List<Long> followingIds = List.of(2L);
+            GetActivityFeedQuery query = new GetActivityFeedQuery(1L, null, null, null, 10);
 
             ActivityItem followActivity = ActivityItem.userFollowed(1L, new UserId(2L), new UserId(3L), now);
 
-            when(followQueryPort.loadFollowingIdsAll(1L)).thenReturn(followingIds);
-            when(activityQueryPort.loadActivities(eq(followingIds), eq(1L), any(), eq(11)))
+            when(activityQueryPort.loadActivities(eq(1L), any(), any(), any(), eq(11)))
                     .thenReturn(List.of(followActivity));
-            when(loadUserPort.loadById(new UserId(2L))).thenReturn(testActor);
+            when(loadUserPort.loadByIdsBatch(List.of(2L))).thenReturn(Map.of(2L, testActor));
 
             // When
             ActivityFeedPageResult result = activityFeedQueryService.query(query);
@@ -314,17 +298,15 @@ class ActivityFeedQueryServiceTest {
         @DisplayName("삭제된 리뷰가 있는 액티비티는 필터링됨")
         void query_FiltersDeletedReviews() {
             // Given
-            GetActivityFeedQuery query = new GetActivityFeedQuery(1L, null, 10);
-            List<Long> followingIds = List.of(2L);
+            GetActivityFeedQuery query = new GetActivityFeedQuery(1L, null, null, null, 10);
 
             ActivityItem activity1 = ActivityItem.reviewCreated(1L, new UserId(2L), ReviewId.of(100L), now);
             Review deletedReview = createDeletedReview(100L, 2L, 1L);
 
-            when(followQueryPort.loadFollowingIdsAll(1L)).thenReturn(followingIds);
-            when(activityQueryPort.loadActivities(eq(followingIds), eq(1L), any(), eq(11)))
+            when(activityQueryPort.loadActivities(eq(1L), any(), any(), any(), eq(11)))
                     .thenReturn(List.of(activity1));
-            when(loadUserPort.loadById(new UserId(2L))).thenReturn(testActor);
-            when(loadReviewPort.loadById(100L)).thenReturn(deletedReview);
+            when(loadUserPort.loadByIdsBatch(List.of(2L))).thenReturn(Map.of(2L, testActor));
+            when(loadReviewPort.loadByIdsBatch(List.of(100L))).thenReturn(Map.of(100L, deletedReview));
 
             // When
             ActivityFeedPageResult result = activityFeedQueryService.query(query);
@@ -337,17 +319,15 @@ class ActivityFeedQueryServiceTest {
         @DisplayName("비공개 리뷰가 있는 액티비티는 필터링됨")
         void query_FiltersPrivateReviews() {
             // Given
-            GetActivityFeedQuery query = new GetActivityFeedQuery(1L, null, 10);
-            List<Long> followingIds = List.of(2L);
+            GetActivityFeedQuery query = new GetActivityFeedQuery(1L, null, null, null, 10);
 
             ActivityItem activity1 = ActivityItem.reviewCreated(1L, new UserId(2L), ReviewId.of(100L), now);
             Review privateReview = createPrivateReview(100L, 2L, 1L);
 
-            when(followQueryPort.loadFollowingIdsAll(1L)).thenReturn(followingIds);
-            when(activityQueryPort.loadActivities(eq(followingIds), eq(1L), any(), eq(11)))
+            when(activityQueryPort.loadActivities(eq(1L), any(), any(), any(), eq(11)))
                     .thenReturn(List.of(activity1));
-            when(loadUserPort.loadById(new UserId(2L))).thenReturn(testActor);
-            when(loadReviewPort.loadById(100L)).thenReturn(privateReview);
+            when(loadUserPort.loadByIdsBatch(List.of(2L))).thenReturn(Map.of(2L, testActor));
+            when(loadReviewPort.loadByIdsBatch(List.of(100L))).thenReturn(Map.of(100L, privateReview));
 
             // When
             ActivityFeedPageResult result = activityFeedQueryService.query(query);
@@ -360,15 +340,13 @@ class ActivityFeedQueryServiceTest {
         @DisplayName("사용자를 찾을 수 없는 액티비티는 필터링됨")
         void query_FiltersWhenUserNotFound() {
             // Given
-            GetActivityFeedQuery query = new GetActivityFeedQuery(1L, null, 10);
-            List<Long> followingIds = List.of(2L);
+            GetActivityFeedQuery query = new GetActivityFeedQuery(1L, null, null, null, 10);
 
             ActivityItem activity1 = ActivityItem.reviewCreated(1L, new UserId(2L), ReviewId.of(100L), now);
 
-            when(followQueryPort.loadFollowingIdsAll(1L)).thenReturn(followingIds);
-            when(activityQueryPort.loadActivities(eq(followingIds), eq(1L), any(), eq(11)))
+            when(activityQueryPort.loadActivities(eq(1L), any(), any(), any(), eq(11)))
                     .thenReturn(List.of(activity1));
-            when(loadUserPort.loadById(new UserId(2L))).thenThrow(new IllegalArgumentException("User not found"));
+            when(loadUserPort.loadByIdsBatch(List.of(2L))).thenReturn(Map.of());
 
             // When
             ActivityFeedPageResult result = activityFeedQueryService.query(query);
@@ -381,16 +359,14 @@ class ActivityFeedQueryServiceTest {
         @DisplayName("리뷰를 찾을 수 없는 액티비티는 필터링됨")
         void query_FiltersWhenReviewNotFound() {
             // Given
-            GetActivityFeedQuery query = new GetActivityFeedQuery(1L, null, 10);
-            List<Long> followingIds = List.of(2L);
+            GetActivityFeedQuery query = new GetActivityFeedQuery(1L, null, null, null, 10);
 
             ActivityItem activity1 = ActivityItem.reviewCreated(1L, new UserId(2L), ReviewId.of(100L), now);
 
-            when(followQueryPort.loadFollowingIdsAll(1L)).thenReturn(followingIds);
-            when(activityQueryPort.loadActivities(eq(followingIds), eq(1L), any(), eq(11)))
+            when(activityQueryPort.loadActivities(eq(1L), any(), any(), any(), eq(11)))
                     .thenReturn(List.of(activity1));
-            when(loadUserPort.loadById(new UserId(2L))).thenReturn(testActor);
-            when(loadReviewPort.loadById(100L)).thenThrow(new IllegalArgumentException("Review not found"));
+            when(loadUserPort.loadByIdsBatch(List.of(2L))).thenReturn(Map.of(2L, testActor));
+            when(loadReviewPort.loadByIdsBatch(List.of(100L))).thenReturn(Map.of());
 
             // When
             ActivityFeedPageResult result = activityFeedQueryService.query(query);
@@ -403,8 +379,7 @@ class ActivityFeedQueryServiceTest {
         @DisplayName("일부 유효한 액티비티만 반환")
         void query_ReturnsOnlyValidActivities() {
             // Given
-            GetActivityFeedQuery query = new GetActivityFeedQuery(1L, null, 10);
-            List<Long> followingIds = List.of(2L, 3L);
+            GetActivityFeedQuery query = new GetActivityFeedQuery(1L, null, null, null, 10);
 
             User actor3 = createTestUser(3L, "actor3@test.com", "actor3");
             Review validReview = createTestReview(101L, 3L, 1L);
@@ -413,16 +388,11 @@ class ActivityFeedQueryServiceTest {
             ActivityItem invalidActivity = ActivityItem.reviewCreated(1L, new UserId(2L), ReviewId.of(100L), now);
             ActivityItem validActivity = ActivityItem.reviewCreated(2L, new UserId(3L), ReviewId.of(101L), now.minusMinutes(1));
 
-            when(followQueryPort.loadFollowingIdsAll(1L)).thenReturn(followingIds);
-            when(activityQueryPort.loadActivities(eq(followingIds), eq(1L), any(), eq(11)))
+            when(activityQueryPort.loadActivities(eq(1L), any(), any(), any(), eq(11)))
                     .thenReturn(List.of(invalidActivity, validActivity));
-            when(loadUserPort.loadById(new UserId(2L))).thenReturn(testActor);
-            when(loadUserPort.loadById(new UserId(3L))).thenReturn(actor3);
-            when(loadReviewPort.loadById(100L)).thenReturn(deletedReview);
-            when(loadReviewPort.loadById(101L)).thenReturn(validReview);
-            when(loadBookPort.loadById(1L)).thenReturn(Optional.of(testBook));
-            when(loadKeywordsUseCase.loadKeywords(any())).thenReturn(List.of());
-            when(loadHighlightsUseCase.loadHighlights(any())).thenReturn(List.of());
+            when(loadUserPort.loadByIdsBatch(List.of(2L, 3L))).thenReturn(Map.of(2L, testActor, 3L, actor3));
+            when(loadReviewPort.loadByIdsBatch(List.of(100L, 101L)))
+                    .thenReturn(Map.of(100L, deletedReview, 101L, validReview));
 
             // When
             ActivityFeedPageResult result = activityFeedQueryService.query(query);
@@ -441,11 +411,9 @@ class ActivityFeedQueryServiceTest {
         @DisplayName("사이즈가 null이면 기본값 20 사용")
         void query_UsesDefaultSizeWhenNull() {
             // Given
-            GetActivityFeedQuery query = new GetActivityFeedQuery(1L, null, null);
-            List<Long> followingIds = List.of(2L);
+            GetActivityFeedQuery query = new GetActivityFeedQuery(1L, null, null, null, null);
 
-            when(followQueryPort.loadFollowingIdsAll(1L)).thenReturn(followingIds);
-            when(activityQueryPort.loadActivities(eq(followingIds), eq(1L), any(), eq(21)))
+            when(activityQueryPort.loadActivities(eq(1L), any(), any(), any(), eq(21)))
                     .thenReturn(List.of());
 
             // When
@@ -453,43 +421,39 @@ class ActivityFeedQueryServiceTest {
 
             // Then
             assertThat(result.items()).isEmpty();
-            verify(activityQueryPort).loadActivities(eq(followingIds), eq(1L), any(), eq(21));
+            verify(activityQueryPort).loadActivities(eq(1L), any(), any(), any(), eq(21));
         }
 
         @Test
         @DisplayName("사이즈가 MAX(50)보다 크면 50으로 제한")
         void query_LimitsSizeToMax() {
             // Given
-            GetActivityFeedQuery query = new GetActivityFeedQuery(1L, null, 100);
-            List<Long> followingIds = List.of(2L);
+            GetActivityFeedQuery query = new GetActivityFeedQuery(1L, null, null, null, 100);
 
-            when(followQueryPort.loadFollowingIdsAll(1L)).thenReturn(followingIds);
-            when(activityQueryPort.loadActivities(eq(followingIds), eq(1L), any(), eq(51)))
+            when(activityQueryPort.loadActivities(eq(1L), any(), any(), any(), eq(51)))
                     .thenReturn(List.of());
 
             // When
             ActivityFeedPageResult result = activityFeedQueryService.query(query);
 
             // Then
-            verify(activityQueryPort).loadActivities(eq(followingIds), eq(1L), any(), eq(51));
+            verify(activityQueryPort).loadActivities(eq(1L), any(), any(), any(), eq(51));
         }
 
         @Test
         @DisplayName("사이즈가 0이면 1로 설정")
         void query_SetsMinSizeToOne() {
             // Given
-            GetActivityFeedQuery query = new GetActivityFeedQuery(1L, null, 0);
-            List<Long> followingIds = List.of(2L);
+            GetActivityFeedQuery query = new GetActivityFeedQuery(1L, null, null, null, 0);
 
-            when(followQueryPort.loadFollowingIdsAll(1L)).thenReturn(followingIds);
-            when(activityQueryPort.loadActivities(eq(followingIds), eq(1L), any(), eq(2)))
+            when(activityQueryPort.loadActivities(eq(1L), any(), any(), any(), eq(2)))
                     .thenReturn(List.of());
 
             // When
             ActivityFeedPageResult result = activityFeedQueryService.query(query);
 
             // Then
-            verify(activityQueryPort).loadActivities(eq(followingIds), eq(1L), any(), eq(2));
+            verify(activityQueryPort).loadActivities(eq(1L), any(), any(), any(), eq(2));
         }
     }
 
@@ -501,19 +465,14 @@ class ActivityFeedQueryServiceTest {
         @DisplayName("REVIEW_LIKED 타입 액티비티 처리")
         void query_Success_ReviewLikedActivity() {
             // Given
-            GetActivityFeedQuery query = new GetActivityFeedQuery(1L, null, 10);
-            List<Long> followingIds = List.of(2L);
+            GetActivityFeedQuery query = new GetActivityFeedQuery(1L, null, null, null, 10);
 
             ActivityItem likeActivity = ActivityItem.reviewLiked(1L, new UserId(2L), ReviewId.of(100L), now);
 
-            when(followQueryPort.loadFollowingIdsAll(1L)).thenReturn(followingIds);
-            when(activityQueryPort.loadActivities(eq(followingIds), eq(1L), any(), eq(11)))
+            when(activityQueryPort.loadActivities(eq(1L), any(), any(), any(), eq(11)))
                     .thenReturn(List.of(likeActivity));
-            when(loadUserPort.loadById(new UserId(2L))).thenReturn(testActor);
-            when(loadReviewPort.loadById(100L)).thenReturn(testReview);
-            when(loadBookPort.loadById(1L)).thenReturn(Optional.of(testBook));
-            when(loadKeywordsUseCase.loadKeywords(any())).thenReturn(List.of());
-            when(loadHighlightsUseCase.loadHighlights(any())).thenReturn(List.of());
+            when(loadUserPort.loadByIdsBatch(List.of(2L))).thenReturn(Map.of(2L, testActor));
+            when(loadReviewPort.loadByIdsBatch(List.of(100L))).thenReturn(Map.of(100L, testReview));
 
             // When
             ActivityFeedPageResult result = activityFeedQueryService.query(query);
@@ -527,19 +486,14 @@ class ActivityFeedQueryServiceTest {
         @DisplayName("REVIEW_BOOKMARKED 타입 액티비티 처리")
         void query_Success_ReviewBookmarkedActivity() {
             // Given
-            GetActivityFeedQuery query = new GetActivityFeedQuery(1L, null, 10);
-            List<Long> followingIds = List.of(2L);
+            GetActivityFeedQuery query = new GetActivityFeedQuery(1L, null, null, null, 10);
 
             ActivityItem bookmarkActivity = ActivityItem.reviewBookmarked(1L, new UserId(2L), ReviewId.of(100L), now);
 
-            when(followQueryPort.loadFollowingIdsAll(1L)).thenReturn(followingIds);
-            when(activityQueryPort.loadActivities(eq(followingIds), eq(1L), any(), eq(11)))
+            when(activityQueryPort.loadActivities(eq(1L), any(), any(), any(), eq(11)))
                     .thenReturn(List.of(bookmarkActivity));
-            when(loadUserPort.loadById(new UserId(2L))).thenReturn(testActor);
-            when(loadReviewPort.loadById(100L)).thenReturn(testReview);
-            when(loadBookPort.loadById(1L)).thenReturn(Optional.of(testBook));
-            when(loadKeywordsUseCase.loadKeywords(any())).thenReturn(List.of());
-            when(loadHighlightsUseCase.loadHighlights(any())).thenReturn(List.of());
+            when(loadUserPort.loadByIdsBatch(List.of(2L))).thenReturn(Map.of(2L, testActor));
+            when(loadReviewPort.loadByIdsBatch(List.of(100L))).thenReturn(Map.of(100L, testReview));
 
             // When
             ActivityFeedPageResult result = activityFeedQueryService.query(query);
@@ -558,15 +512,13 @@ class ActivityFeedQueryServiceTest {
         @DisplayName("액터 정보가 올바르게 매핑됨")
         void query_MapsActorInfoCorrectly() {
             // Given
-            GetActivityFeedQuery query = new GetActivityFeedQuery(1L, null, 10);
-            List<Long> followingIds = List.of(2L);
+            GetActivityFeedQuery query = new GetActivityFeedQuery(1L, null, null, null, 10);
 
             ActivityItem activity = ActivityItem.userFollowed(1L, new UserId(2L), new UserId(3L), now);
 
-            when(followQueryPort.loadFollowingIdsAll(1L)).thenReturn(followingIds);
-            when(activityQueryPort.loadActivities(eq(followingIds), eq(1L), any(), eq(11)))
+            when(activityQueryPort.loadActivities(eq(1L), any(), any(), any(), eq(11)))
                     .thenReturn(List.of(activity));
-            when(loadUserPort.loadById(new UserId(2L))).thenReturn(testActor);
+            when(loadUserPort.loadByIdsBatch(List.of(2L))).thenReturn(Map.of(2L, testActor));
 
             // When
             ActivityFeedPageResult result = activityFeedQueryService.query(query);
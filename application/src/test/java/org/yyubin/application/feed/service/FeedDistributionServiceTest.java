@@ -0,0 +1,120 @@
+package org.yyubin.application.feed.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.yyubin.application.feed.port.FeedItemWritePort;
+import org.yyubin.application.feed.port.FeedTimelinePort;
+import org.yyubin.application.user.dto.FollowerChunk;
+import org.yyubin.application.user.port.FollowQueryPort;
+import org.yyubin.domain.feed.FeedItem;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("FeedDistributionService 테스트")
+class FeedDistributionServiceTest {
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2025, 1, 1, 10, 0);
+
+    @Mock
+    private FollowQueryPort followQueryPort;
+
+    @Mock
+    private FeedItemWritePort feedItemWritePort;
+
+    @Mock
+    private FeedTimelinePort feedTimelinePort;
+
+    @InjectMocks
+    private FeedDistributionService service;
+
+    @Test
+    @DisplayName("일반 작성자는 팔로워 청크마다 피드 항목을 일괄 저장한다")
+    void distribute_PushesToFollowerChunks() {
+        // Given
+        List<Long> firstChunk = LongStream.rangeClosed(1, 500).boxed().toList();
+        when(followQueryPort.countFollowers(7L)).thenReturn(501L);
+        when(feedTimelinePort.isPullAuthor(7L, 501L)).thenReturn(false);
+        when(followQueryPort.loadFollowerChunk(7L, null, 500)).thenReturn(new FollowerChunk(firstChunk, 900L));
+        when(followQueryPort.loadFollowerChunk(7L, 900L, 500)).thenReturn(new FollowerChunk(List.of(501L), 901L));
+
+        // When
+        service.distribute(7L, 100L, CREATED_AT);
+
+        // Then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<FeedItem>> captor = ArgumentCaptor.forClass(List.class);
+        verify(feedItemWritePort, times(2)).saveAll(captor.capture());
+        assertThat(captor.getAllValues().get(0)).hasSize(500);
+        FeedItem last = captor.getAllValues().get(1).get(0);
+        assertThat(last.getUserId().value()).isEqualTo(501L);
+        assertThat(last.getReviewId().getValue()).isEqualTo(100L);
+        assertThat(last.getCreatedAt()).isEqualTo(CREATED_AT);
+        verify(feedTimelinePort, never()).appendToAuthorTimeline(anyLong(), anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("팔로워가 많은 작성자는 작성자 타임라인에만 기록한다")
+    void distribute_PullAuthorAppendsToTimelineOnly() {
+        // Given
+        when(followQueryPort.countFollowers(7L)).thenReturn(50_000L);
+        when(feedTimelinePort.isPullAuthor(7L, 50_000L)).thenReturn(true);
+        when(feedTimelinePort.registerPullAuthor(7L)).thenReturn(false);
+
+        // When
+        service.distribute(7L, 100L, CREATED_AT);
+
+        // Then
+        verify(feedTimelinePort).appendToAuthorTimeline(7L, 100L, CREATED_AT);
+        verify(followQueryPort, never()).loadFollowerChunk(anyLong(), any(), anyInt());
+        verifyNoInteractions(feedItemWritePort);
+    }
+
+    @Test
+    @DisplayName("처음 pull 로 전환된 작성자는 기존 팔로워 피드 캐시에 연결한다")
+    void distribute_NewPullAuthorLinksFollowers() {
+        // Given
+        when(followQueryPort.countFollowers(7L)).thenReturn(50_000L);
+        when(feedTimelinePort.isPullAuthor(7L, 50_000L)).thenReturn(true);
+        when(feedTimelinePort.registerPullAuthor(7L)).thenReturn(true);
+        when(followQueryPort.loadFollowerChunk(7L, null, 500)).thenReturn(new FollowerChunk(List.of(1L, 2L), 2L));
+
+        // When
+        service.distribute(7L, 100L, CREATED_AT);
+
+        // Then
+        verify(feedTimelinePort).linkPullAuthor(7L, List.of(1L, 2L));
+        verify(feedTimelinePort).appendToAuthorTimeline(7L, 100L, CREATED_AT);
+        verify(feedItemWritePort, never()).saveAll(anyList());
+    }
+
+    @Test
+    @DisplayName("팔로워가 없으면 아무것도 하지 않는다")
+    void distribute_NoFollowers() {
+        // Given
+        when(followQueryPort.countFollowers(7L)).thenReturn(0L);
+
+        // When
+        service.distribute(7L, 100L, CREATED_AT);
+
+        // Then
+        verifyNoInteractions(feedItemWritePort, feedTimelinePort);
+    }
+}
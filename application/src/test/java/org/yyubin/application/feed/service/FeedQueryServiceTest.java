@@ -10,14 +10,11 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.yyubin.application.feed.dto.FeedPageResult;
 import org.yyubin.application.feed.port.FeedItemPort;
 import org.yyubin.application.feed.query.GetFeedQuery;
-import org.yyubin.application.review.LoadHighlightsUseCase;
-import org.yyubin.application.review.LoadKeywordsUseCase;
-import org.yyubin.application.review.port.LoadBookPort;
-import org.yyubin.application.review.port.LoadReviewPort;
+import org.yyubin.application.review.dto.ReviewResult;
+import org.yyubin.application.review.service.ReviewCardAssembler;
 import org.yyubin.domain.book.Book;
 import org.yyubin.domain.book.BookId;
 import org.yyubin.domain.feed.FeedItem;
-import org.yyubin.application.user.port.LoadUserPort;
 import org.yyubin.domain.review.Review;
 import org.yyubin.domain.review.ReviewId;
 import org.yyubin.domain.review.ReviewVisibility;
@@ -28,7 +25,7 @@ import org.yyubin.domain.user.UserId;
 
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
@@ -45,19 +42,7 @@ class FeedQueryServiceTest {
     private FeedItemPort feedItemPort;
 
     @Mock
-    private LoadReviewPort loadReviewPort;
-
-    @Mock
-    private LoadBookPort loadBookPort;
-
-    @Mock
-    private LoadKeywordsUseCase loadKeywordsUseCase;
-
-    @Mock
-    private LoadHighlightsUseCase loadHighlightsUseCase;
-
-    @Mock
-    private LoadUserPort loadUserPort;
+    private ReviewCardAssembler reviewCardAssembler;
 
     @InjectMocks
     private FeedQueryService feedQueryService;
@@ -124,6 +109,10 @@ class FeedQueryServiceTest {
         );
     }
 
+    private ReviewResult toCard(Review review) {
+        return ReviewResult.from(review, testBook, testUser, List.of(), List.of());
+    }
+
     @Test
     @DisplayName("피드 조회 성공 - 다음 페이지 있음")
     void query_Success_WithNextPage() {
@@ -139,18 +128,15 @@ class FeedQueryServiceTest {
 
         when(feedItemPort.loadFeed(any(UserId.class), any(), anyInt()))
                 .thenReturn(List.of(feedItem1, feedItem2, feedItem3));
-        when(loadReviewPort.loadById(100L)).thenReturn(review1);
-        when(loadReviewPort.loadById(101L)).thenReturn(review2);
-        when(loadBookPort.loadById(1L)).thenReturn(Optional.of(testBook));
-        when(loadKeywordsUseCase.loadKeywords(any())).thenReturn(List.of());
-        when(loadHighlightsUseCase.loadHighlights(any())).thenReturn(List.of());
-        when(loadUserPort.loadById(any(UserId.class))).thenReturn(testUser);
+        when(reviewCardAssembler.assembleByIds(List.of(100L, 101L)))
+                .thenReturn(Map.of(100L, toCard(review1), 101L, toCard(review2)));
 
         // When
         FeedPageResult result = feedQueryService.query(query);
 
         // Then
         assertThat(result.items()).hasSize(2);
+        assertThat(result.items()).extracting(item -> item.review().reviewId()).containsExactly(100L, 101L);
         assertThat(result.nextCursorEpochMillis()).isNotNull();
 
         verify(feedItemPort).loadFeed(any(UserId.class), any(), anyInt());
@@ -166,11 +152,8 @@ class FeedQueryServiceTest {
 
         when(feedItemPort.loadFeed(any(UserId.class), any(), anyInt()))
                 .thenReturn(List.of(feedItem1));
-        when(loadReviewPort.loadById(100L)).thenReturn(testReview);
-        when(loadBookPort.loadById(1L)).thenReturn(Optional.of(testBook));
-        when(loadKeywordsUseCase.loadKeywords(any())).thenReturn(List.of());
-        when(loadHighlightsUseCase.loadHighlights(any())).thenReturn(List.of());
-        when(loadUserPort.loadById(any(UserId.class))).thenReturn(testUser);
+        when(reviewCardAssembler.assembleByIds(List.of(100L)))
+                .thenReturn(Map.of(100L, toCard(testReview)));
 
         // When
         FeedPageResult result = feedQueryService.query(query);
@@ -212,11 +195,8 @@ class FeedQueryServiceTest {
 
         when(feedItemPort.loadFeed(any(UserId.class), any(), anyInt()))
                 .thenReturn(List.of(feedItem1));
-        when(loadReviewPort.loadById(100L)).thenReturn(testReview);
-        when(loadBookPort.loadById(1L)).thenReturn(Optional.of(testBook));
-        when(loadKeywordsUseCase.loadKeywords(any())).thenReturn(List.of());
-        when(loadHighlightsUseCase.loadHighlights(any())).thenReturn(List.of());
-        when(loadUserPort.loadById(any(UserId.class))).thenReturn(testUser);
+        when(reviewCardAssembler.assembleByIds(List.of(100L)))
+                .thenReturn(Map.of(100L, toCard(testReview)));
 
         // When
         FeedPageResult result = feedQueryService.query(query);
@@ -227,4 +207,26 @@ class FeedQueryServiceTest {
 
         verify(feedItemPort).loadFeed(any(UserId.class), anyDouble(), anyInt());
     }
+
+    @Test
+    @DisplayName("피드 조회 - 조립되지 않은 리뷰의 항목은 제외")
+    void query_SkipsMissingReviews() {
+        // Given
+        GetFeedQuery query = new GetFeedQuery(1L, null, 10);
+
+        FeedItem feedItem1 = FeedItem.of(1L, new UserId(1L), ReviewId.of(100L), LocalDateTime.now());
+        FeedItem feedItem2 = FeedItem.of(2L, new UserId(1L), ReviewId.of(999L), LocalDateTime.now());
+
+        when(feedItemPort.loadFeed(any(UserId.class), any(), anyInt()))
+                .thenReturn(List.of(feedItem1, feedItem2));
+        when(reviewCardAssembler.assembleByIds(List.of(100L, 999L)))
+                .thenReturn(Map.of(100L, toCard(testReview)));
+
+        // When
+        FeedPageResult result = feedQueryService.query(query);
+
+        // Then
+        assertThat(result.items()).hasSize(1);
+        assertThat(result.items().get(0).feedItemId()).isEqualTo(1L);
+    }
 }
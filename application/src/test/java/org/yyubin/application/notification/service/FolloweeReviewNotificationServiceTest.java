@@ -0,0 +1,92 @@
+package org.yyubin.application.notification.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.yyubin.application.notification.dto.NotificationEventPayload;
+import org.yyubin.application.notification.port.NotificationPublisher;
+import org.yyubin.application.notification.port.NotificationSettingPort;
+import org.yyubin.domain.notification.NotificationSetting;
+import org.yyubin.domain.notification.NotificationType;
+import org.yyubin.domain.user.UserId;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("FolloweeReviewNotificationService 테스트")
+class FolloweeReviewNotificationServiceTest {
+
+    @Mock
+    private NotificationSettingPort notificationSettingPort;
+
+    @Mock
+    private NotificationPublisher notificationPublisher;
+
+    @InjectMocks
+    private FolloweeReviewNotificationService service;
+
+    @Test
+    @DisplayName("청크의 설정을 한 번에 조회하고 알림을 일괄 발행한다")
+    void notifyFollowers_BulkLoadsSettingsAndPublishesOnce() {
+        // Given
+        NotificationSetting disabled = NotificationSetting.defaultFor(new UserId(3L));
+        disabled.disableFolloweeReview();
+        when(notificationSettingPort.loadAll(List.of(2L, 3L, 4L))).thenReturn(Map.of(3L, disabled));
+
+        // When
+        int notified = service.notifyFollowers(1L, 100L, List.of(2L, 3L, 4L));
+
+        // Then
+        assertThat(notified).isEqualTo(2);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<NotificationEventPayload>> payloads = ArgumentCaptor.forClass(List.class);
+        verify(notificationPublisher).publishAll(payloads.capture());
+        assertThat(payloads.getValue()).extracting(NotificationEventPayload::recipientId).containsExactly(2L, 4L);
+        assertThat(payloads.getValue())
+                .allSatisfy(payload -> {
+                    assertThat(payload.type()).isEqualTo(NotificationType.FOLLOWEE_NEW_REVIEW);
+                    assertThat(payload.actorId()).isEqualTo(1L);
+                    assertThat(payload.contentId()).isEqualTo(100L);
+                });
+    }
+
+    @Test
+    @DisplayName("작성자 본인은 알림 대상에서 제외한다")
+    void notifyFollowers_SkipsAuthor() {
+        // When
+        int notified = service.notifyFollowers(1L, 100L, List.of(1L));
+
+        // Then
+        assertThat(notified).isZero();
+        verifyNoInteractions(notificationSettingPort, notificationPublisher);
+    }
+
+    @Test
+    @DisplayName("모두 알림을 끈 청크는 발행하지 않는다")
+    void notifyFollowers_AllDisabled() {
+        // Given
+        NotificationSetting disabled = NotificationSetting.defaultFor(new UserId(2L));
+        disabled.disableFolloweeReview();
+        when(notificationSettingPort.loadAll(any())).thenReturn(Map.of(2L, disabled));
+
+        // When
+        int notified = service.notifyFollowers(1L, 100L, List.of(2L));
+
+        // Then
+        assertThat(notified).isZero();
+        verify(notificationPublisher, never()).publishAll(anyList());
+    }
+}
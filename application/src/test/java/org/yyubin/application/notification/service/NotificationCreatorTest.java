@@ -0,0 +1,96 @@
+package org.yyubin.application.notification.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.groups.Tuple.tuple;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.yyubin.application.notification.dto.NotificationEventPayload;
+import org.yyubin.application.notification.port.NotificationRepository;
+import org.yyubin.application.notification.port.NotificationSettingPort;
+import org.yyubin.domain.notification.Notification;
+import org.yyubin.domain.notification.NotificationSetting;
+import org.yyubin.domain.notification.NotificationType;
+import org.yyubin.domain.user.UserId;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("NotificationCreator 테스트")
+class NotificationCreatorTest {
+
+    @Mock
+    private NotificationRepository notificationRepository;
+
+    @Mock
+    private NotificationSettingPort notificationSettingPort;
+
+    @InjectMocks
+    private NotificationCreator notificationCreator;
+
+    @Test
+    @DisplayName("수신자 설정을 한 번에 조회하고 켜져 있는 알림만 일괄 저장한다")
+    void createAll_FiltersBySettingsAndSavesOnce() {
+        // Given
+        NotificationSetting likesOff = NotificationSetting.of(new UserId(2L), false, true, true);
+        when(notificationSettingPort.loadAll(List.of(1L, 2L))).thenReturn(Map.of(2L, likesOff));
+
+        // When
+        int created = notificationCreator.createAll(List.of(
+                new NotificationEventPayload(1L, NotificationType.LIKE_ON_REVIEW, 9L, 100L, "liked"),
+                new NotificationEventPayload(2L, NotificationType.LIKE_ON_REVIEW, 9L, 100L, "liked"),
+                new NotificationEventPayload(2L, NotificationType.MENTION, 9L, 101L, "mentioned")
+        ));
+
+        // Then
+        assertThat(created).isEqualTo(2);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Notification>> notifications = ArgumentCaptor.forClass(List.class);
+        verify(notificationRepository).saveAll(notifications.capture());
+        assertThat(notifications.getValue())
+                .extracting(notification -> notification.getRecipientId().value(), Notification::getType)
+                .containsExactly(
+                        tuple(1L, NotificationType.LIKE_ON_REVIEW),
+                        tuple(2L, NotificationType.MENTION)
+                );
+    }
+
+    @Test
+    @DisplayName("모두 걸러지면 저장하지 않는다")
+    void createAll_AllFiltered() {
+        // Given
+        NotificationSetting mentionsOff = NotificationSetting.of(new UserId(1L), true, false, true);
+        when(notificationSettingPort.loadAll(List.of(1L))).thenReturn(Map.of(1L, mentionsOff));
+
+        // When
+        int created = notificationCreator.createAll(List.of(
+                new NotificationEventPayload(1L, NotificationType.MENTION, 9L, 100L, "mentioned")
+        ));
+
+        // Then
+        assertThat(created).isZero();
+        verify(notificationRepository, never()).saveAll(anyList());
+    }
+
+    @Test
+    @DisplayName("빈 배치는 아무것도 조회하지 않는다")
+    void createAll_Empty() {
+        // When
+        int created = notificationCreator.createAll(List.of());
+
+        // Then
+        assertThat(created).isZero();
+        verifyNoInteractions(notificationSettingPort, notificationRepository);
+    }
+}
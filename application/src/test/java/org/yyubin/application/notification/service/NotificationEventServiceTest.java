@@ -10,7 +10,6 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.yyubin.application.notification.dto.NotificationEventPayload;
 import org.yyubin.application.notification.port.NotificationPublisher;
 import org.yyubin.application.notification.port.NotificationSettingPort;
-import org.yyubin.domain.notification.Notification;
 import org.yyubin.domain.notification.NotificationSetting;
 import org.yyubin.domain.notification.NotificationType;
 import org.yyubin.domain.user.UserId;
@@ -24,9 +23,6 @@ import static org.mockito.Mockito.*;
 @DisplayName("NotificationEventService 테스트")
 class NotificationEventServiceTest {
 
-    @Mock
-    private NotificationCreator notificationCreator;
-
     @Mock
     private NotificationPublisher notificationPublisher;
 
@@ -37,7 +33,6 @@ class NotificationEventServiceTest {
     private NotificationEventService notificationEventService;
 
     private NotificationEventPayload testPayload;
-    private Notification testNotification;
 
     @BeforeEach
     void setUp() {
@@ -48,14 +43,6 @@ class NotificationEventServiceTest {
                 100L, // reviewId
                 "Someone liked your review"
         );
-
-        testNotification = Notification.create(
-                new UserId(1L),
-                NotificationType.LIKE_ON_REVIEW,
-                2L,
-                100L,
-                "Someone liked your review"
-        );
     }
 
     @Test
@@ -65,14 +52,12 @@ class NotificationEventServiceTest {
         NotificationSetting setting = NotificationSetting.defaultFor(new UserId(1L));
 
         when(notificationSettingPort.load(any(UserId.class))).thenReturn(Optional.of(setting));
-        when(notificationCreator.create(any(NotificationEventPayload.class))).thenReturn(testNotification);
 
         // When
         notificationEventService.handle(testPayload);
 
         // Then
         verify(notificationSettingPort).load(any(UserId.class));
-        verify(notificationCreator).create(testPayload);
         verify(notificationPublisher).publish(testPayload);
     }
 
@@ -81,14 +66,12 @@ class NotificationEventServiceTest {
     void handle_Success_WhenNoSettingExists() {
         // Given
         when(notificationSettingPort.load(any(UserId.class))).thenReturn(Optional.empty());
-        when(notificationCreator.create(any(NotificationEventPayload.class))).thenReturn(testNotification);
 
         // When
         notificationEventService.handle(testPayload);
 
         // Then
         verify(notificationSettingPort).load(any(UserId.class));
-        verify(notificationCreator).create(testPayload);
         verify(notificationPublisher).publish(testPayload);
     }
 
@@ -110,7 +93,6 @@ class NotificationEventServiceTest {
 
         // Then
         verify(notificationSettingPort).load(any(UserId.class));
-        verify(notificationCreator, never()).create(any());
         verify(notificationPublisher, never()).publish(any());
     }
 
@@ -140,7 +122,6 @@ class NotificationEventServiceTest {
 
         // Then
         verify(notificationSettingPort).load(any(UserId.class));
-        verify(notificationCreator, never()).create(any());
         verify(notificationPublisher, never()).publish(any());
     }
 
@@ -170,7 +151,6 @@ class NotificationEventServiceTest {
 
         // Then
         verify(notificationSettingPort).load(any(UserId.class));
-        verify(notificationCreator, never()).create(any());
         verify(notificationPublisher, never()).publish(any());
     }
 
@@ -189,14 +169,12 @@ class NotificationEventServiceTest {
         NotificationSetting setting = NotificationSetting.defaultFor(new UserId(1L));
 
         when(notificationSettingPort.load(any(UserId.class))).thenReturn(Optional.of(setting));
-        when(notificationCreator.create(any(NotificationEventPayload.class))).thenReturn(testNotification);
 
         // When
         notificationEventService.handle(commentPayload);
 
         // Then
         verify(notificationSettingPort).load(any(UserId.class));
-        verify(notificationCreator).create(commentPayload);
         verify(notificationPublisher).publish(commentPayload);
     }
 }
@@ -0,0 +1,144 @@
+package org.yyubin.application.recommendation.usecase;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.yyubin.application.recommendation.port.out.ReviewCircleCachePort;
+import org.yyubin.domain.recommendation.SimilarUser;
+import org.yyubin.domain.recommendation.UserTasteVector;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("FindSimilarUsersUseCase 테스트")
+class FindSimilarUsersUseCaseTest {
+
+    @Mock
+    private ReviewCircleCachePort cachePort;
+
+    @InjectMocks
+    private FindSimilarUsersUseCase useCase;
+
+    @Test
+    @DisplayName("유사도 내림차순으로 상위 사용자를 반환")
+    void execute_SortsBySimilarityDescending() {
+        // Given
+        List<UserTasteVector> vectors = List.of(
+                vector(1L, Map.of("genre:FANTASY", 1.0, "keyword:magic", 1.0)),
+                vector(2L, Map.of("genre:FANTASY", 1.0)),
+                vector(3L, Map.of("genre:FANTASY", 1.0, "keyword:magic", 1.0)),
+                vector(4L, Map.of("genre:ROMANCE", 1.0))
+        );
+
+        // When
+        List<SimilarUser> result = useCase.execute(1L, vectors);
+
+        // Then
+        assertThat(result).extracting(SimilarUser::userId).containsExactly(3L, 2L);
+        assertThat(result.get(0).similarityScore()).isGreaterThan(result.get(1).similarityScore());
+        verify(cachePort).saveSimilarUsers(1L, result);
+    }
+
+    @Test
+    @DisplayName("일괄 계산 결과가 사용자별 전수 비교 결과와 동일")
+    void executeAll_MatchesPerUserExecution() {
+        // Given
+        List<UserTasteVector> vectors = randomVectors(300, 40, 8, 42L);
+        Map<Long, List<SimilarUser>> saved = new ConcurrentHashMap<>();
+        doAnswer(invocation -> {
+            saved.put(invocation.getArgument(0), invocation.getArgument(1));
+            return null;
+        }).when(cachePort).saveSimilarUsers(anyLong(), anyList());
+
+        // When
+        FindSimilarUsersUseCase.BatchResult result = useCase.executeAll(vectors, new ForkJoinPool(4));
+
+        // Then
+        Map<Long, List<SimilarUser>> batchResults = new HashMap<>(saved);
+        saved.clear();
+        for (UserTasteVector vector : vectors) {
+            useCase.execute(vector.userId(), vectors);
+        }
+
+        assertThat(result.processedCount()).isEqualTo(vectors.size());
+        assertThat(result.failureCount()).isZero();
+        assertThat(result.savedCount()).isEqualTo(saved.size());
+        assertThat(batchResults).isEqualTo(saved);
+    }
+
+    @Test
+    @DisplayName("빈 취향 벡터 사용자는 건너뜀")
+    void executeAll_SkipsEmptyVectors() {
+        // Given
+        List<UserTasteVector> vectors = List.of(
+                vector(1L, Map.of()),
+                vector(2L, Map.of("genre:FANTASY", 1.0))
+        );
+
+        // When
+        FindSimilarUsersUseCase.BatchResult result = useCase.executeAll(vectors, new ForkJoinPool(1));
+
+        // Then
+        assertThat(result.processedCount()).isEqualTo(1);
+        assertThat(result.savedCount()).isZero();
+        verify(cachePort, never()).saveSimilarUsers(anyLong(), anyList());
+    }
+
+    @Test
+    @DisplayName("일부 사용자 저장 실패 시 나머지 계속 처리")
+    void executeAll_ContinuesOnSaveFailure() {
+        // Given
+        List<UserTasteVector> vectors = List.of(
+                vector(1L, Map.of("genre:FANTASY", 1.0)),
+                vector(2L, Map.of("genre:FANTASY", 1.0))
+        );
+        doThrow(new RuntimeException("Redis down")).when(cachePort).saveSimilarUsers(eq(1L), anyList());
+
+        // When
+        FindSimilarUsersUseCase.BatchResult result = useCase.executeAll(vectors, new ForkJoinPool(1));
+
+        // Then
+        assertThat(result.processedCount()).isEqualTo(2);
+        assertThat(result.savedCount()).isEqualTo(1);
+        assertThat(result.failureCount()).isEqualTo(1);
+        verify(cachePort).saveSimilarUsers(eq(2L), anyList());
+    }
+
+    private List<UserTasteVector> randomVectors(int users, int features, int featuresPerUser, long seed) {
+        Random random = new Random(seed);
+        List<UserTasteVector> vectors = new ArrayList<>(users);
+        for (long userId = 1; userId <= users; userId++) {
+            Map<String, Double> vector = new HashMap<>();
+            for (int i = 0; i < featuresPerUser; i++) {
+                String prefix = random.nextBoolean() ? "genre:" : "keyword:";
+                // 소수점 한 자리 가중치로 동점 케이스도 함께 검증
+                vector.put(prefix + random.nextInt(features), (random.nextInt(10) + 1) / 10.0);
+            }
+            vectors.add(vector(userId, vector));
+        }
+        return vectors;
+    }
+
+    private UserTasteVector vector(Long userId, Map<String, Double> weights) {
+        return new UserTasteVector(userId, weights, LocalDateTime.now());
+    }
+}
@@ -0,0 +1,314 @@
+package org.yyubin.application.review.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.yyubin.application.review.LoadHighlightsUseCase;
+import org.yyubin.application.review.LoadKeywordsUseCase;
+import org.yyubin.application.review.dto.ReviewResult;
+import org.yyubin.application.review.port.LoadBookPort;
+import org.yyubin.application.review.port.LoadReviewPort;
+import org.yyubin.application.review.port.ReviewCardCachePort;
+import org.yyubin.application.review.port.ReviewViewMetricPort;
+import org.yyubin.application.user.port.LoadUserPort;
+import org.yyubin.domain.book.Book;
+import org.yyubin.domain.book.BookId;
+import org.yyubin.domain.review.BookGenre;
+import org.yyubin.domain.review.Rating;
+import org.yyubin.domain.review.Review;
+import org.yyubin.domain.review.ReviewId;
+import org.yyubin.domain.review.ReviewVisibility;
+import org.yyubin.domain.user.AuthProvider;
+import org.yyubin.domain.user.Role;
+import org.yyubin.domain.user.User;
+import org.yyubin.domain.user.UserId;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ReviewCardAssembler 테스트")
+class ReviewCardAssemblerTest {
+
+    @Mock
+    private LoadReviewPort loadReviewPort;
+
+    @Mock
+    private LoadBookPort loadBookPort;
+
+    @Mock
+    private LoadUserPort loadUserPort;
+
+    @Mock
+    private LoadKeywordsUseCase loadKeywordsUseCase;
+
+    @Mock
+    private LoadHighlightsUseCase loadHighlightsUseCase;
+
+    @Mock
+    private ReviewViewMetricPort reviewViewMetricPort;
+
+    @Mock
+    private ReviewCardCachePort reviewCardCachePort;
+
+    @InjectMocks
+    private ReviewCardAssembler reviewCardAssembler;
+
+    private Book book1;
+    private Book book2;
+    private User user1;
+    private User user2;
+
+    @BeforeEach
+    void setUp() {
+        book1 = createTestBook(1L);
+        book2 = createTestBook(2L);
+        user1 = createTestUser(1L);
+        user2 = createTestUser(2L);
+    }
+
+    @Test
+    @DisplayName("페이지 전체를 배치 조회 한 번씩으로 조립하고 입력 순서를 유지한다")
+    void assembleByIds_BatchesEachPort() {
+        // Given
+        Review review1 = createTestReview(100L, 1L, 1L, 5L);
+        Review review2 = createTestReview(101L, 2L, 2L, 7L);
+        Review review3 = createTestReview(102L, 1L, 1L, 9L);
+
+        when(loadReviewPort.loadByIdsBatch(List.of(102L, 100L, 101L)))
+                .thenReturn(Map.of(100L, review1, 101L, review2, 102L, review3));
+        when(loadBookPort.loadByIdsBatch(List.of(1L, 2L))).thenReturn(Map.of(1L, book1, 2L, book2));
+        when(loadUserPort.loadByIdsBatch(List.of(1L, 2L))).thenReturn(Map.of(1L, user1, 2L, user2));
+        when(loadKeywordsUseCase.loadKeywordsBatch(List.of(102L, 100L, 101L)))
+                .thenReturn(Map.of(100L, List.of("성장")));
+        when(loadHighlightsUseCase.loadHighlightsBatch(List.of(102L, 100L, 101L)))
+                .thenReturn(Map.of(101L, List.of("문장")));
+
+        // When
+        Map<Long, ReviewResult> cards = reviewCardAssembler.assembleByIds(List.of(102L, 100L, 101L));
+
+        // Then
+        assertThat(cards.keySet()).containsExactly(102L, 100L, 101L);
+        assertThat(cards.get(100L).keywords()).containsExactly("성장");
+        assertThat(cards.get(100L).highlights()).isEmpty();
+        assertThat(cards.get(101L).highlights()).containsExactly("문장");
+        assertThat(cards.get(101L).bookId()).isEqualTo(2L);
+        assertThat(cards.get(101L).authorNickname()).isEqualTo("nickname2");
+        assertThat(cards.get(102L).viewCount()).isEqualTo(9L);
+
+        verify(loadReviewPort, never()).loadById(any());
+        verify(loadBookPort, never()).loadById(any());
+        verify(loadUserPort, never()).loadById(any());
+    }
+
+    @Test
+    @DisplayName("리뷰/도서/작성자를 찾을 수 없는 항목은 제외한다")
+    void assembleByIds_SkipsMissing() {
+        // Given
+        Review review1 = createTestReview(100L, 1L, 1L, 0L);
+        Review orphanBook = createTestReview(101L, 1L, 99L, 0L);
+        Review orphanAuthor = createTestReview(102L, 99L, 1L, 0L);
+
+        when(loadReviewPort.loadByIdsBatch(List.of(100L, 101L, 102L, 103L)))
+                .thenReturn(Map.of(100L, review1, 101L, orphanBook, 102L, orphanAuthor));
+        when(loadBookPort.loadByIdsBatch(List.of(1L, 99L))).thenReturn(Map.of(1L, book1));
+        when(loadUserPort.loadByIdsBatch(List.of(1L, 99L))).thenReturn(Map.of(1L, user1));
+
+        // When
+        Map<Long, ReviewResult> cards = reviewCardAssembler.assembleByIds(List.of(100L, 101L, 102L, 103L));
+
+        // Then
+        assertThat(cards.keySet()).containsExactly(100L);
+    }
+
+    @Test
+    @DisplayName("조회수 포함 조립 - 캐시된 조회수를 우선 사용하고 없으면 리뷰 값 사용")
+    void assembleWithViewCounts_PrefersCachedCounts() {
+        // Given
+        Review review1 = createTestReview(100L, 1L, 1L, 5L);
+        Review review2 = createTestReview(101L, 1L, 1L, 7L);
+
+        when(reviewViewMetricPort.getBatchCachedCounts(List.of(100L, 101L))).thenReturn(Map.of(100L, 50L));
+        when(loadBookPort.loadByIdsBatch(List.of(1L))).thenReturn(Map.of(1L, book1));
+        when(loadUserPort.loadByIdsBatch(List.of(1L))).thenReturn(Map.of(1L, user1));
+
+        // When
+        Map<Long, ReviewResult> cards = reviewCardAssembler.assembleWithViewCounts(List.of(review1, review2));
+
+        // Then
+        assertThat(cards.get(100L).viewCount()).isEqualTo(50L);
+        assertThat(cards.get(101L).viewCount()).isEqualTo(7L);
+        verify(reviewViewMetricPort, never()).getCachedCount(any());
+    }
+
+    @Test
+    @DisplayName("빈 페이지는 포트를 호출하지 않는다")
+    void assemble_EmptyPage() {
+        assertThat(reviewCardAssembler.assembleByIds(List.of())).isEmpty();
+        assertThat(reviewCardAssembler.assembleWithViewCounts(List.of())).isEmpty();
+
+        verifyNoInteractions(loadReviewPort, loadBookPort, loadUserPort, reviewViewMetricPort, reviewCardCachePort);
+        verify(loadKeywordsUseCase, never()).loadKeywordsBatch(anyList());
+    }
+
+    @Test
+    @DisplayName("캐시 미스로 조립한 카드는 캐시에 저장한다")
+    void assembleByIds_CachesBuiltCards() {
+        // Given
+        Review review1 = createTestReview(100L, 1L, 1L, 0L);
+
+        when(loadReviewPort.loadByIdsBatch(List.of(100L))).thenReturn(Map.of(100L, review1));
+        when(loadBookPort.loadByIdsBatch(List.of(1L))).thenReturn(Map.of(1L, book1));
+        when(loadUserPort.loadByIdsBatch(List.of(1L))).thenReturn(Map.of(1L, user1));
+
+        // When
+        Map<Long, ReviewResult> cards = reviewCardAssembler.assembleByIds(List.of(100L));
+
+        // Then
+        verify(reviewCardCachePort).putAll(argThat(saved -> saved.size() == 1 && saved.contains(cards.get(100L))));
+    }
+
+    @Test
+    @DisplayName("캐시된 카드는 다시 조회하지 않고 미스만 조립해 입력 순서대로 합친다")
+    void assembleByIds_UsesCachedCards() {
+        // Given
+        Review review2 = createTestReview(101L, 2L, 2L, 0L);
+        ReviewResult cached = ReviewResult.from(createTestReview(100L, 1L, 1L, 3L), book1, user1, List.of(), List.of());
+
+        when(reviewCardCachePort.getAll(List.of(101L, 100L))).thenReturn(Map.of(100L, cached));
+        when(loadReviewPort.loadByIdsBatch(List.of(101L, 100L)))
+                .thenReturn(Map.of(101L, review2, 100L, createTestReview(100L, 1L, 1L, 3L)));
+        when(loadBookPort.loadByIdsBatch(List.of(2L))).thenReturn(Map.of(2L, book2));
+        when(loadUserPort.loadByIdsBatch(List.of(2L))).thenReturn(Map.of(2L, user2));
+
+        // When
+        Map<Long, ReviewResult> cards = reviewCardAssembler.assembleByIds(List.of(101L, 100L));
+
+        // Then
+        assertThat(cards.keySet()).containsExactly(101L, 100L);
+        assertThat(cards.get(100L)).isSameAs(cached);
+        verify(loadKeywordsUseCase).loadKeywordsBatch(List.of(101L));
+    }
+
+    @Test
+    @DisplayName("모두 캐시에 있으면 리뷰 행만 확인하고 도서/작성자는 조회하지 않는다")
+    void assembleByIds_AllCached() {
+        // Given
+        Review review1 = createTestReview(100L, 1L, 1L, 0L);
+        ReviewResult cached = ReviewResult.from(review1, book1, user1, List.of(), List.of());
+        when(loadReviewPort.loadByIdsBatch(List.of(100L))).thenReturn(Map.of(100L, review1));
+        when(reviewCardCachePort.getAll(List.of(100L))).thenReturn(Map.of(100L, cached));
+
+        // When
+        Map<Long, ReviewResult> cards = reviewCardAssembler.assembleByIds(List.of(100L));
+
+        // Then
+        assertThat(cards).containsEntry(100L, cached);
+        verifyNoInteractions(loadBookPort, loadUserPort, loadKeywordsUseCase, loadHighlightsUseCase);
+        verify(reviewCardCachePort, never()).putAll(any());
+    }
+
+    @Test
+    @DisplayName("삭제되거나 비공개로 바뀐 리뷰의 캐시 카드는 버리고 리뷰 행으로 다시 조립한다")
+    void assembleByIds_DiscardsStaleCachedCards() {
+        // Given
+        Review deleted = createTestReview(100L, 1L, 1L, 0L).markDeleted();
+        Review madePrivate = createTestReview(101L, 1L, 1L, 0L).updateVisibility(ReviewVisibility.PRIVATE);
+        ReviewResult staleDeleted = ReviewResult.from(createTestReview(100L, 1L, 1L, 0L), book1, user1, List.of(), List.of());
+        ReviewResult stalePublic = ReviewResult.from(createTestReview(101L, 1L, 1L, 0L), book1, user1, List.of(), List.of());
+
+        when(loadReviewPort.loadByIdsBatch(List.of(100L, 101L))).thenReturn(Map.of(100L, deleted, 101L, madePrivate));
+        when(reviewCardCachePort.getAll(List.of(100L, 101L))).thenReturn(Map.of(100L, staleDeleted, 101L, stalePublic));
+        when(loadBookPort.loadByIdsBatch(List.of(1L))).thenReturn(Map.of(1L, book1));
+        when(loadUserPort.loadByIdsBatch(List.of(1L))).thenReturn(Map.of(1L, user1));
+
+        // When
+        Map<Long, ReviewResult> cards = reviewCardAssembler.assembleByIds(List.of(100L, 101L));
+
+        // Then
+        assertThat(cards.get(100L).deleted()).isTrue();
+        assertThat(cards.get(101L).visibility()).isEqualTo(ReviewVisibility.PRIVATE);
+        verify(reviewCardCachePort).putAll(argThat(saved -> saved.size() == 2));
+    }
+
+    @Test
+    @DisplayName("조회수 포함 조립 - 캐시된 카드의 조회수는 최신 값으로 덧씌운다")
+    void assembleWithViewCounts_OverlaysCachedCard() {
+        // Given
+        Review review1 = createTestReview(100L, 1L, 1L, 8L);
+        ReviewResult cached = ReviewResult.from(createTestReview(100L, 1L, 1L, 3L), book1, user1, List.of(), List.of());
+
+        when(reviewCardCachePort.getAll(List.of(100L))).thenReturn(Map.of(100L, cached));
+        when(reviewViewMetricPort.getBatchCachedCounts(List.of(100L))).thenReturn(Map.of());
+
+        // When
+        Map<Long, ReviewResult> cards = reviewCardAssembler.assembleWithViewCounts(List.of(review1));
+
+        // Then
+        assertThat(cards.get(100L).viewCount()).isEqualTo(8L);
+        assertThat(cards.get(100L).content()).isEqualTo(cached.content());
+    }
+
+    private User createTestUser(Long userId) {
+        return new User(
+                new UserId(userId),
+                "user" + userId + "@test.com",
+                "user" + userId,
+                "password123",
+                "nickname" + userId,
+                "bio",
+                "",
+                Role.USER,
+                AuthProvider.LOCAL,
+                null,
+                LocalDateTime.now()
+        );
+    }
+
+    private Book createTestBook(Long bookId) {
+        Book book = Book.create(
+                "Clean Code",
+                List.of("Robert C. Martin"),
+                "0132350882",
+                "9780132350884",
+                "http://example.com/cover.jpg",
+                "Prentice Hall",
+                "2008-08-01",
+                "A Handbook of Agile Software Craftsmanship",
+                "en",
+                464,
+                "google-volume-id-123"
+        );
+        return Book.of(BookId.of(bookId), book.getMetadata());
+    }
+
+    private Review createTestReview(Long reviewId, Long userId, Long bookId, long viewCount) {
+        return Review.of(
+                ReviewId.of(reviewId),
+                new UserId(userId),
+                BookId.of(bookId),
+                Rating.of(5),
+                "Great book!",
+                LocalDateTime.now(),
+                ReviewVisibility.PUBLIC,
+                false,
+                viewCount,
+                BookGenre.ESSAY,
+                List.of()
+        );
+    }
+}
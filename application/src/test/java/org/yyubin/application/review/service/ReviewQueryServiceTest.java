@@ -7,12 +7,12 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.yyubin.application.event.DeliveryClass;
 import org.yyubin.application.event.EventPublisher;
-import org.yyubin.application.review.LoadHighlightsUseCase;
-import org.yyubin.application.review.LoadKeywordsUseCase;
+import org.yyubin.application.event.EventTopics;
 import org.yyubin.application.review.dto.PagedReviewResult;
 import org.yyubin.application.review.dto.ReviewResult;
-import org.yyubin.application.review.port.LoadBookPort;
+import org.yyubin.application.review.exception.ReviewNotFoundException;
 import org.yyubin.application.review.port.LoadReviewPort;
 import org.yyubin.application.review.port.ReviewViewMetricPort;
 import org.yyubin.application.review.query.GetReviewQuery;
@@ -21,7 +21,6 @@ import org.yyubin.application.bookmark.port.ReviewBookmarkRepository;
 import org.yyubin.application.review.port.ReviewExistencePort;
 import org.yyubin.application.review.port.ReviewLikePort;
 import org.yyubin.application.review.port.ReviewReactionPort;
-import org.yyubin.application.user.port.LoadUserPort;
 import org.yyubin.domain.book.Book;
 import org.yyubin.domain.book.BookId;
 import org.yyubin.domain.review.*;
@@ -31,7 +30,9 @@ import org.yyubin.domain.user.User;
 import org.yyubin.domain.user.UserId;
 
 import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -46,15 +47,6 @@ class ReviewQueryServiceTest {
     @Mock
     private LoadReviewPort loadReviewPort;
 
-    @Mock
-    private LoadBookPort loadBookPort;
-
-    @Mock
-    private LoadKeywordsUseCase loadKeywordsUseCase;
-
-    @Mock
-    private LoadHighlightsUseCase loadHighlightsUseCase;
-
     @Mock
     private ReviewViewMetricPort reviewViewMetricPort;
 
@@ -74,10 +66,10 @@ class ReviewQueryServiceTest {
     private ReviewBookmarkRepository reviewBookmarkRepository;
 
     @Mock
-    private LoadUserPort loadUserPort;
+    private ReviewLikePort reviewLikePort;
 
     @Mock
-    private ReviewLikePort reviewLikePort;
+    private ReviewCardAssembler reviewCardAssembler;
 
     @InjectMocks
     private ReviewQueryService reviewQueryService;
@@ -142,6 +134,14 @@ class ReviewQueryServiceTest {
         return Book.of(BookId.of(bookId), book.getMetadata());
     }
 
+    private Map<Long, ReviewResult> cards(Review... reviews) {
+        Map<Long, ReviewResult> cards = new LinkedHashMap<>();
+        for (Review review : reviews) {
+            cards.put(review.getId().getValue(), ReviewResult.from(review, testBook, testUser, List.of(), List.of()));
+        }
+        return cards;
+    }
+
     @Test
     @DisplayName("리뷰 조회 성공 - 공개 리뷰")
     void query_Success_PublicReview() {
@@ -149,12 +149,9 @@ class ReviewQueryServiceTest {
         GetReviewQuery query = new GetReviewQuery(100L, 2L);
 
         when(loadReviewPort.loadById(100L)).thenReturn(testReview);
-        when(loadBookPort.loadById(1L)).thenReturn(Optional.of(testBook));
-        when(loadKeywordsUseCase.loadKeywords(any(ReviewId.class))).thenReturn(List.of());
-        when(loadHighlightsUseCase.loadHighlights(any(ReviewId.class))).thenReturn(List.of());
+        when(reviewCardAssembler.assemble(List.of(testReview))).thenReturn(cards(testReview));
         when(reviewViewMetricPort.incrementAndGet(100L, 2L)).thenReturn(101L);
         when(reviewViewMetricPort.getCachedCount(100L)).thenReturn(Optional.of(101L));
-        when(loadUserPort.loadById(any(UserId.class))).thenReturn(testUser);
         when(reviewBookmarkRepository.exists(any(UserId.class), any(ReviewId.class))).thenReturn(false);
         when(reviewReactionPort.countByReviewIdGroupByContent(anyLong())).thenReturn(List.of());
         when(reviewReactionPort.loadByReviewIdAndUserId(anyLong(), anyLong())).thenReturn(Optional.empty());
@@ -169,9 +166,9 @@ class ReviewQueryServiceTest {
         assertThat(result.reviewId()).isEqualTo(100L);
 
         verify(loadReviewPort).loadById(100L);
-        verify(loadBookPort).loadById(1L);
+        verify(reviewCardAssembler).assemble(List.of(testReview));
         verify(reviewViewMetricPort).incrementAndGet(100L, 2L);
-        verify(eventPublisher).publish(anyString(), anyString(), any());
+        verify(eventPublisher).publish(eq(EventTopics.REVIEW), anyString(), any(), eq(DeliveryClass.BEST_EFFORT));
     }
 
     @Test
@@ -181,12 +178,9 @@ class ReviewQueryServiceTest {
         GetReviewQuery query = new GetReviewQuery(100L, null);
 
         when(loadReviewPort.loadById(100L)).thenReturn(testReview);
-        when(loadBookPort.loadById(1L)).thenReturn(Optional.of(testBook));
-        when(loadKeywordsUseCase.loadKeywords(any(ReviewId.class))).thenReturn(List.of());
-        when(loadHighlightsUseCase.loadHighlights(any(ReviewId.class))).thenReturn(List.of());
+        when(reviewCardAssembler.assemble(List.of(testReview))).thenReturn(cards(testReview));
         when(reviewViewMetricPort.incrementAndGet(100L, null)).thenReturn(101L);
         when(reviewViewMetricPort.getCachedCount(100L)).thenReturn(Optional.of(150L));
-        when(loadUserPort.loadById(any(UserId.class))).thenReturn(testUser);
         when(reviewReactionPort.countByReviewIdGroupByContent(anyLong())).thenReturn(List.of());
         when(reviewLikePort.countByReviewId(any(ReviewId.class))).thenReturn(0L);
 
@@ -195,9 +189,28 @@ class ReviewQueryServiceTest {
 
         // Then
         assertThat(result).isNotNull();
+        assertThat(result.viewCount()).isEqualTo(150L);
         verify(reviewViewMetricPort).getCachedCount(100L);
     }
 
+    @Test
+    @DisplayName("리뷰 조회 실패 - 도서나 작성자를 찾을 수 없어 카드를 조립하지 못함")
+    void query_Fail_CardNotAssembled() {
+        // Given
+        GetReviewQuery query = new GetReviewQuery(100L, 2L);
+
+        when(loadReviewPort.loadById(100L)).thenReturn(testReview);
+        when(reviewCardAssembler.assemble(List.of(testReview))).thenReturn(Map.of());
+
+        // When & Then
+        assertThatThrownBy(() -> reviewQueryService.query(query))
+                .isInstanceOf(ReviewNotFoundException.class)
+                .hasMessageContaining("Book or author not found for review: 100");
+
+        verify(reviewViewMetricPort, never()).incrementAndGet(anyLong(), anyLong());
+        verify(eventPublisher, never()).publish(anyString(), anyString(), any(), any());
+    }
+
     @Test
     @DisplayName("리뷰 조회 성공 - 비공개 리뷰, 작성자가 조회")
     void query_Success_PrivateReview_ByAuthor() {
@@ -206,12 +219,9 @@ class ReviewQueryServiceTest {
         GetReviewQuery query = new GetReviewQuery(100L, 1L);
 
         when(loadReviewPort.loadById(100L)).thenReturn(privateReview);
-        when(loadBookPort.loadById(1L)).thenReturn(Optional.of(testBook));
-        when(loadKeywordsUseCase.loadKeywords(any(ReviewId.class))).thenReturn(List.of());
-        when(loadHighlightsUseCase.loadHighlights(any(ReviewId.class))).thenReturn(List.of());
+        when(reviewCardAssembler.assemble(List.of(privateReview))).thenReturn(cards(privateReview));
         when(reviewViewMetricPort.incrementAndGet(100L, 1L)).thenReturn(101L);
         when(reviewViewMetricPort.getCachedCount(100L)).thenReturn(Optional.of(101L));
-        when(loadUserPort.loadById(any(UserId.class))).thenReturn(testUser);
         when(reviewBookmarkRepository.exists(any(UserId.class), any(ReviewId.class))).thenReturn(false);
         when(reviewReactionPort.countByReviewIdGroupByContent(anyLong())).thenReturn(List.of());
         when(reviewReactionPort.loadByReviewIdAndUserId(anyLong(), anyLong())).thenReturn(Optional.empty());
@@ -241,7 +251,7 @@ class ReviewQueryServiceTest {
                 .hasMessageContaining("Review not found");
 
         verify(loadReviewPort).loadById(100L);
-        verify(loadBookPort, never()).loadById(anyLong());
+        verify(reviewCardAssembler, never()).assemble(anyList());
     }
 
     @Test
@@ -259,7 +269,7 @@ class ReviewQueryServiceTest {
                 .hasMessageContaining("Review not found");
 
         verify(loadReviewPort).loadById(100L);
-        verify(loadBookPort, never()).loadById(anyLong());
+        verify(reviewCardAssembler, never()).assemble(anyList());
     }
 
     @Test
@@ -277,7 +287,7 @@ class ReviewQueryServiceTest {
                 .hasMessageContaining("Review not found");
 
         verify(loadReviewPort).loadById(100L);
-        verify(loadBookPort, never()).loadById(anyLong());
+        verify(reviewCardAssembler, never()).assemble(anyList());
     }
 
     @Test
@@ -290,23 +300,17 @@ class ReviewQueryServiceTest {
         Review review2 = createTestReview(101L, 1L, 2L, false, ReviewVisibility.PUBLIC);
         Review review3 = createTestReview(102L, 1L, 3L, false, ReviewVisibility.PUBLIC);
 
-        Book book2 = createTestBook(2L);
-        Book book3 = createTestBook(3L);
-
         when(loadReviewPort.loadByUserId(1L, null, null, 3))
                 .thenReturn(List.of(review1, review2, review3));
-        when(loadBookPort.loadById(1L)).thenReturn(Optional.of(testBook));
-        when(loadBookPort.loadById(2L)).thenReturn(Optional.of(book2));
-        when(loadKeywordsUseCase.loadKeywords(any(ReviewId.class))).thenReturn(List.of());
-        when(loadHighlightsUseCase.loadHighlights(any(ReviewId.class))).thenReturn(List.of());
-        when(reviewViewMetricPort.getCachedCount(anyLong())).thenReturn(Optional.empty());
-        when(loadUserPort.loadById(any(UserId.class))).thenReturn(testUser);
+        when(reviewCardAssembler.assembleWithViewCounts(List.of(review1, review2)))
+                .thenReturn(cards(review1, review2));
 
         // When
         PagedReviewResult result = reviewQueryService.query(query);
 
         // Then
         assertThat(result.reviews()).hasSize(2);
+        assertThat(result.reviews()).extracting(ReviewResult::reviewId).containsExactly(100L, 101L);
         assertThat(result.nextCursor()).isEqualTo(102L);
 
         verify(loadReviewPort).loadByUserId(1L, null, null, 3);
@@ -322,11 +326,8 @@ class ReviewQueryServiceTest {
 
         when(loadReviewPort.loadByUserId(1L, null, null, 11))
                 .thenReturn(List.of(review1));
-        when(loadBookPort.loadById(1L)).thenReturn(Optional.of(testBook));
-        when(loadKeywordsUseCase.loadKeywords(any(ReviewId.class))).thenReturn(List.of());
-        when(loadHighlightsUseCase.loadHighlights(any(ReviewId.class))).thenReturn(List.of());
-        when(reviewViewMetricPort.getCachedCount(anyLong())).thenReturn(Optional.empty());
-        when(loadUserPort.loadById(any(UserId.class))).thenReturn(testUser);
+        when(reviewCardAssembler.assembleWithViewCounts(List.of(review1)))
+                .thenReturn(cards(review1));
 
         // When
         PagedReviewResult result = reviewQueryService.query(query);
@@ -367,11 +368,8 @@ class ReviewQueryServiceTest {
 
         when(loadReviewPort.loadByUserId(1L, null, 99L, 6))
                 .thenReturn(List.of(review1));
-        when(loadBookPort.loadById(1L)).thenReturn(Optional.of(testBook));
-        when(loadKeywordsUseCase.loadKeywords(any(ReviewId.class))).thenReturn(List.of());
-        when(loadHighlightsUseCase.loadHighlights(any(ReviewId.class))).thenReturn(List.of());
-        when(reviewViewMetricPort.getCachedCount(anyLong())).thenReturn(Optional.empty());
-        when(loadUserPort.loadById(any(UserId.class))).thenReturn(testUser);
+        when(reviewCardAssembler.assembleWithViewCounts(List.of(review1)))
+                .thenReturn(cards(review1));
 
         // When
         PagedReviewResult result = reviewQueryService.query(query);
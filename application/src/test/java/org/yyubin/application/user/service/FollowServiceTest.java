@@ -7,6 +7,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.yyubin.application.feed.port.FeedTimelinePort;
 import org.yyubin.application.user.command.ToggleFollowCommand;
 import org.yyubin.application.user.dto.ToggleFollowResult;
 import org.yyubin.application.user.port.FollowPort;
@@ -32,6 +33,9 @@ class FollowServiceTest {
     @Mock
     private LoadUserPort loadUserPort;
 
+    @Mock
+    private FeedTimelinePort feedTimelinePort;
+
     @InjectMocks
     private FollowService followService;
 
@@ -91,6 +95,7 @@ class FollowServiceTest {
         verify(followPort).exists(1L, 2L);
         verify(followPort).create(1L, 2L);
         verify(followPort, never()).delete(anyLong(), anyLong());
+        verify(feedTimelinePort).invalidate(1L);
     }
 
     @Test
@@ -115,6 +120,7 @@ class FollowServiceTest {
         verify(followPort).exists(1L, 2L);
         verify(followPort).delete(1L, 2L);
         verify(followPort, never()).create(anyLong(), anyLong());
+        verify(feedTimelinePort).invalidate(1L);
     }
 
     @Test
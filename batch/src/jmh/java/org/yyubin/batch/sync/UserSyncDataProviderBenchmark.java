@@ -0,0 +1,356 @@
+package org.yyubin.batch.sync;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.yyubin.infrastructure.persistence.book.BookEntity;
+import org.yyubin.infrastructure.persistence.review.ReviewEntity;
+import org.yyubin.infrastructure.persistence.review.ReviewJpaRepository;
+import org.yyubin.infrastructure.persistence.review.ReviewJpaRepository.UserBookReviewAggregate;
+import org.yyubin.infrastructure.persistence.review.reaction.ReviewReactionEntity;
+import org.yyubin.infrastructure.persistence.review.reaction.ReviewReactionJpaRepository;
+import org.yyubin.infrastructure.persistence.review.reaction.ReviewReactionJpaRepository.UserReactionEdge;
+import org.yyubin.infrastructure.persistence.user.UserEntity;
+import org.yyubin.infrastructure.persistence.wishlist.WishlistEntity;
+import org.yyubin.infrastructure.persistence.wishlist.WishlistJpaRepository;
+import org.yyubin.infrastructure.persistence.wishlist.WishlistJpaRepository.UserWishlistEdge;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 사용자 그래프 동기화 데이터 벤치마크 (사용자 1,000 명의 관계 조회)
+ * - perUser: 사용자마다 buildSyncData (리뷰/위시리스트/반응 + 좋아요 리뷰 findAllById)
+ * - perChunk: chunkSize 명씩 buildSyncDataBatch (관계별 projection 쿼리 1개씩)
+ *
+ * 저장소는 메모리 구현(동적 프록시)이며, 쿼리마다 dbRoundTripMicros 만큼 지연을 넣어 DB 왕복을 흉내 냄
+ * queries 보조 카운터는 1,000 명당 저장소 호출 수입니다.
+ * 합성 데이터: 사용자당 리뷰 0~20개, 위시리스트 0~10개, 반응 0~5개 (반응이 없는 사용자는 findAllById 생략)
+ * 실행: ./gradlew :batch:jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+public class UserSyncDataProviderBenchmark {
+
+    private static final int USERS = 1_000;
+    private static final int BOOKS = 50_000;
+
+    @Param({"100", "1000"})
+    public int chunkSize;
+
+    @Param({"0", "500"})
+    public int dbRoundTripMicros;
+
+    private List<UserEntity> users;
+    private FakeRepositories repositories;
+    private UserSyncDataProvider provider;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Queries {
+        public long queries;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            queries = 0;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(20240101L);
+        LocalDateTime base = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+        users = new ArrayList<>(USERS);
+        repositories = new FakeRepositories(dbRoundTripMicros);
+        long reviewId = 1;
+        for (long userId = 1; userId <= USERS; userId++) {
+            users.add(UserEntity.builder()
+                    .id(userId)
+                    .username("user" + userId)
+                    .email("user" + userId + "@example.com")
+                    .createdAt(base)
+                    .build());
+
+            int reviewCount = random.nextInt(21);
+            for (int i = 0; i < reviewCount; i++) {
+                repositories.addReview(ReviewEntity.builder()
+                        .id(reviewId++)
+                        .userId(userId)
+                        .bookId(1L + random.nextInt(BOOKS))
+                        .createdAt(base.plusMinutes(random.nextInt(500_000)))
+                        .viewCount((long) random.nextInt(1_000))
+                        .build());
+            }
+
+            int wishlistCount = random.nextInt(11);
+            for (int i = 0; i < wishlistCount; i++) {
+                repositories.addWishlist(userId, WishlistEntity.builder()
+                        .book(BookEntity.builder().id(1L + random.nextInt(BOOKS)).build())
+                        .createdAt(base.plusMinutes(random.nextInt(500_000)))
+                        .build());
+            }
+        }
+
+        // 반응은 리뷰가 모두 만들어진 뒤 임의의 리뷰에 남김
+        for (long userId = 1; userId <= USERS; userId++) {
+            int reactionCount = random.nextInt(6);
+            for (int i = 0; i < reactionCount; i++) {
+                repositories.addReaction(ReviewReactionEntity.builder()
+                        .reviewId(1L + random.nextLong(reviewId - 1))
+                        .userId(userId)
+                        .createdAt(base.plusMinutes(random.nextInt(500_000)))
+                        .build());
+            }
+        }
+
+        provider = new UserSyncDataProvider(
+                repositories.proxy(ReviewJpaRepository.class),
+                repositories.proxy(WishlistJpaRepository.class),
+                repositories.proxy(ReviewReactionJpaRepository.class));
+    }
+
+    @Benchmark
+    public void perUser(Queries queries, Blackhole blackhole) {
+        long before = repositories.calls;
+        for (UserEntity user : users) {
+            blackhole.consume(provider.buildSyncData(user));
+        }
+        queries.queries = repositories.calls - before;
+    }
+
+    @Benchmark
+    public void perChunk(Queries queries, Blackhole blackhole) {
+        long before = repositories.calls;
+        for (int from = 0; from < USERS; from += chunkSize) {
+            blackhole.consume(provider.buildSyncDataBatch(users.subList(from, Math.min(USERS, from + chunkSize))));
+        }
+        queries.queries = repositories.calls - before;
+    }
+
+    /**
+     * 벤치마크에 쓰이는 저장소 메서드만 메모리로 구현 (그 외 호출은 UnsupportedOperationException)
+     */
+    private static final class FakeRepositories {
+
+        private final long roundTripNanos;
+        private final Map<Long, List<ReviewEntity>> reviewsByUser = new HashMap<>();
+        private final Map<Long, ReviewEntity> reviewsById = new HashMap<>();
+        private final Map<Long, List<WishlistEntity>> wishlistsByUser = new HashMap<>();
+        private final Map<Long, List<ReviewReactionEntity>> reactionsByUser = new HashMap<>();
+        private long calls;
+
+        private FakeRepositories(int roundTripMicros) {
+            this.roundTripNanos = TimeUnit.MICROSECONDS.toNanos(roundTripMicros);
+        }
+
+        void addReview(ReviewEntity review) {
+            reviewsByUser.computeIfAbsent(review.getUserId(), ignored -> new ArrayList<>()).add(review);
+            reviewsById.put(review.getId(), review);
+        }
+
+        void addWishlist(Long userId, WishlistEntity wishlist) {
+            wishlistsByUser.computeIfAbsent(userId, ignored -> new ArrayList<>()).add(wishlist);
+        }
+
+        void addReaction(ReviewReactionEntity reaction) {
+            reactionsByUser.computeIfAbsent(reaction.getUserId(), ignored -> new ArrayList<>()).add(reaction);
+        }
+
+        <T> T proxy(Class<T> repositoryType) {
+            return repositoryType.cast(Proxy.newProxyInstance(
+                    repositoryType.getClassLoader(),
+                    new Class<?>[]{repositoryType},
+                    (proxy, method, args) -> invoke(repositoryType, method, args)));
+        }
+
+        @SuppressWarnings("unchecked")
+        private Object invoke(Class<?> repositoryType, Method method, Object[] args) {
+            if (method.getDeclaringClass() == Object.class) {
+                return switch (method.getName()) {
+                    case "hashCode" -> System.identityHashCode(this);
+                    case "equals" -> args[0] == this;
+                    default -> repositoryType.getSimpleName();
+                };
+            }
+
+            roundTrip();
+            String name = method.getName();
+            if (repositoryType == ReviewJpaRepository.class) {
+                return switch (name) {
+                    case "findByUserId" -> reviewsByUser.getOrDefault((Long) args[0], List.of());
+                    case "findAllById" -> findReviewsById((Iterable<Long>) args[0]);
+                    case "aggregateByUserIdsGroupByBook" -> aggregateReviews((List<Long>) args[0]);
+                    default -> throw new UnsupportedOperationException(name);
+                };
+            }
+            if (repositoryType == WishlistJpaRepository.class) {
+                return switch (name) {
+                    case "findByUserId" -> wishlistsByUser.getOrDefault((Long) args[0], List.of());
+                    case "findEdgesByUserIds" -> wishlistEdges((List<Long>) args[0]);
+                    default -> throw new UnsupportedOperationException(name);
+                };
+            }
+            return switch (name) {
+                case "findByUserId" -> reactionsByUser.getOrDefault((Long) args[0], List.of());
+                case "findEdgesByUserIds" -> reactionEdges((List<Long>) args[0]);
+                default -> throw new UnsupportedOperationException(name);
+            };
+        }
+
+        private List<ReviewEntity> findReviewsById(Iterable<Long> ids) {
+            List<ReviewEntity> found = new ArrayList<>();
+            for (Long id : ids) {
+                ReviewEntity review = reviewsById.get(id);
+                if (review != null) {
+                    found.add(review);
+                }
+            }
+            return found;
+        }
+
+        /**
+         * GROUP BY user_id, book_id 와 같은 결과 (MIN/MAX created_at, SUM view_count)
+         */
+        private List<UserBookReviewAggregate> aggregateReviews(List<Long> userIds) {
+            List<UserBookReviewAggregate> rows = new ArrayList<>();
+            for (Long userId : userIds) {
+                Map<Long, ViewedRow> byBook = new HashMap<>();
+                for (ReviewEntity review : reviewsByUser.getOrDefault(userId, List.of())) {
+                    byBook.merge(review.getBookId(),
+                            new ViewedRow(userId, review.getBookId(), review.getCreatedAt(), review.getCreatedAt(), review.getViewCount()),
+                            ViewedRow::merge);
+                }
+                rows.addAll(byBook.values());
+            }
+            return rows;
+        }
+
+        private List<UserWishlistEdge> wishlistEdges(List<Long> userIds) {
+            List<UserWishlistEdge> rows = new ArrayList<>();
+            for (Long userId : userIds) {
+                for (WishlistEntity wishlist : wishlistsByUser.getOrDefault(userId, List.of())) {
+                    rows.add(new WishlistRow(userId, wishlist.getBook().getId(), wishlist.getCreatedAt()));
+                }
+            }
+            return rows;
+        }
+
+        private List<UserReactionEdge> reactionEdges(List<Long> userIds) {
+            List<UserReactionEdge> rows = new ArrayList<>();
+            for (Long userId : userIds) {
+                for (ReviewReactionEntity reaction : reactionsByUser.getOrDefault(userId, List.of())) {
+                    ReviewEntity review = reviewsById.get(reaction.getReviewId());
+                    rows.add(new ReactionRow(userId, reaction.getReviewId(), review.getBookId(), reaction.getCreatedAt()));
+                }
+            }
+            return rows;
+        }
+
+        private void roundTrip() {
+            calls++;
+            if (roundTripNanos > 0) {
+                LockSupport.parkNanos(roundTripNanos);
+            }
+        }
+    }
+
+    private record ViewedRow(Long userId, Long bookId, LocalDateTime first, LocalDateTime last, Long views)
+            implements UserBookReviewAggregate {
+
+        ViewedRow merge(ViewedRow other) {
+            return new ViewedRow(userId, bookId,
+                    first.isBefore(other.first) ? first : other.first,
+                    last.isAfter(other.last) ? last : other.last,
+                    views + other.views);
+        }
+
+        @Override
+        public Long getUserId() {
+            return userId;
+        }
+
+        @Override
+        public Long getBookId() {
+            return bookId;
+        }
+
+        @Override
+        public LocalDateTime getFirstCreatedAt() {
+            return first;
+        }
+
+        @Override
+        public LocalDateTime getLastCreatedAt() {
+            return last;
+        }
+
+        @Override
+        public Long getViewCount() {
+            return views;
+        }
+    }
+
+    private record WishlistRow(Long userId, Long bookId, LocalDateTime createdAt) implements UserWishlistEdge {
+
+        @Override
+        public Long getUserId() {
+            return userId;
+        }
+
+        @Override
+        public Long getBookId() {
+            return bookId;
+        }
+
+        @Override
+        public LocalDateTime getCreatedAt() {
+            return createdAt;
+        }
+    }
+
+    private record ReactionRow(Long userId, Long reviewId, Long bookId, LocalDateTime createdAt)
+            implements UserReactionEdge {
+
+        @Override
+        public Long getUserId() {
+            return userId;
+        }
+
+        @Override
+        public Long getReviewId() {
+            return reviewId;
+        }
+
+        @Override
+        public Long getBookId() {
+            return bookId;
+        }
+
+        @Override
+        public LocalDateTime getCreatedAt() {
+            return createdAt;
+        }
+    }
+}
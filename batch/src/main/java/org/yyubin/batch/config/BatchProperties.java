@@ -24,6 +24,24 @@ public class BatchProperties {
         public static class Neo4j {
             private int chunkSize = 100;
             private int pageSize = 1000;
+
+            /**
+             * 스텝별 쓰기 방식 (기본 BULK)
+             */
+            private WriteMode bookWriteMode = WriteMode.BULK;
+            private WriteMode userWriteMode = WriteMode.BULK;
+            private WriteMode reviewWriteMode = WriteMode.BULK;
+
+            public enum WriteMode {
+                /**
+                 * Spring Data Neo4j 엔티티 저장 (엔티티마다 관계 전체를 비교/재작성)
+                 */
+                ENTITY,
+                /**
+                 * 청크를 노드/관계 유형별 UNWIND 구문 하나씩으로 저장
+                 */
+                BULK
+            }
         }
 
         @Getter
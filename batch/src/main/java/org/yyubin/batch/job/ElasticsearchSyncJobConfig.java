@@ -3,6 +3,7 @@ package org.yyubin.batch.job;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeParseException;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -30,6 +31,8 @@ import org.yyubin.recommendation.port.SearchReviewPort;
 import org.yyubin.batch.service.BatchBookSyncService;
 import org.yyubin.batch.service.BatchReviewSyncService;
 import org.yyubin.batch.sync.BookSyncDto;
+import org.yyubin.batch.sync.ReviewEngagementStats;
+import org.yyubin.batch.sync.ReviewEngagementStatsProvider;
 import org.yyubin.batch.sync.ReviewSyncDto;
 import org.yyubin.infrastructure.persistence.book.BookEntity;
 import org.yyubin.infrastructure.persistence.book.BookJpaRepository;
@@ -43,6 +46,8 @@ import org.yyubin.recommendation.search.document.ReviewDocument;
 @RequiredArgsConstructor
 public class ElasticsearchSyncJobConfig {
 
+    private static final ReviewEngagementStats NO_ENGAGEMENT = new ReviewEngagementStats(0, 0, 0, 0, 0);
+
     private final JobRepository jobRepository;
     private final PlatformTransactionManager transactionManager;
     private final BatchProperties batchProperties;
@@ -53,7 +58,7 @@ public class ElasticsearchSyncJobConfig {
     private final BatchBookSyncService batchBookSyncService;
     private final BatchReviewSyncService batchReviewSyncService;
     private final ReviewViewCounterFlusher reviewViewCounterFlusher;
-    private final org.yyubin.batch.sync.ReviewEngagementStatsProvider reviewEngagementStatsProvider;
+    private final ReviewEngagementStatsProvider reviewEngagementStatsProvider;
     private final org.yyubin.batch.listener.SyncTimestampListener syncTimestampListener;
 
     @Bean
@@ -95,18 +100,20 @@ public class ElasticsearchSyncJobConfig {
                 .build();
     }
 
+    /**
+     * 리뷰 문서는 항목별 processor 대신 writer 에서 청크 단위로 보강
+     * (DB 쿼리 최대 8개 + Redis MGET 1회, 청크 크기와 무관)
+     */
     @Bean
     public Step syncReviewsToElasticsearchStep(
             @Qualifier("reviewReaderForElasticsearch") ItemReader<ReviewEntity> reviewReaderForElasticsearch,
-            @Qualifier("reviewDocumentProcessor") ItemProcessor<ReviewEntity, ReviewDocument> reviewDocumentProcessor,
-            @Qualifier("reviewDocumentWriter") ItemWriter<ReviewDocument> reviewDocumentWriter
+            @Qualifier("reviewDocumentWriter") ItemWriter<ReviewEntity> reviewDocumentWriter
     ) {
         int chunkSize = batchProperties.getSync().getElasticsearch().getChunkSize();
         return new StepBuilder("syncReviewsToElasticsearchStep", jobRepository)
-                .<ReviewEntity, ReviewDocument>chunk(chunkSize)
+                .<ReviewEntity, ReviewEntity>chunk(chunkSize)
                 .transactionManager(transactionManager)
                 .reader(reviewReaderForElasticsearch)
-                .processor(reviewDocumentProcessor)
                 .writer(reviewDocumentWriter)
                 .listener(syncTimestampListener)
                 .build();
@@ -208,39 +215,6 @@ public class ElasticsearchSyncJobConfig {
         };
     }
 
-    @Bean
-    public ItemProcessor<ReviewEntity, ReviewDocument> reviewDocumentProcessor() {
-        return entity -> {
-            ReviewSyncDto dto = batchReviewSyncService.buildSyncData(entity);
-            var engagement = reviewEngagementStatsProvider.getStats(dto.id());
-            return ReviewDocument.builder()
-                    .id(String.valueOf(dto.id()))
-                    .userId(dto.userId())
-                    .reviewId(dto.id())
-                    .bookId(dto.bookId())
-                    .bookTitle(dto.bookTitle())
-                    .summary(dto.summary())
-                    .content(dto.content())
-                    .highlights(dto.highlights())
-                    .highlightsNorm(dto.highlightsNorm())
-                    .keywords(dto.keywords())
-                    .rating(dto.rating())
-                    .genre(dto.genre())
-                    .visibility(dto.visibility())
-                    .createdAt(dto.createdAt())
-                    .likeCount(dto.likeCount())
-                    .bookmarkCount(dto.bookmarkCount())
-                    .commentCount(dto.commentCount())
-                    .viewCount(dto.viewCount())
-                    .dwellScore(dto.dwellScore())
-                    .avgDwellMs(engagement.avgDwellMs())
-                    .ctr(engagement.ctr())
-                    .reachRate(engagement.reachRate())
-                    .searchableText(ReviewDocument.buildSearchableText(dto.content()))
-                    .build();
-        };
-    }
-
     @Bean
     public ItemWriter<BookDocument> bookDocumentWriter() {
         return items -> {
@@ -253,16 +227,50 @@ public class ElasticsearchSyncJobConfig {
     }
 
     @Bean
-    public ItemWriter<ReviewDocument> reviewDocumentWriter() {
+    public ItemWriter<ReviewEntity> reviewDocumentWriter() {
         return items -> {
             if (items.isEmpty()) {
                 return;
             }
-            log.info("Indexing {} reviews to Elasticsearch", items.size());
-            searchReviewPort.saveAll(items);
+            List<ReviewSyncDto> dtos = batchReviewSyncService.buildSyncDataBatch(items.getItems());
+            Map<Long, ReviewEngagementStats> engagements = reviewEngagementStatsProvider.getStatsBatch(
+                    dtos.stream().map(ReviewSyncDto::id).toList());
+            List<ReviewDocument> documents = dtos.stream()
+                    .map(dto -> toReviewDocument(dto, engagements.getOrDefault(dto.id(), NO_ENGAGEMENT)))
+                    .toList();
+            log.info("Indexing {} reviews to Elasticsearch", documents.size());
+            searchReviewPort.saveAll(documents);
         };
     }
 
+    private ReviewDocument toReviewDocument(ReviewSyncDto dto, ReviewEngagementStats engagement) {
+        return ReviewDocument.builder()
+                .id(String.valueOf(dto.id()))
+                .userId(dto.userId())
+                .reviewId(dto.id())
+                .bookId(dto.bookId())
+                .bookTitle(dto.bookTitle())
+                .summary(dto.summary())
+                .content(dto.content())
+                .highlights(dto.highlights())
+                .highlightsNorm(dto.highlightsNorm())
+                .keywords(dto.keywords())
+                .rating(dto.rating())
+                .genre(dto.genre())
+                .visibility(dto.visibility())
+                .createdAt(dto.createdAt())
+                .likeCount(dto.likeCount())
+                .bookmarkCount(dto.bookmarkCount())
+                .commentCount(dto.commentCount())
+                .viewCount(dto.viewCount())
+                .dwellScore(dto.dwellScore())
+                .avgDwellMs(engagement.avgDwellMs())
+                .ctr(engagement.ctr())
+                .reachRate(engagement.reachRate())
+                .searchableText(ReviewDocument.buildSearchableText(dto.content()))
+                .build();
+    }
+
     /**
      * jobParameters에서 전달된 lastSyncTime을 LocalDateTime으로 파싱
      * null이거나 파싱 실패 시 null 반환 (전체 동기화 실행)
@@ -3,6 +3,7 @@ package org.yyubin.batch.job;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeParseException;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
@@ -29,6 +30,7 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.data.domain.Sort;
 import org.springframework.transaction.PlatformTransactionManager;
 import org.yyubin.batch.config.BatchProperties;
+import org.yyubin.batch.config.BatchProperties.Sync.Neo4j.WriteMode;
 import org.yyubin.batch.service.BatchBookSyncService;
 import org.yyubin.batch.service.BatchUserSyncService;
 import org.yyubin.batch.sync.BookSyncDto;
@@ -102,19 +104,20 @@ public class Neo4jSyncJobConfig {
                 .build();
     }
 
+    /**
+     * 사용자 관계는 항목별 processor 대신 writer 에서 청크 단위로 조회 (청크당 쿼리 3개)
+     */
     @Bean
     public Step syncUsersToNeo4jStep(
             @Qualifier("userReaderForNeo4j") ItemReader<UserEntity> userReaderForNeo4j,
-            @Qualifier("userNodeProcessor") ItemProcessor<UserEntity, UserNode> userNodeProcessor,
-            @Qualifier("userNodeWriter") ItemWriter<UserNode> userNodeWriter
+            @Qualifier("userNodeWriter") ItemWriter<UserEntity> userNodeWriter
     ) {
         int chunkSize = batchProperties.getSync().getNeo4j().getChunkSize();
 
         return new StepBuilder("syncUsersToNeo4jStep", jobRepository)
-                .<UserEntity, UserNode>chunk(chunkSize)
+                .<UserEntity, UserEntity>chunk(chunkSize)
                 .transactionManager(transactionManager)
                 .reader(userReaderForNeo4j)
-                .processor(userNodeProcessor)
                 .writer(userNodeWriter)
                 .listener(syncTimestampListener)
                 .build();
@@ -284,52 +287,17 @@ public class Neo4jSyncJobConfig {
 
     @Bean
     public ItemWriter<BookNode> bookNodeWriter() {
+        WriteMode writeMode = batchProperties.getSync().getNeo4j().getBookWriteMode();
         return items -> {
             if (items.isEmpty()) {
                 return;
             }
-            log.info("Saving {} books to Neo4j", items.size());
-            graphBookPort.saveAll(items);
-        };
-    }
-
-    @Bean
-    public ItemProcessor<UserEntity, UserNode> userNodeProcessor() {
-        return entity -> {
-            UserSyncDto dto = batchUserSyncService.buildSyncData(entity);
-
-            UserNode userNode = UserNode.builder()
-                    .id(dto.id())
-                    .username(dto.username())
-                    .email(dto.email())
-                    .createdAt(dto.createdAt())
-                    .build();
-
-            dto.viewedBooks().forEach(view -> userNode.getViewedBooks().add(
-                    ViewedRelationship.builder()
-                            .book(BookNode.builder().id(view.bookId()).build())
-                            .firstViewedAt(view.firstViewedAt())
-                            .lastViewedAt(view.lastViewedAt())
-                            .viewCount(view.viewCount() > 0 ? view.viewCount() : 1)
-                            .build()
-            ));
-
-            dto.wishlistedBooks().forEach(wishlist -> userNode.getWishlistedBooks().add(
-                    WishlistedRelationship.builder()
-                            .book(BookNode.builder().id(wishlist.bookId()).build())
-                            .addedAt(wishlist.addedAt())
-                            .build()
-            ));
-
-            dto.likedReviewBooks().forEach(liked -> userNode.getLikedReviewBooks().add(
-                    LikedReviewOfRelationship.builder()
-                            .book(BookNode.builder().id(liked.bookId()).build())
-                            .reviewId(liked.reviewId())
-                            .likedAt(liked.likedAt())
-                            .build()
-            ));
-
-            return userNode;
+            log.info("Saving {} books to Neo4j ({})", items.size(), writeMode);
+            if (writeMode == WriteMode.BULK) {
+                graphBookPort.upsertAll(items.getItems());
+            } else {
+                graphBookPort.saveAll(items);
+            }
         };
     }
 
@@ -344,24 +312,72 @@ public class Neo4jSyncJobConfig {
     }
 
     @Bean
-    public ItemWriter<UserNode> userNodeWriter() {
+    public ItemWriter<UserEntity> userNodeWriter() {
+        WriteMode writeMode = batchProperties.getSync().getNeo4j().getUserWriteMode();
         return items -> {
             if (items.isEmpty()) {
                 return;
             }
-            log.info("Saving {} users to Neo4j", items.size());
-            graphUserPort.saveAll(items);
+            List<UserNode> users = batchUserSyncService.buildSyncDataBatch(items.getItems()).stream()
+                    .map(this::toUserNode)
+                    .toList();
+            log.info("Saving {} users to Neo4j ({})", users.size(), writeMode);
+            if (writeMode == WriteMode.BULK) {
+                graphUserPort.upsertAll(users);
+            } else {
+                graphUserPort.saveAll(users);
+            }
         };
     }
 
+    private UserNode toUserNode(UserSyncDto dto) {
+        UserNode userNode = UserNode.builder()
+                .id(dto.id())
+                .username(dto.username())
+                .email(dto.email())
+                .createdAt(dto.createdAt())
+                .build();
+
+        dto.viewedBooks().forEach(view -> userNode.getViewedBooks().add(
+                ViewedRelationship.builder()
+                        .book(BookNode.builder().id(view.bookId()).build())
+                        .firstViewedAt(view.firstViewedAt())
+                        .lastViewedAt(view.lastViewedAt())
+                        .viewCount(view.viewCount() > 0 ? view.viewCount() : 1)
+                        .build()
+        ));
+
+        dto.wishlistedBooks().forEach(wishlist -> userNode.getWishlistedBooks().add(
+                WishlistedRelationship.builder()
+                        .book(BookNode.builder().id(wishlist.bookId()).build())
+                        .addedAt(wishlist.addedAt())
+                        .build()
+        ));
+
+        dto.likedReviewBooks().forEach(liked -> userNode.getLikedReviewBooks().add(
+                LikedReviewOfRelationship.builder()
+                        .book(BookNode.builder().id(liked.bookId()).build())
+                        .reviewId(liked.reviewId())
+                        .likedAt(liked.likedAt())
+                        .build()
+        ));
+
+        return userNode;
+    }
+
     @Bean
     public ItemWriter<ReviewNode> reviewNodeWriter() {
+        WriteMode writeMode = batchProperties.getSync().getNeo4j().getReviewWriteMode();
         return items -> {
             if (items.isEmpty()) {
                 return;
             }
-            log.info("Saving {} reviews to Neo4j", items.size());
-            graphReviewPort.saveAll(items);
+            log.info("Saving {} reviews to Neo4j ({})", items.size(), writeMode);
+            if (writeMode == WriteMode.BULK) {
+                graphReviewPort.upsertAll(items.getItems());
+            } else {
+                graphReviewPort.saveAll(items);
+            }
         };
     }
 
@@ -13,6 +13,7 @@ import org.yyubin.application.event.OutboxPort;
 /**
  * Outbox 이벤트 정리 배치 작업
  * 7일 이전의 발행 완료(SENT) 이벤트를 삭제하여 DB 용량 관리
+ * 파티션 모드에서는 먼저 만료된 일 파티션을 DROP 하고, 남은 SENT 행을 삭제
  */
 @Slf4j
 @Component
@@ -31,7 +32,8 @@ public class OutboxCleanupJob {
 
         try {
             Instant cutoff = Instant.now().minus(7, ChronoUnit.DAYS);
-            int deletedCount = outboxPort.deleteByStatusAndOccurredAtBefore(
+            int droppedCount = outboxPort.dropExpiredPartitions(cutoff);
+            int deletedCount = droppedCount + outboxPort.deleteByStatusAndOccurredAtBefore(
                     OutboxEvent.OutboxStatus.SENT,
                     cutoff
             );
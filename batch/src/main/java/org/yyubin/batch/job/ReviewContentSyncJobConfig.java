@@ -1,5 +1,6 @@
 package org.yyubin.batch.job;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import lombok.RequiredArgsConstructor;
@@ -9,7 +10,6 @@ import org.springframework.batch.core.job.builder.JobBuilder;
 import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.batch.core.step.Step;
 import org.springframework.batch.core.step.builder.StepBuilder;
-import org.springframework.batch.infrastructure.item.ItemProcessor;
 import org.springframework.batch.infrastructure.item.ItemReader;
 import org.springframework.batch.infrastructure.item.ItemWriter;
 import org.springframework.batch.infrastructure.item.data.RepositoryItemReader;
@@ -22,18 +22,10 @@ import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.yyubin.batch.config.BatchProperties;
-import org.yyubin.infrastructure.persistence.book.BookEntity;
-import org.yyubin.infrastructure.persistence.book.BookJpaRepository;
+import org.yyubin.batch.service.BatchReviewSyncService;
+import org.yyubin.batch.sync.ReviewContentDto;
 import org.yyubin.infrastructure.persistence.review.ReviewEntity;
 import org.yyubin.infrastructure.persistence.review.ReviewJpaRepository;
-import org.yyubin.infrastructure.persistence.review.highlight.HighlightEntity;
-import org.yyubin.infrastructure.persistence.review.highlight.HighlightJpaRepository;
-import org.yyubin.infrastructure.persistence.review.highlight.ReviewHighlightEntity;
-import org.yyubin.infrastructure.persistence.review.highlight.ReviewHighlightJpaRepository;
-import org.yyubin.infrastructure.persistence.review.keyword.KeywordEntity;
-import org.yyubin.infrastructure.persistence.review.keyword.KeywordJpaRepository;
-import org.yyubin.infrastructure.persistence.review.keyword.ReviewKeywordEntity;
-import org.yyubin.infrastructure.persistence.review.keyword.ReviewKeywordJpaRepository;
 import org.yyubin.recommendation.review.RecommendationIngestCommand;
 import org.yyubin.recommendation.review.HighlightReviewRecommendationService;
 
@@ -46,11 +38,7 @@ public class ReviewContentSyncJobConfig {
     private final PlatformTransactionManager transactionManager;
     private final BatchProperties batchProperties;
     private final ReviewJpaRepository reviewJpaRepository;
-    private final BookJpaRepository bookJpaRepository;
-    private final ReviewHighlightJpaRepository reviewHighlightJpaRepository;
-    private final HighlightJpaRepository highlightJpaRepository;
-    private final ReviewKeywordJpaRepository reviewKeywordJpaRepository;
-    private final KeywordJpaRepository keywordJpaRepository;
+    private final BatchReviewSyncService batchReviewSyncService;
     private final HighlightReviewRecommendationService reviewRecommendationService;
 
     @Bean
@@ -62,18 +50,19 @@ public class ReviewContentSyncJobConfig {
                 .build();
     }
 
+    /**
+     * 도서/하이라이트/키워드는 항목별 processor 대신 writer 에서 청크 단위로 조회 (검색 색인 동기화와 같은 BatchReviewSyncService.loadContentBatch 사용)
+     */
     @Bean
     public Step reviewContentSyncStep(
             @Qualifier("reviewContentReader") ItemReader<ReviewEntity> reviewContentReader,
-            @Qualifier("reviewContentProcessor") ItemProcessor<ReviewEntity, RecommendationIngestCommand> reviewContentProcessor,
-            @Qualifier("reviewContentWriter") ItemWriter<RecommendationIngestCommand> reviewContentWriter
+            @Qualifier("reviewContentWriter") ItemWriter<ReviewEntity> reviewContentWriter
     ) {
         int chunkSize = batchProperties.getRecommendation().getChunkSize();
         return new StepBuilder("reviewContentSyncStep", jobRepository)
-                .<ReviewEntity, RecommendationIngestCommand>chunk(chunkSize)
+                .<ReviewEntity, ReviewEntity>chunk(chunkSize)
                 .transactionManager(transactionManager)
                 .reader(reviewContentReader)
-                .processor(reviewContentProcessor)
                 .writer(reviewContentWriter)
                 .build();
     }
@@ -99,67 +88,40 @@ public class ReviewContentSyncJobConfig {
     }
 
     @Bean
-    public ItemProcessor<ReviewEntity, RecommendationIngestCommand> reviewContentProcessor() {
-        return entity -> {
-            List<ReviewHighlightEntity> highlightMappings = reviewHighlightJpaRepository.findByIdReviewId(entity.getId());
-            List<Long> highlightIds = highlightMappings.stream()
-                    .map(mapping -> mapping.getId().getHighlightId())
-                    .toList();
-
-            List<HighlightEntity> highlights = highlightIds.isEmpty()
-                    ? List.of()
-                    : highlightJpaRepository.findByIdIn(highlightIds);
-
-            List<String> highlightRaw = highlights.stream()
-                    .map(HighlightEntity::getRawValue)
-                    .toList();
-            List<String> highlightNorm = highlights.stream()
-                    .map(HighlightEntity::getNormalizedValue)
-                    .toList();
-
-            List<ReviewKeywordEntity> keywordMappings = reviewKeywordJpaRepository.findByIdReviewId(entity.getId());
-            List<Long> keywordIds = keywordMappings.stream()
-                    .map(mapping -> mapping.getId().getKeywordId())
-                    .toList();
-
-            List<KeywordEntity> keywords = keywordIds.isEmpty()
-                    ? List.of()
-                    : keywordJpaRepository.findByIdIn(keywordIds);
-
-            List<String> keywordRaw = keywords.stream()
-                    .map(KeywordEntity::getRawValue)
-                    .toList();
+    public ItemWriter<ReviewEntity> reviewContentWriter() {
+        return items -> {
+            if (items.isEmpty()) {
+                return;
+            }
+            List<RecommendationIngestCommand> commands = buildIngestCommands(items.getItems());
+            log.info("Syncing {} review contents to recommendation stores", commands.size());
+            for (RecommendationIngestCommand command : commands) {
+                reviewRecommendationService.ingest(command);
+            }
+        };
+    }
 
-            BookEntity book = bookJpaRepository.findById(entity.getBookId()).orElse(null);
-            String bookTitle = book != null ? book.getTitle() : null;
+    private List<RecommendationIngestCommand> buildIngestCommands(List<? extends ReviewEntity> reviews) {
+        Map<Long, ReviewContentDto> contents = batchReviewSyncService.loadContentBatch(reviews);
 
-            return new RecommendationIngestCommand(
+        List<RecommendationIngestCommand> commands = new ArrayList<>(reviews.size());
+        for (ReviewEntity entity : reviews) {
+            ReviewContentDto content = contents.getOrDefault(entity.getId(), ReviewContentDto.EMPTY);
+            commands.add(new RecommendationIngestCommand(
                     entity.getId(),
                     entity.getUserId(),
                     entity.getBookId(),
-                    bookTitle,
+                    content.bookTitle(),
                     entity.getSummary(),
                     entity.getContent(),
-                    highlightRaw,
-                    highlightNorm,
-                    keywordRaw,
+                    content.highlights(),
+                    content.highlightsNorm(),
+                    content.keywords(),
                     entity.getGenre() != null ? entity.getGenre().name() : null,
                     entity.getCreatedAt(),
                     entity.getRating()
-            );
-        };
-    }
-
-    @Bean
-    public ItemWriter<RecommendationIngestCommand> reviewContentWriter() {
-        return items -> {
-            if (items.isEmpty()) {
-                return;
-            }
-            log.info("Syncing {} review contents to recommendation stores", items.size());
-            for (RecommendationIngestCommand command : items) {
-                reviewRecommendationService.ingest(command);
-            }
-        };
+            ));
+        }
+        return commands;
     }
 }
@@ -7,72 +7,151 @@ import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.core.Cursor;
-import org.springframework.data.redis.core.ScanOptions;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 import org.yyubin.application.review.port.ReviewViewFlushPort;
 
 /**
- * Redis 조회수 카운터를 DB/ES에 플러시
+ * Redis 조회수 증분을 DB/ES에 플러시
+ * - 증분 키(metric:review:viewdelta:*)는 조회 스크립트가 표시용 카운터와 함께 올림
+ *   (표시용 카운터는 DB 기준값이 포함된 전체 값이라 플러시 대상이 아님)
+ * - SCAN 한 페이지의 키를 스크립트 한 번으로 GETDEL → 읽기와 삭제 사이에 들어온 증분이 사라지지 않음
+ * - 페이지마다 DB UPDATE 1회 + ES 부분 업데이트 bulk 1회
+ * - DB 반영이 실패하면 가져온 증분을 Redis 에 되돌려 다음 플러시에서 다시 처리
  */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class ReviewViewCounterFlusher {
 
+    static final String DELTA_PREFIX = "metric:review:viewdelta:";
+    static final int PAGE_SIZE = 1000;
+
+    /**
+     * KEYS 증분 키들
+     *
+     * @return {키1, 값1, 키2, 값2, ...} (이미 없는 키는 제외)
+     */
+    @SuppressWarnings("rawtypes")
+    static final DefaultRedisScript<List> DRAIN_SCRIPT = new DefaultRedisScript<>("""
+            local result = {}
+            for _, key in ipairs(KEYS) do
+              local value = redis.call('GETDEL', key)
+              if value then
+                table.insert(result, key)
+                table.insert(result, value)
+              end
+            end
+            return result
+            """, List.class);
+
+    /**
+     * KEYS 증분 키들, ARGV 같은 순서의 되돌릴 값
+     */
+    static final DefaultRedisScript<Long> RESTORE_SCRIPT = new DefaultRedisScript<>("""
+            for i, key in ipairs(KEYS) do
+              redis.call('INCRBY', key, ARGV[i])
+            end
+            return #KEYS
+            """, Long.class);
+
     private final RedisTemplate<String, String> redisTemplate;
     private final ReviewViewFlushPort reviewViewFlushPort;
 
-    private static final String COUNTER_PREFIX = "metric:review:view:";
-
-    @Transactional
     public void flush() {
-        List<CounterUpdate> updates = readCounters();
-        if (updates.isEmpty()) {
-            return;
+        ScanOptions options = ScanOptions.scanOptions().match(DELTA_PREFIX + "*").count(PAGE_SIZE).build();
+        int flushed = 0;
+        List<String> page = new ArrayList<>(PAGE_SIZE);
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            while (cursor.hasNext()) {
+                page.add(cursor.next());
+                if (page.size() == PAGE_SIZE) {
+                    flushed += flushPage(page);
+                    page.clear();
+                }
+            }
+            if (!page.isEmpty()) {
+                flushed += flushPage(page);
+            }
+        } catch (Exception e) {
+            // 가져온 증분은 되돌려 두었으므로 남은 키는 다음 플러시에서 처리
+            log.warn("Failed to flush review view counters", e);
+        }
+
+        if (flushed > 0) {
+            log.info("Flushed {} review view counters to DB/ES", flushed);
         }
+    }
 
-        // DB 배치 업데이트 (단일 쿼리로 처리)
-        List<ReviewViewFlushPort.CounterUpdate> portUpdates = updates.stream()
-                .map(u -> new ReviewViewFlushPort.CounterUpdate(u.reviewId(), u.delta()))
-                .toList();
-        reviewViewFlushPort.batchUpdateViewCount(portUpdates);
+    private int flushPage(List<String> keys) {
+        LongCounterMap deltas = drain(keys);
+        if (deltas.isEmpty()) {
+            return 0;
+        }
 
-        // ES 업데이트 (partial)
-        Map<Long, Long> esUpdates = new HashMap<>();
-        updates.forEach(u -> esUpdates.merge(u.reviewId(), u.delta(), Long::sum));
-        reviewViewFlushPort.updateSearchIndexViewCount(esUpdates);
+        List<ReviewViewFlushPort.CounterUpdate> updates = new ArrayList<>(deltas.size());
+        Map<Long, Long> esUpdates = new HashMap<>(deltas.size() * 2);
+        deltas.forEach((reviewId, delta) -> {
+            updates.add(new ReviewViewFlushPort.CounterUpdate(reviewId, delta));
+            esUpdates.put(reviewId, delta);
+        });
 
-        log.info("Flushed {} review view counters to DB/ES", updates.size());
+        try {
+            reviewViewFlushPort.batchUpdateViewCount(updates);
+        } catch (RuntimeException e) {
+            restore(deltas);
+            throw e;
+        }
+
+        try {
+            reviewViewFlushPort.updateSearchIndexViewCount(esUpdates);
+        } catch (RuntimeException e) {
+            // DB 가 기준이고 ES 는 다음 동기화에서 DB 값으로 다시 맞춰짐
+            log.warn("Failed to apply review view counts to search index ({} reviews)", esUpdates.size(), e);
+        }
+        return deltas.size();
     }
 
-    private List<CounterUpdate> readCounters() {
-        List<CounterUpdate> updates = new ArrayList<>();
-        ScanOptions options = ScanOptions.scanOptions().match(COUNTER_PREFIX + "*").count(1000).build();
-        try (Cursor<byte[]> cursor = redisTemplate.getConnectionFactory().getConnection().scan(options)) {
-            while (cursor.hasNext()) {
-                String key = new String(cursor.next());
-                Object raw = redisTemplate.opsForValue().get(key);
-                Long value = parseLong(raw);
-                if (value == null || value <= 0) {
-                    continue;
-                }
-                redisTemplate.delete(key);
-                Long reviewId = parseReviewId(key);
-                if (reviewId != null) {
-                    updates.add(new CounterUpdate(reviewId, value));
-                }
+    private LongCounterMap drain(List<String> keys) {
+        LongCounterMap deltas = new LongCounterMap(keys.size());
+        List<?> drained = redisTemplate.execute(DRAIN_SCRIPT, List.copyOf(keys));
+        if (drained == null) {
+            return deltas;
+        }
+        for (int i = 0; i + 1 < drained.size(); i += 2) {
+            String key = String.valueOf(drained.get(i));
+            Long reviewId = parseReviewId(key);
+            Long delta = parseLong(drained.get(i + 1));
+            if (reviewId == null || delta == null) {
+                log.warn("Dropped invalid review view counter {}={}", key, drained.get(i + 1));
+                continue;
+            }
+            if (delta != 0) {
+                deltas.add(reviewId, delta);
             }
-        } catch (Exception e) {
-            log.warn("Failed to scan review view counters", e);
         }
-        return updates;
+        return deltas;
+    }
+
+    private void restore(LongCounterMap deltas) {
+        List<String> keys = new ArrayList<>(deltas.size());
+        List<String> values = new ArrayList<>(deltas.size());
+        deltas.forEach((reviewId, delta) -> {
+            keys.add(DELTA_PREFIX + reviewId);
+            values.add(Long.toString(delta));
+        });
+        try {
+            redisTemplate.execute(RESTORE_SCRIPT, keys, values.toArray());
+        } catch (RuntimeException e) {
+            log.error("Failed to restore {} review view counters, counts lost", keys.size(), e);
+        }
     }
 
     private Long parseReviewId(String key) {
         try {
-            return Long.parseLong(key.substring(COUNTER_PREFIX.length()));
+            return Long.parseLong(key.substring(DELTA_PREFIX.length()));
         } catch (Exception e) {
             return null;
         }
@@ -88,6 +167,4 @@ public class ReviewViewCounterFlusher {
             return null;
         }
     }
-
-    private record CounterUpdate(Long reviewId, long delta) { }
 }
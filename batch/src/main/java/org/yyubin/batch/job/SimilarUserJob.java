@@ -3,6 +3,7 @@ package org.yyubin.batch.job;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 import org.yyubin.application.recommendation.port.out.ReviewCircleCachePort;
@@ -12,8 +13,6 @@ import org.yyubin.infrastructure.persistence.user.UserJpaRepository;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Optional;
-import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * 유사 사용자 계산 배치 작업
@@ -28,6 +27,8 @@ public class SimilarUserJob {
     private final ReviewCircleCachePort cachePort;
     private final FindSimilarUsersUseCase findSimilarUsersUseCase;
 
+    private static final int USER_ID_PAGE_SIZE = 5_000;
+
     /**
      * 매일 새벽 3시에 실행 (UserTasteProfileJob 이후)
      */
@@ -41,52 +42,40 @@ public class SimilarUserJob {
         log.info("유사 사용자 계산 배치 시작");
 
         try {
-            // 1. 모든 사용자 ID 조회
-            List<Long> userIds = userRepository.findAll().stream()
-                .map(user -> user.getId())
-                .toList();
-
-            log.info("Processing {} users", userIds.size());
-
-            // 2. 모든 사용자의 취향 벡터 로드
+            // 1~2. 사용자 ID keyset 페이지마다 취향 벡터를 파이프라인 MGET 으로 일괄 로드
             log.info("Loading taste vectors from Redis...");
             List<UserTasteVector> allTasteVectors = new ArrayList<>();
+            int scannedUsers = 0;
+            Long lastId = 0L;
+
+            while (true) {
+                List<Long> userIds = userRepository.findIdsAfter(lastId, PageRequest.of(0, USER_ID_PAGE_SIZE));
+                if (userIds.isEmpty()) {
+                    break;
+                }
+
+                allTasteVectors.addAll(cachePort.getTasteVectors(userIds));
+                scannedUsers += userIds.size();
+                lastId = userIds.get(userIds.size() - 1);
 
-            for (Long userId : userIds) {
-                Optional<UserTasteVector> vectorOpt = cachePort.getTasteVector(userId);
-                vectorOpt.ifPresent(allTasteVectors::add);
+                if (userIds.size() < USER_ID_PAGE_SIZE) {
+                    break;
+                }
             }
 
             log.info("Loaded {} taste vectors (from {} users)",
-                allTasteVectors.size(), userIds.size());
+                allTasteVectors.size(), scannedUsers);
 
             if (allTasteVectors.isEmpty()) {
                 log.warn("No taste vectors found - skipping similar user calculation");
                 return;
             }
 
-            // 3. 각 사용자의 유사 사용자 계산
-            AtomicInteger successCount = new AtomicInteger(0);
-            AtomicInteger failureCount = new AtomicInteger(0);
-
-            for (UserTasteVector userVector : allTasteVectors) {
-                try {
-                    findSimilarUsersUseCase.execute(userVector.userId(), allTasteVectors);
-                    successCount.incrementAndGet();
-
-                    if (successCount.get() % 100 == 0) {
-                        log.info("Progress: {}/{} users processed",
-                            successCount.get(), allTasteVectors.size());
-                    }
-
-                } catch (Exception e) {
-                    log.error("Failed to find similar users for user {}", userVector.userId(), e);
-                    failureCount.incrementAndGet();
-                }
-            }
+            // 3. 역색인 기반 병렬 계산 (피처를 공유하는 사용자끼리만 비교)
+            FindSimilarUsersUseCase.BatchResult result = findSimilarUsersUseCase.executeAll(allTasteVectors);
 
-            log.info("유사 사용자 계산 배치 완료 - Success: {}, Failure: {}",
-                successCount.get(), failureCount.get());
+            log.info("유사 사용자 계산 배치 완료 - Processed: {}, Saved: {}, Failure: {}",
+                result.processedCount(), result.savedCount(), result.failureCount());
 
         } catch (Exception e) {
             log.error("유사 사용자 계산 배치 중 오류 발생", e);
@@ -1,5 +1,8 @@
 package org.yyubin.batch.service;
 
+import java.util.List;
+import java.util.Map;
+import org.yyubin.batch.sync.ReviewContentDto;
 import org.yyubin.batch.sync.ReviewSyncDto;
 import org.yyubin.infrastructure.persistence.review.ReviewEntity;
 
@@ -16,4 +19,22 @@ public interface BatchReviewSyncService {
      * @return 동기화용 DTO (좋아요, 북마크, 댓글 수 등 통계 포함)
      */
     ReviewSyncDto buildSyncData(ReviewEntity entity);
+
+    /**
+     * 청크 단위로 동기화용 DTO를 생성
+     * 카운트는 그룹 COUNT, 도서/하이라이트/키워드는 IN 쿼리로 한 번씩 조회
+     *
+     * @param entities 리뷰 엔티티 목록
+     * @return 동기화용 DTO 목록 (입력 순서 유지)
+     */
+    List<ReviewSyncDto> buildSyncDataBatch(List<? extends ReviewEntity> entities);
+
+    /**
+     * 청크의 도서 제목/하이라이트/키워드를 IN 쿼리로 한 번씩 조회
+     * 검색 색인 동기화와 추천 콘텐츠 동기화가 같은 조회를 공유
+     *
+     * @param entities 리뷰 엔티티 목록
+     * @return 리뷰 ID별 콘텐츠 (모든 리뷰 포함, 도서가 없으면 bookTitle 은 null)
+     */
+    Map<Long, ReviewContentDto> loadContentBatch(List<? extends ReviewEntity> entities);
 }
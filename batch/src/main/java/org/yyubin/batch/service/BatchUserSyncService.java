@@ -1,5 +1,6 @@
 package org.yyubin.batch.service;
 
+import java.util.List;
 import org.yyubin.batch.sync.UserSyncDto;
 import org.yyubin.infrastructure.persistence.user.UserEntity;
 
@@ -16,4 +17,13 @@ public interface BatchUserSyncService {
      * @return 동기화용 DTO (조회 기록, 위시리스트, 좋아요한 리뷰 등 포함)
      */
     UserSyncDto buildSyncData(UserEntity entity);
+
+    /**
+     * 청크의 UserEntity들로부터 동기화용 DTO를 한 번에 생성
+     * 관계(조회/위시리스트/좋아요)는 사용자 수와 무관하게 projection 쿼리 3개로 조회
+     *
+     * @param entities 유저 엔티티 목록
+     * @return 입력 순서대로의 동기화용 DTO
+     */
+    List<UserSyncDto> buildSyncDataBatch(List<? extends UserEntity> entities);
 }
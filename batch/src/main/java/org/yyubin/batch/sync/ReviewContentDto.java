@@ -0,0 +1,15 @@
+package org.yyubin.batch.sync;
+
+import java.util.List;
+
+/**
+ * 리뷰 본문 외 색인/추천 공통 콘텐츠 (도서 제목, 하이라이트, 키워드)
+ */
+public record ReviewContentDto(
+        String bookTitle,
+        List<String> highlights,
+        List<String> highlightsNorm,
+        List<String> keywords
+) {
+    public static final ReviewContentDto EMPTY = new ReviewContentDto(null, List.of(), List.of(), List.of());
+}
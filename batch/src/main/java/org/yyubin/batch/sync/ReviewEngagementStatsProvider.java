@@ -1,5 +1,10 @@
 package org.yyubin.batch.sync;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.core.RedisTemplate;
@@ -8,6 +13,7 @@ import org.springframework.stereotype.Component;
 /**
  * Redis 기반 리뷰 참여도 집계 (CTR/도달/평균 dwell)
  * 간단히 metric 키에서 가져와 배치 색인에 사용
+ * - getStatsBatch: 청크의 리뷰 N개에 대한 5N개 키를 MGET 한 번으로 조회
  */
 @Slf4j
 @Component
@@ -21,6 +27,8 @@ public class ReviewEngagementStatsProvider {
     private static final String KEY_CLICK = "metric:review:click:";
     private static final String KEY_DWELL_SUM = "metric:review:dwell:sum:";
     private static final String KEY_DWELL_COUNT = "metric:review:dwell:count:";
+    private static final List<String> KEY_PREFIXES =
+            List.of(KEY_IMPRESSION, KEY_REACH, KEY_CLICK, KEY_DWELL_SUM, KEY_DWELL_COUNT);
 
     public ReviewEngagementStats getStats(Long reviewId) {
         if (reviewId == null) {
@@ -34,8 +42,54 @@ public class ReviewEngagementStatsProvider {
         return new ReviewEngagementStats(impressions, reaches, clicks, dwellSum, dwellCount);
     }
 
+    /**
+     * 리뷰 목록의 참여도 집계를 한 번에 조회
+     *
+     * @return 리뷰 ID → 집계 (null ID 제외, 값이 없으면 0)
+     */
+    public Map<Long, ReviewEngagementStats> getStatsBatch(List<Long> reviewIds) {
+        List<Long> ids = reviewIds.stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+
+        List<String> keys = new ArrayList<>(ids.size() * KEY_PREFIXES.size());
+        for (Long reviewId : ids) {
+            for (String prefix : KEY_PREFIXES) {
+                keys.add(prefix + reviewId);
+            }
+        }
+        List<String> values = redisTemplate.opsForValue().multiGet(keys);
+
+        Map<Long, ReviewEngagementStats> results = new HashMap<>(ids.size() * 2);
+        for (int i = 0; i < ids.size(); i++) {
+            int offset = i * KEY_PREFIXES.size();
+            results.put(ids.get(i), new ReviewEngagementStats(
+                    valueAt(values, offset),
+                    valueAt(values, offset + 1),
+                    valueAt(values, offset + 2),
+                    valueAt(values, offset + 3),
+                    valueAt(values, offset + 4)
+            ));
+        }
+        return results;
+    }
+
+    private long valueAt(List<String> values, int index) {
+        if (values == null || index >= values.size()) {
+            return 0L;
+        }
+        return parseLong(values.get(index));
+    }
+
     private long getLong(String key) {
-        Object raw = redisTemplate.opsForValue().get(key);
+        return parseLong(redisTemplate.opsForValue().get(key));
+    }
+
+    private long parseLong(Object raw) {
         if (raw == null) {
             return 0L;
         }
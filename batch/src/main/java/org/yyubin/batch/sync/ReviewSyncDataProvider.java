@@ -15,19 +15,34 @@ import org.yyubin.infrastructure.persistence.review.keyword.KeywordJpaRepository
 import org.yyubin.infrastructure.persistence.review.keyword.ReviewKeywordEntity;
 import org.yyubin.infrastructure.persistence.review.keyword.ReviewKeywordJpaRepository;
 import org.yyubin.infrastructure.persistence.review.comment.ReviewCommentJpaRepository;
+import org.yyubin.infrastructure.persistence.review.comment.ReviewCommentJpaRepository.ReviewCommentCount;
 import org.yyubin.infrastructure.persistence.review.reaction.ReviewReactionJpaRepository;
+import org.yyubin.infrastructure.persistence.review.reaction.ReviewReactionJpaRepository.ReviewReactionCount;
 import org.yyubin.infrastructure.persistence.review.bookmark.ReviewBookmarkJpaRepository;
+import org.yyubin.infrastructure.persistence.review.bookmark.ReviewBookmarkJpaRepository.ReviewBookmarkCount;
+import org.yyubin.infrastructure.persistence.book.BookEntity;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
+/**
+ * 리뷰 검색 색인 동기화 데이터
+ * - buildSyncData: 리뷰 한 건 (카운트 3 + 도서 1 + 하이라이트 2 + 키워드 2, 리뷰당 쿼리 최대 8개)
+ * - buildSyncDataBatch: 청크 전체 (그룹 COUNT 3 + 도서 1 + 하이라이트 2 + 키워드 2, 청크당 쿼리 최대 8개)
+ */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class ReviewSyncDataProvider implements BatchReviewSyncService {
 
+    private static final HighlightLists EMPTY_HIGHLIGHTS =
+            new HighlightLists(Collections.emptyList(), Collections.emptyList());
+
     private final ReviewReactionJpaRepository reviewReactionJpaRepository;
     private final ReviewBookmarkJpaRepository reviewBookmarkJpaRepository;
     private final ReviewCommentJpaRepository reviewCommentJpaRepository;
@@ -42,7 +57,6 @@ public class ReviewSyncDataProvider implements BatchReviewSyncService {
         int likeCount = safeCount(reviewReactionJpaRepository.countByReviewId(review.getId()));
         int bookmarkCount = safeCount(reviewBookmarkJpaRepository.countByReviewId(review.getId()));
         int commentCount = safeCount(reviewCommentJpaRepository.countByReviewIdAndDeletedFalse(review.getId()));
-        long viewCount = review.getViewCount() != null ? review.getViewCount() : 0L;
 
         String bookTitle = bookJpaRepository.findById(review.getBookId())
                 .map(book -> book.getTitle())
@@ -51,6 +65,95 @@ public class ReviewSyncDataProvider implements BatchReviewSyncService {
         HighlightLists highlights = loadHighlights(review.getId());
         List<String> keywords = loadKeywords(review.getId());
 
+        return toSyncDto(review, bookTitle, highlights, keywords, likeCount, bookmarkCount, commentCount);
+    }
+
+    @Override
+    public List<ReviewSyncDto> buildSyncDataBatch(List<? extends ReviewEntity> reviews) {
+        if (reviews.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> reviewIds = reviews.stream().map(ReviewEntity::getId).toList();
+
+        Map<Long, Long> likeCounts = new HashMap<>();
+        for (ReviewReactionCount row : reviewReactionJpaRepository.countByReviewIds(reviewIds)) {
+            likeCounts.put(row.getReviewId(), row.getCount());
+        }
+        Map<Long, Long> bookmarkCounts = new HashMap<>();
+        for (ReviewBookmarkCount row : reviewBookmarkJpaRepository.countByReviewIds(reviewIds)) {
+            bookmarkCounts.put(row.getReviewId(), row.getCount());
+        }
+        Map<Long, Long> commentCounts = new HashMap<>();
+        for (ReviewCommentCount row : reviewCommentJpaRepository.countByReviewIds(reviewIds)) {
+            commentCounts.put(row.getReviewId(), row.getCount());
+        }
+
+        Map<Long, ReviewContentDto> contents = loadContentBatch(reviews);
+
+        List<ReviewSyncDto> results = new ArrayList<>(reviews.size());
+        for (ReviewEntity review : reviews) {
+            Long reviewId = review.getId();
+            ReviewContentDto content = contents.getOrDefault(reviewId, ReviewContentDto.EMPTY);
+            results.add(toSyncDto(
+                    review,
+                    content.bookTitle() != null ? content.bookTitle() : "",
+                    new HighlightLists(content.highlights(), content.highlightsNorm()),
+                    content.keywords(),
+                    safeCount(likeCounts.getOrDefault(reviewId, 0L)),
+                    safeCount(bookmarkCounts.getOrDefault(reviewId, 0L)),
+                    safeCount(commentCounts.getOrDefault(reviewId, 0L))
+            ));
+        }
+        return results;
+    }
+
+    @Override
+    public Map<Long, ReviewContentDto> loadContentBatch(List<? extends ReviewEntity> reviews) {
+        if (reviews.isEmpty()) {
+            return Map.of();
+        }
+
+        List<Long> reviewIds = reviews.stream().map(ReviewEntity::getId).toList();
+
+        List<Long> bookIds = reviews.stream()
+                .map(ReviewEntity::getBookId)
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+        Map<Long, String> bookTitles = new HashMap<>();
+        if (!bookIds.isEmpty()) {
+            for (BookEntity book : bookJpaRepository.findAllById(bookIds)) {
+                bookTitles.put(book.getId(), book.getTitle());
+            }
+        }
+
+        Map<Long, HighlightLists> highlightsByReview = loadHighlightsBatch(reviewIds);
+        Map<Long, List<String>> keywordsByReview = loadKeywordsBatch(reviewIds);
+
+        Map<Long, ReviewContentDto> results = new HashMap<>();
+        for (ReviewEntity review : reviews) {
+            HighlightLists highlights = highlightsByReview.getOrDefault(review.getId(), EMPTY_HIGHLIGHTS);
+            results.put(review.getId(), new ReviewContentDto(
+                    bookTitles.get(review.getBookId()),
+                    highlights.rawValues(),
+                    highlights.normalizedValues(),
+                    keywordsByReview.getOrDefault(review.getId(), List.of())
+            ));
+        }
+        return results;
+    }
+
+    private ReviewSyncDto toSyncDto(
+            ReviewEntity review,
+            String bookTitle,
+            HighlightLists highlights,
+            List<String> keywords,
+            int likeCount,
+            int bookmarkCount,
+            int commentCount
+    ) {
+        long viewCount = review.getViewCount() != null ? review.getViewCount() : 0L;
         return new ReviewSyncDto(
                 review.getId(),
                 review.getUserId(),
@@ -76,7 +179,7 @@ public class ReviewSyncDataProvider implements BatchReviewSyncService {
     private HighlightLists loadHighlights(Long reviewId) {
         List<ReviewHighlightEntity> mappings = reviewHighlightJpaRepository.findByIdReviewId(reviewId);
         if (mappings.isEmpty()) {
-            return new HighlightLists(Collections.emptyList(), Collections.emptyList());
+            return EMPTY_HIGHLIGHTS;
         }
 
         List<Long> highlightIds = mappings.stream()
@@ -86,6 +189,37 @@ public class ReviewSyncDataProvider implements BatchReviewSyncService {
         Map<Long, HighlightEntity> highlightMap = highlightJpaRepository.findByIdIn(highlightIds).stream()
                 .collect(Collectors.toMap(HighlightEntity::getId, Function.identity()));
 
+        return toHighlightLists(highlightIds, highlightMap);
+    }
+
+    /**
+     * 청크의 하이라이트 매핑과 하이라이트를 IN 쿼리 한 번씩으로 조회 (매핑 순서 유지)
+     */
+    private Map<Long, HighlightLists> loadHighlightsBatch(List<Long> reviewIds) {
+        List<ReviewHighlightEntity> mappings = reviewHighlightJpaRepository.findByIdReviewIdIn(reviewIds);
+        if (mappings.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<Long, List<Long>> highlightIdsByReview = new HashMap<>();
+        for (ReviewHighlightEntity mapping : mappings) {
+            highlightIdsByReview.computeIfAbsent(mapping.getId().getReviewId(), ignored -> new ArrayList<>())
+                    .add(mapping.getId().getHighlightId());
+        }
+
+        List<Long> highlightIds = mappings.stream()
+                .map(mapping -> mapping.getId().getHighlightId())
+                .distinct()
+                .toList();
+        Map<Long, HighlightEntity> highlightMap = highlightJpaRepository.findByIdIn(highlightIds).stream()
+                .collect(Collectors.toMap(HighlightEntity::getId, Function.identity()));
+
+        Map<Long, HighlightLists> results = new HashMap<>();
+        highlightIdsByReview.forEach((reviewId, ids) -> results.put(reviewId, toHighlightLists(ids, highlightMap)));
+        return results;
+    }
+
+    private HighlightLists toHighlightLists(List<Long> highlightIds, Map<Long, HighlightEntity> highlightMap) {
         List<String> rawValues = highlightIds.stream()
                 .map(highlightMap::get)
                 .map(entity -> entity != null ? entity.getRawValue() : null)
@@ -114,6 +248,37 @@ public class ReviewSyncDataProvider implements BatchReviewSyncService {
         Map<Long, KeywordEntity> keywordMap = keywordJpaRepository.findByIdIn(keywordIds).stream()
                 .collect(Collectors.toMap(KeywordEntity::getId, Function.identity()));
 
+        return toKeywords(keywordIds, keywordMap);
+    }
+
+    /**
+     * 청크의 키워드 매핑과 키워드를 IN 쿼리 한 번씩으로 조회 (매핑 순서 유지)
+     */
+    private Map<Long, List<String>> loadKeywordsBatch(List<Long> reviewIds) {
+        List<ReviewKeywordEntity> mappings = reviewKeywordJpaRepository.findByIdReviewIdIn(reviewIds);
+        if (mappings.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<Long, List<Long>> keywordIdsByReview = new HashMap<>();
+        for (ReviewKeywordEntity mapping : mappings) {
+            keywordIdsByReview.computeIfAbsent(mapping.getId().getReviewId(), ignored -> new ArrayList<>())
+                    .add(mapping.getId().getKeywordId());
+        }
+
+        List<Long> keywordIds = mappings.stream()
+                .map(mapping -> mapping.getId().getKeywordId())
+                .distinct()
+                .toList();
+        Map<Long, KeywordEntity> keywordMap = keywordJpaRepository.findByIdIn(keywordIds).stream()
+                .collect(Collectors.toMap(KeywordEntity::getId, Function.identity()));
+
+        Map<Long, List<String>> results = new HashMap<>();
+        keywordIdsByReview.forEach((reviewId, ids) -> results.put(reviewId, toKeywords(ids, keywordMap)));
+        return results;
+    }
+
+    private List<String> toKeywords(List<Long> keywordIds, Map<Long, KeywordEntity> keywordMap) {
         return keywordIds.stream()
                 .map(keywordMap::get)
                 .map(entity -> entity != null ? entity.getRawValue() : null)
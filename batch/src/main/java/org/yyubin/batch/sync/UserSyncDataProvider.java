@@ -12,12 +12,20 @@ import org.springframework.stereotype.Component;
 import org.yyubin.batch.service.BatchUserSyncService;
 import org.yyubin.infrastructure.persistence.review.ReviewEntity;
 import org.yyubin.infrastructure.persistence.review.ReviewJpaRepository;
+import org.yyubin.infrastructure.persistence.review.ReviewJpaRepository.UserBookReviewAggregate;
 import org.yyubin.infrastructure.persistence.review.reaction.ReviewReactionEntity;
 import org.yyubin.infrastructure.persistence.review.reaction.ReviewReactionJpaRepository;
+import org.yyubin.infrastructure.persistence.review.reaction.ReviewReactionJpaRepository.UserReactionEdge;
 import org.yyubin.infrastructure.persistence.user.UserEntity;
 import org.yyubin.infrastructure.persistence.wishlist.WishlistEntity;
 import org.yyubin.infrastructure.persistence.wishlist.WishlistJpaRepository;
+import org.yyubin.infrastructure.persistence.wishlist.WishlistJpaRepository.UserWishlistEdge;
 
+/**
+ * 사용자 그래프 동기화 데이터
+ * - buildSyncData: 사용자 한 명 (리뷰/위시리스트/반응/좋아요 리뷰 엔티티 조회, 사용자당 쿼리 3~4개)
+ * - buildSyncDataBatch: 청크 전체 (관계별 projection 쿼리 1개씩, 청크당 쿼리 3개)
+ */
 @Slf4j
 @Component
 @RequiredArgsConstructor
@@ -54,6 +62,66 @@ public class UserSyncDataProvider implements BatchUserSyncService {
         );
     }
 
+    @Override
+    public List<UserSyncDto> buildSyncDataBatch(List<? extends UserEntity> users) {
+        if (users.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> userIds = users.stream().map(UserEntity::getId).toList();
+
+        Map<Long, List<UserSyncDto.ViewedBook>> viewedByUser = new HashMap<>();
+        for (UserBookReviewAggregate row : reviewJpaRepository.aggregateByUserIdsGroupByBook(userIds)) {
+            if (row.getBookId() == null) {
+                continue;
+            }
+            viewedByUser.computeIfAbsent(row.getUserId(), ignored -> new ArrayList<>())
+                    .add(new UserSyncDto.ViewedBook(
+                            row.getBookId(),
+                            row.getFirstCreatedAt(),
+                            row.getLastCreatedAt(),
+                            safeAdd(0, row.getViewCount())
+                    ));
+        }
+
+        Map<Long, List<UserSyncDto.WishlistedBook>> wishlistedByUser = new HashMap<>();
+        for (UserWishlistEdge row : wishlistJpaRepository.findEdgesByUserIds(userIds)) {
+            if (row.getBookId() == null) {
+                continue;
+            }
+            wishlistedByUser.computeIfAbsent(row.getUserId(), ignored -> new ArrayList<>())
+                    .add(new UserSyncDto.WishlistedBook(row.getBookId(), row.getCreatedAt()));
+        }
+
+        Map<Long, List<UserSyncDto.LikedReviewBook>> likedByUser = new HashMap<>();
+        LocalDateTime now = LocalDateTime.now();
+        for (UserReactionEdge row : reviewReactionJpaRepository.findEdgesByUserIds(userIds)) {
+            if (row.getReviewId() == null || row.getBookId() == null) {
+                continue;
+            }
+            likedByUser.computeIfAbsent(row.getUserId(), ignored -> new ArrayList<>())
+                    .add(new UserSyncDto.LikedReviewBook(
+                            row.getReviewId(),
+                            row.getBookId(),
+                            row.getCreatedAt() != null ? row.getCreatedAt() : now
+                    ));
+        }
+
+        List<UserSyncDto> results = new ArrayList<>(users.size());
+        for (UserEntity user : users) {
+            results.add(new UserSyncDto(
+                    user.getId(),
+                    user.getUsername(),
+                    user.getEmail(),
+                    user.getCreatedAt(),
+                    viewedByUser.getOrDefault(user.getId(), List.of()),
+                    wishlistedByUser.getOrDefault(user.getId(), List.of()),
+                    likedByUser.getOrDefault(user.getId(), List.of())
+            ));
+        }
+        return results;
+    }
+
     private List<UserSyncDto.ViewedBook> aggregateViewedBooks(List<ReviewEntity> reviews) {
         if (reviews.isEmpty()) {
             return List.of();
@@ -4,6 +4,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.batch.core.job.Job;
@@ -32,9 +33,12 @@ import org.yyubin.batch.listener.SyncTimestampListener;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -174,50 +178,6 @@ class ElasticsearchSyncJobConfigTest {
         assertThat(result.getAverageRating()).isEqualTo(4.5f);
     }
 
-    @Test
-    @DisplayName("reviewDocumentProcessor가 ReviewEntity를 ReviewDocument로 변환")
-    void reviewDocumentProcessor_TransformsEntity() throws Exception {
-        // Given
-        ReviewEntity reviewEntity = mock(ReviewEntity.class);
-
-        ReviewSyncDto dto = new ReviewSyncDto(
-                1L,
-                10L,
-                100L,
-                "Test Book",
-                "Summary",
-                "Content",
-                List.of("highlight1"),
-                List.of("highlight_norm1"),
-                List.of("keyword1"),
-                4.0f,
-                "PUBLIC",
-                LocalDateTime.now(),
-                5,
-                3,
-                2,
-                10L,
-                0.8f,
-                "FANTASY"
-        );
-        when(batchReviewSyncService.buildSyncData(reviewEntity)).thenReturn(dto);
-
-        ReviewEngagementStats stats = new ReviewEngagementStats(1000, 800, 150, 150000, 100);
-        when(reviewEngagementStatsProvider.getStats(1L)).thenReturn(stats);
-
-        ItemProcessor<ReviewEntity, ReviewDocument> processor = config.reviewDocumentProcessor();
-
-        // When
-        ReviewDocument result = processor.process(reviewEntity);
-
-        // Then
-        assertThat(result).isNotNull();
-        assertThat(result.getId()).isEqualTo("1");
-        assertThat(result.getUserId()).isEqualTo(10L);
-        assertThat(result.getBookId()).isEqualTo(100L);
-        assertThat(result.getBookTitle()).isEqualTo("Test Book");
-    }
-
     @Test
     @DisplayName("bookDocumentWriter가 BookDocument 목록을 저장")
     void bookDocumentWriter_SavesDocuments() throws Exception {
@@ -249,32 +209,73 @@ class ElasticsearchSyncJobConfigTest {
     }
 
     @Test
-    @DisplayName("reviewDocumentWriter가 ReviewDocument 목록을 저장")
-    void reviewDocumentWriter_SavesDocuments() throws Exception {
+    @DisplayName("reviewDocumentWriter가 청크를 한 번에 보강해 ReviewDocument로 저장")
+    void reviewDocumentWriter_EnrichesChunkAndSaves() throws Exception {
         // Given
-        ReviewDocument doc1 = ReviewDocument.builder().id("1").build();
-        ReviewDocument doc2 = ReviewDocument.builder().id("2").build();
-        List<ReviewDocument> docs = List.of(doc1, doc2);
+        ReviewEntity review1 = mock(ReviewEntity.class);
+        ReviewEntity review2 = mock(ReviewEntity.class);
+        List<ReviewEntity> reviews = List.of(review1, review2);
+
+        when(batchReviewSyncService.buildSyncDataBatch(reviews)).thenReturn(List.of(
+                reviewSyncDto(1L, 10L, 100L, "Test Book"),
+                reviewSyncDto(2L, 20L, 200L, "Other Book")
+        ));
+        when(reviewEngagementStatsProvider.getStatsBatch(List.of(1L, 2L)))
+                .thenReturn(Map.of(1L, new ReviewEngagementStats(1000, 800, 150, 150000, 100)));
 
-        ItemWriter<ReviewDocument> writer = config.reviewDocumentWriter();
+        ItemWriter<ReviewEntity> writer = config.reviewDocumentWriter();
 
         // When
-        writer.write(new org.springframework.batch.infrastructure.item.Chunk<>(docs));
+        writer.write(new org.springframework.batch.infrastructure.item.Chunk<>(reviews));
 
         // Then
-        verify(searchReviewPort).saveAll(anyIterable());
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<ReviewDocument>> captor = ArgumentCaptor.forClass(List.class);
+        verify(searchReviewPort).saveAll(captor.capture());
+        List<ReviewDocument> documents = captor.getValue();
+        assertThat(documents).extracting(ReviewDocument::getId).containsExactly("1", "2");
+        assertThat(documents.get(0).getUserId()).isEqualTo(10L);
+        assertThat(documents.get(0).getBookId()).isEqualTo(100L);
+        assertThat(documents.get(0).getBookTitle()).isEqualTo("Test Book");
+        assertThat(documents.get(0).getAvgDwellMs()).isEqualTo(1500L);
+        assertThat(documents.get(1).getAvgDwellMs()).isZero();
+        verify(batchReviewSyncService, never()).buildSyncData(any());
     }
 
     @Test
-    @DisplayName("reviewDocumentWriter가 빈 목록일 때 저장하지 않음")
+    @DisplayName("reviewDocumentWriter가 빈 청크일 때 조회하거나 저장하지 않음")
     void reviewDocumentWriter_SkipsEmptyList() throws Exception {
         // Given
-        ItemWriter<ReviewDocument> writer = config.reviewDocumentWriter();
+        ItemWriter<ReviewEntity> writer = config.reviewDocumentWriter();
 
         // When
         writer.write(new org.springframework.batch.infrastructure.item.Chunk<>(List.of()));
 
         // Then
+        verify(batchReviewSyncService, never()).buildSyncDataBatch(anyList());
         verify(searchReviewPort, never()).saveAll(anyIterable());
     }
+
+    private ReviewSyncDto reviewSyncDto(Long id, Long userId, Long bookId, String bookTitle) {
+        return new ReviewSyncDto(
+                id,
+                userId,
+                bookId,
+                bookTitle,
+                "Summary",
+                "Content",
+                List.of("highlight1"),
+                List.of("highlight_norm1"),
+                List.of("keyword1"),
+                4.0f,
+                "PUBLIC",
+                LocalDateTime.now(),
+                5,
+                3,
+                2,
+                10L,
+                0.8f,
+                "FANTASY"
+        );
+    }
 }
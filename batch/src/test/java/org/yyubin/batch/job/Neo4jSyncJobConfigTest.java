@@ -4,6 +4,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.batch.core.job.Job;
@@ -13,6 +14,7 @@ import org.springframework.batch.infrastructure.item.ItemProcessor;
 import org.springframework.batch.infrastructure.item.ItemWriter;
 import org.springframework.transaction.PlatformTransactionManager;
 import org.yyubin.batch.config.BatchProperties;
+import org.yyubin.batch.config.BatchProperties.Sync.Neo4j.WriteMode;
 import org.yyubin.batch.service.BatchBookSyncService;
 import org.yyubin.batch.service.BatchUserSyncService;
 import org.yyubin.batch.sync.BookSyncDto;
@@ -38,7 +40,9 @@ import java.util.List;
 import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -152,32 +156,51 @@ class Neo4jSyncJobConfigTest {
     }
 
     @Test
-    @DisplayName("userNodeProcessor가 UserEntity를 UserNode로 변환")
-    void userNodeProcessor_TransformsEntity() throws Exception {
+    @DisplayName("userNodeWriter가 청크의 UserEntity를 한 번에 UserNode로 변환")
+    void userNodeWriter_BuildsNodesForWholeChunk() throws Exception {
         // Given
-        UserEntity userEntity = mock(UserEntity.class);
+        UserEntity user1 = mock(UserEntity.class);
+        UserEntity user2 = mock(UserEntity.class);
+        LocalDateTime likedAt = LocalDateTime.of(2024, 1, 5, 10, 0);
 
-        UserSyncDto dto = new UserSyncDto(
+        UserSyncDto dto1 = new UserSyncDto(
                 1L,
                 "testuser",
                 "test@example.com",
                 LocalDateTime.now(),
-                List.of(),
-                List.of(),
-                List.of()
+                List.of(new UserSyncDto.ViewedBook(100L, null, null, 0)),
+                List.of(new UserSyncDto.WishlistedBook(200L, null)),
+                List.of(new UserSyncDto.LikedReviewBook(10L, 300L, likedAt))
         );
-        when(batchUserSyncService.buildSyncData(userEntity)).thenReturn(dto);
+        UserSyncDto dto2 = new UserSyncDto(2L, "other", null, null, List.of(), List.of(), List.of());
+        when(batchUserSyncService.buildSyncDataBatch(List.of(user1, user2))).thenReturn(List.of(dto1, dto2));
 
-        ItemProcessor<UserEntity, UserNode> processor = config.userNodeProcessor();
+        writeMode(WriteMode.BULK);
+        ItemWriter<UserEntity> writer = config.userNodeWriter();
 
         // When
-        UserNode result = processor.process(userEntity);
+        writer.write(new org.springframework.batch.infrastructure.item.Chunk<>(List.of(user1, user2)));
 
         // Then
-        assertThat(result).isNotNull();
-        assertThat(result.getId()).isEqualTo(1L);
-        assertThat(result.getUsername()).isEqualTo("testuser");
-        assertThat(result.getEmail()).isEqualTo("test@example.com");
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<UserNode>> captor = ArgumentCaptor.forClass(List.class);
+        verify(graphUserPort).upsertAll(captor.capture());
+        List<UserNode> result = captor.getValue();
+        assertThat(result).extracting(UserNode::getId).containsExactly(1L, 2L);
+        assertThat(result.get(0).getUsername()).isEqualTo("testuser");
+        assertThat(result.get(0).getEmail()).isEqualTo("test@example.com");
+        assertThat(result.get(0).getViewedBooks()).singleElement().satisfies(viewed -> {
+            assertThat(viewed.getBook().getId()).isEqualTo(100L);
+            assertThat(viewed.getViewCount()).isEqualTo(1);
+        });
+        assertThat(result.get(0).getWishlistedBooks()).singleElement()
+                .satisfies(wishlisted -> assertThat(wishlisted.getBook().getId()).isEqualTo(200L));
+        assertThat(result.get(0).getLikedReviewBooks()).singleElement().satisfies(liked -> {
+            assertThat(liked.getReviewId()).isEqualTo(10L);
+            assertThat(liked.getBook().getId()).isEqualTo(300L);
+            assertThat(liked.getLikedAt()).isEqualTo(likedAt);
+        });
+        verify(batchUserSyncService, never()).buildSyncData(any(UserEntity.class));
     }
 
     @Test
@@ -209,6 +232,7 @@ class Neo4jSyncJobConfigTest {
         BookNode node2 = BookNode.builder().id(2L).title("Book 2").build();
         List<BookNode> nodes = List.of(node1, node2);
 
+        writeMode(WriteMode.ENTITY);
         ItemWriter<BookNode> writer = config.bookNodeWriter();
 
         // When
@@ -222,6 +246,7 @@ class Neo4jSyncJobConfigTest {
     @DisplayName("bookNodeWriter가 빈 목록일 때 저장하지 않음")
     void bookNodeWriter_SkipsEmptyList() throws Exception {
         // Given
+        writeMode(WriteMode.BULK);
         ItemWriter<BookNode> writer = config.bookNodeWriter();
 
         // When
@@ -229,20 +254,65 @@ class Neo4jSyncJobConfigTest {
 
         // Then
         verify(graphBookPort, never()).saveAll(anyIterable());
+        verify(graphBookPort, never()).upsertAll(anyList());
+    }
+
+    @Test
+    @DisplayName("BULK 모드면 bookNodeWriter가 청크를 UNWIND 일괄 저장")
+    void bookNodeWriter_BulkMode_UpsertsChunk() throws Exception {
+        // Given
+        List<BookNode> nodes = List.of(BookNode.builder().id(1L).title("Book 1").build());
+        writeMode(WriteMode.BULK);
+        ItemWriter<BookNode> writer = config.bookNodeWriter();
+
+        // When
+        writer.write(new org.springframework.batch.infrastructure.item.Chunk<>(nodes));
+
+        // Then
+        verify(graphBookPort).upsertAll(nodes);
+        verify(graphBookPort, never()).saveAll(anyIterable());
+    }
+
+    @Test
+    @DisplayName("BULK 모드면 userNodeWriter/reviewNodeWriter가 청크를 UNWIND 일괄 저장")
+    void userAndReviewNodeWriter_BulkMode_UpsertsChunk() throws Exception {
+        // Given
+        UserEntity userEntity = mock(UserEntity.class);
+        when(batchUserSyncService.buildSyncDataBatch(List.of(userEntity))).thenReturn(List.of(
+                new UserSyncDto(1L, "user1", null, null, List.of(), List.of(), List.of())
+        ));
+        List<ReviewNode> reviews = List.of(new ReviewNode(1L, 10L, 100L, Set.of()));
+        writeMode(WriteMode.BULK);
+        ItemWriter<UserEntity> userWriter = config.userNodeWriter();
+        ItemWriter<ReviewNode> reviewWriter = config.reviewNodeWriter();
+
+        // When
+        userWriter.write(new org.springframework.batch.infrastructure.item.Chunk<>(List.of(userEntity)));
+        reviewWriter.write(new org.springframework.batch.infrastructure.item.Chunk<>(reviews));
+
+        // Then
+        verify(graphUserPort).upsertAll(anyList());
+        verify(graphReviewPort).upsertAll(reviews);
+        verify(graphUserPort, never()).saveAll(anyIterable());
+        verify(graphReviewPort, never()).saveAll(anyIterable());
     }
 
     @Test
     @DisplayName("userNodeWriter가 UserNode 목록을 저장")
     void userNodeWriter_SavesNodes() throws Exception {
         // Given
-        UserNode node1 = UserNode.builder().id(1L).username("user1").build();
-        UserNode node2 = UserNode.builder().id(2L).username("user2").build();
-        List<UserNode> nodes = List.of(node1, node2);
+        UserEntity user1 = mock(UserEntity.class);
+        UserEntity user2 = mock(UserEntity.class);
+        when(batchUserSyncService.buildSyncDataBatch(List.of(user1, user2))).thenReturn(List.of(
+                new UserSyncDto(1L, "user1", null, null, List.of(), List.of(), List.of()),
+                new UserSyncDto(2L, "user2", null, null, List.of(), List.of(), List.of())
+        ));
 
-        ItemWriter<UserNode> writer = config.userNodeWriter();
+        writeMode(WriteMode.ENTITY);
+        ItemWriter<UserEntity> writer = config.userNodeWriter();
 
         // When
-        writer.write(new org.springframework.batch.infrastructure.item.Chunk<>(nodes));
+        writer.write(new org.springframework.batch.infrastructure.item.Chunk<>(List.of(user1, user2)));
 
         // Then
         verify(graphUserPort).saveAll(anyIterable());
@@ -256,6 +326,7 @@ class Neo4jSyncJobConfigTest {
         ReviewNode node2 = new ReviewNode(2L, 20L, 200L, Set.of());
         List<ReviewNode> nodes = List.of(node1, node2);
 
+        writeMode(WriteMode.ENTITY);
         ItemWriter<ReviewNode> writer = config.reviewNodeWriter();
 
         // When
@@ -295,4 +366,12 @@ class Neo4jSyncJobConfigTest {
         assertThat(result.getAuthors()).hasSize(1);
         assertThat(result.getAuthors().iterator().next().getName()).isEqualTo("Author1");
     }
+
+    private void writeMode(WriteMode mode) {
+        BatchProperties.Sync sync = new BatchProperties.Sync();
+        sync.getNeo4j().setBookWriteMode(mode);
+        sync.getNeo4j().setUserWriteMode(mode);
+        sync.getNeo4j().setReviewWriteMode(mode);
+        when(batchProperties.getSync()).thenReturn(sync);
+    }
 }
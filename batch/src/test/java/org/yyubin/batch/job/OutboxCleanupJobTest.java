@@ -57,6 +57,27 @@ class OutboxCleanupJobTest {
         assertThat(capturedCutoff).isCloseTo(expectedCutoff, within(1, ChronoUnit.SECONDS));
     }
 
+    @Test
+    @DisplayName("만료 파티션 정리 후 같은 cutoff 로 SENT 행을 삭제한다")
+    void cleanupOldOutboxEvents_DropsPartitionsThenDeletesSent() {
+        // Given
+        when(outboxPort.dropExpiredPartitions(any(Instant.class))).thenReturn(5000);
+        when(outboxPort.deleteByStatusAndOccurredAtBefore(
+                eq(OutboxEvent.OutboxStatus.SENT),
+                any(Instant.class)
+        )).thenReturn(3);
+
+        // When
+        outboxCleanupJob.cleanupOldOutboxEvents();
+
+        // Then
+        ArgumentCaptor<Instant> dropCutoff = ArgumentCaptor.forClass(Instant.class);
+        ArgumentCaptor<Instant> deleteCutoff = ArgumentCaptor.forClass(Instant.class);
+        verify(outboxPort).dropExpiredPartitions(dropCutoff.capture());
+        verify(outboxPort).deleteByStatusAndOccurredAtBefore(eq(OutboxEvent.OutboxStatus.SENT), deleteCutoff.capture());
+        assertThat(dropCutoff.getValue()).isEqualTo(deleteCutoff.getValue());
+    }
+
     @Test
     @DisplayName("삭제할 이벤트가 없는 경우")
     void cleanupOldOutboxEvents_NoEventsToDelete() {
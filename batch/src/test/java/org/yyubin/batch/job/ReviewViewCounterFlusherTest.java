@@ -1,5 +1,6 @@
 package org.yyubin.batch.job;
 
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -7,86 +8,108 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.redis.connection.RedisConnection;
-import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
 import org.springframework.data.redis.core.Cursor;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.ScanOptions;
-import org.springframework.data.redis.core.ValueOperations;
 import org.yyubin.application.review.port.ReviewViewFlushPort;
 
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
 @DisplayName("ReviewViewCounterFlusher 테스트")
 class ReviewViewCounterFlusherTest {
 
+    private static final String PREFIX = "metric:review:viewdelta:";
+
     @Mock
     private RedisTemplate<String, String> redisTemplate;
 
     @Mock
     private ReviewViewFlushPort reviewViewFlushPort;
 
-    @Mock
-    private RedisConnectionFactory connectionFactory;
-
-    @Mock
-    private RedisConnection redisConnection;
-
-    @Mock
-    private ValueOperations<String, String> valueOperations;
-
-    @Mock
-    private Cursor<byte[]> cursor;
-
     @InjectMocks
     private ReviewViewCounterFlusher reviewViewCounterFlusher;
 
+    /** 메모리 Redis 대역: INCRBY = merge, GETDEL = remove (키 단위 원자적) */
+    private final Map<String, Long> store = new ConcurrentHashMap<>();
+
+    @BeforeEach
+    void setUp() {
+        when(redisTemplate.scan(any(ScanOptions.class))).thenAnswer(invocation -> cursorOver(List.copyOf(store.keySet())));
+        when(redisTemplate.execute(eq(ReviewViewCounterFlusher.DRAIN_SCRIPT), anyList())).thenAnswer(invocation -> {
+            List<String> keys = invocation.getArgument(1);
+            List<Object> drained = new ArrayList<>();
+            for (String key : keys) {
+                Long value = store.remove(key);
+                if (value != null) {
+                    drained.add(key);
+                    drained.add(String.valueOf(value));
+                }
+            }
+            return drained;
+        });
+        when(redisTemplate.execute(eq(ReviewViewCounterFlusher.RESTORE_SCRIPT), anyList(), any(Object[].class)))
+                .thenAnswer(invocation -> {
+                    List<String> keys = invocation.getArgument(1);
+                    for (int i = 0; i < keys.size(); i++) {
+                        store.merge(keys.get(i), Long.parseLong(invocation.getArgument(2 + i).toString()), Long::sum);
+                    }
+                    return (long) keys.size();
+                });
+    }
+
     @Test
-    @DisplayName("조회수 카운터 플러시 성공")
+    @DisplayName("한 페이지를 한 번에 가져와 DB 한 번, ES 한 번으로 반영한다")
     void flush_Success() {
         // Given
-        setupRedisMocks();
-        when(cursor.hasNext()).thenReturn(true, true, false);
-        when(cursor.next())
-                .thenReturn("metric:review:view:1".getBytes())
-                .thenReturn("metric:review:view:2".getBytes());
-        when(valueOperations.get("metric:review:view:1")).thenReturn("10");
-        when(valueOperations.get("metric:review:view:2")).thenReturn("5");
+        store.put(PREFIX + "1", 10L);
+        store.put(PREFIX + "2", 5L);
 
         // When
         reviewViewCounterFlusher.flush();
 
         // Then
-        verify(redisTemplate).delete("metric:review:view:1");
-        verify(redisTemplate).delete("metric:review:view:2");
+        assertThat(store).isEmpty();
+        verify(redisTemplate, times(1)).execute(eq(ReviewViewCounterFlusher.DRAIN_SCRIPT), anyList());
 
         @SuppressWarnings("unchecked")
         ArgumentCaptor<List<ReviewViewFlushPort.CounterUpdate>> dbCaptor =
                 ArgumentCaptor.forClass(List.class);
         verify(reviewViewFlushPort).batchUpdateViewCount(dbCaptor.capture());
-        assertThat(dbCaptor.getValue()).hasSize(2);
+        assertThat(dbCaptor.getValue()).containsExactlyInAnyOrder(
+                new ReviewViewFlushPort.CounterUpdate(1L, 10L),
+                new ReviewViewFlushPort.CounterUpdate(2L, 5L)
+        );
 
         @SuppressWarnings("unchecked")
         ArgumentCaptor<Map<Long, Long>> esCaptor = ArgumentCaptor.forClass(Map.class);
         verify(reviewViewFlushPort).updateSearchIndexViewCount(esCaptor.capture());
-        assertThat(esCaptor.getValue()).hasSize(2);
+        assertThat(esCaptor.getValue()).containsOnly(Map.entry(1L, 10L), Map.entry(2L, 5L));
     }
 
     @Test
     @DisplayName("플러시할 카운터가 없는 경우")
     void flush_NoCounters() {
-        // Given
-        when(redisTemplate.getConnectionFactory()).thenReturn(connectionFactory);
-        when(connectionFactory.getConnection()).thenReturn(redisConnection);
-        when(redisConnection.scan(any(ScanOptions.class))).thenReturn(cursor);
-        when(cursor.hasNext()).thenReturn(false);
-
         // When
         reviewViewCounterFlusher.flush();
 
@@ -96,66 +119,72 @@ class ReviewViewCounterFlusherTest {
     }
 
     @Test
-    @DisplayName("0 이하의 값은 무시")
-    void flush_IgnoresZeroOrNegativeValues() {
+    @DisplayName("SCAN 페이지 크기마다 나눠서 반영한다")
+    void flush_AppliesPerPage() {
         // Given
-        setupRedisMocks();
-        when(cursor.hasNext()).thenReturn(true, true, false);
-        when(cursor.next())
-                .thenReturn("metric:review:view:1".getBytes())
-                .thenReturn("metric:review:view:2".getBytes());
-        when(valueOperations.get("metric:review:view:1")).thenReturn("0");
-        when(valueOperations.get("metric:review:view:2")).thenReturn("-5");
+        for (long reviewId = 1; reviewId <= 2_500; reviewId++) {
+            store.put(PREFIX + reviewId, 1L);
+        }
 
         // When
         reviewViewCounterFlusher.flush();
 
         // Then
-        verify(redisTemplate, never()).delete(anyString());
-        verify(reviewViewFlushPort, never()).batchUpdateViewCount(any());
+        verify(reviewViewFlushPort, times(3)).batchUpdateViewCount(anyList());
+        verify(reviewViewFlushPort, times(3)).updateSearchIndexViewCount(any());
+        assertThat(store).isEmpty();
     }
 
     @Test
-    @DisplayName("null 값은 무시")
-    void flush_IgnoresNullValues() {
+    @DisplayName("0 이나 잘못된 키/값은 비우기만 하고 반영하지 않는다")
+    void flush_DropsZeroAndInvalidCounters() {
         // Given
-        setupRedisMocks();
-        when(cursor.hasNext()).thenReturn(true, false);
-        when(cursor.next()).thenReturn("metric:review:view:1".getBytes());
-        when(valueOperations.get("metric:review:view:1")).thenReturn(null);
+        store.put(PREFIX + "1", 0L);
+        store.put(PREFIX + "invalid", 10L);
 
         // When
         reviewViewCounterFlusher.flush();
 
         // Then
-        verify(redisTemplate, never()).delete(anyString());
+        assertThat(store).isEmpty();
         verify(reviewViewFlushPort, never()).batchUpdateViewCount(any());
     }
 
     @Test
-    @DisplayName("잘못된 키 형식은 무시")
-    void flush_IgnoresInvalidKeys() {
+    @DisplayName("DB 반영이 실패하면 가져온 증분을 Redis 에 되돌린다")
+    void flush_DbFailure_RestoresDeltas() {
+        // Given
+        store.put(PREFIX + "1", 10L);
+        doThrow(new IllegalStateException("db down")).when(reviewViewFlushPort).batchUpdateViewCount(anyList());
+
+        // When
+        reviewViewCounterFlusher.flush();
+
+        // Then
+        assertThat(store).containsOnly(Map.entry(PREFIX + "1", 10L));
+        verify(reviewViewFlushPort, never()).updateSearchIndexViewCount(any());
+    }
+
+    @Test
+    @DisplayName("ES 반영이 실패해도 DB 반영은 유지한다")
+    void flush_SearchIndexFailure_KeepsDbUpdate() {
         // Given
-        setupRedisMocks();
-        when(cursor.hasNext()).thenReturn(true, false);
-        when(cursor.next()).thenReturn("metric:review:view:invalid".getBytes());
-        when(valueOperations.get("metric:review:view:invalid")).thenReturn("10");
+        store.put(PREFIX + "1", 10L);
+        doThrow(new IllegalStateException("es down")).when(reviewViewFlushPort).updateSearchIndexViewCount(any());
 
         // When
         reviewViewCounterFlusher.flush();
 
         // Then
-        // 유효하지 않은 reviewId이므로 삭제만 되고 업데이트는 안됨
-        verify(redisTemplate).delete("metric:review:view:invalid");
+        assertThat(store).isEmpty();
+        verify(reviewViewFlushPort).batchUpdateViewCount(anyList());
     }
 
     @Test
-    @DisplayName("스캔 중 예외 발생 시 빈 리스트 반환")
+    @DisplayName("스캔 중 예외가 나면 아무것도 반영하지 않는다")
     void flush_ScanException() {
         // Given
-        when(redisTemplate.getConnectionFactory()).thenReturn(connectionFactory);
-        when(connectionFactory.getConnection()).thenReturn(redisConnection);
-        when(redisConnection.scan(any(ScanOptions.class))).thenThrow(new RuntimeException("Scan failed"));
+        doThrow(new RuntimeException("Scan failed")).when(redisTemplate).scan(any(ScanOptions.class));
 
         // When
         reviewViewCounterFlusher.flush();
@@ -165,26 +194,70 @@ class ReviewViewCounterFlusherTest {
     }
 
     @Test
-    @DisplayName("숫자가 아닌 값은 무시")
-    void flush_IgnoresNonNumericValues() {
+    @DisplayName("플러시 도중 들어온 증가분도 잃어버리지 않는다")
+    void flush_ConcurrentIncrements_NoLostCounts() throws Exception {
         // Given
-        setupRedisMocks();
-        when(cursor.hasNext()).thenReturn(true, false);
-        when(cursor.next()).thenReturn("metric:review:view:1".getBytes());
-        when(valueOperations.get("metric:review:view:1")).thenReturn("not_a_number");
+        int writers = 4;
+        int incrementsPerWriter = 20_000;
+        Map<Long, Long> applied = new ConcurrentHashMap<>();
+        doAnswer(invocation -> {
+            List<ReviewViewFlushPort.CounterUpdate> updates = invocation.getArgument(0);
+            updates.forEach(update -> applied.merge(update.reviewId(), update.delta(), Long::sum));
+            return null;
+        }).when(reviewViewFlushPort).batchUpdateViewCount(anyList());
+
+        Map<Long, Long> expected = new ConcurrentHashMap<>();
+        ExecutorService executor = Executors.newFixedThreadPool(writers + 1);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicBoolean writing = new AtomicBoolean(true);
 
         // When
+        try {
+            List<Future<?>> writerFutures = new ArrayList<>();
+            for (int w = 0; w < writers; w++) {
+                writerFutures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < incrementsPerWriter; i++) {
+                        long reviewId = ThreadLocalRandom.current().nextLong(1, 51);
+                        store.merge(PREFIX + reviewId, 1L, Long::sum);
+                        expected.merge(reviewId, 1L, Long::sum);
+                    }
+                    return null;
+                }));
+            }
+            Future<?> flusher = executor.submit(() -> {
+                start.await();
+                while (writing.get()) {
+                    reviewViewCounterFlusher.flush();
+                    Thread.sleep(1);
+                }
+                return null;
+            });
+
+            start.countDown();
+            for (Future<?> writer : writerFutures) {
+                writer.get(30, TimeUnit.SECONDS);
+            }
+            writing.set(false);
+            flusher.get(30, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
         reviewViewCounterFlusher.flush();
 
         // Then
-        verify(redisTemplate, never()).delete(anyString());
-        verify(reviewViewFlushPort, never()).batchUpdateViewCount(any());
+        assertThat(store).isEmpty();
+        assertThat(applied.values().stream().mapToLong(Long::longValue).sum())
+                .isEqualTo((long) writers * incrementsPerWriter);
+        assertThat(applied).isEqualTo(expected);
     }
 
-    private void setupRedisMocks() {
-        when(redisTemplate.getConnectionFactory()).thenReturn(connectionFactory);
-        when(connectionFactory.getConnection()).thenReturn(redisConnection);
-        when(redisConnection.scan(any(ScanOptions.class))).thenReturn(cursor);
-        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+    @SuppressWarnings("unchecked")
+    private Cursor<String> cursorOver(List<String> keys) {
+        Cursor<String> cursor = mock(Cursor.class);
+        Iterator<String> iterator = keys.iterator();
+        when(cursor.hasNext()).thenAnswer(invocation -> iterator.hasNext());
+        when(cursor.next()).thenAnswer(invocation -> iterator.next());
+        return cursor;
     }
 }
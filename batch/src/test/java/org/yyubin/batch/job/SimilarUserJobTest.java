@@ -6,15 +6,17 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
 import org.yyubin.application.recommendation.port.out.ReviewCircleCachePort;
 import org.yyubin.application.recommendation.usecase.FindSimilarUsersUseCase;
 import org.yyubin.domain.recommendation.UserTasteVector;
-import org.yyubin.infrastructure.persistence.user.UserEntity;
 import org.yyubin.infrastructure.persistence.user.UserJpaRepository;
 
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.stream.LongStream;
 
+import static org.assertj.core.api.Assertions.assertThatCode;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
@@ -39,138 +41,125 @@ class SimilarUserJobTest {
     @DisplayName("유사 사용자 계산 성공")
     void findSimilarUsers_Success() {
         // Given
-        UserEntity user1 = createUserEntity(1L);
-        UserEntity user2 = createUserEntity(2L);
-        when(userRepository.findAll()).thenReturn(List.of(user1, user2));
+        when(userRepository.findIdsAfter(eq(0L), any(Pageable.class))).thenReturn(List.of(1L, 2L));
 
         UserTasteVector vector1 = createTasteVector(1L);
         UserTasteVector vector2 = createTasteVector(2L);
-        when(cachePort.getTasteVector(1L)).thenReturn(Optional.of(vector1));
-        when(cachePort.getTasteVector(2L)).thenReturn(Optional.of(vector2));
+        when(cachePort.getTasteVectors(List.of(1L, 2L))).thenReturn(List.of(vector1, vector2));
+        when(findSimilarUsersUseCase.executeAll(anyList()))
+                .thenReturn(new FindSimilarUsersUseCase.BatchResult(2, 2, 0));
 
         // When
         similarUserJob.findSimilarUsers();
 
         // Then
-        verify(userRepository).findAll();
-        verify(cachePort).getTasteVector(1L);
-        verify(cachePort).getTasteVector(2L);
-        verify(findSimilarUsersUseCase, times(2)).execute(anyLong(), anyList());
+        verify(userRepository).findIdsAfter(eq(0L), any(Pageable.class));
+        verify(cachePort).getTasteVectors(List.of(1L, 2L));
+        verify(cachePort, never()).getTasteVector(anyLong());
+        verify(findSimilarUsersUseCase).executeAll(List.of(vector1, vector2));
     }
 
     @Test
     @DisplayName("사용자가 없는 경우")
     void findSimilarUsers_NoUsers() {
         // Given
-        when(userRepository.findAll()).thenReturn(Collections.emptyList());
+        when(userRepository.findIdsAfter(eq(0L), any(Pageable.class))).thenReturn(Collections.emptyList());
 
         // When
         similarUserJob.findSimilarUsers();
 
         // Then
-        verify(userRepository).findAll();
-        verify(findSimilarUsersUseCase, never()).execute(anyLong(), anyList());
+        verify(cachePort, never()).getTasteVectors(anyList());
+        verify(findSimilarUsersUseCase, never()).executeAll(anyList());
     }
 
     @Test
     @DisplayName("취향 벡터가 없는 경우 스킵")
     void findSimilarUsers_NoTasteVectors() {
         // Given
-        UserEntity user1 = createUserEntity(1L);
-        UserEntity user2 = createUserEntity(2L);
-        when(userRepository.findAll()).thenReturn(List.of(user1, user2));
-        when(cachePort.getTasteVector(anyLong())).thenReturn(Optional.empty());
+        when(userRepository.findIdsAfter(eq(0L), any(Pageable.class))).thenReturn(List.of(1L, 2L));
+        when(cachePort.getTasteVectors(anyList())).thenReturn(List.of());
 
         // When
         similarUserJob.findSimilarUsers();
 
         // Then
-        verify(userRepository).findAll();
-        verify(findSimilarUsersUseCase, never()).execute(anyLong(), anyList());
+        verify(findSimilarUsersUseCase, never()).executeAll(anyList());
     }
 
     @Test
     @DisplayName("일부 사용자에게만 취향 벡터가 있는 경우")
     void findSimilarUsers_PartialTasteVectors() {
         // Given
-        UserEntity user1 = createUserEntity(1L);
-        UserEntity user2 = createUserEntity(2L);
-        UserEntity user3 = createUserEntity(3L);
-        when(userRepository.findAll()).thenReturn(List.of(user1, user2, user3));
+        when(userRepository.findIdsAfter(eq(0L), any(Pageable.class))).thenReturn(List.of(1L, 2L, 3L));
 
         UserTasteVector vector1 = createTasteVector(1L);
-        when(cachePort.getTasteVector(1L)).thenReturn(Optional.of(vector1));
-        when(cachePort.getTasteVector(2L)).thenReturn(Optional.empty());
-        when(cachePort.getTasteVector(3L)).thenReturn(Optional.empty());
+        when(cachePort.getTasteVectors(List.of(1L, 2L, 3L))).thenReturn(List.of(vector1));
+        when(findSimilarUsersUseCase.executeAll(anyList()))
+                .thenReturn(new FindSimilarUsersUseCase.BatchResult(1, 0, 0));
 
         // When
         similarUserJob.findSimilarUsers();
 
         // Then
-        verify(findSimilarUsersUseCase, times(1)).execute(eq(1L), anyList());
+        verify(findSimilarUsersUseCase, times(1)).executeAll(List.of(vector1));
     }
 
     @Test
-    @DisplayName("일부 사용자 처리 실패 시 나머지 계속 처리")
+    @DisplayName("일부 사용자 저장 실패가 있어도 배치는 정상 종료")
     void findSimilarUsers_PartialFailure() {
         // Given
-        UserEntity user1 = createUserEntity(1L);
-        UserEntity user2 = createUserEntity(2L);
-        when(userRepository.findAll()).thenReturn(List.of(user1, user2));
+        when(userRepository.findIdsAfter(eq(0L), any(Pageable.class))).thenReturn(List.of(1L, 2L));
 
         UserTasteVector vector1 = createTasteVector(1L);
         UserTasteVector vector2 = createTasteVector(2L);
-        when(cachePort.getTasteVector(1L)).thenReturn(Optional.of(vector1));
-        when(cachePort.getTasteVector(2L)).thenReturn(Optional.of(vector2));
+        when(cachePort.getTasteVectors(List.of(1L, 2L))).thenReturn(List.of(vector1, vector2));
+        when(findSimilarUsersUseCase.executeAll(anyList()))
+                .thenReturn(new FindSimilarUsersUseCase.BatchResult(2, 1, 1));
 
-        doThrow(new RuntimeException("Calculation failed")).when(findSimilarUsersUseCase).execute(eq(1L), anyList());
-
-        // When
-        similarUserJob.findSimilarUsers();
+        // When & Then
+        assertThatCode(() -> similarUserJob.findSimilarUsers()).doesNotThrowAnyException();
 
-        // Then
-        verify(findSimilarUsersUseCase).execute(eq(1L), anyList());
-        verify(findSimilarUsersUseCase).execute(eq(2L), anyList());
+        verify(findSimilarUsersUseCase).executeAll(List.of(vector1, vector2));
     }
 
     @Test
     @DisplayName("사용자 조회 실패 시 예외 전파")
     void findSimilarUsers_UserQueryFails() {
         // Given
-        when(userRepository.findAll()).thenThrow(new RuntimeException("Database error"));
+        when(userRepository.findIdsAfter(anyLong(), any(Pageable.class)))
+                .thenThrow(new RuntimeException("Database error"));
 
         // When & Then
         assertThatThrownBy(() -> similarUserJob.findSimilarUsers())
                 .isInstanceOf(RuntimeException.class)
                 .hasMessage("Database error");
 
-        verify(findSimilarUsersUseCase, never()).execute(anyLong(), anyList());
+        verify(findSimilarUsersUseCase, never()).executeAll(anyList());
     }
 
     @Test
-    @DisplayName("대량 사용자 처리 성공")
-    void findSimilarUsers_LargeUserCount() {
+    @DisplayName("ID 페이지를 keyset 커서로 이어서 조회")
+    void findSimilarUsers_KeysetPagination() {
         // Given
-        List<UserEntity> users = java.util.stream.LongStream.rangeClosed(1, 150)
-                .mapToObj(this::createUserEntity)
-                .toList();
-        when(userRepository.findAll()).thenReturn(users);
+        List<Long> firstPage = LongStream.rangeClosed(1, 5_000).boxed().toList();
+        List<Long> secondPage = List.of(5_001L, 5_002L);
+        when(userRepository.findIdsAfter(eq(0L), any(Pageable.class))).thenReturn(firstPage);
+        when(userRepository.findIdsAfter(eq(5_000L), any(Pageable.class))).thenReturn(secondPage);
 
-        for (long i = 1; i <= 150; i++) {
-            when(cachePort.getTasteVector(i)).thenReturn(Optional.of(createTasteVector(i)));
-        }
+        UserTasteVector vector1 = createTasteVector(1L);
+        UserTasteVector vector5001 = createTasteVector(5_001L);
+        when(cachePort.getTasteVectors(firstPage)).thenReturn(List.of(vector1));
+        when(cachePort.getTasteVectors(secondPage)).thenReturn(List.of(vector5001));
+        when(findSimilarUsersUseCase.executeAll(anyList()))
+                .thenReturn(new FindSimilarUsersUseCase.BatchResult(2, 2, 0));
 
         // When
         similarUserJob.findSimilarUsers();
 
         // Then
-        verify(findSimilarUsersUseCase, times(150)).execute(anyLong(), anyList());
-    }
-
-    private UserEntity createUserEntity(Long id) {
-        UserEntity user = mock(UserEntity.class);
-        when(user.getId()).thenReturn(id);
-        return user;
+        verify(userRepository, times(2)).findIdsAfter(anyLong(), any(Pageable.class));
+        verify(findSimilarUsersUseCase).executeAll(List.of(vector1, vector5001));
     }
 
     private UserTasteVector createTasteVector(Long userId) {
@@ -9,7 +9,15 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.ValueOperations;
 
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -157,4 +165,40 @@ class ReviewEngagementStatsProviderTest {
         assertThat(stats.totalDwellMs()).isEqualTo(9876543210987L);
         assertThat(stats.dwellCount()).isEqualTo(1111111111111L);
     }
+
+    @Test
+    @DisplayName("여러 리뷰의 통계를 MGET 한 번으로 조회")
+    void getStatsBatch_SingleMultiGet() {
+        // Given
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.multiGet(List.of(
+                "metric:review:impression:1", "metric:review:reach:1", "metric:review:click:1",
+                "metric:review:dwell:sum:1", "metric:review:dwell:count:1",
+                "metric:review:impression:2", "metric:review:reach:2", "metric:review:click:2",
+                "metric:review:dwell:sum:2", "metric:review:dwell:count:2"
+        ))).thenReturn(Arrays.asList(
+                "1000", "800", "100", "50000", "50",
+                null, "invalid", null, null, "3"
+        ));
+
+        // When
+        Map<Long, ReviewEngagementStats> stats = provider.getStatsBatch(Arrays.asList(1L, null, 2L, 1L));
+
+        // Then
+        assertThat(stats).containsOnlyKeys(1L, 2L);
+        assertThat(stats.get(1L)).isEqualTo(new ReviewEngagementStats(1000, 800, 100, 50000, 50));
+        assertThat(stats.get(2L)).isEqualTo(new ReviewEngagementStats(0, 0, 0, 0, 3));
+        verify(valueOperations, never()).get(anyString());
+    }
+
+    @Test
+    @DisplayName("조회할 리뷰가 없으면 Redis를 호출하지 않음")
+    void getStatsBatch_Empty() {
+        // When
+        Map<Long, ReviewEngagementStats> stats = provider.getStatsBatch(List.of());
+
+        // Then
+        assertThat(stats).isEmpty();
+        verifyNoInteractions(redisTemplate);
+    }
 }
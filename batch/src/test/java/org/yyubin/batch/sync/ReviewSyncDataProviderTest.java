@@ -25,10 +25,12 @@ import org.yyubin.infrastructure.persistence.review.reaction.ReviewReactionJpaRe
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -306,6 +308,162 @@ class ReviewSyncDataProviderTest {
         assertThat(result.highlightsNorm()).isEmpty();
     }
 
+    @Test
+    @DisplayName("청크 단위로 그룹 COUNT와 IN 쿼리를 한 번씩 실행해 DTO 생성")
+    void buildSyncDataBatch_Success() {
+        // Given
+        ReviewEntity review1 = createMockReview(1L, 10L, 100L, "Summary 1", "Content 1", 5, ReviewVisibility.PUBLIC, BookGenre.FANTASY, 500L);
+        ReviewEntity review2 = createMockReview(2L, 20L, 200L, "Summary 2", "Content 2", 3, ReviewVisibility.PRIVATE, null, 0L);
+        List<Long> reviewIds = List.of(1L, 2L);
+
+        when(reviewReactionJpaRepository.countByReviewIds(reviewIds)).thenReturn(List.of(new ReactionCount(1L, 25L)));
+        when(reviewBookmarkJpaRepository.countByReviewIds(reviewIds)).thenReturn(List.of(new BookmarkCount(2L, 10L)));
+        when(reviewCommentJpaRepository.countByReviewIds(reviewIds)).thenReturn(List.of(new CommentCount(1L, Long.MAX_VALUE)));
+
+        BookEntity book = mock(BookEntity.class);
+        when(book.getId()).thenReturn(100L);
+        when(book.getTitle()).thenReturn("Test Book");
+        when(bookJpaRepository.findAllById(List.of(100L, 200L))).thenReturn(List.of(book));
+
+        when(reviewHighlightJpaRepository.findByIdReviewIdIn(reviewIds)).thenReturn(List.of(
+                highlightMapping(1L, 11L),
+                highlightMapping(1L, 12L),
+                highlightMapping(2L, 11L)
+        ));
+        when(highlightJpaRepository.findByIdIn(List.of(11L, 12L))).thenReturn(List.of(
+                highlight(12L, "second", "second"),
+                highlight(11L, "first", "first")
+        ));
+
+        when(reviewKeywordJpaRepository.findByIdReviewIdIn(reviewIds)).thenReturn(List.of(keywordMapping(2L, 21L)));
+        KeywordEntity keyword = mock(KeywordEntity.class);
+        when(keyword.getId()).thenReturn(21L);
+        when(keyword.getRawValue()).thenReturn("magic");
+        when(keywordJpaRepository.findByIdIn(List.of(21L))).thenReturn(List.of(keyword));
+
+        // When
+        List<ReviewSyncDto> results = provider.buildSyncDataBatch(List.of(review1, review2));
+
+        // Then
+        assertThat(results).extracting(ReviewSyncDto::id).containsExactly(1L, 2L);
+
+        ReviewSyncDto first = results.get(0);
+        assertThat(first.bookTitle()).isEqualTo("Test Book");
+        assertThat(first.likeCount()).isEqualTo(25);
+        assertThat(first.bookmarkCount()).isZero();
+        assertThat(first.commentCount()).isEqualTo(Integer.MAX_VALUE);
+        assertThat(first.viewCount()).isEqualTo(500L);
+        assertThat(first.highlights()).containsExactly("first", "second");
+        assertThat(first.keywords()).isEmpty();
+        assertThat(first.genre()).isEqualTo("FANTASY");
+
+        ReviewSyncDto second = results.get(1);
+        assertThat(second.bookTitle()).isEmpty();
+        assertThat(second.likeCount()).isZero();
+        assertThat(second.bookmarkCount()).isEqualTo(10);
+        assertThat(second.highlights()).containsExactly("first");
+        assertThat(second.keywords()).containsExactly("magic");
+        assertThat(second.visibility()).isEqualTo("PRIVATE");
+
+        verify(reviewReactionJpaRepository, never()).countByReviewId(anyLong());
+        verify(bookJpaRepository, never()).findById(anyLong());
+        verify(reviewHighlightJpaRepository, never()).findByIdReviewId(anyLong());
+    }
+
+    @Test
+    @DisplayName("청크에 하이라이트와 키워드가 없으면 엔티티 조회를 생략")
+    void buildSyncDataBatch_NoMappings() {
+        // Given
+        ReviewEntity review = createMockReview(1L, 10L, 100L, "Summary", "Content", 4, ReviewVisibility.PUBLIC, null, 0L);
+
+        when(reviewReactionJpaRepository.countByReviewIds(List.of(1L))).thenReturn(List.of());
+        when(reviewBookmarkJpaRepository.countByReviewIds(List.of(1L))).thenReturn(List.of());
+        when(reviewCommentJpaRepository.countByReviewIds(List.of(1L))).thenReturn(List.of());
+        when(bookJpaRepository.findAllById(List.of(100L))).thenReturn(List.of());
+        when(reviewHighlightJpaRepository.findByIdReviewIdIn(List.of(1L))).thenReturn(List.of());
+        when(reviewKeywordJpaRepository.findByIdReviewIdIn(List.of(1L))).thenReturn(List.of());
+
+        // When
+        List<ReviewSyncDto> results = provider.buildSyncDataBatch(List.of(review));
+
+        // Then
+        assertThat(results).singleElement().satisfies(dto -> {
+            assertThat(dto.highlights()).isEmpty();
+            assertThat(dto.highlightsNorm()).isEmpty();
+            assertThat(dto.keywords()).isEmpty();
+            assertThat(dto.likeCount()).isZero();
+        });
+        verify(highlightJpaRepository, never()).findByIdIn(anyList());
+        verify(keywordJpaRepository, never()).findByIdIn(anyList());
+    }
+
+    @Test
+    @DisplayName("빈 청크는 쿼리를 실행하지 않음")
+    void buildSyncDataBatch_Empty() {
+        // When
+        List<ReviewSyncDto> results = provider.buildSyncDataBatch(List.of());
+
+        // Then
+        assertThat(results).isEmpty();
+        verifyNoInteractions(reviewReactionJpaRepository, reviewBookmarkJpaRepository, reviewCommentJpaRepository, bookJpaRepository);
+    }
+
+    @Test
+    @DisplayName("청크 콘텐츠 조회는 카운트 없이 도서/하이라이트/키워드만 조회하고 도서가 없으면 제목은 null")
+    void loadContentBatch_LoadsContentOnly() {
+        // Given
+        ReviewEntity review1 = mock(ReviewEntity.class);
+        when(review1.getId()).thenReturn(1L);
+        when(review1.getBookId()).thenReturn(100L);
+        ReviewEntity review2 = mock(ReviewEntity.class);
+        when(review2.getId()).thenReturn(2L);
+        when(review2.getBookId()).thenReturn(200L);
+        List<Long> reviewIds = List.of(1L, 2L);
+
+        BookEntity book = mock(BookEntity.class);
+        when(book.getId()).thenReturn(100L);
+        when(book.getTitle()).thenReturn("Test Book");
+        when(bookJpaRepository.findAllById(List.of(100L, 200L))).thenReturn(List.of(book));
+
+        when(reviewHighlightJpaRepository.findByIdReviewIdIn(reviewIds)).thenReturn(List.of(highlightMapping(1L, 11L)));
+        when(highlightJpaRepository.findByIdIn(List.of(11L))).thenReturn(List.of(highlight(11L, "Raw", "raw")));
+        when(reviewKeywordJpaRepository.findByIdReviewIdIn(reviewIds)).thenReturn(List.of());
+
+        // When
+        Map<Long, ReviewContentDto> results = provider.loadContentBatch(List.of(review1, review2));
+
+        // Then
+        assertThat(results).containsOnlyKeys(1L, 2L);
+        assertThat(results.get(1L).bookTitle()).isEqualTo("Test Book");
+        assertThat(results.get(1L).highlights()).containsExactly("Raw");
+        assertThat(results.get(1L).highlightsNorm()).containsExactly("raw");
+        assertThat(results.get(2L).bookTitle()).isNull();
+        assertThat(results.get(2L).highlights()).isEmpty();
+        assertThat(results.get(2L).keywords()).isEmpty();
+        verifyNoInteractions(reviewReactionJpaRepository, reviewBookmarkJpaRepository, reviewCommentJpaRepository);
+        verify(keywordJpaRepository, never()).findByIdIn(anyList());
+    }
+
+    private ReviewHighlightEntity highlightMapping(Long reviewId, Long highlightId) {
+        ReviewHighlightEntity mapping = mock(ReviewHighlightEntity.class);
+        when(mapping.getId()).thenReturn(new ReviewHighlightEntity.ReviewHighlightKey(reviewId, highlightId));
+        return mapping;
+    }
+
+    private ReviewKeywordEntity keywordMapping(Long reviewId, Long keywordId) {
+        ReviewKeywordEntity mapping = mock(ReviewKeywordEntity.class);
+        when(mapping.getId()).thenReturn(new ReviewKeywordEntity.ReviewKeywordKey(reviewId, keywordId));
+        return mapping;
+    }
+
+    private HighlightEntity highlight(Long id, String rawValue, String normalizedValue) {
+        HighlightEntity highlight = mock(HighlightEntity.class);
+        when(highlight.getId()).thenReturn(id);
+        when(highlight.getRawValue()).thenReturn(rawValue);
+        when(highlight.getNormalizedValue()).thenReturn(normalizedValue);
+        return highlight;
+    }
+
     private ReviewEntity createMockReview(Long id, Long userId, Long bookId, String summary, String content,
                                           Integer rating, ReviewVisibility visibility, BookGenre genre, Long viewCount) {
         ReviewEntity review = mock(ReviewEntity.class);
@@ -321,4 +479,13 @@ class ReviewSyncDataProviderTest {
         when(review.getCreatedAt()).thenReturn(LocalDateTime.of(2024, 1, 1, 10, 0));
         return review;
     }
+
+    private record ReactionCount(Long getReviewId, Long getCount)
+            implements ReviewReactionJpaRepository.ReviewReactionCount {}
+
+    private record BookmarkCount(Long getReviewId, Long getCount)
+            implements ReviewBookmarkJpaRepository.ReviewBookmarkCount {}
+
+    private record CommentCount(Long getReviewId, Long getCount)
+            implements ReviewCommentJpaRepository.ReviewCommentCount {}
 }
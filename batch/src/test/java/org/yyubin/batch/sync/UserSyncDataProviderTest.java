@@ -16,9 +16,12 @@ import org.yyubin.infrastructure.persistence.wishlist.WishlistEntity;
 import org.yyubin.infrastructure.persistence.wishlist.WishlistJpaRepository;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -237,6 +240,95 @@ class UserSyncDataProviderTest {
         assertThat(result.likedReviewBooks()).isEmpty();
     }
 
+    @Test
+    @DisplayName("청크 단위 생성 - 관계별 projection 쿼리 한 번씩으로 사용자별 DTO 생성")
+    void buildSyncDataBatch_GroupsEdgesByUser() {
+        // Given
+        UserEntity user1 = createMockUser(1L, "user1", "user1@example.com");
+        UserEntity user2 = createMockUser(2L, "user2", "user2@example.com");
+        LocalDateTime first = LocalDateTime.of(2024, 1, 1, 10, 0);
+        LocalDateTime last = LocalDateTime.of(2024, 1, 10, 15, 0);
+
+        when(reviewJpaRepository.aggregateByUserIdsGroupByBook(List.of(1L, 2L))).thenReturn(List.of(
+                new ReviewAggregateRow(1L, 100L, first, last, 80L),
+                new ReviewAggregateRow(2L, null, first, last, 10L)
+        ));
+        when(wishlistJpaRepository.findEdgesByUserIds(List.of(1L, 2L))).thenReturn(List.of(
+                new WishlistEdgeRow(2L, 200L, first)
+        ));
+        when(reviewReactionJpaRepository.findEdgesByUserIds(List.of(1L, 2L))).thenReturn(List.of(
+                new ReactionEdgeRow(1L, 10L, 300L, last)
+        ));
+
+        // When
+        List<UserSyncDto> results = provider.buildSyncDataBatch(List.of(user1, user2));
+
+        // Then
+        assertThat(results).extracting(UserSyncDto::id).containsExactly(1L, 2L);
+        UserSyncDto dto1 = results.get(0);
+        assertThat(dto1.username()).isEqualTo("user1");
+        assertThat(dto1.viewedBooks()).containsExactly(new UserSyncDto.ViewedBook(100L, first, last, 80));
+        assertThat(dto1.wishlistedBooks()).isEmpty();
+        assertThat(dto1.likedReviewBooks()).containsExactly(new UserSyncDto.LikedReviewBook(10L, 300L, last));
+
+        UserSyncDto dto2 = results.get(1);
+        assertThat(dto2.viewedBooks()).isEmpty();
+        assertThat(dto2.wishlistedBooks()).containsExactly(new UserSyncDto.WishlistedBook(200L, first));
+        assertThat(dto2.likedReviewBooks()).isEmpty();
+
+        verify(reviewJpaRepository, never()).findByUserId(anyLong());
+        verify(reviewJpaRepository, never()).findAllById(anyList());
+    }
+
+    @Test
+    @DisplayName("청크 단위 생성 - 조회수 합이 int 범위를 넘으면 최댓값으로 제한")
+    void buildSyncDataBatch_CapsViewCount() {
+        // Given
+        UserEntity user = createMockUser(1L, "user1", "user1@example.com");
+        when(reviewJpaRepository.aggregateByUserIdsGroupByBook(List.of(1L))).thenReturn(List.of(
+                new ReviewAggregateRow(1L, 100L, null, null, Long.MAX_VALUE)
+        ));
+
+        // When
+        List<UserSyncDto> results = provider.buildSyncDataBatch(List.of(user));
+
+        // Then
+        assertThat(results.get(0).viewedBooks().get(0).viewCount()).isEqualTo(Integer.MAX_VALUE);
+    }
+
+    @Test
+    @DisplayName("사용자 1,000명 동기화 쿼리 수 - 사용자별 3,000회 vs 청크(100명)별 30회")
+    void queriesPerThousandUsers_PerUserVsChunked() {
+        // Given
+        List<UserEntity> users = new ArrayList<>();
+        for (long id = 1; id <= 1_000; id++) {
+            UserEntity user = mock(UserEntity.class);
+            when(user.getId()).thenReturn(id);
+            users.add(user);
+        }
+
+        // When - 사용자별
+        users.forEach(provider::buildSyncData);
+        int perUserQueries = repositoryInvocations();
+        clearInvocations(reviewJpaRepository, wishlistJpaRepository, reviewReactionJpaRepository);
+
+        // When - 청크별
+        for (int from = 0; from < users.size(); from += 100) {
+            provider.buildSyncDataBatch(users.subList(from, from + 100));
+        }
+        int chunkedQueries = repositoryInvocations();
+
+        // Then
+        assertThat(perUserQueries).isEqualTo(3_000);
+        assertThat(chunkedQueries).isEqualTo(30);
+    }
+
+    private int repositoryInvocations() {
+        return mockingDetails(reviewJpaRepository).getInvocations().size()
+                + mockingDetails(wishlistJpaRepository).getInvocations().size()
+                + mockingDetails(reviewReactionJpaRepository).getInvocations().size();
+    }
+
     private UserEntity createMockUser(Long id, String username, String email) {
         UserEntity user = mock(UserEntity.class);
         when(user.getId()).thenReturn(id);
@@ -263,4 +355,28 @@ class UserSyncDataProviderTest {
         when(wishlist.getCreatedAt()).thenReturn(createdAt);
         return wishlist;
     }
+
+    private record ReviewAggregateRow(
+            Long getUserId,
+            Long getBookId,
+            LocalDateTime getFirstCreatedAt,
+            LocalDateTime getLastCreatedAt,
+            Long getViewCount
+    ) implements ReviewJpaRepository.UserBookReviewAggregate {
+    }
+
+    private record WishlistEdgeRow(
+            Long getUserId,
+            Long getBookId,
+            LocalDateTime getCreatedAt
+    ) implements WishlistJpaRepository.UserWishlistEdge {
+    }
+
+    private record ReactionEdgeRow(
+            Long getUserId,
+            Long getReviewId,
+            Long getBookId,
+            LocalDateTime getCreatedAt
+    ) implements ReviewReactionJpaRepository.UserReactionEdge {
+    }
 }
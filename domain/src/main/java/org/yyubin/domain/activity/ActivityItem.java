@@ -15,6 +15,11 @@ import org.yyubin.domain.user.UserId;
 @EqualsAndHashCode(of = {"id", "type"})
 @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
 public class ActivityItem {
+    /** follow 테이블에서 id 를 발급한 활동 (나를 팔로우한 활동) */
+    public static final int FOLLOW_SOURCE_RANK = 0;
+    /** activity 테이블에서 id 를 발급한 활동 (리뷰 작성/좋아요/북마크) */
+    public static final int ACTIVITY_SOURCE_RANK = 1;
+
     private final Long id;
     private final ActivityType type;
     private final UserId actorId;
@@ -38,6 +43,14 @@ public class ActivityItem {
         return new ActivityItem(id, ActivityType.USER_FOLLOWED, actorId, null, targetUserId, requireCreatedAt(createdAt));
     }
 
+    /**
+     * id 를 발급한 소스 순위
+     * - 소스마다 id 시퀀스가 달라 같은 시각의 활동은 id 보다 이 값을 먼저 비교해야 순서가 전순서가 됨
+     */
+    public int getSourceRank() {
+        return type == ActivityType.USER_FOLLOWED ? FOLLOW_SOURCE_RANK : ACTIVITY_SOURCE_RANK;
+    }
+
     private static LocalDateTime requireCreatedAt(LocalDateTime createdAt) {
         return Objects.requireNonNull(createdAt, "Created at cannot be null");
     }
@@ -40,6 +40,18 @@ class ActivityItemTest {
         assertThat(item.getActorId()).isEqualTo(actorId);
     }
 
+    @Test
+    @DisplayName("source rank separates follow activities from activity table rows")
+    void sourceRankBySource() {
+        LocalDateTime createdAt = LocalDateTime.now();
+
+        ActivityItem followed = ActivityItem.userFollowed(2L, new UserId(5L), new UserId(7L), createdAt);
+        ActivityItem bookmarked = ActivityItem.reviewBookmarked(2L, new UserId(5L), ReviewId.of(3L), createdAt);
+
+        assertThat(followed.getSourceRank()).isEqualTo(ActivityItem.FOLLOW_SOURCE_RANK);
+        assertThat(bookmarked.getSourceRank()).isEqualTo(ActivityItem.ACTIVITY_SOURCE_RANK);
+    }
+
     @Test
     @DisplayName("null createdAt is rejected")
     void nullCreatedAtRejected() {
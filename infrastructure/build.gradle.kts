@@ -2,6 +2,7 @@ plugins {
     java
     id("org.springframework.boot") version "4.0.0"
     id("io.spring.dependency-management") version "1.1.7"
+    id("me.champeau.jmh") version "0.7.2"
 }
 
 group = "org.yyubin"
@@ -40,6 +41,9 @@ dependencies {
     implementation("org.springframework.kafka:spring-kafka:4.0.0")
     implementation("org.springframework.boot:spring-boot-starter-data-elasticsearch")
 
+    // Metrics
+    implementation("io.micrometer:micrometer-core")
+
     // AWS S3
     implementation("software.amazon.awssdk:s3:2.20.26")
 
@@ -61,6 +65,8 @@ dependencies {
 
     testImplementation("org.springframework.boot:spring-boot-starter-test")
     testImplementation("com.h2database:h2")
+    testImplementation("org.testcontainers:testcontainers-junit-jupiter")
+    testImplementation("org.testcontainers:testcontainers-mysql")
     testRuntimeOnly("org.junit.platform:junit-platform-launcher")
 
     annotationProcessor("io.github.yyubin:jinx-processor:0.0.21")
@@ -95,6 +101,12 @@ tasks.withType<Test> {
     useJUnitPlatform()
 }
 
+// JMH 벤치마크 (src/jmh/java) - ./gradlew :infrastructure:jmh
+jmh {
+    jmhVersion = "1.37"
+    fork = 1
+}
+
 tasks.bootJar {
     enabled = false
 }
@@ -0,0 +1,186 @@
+package org.yyubin.infrastructure.security;
+
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.yyubin.application.auth.port.TokenBlacklistPort;
+import org.yyubin.support.jwt.JwtProperties;
+import org.yyubin.support.jwt.JwtProvider;
+
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JWT 인증 필터 요청당 비용 벤치마크 (블랙리스트는 항상 통과하는 메모리 구현)
+ * - legacy: 기존 필터 순서 그대로 validate → 블랙리스트(jti 추출) → userId 추출 → getAuthentication,
+ *   요청당 토큰 파싱/서명 검증 4회. 기존 구현은 파싱마다 서명 키와 파서도 새로 만들었으므로
+ *   실제 기존 비용은 이 수치보다 큼
+ * - singleParse: 현재 필터, 검증 claims 캐시 끔 (요청당 파싱/서명 검증 1회)
+ * - cached: 현재 필터, 검증 claims 캐시 켬 (캐시 적중 시 SHA-256 해시 1회, 서명 검증 없음)
+ *
+ * distinctTokens 개의 토큰(사용자)을 번갈아 보냄. 실행: ./gradlew :infrastructure:jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class JwtAuthenticationFilterBenchmark {
+
+    private static final String SECRET = "benchmark-secret-key-that-is-long-enough-for-hmac-sha256-algorithm";
+    private static final FilterChain NO_OP_CHAIN = (request, response) -> { };
+
+    @Param({"legacy", "singleParse", "cached"})
+    public String mode;
+
+    @Param({"1", "1000"})
+    public int distinctTokens;
+
+    private JwtProvider jwtProvider;
+    private TokenBlacklistPort tokenBlacklistPort;
+    private JwtAuthenticationFilter filter;
+    private HttpServletRequest[] requests;
+    private String[] tokens;
+    private HttpServletResponse response;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        JwtProperties properties = new JwtProperties();
+        properties.setSecret(SECRET);
+        properties.setAccessTokenExpiration(TimeUnit.HOURS.toMillis(1));
+        properties.setRefreshTokenExpiration(TimeUnit.DAYS.toMillis(7));
+        properties.setVerifiedCacheMaxEntries("cached".equals(mode) ? 10_000 : 0);
+        jwtProvider = new JwtProvider(properties);
+        tokenBlacklistPort = new PassThroughBlacklist(jwtProvider);
+        filter = new JwtAuthenticationFilter(jwtProvider, tokenBlacklistPort);
+
+        tokens = new String[distinctTokens];
+        requests = new HttpServletRequest[distinctTokens];
+        for (int i = 0; i < distinctTokens; i++) {
+            tokens[i] = jwtProvider.createAccessToken(String.valueOf(i + 1), List.of(new SimpleGrantedAuthority("ROLE_USER")));
+            requests[i] = request("Bearer " + tokens[i]);
+        }
+        response = (HttpServletResponse) Proxy.newProxyInstance(
+                HttpServletResponse.class.getClassLoader(),
+                new Class<?>[]{HttpServletResponse.class},
+                (proxy, method, args) -> defaultValue(method.getReturnType()));
+    }
+
+    @TearDown(Level.Iteration)
+    public void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Benchmark
+    public Object filter() throws Exception {
+        int index = cursor++ % distinctTokens;
+        if ("legacy".equals(mode)) {
+            return legacyFilter(tokens[index]);
+        }
+        filter.doFilter(requests[index], response, NO_OP_CHAIN);
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null) {
+            throw new IllegalStateException("Authentication not set");
+        }
+        return authentication;
+    }
+
+    /**
+     * 단일 파싱 도입 전 필터의 토큰 처리 순서
+     */
+    private Object legacyFilter(String token) {
+        if (!jwtProvider.validateToken(token)) {
+            throw new IllegalStateException("Invalid token");
+        }
+        if (tokenBlacklistPort.isBlacklisted(token)) {
+            throw new IllegalStateException("Blacklisted");
+        }
+        String userId = jwtProvider.getUserIdFromToken(token);
+        if (tokenBlacklistPort.isUserTokensInvalidated(userId)) {
+            throw new IllegalStateException("Invalidated");
+        }
+        Authentication authentication = jwtProvider.getAuthentication(token);
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+        return authentication;
+    }
+
+    private static HttpServletRequest request(String authorization) {
+        return (HttpServletRequest) Proxy.newProxyInstance(
+                HttpServletRequest.class.getClassLoader(),
+                new Class<?>[]{HttpServletRequest.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "getHeader" -> "Authorization".equals(args[0]) ? authorization : null;
+                    case "getRequestURI" -> "/api/reviews";
+                    case "getDispatcherType" -> DispatcherType.REQUEST;
+                    default -> defaultValue(method.getReturnType());
+                });
+    }
+
+    private static Object defaultValue(Class<?> type) {
+        if (type == boolean.class) {
+            return false;
+        }
+        if (type == int.class) {
+            return 0;
+        }
+        if (type == long.class) {
+            return 0L;
+        }
+        return null;
+    }
+
+    /**
+     * 항상 통과하는 블랙리스트 (isBlacklisted 는 기존 구현처럼 토큰에서 jti 를 추출)
+     */
+    private static final class PassThroughBlacklist implements TokenBlacklistPort {
+
+        private final JwtProvider jwtProvider;
+
+        private PassThroughBlacklist(JwtProvider jwtProvider) {
+            this.jwtProvider = jwtProvider;
+        }
+
+        @Override
+        public void addToBlacklist(String token) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean isBlacklisted(String token) {
+            return jwtProvider.getJtiFromToken(token) == null;
+        }
+
+        @Override
+        public boolean isJtiBlacklisted(String jti) {
+            return jti == null;
+        }
+
+        @Override
+        public void invalidateAllUserTokens(String userId, long maxTokenLifetimeSeconds) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean isUserTokensInvalidated(String userId) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,210 @@
+package org.yyubin.infrastructure.stream.outbox;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.kafka.clients.producer.MockProducer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.mock.MockProducerFactory;
+import org.yyubin.application.event.EventPayload;
+import org.yyubin.application.event.OutboxEvent;
+import org.yyubin.application.event.OutboxPort;
+import org.yyubin.infrastructure.config.OutboxProcessorProperties;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Outbox 드레인 벤치마크 (PENDING 1,000,000 건을 모두 보내는 데 걸리는 시간)
+ * - 저장소는 메모리 구현이며, 포트 호출마다 dbRoundTripMicros 만큼 지연을 넣어 DB 왕복을 흉내 냄
+ * - Kafka 는 MockProducer (즉시 완료)
+ *
+ * 드레인 속도 = events / 측정 시간. portCalls 보조 카운터는 드레인 1회당 저장소 호출 수입니다.
+ * 이벤트마다 send().get() + markSent 를 하던 기존 방식은 이벤트당 왕복 1회 이상이므로
+ * 같은 조건에서 1,000,000 × dbRoundTripMicros 이상 걸립니다.
+ * 실행: ./gradlew :infrastructure:jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+public class OutboxProcessorBenchmark {
+
+    private static final int EVENTS = 1_000_000;
+
+    @Param({"100", "1000"})
+    public int batchSize;
+
+    @Param({"1000", "100000"})
+    public int distinctKeys;
+
+    @Param({"0", "500"})
+    public int dbRoundTripMicros;
+
+    private OutboxEvent[] events;
+    private InMemoryOutboxPort port;
+    private OutboxProcessor processor;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class PortCalls {
+        public long portCalls;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            portCalls = 0;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUpTrial() {
+        events = new OutboxEvent[EVENTS];
+        Instant now = Instant.now();
+        for (int i = 0; i < EVENTS; i++) {
+            String key = String.valueOf(i % distinctKeys);
+            EventPayload payload = new EventPayload(null, "REVIEW_CREATED", (long) (i % distinctKeys), "REVIEW", String.valueOf(i),
+                    Map.of(), now, "bench", 1);
+            events[i] = new OutboxEvent((long) i + 1, "events.review", key, payload, now, OutboxEvent.OutboxStatus.PENDING, 0, null);
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void setUpIteration() {
+        port = new InMemoryOutboxPort(events, dbRoundTripMicros);
+
+        MockProducer<String, EventPayload> producer = new MockProducer<>(
+                true, null, new StringSerializer(), (topic, payload) -> new byte[0]);
+        KafkaTemplate<String, EventPayload> kafkaTemplate = new KafkaTemplate<>(new MockProducerFactory<>(() -> producer));
+
+        OutboxProcessorProperties properties = new OutboxProcessorProperties();
+        properties.setBatchSize(batchSize);
+        properties.setMaxBatchesPerRun(Integer.MAX_VALUE);
+        processor = new OutboxProcessor(port, kafkaTemplate, properties,
+                new StaticListableBeanFactory().getBeanProvider(MeterRegistry.class));
+    }
+
+    @Benchmark
+    public long drain(PortCalls calls) {
+        processor.process();
+        calls.portCalls = port.calls;
+        if (port.sent != EVENTS) {
+            throw new IllegalStateException("Drained " + port.sent + " of " + EVENTS);
+        }
+        return port.sent;
+    }
+
+    /**
+     * 단일 인스턴스용 메모리 저장소 (선점은 커서 이동, 기록은 개수만 셈)
+     */
+    private static final class InMemoryOutboxPort implements OutboxPort {
+
+        private final OutboxEvent[] events;
+        private final long roundTripNanos;
+        private int cursor;
+        private long sent;
+        private long calls;
+
+        private InMemoryOutboxPort(OutboxEvent[] events, int roundTripMicros) {
+            this.events = events;
+            this.roundTripNanos = TimeUnit.MICROSECONDS.toNanos(roundTripMicros);
+        }
+
+        @Override
+        public List<OutboxEvent> claimPending(String owner, int limit, Duration lease) {
+            roundTrip();
+            int end = Math.min(events.length, cursor + limit);
+            List<OutboxEvent> batch = List.of(Arrays.copyOfRange(events, cursor, end));
+            cursor = end;
+            return batch;
+        }
+
+        @Override
+        public void markSentAll(Collection<Long> ids) {
+            roundTrip();
+            sent += ids.size();
+        }
+
+        @Override
+        public void markFailedAll(Collection<Long> ids, String errorMessage) {
+            roundTrip();
+        }
+
+        @Override
+        public void markDeadAll(Collection<Long> ids, String errorMessage) {
+            roundTrip();
+        }
+
+        @Override
+        public void release(Collection<Long> ids) {
+            roundTrip();
+        }
+
+        @Override
+        public Optional<Instant> findOldestPendingOccurredAt() {
+            roundTrip();
+            return Optional.empty();
+        }
+
+        @Override
+        public void save(String topic, String key, EventPayload payload) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public List<OutboxEvent> findPending(int limit) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void markSent(Long id) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void markFailed(Long id, String errorMessage) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void markDead(Long id, String errorMessage) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public int deleteByStatusAndOccurredAtBefore(OutboxEvent.OutboxStatus status, Instant cutoff) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public int dropExpiredPartitions(Instant cutoff) {
+            throw new UnsupportedOperationException();
+        }
+
+        private void roundTrip() {
+            calls++;
+            if (roundTripNanos > 0) {
+                LockSupport.parkNanos(roundTripNanos);
+            }
+        }
+    }
+}
@@ -4,132 +4,121 @@ import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
+import java.util.PriorityQueue;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 import org.yyubin.application.activity.port.ActivityQueryPort;
 import org.yyubin.domain.activity.ActivityItem;
-import org.yyubin.domain.review.ReviewId;
-import org.yyubin.domain.review.ReviewVisibility;
 import org.yyubin.domain.user.UserId;
-import org.yyubin.infrastructure.persistence.review.ReviewEntity;
-import org.yyubin.infrastructure.persistence.review.ReviewJpaRepository;
-import org.yyubin.infrastructure.persistence.review.bookmark.ReviewBookmarkEntity;
-import org.yyubin.infrastructure.persistence.review.bookmark.ReviewBookmarkJpaRepository;
-import org.yyubin.infrastructure.persistence.review.like.ReviewLikeEntity;
-import org.yyubin.infrastructure.persistence.review.like.ReviewLikeJpaRepository;
+import org.yyubin.infrastructure.config.ActivityTimelineProperties;
+import org.yyubin.infrastructure.persistence.activity.ActivityTimelineStore;
+import org.yyubin.infrastructure.persistence.user.FollowingIdsCache;
 import org.yyubin.infrastructure.persistence.user.UserFollowingEntity;
 import org.yyubin.infrastructure.persistence.user.UserFollowingJpaRepository;
 
+/**
+ * 활동 피드 조회
+ * - 팔로우 대상 활동: activity 테이블을 팔로우 대상 묶음(actorChunkSize)마다 keyset 조회
+ * - 나를 팔로우한 활동: follow 테이블을 followee 기준 keyset 조회
+ * - 각 소스는 (createdAt, id) 역순으로 최대 size 개씩 정렬되어 오므로 k-way 병합으로 상위 size 개만 선택
+ *
+ * 팔로우 목록은 FollowingIdsCache 에서 가져오므로 페이지마다 전체 목록을 다시 조회하지 않습니다.
+ * 두 소스의 id 는 서로 다른 시퀀스라 전체 순서는 (createdAt, sourceRank, id) 로 정하고,
+ * 커서의 sourceRank 에 따라 소스별 keyset 조건을 바꿔 같은 시각의 다른 소스 활동도 빠지지 않게 합니다.
+ */
 @Component
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class ActivityQueryAdapter implements ActivityQueryPort {
 
-    private final ReviewJpaRepository reviewJpaRepository;
-    private final ReviewLikeJpaRepository reviewLikeJpaRepository;
-    private final ReviewBookmarkJpaRepository reviewBookmarkJpaRepository;
+    static final Comparator<ActivityItem> NEWEST_FIRST = Comparator
+            .comparing(ActivityItem::getCreatedAt, Comparator.reverseOrder())
+            .thenComparing(ActivityItem::getSourceRank, Comparator.reverseOrder())
+            .thenComparing(ActivityItem::getId, Comparator.reverseOrder());
+
+    private final ActivityTimelineStore activityTimelineStore;
+    private final FollowingIdsCache followingIdsCache;
     private final UserFollowingJpaRepository userFollowingJpaRepository;
+    private final ActivityTimelineProperties properties;
 
     @Override
-    public List<ActivityItem> loadActivities(List<Long> followingIds, Long userId, LocalDateTime cursor, int size) {
-        List<ActivityItem> results = new ArrayList<>();
-        int fetchSize = size;
-
-        if (followingIds != null && !followingIds.isEmpty()) {
-            results.addAll(loadReviewActivities(followingIds, cursor, fetchSize));
-            results.addAll(loadLikeActivities(followingIds, cursor, fetchSize));
-            results.addAll(loadBookmarkActivities(followingIds, cursor, fetchSize));
+    public List<ActivityItem> loadActivities(
+            Long userId,
+            LocalDateTime cursor,
+            Integer cursorSourceRank,
+            Long cursorId,
+            int size
+    ) {
+        if (userId == null || size <= 0) {
+            return List.of();
         }
 
-        results.addAll(loadFollowActivities(userId, cursor, fetchSize));
-
-        results.sort(Comparator
-                .comparing(ActivityItem::getCreatedAt).reversed()
-                .thenComparing(ActivityItem::getId, Comparator.nullsLast(Comparator.reverseOrder()))
-        );
+        Long activityCursorId = sourceCursorId(ActivityItem.ACTIVITY_SOURCE_RANK, cursorSourceRank, cursorId);
+        Long followCursorId = sourceCursorId(ActivityItem.FOLLOW_SOURCE_RANK, cursorSourceRank, cursorId);
 
-        if (results.size() <= size) {
-            return results;
+        List<List<ActivityItem>> sources = new ArrayList<>();
+        long[] followingIds = followingIdsCache.get(userId);
+        int chunkSize = Math.max(1, properties.getActorChunkSize());
+        for (int from = 0; from < followingIds.length; from += chunkSize) {
+            List<Long> chunk = new ArrayList<>(Math.min(chunkSize, followingIds.length - from));
+            for (int i = from; i < Math.min(from + chunkSize, followingIds.length); i++) {
+                chunk.add(followingIds[i]);
+            }
+            sources.add(activityTimelineStore.loadByActors(chunk, cursor, activityCursorId, size));
         }
-        return results.subList(0, size);
+        sources.add(loadFollowActivities(userId, cursor, followCursorId, size));
+
+        return merge(sources, size);
     }
 
-    private List<ActivityItem> loadReviewActivities(List<Long> followingIds, LocalDateTime cursor, int size) {
-        List<ReviewEntity> entities;
-        if (cursor != null) {
-            entities = reviewJpaRepository.findByUserIdInAndDeletedFalseAndVisibilityAndCreatedAtBeforeOrderByCreatedAtDesc(
-                    followingIds, ReviewVisibility.PUBLIC, cursor, PageRequest.of(0, size)
-            );
-        } else {
-            entities = reviewJpaRepository.findByUserIdInAndDeletedFalseAndVisibilityOrderByCreatedAtDesc(
-                    followingIds, ReviewVisibility.PUBLIC, PageRequest.of(0, size)
-            );
+    /**
+     * (createdAt, sourceRank, id) 커서를 소스 하나의 (createdAt, id) keyset 조건으로 변환
+     * - 커서보다 순위가 낮은 소스: 같은 시각의 행은 모두 커서 뒤 (Long.MAX_VALUE)
+     * - 커서보다 순위가 높은 소스: 같은 시각의 행은 모두 커서 앞 (null, cursor 이전 행만)
+     * - 같은 소스이거나 순위가 없는 이전 커서: cursorId 그대로
+     */
+    static Long sourceCursorId(int sourceRank, Integer cursorSourceRank, Long cursorId) {
+        if (cursorSourceRank == null || cursorId == null || sourceRank == cursorSourceRank) {
+            return cursorId;
         }
-        return entities.stream()
-                .map(entity -> ActivityItem.reviewCreated(
-                        entity.getId(),
-                        new UserId(entity.getUserId()),
-                        ReviewId.of(entity.getId()),
-                        entity.getCreatedAt()
-                ))
-                .toList();
+        return sourceRank < cursorSourceRank ? Long.MAX_VALUE : null;
     }
 
-    private List<ActivityItem> loadLikeActivities(List<Long> followingIds, LocalDateTime cursor, int size) {
-        List<ReviewLikeEntity> entities;
-        if (cursor != null) {
-            entities = reviewLikeJpaRepository.findByUserIdInAndCreatedAtBeforeOrderByCreatedAtDesc(
-                    followingIds, cursor, PageRequest.of(0, size)
-            );
-        } else {
-            entities = reviewLikeJpaRepository.findByUserIdInOrderByCreatedAtDesc(
-                    followingIds, PageRequest.of(0, size)
-            );
+    /**
+     * 각각 NEWEST_FIRST 로 정렬된 소스를 병합해 앞에서부터 limit 개 반환
+     */
+    static List<ActivityItem> merge(List<List<ActivityItem>> sources, int limit) {
+        PriorityQueue<SourceCursor> heads = new PriorityQueue<>(
+                Math.max(1, sources.size()),
+                Comparator.comparing(SourceCursor::head, NEWEST_FIRST)
+        );
+        for (List<ActivityItem> source : sources) {
+            if (!source.isEmpty()) {
+                heads.add(new SourceCursor(source));
+            }
         }
-        return entities.stream()
-                .map(entity -> ActivityItem.reviewLiked(
-                        entity.getId(),
-                        new UserId(entity.getUserId()),
-                        ReviewId.of(entity.getReviewId()),
-                        entity.getCreatedAt()
-                ))
-                .toList();
-    }
 
-    private List<ActivityItem> loadBookmarkActivities(List<Long> followingIds, LocalDateTime cursor, int size) {
-        List<ReviewBookmarkEntity> entities;
-        if (cursor != null) {
-            entities = reviewBookmarkJpaRepository.findByUserIdInAndCreatedAtBeforeOrderByCreatedAtDesc(
-                    followingIds, cursor, PageRequest.of(0, size)
-            );
-        } else {
-            entities = reviewBookmarkJpaRepository.findByUserIdInOrderByCreatedAtDesc(
-                    followingIds, PageRequest.of(0, size)
-            );
+        List<ActivityItem> merged = new ArrayList<>(limit);
+        while (merged.size() < limit && !heads.isEmpty()) {
+            SourceCursor cursor = heads.poll();
+            merged.add(cursor.head());
+            if (cursor.advance()) {
+                heads.add(cursor);
+            }
         }
-        return entities.stream()
-                .map(entity -> ActivityItem.reviewBookmarked(
-                        entity.getId(),
-                        new UserId(entity.getUser().getId()),
-                        ReviewId.of(entity.getReview().getId()),
-                        entity.getCreatedAt()
-                ))
-                .toList();
+        return merged;
     }
 
-    private List<ActivityItem> loadFollowActivities(Long userId, LocalDateTime cursor, int size) {
-        if (userId == null) {
-            return List.of();
-        }
+    private List<ActivityItem> loadFollowActivities(Long userId, LocalDateTime cursor, Long cursorId, int size) {
         List<UserFollowingEntity> entities;
         if (cursor != null) {
-            entities = userFollowingJpaRepository.findByFolloweeIdAndCreatedAtBeforeOrderByCreatedAtDesc(
-                    userId, cursor, PageRequest.of(0, size)
+            entities = userFollowingJpaRepository.findFollowedBefore(
+                    userId, cursor, cursorId != null ? cursorId : 0L, PageRequest.of(0, size)
             );
         } else {
-            entities = userFollowingJpaRepository.findByFolloweeIdOrderByCreatedAtDesc(
+            entities = userFollowingJpaRepository.findByFolloweeIdOrderByCreatedAtDescIdDesc(
                     userId, PageRequest.of(0, size)
             );
         }
@@ -142,4 +131,22 @@ public class ActivityQueryAdapter implements ActivityQueryPort {
                 ))
                 .toList();
     }
+
+    private static final class SourceCursor {
+
+        private final List<ActivityItem> items;
+        private int index;
+
+        private SourceCursor(List<ActivityItem> items) {
+            this.items = items;
+        }
+
+        private ActivityItem head() {
+            return items.get(index);
+        }
+
+        private boolean advance() {
+            return ++index < items.size();
+        }
+    }
 }
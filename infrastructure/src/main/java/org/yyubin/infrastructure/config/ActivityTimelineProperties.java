@@ -0,0 +1,35 @@
+package org.yyubin.infrastructure.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "activity.timeline")
+public class ActivityTimelineProperties {
+
+    /**
+     * 활동 조회 시 IN 절 하나에 넣는 팔로우 대상 수
+     * - 묶음마다 정렬된 결과를 받아 병합하므로 묶음 수만큼 쿼리가 나감
+     */
+    private int actorChunkSize = 1000;
+
+    /**
+     * 인스턴스 로컬에 보관할 팔로우 목록 수 (0 이면 캐시 사용 안 함)
+     */
+    private int followingCacheMaxEntries = 10_000;
+
+    /**
+     * 팔로우 목록 캐시 TTL (초)
+     * - 다른 인스턴스에서 팔로우/언팔로우한 결과가 늦게 반영되는 최대 시간
+     */
+    private long followingCacheTtlSeconds = 60;
+
+    /**
+     * 기동 시 기존 리뷰/좋아요/북마크로 activity 테이블 채우기 (처음 배포할 때 한 번만 켬)
+     */
+    private boolean backfillOnStartup = false;
+}
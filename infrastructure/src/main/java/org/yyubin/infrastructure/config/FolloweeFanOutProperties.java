@@ -0,0 +1,35 @@
+package org.yyubin.infrastructure.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "notification.fanout")
+public class FolloweeFanOutProperties {
+
+    /**
+     * 한 번에 읽고 알림을 저장할 팔로워 수
+     */
+    private int chunkSize = 500;
+
+    /**
+     * 초당 처리할 최대 팔로워 수 (0 이면 제한 없음)
+     * - 인기 작성자의 팬아웃이 알림 테이블/Redis 스트림 쓰기를 독점하지 않도록 제한
+     * - 레코드마다 청크 하나만 처리하므로 대기는 청크당 chunkSize / maxFollowersPerSecond 초를 넘지 않음
+     */
+    private int maxFollowersPerSecond = 5_000;
+
+    /**
+     * 체크포인트 TTL (시간) - 완료 표시도 이 시간 동안 유지되어 재전달된 이벤트를 무시
+     */
+    private long checkpointTtlHours = 24;
+
+    /**
+     * 다음 청크 이벤트 발행 대기 시간 (ms) - 실패하면 레코드를 재처리
+     */
+    private long publishTimeoutMs = 10_000;
+}
@@ -0,0 +1,38 @@
+package org.yyubin.infrastructure.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "feed.home")
+public class HomeFeedProperties {
+
+    /**
+     * 이 수 이상의 팔로워를 가진 작성자는 pull 로 배포 (작성자 타임라인에만 기록)
+     */
+    private long pullFollowerThreshold = 10_000;
+
+    /**
+     * 사용자 피드 캐시에 보관할 최대 항목 수
+     */
+    private int maxItems = 800;
+
+    /**
+     * pull 작성자 타임라인에 보관할 최대 항목 수
+     */
+    private int authorTimelineMaxItems = 200;
+
+    /**
+     * 사용자 피드 캐시 TTL (시간) - 조회할 때마다 연장되므로 활동 중인 사용자의 캐시만 유지
+     */
+    private long ttlHours = 72;
+
+    /**
+     * 피드가 비어 있을 때 보여주는 추천 리뷰 보관 시간 (초)
+     */
+    private long fallbackTtlSeconds = 1_800;
+}
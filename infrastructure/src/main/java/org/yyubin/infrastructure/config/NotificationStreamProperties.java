@@ -0,0 +1,65 @@
+package org.yyubin.infrastructure.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "notification.stream")
+public class NotificationStreamProperties {
+
+    /**
+     * 알림 스트림 컨슈머 실행 여부
+     */
+    private boolean enabled = true;
+
+    /**
+     * 한 번의 XREADGROUP / XAUTOCLAIM 으로 가져올 최대 메시지 수
+     */
+    private int batchSize = 100;
+
+    /**
+     * 인스턴스당 읽기 스레드 수 (스레드마다 별도 컨슈머 이름 사용)
+     */
+    private int parallelism = 2;
+
+    /**
+     * XREADGROUP BLOCK 대기 시간 (ms)
+     */
+    private long blockMillis = 2_000;
+
+    /**
+     * 읽기 실패 후 다시 읽기까지 대기 시간 (ms)
+     */
+    private long errorBackoffMillis = 1_000;
+
+    /**
+     * 이 시간 이상 ack 되지 않은 pending 메시지를 다른 컨슈머가 가져감 (ms)
+     */
+    private long claimIdleMillis = 60_000;
+
+    /**
+     * 회수한 메시지를 저장하지 못했을 때 dead-letter 스트림으로 옮기기 전까지 허용하는 최대 전달 횟수
+     * - 저장 장애가 claimIdleMillis × maxDeliveries 보다 짧으면 메시지를 잃지 않음
+     */
+    private int maxDeliveries = 10;
+
+    /**
+     * pending 메시지 회수/지표 갱신 주기 (ms)
+     */
+    private long claimIntervalMs = 30_000;
+
+    /**
+     * 한 번의 회수에서 XAUTOCLAIM 을 반복할 최대 횟수
+     */
+    private int claimMaxRounds = 10;
+
+    /**
+     * pending 이 없고 이 시간 이상 활동이 없는 컨슈머는 그룹에서 제거 (ms)
+     * - 재시작/스케일 인으로 사라진 인스턴스의 컨슈머 이름 정리
+     */
+    private long consumerRemoveIdleMillis = 3_600_000;
+}
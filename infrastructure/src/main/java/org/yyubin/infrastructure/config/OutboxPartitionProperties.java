@@ -0,0 +1,29 @@
+package org.yyubin.infrastructure.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "outbox.partitioning")
+public class OutboxPartitionProperties {
+
+    /**
+     * event_outbox 를 occurred_at 일 단위 RANGE 파티션으로 운영
+     * - 보존 기간 정리는 파티션 DROP, PENDING 조회는 가장 오래된 PENDING 이후 파티션만 탐색
+     */
+    private boolean enabled = false;
+
+    /**
+     * 시작 시 파티션되지 않은 event_outbox 를 파티션 테이블로 전환 (테이블 전체 복사, 최초 1회용)
+     */
+    private boolean convertOnStartup = false;
+
+    /**
+     * 미리 만들어 둘 미래 일 파티션 수
+     */
+    private int precreateDays = 7;
+}
@@ -0,0 +1,33 @@
+package org.yyubin.infrastructure.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "outbox.processor")
+public class OutboxProcessorProperties {
+
+    /**
+     * 한 번에 선점할 이벤트 수
+     */
+    private int batchSize = 100;
+
+    /**
+     * 한 번의 실행에서 처리할 최대 배치 수 (배치가 가득 차 있는 동안 이어서 처리)
+     */
+    private int maxBatchesPerRun = 10;
+
+    /**
+     * 선점 유지 시간 (ms) - 인스턴스가 죽으면 이 시간 뒤 다른 인스턴스가 이어받음
+     */
+    private long leaseMs = 30_000;
+
+    /**
+     * 배치 전송 결과를 기다리는 최대 시간 (ms) - leaseMs 보다 짧아야 함
+     */
+    private long sendTimeoutMs = 10_000;
+}
@@ -0,0 +1,30 @@
+package org.yyubin.infrastructure.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "review.card-cache")
+public class ReviewCardCacheProperties {
+
+    /**
+     * 인스턴스 로컬 캐시에 보관할 최대 카드 수 (0 이면 로컬 캐시 사용 안 함)
+     */
+    private int localMaxEntries = 10_000;
+
+    /**
+     * 로컬 캐시 TTL (초)
+     * - 다른 인스턴스의 무효화 이벤트를 놓쳤을 때 오래된 카드가 남는 최대 시간
+     */
+    private long localTtlSeconds = 30;
+
+    /**
+     * Redis 캐시 TTL (초)
+     * - 도서/작성자 정보 변경은 무효화 이벤트가 없으므로 이 시간 안에 반영
+     */
+    private long redisTtlSeconds = 600;
+}
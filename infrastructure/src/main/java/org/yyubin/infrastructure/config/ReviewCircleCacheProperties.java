@@ -0,0 +1,28 @@
+package org.yyubin.infrastructure.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "review-circle.cache")
+public class ReviewCircleCacheProperties {
+
+    /**
+     * 취향 벡터 저장 포맷 (조회는 두 포맷 모두 지원)
+     */
+    private TasteVectorEncoding tasteVectorEncoding = TasteVectorEncoding.JSON;
+
+    /**
+     * 일괄 조회 시 MGET 한 번에 담을 키 수
+     */
+    private int mgetBatchSize = 500;
+
+    public enum TasteVectorEncoding {
+        JSON,
+        BINARY
+    }
+}
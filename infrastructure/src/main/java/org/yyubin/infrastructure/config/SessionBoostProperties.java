@@ -10,6 +10,23 @@ import org.springframework.stereotype.Component;
 @Component
 @ConfigurationProperties(prefix = "session.boost")
 public class SessionBoostProperties {
+
+    /**
+     * 세션 부스트 해시 TTL (초, 쓸 때마다 갱신)
+     */
     private long ttlSeconds = 3600;
+
+    /**
+     * 세션별로 남길 최대 항목 수 (부스트 값이 큰 순)
+     */
     private int maxEntries = 100;
+
+    /**
+     * maxEntries 를 이 비율만큼 넘었을 때만 잘라냄 (정렬 비용을 여러 배치에 나눠 냄)
+     */
+    private double trimSlackRatio = 0.2;
+
+    public int trimThreshold() {
+        return maxEntries + (int) Math.ceil(maxEntries * Math.max(0.0, trimSlackRatio));
+    }
 }
@@ -0,0 +1,50 @@
+package org.yyubin.infrastructure.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "events.telemetry")
+public class TelemetryDeliveryProperties {
+
+    /**
+     * 링 버퍼 용량 (이벤트 수)
+     */
+    private int bufferCapacity = 50_000;
+
+    /**
+     * 버퍼에서 한 번에 꺼내 Kafka 로 넘길 이벤트 수
+     */
+    private int batchSize = 1_000;
+
+    /**
+     * 한 번의 flush 에서 처리할 최대 배치 수 (공용 스케줄러 스레드를 오래 잡지 않도록 제한,
+     * 남은 이벤트는 다음 flush 에서 처리)
+     */
+    private int maxBatchesPerFlush = 10;
+
+    /**
+     * flush 주기 (ms)
+     */
+    private long flushIntervalMs = 100;
+
+    /**
+     * 버퍼가 가득 찼을 때 버릴 이벤트
+     */
+    private DropPolicy dropPolicy = DropPolicy.DROP_OLDEST;
+
+    public enum DropPolicy {
+        /**
+         * 가장 오래된 이벤트를 버리고 새 이벤트를 넣음 (최근 행동 우선)
+         */
+        DROP_OLDEST,
+        /**
+         * 새 이벤트를 버림 (이미 쌓인 순서 보존)
+         */
+        DROP_NEWEST
+    }
+}
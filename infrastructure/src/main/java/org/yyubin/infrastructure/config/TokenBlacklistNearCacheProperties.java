@@ -0,0 +1,34 @@
+package org.yyubin.infrastructure.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "token-blacklist.near-cache")
+public class TokenBlacklistNearCacheProperties {
+
+    /**
+     * 블랙리스트 로컬 near-cache 사용 여부 (끄면 요청마다 Redis 조회)
+     */
+    private boolean enabled = true;
+
+    /**
+     * 블룸 필터 예상 jti 수 (Redis 에 더 많으면 재구성 시 그 두 배로 늘림)
+     */
+    private int expectedInsertions = 100_000;
+
+    /**
+     * 블룸 필터 목표 오탐률 (오탐이면 Redis 를 한 번 더 조회할 뿐 결과는 같음)
+     */
+    private double falsePositiveRate = 0.01;
+
+    /**
+     * Redis 에서 near-cache 를 다시 만드는 주기 (ms)
+     * 만료된 jti 를 블룸 필터에서 비우고, 놓친 무효화 메시지가 있어도 이 시간 안에 반영
+     */
+    private long resyncIntervalMs = 300_000;
+}
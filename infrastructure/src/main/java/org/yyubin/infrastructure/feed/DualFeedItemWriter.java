@@ -1,5 +1,6 @@
 package org.yyubin.infrastructure.feed;
 
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Primary;
@@ -28,4 +29,18 @@ public class DualFeedItemWriter implements FeedItemWritePort {
         }
         return saved;
     }
+
+    @Override
+    public void saveAll(List<FeedItem> feedItems) {
+        if (feedItems.isEmpty()) {
+            return;
+        }
+        dbWriter.saveAll(feedItems);
+        try {
+            redisWriter.saveAll(feedItems);
+        } catch (Exception ex) {
+            // DB 가 원본이므로 빠진 항목은 캐시 만료 후 다시 채울 때 반영됨
+            log.warn("Failed to push {} feed items to Redis : {}", feedItems.size(), ex.toString());
+        }
+    }
 }
@@ -1,18 +1,31 @@
 package org.yyubin.infrastructure.feed;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Primary;
 import org.springframework.stereotype.Component;
 import org.yyubin.application.feed.port.FeedItemPort;
+import org.yyubin.application.user.port.FollowQueryPort;
 import org.yyubin.domain.feed.FeedItem;
+import org.yyubin.domain.review.ReviewId;
 import org.yyubin.domain.user.UserId;
+import org.yyubin.infrastructure.config.HomeFeedProperties;
+import org.yyubin.infrastructure.persistence.feed.FeedItemPersistenceAdapter;
 import org.yyubin.infrastructure.stream.feed.RedisFeedItemAdapter;
 import org.yyubin.recommendation.service.ReviewRecommendationResult;
 import org.yyubin.recommendation.service.ReviewRecommendationService;
-import org.yyubin.infrastructure.persistence.feed.FeedItemPersistenceAdapter;
 
+/**
+ * 홈 피드 조회
+ * 1. Redis 피드 (push 받은 리뷰 + 팔로우 중인 pull 작성자 타임라인 병합, Redis 호출 1 회)
+ * 2. 캐시가 없으면 feed_item 최근 항목과 팔로우 목록으로 캐시를 다시 채운 뒤 조회
+ * 3. 팔로우 피드가 비어 있으면 추천 리뷰 (다음 페이지를 위해 잠시 보관)
+ * Redis 장애 시에는 feed_item 을 직접 조회
+ */
+@Slf4j
 @Component
 @Primary
 @RequiredArgsConstructor
@@ -20,22 +33,36 @@ public class FallbackFeedService implements FeedItemPort {
 
     private final RedisFeedItemAdapter redisAdapter;
     private final FeedItemPersistenceAdapter dbAdapter;
+    private final FollowQueryPort followQueryPort;
     private final ReviewRecommendationService reviewRecommendationService;
+    private final HomeFeedProperties properties;
 
     @Override
     public List<FeedItem> loadFeed(UserId userId, Double cursorScore, int size) {
-        List<FeedItem> fromRedis = redisAdapter.loadFeed(userId, cursorScore, size);
-        if (fromRedis != null && !fromRedis.isEmpty()) {
-            return trim(fromRedis, size);
+        List<FeedItem> items;
+        try {
+            items = redisAdapter.loadFeed(userId, cursorScore, size)
+                    .orElseGet(() -> rebuildAndLoad(userId, cursorScore, size));
+        } catch (Exception ex) {
+            log.warn("Failed to load feed from Redis for user={}, falling back to DB : {}", userId.value(), ex.toString());
+            return dbAdapter.loadFeed(userId, cursorScore, size);
         }
 
-        // Redis가 비어있으면 리뷰 추천을 생성하여 워밍
-        List<FeedItem> warm = warmUpFromRecommendations(userId, size);
-        if (!warm.isEmpty()) {
-            return trim(warm, size);
+        if (!items.isEmpty()) {
+            return items;
         }
+        if (cursorScore != null) {
+            return redisAdapter.loadFallback(userId, cursorScore, size);
+        }
+        return warmUpFromRecommendations(userId, size);
+    }
 
-        return dbAdapter.loadFeed(userId, cursorScore, size);
+    private List<FeedItem> rebuildAndLoad(UserId userId, Double cursorScore, int size) {
+        List<FeedItem> recent = dbAdapter.loadFeed(userId, null, properties.getMaxItems());
+        List<Long> followingIds = followQueryPort.loadFollowingIdsAll(userId.value());
+        redisAdapter.rebuild(userId, recent, followingIds);
+        return redisAdapter.loadFeed(userId, cursorScore, size)
+                .orElseGet(() -> dbAdapter.loadFeed(userId, cursorScore, size));
     }
 
     private List<FeedItem> trim(List<FeedItem> items, int size) {
@@ -57,12 +84,10 @@ public class FallbackFeedService implements FeedItemPort {
             if (rec.getReviewId() == null) {
                 continue;
             }
-            java.time.LocalDateTime createdAt =
-                    rec.getCreatedAt() != null ? rec.getCreatedAt() : java.time.LocalDateTime.now();
-            FeedItem item = FeedItem.of(null, userId, org.yyubin.domain.review.ReviewId.of(rec.getReviewId()), createdAt);
-            items.add(item);
-            redisAdapter.save(item);
+            LocalDateTime createdAt = rec.getCreatedAt() != null ? rec.getCreatedAt() : LocalDateTime.now();
+            items.add(FeedItem.of(null, userId, ReviewId.of(rec.getReviewId()), createdAt));
         }
-        return items;
+        redisAdapter.saveFallback(userId, items);
+        return trim(items, size);
     }
 }
@@ -0,0 +1,58 @@
+package org.yyubin.infrastructure.persistence.activity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.yyubin.domain.activity.ActivityType;
+
+import java.time.LocalDateTime;
+
+/**
+ * 활동 타임라인 (행위자별 append-only, Kafka 이벤트로 기록)
+ * - 조회는 ActivityTimelineStore 의 JDBC keyset 쿼리로만 하며 이 엔티티는 스키마 정의용
+ * - (actor_id, created_at) 인덱스로 팔로우 대상 묶음마다 최신순 범위 스캔
+ * - (actor_id, type, review_id) 유니크 키로 같은 이벤트가 다시 와도 한 행만 유지
+ * - created_at 은 밀리초 정밀도로 저장해 API 커서(epoch millis)와 값이 정확히 일치하게 함
+ */
+@Entity
+@Table(
+        name = "activity",
+        indexes = {
+                @Index(name = "idx_activity_actor_created", columnList = "actor_id, created_at"),
+                @Index(name = "idx_activity_review", columnList = "review_id")
+        },
+        uniqueConstraints = {
+                @UniqueConstraint(name = "ux_activity_actor_type_review", columnNames = {"actor_id", "type", "review_id"})
+        }
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ActivityEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "type", nullable = false, length = 30)
+    private ActivityType type;
+
+    @Column(name = "actor_id", nullable = false)
+    private Long actorId;
+
+    @Column(name = "review_id", nullable = false)
+    private Long reviewId;
+
+    @Column(name = "created_at", nullable = false, columnDefinition = "DATETIME(3)")
+    private LocalDateTime createdAt;
+}
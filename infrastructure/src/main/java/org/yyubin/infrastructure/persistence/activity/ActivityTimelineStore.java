@@ -0,0 +1,145 @@
+package org.yyubin.infrastructure.persistence.activity;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.yyubin.domain.activity.ActivityItem;
+import org.yyubin.domain.activity.ActivityType;
+import org.yyubin.domain.review.ReviewId;
+import org.yyubin.domain.user.UserId;
+import org.yyubin.infrastructure.config.ActivityTimelineProperties;
+
+/**
+ * activity 테이블 JDBC 저장소
+ * - 쓰기: Kafka 이벤트 단위 upsert/delete (ActivityTimelineConsumer)
+ * - 읽기: 행위자 묶음 하나에 대한 (created_at, id) 역순 keyset 쿼리, 여러 묶음의 병합은 ActivityQueryAdapter 가 담당
+ * - activity.timeline.backfill-on-startup 이 켜져 있으면 기동 시 review / review_likes / review_bookmark 에서 한 번 채움
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ActivityTimelineStore {
+
+    private static final String UPSERT_SQL = """
+            INSERT INTO activity (type, actor_id, review_id, created_at) VALUES (?, ?, ?, ?)
+            ON DUPLICATE KEY UPDATE created_at = VALUES(created_at)
+            """;
+    private static final String DELETE_SQL =
+            "DELETE FROM activity WHERE actor_id = ? AND type = ? AND review_id = ?";
+    private static final String DELETE_REVIEW_SQL =
+            "DELETE FROM activity WHERE review_id = ?";
+
+    private static final List<String> BACKFILL_SQL = List.of(
+            """
+            INSERT IGNORE INTO activity (type, actor_id, review_id, created_at)
+            SELECT 'REVIEW_CREATED', r.user_id, r.id, r.created_at FROM review r
+            WHERE r.is_deleted = false AND r.visibility = 'PUBLIC'
+            """,
+            """
+            INSERT IGNORE INTO activity (type, actor_id, review_id, created_at)
+            SELECT 'REVIEW_LIKED', l.user_id, l.review_id, l.created_at FROM review_likes l
+            """,
+            """
+            INSERT IGNORE INTO activity (type, actor_id, review_id, created_at)
+            SELECT 'REVIEW_BOOKMARKED', b.user_id, b.review_id, b.created_at FROM review_bookmark b
+            """
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ActivityTimelineProperties properties;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        if (!properties.isBackfillOnStartup()) {
+            return;
+        }
+        try {
+            backfill();
+        } catch (Exception e) {
+            log.error("Failed to backfill activity timeline", e);
+        }
+    }
+
+    /**
+     * 기존 리뷰/좋아요/북마크로 activity 채우기 (이미 있는 행은 건너뜀)
+     */
+    public void backfill() {
+        int total = 0;
+        for (String sql : BACKFILL_SQL) {
+            total += jdbcTemplate.update(sql);
+        }
+        log.info("Backfilled {} activity rows", total);
+    }
+
+    public void record(ActivityType type, Long actorId, Long reviewId, LocalDateTime createdAt) {
+        jdbcTemplate.update(UPSERT_SQL, type.name(), actorId, reviewId, Timestamp.valueOf(createdAt));
+    }
+
+    public void remove(ActivityType type, Long actorId, Long reviewId) {
+        jdbcTemplate.update(DELETE_SQL, actorId, type.name(), reviewId);
+    }
+
+    /**
+     * 리뷰 삭제 시 그 리뷰에 대한 모든 활동 제거
+     */
+    public void removeReview(Long reviewId) {
+        jdbcTemplate.update(DELETE_REVIEW_SQL, reviewId);
+    }
+
+    /**
+     * 행위자 묶음의 활동을 (created_at, id) 역순으로 limit 개 조회
+     *
+     * @param cursorAt null 이면 첫 페이지
+     * @param cursorId 같은 시각의 행 중 이 ID 보다 작은 행부터 (null 이면 cursorAt 이전 행만)
+     */
+    public List<ActivityItem> loadByActors(
+            List<Long> actorIds,
+            LocalDateTime cursorAt,
+            Long cursorId,
+            int limit
+    ) {
+        if (actorIds.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        StringBuilder sql = new StringBuilder("SELECT id, type, actor_id, review_id, created_at FROM activity WHERE actor_id IN (")
+                .append(String.join(", ", Collections.nCopies(actorIds.size(), "?")))
+                .append(")");
+        List<Object> args = new ArrayList<>(actorIds.size() + 4);
+        args.addAll(actorIds);
+        if (cursorAt != null) {
+            Timestamp cursor = Timestamp.valueOf(cursorAt);
+            sql.append(" AND (created_at < ? OR (created_at = ? AND id < ?))");
+            args.add(cursor);
+            args.add(cursor);
+            args.add(cursorId != null ? cursorId : 0L);
+        }
+        sql.append(" ORDER BY created_at DESC, id DESC LIMIT ?");
+        args.add(limit);
+
+        return jdbcTemplate.query(sql.toString(), (rs, rowNum) -> toItem(rs), args.toArray());
+    }
+
+    private ActivityItem toItem(ResultSet rs) throws SQLException {
+        long id = rs.getLong("id");
+        UserId actorId = new UserId(rs.getLong("actor_id"));
+        ReviewId reviewId = ReviewId.of(rs.getLong("review_id"));
+        LocalDateTime createdAt = rs.getTimestamp("created_at").toLocalDateTime();
+        return switch (ActivityType.valueOf(rs.getString("type"))) {
+            case REVIEW_CREATED -> ActivityItem.reviewCreated(id, actorId, reviewId, createdAt);
+            case REVIEW_LIKED -> ActivityItem.reviewLiked(id, actorId, reviewId, createdAt);
+            case REVIEW_BOOKMARKED -> ActivityItem.reviewBookmarked(id, actorId, reviewId, createdAt);
+            case USER_FOLLOWED -> throw new IllegalStateException("Follow activity is not stored in activity: " + id);
+        };
+    }
+}
@@ -1,7 +1,10 @@
 package org.yyubin.infrastructure.persistence.book;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
@@ -48,6 +51,17 @@ public class BookPersistenceAdapter implements LoadBookPort, SaveBookPort {
                 .map(BookEntity::toDomain);
     }
 
+    @Override
+    public Map<Long, Book> loadByIdsBatch(List<Long> bookIds) {
+        if (bookIds == null || bookIds.isEmpty()) {
+            return Map.of();
+        }
+
+        return bookJpaRepository.findAllById(bookIds).stream()
+                .map(BookEntity::toDomain)
+                .collect(Collectors.toMap(book -> book.getId().getValue(), Function.identity()));
+    }
+
     @Override
     public List<Book> findAll() {
         return bookJpaRepository.findAll().stream()
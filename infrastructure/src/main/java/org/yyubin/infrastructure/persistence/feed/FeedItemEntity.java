@@ -6,9 +6,11 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -23,7 +25,15 @@ import org.yyubin.infrastructure.persistence.user.UserEntity;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "feed_item")
+@Table(
+        name = "feed_item",
+        indexes = {
+                @Index(name = "idx_feed_item_user_created", columnList = "user_id, created_at")
+        },
+        uniqueConstraints = {
+                @UniqueConstraint(name = "ux_feed_item_user_review", columnNames = {"user_id", "review_id"})
+        }
+)
 @Getter
 @Builder
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
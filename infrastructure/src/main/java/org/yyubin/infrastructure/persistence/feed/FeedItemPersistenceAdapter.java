@@ -1,9 +1,11 @@
 package org.yyubin.infrastructure.persistence.feed;
 
+import java.sql.Timestamp;
 import java.time.LocalDateTime;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 import org.yyubin.application.feed.port.FeedItemPort;
@@ -16,7 +18,12 @@ import org.yyubin.domain.user.UserId;
 @Transactional(readOnly = true)
 public class FeedItemPersistenceAdapter implements FeedItemPort, FeedItemWritePort {
 
+    private static final String INSERT_IGNORE_SQL =
+            "INSERT IGNORE INTO feed_item (user_id, review_id, created_at) VALUES (?, ?, ?)";
+    private static final int BATCH_SIZE = 500;
+
     private final FeedItemJpaRepository feedItemJpaRepository;
+    private final JdbcTemplate jdbcTemplate;
 
     @Override
     public List<FeedItem> loadFeed(UserId userId, Double cursorScore, int size) {
@@ -41,4 +48,20 @@ public class FeedItemPersistenceAdapter implements FeedItemPort, FeedItemWritePo
     public FeedItem save(FeedItem feedItem) {
         return feedItemJpaRepository.save(FeedItemEntity.fromDomain(feedItem)).toDomain();
     }
+
+    /**
+     * JDBC 배치 insert - 같은 이벤트가 다시 배포되어도 (user_id, review_id) 유니크 키로 중복 저장하지 않음
+     */
+    @Override
+    @Transactional
+    public void saveAll(List<FeedItem> feedItems) {
+        if (feedItems.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_IGNORE_SQL, feedItems, BATCH_SIZE, (ps, feedItem) -> {
+            ps.setLong(1, feedItem.getUserId().value());
+            ps.setLong(2, feedItem.getReviewId().getValue());
+            ps.setTimestamp(3, Timestamp.valueOf(feedItem.getCreatedAt()));
+        });
+    }
 }
@@ -1,6 +1,9 @@
 package org.yyubin.infrastructure.persistence.notification;
 
+import java.sql.Timestamp;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 import org.yyubin.application.notification.port.NotificationRepository;
@@ -11,7 +14,14 @@ import org.yyubin.domain.notification.Notification;
 @Transactional(readOnly = true)
 public class NotificationPersistenceAdapter implements NotificationRepository {
 
+    private static final String INSERT_SQL = """
+            INSERT INTO notification (recipient_id, actor_id, type, content_id, message, is_read, created_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?)
+            """;
+    private static final int BATCH_SIZE = 500;
+
     private final NotificationJpaRepository notificationJpaRepository;
+    private final JdbcTemplate jdbcTemplate;
 
     @Override
     @Transactional
@@ -19,4 +29,24 @@ public class NotificationPersistenceAdapter implements NotificationRepository {
         NotificationEntity saved = notificationJpaRepository.save(NotificationEntity.fromDomain(notification));
         return saved.toDomain();
     }
+
+    /**
+     * JDBC 배치 insert (IDENTITY 키라 JPA saveAll 은 건마다 insert 되므로 사용하지 않음)
+     */
+    @Override
+    @Transactional
+    public void saveAll(List<Notification> notifications) {
+        if (notifications.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, notifications, BATCH_SIZE, (ps, notification) -> {
+            ps.setLong(1, notification.getRecipientId().value());
+            ps.setObject(2, notification.getActorId());
+            ps.setString(3, notification.getType().name());
+            ps.setObject(4, notification.getContentId());
+            ps.setString(5, notification.getMessage());
+            ps.setBoolean(6, notification.isRead());
+            ps.setTimestamp(7, Timestamp.valueOf(notification.getCreatedAt()));
+        });
+    }
 }
@@ -1,5 +1,7 @@
 package org.yyubin.infrastructure.persistence.notification.setting;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
@@ -7,4 +9,6 @@ import org.springframework.stereotype.Repository;
 @Repository
 public interface NotificationSettingJpaRepository extends JpaRepository<NotificationSettingEntity, Long> {
     Optional<NotificationSettingEntity> findByUserId(Long userId);
+
+    List<NotificationSettingEntity> findByUserIdIn(Collection<Long> userIds);
 }
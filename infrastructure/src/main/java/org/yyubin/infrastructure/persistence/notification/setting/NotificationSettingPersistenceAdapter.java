@@ -1,6 +1,10 @@
 package org.yyubin.infrastructure.persistence.notification.setting;
 
+import java.util.Collection;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
@@ -21,6 +25,16 @@ public class NotificationSettingPersistenceAdapter implements NotificationSettin
                 .map(NotificationSettingEntity::toDomain);
     }
 
+    @Override
+    public Map<Long, NotificationSetting> loadAll(Collection<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return Map.of();
+        }
+        return notificationSettingJpaRepository.findByUserIdIn(userIds).stream()
+                .map(NotificationSettingEntity::toDomain)
+                .collect(Collectors.toMap(setting -> setting.getUserId().value(), Function.identity()));
+    }
+
     @Override
     @Transactional
     public NotificationSetting save(NotificationSetting setting) {
@@ -23,7 +23,9 @@ import org.yyubin.application.event.OutboxEvent;
 @Table(
         name = "event_outbox",
         indexes = {
-                @Index(name = "idx_outbox_status_occurred", columnList = "status, occurred_at")
+                @Index(name = "idx_outbox_status_occurred", columnList = "status, occurred_at"),
+                @Index(name = "idx_outbox_status_id", columnList = "status, id"),
+                @Index(name = "idx_outbox_key_status_id", columnList = "event_key, status, id")
         }
 )
 @Getter
@@ -59,6 +61,18 @@ public class OutboxEventEntity {
     @Column(name = "last_error", length = 500)
     private String lastError;
 
+    /**
+     * 선점한 프로세서 인스턴스 (선점 해제 시 null)
+     */
+    @Column(name = "claimed_by", length = 100)
+    private String claimedBy;
+
+    /**
+     * 선점 만료 시각 - 이 시각이 지나면 다른 인스턴스가 다시 선점할 수 있음
+     */
+    @Column(name = "lease_until", columnDefinition = "TIMESTAMP(6)")
+    private Instant leaseUntil;
+
     @Column(name = "created_at", nullable = false, columnDefinition = "TIMESTAMP(6)")
     private Instant createdAt;
 
@@ -1,9 +1,13 @@
 package org.yyubin.infrastructure.persistence.outbox;
 
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.yyubin.application.event.OutboxEvent;
 
@@ -12,5 +16,117 @@ public interface OutboxEventJpaRepository extends JpaRepository<OutboxEventEntit
 
     List<OutboxEventEntity> findByStatusOrderByOccurredAtAsc(OutboxEvent.OutboxStatus status, Pageable pageable);
 
+    /**
+     * 선점 가능한 PENDING 행을 잠금 (다른 트랜잭션이 잠근 행은 건너뜀)
+     */
+    @Query(value = """
+            SELECT * FROM event_outbox
+            WHERE status = 'PENDING'
+              AND (lease_until IS NULL OR lease_until < :now)
+            ORDER BY id
+            LIMIT :limit
+            FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    List<OutboxEventEntity> lockClaimable(@Param("now") Instant now, @Param("limit") int limit);
+
+    /**
+     * 파티션 모드 선점 조회 - occurred_at 하한으로 가장 오래된 PENDING 이후 파티션만 탐색
+     */
+    @Query(value = """
+            SELECT * FROM event_outbox
+            WHERE status = 'PENDING'
+              AND occurred_at >= :floor
+              AND (lease_until IS NULL OR lease_until < :now)
+            ORDER BY id
+            LIMIT :limit
+            FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    List<OutboxEventEntity> lockClaimableSince(
+            @Param("now") Instant now,
+            @Param("floor") Instant floor,
+            @Param("limit") int limit
+    );
+
+    /**
+     * key 별로 주어진 id 밖에 남아 있는 가장 이른 PENDING 이벤트 id
+     *
+     * @return [event_key, min(id)]
+     */
+    @Query(value = """
+            SELECT event_key, MIN(id) FROM event_outbox
+            WHERE status = 'PENDING'
+              AND event_key IN (:keys)
+              AND id NOT IN (:ids)
+            GROUP BY event_key
+            """, nativeQuery = true)
+    List<Object[]> findFirstPendingIdByKeyExcluding(
+            @Param("keys") Collection<String> keys,
+            @Param("ids") Collection<Long> ids
+    );
+
+    /**
+     * 파티션 모드 - occurred_at 하한으로 그 이후 파티션만 탐색
+     *
+     * @return [event_key, min(id)]
+     */
+    @Query(value = """
+            SELECT event_key, MIN(id) FROM event_outbox
+            WHERE status = 'PENDING'
+              AND occurred_at >= :floor
+              AND event_key IN (:keys)
+              AND id NOT IN (:ids)
+            GROUP BY event_key
+            """, nativeQuery = true)
+    List<Object[]> findFirstPendingIdByKeyExcludingSince(
+            @Param("keys") Collection<String> keys,
+            @Param("ids") Collection<Long> ids,
+            @Param("floor") Instant floor
+    );
+
+    @Modifying
+    @Query("""
+            UPDATE OutboxEventEntity e
+            SET e.claimedBy = :owner, e.leaseUntil = :leaseUntil
+            WHERE e.id IN :ids
+            """)
+    int claim(@Param("ids") Collection<Long> ids, @Param("owner") String owner, @Param("leaseUntil") Instant leaseUntil);
+
+    @Modifying
+    @Query("""
+            UPDATE OutboxEventEntity e
+            SET e.status = :status, e.lastError = :lastError, e.claimedBy = null, e.leaseUntil = null, e.updatedAt = :now
+            WHERE e.id IN :ids
+            """)
+    int updateStatus(
+            @Param("ids") Collection<Long> ids,
+            @Param("status") OutboxEvent.OutboxStatus status,
+            @Param("lastError") String lastError,
+            @Param("now") Instant now
+    );
+
+    @Modifying
+    @Query("""
+            UPDATE OutboxEventEntity e
+            SET e.status = org.yyubin.application.event.OutboxEvent.OutboxStatus.PENDING,
+                e.retryCount = e.retryCount + 1,
+                e.lastError = :lastError,
+                e.claimedBy = null,
+                e.leaseUntil = null,
+                e.updatedAt = :now
+            WHERE e.id IN :ids
+            """)
+    int markFailed(@Param("ids") Collection<Long> ids, @Param("lastError") String lastError, @Param("now") Instant now);
+
+    @Modifying
+    @Query("""
+            UPDATE OutboxEventEntity e
+            SET e.claimedBy = null, e.leaseUntil = null
+            WHERE e.id IN :ids
+            """)
+    int release(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT MIN(e.occurredAt) FROM OutboxEventEntity e WHERE e.status = :status")
+    Instant findOldestOccurredAt(@Param("status") OutboxEvent.OutboxStatus status);
+
     int deleteByStatusAndOccurredAtBefore(OutboxEvent.OutboxStatus status, Instant cutoff);
 }
@@ -0,0 +1,243 @@
+package org.yyubin.infrastructure.persistence.outbox;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.yyubin.infrastructure.config.OutboxPartitionProperties;
+
+/**
+ * event_outbox 일 단위 파티션 관리 (MySQL 8)
+ * - 파티션 키: UNIX_TIMESTAMP(occurred_at), 경계는 UTC 자정
+ * - 파티션 이름: p_history(전환 이전 행) / pYYYYMMDD(해당 일) / p_future(MAXVALUE)
+ * - 매일 미래 파티션을 precreateDays 만큼 미리 p_future 에서 분리 (p_future 는 비어 있으므로 즉시 끝남)
+ * - 보존 기간 정리는 경계가 cutoff 이전인 파티션을 DROP (행 단위 DELETE 없음)
+ *   DROP 전에 DEAD 행은 event_outbox_dead(db/outbox/002) 로 옮기고, 아직 보내지 않은 행이 있는 파티션은 남겨 둠
+ *
+ * MySQL 파티션 테이블은 모든 유니크 키에 파티션 컬럼이 있어야 하므로 PK 는 (id, occurred_at) 입니다.
+ * id 는 AUTO_INCREMENT 로 계속 유일하므로 JPA 매핑(@Id id)은 그대로 둡니다.
+ */
+@Slf4j
+@Component
+public class OutboxPartitionManager {
+
+    private static final String TABLE = "event_outbox";
+    private static final String HISTORY = "p_history";
+    private static final String FUTURE = "p_future";
+    private static final DateTimeFormatter DAY = DateTimeFormatter.ofPattern("yyyyMMdd");
+    private static final String DEAD_LETTER_TABLE = "event_outbox_dead";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final OutboxPartitionProperties properties;
+
+    public OutboxPartitionManager(
+            @Qualifier("outboxDataSource") DataSource outboxDataSource,
+            OutboxPartitionProperties properties
+    ) {
+        this.jdbcTemplate = new JdbcTemplate(outboxDataSource);
+        this.properties = properties;
+    }
+
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        try {
+            LocalDate today = LocalDate.now(ZoneOffset.UTC);
+            if (!isPartitioned()) {
+                if (!properties.isConvertOnStartup()) {
+                    log.warn("outbox.partitioning.enabled is set but {} is not partitioned; "
+                            + "set outbox.partitioning.convert-on-startup=true once to convert it", TABLE);
+                    return;
+                }
+                convert(today);
+            }
+            ensurePartitions(today);
+        } catch (Exception e) {
+            log.error("Failed to prepare outbox partitions", e);
+        }
+    }
+
+    @Scheduled(cron = "${outbox.partitioning.maintenance-cron:0 10 0 * * *}", zone = "UTC")
+    public void maintain() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        try {
+            ensurePartitions(LocalDate.now(ZoneOffset.UTC));
+        } catch (Exception e) {
+            // 여러 인스턴스가 동시에 분리하면 한쪽은 실패하지만 결과는 같음
+            log.warn("Failed to pre-create outbox partitions", e);
+        }
+    }
+
+    public boolean isPartitioned() {
+        Integer count = jdbcTemplate.queryForObject("""
+                SELECT COUNT(*) FROM information_schema.PARTITIONS
+                WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ? AND PARTITION_NAME IS NOT NULL
+                """, Integer.class, TABLE);
+        return count != null && count > 0;
+    }
+
+    /**
+     * 파티션되지 않은 테이블을 p_history + 오늘 이후 일 파티션 + p_future 로 전환
+     */
+    void convert(LocalDate today) {
+        log.info("Converting {} to daily partitions (this copies the table)", TABLE);
+        jdbcTemplate.execute("ALTER TABLE " + TABLE + " DROP PRIMARY KEY, ADD PRIMARY KEY (id, occurred_at)");
+
+        List<String> partitions = new ArrayList<>();
+        partitions.add(partition(HISTORY, boundary(today)));
+        for (int i = 0; i <= properties.getPrecreateDays(); i++) {
+            LocalDate day = today.plusDays(i);
+            partitions.add(partition(name(day), boundary(day.plusDays(1))));
+        }
+        partitions.add("PARTITION " + FUTURE + " VALUES LESS THAN MAXVALUE");
+        jdbcTemplate.execute("ALTER TABLE " + TABLE + " PARTITION BY RANGE (UNIX_TIMESTAMP(occurred_at)) ("
+                + String.join(", ", partitions) + ")");
+    }
+
+    /**
+     * today ~ today + precreateDays 일 파티션이 없으면 p_future 에서 분리
+     */
+    public void ensurePartitions(LocalDate today) {
+        long highestBound = listPartitions().stream()
+                .filter(partition -> partition.upperBound() != null)
+                .mapToLong(PartitionInfo::upperBound)
+                .max()
+                .orElse(Long.MIN_VALUE);
+
+        List<String> added = new ArrayList<>();
+        for (int i = 0; i <= properties.getPrecreateDays(); i++) {
+            LocalDate day = today.plusDays(i);
+            long upper = boundary(day.plusDays(1));
+            if (upper > highestBound) {
+                added.add(partition(name(day), upper));
+            }
+        }
+        if (added.isEmpty()) {
+            return;
+        }
+
+        added.add("PARTITION " + FUTURE + " VALUES LESS THAN MAXVALUE");
+        jdbcTemplate.execute("ALTER TABLE " + TABLE + " REORGANIZE PARTITION " + FUTURE + " INTO ("
+                + String.join(", ", added) + ")");
+        log.info("Created {} outbox partitions up to {}", added.size() - 1, today.plusDays(properties.getPrecreateDays()));
+    }
+
+    /**
+     * 경계가 cutoff 이전인 파티션 정리
+     * - DEAD 행은 event_outbox_dead 로 옮긴 뒤, SENT 만 남은 파티션은 DROP
+     * - PENDING(선점 중 포함)/FAILED 행이 남은 파티션은 DROP 하지 않고 SENT 행만 삭제 (occurred_at 은 건드리지 않음)
+     *
+     * DDL 은 MySQL 에서 암묵적으로 커밋하므로 호출한 쪽 트랜잭션을 보류하고 실행합니다.
+     *
+     * @return 정리한 행 수 (DROP 한 파티션은 information_schema 추정치)
+     */
+    @Transactional(transactionManager = "outboxTransactionManager", propagation = Propagation.NOT_SUPPORTED)
+    public int dropPartitionsBefore(Instant cutoff) {
+        long cutoffSeconds = cutoff.getEpochSecond();
+        List<PartitionInfo> expired = listPartitions().stream()
+                .filter(partition -> partition.upperBound() != null && partition.upperBound() <= cutoffSeconds)
+                .toList();
+        if (expired.isEmpty()) {
+            return 0;
+        }
+
+        archiveDead(expired.get(expired.size() - 1).upperBound());
+
+        long removed = 0;
+        for (PartitionInfo partition : expired) {
+            Integer unsent = jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM " + TABLE + " PARTITION (" + partition.name() + ") WHERE status <> 'SENT'",
+                    Integer.class);
+            if (unsent != null && unsent > 0) {
+                log.warn("Outbox partition {} still has {} unsent rows, keeping it and deleting only SENT rows",
+                        partition.name(), unsent);
+                removed += jdbcTemplate.update(
+                        "DELETE FROM " + TABLE + " PARTITION (" + partition.name() + ") WHERE status = 'SENT'");
+                continue;
+            }
+
+            jdbcTemplate.execute("ALTER TABLE " + TABLE + " DROP PARTITION " + partition.name());
+            removed += partition.rows();
+            log.info("Dropped outbox partition {} (~{} rows)", partition.name(), partition.rows());
+        }
+        return (int) Math.min(Integer.MAX_VALUE, removed);
+    }
+
+    /**
+     * occurred_at 이 upperBound 이전인 DEAD 행을 event_outbox_dead 로 이동 (재실행해도 같은 결과)
+     * - 테이블이 없으면(002 스크립트 미적용) 옮기지 않으므로 DEAD 행이 있는 파티션은 남음
+     */
+    private void archiveDead(long upperBound) {
+        Integer tables = jdbcTemplate.queryForObject("""
+                SELECT COUNT(*) FROM information_schema.TABLES
+                WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ?
+                """, Integer.class, DEAD_LETTER_TABLE);
+        if (tables == null || tables == 0) {
+            log.warn("{} does not exist, run db/outbox/002_event_outbox_dead.sql; keeping partitions with dead events",
+                    DEAD_LETTER_TABLE);
+            return;
+        }
+
+        int archived = jdbcTemplate.update("""
+                INSERT IGNORE INTO %s
+                    (id, topic, event_key, payload, occurred_at, retry_count, last_error, created_at, updated_at, archived_at)
+                SELECT id, topic, event_key, payload, occurred_at, retry_count, last_error, created_at, updated_at, NOW(6)
+                FROM %s
+                WHERE status = 'DEAD' AND occurred_at < FROM_UNIXTIME(?)
+                """.formatted(DEAD_LETTER_TABLE, TABLE), upperBound);
+        int deleted = jdbcTemplate.update(
+                "DELETE FROM " + TABLE + " WHERE status = 'DEAD' AND occurred_at < FROM_UNIXTIME(?)", upperBound);
+        if (deleted > 0) {
+            log.info("Archived {} dead outbox events to {} ({} new)", deleted, DEAD_LETTER_TABLE, archived);
+        }
+    }
+
+    List<PartitionInfo> listPartitions() {
+        return jdbcTemplate.query("""
+                SELECT PARTITION_NAME, PARTITION_DESCRIPTION, TABLE_ROWS FROM information_schema.PARTITIONS
+                WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ? AND PARTITION_NAME IS NOT NULL
+                ORDER BY PARTITION_ORDINAL_POSITION
+                """, (rs, rowNum) -> {
+            String description = rs.getString("PARTITION_DESCRIPTION");
+            Long upperBound = description == null || "MAXVALUE".equalsIgnoreCase(description)
+                    ? null
+                    : Long.parseLong(description);
+            return new PartitionInfo(rs.getString("PARTITION_NAME"), upperBound, rs.getLong("TABLE_ROWS"));
+        }, TABLE);
+    }
+
+    private static String partition(String name, long upperBound) {
+        return "PARTITION " + name + " VALUES LESS THAN (" + upperBound + ")";
+    }
+
+    private static String name(LocalDate day) {
+        return "p" + day.format(DAY);
+    }
+
+    private static long boundary(LocalDate day) {
+        return day.atStartOfDay(ZoneOffset.UTC).toEpochSecond();
+    }
+
+    record PartitionInfo(String name, Long upperBound, long rows) {
+    }
+}
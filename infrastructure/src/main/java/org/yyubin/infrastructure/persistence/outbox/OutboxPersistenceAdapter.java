@@ -2,8 +2,15 @@ package org.yyubin.infrastructure.persistence.outbox;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.Duration;
 import java.time.Instant;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Component;
@@ -18,6 +25,7 @@ public class OutboxPersistenceAdapter implements OutboxPort {
 
     private final OutboxEventJpaRepository outboxEventJpaRepository;
     private final ObjectMapper objectMapper;
+    private final OutboxPartitionManager outboxPartitionManager;
 
     @Override
     @Transactional(
@@ -51,6 +59,64 @@ public class OutboxPersistenceAdapter implements OutboxPort {
                 .toList();
     }
 
+    @Override
+    @Transactional(
+            transactionManager = "outboxTransactionManager",
+            propagation = org.springframework.transaction.annotation.Propagation.REQUIRES_NEW
+    )
+    public List<OutboxEvent> claimPending(String owner, int limit, Duration lease) {
+        Instant now = Instant.now();
+        // 파티션 모드: 가장 오래된 PENDING 의 occurred_at 을 하한으로 두어 그 이전 파티션은 읽지 않음
+        // 하한은 전체 파티션에서 (status, occurred_at) 인덱스로 구하므로 정리 배치가 밀려도 오래된 PENDING 을 놓치지 않음
+        Instant floor = null;
+        if (outboxPartitionManager.isEnabled()) {
+            floor = outboxEventJpaRepository.findOldestOccurredAt(OutboxEvent.OutboxStatus.PENDING);
+            if (floor == null) {
+                return List.of();
+            }
+        }
+        List<OutboxEventEntity> locked = floor == null
+                ? outboxEventJpaRepository.lockClaimable(now, limit)
+                : outboxEventJpaRepository.lockClaimableSince(now, floor, limit);
+        if (locked.isEmpty()) {
+            return List.of();
+        }
+
+        // key 별 이번 배치의 첫 id - 그보다 이른 PENDING 이벤트가 배치 밖에 있으면 그 key 는 이번에 보내지 않음
+        Map<String, Long> firstLockedIdByKey = new HashMap<>();
+        List<Long> lockedIds = locked.stream().map(OutboxEventEntity::getId).toList();
+        for (OutboxEventEntity entity : locked) {
+            firstLockedIdByKey.merge(entity.getKey(), entity.getId(), Math::min);
+        }
+        Set<String> blockedKeys = new HashSet<>();
+        List<Object[]> firstPendingIds = floor == null
+                ? outboxEventJpaRepository.findFirstPendingIdByKeyExcluding(firstLockedIdByKey.keySet(), lockedIds)
+                : outboxEventJpaRepository.findFirstPendingIdByKeyExcludingSince(firstLockedIdByKey.keySet(), lockedIds, floor);
+        for (Object[] row : firstPendingIds) {
+            String key = (String) row[0];
+            long firstPendingId = ((Number) row[1]).longValue();
+            if (firstPendingId < firstLockedIdByKey.get(key)) {
+                blockedKeys.add(key);
+            }
+        }
+
+        List<OutboxEventEntity> claimable = blockedKeys.isEmpty()
+                ? locked
+                : locked.stream().filter(entity -> !blockedKeys.contains(entity.getKey())).toList();
+        if (claimable.isEmpty()) {
+            return List.of();
+        }
+
+        outboxEventJpaRepository.claim(
+                claimable.stream().map(OutboxEventEntity::getId).toList(),
+                owner,
+                now.plus(lease)
+        );
+        return claimable.stream()
+                .map(entity -> entity.toDomain(this::readPayload))
+                .toList();
+    }
+
     @Override
     @Transactional(
             transactionManager = "outboxTransactionManager",
@@ -90,6 +156,60 @@ public class OutboxPersistenceAdapter implements OutboxPort {
         });
     }
 
+    @Override
+    @Transactional(
+            transactionManager = "outboxTransactionManager",
+            propagation = org.springframework.transaction.annotation.Propagation.REQUIRES_NEW
+    )
+    public void markSentAll(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        outboxEventJpaRepository.updateStatus(ids, OutboxEvent.OutboxStatus.SENT, null, Instant.now());
+    }
+
+    @Override
+    @Transactional(
+            transactionManager = "outboxTransactionManager",
+            propagation = org.springframework.transaction.annotation.Propagation.REQUIRES_NEW
+    )
+    public void markFailedAll(Collection<Long> ids, String errorMessage) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        outboxEventJpaRepository.markFailed(ids, truncate(errorMessage), Instant.now());
+    }
+
+    @Override
+    @Transactional(
+            transactionManager = "outboxTransactionManager",
+            propagation = org.springframework.transaction.annotation.Propagation.REQUIRES_NEW
+    )
+    public void markDeadAll(Collection<Long> ids, String errorMessage) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        outboxEventJpaRepository.updateStatus(ids, OutboxEvent.OutboxStatus.DEAD, truncate(errorMessage), Instant.now());
+    }
+
+    @Override
+    @Transactional(
+            transactionManager = "outboxTransactionManager",
+            propagation = org.springframework.transaction.annotation.Propagation.REQUIRES_NEW
+    )
+    public void release(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        outboxEventJpaRepository.release(ids);
+    }
+
+    @Override
+    @Transactional(transactionManager = "outboxTransactionManager", readOnly = true)
+    public Optional<Instant> findOldestPendingOccurredAt() {
+        return Optional.ofNullable(outboxEventJpaRepository.findOldestOccurredAt(OutboxEvent.OutboxStatus.PENDING));
+    }
+
     @Override
     @Transactional(
             transactionManager = "outboxTransactionManager",
@@ -99,6 +219,18 @@ public class OutboxPersistenceAdapter implements OutboxPort {
         return outboxEventJpaRepository.deleteByStatusAndOccurredAtBefore(status, cutoff);
     }
 
+    @Override
+    public int dropExpiredPartitions(Instant cutoff) {
+        if (!outboxPartitionManager.isEnabled()) {
+            return 0;
+        }
+        return outboxPartitionManager.dropPartitionsBefore(cutoff);
+    }
+
+    private String truncate(String errorMessage) {
+        return errorMessage != null ? errorMessage.substring(0, Math.min(500, errorMessage.length())) : null;
+    }
+
     private String writePayload(EventPayload payload) {
         try {
             return objectMapper.writeValueAsString(payload);
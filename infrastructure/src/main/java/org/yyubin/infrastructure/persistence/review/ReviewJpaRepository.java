@@ -55,19 +55,6 @@ public interface ReviewJpaRepository extends JpaRepository<ReviewEntity, Long> {
 
     List<ReviewEntity> findByUserIdAndDeletedFalseAndVisibilityAndIdLessThanOrderByIdDesc(Long userId, ReviewVisibility visibility, Long id, Pageable pageable);
 
-    List<ReviewEntity> findByUserIdInAndDeletedFalseAndVisibilityOrderByCreatedAtDesc(
-            List<Long> userIds,
-            ReviewVisibility visibility,
-            Pageable pageable
-    );
-
-    List<ReviewEntity> findByUserIdInAndDeletedFalseAndVisibilityAndCreatedAtBeforeOrderByCreatedAtDesc(
-            List<Long> userIds,
-            ReviewVisibility visibility,
-            java.time.LocalDateTime cursor,
-            Pageable pageable
-    );
-
     Slice<ReviewEntity> findByUpdatedAtAfterOrderByIdAsc(java.time.LocalDateTime updatedAt, Pageable pageable);
 
     @Query(value = """
@@ -103,4 +90,36 @@ public interface ReviewJpaRepository extends JpaRepository<ReviewEntity, Long> {
             List<Long> userIds,
             java.time.LocalDateTime createdAt
     );
+
+    /**
+     * 사용자 × 도서별 리뷰 집계 (그래프 동기화 VIEWED 관계, 엔티티 로딩 없음)
+     */
+    @Query("""
+            SELECT r.userId AS userId, r.bookId AS bookId,
+                   MIN(r.createdAt) AS firstCreatedAt, MAX(r.createdAt) AS lastCreatedAt,
+                   SUM(r.viewCount) AS viewCount
+            FROM ReviewEntity r
+            WHERE r.userId IN :userIds
+            GROUP BY r.userId, r.bookId
+            """)
+    List<UserBookReviewAggregate> aggregateByUserIdsGroupByBook(@Param("userIds") List<Long> userIds);
+
+    interface UserBookReviewAggregate {
+        Long getUserId();
+        Long getBookId();
+        java.time.LocalDateTime getFirstCreatedAt();
+        java.time.LocalDateTime getLastCreatedAt();
+        Long getViewCount();
+    }
+
+    /**
+     * 리뷰별 조회수 (조회수 캐시 미스 폴백, 엔티티 로딩 없음)
+     */
+    @Query("SELECT r.id AS reviewId, r.viewCount AS viewCount FROM ReviewEntity r WHERE r.id IN :reviewIds")
+    List<ReviewViewCount> findViewCountsByIdIn(@Param("reviewIds") List<Long> reviewIds);
+
+    interface ReviewViewCount {
+        Long getReviewId();
+        Long getViewCount();
+    }
 }
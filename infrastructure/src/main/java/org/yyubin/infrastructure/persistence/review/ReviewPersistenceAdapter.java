@@ -1,6 +1,9 @@
 package org.yyubin.infrastructure.persistence.review;
 
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Component;
@@ -27,6 +30,17 @@ public class ReviewPersistenceAdapter implements SaveReviewPort, LoadReviewPort,
                 .orElseThrow(() -> new IllegalArgumentException("Review not found: " + reviewId));
     }
 
+    @Override
+    public Map<Long, Review> loadByIdsBatch(List<Long> reviewIds) {
+        if (reviewIds == null || reviewIds.isEmpty()) {
+            return Map.of();
+        }
+
+        return reviewJpaRepository.findAllById(reviewIds).stream()
+                .map(ReviewEntity::toDomain)
+                .collect(Collectors.toMap(review -> review.getId().getValue(), Function.identity()));
+    }
+
     @Override
     public List<Review> loadByUserId(Long userId, Long viewerId, Long cursor, int size) {
         List<ReviewEntity> entities;
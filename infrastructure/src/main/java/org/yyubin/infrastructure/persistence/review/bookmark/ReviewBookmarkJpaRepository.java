@@ -2,6 +2,7 @@ package org.yyubin.infrastructure.persistence.review.bookmark;
 
 import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -15,20 +16,17 @@ public interface ReviewBookmarkJpaRepository extends JpaRepository<ReviewBookmar
 
     List<ReviewBookmarkEntity> findByUserIdOrderByIdDesc(Long userId);
 
-    List<ReviewBookmarkEntity> findByUserIdInOrderByCreatedAtDesc(
-            List<Long> userIds,
-            org.springframework.data.domain.Pageable pageable
-    );
-
-    List<ReviewBookmarkEntity> findByUserIdInAndCreatedAtBeforeOrderByCreatedAtDesc(
-            List<Long> userIds,
-            java.time.LocalDateTime cursor,
-            org.springframework.data.domain.Pageable pageable
-    );
-
     java.util.Optional<ReviewBookmarkEntity> findByUserIdAndReviewId(Long userId, Long reviewId);
 
     long countByReviewId(Long reviewId);
 
     long countByUserId(Long userId);
+
+    @Query("SELECT b.reviewId as reviewId, COUNT(b) as count FROM ReviewBookmarkEntity b WHERE b.reviewId IN :reviewIds GROUP BY b.reviewId")
+    List<ReviewBookmarkCount> countByReviewIds(List<Long> reviewIds);
+
+    interface ReviewBookmarkCount {
+        Long getReviewId();
+        Long getCount();
+    }
 }
@@ -35,4 +35,14 @@ public class ReviewHighlightPersistenceAdapter implements ReviewHighlightReposit
                 .map(ReviewHighlightEntity::toDomain)
                 .toList();
     }
+
+    @Override
+    public List<ReviewHighlight> findByReviewIds(List<Long> reviewIds) {
+        if (reviewIds == null || reviewIds.isEmpty()) {
+            return List.of();
+        }
+        return reviewHighlightJpaRepository.findByIdReviewIdIn(reviewIds).stream()
+                .map(ReviewHighlightEntity::toDomain)
+                .toList();
+    }
 }
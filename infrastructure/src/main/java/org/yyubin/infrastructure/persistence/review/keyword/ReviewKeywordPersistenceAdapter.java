@@ -35,4 +35,14 @@ public class ReviewKeywordPersistenceAdapter implements ReviewKeywordRepository
                 .map(ReviewKeywordEntity::toDomain)
                 .toList();
     }
+
+    @Override
+    public List<ReviewKeyword> findByReviewIds(List<Long> reviewIds) {
+        if (reviewIds == null || reviewIds.isEmpty()) {
+            return List.of();
+        }
+        return reviewKeywordJpaRepository.findByIdReviewIdIn(reviewIds).stream()
+                .map(ReviewKeywordEntity::toDomain)
+                .toList();
+    }
 }
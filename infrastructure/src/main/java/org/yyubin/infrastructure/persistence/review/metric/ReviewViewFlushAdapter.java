@@ -1,29 +1,40 @@
 package org.yyubin.infrastructure.persistence.review.metric;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.elasticsearch.BulkFailureException;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.query.ScriptType;
+import org.springframework.data.elasticsearch.core.query.UpdateQuery;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
 import org.yyubin.application.review.port.ReviewViewFlushPort;
 import org.yyubin.infrastructure.persistence.review.ReviewEntity;
 import org.yyubin.infrastructure.persistence.review.ReviewJpaRepository;
+import org.yyubin.recommendation.search.document.ReviewDocument;
 
 /**
  * ReviewViewFlushPort의 Infrastructure 구현체
  * - MySQL의 Review 엔티티 조회수 업데이트
- * - Elasticsearch 동기화는 배치 작업에서 별도 처리
+ * - Elasticsearch 는 조회수만 부분 업데이트 (나머지 필드는 배치 동기화에서 처리)
  */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class ReviewViewFlushAdapter implements ReviewViewFlushPort {
 
+    private static final String INCREMENT_VIEW_COUNT_SCRIPT =
+            "ctx._source.viewCount = (ctx._source.viewCount == null ? 0 : ctx._source.viewCount) + params.delta";
+
     private final ReviewJpaRepository reviewJpaRepository;
     private final JdbcTemplate jdbcTemplate;
+    private final ElasticsearchOperations elasticsearchOperations;
 
     @Override
     public Optional<Long> findCurrentViewCount(Long reviewId) {
@@ -32,6 +43,18 @@ public class ReviewViewFlushAdapter implements ReviewViewFlushPort {
                 .map(count -> count != null ? count : 0L);
     }
 
+    @Override
+    public Map<Long, Long> findCurrentViewCounts(List<Long> reviewIds) {
+        if (reviewIds == null || reviewIds.isEmpty()) {
+            return Map.of();
+        }
+        Map<Long, Long> counts = new HashMap<>();
+        for (ReviewJpaRepository.ReviewViewCount row : reviewJpaRepository.findViewCountsByIdIn(reviewIds)) {
+            counts.put(row.getReviewId(), row.getViewCount() != null ? row.getViewCount() : 0L);
+        }
+        return counts;
+    }
+
     @Override
     public void updateViewCount(Long reviewId, long newCount) {
         reviewJpaRepository.findById(reviewId).ifPresent(entity -> {
@@ -76,7 +99,25 @@ public class ReviewViewFlushAdapter implements ReviewViewFlushPort {
 
     @Override
     public void updateSearchIndexViewCount(Map<Long, Long> deltas) {
-        // Elasticsearch 동기화는 배치 작업(ElasticsearchSyncJob)에서 처리
-        // 여기서는 no-op
+        if (deltas == null || deltas.isEmpty()) {
+            return;
+        }
+
+        // 문서 전체 대신 viewCount 만 스크립트로 더하는 부분 업데이트를 bulk 한 번으로 전송
+        List<UpdateQuery> queries = new ArrayList<>(deltas.size());
+        deltas.forEach((reviewId, delta) -> queries.add(UpdateQuery.builder(String.valueOf(reviewId))
+                .withScript(INCREMENT_VIEW_COUNT_SCRIPT)
+                .withScriptType(ScriptType.INLINE)
+                .withLang("painless")
+                .withParams(Map.of("delta", delta))
+                .withRetryOnConflict(3)
+                .build()));
+
+        try {
+            elasticsearchOperations.bulkUpdate(queries, ReviewDocument.class);
+        } catch (BulkFailureException e) {
+            // 아직 색인되지 않은 리뷰는 ElasticsearchSyncJob 이 DB 값으로 색인
+            log.debug("Skipped view count update for {} unindexed reviews", e.getFailedDocuments().size());
+        }
     }
 }
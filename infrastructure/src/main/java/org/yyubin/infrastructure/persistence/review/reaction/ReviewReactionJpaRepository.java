@@ -3,6 +3,7 @@ package org.yyubin.infrastructure.persistence.review.reaction;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -22,6 +23,16 @@ public interface ReviewReactionJpaRepository extends JpaRepository<ReviewReactio
     @Query("SELECT r.reviewId as reviewId, COUNT(r) as count FROM ReviewReactionEntity r WHERE r.reviewId IN :reviewIds GROUP BY r.reviewId")
     java.util.List<ReviewReactionCount> countByReviewIds(java.util.List<Long> reviewIds);
 
+    /**
+     * 사용자들이 반응한 리뷰와 그 도서 (사용자 ID, 리뷰 ID, 도서 ID, 반응 시간만 조회)
+     */
+    @Query("""
+            SELECT rr.userId AS userId, rr.reviewId AS reviewId, r.bookId AS bookId, rr.createdAt AS createdAt
+            FROM ReviewReactionEntity rr JOIN rr.review r
+            WHERE rr.userId IN :userIds
+            """)
+    java.util.List<UserReactionEdge> findEdgesByUserIds(@Param("userIds") java.util.List<Long> userIds);
+
     interface ReactionCountProjection {
         String getEmoji();
         Long getCount();
@@ -31,4 +42,11 @@ public interface ReviewReactionJpaRepository extends JpaRepository<ReviewReactio
         Long getReviewId();
         Long getCount();
     }
+
+    interface UserReactionEdge {
+        Long getUserId();
+        Long getReviewId();
+        Long getBookId();
+        java.time.LocalDateTime getCreatedAt();
+    }
 }
@@ -1,11 +1,13 @@
 package org.yyubin.infrastructure.persistence.user;
 
+import java.util.ArrayList;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 import org.yyubin.application.user.port.FollowPort;
+import org.yyubin.application.user.dto.FollowerChunk;
 import org.yyubin.application.user.port.FollowQueryPort;
 import org.yyubin.domain.user.UserFollowing;
 import org.yyubin.domain.user.UserId;
@@ -16,6 +18,7 @@ import org.yyubin.domain.user.UserId;
 public class FollowPersistenceAdapter implements FollowPort, FollowQueryPort {
 
     private final UserFollowingJpaRepository userFollowingJpaRepository;
+    private final FollowingIdsCache followingIdsCache;
 
     @Override
     public boolean exists(Long followerId, Long followeeId) {
@@ -29,12 +32,14 @@ public class FollowPersistenceAdapter implements FollowPort, FollowQueryPort {
                 UserFollowing.create(new UserId(followerId), new UserId(followeeId))
         );
         userFollowingJpaRepository.save(entity);
+        followingIdsCache.evict(followerId);
     }
 
     @Override
     @Transactional
     public void delete(Long followerId, Long followeeId) {
         userFollowingJpaRepository.deleteByFollowerIdAndFolloweeId(followerId, followeeId);
+        followingIdsCache.evict(followerId);
     }
 
     @Override
@@ -80,4 +85,20 @@ public class FollowPersistenceAdapter implements FollowPort, FollowQueryPort {
                 .map(UserFollowingEntity::getFollowerId)
                 .toList();
     }
+
+    @Override
+    public FollowerChunk loadFollowerChunk(Long userId, Long afterFollowId, int size) {
+        List<Object[]> rows = userFollowingJpaRepository.findFollowerIdsAfter(
+                userId,
+                afterFollowId != null ? afterFollowId : 0L,
+                PageRequest.of(0, size)
+        );
+        List<Long> followerIds = new ArrayList<>(rows.size());
+        Long lastFollowId = null;
+        for (Object[] row : rows) {
+            lastFollowId = ((Number) row[0]).longValue();
+            followerIds.add(((Number) row[1]).longValue());
+        }
+        return new FollowerChunk(followerIds, lastFollowId);
+    }
 }
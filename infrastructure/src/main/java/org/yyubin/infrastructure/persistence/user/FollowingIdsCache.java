@@ -0,0 +1,83 @@
+package org.yyubin.infrastructure.persistence.user;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.springframework.stereotype.Component;
+import org.yyubin.infrastructure.config.ActivityTimelineProperties;
+
+/**
+ * 팔로우 대상 ID 로컬 캐시
+ * - 활동 피드는 페이지마다 전체 팔로우 목록이 필요하므로 사용자별로 짧게 보관 (용량/TTL 제한 LRU)
+ * - 이 인스턴스에서 팔로우/언팔로우하면 FollowPersistenceAdapter 가 즉시 제거하고,
+ *   다른 인스턴스의 변경은 TTL 안에 반영
+ */
+@Component
+public class FollowingIdsCache {
+
+    private static final long[] EMPTY = new long[0];
+
+    private final UserFollowingJpaRepository userFollowingJpaRepository;
+    private final int maxEntries;
+    private final long ttlNanos;
+    private final LinkedHashMap<Long, Entry> entries;
+
+    public FollowingIdsCache(
+            UserFollowingJpaRepository userFollowingJpaRepository,
+            ActivityTimelineProperties properties
+    ) {
+        this.userFollowingJpaRepository = userFollowingJpaRepository;
+        this.maxEntries = properties.getFollowingCacheMaxEntries();
+        this.ttlNanos = TimeUnit.SECONDS.toNanos(properties.getFollowingCacheTtlSeconds());
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Entry> eldest) {
+                return size() > FollowingIdsCache.this.maxEntries;
+            }
+        };
+    }
+
+    /**
+     * 팔로우 대상 ID (캐시에 없으면 조회 후 보관)
+     */
+    public long[] get(Long followerId) {
+        long[] cached = getIfPresent(followerId);
+        if (cached != null) {
+            return cached;
+        }
+
+        List<Long> followeeIds = userFollowingJpaRepository.findFolloweeIdsByFollowerId(followerId);
+        long[] ids = followeeIds.isEmpty()
+                ? EMPTY
+                : followeeIds.stream().mapToLong(Long::longValue).toArray();
+        put(followerId, ids);
+        return ids;
+    }
+
+    public synchronized void evict(Long followerId) {
+        entries.remove(followerId);
+    }
+
+    private synchronized long[] getIfPresent(Long followerId) {
+        Entry entry = entries.get(followerId);
+        if (entry == null) {
+            return null;
+        }
+        if (System.nanoTime() - entry.expiresAt() >= 0) {
+            entries.remove(followerId);
+            return null;
+        }
+        return entry.followeeIds();
+    }
+
+    private synchronized void put(Long followerId, long[] followeeIds) {
+        if (maxEntries <= 0 || ttlNanos <= 0) {
+            return;
+        }
+        entries.put(followerId, new Entry(followeeIds, System.nanoTime() + ttlNanos));
+    }
+
+    private record Entry(long[] followeeIds, long expiresAt) {
+    }
+}
@@ -26,7 +26,8 @@ import java.time.LocalDateTime;
         name = "follow",
         indexes = {
                 @Index(name = "idx_follower", columnList = "follower_id"),
-                @Index(name = "idx_followee", columnList = "followee_id")
+                @Index(name = "idx_followee", columnList = "followee_id"),
+                @Index(name = "idx_followee_created", columnList = "followee_id, created_at")
         },
         uniqueConstraints = {
                 @UniqueConstraint(name = "ux_follow_pair", columnNames = {"follower_id", "followee_id"})
@@ -1,6 +1,8 @@
 package org.yyubin.infrastructure.persistence.user;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -28,11 +30,44 @@ public interface UserFollowingJpaRepository extends JpaRepository<UserFollowingE
 
     List<UserFollowingEntity> findByFolloweeIdAndIdLessThanOrderByIdDesc(Long followeeId, Long id, Pageable pageable);
 
-    List<UserFollowingEntity> findByFolloweeIdOrderByCreatedAtDesc(Long followeeId, Pageable pageable);
+    /**
+     * 팔로우 대상 ID 목록 (엔티티를 만들지 않고 ID 만 조회)
+     */
+    @Query("SELECT f.followeeId FROM UserFollowingEntity f WHERE f.followerId = :followerId")
+    List<Long> findFolloweeIdsByFollowerId(@Param("followerId") Long followerId);
+
+    List<UserFollowingEntity> findByFolloweeIdOrderByCreatedAtDescIdDesc(Long followeeId, Pageable pageable);
+
+    /**
+     * 나를 팔로우한 기록을 (created_at, id) 역순으로 keyset 조회 (idx_followee_created 인덱스 순서대로 읽음)
+     * - (cursorAt, cursorId) 보다 앞선 행만 반환
+     */
+    @Query("""
+            SELECT f FROM UserFollowingEntity f
+            WHERE f.followeeId = :followeeId
+              AND (f.createdAt < :cursorAt OR (f.createdAt = :cursorAt AND f.id < :cursorId))
+            ORDER BY f.createdAt DESC, f.id DESC
+            """)
+    List<UserFollowingEntity> findFollowedBefore(
+            @Param("followeeId") Long followeeId,
+            @Param("cursorAt") java.time.LocalDateTime cursorAt,
+            @Param("cursorId") Long cursorId,
+            Pageable pageable
+    );
 
-    List<UserFollowingEntity> findByFolloweeIdAndCreatedAtBeforeOrderByCreatedAtDesc(
-            Long followeeId,
-            java.time.LocalDateTime cursor,
+    /**
+     * 팔로워 keyset 조회 (idx_followee 인덱스 순서대로 읽음)
+     *
+     * @return [follow id, follower id]
+     */
+    @Query("""
+            SELECT f.id, f.followerId FROM UserFollowingEntity f
+            WHERE f.followeeId = :followeeId AND f.id > :afterId
+            ORDER BY f.id
+            """)
+    List<Object[]> findFollowerIdsAfter(
+            @Param("followeeId") Long followeeId,
+            @Param("afterId") Long afterId,
             Pageable pageable
     );
 
@@ -3,9 +3,12 @@ package org.yyubin.infrastructure.persistence.user;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 import org.yyubin.domain.user.User;
 
@@ -23,4 +26,10 @@ public interface UserJpaRepository extends JpaRepository<UserEntity, Long> {
     Optional<UserEntity> findByUsername(String username);
 
     Slice<UserEntity> findByUpdatedAtAfterOrderByIdAsc(LocalDateTime updatedAt, Pageable pageable);
+
+    /**
+     * 엔티티 로딩 없이 ID만 keyset 방식으로 조회 (id > lastId, id 오름차순)
+     */
+    @Query("select u.id from UserEntity u where u.id > :lastId order by u.id asc")
+    List<Long> findIdsAfter(@Param("lastId") Long lastId, Pageable pageable);
 }
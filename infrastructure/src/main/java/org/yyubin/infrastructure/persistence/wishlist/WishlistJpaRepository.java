@@ -1,7 +1,10 @@
 package org.yyubin.infrastructure.persistence.wishlist;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.yyubin.infrastructure.persistence.book.BookEntity;
 import org.yyubin.infrastructure.persistence.user.UserEntity;
@@ -18,4 +21,16 @@ public interface WishlistJpaRepository extends JpaRepository<WishlistEntity, Lon
     long countByBookId(Long bookId);
 
     long countByUserId(Long userId);
+
+    /**
+     * 사용자들의 위시리스트 (사용자 ID, 도서 ID, 추가 시간만 조회)
+     */
+    @Query("SELECT w.user.id AS userId, w.book.id AS bookId, w.createdAt AS createdAt FROM WishlistEntity w WHERE w.user.id IN :userIds")
+    List<UserWishlistEdge> findEdgesByUserIds(@Param("userIds") List<Long> userIds);
+
+    interface UserWishlistEdge {
+        Long getUserId();
+        Long getBookId();
+        LocalDateTime getCreatedAt();
+    }
 }
@@ -18,7 +18,7 @@ public class BookRecommendationAdapter implements BookRecommendationPort {
     @Override
     public List<RecommendationItem> getRecommendations(
             Long userId,
-            Long cursor,
+            String cursor,
             int limit,
             boolean forceRefresh,
             boolean enableSampling,
@@ -39,7 +39,8 @@ public class BookRecommendationAdapter implements BookRecommendationPort {
                         r.getScore(),
                         r.getRank(),
                         r.getSource(),
-                        r.getReason()
+                        r.getReason(),
+                        r.getCursor()
                 ))
                 .toList();
     }
@@ -4,15 +4,21 @@ import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.stereotype.Component;
 import org.yyubin.application.recommendation.port.out.ReviewCircleCachePort;
+import org.yyubin.infrastructure.config.ReviewCircleCacheProperties;
+import org.yyubin.infrastructure.config.ReviewCircleCacheProperties.TasteVectorEncoding;
 import org.yyubin.domain.recommendation.ReviewCircle;
 import org.yyubin.domain.recommendation.ReviewCircleTopic;
 import org.yyubin.domain.recommendation.SimilarUser;
 import org.yyubin.domain.recommendation.UserTasteVector;
 
+import java.io.IOException;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -28,6 +34,7 @@ public class ReviewCircleRedisCacheAdapter implements ReviewCircleCachePort {
 
     private final RedisTemplate<String, String> redisTemplate;
     private final ObjectMapper objectMapper;
+    private final ReviewCircleCacheProperties properties;
 
     private static final String TASTE_VECTOR_PREFIX = "review_circle:taste_vector:";
     private static final String SIMILAR_USERS_PREFIX = "review_circle:similar_users:";
@@ -42,6 +49,16 @@ public class ReviewCircleRedisCacheAdapter implements ReviewCircleCachePort {
         String key = TASTE_VECTOR_PREFIX + tasteVector.userId();
 
         try {
+            if (properties.getTasteVectorEncoding() == TasteVectorEncoding.BINARY) {
+                byte[] rawKey = redisTemplate.getStringSerializer().serialize(key);
+                byte[] value = TasteVectorBinaryCodec.encode(tasteVector);
+                long ttlSeconds = TimeUnit.DAYS.toSeconds(TASTE_VECTOR_TTL_DAYS);
+                redisTemplate.execute((RedisCallback<Boolean>) connection ->
+                    connection.stringCommands().setEx(rawKey, ttlSeconds, value));
+                log.debug("Saved binary taste vector for user {} (TTL: {} days)", tasteVector.userId(), TASTE_VECTOR_TTL_DAYS);
+                return;
+            }
+
             TasteVectorDto dto = TasteVectorDto.from(tasteVector);
             String json = objectMapper.writeValueAsString(dto);
 
@@ -58,13 +75,11 @@ public class ReviewCircleRedisCacheAdapter implements ReviewCircleCachePort {
         String key = TASTE_VECTOR_PREFIX + userId;
 
         try {
-            String json = redisTemplate.opsForValue().get(key);
-            if (json == null) {
-                return Optional.empty();
-            }
-
-            TasteVectorDto dto = objectMapper.readValue(json, TasteVectorDto.class);
-            return Optional.of(dto.toDomain());
+            // 쓰기 인코딩과 관계없이 byte[] 로 읽어 포맷을 판별 (인코딩 전환 중 섞여 있는 값도 복원)
+            byte[] rawKey = redisTemplate.getStringSerializer().serialize(key);
+            byte[] raw = redisTemplate.execute((RedisCallback<byte[]>) connection ->
+                connection.stringCommands().get(rawKey));
+            return raw == null ? Optional.empty() : Optional.of(decodeTasteVector(raw));
 
         } catch (Exception e) {
             log.error("Failed to get taste vector for user {}", userId, e);
@@ -72,6 +87,64 @@ public class ReviewCircleRedisCacheAdapter implements ReviewCircleCachePort {
         }
     }
 
+    @Override
+    public List<UserTasteVector> getTasteVectors(List<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return List.of();
+        }
+
+        RedisSerializer<String> keySerializer = redisTemplate.getStringSerializer();
+        int batchSize = Math.max(1, properties.getMgetBatchSize());
+
+        try {
+            // MGET 여러 개를 하나의 파이프라인으로 전송 (결과는 역직렬화 없이 byte[] 로 수신)
+            List<Object> results = redisTemplate.executePipelined((RedisCallback<?>) connection -> {
+                for (int from = 0; from < userIds.size(); from += batchSize) {
+                    int to = Math.min(from + batchSize, userIds.size());
+                    byte[][] keys = new byte[to - from][];
+                    for (int i = from; i < to; i++) {
+                        keys[i - from] = keySerializer.serialize(TASTE_VECTOR_PREFIX + userIds.get(i));
+                    }
+                    connection.stringCommands().mGet(keys);
+                }
+                return null;
+            }, null);
+
+            List<UserTasteVector> tasteVectors = new ArrayList<>(userIds.size());
+            int index = 0;
+            for (Object batch : results) {
+                for (Object value : (List<?>) batch) {
+                    Long userId = userIds.get(index++);
+                    if (!(value instanceof byte[] raw)) {
+                        continue;
+                    }
+                    try {
+                        tasteVectors.add(decodeTasteVector(raw));
+                    } catch (Exception e) {
+                        log.warn("Failed to decode taste vector for user {}: {}", userId, e.toString());
+                    }
+                }
+            }
+
+            log.debug("Loaded {} taste vectors for {} users", tasteVectors.size(), userIds.size());
+            return tasteVectors;
+
+        } catch (Exception e) {
+            log.error("Failed to get taste vectors for {} users", userIds.size(), e);
+            return List.of();
+        }
+    }
+
+    /**
+     * 첫 바이트로 바이너리/JSON 포맷을 판별하여 복원
+     */
+    private UserTasteVector decodeTasteVector(byte[] raw) throws IOException {
+        if (TasteVectorBinaryCodec.isBinary(raw)) {
+            return TasteVectorBinaryCodec.decode(raw);
+        }
+        return objectMapper.readValue(raw, TasteVectorDto.class).toDomain();
+    }
+
     @Override
     public void saveSimilarUsers(Long userId, List<SimilarUser> similarUsers) {
         String key = SIMILAR_USERS_PREFIX + userId;
@@ -0,0 +1,154 @@
+package org.yyubin.infrastructure.recommendation.adapter;
+
+import org.yyubin.domain.recommendation.UserTasteVector;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 취향 벡터 바이너리 인코딩
+ *
+ * 레이아웃 (big-endian):
+ * magic(1) | version(1) | userId(8) | calculatedAt epochSecond(8) + nano(4) | count(varint)
+ * | count × [prefix(1) | keyLength(varint) | key(UTF-8) | weight(8)]
+ *
+ * - magic(0xB7)은 JSON 첫 바이트('{')와 겹치지 않으므로 저장된 값의 포맷을 첫 바이트로 판별합니다.
+ * - "genre:" / "keyword:" 접두사는 1바이트 코드로 치환합니다.
+ * - 가중치는 double 그대로 저장하여 JSON 과 동일한 값으로 복원됩니다.
+ */
+final class TasteVectorBinaryCodec {
+
+    private static final byte MAGIC = (byte) 0xB7;
+    private static final byte VERSION = 1;
+
+    private static final byte PREFIX_NONE = 0;
+    private static final byte PREFIX_GENRE = 1;
+    private static final byte PREFIX_KEYWORD = 2;
+
+    private static final String GENRE_PREFIX = "genre:";
+    private static final String KEYWORD_PREFIX = "keyword:";
+
+    private static final int HEADER_BYTES = 1 + 1 + 8 + 8 + 4;
+
+    private TasteVectorBinaryCodec() {
+    }
+
+    static boolean isBinary(byte[] raw) {
+        return raw != null && raw.length > 0 && raw[0] == MAGIC;
+    }
+
+    static byte[] encode(UserTasteVector tasteVector) {
+        Map<String, Double> vector = tasteVector.vector();
+        byte[] prefixes = new byte[vector.size()];
+        byte[][] keys = new byte[vector.size()][];
+        double[] weights = new double[vector.size()];
+
+        int size = HEADER_BYTES + varIntSize(vector.size());
+        int i = 0;
+        for (Map.Entry<String, Double> entry : vector.entrySet()) {
+            String key = entry.getKey();
+            if (key.startsWith(GENRE_PREFIX)) {
+                prefixes[i] = PREFIX_GENRE;
+                key = key.substring(GENRE_PREFIX.length());
+            } else if (key.startsWith(KEYWORD_PREFIX)) {
+                prefixes[i] = PREFIX_KEYWORD;
+                key = key.substring(KEYWORD_PREFIX.length());
+            } else {
+                prefixes[i] = PREFIX_NONE;
+            }
+            keys[i] = key.getBytes(StandardCharsets.UTF_8);
+            weights[i] = entry.getValue();
+            size += 1 + varIntSize(keys[i].length) + keys[i].length + 8;
+            i++;
+        }
+
+        LocalDateTime calculatedAt = tasteVector.calculatedAt();
+        ByteBuffer buffer = ByteBuffer.allocate(size);
+        buffer.put(MAGIC);
+        buffer.put(VERSION);
+        buffer.putLong(tasteVector.userId());
+        buffer.putLong(calculatedAt.toEpochSecond(ZoneOffset.UTC));
+        buffer.putInt(calculatedAt.getNano());
+        putVarInt(buffer, vector.size());
+        for (int j = 0; j < keys.length; j++) {
+            buffer.put(prefixes[j]);
+            putVarInt(buffer, keys[j].length);
+            buffer.put(keys[j]);
+            buffer.putDouble(weights[j]);
+        }
+        return buffer.array();
+    }
+
+    static UserTasteVector decode(byte[] raw) {
+        ByteBuffer buffer = ByteBuffer.wrap(raw);
+        if (buffer.get() != MAGIC) {
+            throw new IllegalArgumentException("Not a binary taste vector");
+        }
+        byte version = buffer.get();
+        if (version != VERSION) {
+            throw new IllegalArgumentException("Unsupported taste vector version: " + version);
+        }
+
+        long userId = buffer.getLong();
+        long epochSecond = buffer.getLong();
+        int nano = buffer.getInt();
+        int count = getVarInt(buffer);
+
+        Map<String, Double> vector = new HashMap<>((int) (count / 0.75f) + 1);
+        for (int i = 0; i < count; i++) {
+            byte prefix = buffer.get();
+            int length = getVarInt(buffer);
+            String key = new String(raw, buffer.position(), length, StandardCharsets.UTF_8);
+            buffer.position(buffer.position() + length);
+            double weight = buffer.getDouble();
+            vector.put(applyPrefix(prefix, key), weight);
+        }
+
+        return new UserTasteVector(
+            userId,
+            vector,
+            LocalDateTime.ofEpochSecond(epochSecond, nano, ZoneOffset.UTC)
+        );
+    }
+
+    private static String applyPrefix(byte prefix, String key) {
+        return switch (prefix) {
+            case PREFIX_GENRE -> GENRE_PREFIX + key;
+            case PREFIX_KEYWORD -> KEYWORD_PREFIX + key;
+            default -> key;
+        };
+    }
+
+    private static int varIntSize(int value) {
+        int size = 1;
+        while ((value & ~0x7F) != 0) {
+            value >>>= 7;
+            size++;
+        }
+        return size;
+    }
+
+    private static void putVarInt(ByteBuffer buffer, int value) {
+        while ((value & ~0x7F) != 0) {
+            buffer.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        buffer.put((byte) value);
+    }
+
+    private static int getVarInt(ByteBuffer buffer) {
+        int value = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = buffer.get();
+            value |= (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        return value;
+    }
+}
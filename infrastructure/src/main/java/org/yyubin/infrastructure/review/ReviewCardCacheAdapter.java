@@ -0,0 +1,306 @@
+package org.yyubin.infrastructure.review;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.stereotype.Component;
+import org.yyubin.application.review.dto.ReviewResult;
+import org.yyubin.application.review.port.ReviewCardCachePort;
+import org.yyubin.domain.review.BookGenre;
+import org.yyubin.domain.review.Mention;
+import org.yyubin.domain.review.ReviewVisibility;
+import org.yyubin.infrastructure.config.ReviewCardCacheProperties;
+
+/**
+ * 리뷰 카드 2단 캐시 어댑터
+ * - L1: 인스턴스 로컬 LRU (용량/TTL 제한), 같은 카드가 여러 피드에 반복 노출될 때 Redis 왕복도 생략
+ * - L2: Redis review:card:{reviewId} (조회자와 무관한 필드만 JSON 으로 저장)
+ * - L2 적중분은 L1 으로 올리고, Redis 장애 시에는 캐시 미스로 처리해 원본 조회로 넘어감
+ * - 삭제 여부/공개 범위도 카드에 담아 조립기가 리뷰 행과 대조할 수 있게 함
+ */
+@Slf4j
+@Component
+public class ReviewCardCacheAdapter implements ReviewCardCachePort {
+
+    private static final String KEY_PREFIX = "review:card:";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final ReviewCardCacheProperties properties;
+    private final LocalCache localCache;
+
+    public ReviewCardCacheAdapter(
+            RedisTemplate<String, String> redisTemplate,
+            ObjectMapper objectMapper,
+            ReviewCardCacheProperties properties
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+        this.localCache = new LocalCache(
+                properties.getLocalMaxEntries(),
+                TimeUnit.SECONDS.toNanos(properties.getLocalTtlSeconds())
+        );
+    }
+
+    @Override
+    public Map<Long, ReviewResult> getAll(List<Long> reviewIds) {
+        if (reviewIds == null || reviewIds.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<Long, ReviewResult> results = new HashMap<>(reviewIds.size() * 2);
+        List<Long> missing = new ArrayList<>();
+        for (Long reviewId : reviewIds) {
+            ReviewResult card = localCache.get(reviewId);
+            if (card != null) {
+                results.put(reviewId, card);
+            } else {
+                missing.add(reviewId);
+            }
+        }
+        if (missing.isEmpty()) {
+            return results;
+        }
+
+        List<String> values;
+        try {
+            values = redisTemplate.opsForValue().multiGet(missing.stream().map(this::key).toList());
+        } catch (Exception e) {
+            log.warn("Failed to read {} review cards from Redis", missing.size(), e);
+            return results;
+        }
+        if (values == null) {
+            return results;
+        }
+
+        for (int i = 0; i < missing.size() && i < values.size(); i++) {
+            String json = values.get(i);
+            if (json == null) {
+                continue;
+            }
+            try {
+                ReviewResult card = objectMapper.readValue(json, CachedCard.class).toResult();
+                results.put(missing.get(i), card);
+                localCache.put(missing.get(i), card);
+            } catch (Exception e) {
+                log.warn("Failed to parse cached review card {}", missing.get(i), e);
+            }
+        }
+        return results;
+    }
+
+    @Override
+    public void putAll(Collection<ReviewResult> cards) {
+        if (cards == null || cards.isEmpty()) {
+            return;
+        }
+
+        Map<byte[], byte[]> entries = new LinkedHashMap<>();
+        RedisSerializer<String> serializer = redisTemplate.getStringSerializer();
+        for (ReviewResult card : cards) {
+            localCache.put(card.reviewId(), card);
+            try {
+                entries.put(
+                        serializer.serialize(key(card.reviewId())),
+                        serializer.serialize(objectMapper.writeValueAsString(CachedCard.from(card)))
+                );
+            } catch (Exception e) {
+                log.warn("Failed to serialize review card {}", card.reviewId(), e);
+            }
+        }
+        if (entries.isEmpty()) {
+            return;
+        }
+
+        long ttlSeconds = properties.getRedisTtlSeconds();
+        try {
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                entries.forEach((key, value) -> connection.stringCommands().setEx(key, ttlSeconds, value));
+                return null;
+            });
+        } catch (Exception e) {
+            log.warn("Failed to write {} review cards to Redis", entries.size(), e);
+        }
+    }
+
+    @Override
+    public void evict(Long reviewId) {
+        if (reviewId == null) {
+            return;
+        }
+        localCache.remove(reviewId);
+        try {
+            redisTemplate.delete(key(reviewId));
+        } catch (Exception e) {
+            log.warn("Failed to evict review card {} from Redis", reviewId, e);
+        }
+    }
+
+    private String key(Long reviewId) {
+        return KEY_PREFIX + reviewId;
+    }
+
+    /**
+     * 접근 순서 LinkedHashMap 기반 LRU + 항목별 만료 시각
+     */
+    static final class LocalCache {
+
+        private final int maxEntries;
+        private final long ttlNanos;
+        private final LinkedHashMap<Long, Entry> entries;
+
+        LocalCache(int maxEntries, long ttlNanos) {
+            this.maxEntries = maxEntries;
+            this.ttlNanos = ttlNanos;
+            this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Long, Entry> eldest) {
+                    return size() > LocalCache.this.maxEntries;
+                }
+            };
+        }
+
+        synchronized ReviewResult get(Long reviewId) {
+            Entry entry = entries.get(reviewId);
+            if (entry == null) {
+                return null;
+            }
+            if (System.nanoTime() - entry.expiresAt() >= 0) {
+                entries.remove(reviewId);
+                return null;
+            }
+            return entry.card();
+        }
+
+        synchronized void put(Long reviewId, ReviewResult card) {
+            if (maxEntries <= 0 || ttlNanos <= 0) {
+                return;
+            }
+            entries.put(reviewId, new Entry(card, System.nanoTime() + ttlNanos));
+        }
+
+        synchronized void remove(Long reviewId) {
+            entries.remove(reviewId);
+        }
+
+        synchronized int size() {
+            return entries.size();
+        }
+
+        private record Entry(ReviewResult card, long expiresAt) {
+        }
+    }
+
+    /**
+     * Redis 저장용 카드 (조회수/리액션/좋아요/북마크 같은 요청별 필드는 저장하지 않음)
+     */
+    private record CachedCard(
+            Long reviewId,
+            Long userId,
+            String authorNickname,
+            String authorTasteTag,
+            Long bookId,
+            String title,
+            List<String> authors,
+            String isbn10,
+            String isbn13,
+            String coverUrl,
+            String publisher,
+            String publishedDate,
+            String description,
+            String language,
+            Integer pageCount,
+            String googleVolumeId,
+            int rating,
+            String summary,
+            String content,
+            LocalDateTime createdAt,
+            ReviewVisibility visibility,
+            boolean deleted,
+            long viewCount,
+            BookGenre genre,
+            List<String> keywords,
+            List<String> highlights,
+            List<Mention> mentions
+    ) {
+        static CachedCard from(ReviewResult card) {
+            return new CachedCard(
+                    card.reviewId(),
+                    card.userId(),
+                    card.authorNickname(),
+                    card.authorTasteTag(),
+                    card.bookId(),
+                    card.title(),
+                    card.authors(),
+                    card.isbn10(),
+                    card.isbn13(),
+                    card.coverUrl(),
+                    card.publisher(),
+                    card.publishedDate(),
+                    card.description(),
+                    card.language(),
+                    card.pageCount(),
+                    card.googleVolumeId(),
+                    card.rating(),
+                    card.summary(),
+                    card.content(),
+                    card.createdAt(),
+                    card.visibility(),
+                    card.deleted(),
+                    card.viewCount(),
+                    card.genre(),
+                    card.keywords(),
+                    card.highlights(),
+                    card.mentions()
+            );
+        }
+
+        ReviewResult toResult() {
+            return new ReviewResult(
+                    reviewId,
+                    userId,
+                    authorNickname,
+                    authorTasteTag,
+                    bookId,
+                    title,
+                    authors,
+                    isbn10,
+                    isbn13,
+                    coverUrl,
+                    publisher,
+                    publishedDate,
+                    description,
+                    language,
+                    pageCount,
+                    googleVolumeId,
+                    rating,
+                    summary,
+                    content,
+                    createdAt,
+                    visibility,
+                    deleted,
+                    viewCount,
+                    genre,
+                    keywords != null ? keywords : List.of(),
+                    highlights != null ? highlights : List.of(),
+                    mentions != null ? mentions : List.of(),
+                    false,
+                    List.of(),
+                    null,
+                    false,
+                    0L
+            );
+        }
+    }
+}
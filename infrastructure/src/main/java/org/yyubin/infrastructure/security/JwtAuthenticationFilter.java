@@ -13,10 +13,12 @@ import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 import org.yyubin.application.auth.port.TokenBlacklistPort;
+import org.yyubin.support.jwt.JwtClaims;
 import org.yyubin.support.jwt.JwtProvider;
 
 import java.io.IOException;
 import java.util.Arrays;
+import java.util.Optional;
 
 @Slf4j
 @Component
@@ -36,22 +38,24 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         String token = resolveToken(request);
 
         if (StringUtils.hasText(token)) {
-            // 1. 서명 및 만료 검증
-            if (!jwtProvider.validateToken(token)) {
+            // 1. 서명 및 만료 검증 (한 번만 파싱, 검증된 claims 는 exp 까지 로컬 캐시)
+            Optional<JwtClaims> verified = jwtProvider.verify(token);
+            if (verified.isEmpty()) {
                 log.debug("Invalid JWT token, uri: {}", request.getRequestURI());
                 filterChain.doFilter(request, response);
                 return;
             }
+            JwtClaims claims = verified.get();
 
             // 2. 블랙리스트 확인
-            if (tokenBlacklistPort.isBlacklisted(token)) {
+            if (tokenBlacklistPort.isJtiBlacklisted(claims.jti())) {
                 log.warn("Blacklisted token attempted, uri: {}", request.getRequestURI());
                 filterChain.doFilter(request, response);
                 return;
             }
 
             // 3. 사용자 전체 토큰 무효화 확인
-            String userId = jwtProvider.getUserIdFromToken(token);
+            String userId = claims.subject();
             if (tokenBlacklistPort.isUserTokensInvalidated(userId)) {
                 log.warn("User tokens invalidated, userId: {}, uri: {}", userId, request.getRequestURI());
                 filterChain.doFilter(request, response);
@@ -59,7 +63,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             }
 
             // 4. 인증 설정
-            Authentication authentication = jwtProvider.getAuthentication(token);
+            Authentication authentication = jwtProvider.getAuthentication(claims, token);
             SecurityContextHolder.getContext().setAuthentication(authentication);
             log.debug("Set Authentication to security context for '{}', uri: {}",
                     authentication.getName(), request.getRequestURI());
@@ -0,0 +1,229 @@
+package org.yyubin.infrastructure.security;
+
+import jakarta.annotation.PostConstruct;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.api.listener.BaseStatusListener;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.yyubin.infrastructure.config.TokenBlacklistNearCacheProperties;
+
+/**
+ * 토큰 블랙리스트 near-cache (인스턴스 로컬)
+ * - 블랙리스트 jti 는 블룸 필터로 보관: 필터에 없으면 Redis 를 조회하지 않고 통과, 있으면 Redis 로 확인
+ * - 사용자 전체 무효화는 사용자 ID → 무효화 만료 시각 맵으로 보관: Redis 를 조회하지 않고 로컬에서 판단
+ * - 변경은 Redis pub/sub 토픽(blacklist:invalidations)으로 모든 인스턴스에 전파
+ * - 시작 시, 토픽 재구독 시, resyncIntervalMs 마다 Redis 키를 스캔해 다시 만듦
+ *   (만료된 jti 를 필터에서 비우고, 놓친 메시지가 있어도 이 주기 안에 반영)
+ *
+ * 아직 한 번도 만들지 못했으면(Redis 장애 등) ready 가 false 이고, 호출하는 쪽은 기존처럼 Redis 를 조회합니다.
+ */
+@Slf4j
+@Component
+public class TokenBlacklistNearCache {
+
+    static final String TOPIC = "blacklist:invalidations";
+    static final String JTI_MESSAGE = "jti";
+    static final String USER_MESSAGE = "user";
+    static final String RESTORE_MESSAGE = "restore";
+
+    private final RedissonClient redissonClient;
+    private final TokenBlacklistNearCacheProperties properties;
+    private final Object resyncLock = new Object();
+
+    private volatile Snapshot snapshot;
+    private volatile Queue<String> recording;
+    private RTopic topic;
+
+    public TokenBlacklistNearCache(RedissonClient redissonClient, TokenBlacklistNearCacheProperties properties) {
+        this.redissonClient = redissonClient;
+        this.properties = properties;
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!properties.isEnabled()) {
+            log.info("Token blacklist near-cache disabled");
+            return;
+        }
+        try {
+            topic = redissonClient.getTopic(TOPIC, StringCodec.INSTANCE);
+            topic.addListener(String.class, (channel, message) -> apply(message));
+            topic.addListener(new BaseStatusListener() {
+                @Override
+                public void onSubscribe(String channel) {
+                    // 재연결 후 재구독되면 끊긴 동안 놓친 메시지를 Redis 에서 다시 읽음
+                    if (snapshot != null) {
+                        resync();
+                    }
+                }
+            });
+        } catch (Exception e) {
+            log.warn("Failed to subscribe token blacklist topic, near-cache disabled until resync", e);
+            topic = null;
+            return;
+        }
+        resync();
+    }
+
+    public boolean isReady() {
+        return snapshot != null;
+    }
+
+    /**
+     * jti 가 블랙리스트일 가능성 (false 면 확실히 아님, ready 가 아니면 항상 true)
+     */
+    public boolean mightBeBlacklisted(String jti) {
+        Snapshot current = snapshot;
+        return current == null || current.jtiFilter().mightContain(jti);
+    }
+
+    /**
+     * 사용자 전체 토큰 무효화 여부 (ready 일 때만 의미 있음)
+     */
+    public boolean isUserInvalidated(String userId) {
+        Snapshot current = snapshot;
+        if (current == null) {
+            return false;
+        }
+        Long expiresAt = current.userInvalidatedUntil().get(userId);
+        if (expiresAt == null) {
+            return false;
+        }
+        if (expiresAt <= System.currentTimeMillis()) {
+            current.userInvalidatedUntil().remove(userId, expiresAt);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Redis 에 jti 블랙리스트를 기록한 뒤 호출 (로컬 반영 + 다른 인스턴스로 전파)
+     */
+    public void jtiBlacklisted(String jti) {
+        publish(JTI_MESSAGE + ":" + jti);
+    }
+
+    /**
+     * Redis 에 사용자 전체 무효화를 기록한 뒤 호출
+     */
+    public void userInvalidated(String userId, long expiresAtMillis) {
+        publish(USER_MESSAGE + ":" + userId + ":" + expiresAtMillis);
+    }
+
+    /**
+     * Redis 에서 사용자 전체 무효화를 지운 뒤 호출
+     */
+    public void userRestored(String userId) {
+        publish(RESTORE_MESSAGE + ":" + userId);
+    }
+
+    /**
+     * Redis 키를 스캔해 블룸 필터와 사용자 맵을 새로 만들고 교체
+     * - 스캔 중 받은 메시지는 기록해 두었다가 새 스냅샷에 다시 적용
+     */
+    @Scheduled(
+            fixedDelayString = "${token-blacklist.near-cache.resync-interval-ms:300000}",
+            initialDelayString = "${token-blacklist.near-cache.resync-interval-ms:300000}"
+    )
+    public void resync() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        synchronized (resyncLock) {
+            Queue<String> received = new ConcurrentLinkedQueue<>();
+            recording = received;
+            try {
+                Snapshot fresh = load();
+                snapshot = fresh;
+                recording = null;
+                for (String message : received) {
+                    applyTo(fresh, message);
+                }
+                log.debug("Token blacklist near-cache resynced (users: {})", fresh.userInvalidatedUntil().size());
+            } catch (Exception e) {
+                recording = null;
+                log.warn("Failed to resync token blacklist near-cache", e);
+            }
+        }
+    }
+
+    void apply(String message) {
+        Queue<String> received = recording;
+        if (received != null) {
+            received.add(message);
+        }
+        Snapshot current = snapshot;
+        if (current == null) {
+            return;
+        }
+        applyTo(current, message);
+        Snapshot latest = snapshot;
+        if (latest != current) {
+            applyTo(latest, message);
+        }
+    }
+
+    private void publish(String message) {
+        apply(message);
+        if (topic == null) {
+            return;
+        }
+        try {
+            topic.publish(message);
+        } catch (Exception e) {
+            log.warn("Failed to publish token blacklist message, other instances catch up on resync", e);
+        }
+    }
+
+    private void applyTo(Snapshot target, String message) {
+        String[] parts = message.split(":", 3);
+        try {
+            switch (parts[0]) {
+                case JTI_MESSAGE -> target.jtiFilter().add(parts[1]);
+                case USER_MESSAGE -> target.userInvalidatedUntil().merge(parts[1], Long.parseLong(parts[2]), Math::max);
+                case RESTORE_MESSAGE -> target.userInvalidatedUntil().remove(parts[1]);
+                default -> log.warn("Unknown token blacklist message: {}", message);
+            }
+        } catch (RuntimeException e) {
+            log.warn("Invalid token blacklist message: {}", message, e);
+        }
+    }
+
+    private Snapshot load() {
+        List<String> jtis = new ArrayList<>();
+        for (String key : redissonClient.getKeys().getKeysByPattern(TokenBlacklistService.BLACKLIST_PREFIX + "*")) {
+            jtis.add(key.substring(TokenBlacklistService.BLACKLIST_PREFIX.length()));
+        }
+        JtiBloomFilter filter = new JtiBloomFilter(
+                Math.max(properties.getExpectedInsertions(), jtis.size() * 2),
+                properties.getFalsePositiveRate()
+        );
+        jtis.forEach(filter::add);
+
+        Map<String, Long> users = new ConcurrentHashMap<>();
+        long now = System.currentTimeMillis();
+        for (String key : redissonClient.getKeys().getKeysByPattern(TokenBlacklistService.USER_BLACKLIST_PREFIX + "*")) {
+            long ttlMillis = redissonClient.getBucket(key).remainTimeToLive();
+            if (ttlMillis == -2) {
+                continue;
+            }
+            users.put(
+                    key.substring(TokenBlacklistService.USER_BLACKLIST_PREFIX.length()),
+                    ttlMillis < 0 ? Long.MAX_VALUE : now + ttlMillis
+            );
+        }
+        return new Snapshot(filter, users);
+    }
+
+    private record Snapshot(JtiBloomFilter jtiFilter, Map<String, Long> userInvalidatedUntil) {
+    }
+}
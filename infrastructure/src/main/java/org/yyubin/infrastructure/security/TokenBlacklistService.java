@@ -13,17 +13,21 @@ import java.util.concurrent.TimeUnit;
 /**
  * JWT 토큰 블랙리스트 관리 서비스
  * Redis를 사용하여 로그아웃된 토큰을 추적하고 무효화합니다.
+ * 요청마다 하는 확인은 TokenBlacklistNearCache 로 먼저 걸러 Redis 왕복을 줄입니다.
+ * - jti: 블룸 필터에 없으면 Redis 조회 생략
+ * - 사용자 전체 무효화: near-cache 가 준비되어 있으면 로컬 맵으로만 판단
  */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class TokenBlacklistService implements TokenBlacklistPort {
 
-    private static final String BLACKLIST_PREFIX = "blacklist:jwt:";
-    private static final String USER_BLACKLIST_PREFIX = "blacklist:user:";
+    static final String BLACKLIST_PREFIX = "blacklist:jwt:";
+    static final String USER_BLACKLIST_PREFIX = "blacklist:user:";
 
     private final RedissonClient redissonClient;
     private final JwtProvider jwtProvider;
+    private final TokenBlacklistNearCache nearCache;
 
     /**
      * 토큰을 블랙리스트에 추가
@@ -40,6 +44,7 @@ public class TokenBlacklistService implements TokenBlacklistPort {
                 String key = BLACKLIST_PREFIX + jti;
                 RBucket<String> bucket = redissonClient.getBucket(key);
                 bucket.set(userId, ttl, TimeUnit.SECONDS);
+                nearCache.jtiBlacklisted(jti);
 
                 log.info("Token added to blacklist - JTI: {}, UserId: {}, TTL: {}s", jti, userId, ttl);
             } else {
@@ -59,7 +64,25 @@ public class TokenBlacklistService implements TokenBlacklistPort {
      */
     public boolean isBlacklisted(String token) {
         try {
-            String jti = jwtProvider.getJtiFromToken(token);
+            return isJtiBlacklisted(jwtProvider.getJtiFromToken(token));
+        } catch (Exception e) {
+            log.error("Error checking blacklist for token", e);
+            // 에러 발생 시 안전하게 차단 (Fail-safe)
+            return true;
+        }
+    }
+
+    /**
+     * 토큰 ID(jti)가 블랙리스트에 있는지 확인
+     *
+     * @param jti 토큰 ID
+     * @return 블랙리스트에 있으면 true, 없으면 false
+     */
+    public boolean isJtiBlacklisted(String jti) {
+        if (!nearCache.mightBeBlacklisted(jti)) {
+            return false;
+        }
+        try {
             String key = BLACKLIST_PREFIX + jti;
             RBucket<String> bucket = redissonClient.getBucket(key);
 
@@ -69,7 +92,7 @@ public class TokenBlacklistService implements TokenBlacklistPort {
             }
             return exists;
         } catch (Exception e) {
-            log.error("Error checking blacklist for token", e);
+            log.error("Error checking blacklist for JTI: {}", jti, e);
             // 에러 발생 시 안전하게 차단 (Fail-safe)
             return true;
         }
@@ -87,6 +110,7 @@ public class TokenBlacklistService implements TokenBlacklistPort {
             String key = USER_BLACKLIST_PREFIX + userId;
             RBucket<String> bucket = redissonClient.getBucket(key);
             bucket.set("all", maxTokenLifetimeSeconds, TimeUnit.SECONDS);
+            nearCache.userInvalidated(userId, System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(maxTokenLifetimeSeconds));
 
             log.warn("All tokens invalidated for user: {}, TTL: {}s", userId, maxTokenLifetimeSeconds);
         } catch (Exception e) {
@@ -102,6 +126,9 @@ public class TokenBlacklistService implements TokenBlacklistPort {
      * @return 무효화되었으면 true, 아니면 false
      */
     public boolean isUserTokensInvalidated(String userId) {
+        if (nearCache.isReady()) {
+            return nearCache.isUserInvalidated(userId);
+        }
         try {
             String key = USER_BLACKLIST_PREFIX + userId;
             RBucket<String> bucket = redissonClient.getBucket(key);
@@ -142,6 +169,7 @@ public class TokenBlacklistService implements TokenBlacklistPort {
             String key = USER_BLACKLIST_PREFIX + userId;
             RBucket<String> bucket = redissonClient.getBucket(key);
             bucket.delete();
+            nearCache.userRestored(userId);
 
             log.info("User tokens restored - UserId: {}", userId);
         } catch (Exception e) {
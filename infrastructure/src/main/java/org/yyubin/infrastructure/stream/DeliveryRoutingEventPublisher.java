@@ -0,0 +1,39 @@
+package org.yyubin.infrastructure.stream;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+import org.yyubin.application.event.DeliveryClass;
+import org.yyubin.application.event.EventPayload;
+import org.yyubin.application.event.EventPublisher;
+import org.yyubin.application.event.EventTopics;
+import org.yyubin.infrastructure.stream.outbox.OutboxEventPublisher;
+import org.yyubin.infrastructure.stream.telemetry.TelemetryEventPublisher;
+
+/**
+ * 전달 등급별 이벤트 발행 라우터
+ * - TRANSACTIONAL → 아웃박스 (OutboxEventPublisher)
+ * - BEST_EFFORT → 메모리 링 버퍼 + 비동기 Kafka 전송 (TelemetryEventPublisher)
+ */
+@Component
+@Primary
+@RequiredArgsConstructor
+public class DeliveryRoutingEventPublisher implements EventPublisher {
+
+    private final OutboxEventPublisher outboxEventPublisher;
+    private final TelemetryEventPublisher telemetryEventPublisher;
+
+    @Override
+    public void publish(String topic, String key, EventPayload payload) {
+        publish(topic, key, payload, EventTopics.deliveryClassOf(topic));
+    }
+
+    @Override
+    public void publish(String topic, String key, EventPayload payload, DeliveryClass deliveryClass) {
+        if (deliveryClass == DeliveryClass.BEST_EFFORT) {
+            telemetryEventPublisher.publish(topic, key, payload);
+            return;
+        }
+        outboxEventPublisher.publish(topic, key, payload);
+    }
+}
@@ -1,36 +1,174 @@
 package org.yyubin.infrastructure.stream;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.net.InetAddress;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
-import lombok.RequiredArgsConstructor;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
 import org.springframework.data.redis.connection.stream.ReadOffset;
 import org.springframework.data.redis.connection.stream.StreamOffset;
 import org.springframework.data.redis.connection.stream.StreamReadOptions;
-import org.springframework.data.redis.core.StreamOperations;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StreamOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.yyubin.application.notification.service.NotificationCreator;
 import org.yyubin.application.notification.dto.NotificationEventPayload;
-import org.yyubin.application.notification.port.NotificationSettingPort;
+import org.yyubin.application.notification.service.NotificationCreator;
 import org.yyubin.domain.notification.NotificationType;
-import org.yyubin.domain.notification.NotificationSetting;
-import org.yyubin.domain.user.UserId;
+import org.yyubin.infrastructure.config.NotificationStreamProperties;
 
+/**
+ * 알림 스트림 컨슈머
+ * - 인스턴스마다 parallelism 개의 스레드가 각자 컨슈머 이름(호스트-인스턴스ID-번호)으로 XREADGROUP BLOCK 을 반복
+ *   (같은 그룹이므로 여러 인스턴스/스레드가 메시지를 나눠 가짐)
+ * - 읽은 배치는 수신자 설정을 한 번에 조회해 걸러낸 뒤 일괄 저장하고, 배치 ID 전체를 XACK 한 번으로 확인
+ * - 저장에 실패한 배치는 ack 하지 않아 pending 으로 남고, 주기적인 XAUTOCLAIM 으로 다시 처리
+ *   (회수한 배치도 실패하면 한 건씩 나눠 처리하고, 그래도 실패한 메시지는 pending 으로 남김.
+ *    전달 횟수가 maxDeliveries 에 도달한 메시지만 notifications:dead 스트림으로 옮기고 ack)
+ * - 회수 주기마다 오래 쉬고 pending 이 없는 컨슈머를 그룹에서 제거하고 pending/lag 지표를 갱신
+ *
+ * XAUTOCLAIM 은 Redis 6.2 이상, lag 지표는 Redis 7 이상에서만 제공됩니다 (그 외에는 -1).
+ *
+ * 메트릭
+ * - notification.stream.processed (counter, result) : created / filtered / invalid 메시지 수
+ * - notification.stream.failed (counter) : 저장에 실패해 ack 하지 못한 메시지 수
+ * - notification.stream.claimed (counter) : XAUTOCLAIM 으로 회수한 메시지 수
+ * - notification.stream.dead_lettered (counter) : 전달 횟수를 다 쓰고도 저장하지 못해 dead-letter 스트림으로 옮긴 메시지 수
+ * - notification.stream.pending / notification.stream.lag (gauge) : 그룹의 미확인/미전달 메시지 수
+ */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class NotificationConsumer {
 
     private static final String STREAM_KEY = "notifications";
     private static final String GROUP = "notification-consumers";
-    private static final String CONSUMER_NAME = "consumer-1";
+    private static final String DEAD_LETTER_KEY = "notifications:dead";
+    private static final String CURSOR_START = "0-0";
+
+    /**
+     * KEYS[1] 스트림, ARGV[1] 그룹, ARGV[2] 컨슈머, ARGV[3] 최소 idle (ms), ARGV[4] 시작 ID, ARGV[5] 개수
+     * - 이미 삭제된 메시지(필드 없음, Redis 6.2)는 회수 즉시 ack
+     * - 메시지마다 XPENDING 으로 전달 횟수(XAUTOCLAIM 으로 증가한 값)를 함께 반환
+     *
+     * @return {다음 커서, id1, {필드, 값, ...}, 전달 횟수1, id2, ...}
+     */
+    @SuppressWarnings("rawtypes")
+    private static final DefaultRedisScript<List> CLAIM_SCRIPT = new DefaultRedisScript<>("""
+            local claimed = redis.call('XAUTOCLAIM', KEYS[1], ARGV[1], ARGV[2], ARGV[3], ARGV[4], 'COUNT', ARGV[5])
+            local result = {claimed[1]}
+            for _, entry in ipairs(claimed[2]) do
+              if type(entry) == 'table' and type(entry[2]) == 'table' then
+                local info = redis.call('XPENDING', KEYS[1], ARGV[1], entry[1], entry[1], 1)
+                table.insert(result, entry[1])
+                table.insert(result, entry[2])
+                table.insert(result, info[1] and info[1][4] or 1)
+              elseif type(entry) == 'table' then
+                redis.call('XACK', KEYS[1], ARGV[1], entry[1])
+              end
+            end
+            return result
+            """, List.class);
+
+    /**
+     * KEYS[1] 스트림, ARGV[1] 그룹, ARGV[2] 제거할 최소 idle (ms), ARGV[3] 제외할 컨슈머 이름 접두사 (이 인스턴스)
+     *
+     * @return {pending, lag (없으면 -1), 제거한 컨슈머 수}
+     */
+    @SuppressWarnings("rawtypes")
+    private static final DefaultRedisScript<List> MAINTAIN_SCRIPT = new DefaultRedisScript<>("""
+            local function field(info, name)
+              for i = 1, #info, 2 do
+                if info[i] == name then
+                  return info[i + 1]
+                end
+              end
+              return nil
+            end
+            local removed = 0
+            for _, consumer in ipairs(redis.call('XINFO', 'CONSUMERS', KEYS[1], ARGV[1])) do
+              local name = field(consumer, 'name')
+              if field(consumer, 'pending') == 0
+                  and field(consumer, 'idle') > tonumber(ARGV[2])
+                  and string.sub(name, 1, #ARGV[3]) ~= ARGV[3] then
+                redis.call('XGROUP', 'DELCONSUMER', KEYS[1], ARGV[1], name)
+                removed = removed + 1
+              end
+            end
+            for _, group in ipairs(redis.call('XINFO', 'GROUPS', KEYS[1])) do
+              if field(group, 'name') == ARGV[1] then
+                local lag = field(group, 'lag')
+                return {field(group, 'pending'), lag or -1, removed}
+              end
+            end
+            return {0, -1, removed}
+            """, List.class);
 
     private final RedisTemplate<String, String> redisTemplate;
     private final NotificationCreator notificationCreator;
-    private final NotificationSettingPort notificationSettingPort;
+    private final NotificationStreamProperties properties;
+    private final String consumerPrefix;
+    private final AtomicLong pending = new AtomicLong();
+    private final AtomicLong lag = new AtomicLong(-1);
+    private final Counter createdCounter;
+    private final Counter filteredCounter;
+    private final Counter invalidCounter;
+    private final Counter failedCounter;
+    private final Counter claimedCounter;
+    private final Counter deadLetteredCounter;
+
+    private volatile boolean running;
+    private ExecutorService workers;
+
+    public NotificationConsumer(
+            RedisTemplate<String, String> redisTemplate,
+            NotificationCreator notificationCreator,
+            NotificationStreamProperties properties,
+            ObjectProvider<MeterRegistry> meterRegistry
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.notificationCreator = notificationCreator;
+        this.properties = properties;
+        this.consumerPrefix = hostName() + "-" + UUID.randomUUID().toString().substring(0, 8) + "-";
+
+        MeterRegistry registry = meterRegistry.getIfAvailable(SimpleMeterRegistry::new);
+        this.createdCounter = processedCounter(registry, "created");
+        this.filteredCounter = processedCounter(registry, "filtered");
+        this.invalidCounter = processedCounter(registry, "invalid");
+        this.failedCounter = Counter.builder("notification.stream.failed")
+                .description("Notification stream messages left pending because storing failed")
+                .register(registry);
+        this.claimedCounter = Counter.builder("notification.stream.claimed")
+                .description("Idle pending notification stream messages claimed for reprocessing")
+                .register(registry);
+        this.deadLetteredCounter = Counter.builder("notification.stream.dead_lettered")
+                .description("Notification stream messages moved to the dead-letter stream after max deliveries")
+                .register(registry);
+        Gauge.builder("notification.stream.pending", pending, AtomicLong::get)
+                .description("Notification stream messages delivered but not yet acknowledged")
+                .register(registry);
+        Gauge.builder("notification.stream.lag", lag, AtomicLong::get)
+                .description("Notification stream messages not yet delivered to the group (-1 if unknown)")
+                .register(registry);
+    }
 
     @PostConstruct
     public void init() {
@@ -56,45 +194,274 @@ public class NotificationConsumer {
         }
     }
 
-    @Scheduled(fixedDelay = 1000)
-    public void consume() {
-        StreamOperations<String, Object, Object> ops = redisTemplate.opsForStream();
+    /**
+     * 읽기 스레드 시작 (컨텍스트 준비 후)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
+        if (!properties.isEnabled() || running) {
+            return;
+        }
+
+        int parallelism = Math.max(1, properties.getParallelism());
+        running = true;
+        workers = Executors.newFixedThreadPool(parallelism,
+                Thread.ofPlatform().name("notification-stream-", 0).daemon(true).factory());
+        for (int i = 0; i < parallelism; i++) {
+            String consumerName = consumerPrefix + i;
+            workers.submit(() -> runWorker(consumerName));
+        }
+        log.info("Started {} notification stream consumers ({}*)", parallelism, consumerPrefix);
+    }
+
+    @PreDestroy
+    public synchronized void stop() {
+        if (!running) {
+            return;
+        }
+
+        running = false;
+        workers.shutdown();
+        try {
+            if (!workers.awaitTermination(properties.getBlockMillis() + 5_000, TimeUnit.MILLISECONDS)) {
+                workers.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            workers.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
 
-        var messages = ops.read(
-                Consumer.from(GROUP, CONSUMER_NAME),
-                StreamReadOptions.empty().count(10),
+    /**
+     * XREADGROUP BLOCK 으로 한 배치를 읽어 처리
+     *
+     * @return 읽은 메시지 수
+     */
+    int pollOnce(String consumerName) {
+        List<MapRecord<String, Object, Object>> records = redisTemplate.opsForStream().read(
+                Consumer.from(GROUP, consumerName),
+                StreamReadOptions.empty()
+                        .count(Math.max(1, properties.getBatchSize()))
+                        .block(Duration.ofMillis(properties.getBlockMillis())),
                 StreamOffset.create(STREAM_KEY, ReadOffset.lastConsumed())
         );
+        if (records == null || records.isEmpty()) {
+            return 0;
+        }
 
-        if (messages == null || messages.isEmpty()) {
+        List<StreamEntry> entries = new ArrayList<>(records.size());
+        for (MapRecord<String, Object, Object> record : records) {
+            entries.add(new StreamEntry(record.getId().getValue(), record.getValue(), 1));
+        }
+        process(entries);
+        return entries.size();
+    }
+
+    /**
+     * 오래 ack 되지 않은 pending 메시지를 회수해 다시 처리하고, 그룹 정리/지표 갱신
+     * - 모든 인스턴스가 실행해도 XAUTOCLAIM 이 원자적이므로 같은 메시지를 두 번 가져가지 않음
+     */
+    @Scheduled(
+            fixedDelayString = "${notification.stream.claim-interval-ms:30000}",
+            initialDelayString = "${notification.stream.claim-interval-ms:30000}"
+    )
+    public void recover() {
+        if (!properties.isEnabled()) {
             return;
         }
 
-        messages.forEach(message -> {
-            NotificationEventPayload payload = toPayload(message.getValue());
-            if (payload == null) {
-                ops.acknowledge(STREAM_KEY, GROUP, message.getId());
+        try {
+            claimIdle();
+            refreshGroupStats();
+        } catch (Exception e) {
+            log.warn("Failed to recover pending notification stream messages", e);
+        }
+    }
+
+    void claimIdle() {
+        String consumerName = consumerPrefix + "claim";
+        String cursor = CURSOR_START;
+        for (int round = 0; round < Math.max(1, properties.getClaimMaxRounds()); round++) {
+            List<?> result = redisTemplate.execute(
+                    CLAIM_SCRIPT,
+                    List.of(STREAM_KEY),
+                    GROUP,
+                    consumerName,
+                    String.valueOf(properties.getClaimIdleMillis()),
+                    cursor,
+                    String.valueOf(Math.max(1, properties.getBatchSize()))
+            );
+            if (result == null || result.isEmpty()) {
                 return;
             }
 
-            NotificationSetting setting = notificationSettingPort.load(new UserId(payload.recipientId()))
-                    .orElse(null);
-            if (setting != null && !isEnabled(setting, payload.type())) {
-                ops.acknowledge(STREAM_KEY, GROUP, message.getId());
+            List<StreamEntry> entries = parseClaimed(result);
+            if (!entries.isEmpty()) {
+                claimedCounter.increment(entries.size());
+                log.info("Claimed {} idle notification stream messages", entries.size());
+                processClaimed(entries);
+            }
+
+            cursor = String.valueOf(result.get(0));
+            if (CURSOR_START.equals(cursor)) {
                 return;
             }
+        }
+    }
+
+    void refreshGroupStats() {
+        List<?> result = redisTemplate.execute(
+                MAINTAIN_SCRIPT,
+                List.of(STREAM_KEY),
+                GROUP,
+                String.valueOf(properties.getConsumerRemoveIdleMillis()),
+                consumerPrefix
+        );
+        if (result == null || result.size() < 3) {
+            return;
+        }
 
-            notificationCreator.create(payload);
-            ops.acknowledge(STREAM_KEY, GROUP, message.getId());
-        });
+        pending.set(toLong(result.get(0)));
+        lag.set(toLong(result.get(1)));
+        long removed = toLong(result.get(2));
+        if (removed > 0) {
+            log.info("Removed {} idle consumers from group '{}'", removed, GROUP);
+        }
     }
 
-    private boolean isEnabled(NotificationSetting setting, NotificationType type) {
-        return switch (type) {
-            case LIKE_ON_REVIEW, COMMENT_ON_REVIEW -> setting.isLikeAndCommentEnabled();
-            case MENTION -> setting.isMentionEnabled();
-            case FOLLOWEE_NEW_REVIEW -> setting.isFolloweeReviewEnabled();
-        };
+    private void runWorker(String consumerName) {
+        while (running) {
+            try {
+                pollOnce(consumerName);
+            } catch (Exception e) {
+                if (!running) {
+                    return;
+                }
+                log.warn("Failed to read notification stream as {}", consumerName, e);
+                try {
+                    Thread.sleep(properties.getErrorBackoffMillis());
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * 배치 저장 후 배치 전체를 한 번에 ack (저장 실패 시 pending 으로 남김)
+     */
+    private void process(List<StreamEntry> entries) {
+        List<NotificationEventPayload> payloads = toPayloads(entries);
+        try {
+            record(payloads.size(), notificationCreator.createAll(payloads));
+        } catch (Exception e) {
+            failedCounter.increment(entries.size());
+            log.warn("Failed to store {} notifications, leaving them pending", payloads.size(), e);
+            return;
+        }
+        acknowledge(entries.stream().map(StreamEntry::id).toList());
+    }
+
+    /**
+     * 회수한 배치 처리 - 배치 저장이 실패하면 한 건씩 저장
+     * - 그래도 실패한 메시지는 ack 하지 않고 pending 으로 남겨 다음 회수 때 다시 처리
+     * - 전달 횟수가 maxDeliveries 에 도달한 메시지만 dead-letter 스트림으로 옮긴 뒤 ack
+     */
+    private void processClaimed(List<StreamEntry> entries) {
+        List<String> handled = new ArrayList<>(entries.size());
+        List<StreamEntry> valid = new ArrayList<>(entries.size());
+        List<NotificationEventPayload> payloads = new ArrayList<>(entries.size());
+        for (StreamEntry entry : entries) {
+            NotificationEventPayload payload = toPayload(entry.fields());
+            if (payload == null) {
+                invalidCounter.increment();
+                handled.add(entry.id());
+                continue;
+            }
+            valid.add(entry);
+            payloads.add(payload);
+        }
+
+        try {
+            record(payloads.size(), notificationCreator.createAll(payloads));
+            valid.forEach(entry -> handled.add(entry.id()));
+        } catch (Exception batchFailure) {
+            log.warn("Failed to store {} claimed notifications, retrying one by one", payloads.size(), batchFailure);
+            for (int i = 0; i < valid.size(); i++) {
+                StreamEntry entry = valid.get(i);
+                try {
+                    record(1, notificationCreator.createAll(List.of(payloads.get(i))));
+                    handled.add(entry.id());
+                } catch (Exception e) {
+                    if (entry.deliveries() < properties.getMaxDeliveries()) {
+                        failedCounter.increment();
+                        log.warn("Failed to store claimed notification {} (delivery {}/{}), leaving it pending",
+                                entry.id(), entry.deliveries(), properties.getMaxDeliveries(), e);
+                    } else if (deadLetter(entry, e)) {
+                        handled.add(entry.id());
+                    }
+                }
+            }
+        }
+        acknowledge(handled);
+    }
+
+    /**
+     * 전달 횟수를 다 쓴 메시지를 dead-letter 스트림으로 복사 (실패하면 pending 으로 남김)
+     */
+    private boolean deadLetter(StreamEntry entry, Exception cause) {
+        Map<Object, Object> fields = new LinkedHashMap<>(entry.fields());
+        fields.put("sourceId", entry.id());
+        fields.put("deliveries", String.valueOf(entry.deliveries()));
+        fields.put("error", String.valueOf(cause.getMessage()));
+        try {
+            redisTemplate.opsForStream().add(DEAD_LETTER_KEY, fields);
+        } catch (Exception e) {
+            log.warn("Failed to dead-letter notification {}, leaving it pending", entry.id(), e);
+            return false;
+        }
+        deadLetteredCounter.increment();
+        log.error("Moved notification {} to {} after {} deliveries", entry.id(), DEAD_LETTER_KEY, entry.deliveries(), cause);
+        return true;
+    }
+
+    private List<NotificationEventPayload> toPayloads(List<StreamEntry> entries) {
+        List<NotificationEventPayload> payloads = new ArrayList<>(entries.size());
+        for (StreamEntry entry : entries) {
+            NotificationEventPayload payload = toPayload(entry.fields());
+            if (payload == null) {
+                invalidCounter.increment();
+                continue;
+            }
+            payloads.add(payload);
+        }
+        return payloads;
+    }
+
+    private void record(int payloads, int created) {
+        createdCounter.increment(created);
+        filteredCounter.increment(payloads - created);
+    }
+
+    private void acknowledge(List<String> ids) {
+        if (!ids.isEmpty()) {
+            redisTemplate.opsForStream().acknowledge(STREAM_KEY, GROUP, ids.toArray(String[]::new));
+        }
+    }
+
+    private List<StreamEntry> parseClaimed(List<?> result) {
+        List<StreamEntry> entries = new ArrayList<>((result.size() - 1) / 3);
+        for (int i = 1; i + 2 < result.size(); i += 3) {
+            Map<Object, Object> fields = new LinkedHashMap<>();
+            if (result.get(i + 1) instanceof List<?> values) {
+                for (int j = 0; j + 1 < values.size(); j += 2) {
+                    fields.put(values.get(j), values.get(j + 1));
+                }
+            }
+            entries.add(new StreamEntry(String.valueOf(result.get(i)), fields, toLong(result.get(i + 2))));
+        }
+        return entries;
     }
 
     private NotificationEventPayload toPayload(Map<Object, Object> map) {
@@ -104,6 +471,9 @@ public class NotificationConsumer {
             Long actorId = parseLong(map.get("actorId"));
             Long contentId = parseLong(map.get("contentId"));
             String message = (String) map.get("message");
+            if (recipientId == null) {
+                return null;
+            }
             return new NotificationEventPayload(recipientId, type, actorId, contentId, message);
         } catch (Exception e) {
             return null;
@@ -116,4 +486,33 @@ public class NotificationConsumer {
         if (s.isBlank()) return null;
         return Long.parseLong(s);
     }
+
+    private long toLong(Object value) {
+        if (value instanceof Number number) {
+            return number.longValue();
+        }
+        try {
+            return value != null ? Long.parseLong(value.toString()) : -1L;
+        } catch (NumberFormatException e) {
+            return -1L;
+        }
+    }
+
+    private Counter processedCounter(MeterRegistry registry, String result) {
+        return Counter.builder("notification.stream.processed")
+                .description("Notification stream messages processed")
+                .tag("result", result)
+                .register(registry);
+    }
+
+    private static String hostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (Exception e) {
+            return "unknown";
+        }
+    }
+
+    private record StreamEntry(String id, Map<Object, Object> fields, long deliveries) {
+    }
 }
@@ -1,9 +1,13 @@
 package org.yyubin.infrastructure.stream;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
 import org.springframework.stereotype.Component;
 import org.yyubin.application.notification.dto.NotificationEventPayload;
 import org.yyubin.application.notification.port.NotificationPublisher;
@@ -18,13 +22,37 @@ public class RedisNotificationPublisher implements NotificationPublisher {
 
     @Override
     public void publish(NotificationEventPayload payload) {
+        redisTemplate.opsForStream().add(STREAM_KEY, toMessage(payload));
+    }
+
+    /**
+     * 팬아웃 청크는 파이프라인으로 한 번에 XADD
+     */
+    @Override
+    public void publishAll(List<NotificationEventPayload> payloads) {
+        if (payloads.isEmpty()) {
+            return;
+        }
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+                RedisOperations<String, String> stringOperations = (RedisOperations<String, String>) operations;
+                for (NotificationEventPayload payload : payloads) {
+                    stringOperations.opsForStream().add(STREAM_KEY, toMessage(payload));
+                }
+                return null;
+            }
+        });
+    }
+
+    private Map<String, String> toMessage(NotificationEventPayload payload) {
         Map<String, String> map = new HashMap<>();
         map.put("recipientId", payload.recipientId().toString());
         map.put("type", payload.type().name());
         map.put("actorId", payload.actorId() != null ? payload.actorId().toString() : "");
         map.put("contentId", payload.contentId() != null ? payload.contentId().toString() : "");
         map.put("message", payload.message() != null ? payload.message() : "");
-
-        redisTemplate.opsForStream().add(STREAM_KEY, map);
+        return map;
     }
 }
@@ -0,0 +1,63 @@
+package org.yyubin.infrastructure.stream.feed;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+/**
+ * 최신순으로 정렬된 타임라인 여러 개를 k-way 병합
+ * - 각 타임라인의 현재 항목만 힙에 두므로 O(limit · log k)
+ * - 같은 리뷰가 여러 타임라인에 있으면 한 번만 포함
+ */
+final class FeedTimelineMerger {
+
+    private FeedTimelineMerger() {
+    }
+
+    static List<Entry> merge(List<List<Entry>> timelines, int limit) {
+        PriorityQueue<Cursor> heap = new PriorityQueue<>(Math.max(1, timelines.size()),
+                (a, b) -> Double.compare(b.current().score(), a.current().score()));
+        for (List<Entry> timeline : timelines) {
+            if (!timeline.isEmpty()) {
+                heap.add(new Cursor(timeline));
+            }
+        }
+
+        List<Entry> merged = new ArrayList<>(limit);
+        Set<Long> seen = new HashSet<>();
+        while (merged.size() < limit && !heap.isEmpty()) {
+            Cursor cursor = heap.poll();
+            Entry entry = cursor.current();
+            if (seen.add(entry.reviewId())) {
+                merged.add(entry);
+            }
+            if (cursor.advance()) {
+                heap.add(cursor);
+            }
+        }
+        return merged;
+    }
+
+    record Entry(long reviewId, double score) {
+    }
+
+    private static final class Cursor {
+
+        private final List<Entry> timeline;
+        private int position;
+
+        private Cursor(List<Entry> timeline) {
+            this.timeline = timeline;
+        }
+
+        private Entry current() {
+            return timeline.get(position);
+        }
+
+        private boolean advance() {
+            return ++position < timeline.size();
+        }
+    }
+}
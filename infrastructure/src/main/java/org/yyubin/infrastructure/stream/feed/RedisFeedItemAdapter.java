@@ -1,75 +1,348 @@
 package org.yyubin.infrastructure.stream.feed;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
 import org.springframework.stereotype.Component;
-import org.yyubin.application.feed.port.FeedItemPort;
 import org.yyubin.application.feed.port.FeedItemWritePort;
+import org.yyubin.application.feed.port.FeedTimelinePort;
 import org.yyubin.domain.feed.FeedItem;
 import org.yyubin.domain.review.ReviewId;
 import org.yyubin.domain.user.UserId;
+import org.yyubin.infrastructure.config.HomeFeedProperties;
+import org.yyubin.infrastructure.stream.feed.FeedTimelineMerger.Entry;
 
+/**
+ * 홈 피드 Redis 저장소 (hybrid push/pull)
+ *
+ * 키
+ * - feed:user:{userId}         ZSET  push 로 받은 리뷰 (score = 작성 시각 epoch ms, maxItems 로 제한)
+ *                                    캐시가 채워졌음을 나타내는 표식 멤버(init, score 0)를 함께 둠
+ * - feed:user:{userId}:pull    SET   팔로우 중인 pull 작성자 ID
+ * - feed:author:{authorId}     ZSET  pull 작성자의 리뷰 타임라인 (authorTimelineMaxItems 로 제한)
+ * - feed:pull-authors          SET   pull 작성자 ID
+ * - feed:user:{userId}:fallback ZSET 피드가 비었을 때 보여주는 추천 리뷰
+ *
+ * push 는 캐시가 채워진 사용자에게만 기록합니다. 캐시가 없는 사용자는 조회할 때 feed_item 으로 다시 채우므로
+ * 일부만 채워진 캐시가 생기지 않습니다.
+ *
+ * 조회는 Lua 스크립트 한 번으로 피드와 팔로우 중인 pull 작성자 타임라인을 모두 읽고 k-way 병합합니다.
+ * 스크립트가 KEYS 에 없는 작성자 타임라인 키를 읽으므로 단일 Redis(비클러스터) 구성을 전제로 합니다.
+ */
 @Component
 @RequiredArgsConstructor
-public class RedisFeedItemAdapter implements FeedItemPort, FeedItemWritePort {
+public class RedisFeedItemAdapter implements FeedItemWritePort, FeedTimelinePort {
+
+    private static final String USER_KEY_PREFIX = "feed:user:";
+    private static final String AUTHOR_KEY_PREFIX = "feed:author:";
+    private static final String PULL_AUTHORS_KEY = "feed:pull-authors";
+    private static final String INIT_MEMBER = "init";
+    private static final String MEMBER_PREFIX = "review:";
+
+    /**
+     * KEYS[1] 피드, ARGV[1] 멤버, ARGV[2] score, ARGV[3] 최대 항목 수
+     * - 캐시가 없는 사용자는 건너뜀
+     */
+    private static final String PUSH_SCRIPT = """
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+              return 0
+            end
+            redis.call('ZADD', KEYS[1], ARGV[2], ARGV[1])
+            redis.call('ZREMRANGEBYRANK', KEYS[1], 0, -(tonumber(ARGV[3]) + 2))
+            return 1
+            """;
+
+    /**
+     * KEYS[1] 피드, KEYS[2] pull 작성자 집합, ARGV[1] pull 작성자 ID
+     * - 캐시가 있는 사용자만 연결하고 TTL 은 피드와 맞춤
+     */
+    private static final String LINK_SCRIPT = """
+            local ttl = redis.call('TTL', KEYS[1])
+            if ttl < 0 then
+              return 0
+            end
+            redis.call('SADD', KEYS[2], ARGV[1])
+            redis.call('EXPIRE', KEYS[2], ttl)
+            return 1
+            """;
+
+    /**
+     * KEYS[1] 피드, KEYS[2] pull 작성자 집합
+     * ARGV[1] 최대 score, ARGV[2] 타임라인별 최대 개수, ARGV[3] 작성자 키 접두사, ARGV[4] TTL (초)
+     *
+     * @return {0} (캐시 없음) 또는 {1, 피드, 작성자 타임라인...} - 타임라인은 [member, score, ...]
+     */
+    @SuppressWarnings("rawtypes")
+    private static final DefaultRedisScript<List> READ_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+              return {0}
+            end
+            redis.call('EXPIRE', KEYS[1], ARGV[4])
+            redis.call('EXPIRE', KEYS[2], ARGV[4])
+            local result = {1}
+            table.insert(result, redis.call('ZREVRANGEBYSCORE', KEYS[1], ARGV[1], '(0', 'WITHSCORES', 'LIMIT', 0, ARGV[2]))
+            local authors = redis.call('SMEMBERS', KEYS[2])
+            for i = 1, #authors do
+              table.insert(result, redis.call('ZREVRANGEBYSCORE', ARGV[3] .. authors[i], ARGV[1], '-inf', 'WITHSCORES', 'LIMIT', 0, ARGV[2]))
+            end
+            return result
+            """, List.class);
 
     private final StringRedisTemplate stringRedisTemplate;
+    private final HomeFeedProperties properties;
+
+    /**
+     * 피드 조회 (캐시가 없으면 empty)
+     */
+    public Optional<List<FeedItem>> loadFeed(UserId userId, Double cursorScore, int size) {
+        String max = cursorScore != null ? String.valueOf(cursorScore) : "+inf";
+        List<?> result = stringRedisTemplate.execute(
+                READ_SCRIPT,
+                List.of(userKey(userId.value()), pullKey(userId.value())),
+                max,
+                String.valueOf(size),
+                AUTHOR_KEY_PREFIX,
+                String.valueOf(ttl().toSeconds())
+        );
+        if (result == null || result.isEmpty() || !Long.valueOf(1L).equals(result.get(0))) {
+            return Optional.empty();
+        }
+
+        List<List<Entry>> timelines = new ArrayList<>(result.size() - 1);
+        for (int i = 1; i < result.size(); i++) {
+            timelines.add(parseEntries(result.get(i)));
+        }
+        return Optional.of(FeedTimelineMerger.merge(timelines, size).stream()
+                .map(entry -> toFeedItem(userId, entry))
+                .toList());
+    }
+
+    /**
+     * feed_item 과 팔로우 목록으로 사용자 피드 캐시를 다시 채움
+     */
+    public void rebuild(UserId userId, List<FeedItem> feedItems, Collection<Long> followingIds) {
+        List<Long> pullAuthorIds = pullAuthorsAmong(followingIds);
+        byte[] feedKey = bytes(userKey(userId.value()));
+        byte[] pullKey = bytes(pullKey(userId.value()));
+        long ttlSeconds = ttl().toSeconds();
 
-    private static final double MIN_SCORE = Double.NEGATIVE_INFINITY;
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            connection.keyCommands().del(feedKey, pullKey);
+            connection.zSetCommands().zAdd(feedKey, 0, bytes(INIT_MEMBER));
+            for (FeedItem feedItem : feedItems) {
+                connection.zSetCommands().zAdd(feedKey, score(feedItem.getCreatedAt()), bytes(member(feedItem.getReviewId().getValue())));
+            }
+            connection.zSetCommands().zRemRange(feedKey, 0, -(properties.getMaxItems() + 2L));
+            connection.keyCommands().expire(feedKey, ttlSeconds);
+            if (!pullAuthorIds.isEmpty()) {
+                connection.setCommands().sAdd(pullKey, pullAuthorIds.stream().map(id -> bytes(id.toString())).toArray(byte[][]::new));
+                connection.keyCommands().expire(pullKey, ttlSeconds);
+            }
+            return null;
+        });
+    }
 
     @Override
-    public List<FeedItem> loadFeed(UserId userId, Double cursorScore, int size) {
-        String key = recommendKey(userId.value());
-        double max = cursorScore != null ? cursorScore : Double.POSITIVE_INFINITY;
+    public FeedItem save(FeedItem feedItem) {
+        saveAll(List.of(feedItem));
+        return feedItem;
+    }
 
-        Set<TypedTuple<String>> entries = stringRedisTemplate.opsForZSet()
-                .reverseRangeByScoreWithScores(key, max, MIN_SCORE, 0, size);
+    @Override
+    public void saveAll(List<FeedItem> feedItems) {
+        if (feedItems.isEmpty()) {
+            return;
+        }
+        byte[] script = bytes(PUSH_SCRIPT);
+        byte[] maxItems = bytes(String.valueOf(properties.getMaxItems()));
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (FeedItem feedItem : feedItems) {
+                connection.scriptingCommands().eval(
+                        script,
+                        ReturnType.INTEGER,
+                        1,
+                        bytes(userKey(feedItem.getUserId().value())),
+                        bytes(member(feedItem.getReviewId().getValue())),
+                        bytes(String.valueOf(score(feedItem.getCreatedAt()))),
+                        maxItems
+                );
+            }
+            return null;
+        });
+    }
 
-        List<FeedItem> result = new ArrayList<>();
-        if (entries == null) {
-            return result;
+    @Override
+    public boolean isPullAuthor(Long authorId, long followerCount) {
+        if (followerCount >= properties.getPullFollowerThreshold()) {
+            return true;
         }
+        return Boolean.TRUE.equals(stringRedisTemplate.opsForSet().isMember(PULL_AUTHORS_KEY, authorId.toString()));
+    }
 
-        for (TypedTuple<String> entry : entries) {
-            if (entry.getValue() == null || entry.getScore() == null) {
-                continue;
+    @Override
+    public boolean registerPullAuthor(Long authorId) {
+        Long added = stringRedisTemplate.opsForSet().add(PULL_AUTHORS_KEY, authorId.toString());
+        return added != null && added > 0;
+    }
+
+    @Override
+    public void linkPullAuthor(Long authorId, List<Long> followerIds) {
+        if (followerIds.isEmpty()) {
+            return;
+        }
+        byte[] script = bytes(LINK_SCRIPT);
+        byte[] author = bytes(authorId.toString());
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (Long followerId : followerIds) {
+                connection.scriptingCommands().eval(
+                        script,
+                        ReturnType.INTEGER,
+                        2,
+                        bytes(userKey(followerId)),
+                        bytes(pullKey(followerId)),
+                        author
+                );
             }
-            Long reviewId = parseLong(entry.getValue());
+            return null;
+        });
+    }
+
+    @Override
+    public void appendToAuthorTimeline(Long authorId, Long reviewId, LocalDateTime createdAt) {
+        byte[] key = bytes(AUTHOR_KEY_PREFIX + authorId);
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            connection.zSetCommands().zAdd(key, score(createdAt), bytes(member(reviewId)));
+            connection.zSetCommands().zRemRange(key, 0, -(properties.getAuthorTimelineMaxItems() + 1L));
+            return null;
+        });
+    }
+
+    @Override
+    public void invalidate(Long userId) {
+        stringRedisTemplate.delete(List.of(userKey(userId), pullKey(userId)));
+    }
+
+    /**
+     * 피드가 비었을 때 보여줄 추천 리뷰 저장
+     */
+    public void saveFallback(UserId userId, List<FeedItem> feedItems) {
+        if (feedItems.isEmpty()) {
+            return;
+        }
+        String key = fallbackKey(userId.value());
+        Set<TypedTuple<String>> tuples = new HashSet<>();
+        for (FeedItem feedItem : feedItems) {
+            tuples.add(TypedTuple.of(member(feedItem.getReviewId().getValue()), score(feedItem.getCreatedAt())));
+        }
+        stringRedisTemplate.opsForZSet().add(key, tuples);
+        stringRedisTemplate.expire(key, Duration.ofSeconds(properties.getFallbackTtlSeconds()));
+    }
+
+    public List<FeedItem> loadFallback(UserId userId, Double cursorScore, int size) {
+        double max = cursorScore != null ? cursorScore : Double.POSITIVE_INFINITY;
+        Set<TypedTuple<String>> tuples = stringRedisTemplate.opsForZSet()
+                .reverseRangeByScoreWithScores(fallbackKey(userId.value()), max, Double.NEGATIVE_INFINITY, 0, size);
+        if (tuples == null) {
+            return List.of();
+        }
+
+        List<FeedItem> result = new ArrayList<>(tuples.size());
+        for (TypedTuple<String> tuple : tuples) {
+            Long reviewId = parseReviewId(tuple.getValue());
+            if (reviewId != null && tuple.getScore() != null) {
+                result.add(toFeedItem(userId, new Entry(reviewId, tuple.getScore())));
+            }
+        }
+        return result;
+    }
+
+    private List<Long> pullAuthorsAmong(Collection<Long> followingIds) {
+        if (followingIds.isEmpty()) {
+            return List.of();
+        }
+        Object[] members = followingIds.stream().map(String::valueOf).toArray();
+        Map<Object, Boolean> membership = stringRedisTemplate.opsForSet().isMember(PULL_AUTHORS_KEY, members);
+        if (membership == null) {
+            return List.of();
+        }
+        return followingIds.stream()
+                .filter(id -> Boolean.TRUE.equals(membership.get(String.valueOf(id))))
+                .toList();
+    }
+
+    private List<Entry> parseEntries(Object raw) {
+        if (!(raw instanceof List<?> values)) {
+            return List.of();
+        }
+        List<Entry> entries = new ArrayList<>(values.size() / 2);
+        for (int i = 0; i + 1 < values.size(); i += 2) {
+            Long reviewId = parseReviewId(String.valueOf(values.get(i)));
             if (reviewId == null) {
                 continue;
             }
-            LocalDateTime createdAt = LocalDateTime.ofInstant(
-                    Instant.ofEpochMilli(entry.getScore().longValue()),
-                    ZoneOffset.UTC
-            );
-            result.add(FeedItem.of(null, userId, ReviewId.of(reviewId), createdAt));
+            try {
+                entries.add(new Entry(reviewId, Double.parseDouble(String.valueOf(values.get(i + 1)))));
+            } catch (NumberFormatException ignored) {
+                // 잘못된 score 는 건너뜀
+            }
         }
-        return result;
+        return entries;
     }
 
-    @Override
-    public FeedItem save(FeedItem feedItem) {
-        String key = recommendKey(feedItem.getUserId().value());
-        double score = feedItem.getCreatedAt().toInstant(ZoneOffset.UTC).toEpochMilli();
-        String member = "review:%d".formatted(feedItem.getReviewId().getValue());
-        stringRedisTemplate.opsForZSet().add(key, member, score);
-        return feedItem;
+    private FeedItem toFeedItem(UserId userId, Entry entry) {
+        LocalDateTime createdAt = LocalDateTime.ofInstant(Instant.ofEpochMilli((long) entry.score()), ZoneOffset.UTC);
+        return FeedItem.of(null, userId, ReviewId.of(entry.reviewId()), createdAt);
     }
 
-    private String recommendKey(Long userId) {
-        return "recommend:user:%d".formatted(userId);
+    private Duration ttl() {
+        return Duration.ofHours(properties.getTtlHours());
     }
 
-    private Long parseLong(String value) {
+    private static double score(LocalDateTime createdAt) {
+        return createdAt.toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+
+    private static String member(Long reviewId) {
+        return MEMBER_PREFIX + reviewId;
+    }
+
+    private static String userKey(Long userId) {
+        return USER_KEY_PREFIX + userId;
+    }
+
+    private static String pullKey(Long userId) {
+        return USER_KEY_PREFIX + userId + ":pull";
+    }
+
+    private static String fallbackKey(Long userId) {
+        return USER_KEY_PREFIX + userId + ":fallback";
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static Long parseReviewId(String member) {
+        if (member == null || !member.startsWith(MEMBER_PREFIX)) {
+            return null;
+        }
         try {
-            return Long.parseLong(value.replaceFirst("^review:", ""));
+            return Long.parseLong(member.substring(MEMBER_PREFIX.length()));
         } catch (NumberFormatException ex) {
             return null;
         }
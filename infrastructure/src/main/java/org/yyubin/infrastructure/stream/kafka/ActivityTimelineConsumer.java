@@ -0,0 +1,98 @@
+package org.yyubin.infrastructure.stream.kafka;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeParseException;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+import org.yyubin.application.event.EventPayload;
+import org.yyubin.application.event.EventTopics;
+import org.yyubin.domain.activity.ActivityType;
+import org.yyubin.infrastructure.persistence.activity.ActivityTimelineStore;
+
+/**
+ * 활동 타임라인 기록 컨슈머
+ * - REVIEW_CREATED/UPDATED → 공개 리뷰면 기록, 아니면 제거 / REVIEW_DELETED → 리뷰의 모든 활동 제거
+ * - REVIEW_LIKED/UNLIKED, BOOKMARK_ADD/REMOVE → 좋아요/북마크 활동 기록/제거
+ * - 이벤트는 행위자(userId) 키로 발행되므로 같은 행위자의 추가/취소 순서가 유지됨
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ActivityTimelineConsumer {
+
+    private final ActivityTimelineStore activityTimelineStore;
+
+    @KafkaListener(
+            topics = {EventTopics.REVIEW, EventTopics.REACTION, EventTopics.WISHLIST_BOOKMARK},
+            groupId = "cg-activity-timeline"
+    )
+    public void consume(EventPayload payload) {
+        if (payload == null || payload.eventType() == null || payload.userId() == null) {
+            return;
+        }
+        if (!"REVIEW".equals(payload.targetType())) {
+            return;
+        }
+        Long reviewId = parseLong(payload.targetId());
+        if (reviewId == null) {
+            log.debug("Skipping activity event {} without reviewId", payload.eventId());
+            return;
+        }
+
+        Long actorId = payload.userId();
+        switch (payload.eventType()) {
+            case "REVIEW_CREATED", "REVIEW_UPDATED" -> {
+                if (isPublic(payload.metadata())) {
+                    activityTimelineStore.record(ActivityType.REVIEW_CREATED, actorId, reviewId, reviewCreatedAt(payload));
+                } else {
+                    activityTimelineStore.remove(ActivityType.REVIEW_CREATED, actorId, reviewId);
+                }
+            }
+            case "REVIEW_DELETED" -> activityTimelineStore.removeReview(reviewId);
+            case "REVIEW_LIKED" -> activityTimelineStore.record(ActivityType.REVIEW_LIKED, actorId, reviewId, occurredAt(payload));
+            case "REVIEW_UNLIKED" -> activityTimelineStore.remove(ActivityType.REVIEW_LIKED, actorId, reviewId);
+            case "BOOKMARK_ADD" -> activityTimelineStore.record(ActivityType.REVIEW_BOOKMARKED, actorId, reviewId, occurredAt(payload));
+            case "BOOKMARK_REMOVE" -> activityTimelineStore.remove(ActivityType.REVIEW_BOOKMARKED, actorId, reviewId);
+            default -> {
+            }
+        }
+    }
+
+    private boolean isPublic(Map<String, Object> metadata) {
+        return metadata != null && "PUBLIC".equals(metadata.get("visibility"));
+    }
+
+    /**
+     * 리뷰 활동 시각은 리뷰 작성 시각 (수정 이벤트로 다시 기록해도 순서가 바뀌지 않음)
+     */
+    private LocalDateTime reviewCreatedAt(EventPayload payload) {
+        Object value = payload.metadata() != null ? payload.metadata().get("createdAt") : null;
+        if (value instanceof String text) {
+            try {
+                return LocalDateTime.parse(text);
+            } catch (DateTimeParseException ignored) {
+                // occurredAt 사용
+            }
+        }
+        return occurredAt(payload);
+    }
+
+    private LocalDateTime occurredAt(EventPayload payload) {
+        return LocalDateTime.ofInstant(payload.occurredAt(), ZoneOffset.UTC);
+    }
+
+    private Long parseLong(String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException ignored) {
+            return null;
+        }
+    }
+}
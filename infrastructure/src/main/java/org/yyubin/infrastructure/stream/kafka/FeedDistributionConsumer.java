@@ -0,0 +1,70 @@
+package org.yyubin.infrastructure.stream.kafka;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeParseException;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+import org.yyubin.application.event.EventPayload;
+import org.yyubin.application.event.EventTopics;
+import org.yyubin.application.feed.DistributeReviewToFeedsUseCase;
+
+/**
+ * 홈 피드 배포 컨슈머
+ * - 공개 리뷰의 REVIEW_CREATED 를 팔로워 피드에 배포 (push/pull 결정은 DistributeReviewToFeedsUseCase)
+ * - 피드 score 는 리뷰 작성 시각이므로 metadata.createdAt 을 우선 사용
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FeedDistributionConsumer {
+
+    private final DistributeReviewToFeedsUseCase distributeReviewToFeedsUseCase;
+
+    @KafkaListener(
+            topics = EventTopics.REVIEW,
+            groupId = "cg-feed-distribution"
+    )
+    public void consume(EventPayload payload) {
+        if (payload == null || !"REVIEW_CREATED".equals(payload.eventType())) {
+            return;
+        }
+        Map<String, Object> metadata = payload.metadata();
+        if (metadata != null && metadata.get("visibility") != null && !"PUBLIC".equals(metadata.get("visibility"))) {
+            return;
+        }
+
+        Long reviewId = parseLong(payload.targetId());
+        if (payload.userId() == null || reviewId == null) {
+            log.debug("Skipping feed distribution {} without author or review", payload.eventId());
+            return;
+        }
+        distributeReviewToFeedsUseCase.distribute(payload.userId(), reviewId, resolveCreatedAt(payload));
+    }
+
+    private LocalDateTime resolveCreatedAt(EventPayload payload) {
+        Object value = payload.metadata() != null ? payload.metadata().get("createdAt") : null;
+        if (value instanceof String text) {
+            try {
+                return LocalDateTime.parse(text);
+            } catch (DateTimeParseException ignored) {
+                // occurredAt 사용
+            }
+        }
+        return LocalDateTime.ofInstant(payload.occurredAt(), ZoneOffset.UTC);
+    }
+
+    private Long parseLong(String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException ignored) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package org.yyubin.infrastructure.stream.kafka;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+import org.yyubin.application.event.EventPayload;
+import org.yyubin.application.event.EventTopics;
+import org.yyubin.application.notification.NotifyFolloweeReviewUseCase;
+import org.yyubin.application.user.dto.FollowerChunk;
+import org.yyubin.application.user.port.FollowQueryPort;
+import org.yyubin.infrastructure.config.FolloweeFanOutProperties;
+
+/**
+ * 새 리뷰 팔로워 팬아웃 컨슈머
+ * - 공개 리뷰의 REVIEW_CREATED 를 받으면 팔로워 첫 청크(팔로우 ID keyset)만 알림을 일괄 저장/발행
+ * - 청크가 가득 차 있으면 다음 커서를 담은 REVIEW_FANOUT_CHUNK 이벤트를 팬아웃 토픽(key = 리뷰 ID)에 발행하고,
+ *   그 이벤트가 다시 이 컨슈머로 들어와 다음 청크를 처리
+ *   (레코드 하나의 처리 시간이 청크 하나로 제한되어 poll 간격을 넘기지 않고 리뷰 토픽의 다른 이벤트를 막지 않음)
+ * - Redis 체크포인트(마지막 팔로우 ID)가 이벤트의 커서와 같을 때만 처리해 재전달/중복 이벤트는 건너뜀
+ *   (다음 청크 이벤트를 먼저 발행하고 체크포인트를 옮기므로, 중간에 실패해도 체인이 끊기지 않음)
+ * - 마지막 청크를 끝내면 체크포인트를 완료로 표시
+ * - maxFollowersPerSecond 로 처리 속도 제한
+ *
+ * 리뷰 작성 트랜잭션은 이벤트 한 건만 남기므로 작성 지연은 팔로워 수와 무관합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FolloweeReviewFanOutConsumer {
+
+    static final String CHUNK_EVENT = "REVIEW_FANOUT_CHUNK";
+    private static final String CHECKPOINT_KEY_PREFIX = "notification:fanout:review:";
+    private static final String DONE = "done";
+
+    private final FollowQueryPort followQueryPort;
+    private final NotifyFolloweeReviewUseCase notifyFolloweeReviewUseCase;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final KafkaTemplate<String, EventPayload> kafkaTemplate;
+    private final FolloweeFanOutProperties properties;
+
+    @KafkaListener(
+            topics = {EventTopics.REVIEW, EventTopics.NOTIFICATION_FANOUT},
+            groupId = "cg-notification-fanout"
+    )
+    public void consume(EventPayload payload) {
+        if (payload == null) {
+            return;
+        }
+
+        boolean start = "REVIEW_CREATED".equals(payload.eventType());
+        if (!start && !CHUNK_EVENT.equals(payload.eventType())) {
+            return;
+        }
+        if (start && !isPublic(payload.metadata())) {
+            return;
+        }
+
+        Long authorId = payload.userId();
+        Long reviewId = parseLong(payload.targetId());
+        if (authorId == null || reviewId == null) {
+            log.debug("Skipping fan-out {} without author or review", payload.eventId());
+            return;
+        }
+        Long cursor = start ? null : parseLong(metadataValue(payload.metadata(), "cursor"));
+        fanOutChunk(authorId, reviewId, cursor);
+    }
+
+    /**
+     * 체크포인트가 cursor 와 같을 때만 다음 청크 하나를 처리
+     */
+    private void fanOutChunk(Long authorId, Long reviewId, Long cursor) {
+        String checkpointKey = CHECKPOINT_KEY_PREFIX + reviewId;
+        String checkpoint = redisTemplate.opsForValue().get(checkpointKey);
+        if (!Objects.equals(checkpoint, cursor != null ? String.valueOf(cursor) : null)) {
+            log.debug("Skipping fan-out chunk of review {} at {} (checkpoint {})", reviewId, cursor, checkpoint);
+            return;
+        }
+
+        Duration ttl = Duration.ofHours(properties.getCheckpointTtlHours());
+        long startedAt = System.nanoTime();
+        FollowerChunk chunk = followQueryPort.loadFollowerChunk(authorId, cursor, properties.getChunkSize());
+        if (chunk.isEmpty()) {
+            redisTemplate.opsForValue().set(checkpointKey, DONE, ttl);
+            return;
+        }
+
+        int notified = notifyFolloweeReviewUseCase.notifyFollowers(authorId, reviewId, chunk.followerIds());
+        log.debug("Fanned out review {} to {} followers ({} notified)", reviewId, chunk.followerIds().size(), notified);
+        if (chunk.followerIds().size() < properties.getChunkSize()) {
+            redisTemplate.opsForValue().set(checkpointKey, DONE, ttl);
+            return;
+        }
+
+        pace(startedAt, chunk.followerIds().size());
+        publishNextChunk(authorId, reviewId, chunk.lastFollowId());
+        redisTemplate.opsForValue().set(checkpointKey, String.valueOf(chunk.lastFollowId()), ttl);
+    }
+
+    private void publishNextChunk(Long authorId, Long reviewId, Long cursor) {
+        EventPayload next = new EventPayload(
+                null,
+                CHUNK_EVENT,
+                authorId,
+                "REVIEW",
+                String.valueOf(reviewId),
+                Map.of("cursor", cursor),
+                null,
+                "notification-fanout",
+                1
+        );
+        try {
+            kafkaTemplate.send(EventTopics.NOTIFICATION_FANOUT, String.valueOf(reviewId), next)
+                    .get(properties.getPublishTimeoutMs(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Fan-out interrupted", e);
+        } catch (ExecutionException | TimeoutException e) {
+            // 체크포인트를 옮기지 않았으므로 재처리 시 같은 청크부터 다시 시작
+            throw new IllegalStateException("Failed to publish next fan-out chunk for review " + reviewId, e);
+        }
+    }
+
+    /**
+     * 청크 처리가 허용 속도보다 빨랐으면 그만큼 대기 (청크 하나 분량 이내)
+     */
+    private void pace(long startedAt, int processed) {
+        int maxPerSecond = properties.getMaxFollowersPerSecond();
+        if (maxPerSecond <= 0) {
+            return;
+        }
+        long expectedNanos = TimeUnit.SECONDS.toNanos(processed) / maxPerSecond;
+        long aheadNanos = expectedNanos - (System.nanoTime() - startedAt);
+        if (aheadNanos <= 0) {
+            return;
+        }
+        try {
+            TimeUnit.NANOSECONDS.sleep(aheadNanos);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Fan-out interrupted", e);
+        }
+    }
+
+    private boolean isPublic(Map<String, Object> metadata) {
+        return "PUBLIC".equals(metadataValue(metadata, "visibility"));
+    }
+
+    private String metadataValue(Map<String, Object> metadata, String key) {
+        Object value = metadata != null ? metadata.get(key) : null;
+        return value != null ? value.toString() : null;
+    }
+
+    private Long parseLong(String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException ignored) {
+            return null;
+        }
+    }
+}
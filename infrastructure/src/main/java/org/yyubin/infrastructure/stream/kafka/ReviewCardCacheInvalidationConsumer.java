@@ -0,0 +1,63 @@
+package org.yyubin.infrastructure.stream.kafka;
+
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+import org.yyubin.application.event.EventPayload;
+import org.yyubin.application.event.EventTopics;
+import org.yyubin.application.review.port.ReviewCardCachePort;
+
+/**
+ * 리뷰 카드 캐시 무효화 컨슈머
+ * - 로컬 캐시는 인스턴스마다 있으므로 인스턴스별 컨슈머 그룹으로 모든 파티션을 구독
+ *   (그룹 이름은 app.instance-id 로 고정해 재시작마다 고아 그룹이 생기지 않게 함)
+ * - REVIEW_UPDATED/REVIEW_DELETED → 해당 리뷰 카드 제거 (로컬 + Redis)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReviewCardCacheInvalidationConsumer {
+
+    private final ReviewCardCachePort reviewCardCachePort;
+
+    @KafkaListener(
+            topics = EventTopics.REVIEW,
+            groupId = "${review.card-cache.group-id-prefix:cg-review-card-cache}-${app.instance-id:${HOSTNAME:local}}"
+    )
+    public void consume(EventPayload payload) {
+        if (payload == null || payload.eventType() == null) {
+            return;
+        }
+        if (!"REVIEW_UPDATED".equals(payload.eventType()) && !"REVIEW_DELETED".equals(payload.eventType())) {
+            return;
+        }
+
+        Long reviewId = resolveReviewId(payload);
+        if (reviewId == null) {
+            log.debug("Skipping card invalidation {} without reviewId", payload.eventId());
+            return;
+        }
+        reviewCardCachePort.evict(reviewId);
+    }
+
+    private Long resolveReviewId(EventPayload payload) {
+        Object value = "REVIEW".equals(payload.targetType()) ? payload.targetId() : null;
+        Map<String, Object> metadata = payload.metadata();
+        if (value == null && metadata != null) {
+            value = metadata.get("reviewId");
+        }
+        if (value instanceof Number number) {
+            return number.longValue();
+        }
+        if (value instanceof String text) {
+            try {
+                return Long.parseLong(text);
+            } catch (NumberFormatException ignored) {
+                return null;
+            }
+        }
+        return null;
+    }
+}
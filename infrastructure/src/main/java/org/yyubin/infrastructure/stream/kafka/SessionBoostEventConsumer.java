@@ -1,6 +1,8 @@
 package org.yyubin.infrastructure.stream.kafka;
 
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import lombok.RequiredArgsConstructor;
@@ -9,13 +11,29 @@ import org.springframework.dao.DataAccessException;
 import org.springframework.data.redis.connection.ReturnType;
 import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.stereotype.Component;
 import org.yyubin.application.event.EventPayload;
 import org.yyubin.infrastructure.config.SessionBoostProperties;
 import org.yyubin.infrastructure.stream.metric.ReviewTrackingCounterAdapter;
 
+/**
+ * 세션 부스트 컨슈머 (write-behind)
+ * - poll 배치 단위로 받아 (세션, 리뷰)별 증분을 메모리에서 합친 뒤 파이프라인 한 번으로 반영
+ * - 세션 키마다 스크립트 1회: HINCRBYFLOAT(합친 항목별) + EXPIRE + HLEN,
+ *   크기가 maxEntries × (1 + trimSlackRatio) 를 넘을 때만 정렬해서 maxEntries 로 자름
+ *
+ * 10,000 이벤트 기준 Redis 명령 수 (max.poll.records 500, 세션 키 U개/배치)
+ * - 이전: 이벤트마다 HINCRBYFLOAT + EXPIRE + EVAL(HGETALL + 전체 정렬) = 30,000 명령, 왕복 10,000회, 정렬 10,000회
+ * - 이후: 배치마다 EVAL U회 = 최대 10,000 명령(모든 이벤트가 다른 세션일 때), 보통 20 × U, 왕복 20회,
+ *   정렬은 세션마다 새 항목이 slack 만큼 쌓였을 때만
+ * (SessionBoostEventConsumerTest 에서 같은 분포로 명령 수를 확인)
+ *
+ * 클릭/도달/체류 트래킹 카운터도 키별로 합쳐 같은 파이프라인의 INCRBY 로 반영합니다.
+ * 레코드마다 Redis 를 부르지 않으므로 중간 레코드의 Redis 오류로 배치가 재처리되면서
+ * 앞 레코드의 카운터가 다시 올라가는 일이 없고, 파이프라인 오류는 배치 전체를 한 번 로그로 남기고 넘깁니다.
+ */
 @Component
 @Slf4j
 @RequiredArgsConstructor
@@ -23,72 +41,103 @@ public class SessionBoostEventConsumer {
 
     private final RedisTemplate<String, String> redisTemplate;
     private final SessionBoostProperties properties;
-    private final DefaultRedisScript<Long> trimScript = new DefaultRedisScript<>(TRIM_SCRIPT, Long.class);
-    private final ReviewTrackingCounterAdapter reviewTrackingCounterAdapter;
 
     private static final String BUCKET_REVIEWS = "reviews";
-    private static final String TRIM_SCRIPT = """
+
+    /**
+     * KEYS[1] 세션 해시, ARGV[1] TTL (초), ARGV[2] 남길 개수, ARGV[3] 자르기 시작할 개수, ARGV[4..] 항목, 증분 쌍
+     *
+     * @return 반영 후 항목 수
+     */
+    static final String APPLY_SCRIPT = """
             local key = KEYS[1]
-            local max = tonumber(ARGV[1])
-            local entries = redis.call('HGETALL', key)
-            if entries == nil or #entries == 0 then
-              return 0
+            for i = 4, #ARGV, 2 do
+              redis.call('HINCRBYFLOAT', key, ARGV[i], ARGV[i + 1])
+            end
+            redis.call('EXPIRE', key, ARGV[1])
+            local size = redis.call('HLEN', key)
+            if size <= tonumber(ARGV[3]) then
+              return size
             end
+            local max = tonumber(ARGV[2])
+            local entries = redis.call('HGETALL', key)
             local pairs = {}
-            for i=1,#entries,2 do
-              local field = entries[i]
-              local value = tonumber(entries[i+1])
+            for i = 1, #entries, 2 do
+              local value = tonumber(entries[i + 1])
               if value then
-                table.insert(pairs, {field, value})
+                table.insert(pairs, {entries[i], value})
               end
             end
-            table.sort(pairs, function(a,b) return a[2] > b[2] end)
-            if #pairs <= max then
-              return #pairs
-            end
-            for i=max+1,#pairs do
+            table.sort(pairs, function(a, b) return a[2] > b[2] end)
+            for i = max + 1, #pairs do
               redis.call('HDEL', key, pairs[i][1])
             end
-            return max
+            return math.min(max, #pairs)
             """;
 
+    private final byte[] applyScript = APPLY_SCRIPT.getBytes(StandardCharsets.UTF_8);
+
     @KafkaListener(
             topics = {"events.review", "events.reaction", "events.wishlist-bookmark", "events.feed"},
-            groupId = "cg-session-boost"
+            groupId = "cg-session-boost",
+            batch = "true"
     )
-    public void consume(EventPayload payload) {
-        if (payload.userId() == null) {
-            return;
+    public void consume(List<EventPayload> payloads) {
+        // 세션 키 → 항목 → 합친 증분 (순서 유지)
+        Map<String, Map<String, Double>> window = new LinkedHashMap<>();
+        // 트래킹 카운터 키 → 합친 증분
+        Map<String, Long> counters = new LinkedHashMap<>();
+        for (EventPayload payload : payloads) {
+            if (payload == null || payload.userId() == null) {
+                continue;
+            }
+            for (BoostOp op : mapToOps(payload, counters)) {
+                window.computeIfAbsent(op.key(), key -> new LinkedHashMap<>())
+                        .merge(op.field(), op.delta(), Double::sum);
+            }
         }
-
-        List<BoostOp> ops = mapToOps(payload);
-        if (ops.isEmpty()) {
+        if (window.isEmpty() && counters.isEmpty()) {
             return;
         }
 
         try {
-            redisTemplate.executePipelined((RedisCallback<?>) (connection) -> {
-                for (BoostOp op : ops) {
-                    byte[] key = redisTemplate.getStringSerializer().serialize(op.key());
-                    byte[] field = redisTemplate.getStringSerializer().serialize(op.field());
-                    connection.hashCommands().hIncrBy(key, field, op.delta());
-                    connection.keyCommands().expire(key, properties.getTtlSeconds());
-                    connection.scriptingCommands().eval(
-                            trimScript.getScriptAsString().getBytes(),
-                            ReturnType.INTEGER,
-                            1,
-                            key,
-                            redisTemplate.getStringSerializer().serialize(Integer.toString(properties.getMaxEntries()))
-                    );
-                }
-                return null;
-            });
+            flush(window, counters);
         } catch (DataAccessException ex) {
-            log.warn("Failed to apply session boost for user={} eventType={} error={}", payload.userId(), payload.eventType(), ex.toString());
+            log.warn("Failed to apply session boost for {} sessions, {} counters ({} events) error={}",
+                    window.size(), counters.size(), payloads.size(), ex.toString());
         }
     }
 
-    private List<BoostOp> mapToOps(EventPayload payload) {
+    private void flush(Map<String, Map<String, Double>> window, Map<String, Long> counters) {
+        RedisSerializer<String> serializer = redisTemplate.getStringSerializer();
+        byte[] ttl = serializer.serialize(Long.toString(properties.getTtlSeconds()));
+        byte[] maxEntries = serializer.serialize(Integer.toString(properties.getMaxEntries()));
+        byte[] trimThreshold = serializer.serialize(Integer.toString(properties.trimThreshold()));
+
+        redisTemplate.executePipelined((RedisCallback<?>) (connection) -> {
+            for (Map.Entry<String, Map<String, Double>> session : window.entrySet()) {
+                Map<String, Double> increments = session.getValue();
+                byte[][] keysAndArgs = new byte[4 + increments.size() * 2][];
+                keysAndArgs[0] = serializer.serialize(session.getKey());
+                keysAndArgs[1] = ttl;
+                keysAndArgs[2] = maxEntries;
+                keysAndArgs[3] = trimThreshold;
+                int i = 4;
+                for (Map.Entry<String, Double> increment : increments.entrySet()) {
+                    keysAndArgs[i++] = serializer.serialize(increment.getKey());
+                    keysAndArgs[i++] = serializer.serialize(Double.toString(increment.getValue()));
+                }
+                connection.scriptingCommands().eval(applyScript, ReturnType.INTEGER, 1, keysAndArgs);
+            }
+            counters.forEach((key, delta) -> connection.stringCommands().incrBy(serializer.serialize(key), delta));
+            return null;
+        });
+    }
+
+    /**
+     * 세션 부스트 증분으로 바꾸고, 트래킹 카운터 증분은 counters 에 합침
+     */
+    private List<BoostOp> mapToOps(EventPayload payload, Map<String, Long> counters) {
         List<BoostOp> ops = new ArrayList<>();
         String eventType = payload.eventType();
         if (eventType == null) {
@@ -155,14 +204,14 @@ public class SessionBoostEventConsumer {
                 Long reviewId = asLong(payload.metadata(), "reviewId");
                 if (reviewId != null) {
                     ops.add(boostReviews(payload.userId(), reviewId, 0.12));
-                    reviewTrackingCounterAdapter.incrementClick(reviewId);
+                    counters.merge(ReviewTrackingCounterAdapter.clickKey(reviewId), 1L, Long::sum);
                 }
             }
             case "REVIEW_SCROLLED", "REVIEW_REACHED" -> {
                 Long reviewId = asLong(payload.metadata(), "reviewId");
                 if (reviewId != null) {
                     ops.add(boostReviews(payload.userId(), reviewId, 0.08));
-                    reviewTrackingCounterAdapter.incrementReach(reviewId);
+                    counters.merge(ReviewTrackingCounterAdapter.reachKey(reviewId), 1L, Long::sum);
                 }
             }
             case "REVIEW_DWELL" -> {
@@ -171,7 +220,8 @@ public class SessionBoostEventConsumer {
                     ops.add(boostReviews(payload.userId(), reviewId, 0.1));
                     Long dwellMs = asLong(payload.metadata(), "dwellMs");
                     if (dwellMs != null) {
-                        reviewTrackingCounterAdapter.addDwell(reviewId, dwellMs);
+                        counters.merge(ReviewTrackingCounterAdapter.dwellSumKey(reviewId), dwellMs, Long::sum);
+                        counters.merge(ReviewTrackingCounterAdapter.dwellCountKey(reviewId), 1L, Long::sum);
                     }
                 }
             }
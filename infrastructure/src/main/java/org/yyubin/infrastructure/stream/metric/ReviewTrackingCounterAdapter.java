@@ -6,6 +6,7 @@ import org.springframework.stereotype.Component;
 
 /**
  * 트래킹 이벤트를 간단히 Redis에 누적
+ * - 키 이름은 배치로 합쳐 파이프라인에 넣는 쪽(SessionBoostEventConsumer)과 공유
  */
 @Component
 @RequiredArgsConstructor
@@ -18,16 +19,32 @@ public class ReviewTrackingCounterAdapter {
     }
 
     public void incrementReach(Long reviewId) {
-        incr("metric:review:reach:" + reviewId);
+        incr(reachKey(reviewId));
     }
 
     public void incrementClick(Long reviewId) {
-        incr("metric:review:click:" + reviewId);
+        incr(clickKey(reviewId));
     }
 
     public void addDwell(Long reviewId, long dwellMs) {
-        incrBy("metric:review:dwell:sum:" + reviewId, dwellMs);
-        incr("metric:review:dwell:count:" + reviewId);
+        incrBy(dwellSumKey(reviewId), dwellMs);
+        incr(dwellCountKey(reviewId));
+    }
+
+    public static String reachKey(Long reviewId) {
+        return "metric:review:reach:" + reviewId;
+    }
+
+    public static String clickKey(Long reviewId) {
+        return "metric:review:click:" + reviewId;
+    }
+
+    public static String dwellSumKey(Long reviewId) {
+        return "metric:review:dwell:sum:" + reviewId;
+    }
+
+    public static String dwellCountKey(Long reviewId) {
+        return "metric:review:dwell:count:" + reviewId;
     }
 
     private void incr(String key) {
@@ -1,21 +1,80 @@
 package org.yyubin.infrastructure.stream.metric;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.Set;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
 import org.springframework.stereotype.Component;
 import org.yyubin.application.review.port.ReviewViewFlushPort;
 import org.yyubin.application.review.port.ReviewViewMetricPort;
 import org.yyubin.infrastructure.config.MetricProperties;
 
+/**
+ * 리뷰 조회수 Redis 카운터
+ * - 조회 1건 = 스크립트 1회 (카운터가 없을 때만 DB 기준값을 읽어 한 번 더 호출)
+ * - 중복 방지는 리뷰별 HyperLogLog(PFADD)로 하고, PFADD 가 레지스터를 바꿨을 때만 카운터를 올림
+ *
+ * 올리는 양은 1 이 아니라 PFADD 전후 PFCOUNT 의 차이
+ * - 고유 사용자가 레지스터 수(16384)를 넘으면 새 사용자여도 레지스터가 바뀌지 않는 경우가 많아져서
+ *   "바뀌면 +1" 은 크게 모자라게 셈
+ * - 차이를 더하면 합이 HLL 추정값과 같아지므로 카운터 = 기준값 + 익명 조회 + 중복 방지 기간 내 고유 사용자 추정값
+ * - 바뀌지 않았으면 PFCOUNT 를 다시 계산하지 않음 (이전 값은 HLL 에 캐시되어 있음)
+ *
+ * HyperLogLog 오차
+ * - Redis HLL 의 표준 오차는 0.81% (키당 최대 12KB), 고유 사용자 수와 무관하게 키 크기가 고정
+ * - 고유 사용자 추정값은 정확한 값 대비 대부분(3σ) ±2.5% 안에 들어옴
+ * - 기존 Set 방식은 본 사용자 ID 를 모두 보관해서 인기 리뷰일수록 메모리가 커졌음
+ *
+ * 카운터는 화면 표시용 전체 값(DB 기준값 포함)이고, DB 에 더할 증분은 증분 키에 따로 쌓음
+ * (ReviewViewCounterFlusher 가 증분 키만 원자적으로 가져가 DB/ES 에 반영)
+ */
 @Component
 @RequiredArgsConstructor
 public class ReviewViewMetricAdapter implements ReviewViewMetricPort {
 
+    static final String COUNTER_PREFIX = "metric:review:view:";
+    static final String VIEWERS_PREFIX = "metric:review:viewhll:";
+    static final String DELTA_PREFIX = "metric:review:viewdelta:";
+
+    /**
+     * KEYS[1] 카운터, KEYS[2] 조회 사용자 HLL, KEYS[3] 플러시 전 증분 (TTL 없음, 플러시가 비움)
+     * ARGV[1] 사용자 ID (빈 문자열이면 익명, 중복 방지 없음), ARGV[2] 카운터 TTL (초), ARGV[3] HLL TTL (초),
+     * ARGV[4] 카운터가 없을 때 쓸 기준값 (빈 문자열이면 모름)
+     *
+     * @return 조회 이후 카운터 값, 카운터가 없고 기준값도 없으면 -1 (아무것도 바꾸지 않음)
+     */
+    static final DefaultRedisScript<Long> VIEW_SCRIPT = new DefaultRedisScript<>("""
+            local current = redis.call('GET', KEYS[1])
+            if not current then
+              if ARGV[4] == '' then
+                return -1
+              end
+              redis.call('SET', KEYS[1], ARGV[4], 'EX', ARGV[2], 'NX')
+              current = redis.call('GET', KEYS[1])
+            end
+            local delta = 1
+            if ARGV[1] ~= '' then
+              local before = redis.call('PFCOUNT', KEYS[2])
+              local changed = redis.call('PFADD', KEYS[2], ARGV[1])
+              redis.call('EXPIRE', KEYS[2], ARGV[3])
+              if changed == 0 then
+                return tonumber(current)
+              end
+              delta = redis.call('PFCOUNT', KEYS[2]) - before
+            end
+            local value = redis.call('INCRBY', KEYS[1], delta)
+            redis.call('EXPIRE', KEYS[1], ARGV[2])
+            redis.call('INCRBY', KEYS[3], delta)
+            return value
+            """, Long.class);
+
+    private static final String UNKNOWN_BASE = "";
+    private static final String ANONYMOUS = "";
+
     private final RedisTemplate<String, String> redisTemplate;
     private final MetricProperties metricProperties;
     private final ReviewViewFlushPort reviewViewFlushPort;
@@ -26,21 +85,13 @@ public class ReviewViewMetricAdapter implements ReviewViewMetricPort {
             return 0L;
         }
 
-        // 사용자 중복 방지 (24h)
-        if (userId != null) {
-            String dedupKey = dedupKey(reviewId);
-            Long added = redisTemplate.opsForSet().add(dedupKey, userId.toString());
-            redisTemplate.expire(dedupKey, java.time.Duration.ofSeconds(metricProperties.getDedupTtlSeconds()));
-            if (added != null && added == 0) {
-                // 이미 본 사용자면 현재 카운터 반환
-                return getCountWithFallback(reviewId);
-            }
+        Long value = view(reviewId, userId, UNKNOWN_BASE);
+        if (value != null && value < 0) {
+            // 카운터가 없으면 DB 조회수를 기준값으로 넘겨 다시 실행 (다른 인스턴스가 먼저 만들었으면 그 값을 사용)
+            long base = reviewViewFlushPort.findCurrentViewCount(reviewId).orElse(0L);
+            value = view(reviewId, userId, Long.toString(base));
         }
-
-        ensureCounterInitialized(reviewId);
-        Long value = redisTemplate.opsForValue().increment(counterKey(reviewId));
-        redisTemplate.expire(counterKey(reviewId), java.time.Duration.ofSeconds(metricProperties.getCounterTtlSeconds()));
-        return value != null ? value : 0L;
+        return value != null && value > 0 ? value : 0L;
     }
 
     @Override
@@ -67,12 +118,17 @@ public class ReviewViewMetricAdapter implements ReviewViewMetricPort {
 
         Map<Long, Long> result = new HashMap<>();
 
-        // Fetch values one by one or use pipeline
-        for (Long reviewId : reviewIds) {
-            Object value = redisTemplate.opsForValue().get(counterKey(reviewId));
+        // MGET 한 번으로 조회 (값 순서는 키 순서와 같음)
+        List<String> keys = reviewIds.stream().map(this::counterKey).toList();
+        List<String> values = redisTemplate.opsForValue().multiGet(keys);
+        if (values == null) {
+            return result;
+        }
+        for (int i = 0; i < reviewIds.size() && i < values.size(); i++) {
+            String value = values.get(i);
             if (value != null) {
                 try {
-                    result.put(reviewId, Long.parseLong(value.toString()));
+                    result.put(reviewIds.get(i), Long.parseLong(value));
                 } catch (NumberFormatException ignored) {
                     // Skip invalid values
                 }
@@ -95,36 +151,41 @@ public class ReviewViewMetricAdapter implements ReviewViewMetricPort {
         }
 
         Map<Long, Long> result = new HashMap<>(getBatchCachedCounts(reviewIds));
-        Set<Long> cachedIds = result.keySet();
 
+        // 캐시 미스는 IN 쿼리 한 번으로 DB 폴백
+        List<Long> misses = new ArrayList<>();
         for (Long reviewId : reviewIds) {
-            if (cachedIds.contains(reviewId)) {
-                continue;
+            if (!result.containsKey(reviewId)) {
+                misses.add(reviewId);
             }
-            reviewViewFlushPort.findCurrentViewCount(reviewId)
-                .ifPresent(count -> result.put(reviewId, count));
+        }
+        if (!misses.isEmpty()) {
+            result.putAll(reviewViewFlushPort.findCurrentViewCounts(misses));
         }
 
         return result;
     }
 
+    private Long view(Long reviewId, Long userId, String base) {
+        return redisTemplate.execute(
+            VIEW_SCRIPT,
+            List.of(counterKey(reviewId), viewersKey(reviewId), deltaKey(reviewId)),
+            userId != null ? userId.toString() : ANONYMOUS,
+            Long.toString(metricProperties.getCounterTtlSeconds()),
+            Long.toString(metricProperties.getDedupTtlSeconds()),
+            base
+        );
+    }
+
     private String counterKey(Long reviewId) {
-        return "metric:review:view:" + reviewId;
+        return COUNTER_PREFIX + reviewId;
     }
 
-    private String dedupKey(Long reviewId) {
-        return "metric:review:viewdedup:" + reviewId;
+    private String viewersKey(Long reviewId) {
+        return VIEWERS_PREFIX + reviewId;
     }
 
-    private void ensureCounterInitialized(Long reviewId) {
-        if (getCachedCount(reviewId).isPresent()) {
-            return;
-        }
-        long base = reviewViewFlushPort.findCurrentViewCount(reviewId).orElse(0L);
-        redisTemplate.opsForValue().setIfAbsent(
-            counterKey(reviewId),
-            Long.toString(base),
-            java.time.Duration.ofSeconds(metricProperties.getCounterTtlSeconds())
-        );
+    private String deltaKey(Long reviewId) {
+        return DELTA_PREFIX + reviewId;
     }
 }
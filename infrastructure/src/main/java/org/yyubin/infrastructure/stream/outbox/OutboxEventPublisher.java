@@ -1,14 +1,12 @@
 package org.yyubin.infrastructure.stream.outbox;
 
 import lombok.RequiredArgsConstructor;
-import org.springframework.context.annotation.Primary;
 import org.springframework.stereotype.Component;
 import org.yyubin.application.event.EventPayload;
 import org.yyubin.application.event.EventPublisher;
 import org.yyubin.application.event.OutboxPort;
 
 @Component
-@Primary
 @RequiredArgsConstructor
 public class OutboxEventPublisher implements EventPublisher {
 
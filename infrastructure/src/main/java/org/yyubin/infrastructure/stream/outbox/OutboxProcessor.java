@@ -1,91 +1,290 @@
 package org.yyubin.infrastructure.stream.outbox;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
-import lombok.RequiredArgsConstructor;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
 import lombok.extern.slf4j.Slf4j;
-import org.redisson.api.RLock;
-import org.redisson.api.RedissonClient;
-import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
+import org.yyubin.application.event.EventPayload;
 import org.yyubin.application.event.OutboxEvent;
 import org.yyubin.application.event.OutboxPort;
+import org.yyubin.infrastructure.config.OutboxProcessorProperties;
 
 /**
  * Outbox 이벤트를 Kafka로 발행하는 프로세서
- * - 분산 락을 사용하여 여러 인스턴스에서 중복 처리 방지
+ * - 인스턴스마다 서로 겹치지 않는 배치를 선점(FOR UPDATE SKIP LOCKED + lease)해 동시에 처리
+ * - 배치 안의 전송은 비동기로 한꺼번에 내보내고, 결과는 SENT/FAILED/DEAD/해제 별로 한 번씩 일괄 기록
+ * - 같은 key 의 이벤트는 앞 이벤트 전송이 끝난 뒤 다음 이벤트를 보냄 (key 순서 보장)
+ *   앞 이벤트가 실패하면 뒤 이벤트는 보내지 않고 선점만 해제해 다음 배치에서 순서대로 다시 시도
+ * - sendTimeoutMs 안에 끝나지 않으면 아직 보내지 않은 이벤트만 해제하고, 보내는 중인 이벤트는
+ *   lease 가 끝나기 전까지 결과를 기다림 (보내는 중에 해제하면 다른 인스턴스가 같은 key 를 이어 보내
+ *   순서가 뒤바뀌거나 중복 전송됨). 그래도 끝나지 않은 이벤트는 해제하지 않고 lease 만료 후 재선점
  * - 재시도 횟수 제한으로 무한 재시도 방지
+ *
+ * 메트릭
+ * - outbox.processor.events (counter, outcome=sent|failed|dead|released)
+ * - outbox.processor.batch (timer) : 배치 하나의 선점~기록 시간
+ * - outbox.processor.lag (gauge, seconds) : 가장 오래된 PENDING 이벤트의 대기 시간
  */
 @Component
 @EnableScheduling
-@RequiredArgsConstructor
 @Slf4j
 public class OutboxProcessor {
 
-    private static final String LOCK_KEY = "outbox:processor:lock";
     private static final int MAX_RETRY_COUNT = 5;
 
+    /**
+     * lease 중 결과 기록에 남겨 두는 비율 (보내는 중인 이벤트는 lease 의 90% 까지만 기다림)
+     */
+    private static final double IN_FLIGHT_WAIT_RATIO = 0.9;
+
     private final OutboxPort outboxPort;
-    private final KafkaTemplate<String, org.yyubin.application.event.EventPayload> kafkaTemplate;
-    private final RedissonClient redissonClient;
+    private final KafkaTemplate<String, EventPayload> kafkaTemplate;
+    private final OutboxProcessorProperties properties;
+    private final String owner;
+
+    private final Counter sentCounter;
+    private final Counter failedCounter;
+    private final Counter deadCounter;
+    private final Counter releasedCounter;
+    private final Timer batchTimer;
+    private final AtomicLong lagMillis = new AtomicLong();
 
-    @Value("${outbox.processor.batch-size:100}")
-    private int batchSize;
+    public OutboxProcessor(
+            OutboxPort outboxPort,
+            KafkaTemplate<String, EventPayload> kafkaTemplate,
+            OutboxProcessorProperties properties,
+            ObjectProvider<MeterRegistry> meterRegistry
+    ) {
+        this.outboxPort = outboxPort;
+        this.kafkaTemplate = kafkaTemplate;
+        this.properties = properties;
+        if (properties.getSendTimeoutMs() >= properties.getLeaseMs()) {
+            throw new IllegalStateException("outbox.processor.send-timeout-ms (" + properties.getSendTimeoutMs()
+                    + ") must be shorter than outbox.processor.lease-ms (" + properties.getLeaseMs() + ")");
+        }
+        this.owner = System.getenv().getOrDefault("HOSTNAME", "outbox") + "-" + UUID.randomUUID().toString().substring(0, 8);
+
+        MeterRegistry registry = meterRegistry.getIfAvailable(SimpleMeterRegistry::new);
+        this.sentCounter = outcomeCounter(registry, "sent");
+        this.failedCounter = outcomeCounter(registry, "failed");
+        this.deadCounter = outcomeCounter(registry, "dead");
+        this.releasedCounter = outcomeCounter(registry, "released");
+        this.batchTimer = Timer.builder("outbox.processor.batch")
+                .description("Time to claim, send and record one outbox batch")
+                .register(registry);
+        Gauge.builder("outbox.processor.lag", lagMillis, value -> value.get() / 1000.0)
+                .description("Age of the oldest pending outbox event in seconds")
+                .baseUnit("seconds")
+                .register(registry);
+    }
 
     @Scheduled(fixedDelayString = "${outbox.processor.fixed-delay-ms:1000}", initialDelayString = "${outbox.processor.initial-delay-ms:1000}")
     public void process() {
-        RLock lock = redissonClient.getLock(LOCK_KEY);
-
-        try {
-            // 분산 락 획득 시도 (최대 100ms 대기, 락 유지 시간 10초)
-            boolean acquired = lock.tryLock(100, 10000, TimeUnit.MILLISECONDS);
-            if (!acquired) {
-                log.debug("Could not acquire outbox processor lock, skipping this round");
+        refreshLag();
+        for (int i = 0; i < properties.getMaxBatchesPerRun(); i++) {
+            long start = System.nanoTime();
+            int claimed = processBatch();
+            batchTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            if (claimed < properties.getBatchSize()) {
                 return;
             }
-
-            processEvents();
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            log.warn("Outbox processor interrupted", e);
-        } finally {
-            if (lock.isHeldByCurrentThread()) {
-                lock.unlock();
-            }
         }
     }
 
-    private void processEvents() {
-        List<OutboxEvent> events = outboxPort.findPending(batchSize);
+    /**
+     * 배치 하나를 선점해 전송하고 결과 기록
+     *
+     * @return 선점한 이벤트 수
+     */
+    int processBatch() {
+        long claimedAt = System.nanoTime();
+        List<OutboxEvent> events = outboxPort.claimPending(
+                owner,
+                properties.getBatchSize(),
+                Duration.ofMillis(properties.getLeaseMs())
+        );
         if (events.isEmpty()) {
-            return;
+            return 0;
         }
 
         log.debug("Processing {} outbox events", events.size());
 
+        List<Long> deadIds = new ArrayList<>();
+        Map<String, List<OutboxEvent>> eventsByKey = new LinkedHashMap<>();
         for (OutboxEvent event : events) {
             // 최대 재시도 횟수 체크
             if (event.retryCount() >= MAX_RETRY_COUNT) {
                 log.error("Outbox event id={} exceeded max retry count ({}), moving to DEAD",
                     event.id(), MAX_RETRY_COUNT);
-                outboxPort.markDead(event.id(), "Max retry count exceeded: " + MAX_RETRY_COUNT);
+                deadIds.add(event.id());
                 continue;
             }
+            eventsByKey.computeIfAbsent(event.key(), key -> new ArrayList<>()).add(event);
+        }
+
+        if (!deadIds.isEmpty()) {
+            outboxPort.markDeadAll(deadIds, "Max retry count exceeded: " + MAX_RETRY_COUNT);
+            deadCounter.increment(deadIds.size());
+        }
+
+        BatchResult result = sendAll(eventsByKey, claimedAt);
+        record(result);
+        return events.size();
+    }
+
+    /**
+     * key 별로 전송을 이어 붙이고(key 사이에는 병렬) 전체 완료를 sendTimeoutMs 까지 기다림
+     * - 시간이 넘으면 아직 시작하지 않은 전송은 해제 대상으로 확정해 더 이상 보내지 않고,
+     *   보내는 중인 전송은 lease 안에서 끝날 때까지 더 기다림
+     */
+    private BatchResult sendAll(Map<String, List<OutboxEvent>> eventsByKey, long claimedAt) {
+        Queue<Long> sentIds = new ConcurrentLinkedQueue<>();
+        Map<Long, String> failures = new ConcurrentHashMap<>();
+        // id -> true(전송 시작) / false(해제 확정, 보내지 않음)
+        Map<Long, Boolean> started = new ConcurrentHashMap<>();
+
+        List<CompletableFuture<Void>> chains = new ArrayList<>(eventsByKey.size());
+        for (List<OutboxEvent> keyEvents : eventsByKey.values()) {
+            CompletableFuture<Void> chain = CompletableFuture.completedFuture(null);
+            for (OutboxEvent event : keyEvents) {
+                chain = chain.thenCompose(ignored -> {
+                    if (started.putIfAbsent(event.id(), Boolean.TRUE) != null) {
+                        return CompletableFuture.completedFuture(null);
+                    }
+                    return send(event).whenComplete((sent, ex) -> {
+                        if (ex == null) {
+                            sentIds.add(event.id());
+                        } else {
+                            log.warn("Failed to publish outbox event id={} topic={} retryCount={} error={}",
+                                event.id(), event.topic(), event.retryCount(), ex.toString());
+                            failures.put(event.id(), errorMessage(ex));
+                        }
+                    });
+                });
+            }
+            chains.add(chain);
+        }
 
-            try {
-                // Kafka로 이벤트 발행
-                kafkaTemplate.send(event.topic(), event.key(), event.payload()).get();
-                outboxPort.markSent(event.id());
-                log.debug("Successfully published outbox event id={} topic={}", event.id(), event.topic());
-            } catch (Exception ex) {
-                log.warn("Failed to publish outbox event id={} topic={} retryCount={} error={}",
-                    event.id(), event.topic(), event.retryCount(), ex.toString());
-                outboxPort.markFailed(event.id(), ex.getMessage());
+        CompletableFuture<Void> all = CompletableFuture.allOf(chains.toArray(CompletableFuture[]::new));
+        if (!await(all, properties.getSendTimeoutMs())) {
+            log.warn("Outbox batch did not complete within {} ms, releasing events not yet sent", properties.getSendTimeoutMs());
+            List<Long> notStarted = releaseNotStarted(eventsByKey, started);
+            long leaseWaitMs = (long) (properties.getLeaseMs() * IN_FLIGHT_WAIT_RATIO)
+                    - TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - claimedAt);
+            if (!await(all, leaseWaitMs)) {
+                log.warn("Outbox sends still in flight after {} ms, keeping their lease until it expires",
+                        TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - claimedAt));
             }
+            return new BatchResult(List.copyOf(sentIds), Map.copyOf(failures), notStarted);
         }
+
+        // 앞 이벤트 실패로 시작하지 않은 뒤 이벤트
+        return new BatchResult(List.copyOf(sentIds), Map.copyOf(failures), releaseNotStarted(eventsByKey, started));
+    }
+
+    /**
+     * 아직 시작하지 않은 이벤트를 해제 대상으로 확정 (이후 체인이 이어져도 보내지 않음)
+     */
+    private static List<Long> releaseNotStarted(Map<String, List<OutboxEvent>> eventsByKey, Map<Long, Boolean> started) {
+        List<Long> notStarted = new ArrayList<>();
+        for (List<OutboxEvent> keyEvents : eventsByKey.values()) {
+            for (OutboxEvent event : keyEvents) {
+                if (started.putIfAbsent(event.id(), Boolean.FALSE) == null) {
+                    notStarted.add(event.id());
+                }
+            }
+        }
+        return notStarted;
+    }
+
+    private static boolean await(CompletableFuture<Void> future, long timeoutMs) {
+        if (timeoutMs <= 0) {
+            return future.isDone();
+        }
+        try {
+            future.get(timeoutMs, TimeUnit.MILLISECONDS);
+            return true;
+        } catch (ExecutionException e) {
+            // 개별 실패는 failures 에 기록됨
+            return true;
+        } catch (TimeoutException e) {
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Outbox processor interrupted");
+            return false;
+        }
+    }
+
+    private CompletableFuture<Void> send(OutboxEvent event) {
+        try {
+            return kafkaTemplate.send(event.topic(), event.key(), event.payload()).thenApply(result -> null);
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private void record(BatchResult result) {
+        outboxPort.markSentAll(result.sentIds());
+        sentCounter.increment(result.sentIds().size());
+
+        Map<String, List<Long>> failedIdsByError = new LinkedHashMap<>();
+        result.failures().forEach((id, error) ->
+                failedIdsByError.computeIfAbsent(error, e -> new ArrayList<>()).add(id));
+        failedIdsByError.forEach((error, ids) -> outboxPort.markFailedAll(ids, error));
+        failedCounter.increment(result.failures().size());
+
+        // 보내는 중인 이벤트는 해제하지 않음 (lease 만료 후 재선점)
+        if (!result.releasedIds().isEmpty()) {
+            outboxPort.release(result.releasedIds());
+            releasedCounter.increment(result.releasedIds().size());
+        }
+    }
+
+    private void refreshLag() {
+        try {
+            lagMillis.set(outboxPort.findOldestPendingOccurredAt()
+                    .map(oldest -> Math.max(0, Duration.between(oldest, Instant.now()).toMillis()))
+                    .orElse(0L));
+        } catch (Exception e) {
+            log.debug("Failed to measure outbox lag", e);
+        }
+    }
+
+    private static String errorMessage(Throwable ex) {
+        Throwable cause = ex.getCause() != null ? ex.getCause() : ex;
+        return cause.getMessage() != null ? cause.getMessage() : cause.getClass().getSimpleName();
+    }
+
+    private static Counter outcomeCounter(MeterRegistry registry, String outcome) {
+        return Counter.builder("outbox.processor.events")
+                .description("Outbox events processed by outcome")
+                .tag("outcome", outcome)
+                .register(registry);
+    }
+
+    private record BatchResult(List<Long> sentIds, Map<Long, String> failures, List<Long> releasedIds) {
     }
 }
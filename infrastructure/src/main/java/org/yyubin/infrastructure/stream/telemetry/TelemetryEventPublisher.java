@@ -0,0 +1,132 @@
+package org.yyubin.infrastructure.stream.telemetry;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.yyubin.application.event.EventPayload;
+import org.yyubin.application.event.EventPublisher;
+import org.yyubin.infrastructure.config.TelemetryDeliveryProperties;
+import org.yyubin.infrastructure.config.TelemetryDeliveryProperties.DropPolicy;
+
+/**
+ * BEST_EFFORT 이벤트 발행기
+ * - 요청 스레드는 링 버퍼에 넣고 바로 반환 (DB/Kafka 대기 없음)
+ * - 스케줄러가 주기적으로 버퍼를 비우며 Kafka 로 비동기 전송 (프로듀서가 배치로 묶어 보냄)
+ *   flush 한 번은 최대 maxBatchesPerFlush 배치까지만 처리 (공용 스케줄러 스레드의 다른 작업을 막지 않음)
+ * - 버퍼가 가득 차면 DropPolicy 에 따라 버리고, 전송 실패는 재시도하지 않음
+ *
+ * 메트릭
+ * - events.telemetry.buffer.size (gauge) : 버퍼에 쌓인 이벤트 수
+ * - events.telemetry.enqueued (counter) : 버퍼에 들어간 이벤트 (DROP_NEWEST 로 버린 이벤트 제외)
+ * - events.telemetry.dropped (counter, policy) : 버퍼가 가득 차 버린 이벤트
+ * - events.telemetry.sent / events.telemetry.send.failed (counter) : Kafka 전송 결과
+ */
+@Slf4j
+@Component
+public class TelemetryEventPublisher implements EventPublisher {
+
+    private final KafkaTemplate<String, EventPayload> kafkaTemplate;
+    private final TelemetryRingBuffer<TelemetryEvent> buffer;
+    private final int batchSize;
+    private final int maxBatchesPerFlush;
+    private final DropPolicy dropPolicy;
+    private final Counter enqueuedCounter;
+    private final Counter droppedCounter;
+    private final Counter sentCounter;
+    private final Counter failedCounter;
+
+    public TelemetryEventPublisher(
+            KafkaTemplate<String, EventPayload> kafkaTemplate,
+            TelemetryDeliveryProperties properties,
+            ObjectProvider<MeterRegistry> meterRegistry
+    ) {
+        this.kafkaTemplate = kafkaTemplate;
+        this.buffer = new TelemetryRingBuffer<>(properties.getBufferCapacity(), properties.getDropPolicy());
+        this.batchSize = Math.max(1, properties.getBatchSize());
+        this.maxBatchesPerFlush = Math.max(1, properties.getMaxBatchesPerFlush());
+        this.dropPolicy = properties.getDropPolicy();
+
+        MeterRegistry registry = meterRegistry.getIfAvailable(SimpleMeterRegistry::new);
+        Gauge.builder("events.telemetry.buffer.size", buffer, TelemetryRingBuffer::size)
+                .description("Best-effort events waiting to be sent")
+                .register(registry);
+        this.enqueuedCounter = Counter.builder("events.telemetry.enqueued")
+                .description("Best-effort events accepted into the buffer")
+                .register(registry);
+        this.droppedCounter = Counter.builder("events.telemetry.dropped")
+                .description("Best-effort events dropped because the buffer was full")
+                .tag("policy", properties.getDropPolicy().name())
+                .register(registry);
+        this.sentCounter = Counter.builder("events.telemetry.sent")
+                .description("Best-effort events acknowledged by Kafka")
+                .register(registry);
+        this.failedCounter = Counter.builder("events.telemetry.send.failed")
+                .description("Best-effort events Kafka failed to accept")
+                .register(registry);
+    }
+
+    @Override
+    public void publish(String topic, String key, EventPayload payload) {
+        int dropped = buffer.offer(new TelemetryEvent(topic, key, payload));
+        if (dropped > 0) {
+            droppedCounter.increment(dropped);
+        }
+        // DROP_NEWEST 로 버려졌으면 새 이벤트는 들어가지 않음
+        if (dropped == 0 || dropPolicy == DropPolicy.DROP_OLDEST) {
+            enqueuedCounter.increment();
+        }
+    }
+
+    /**
+     * 버퍼에 쌓인 이벤트 전송 (한 번에 최대 batchSize 개씩, 최대 maxBatchesPerFlush 배치)
+     */
+    @Scheduled(fixedDelayString = "${events.telemetry.flush-interval-ms:100}")
+    public void flush() {
+        drain(maxBatchesPerFlush);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        drain(Integer.MAX_VALUE);
+        kafkaTemplate.flush();
+    }
+
+    private void drain(int maxBatches) {
+        List<TelemetryEvent> batch = new ArrayList<>(Math.min(batchSize, buffer.capacity()));
+        for (int i = 0; i < maxBatches && buffer.drainTo(batch, batchSize) > 0; i++) {
+            for (TelemetryEvent event : batch) {
+                send(event);
+            }
+            batch.clear();
+        }
+    }
+
+    private void send(TelemetryEvent event) {
+        try {
+            kafkaTemplate.send(event.topic(), event.key(), event.payload())
+                    .whenComplete((result, ex) -> {
+                        if (ex != null) {
+                            failedCounter.increment();
+                            log.debug("Failed to send best-effort event {} to {}", event.payload().eventId(), event.topic(), ex);
+                        } else {
+                            sentCounter.increment();
+                        }
+                    });
+        } catch (Exception e) {
+            failedCounter.increment();
+            log.warn("Failed to hand off best-effort event to Kafka (topic={})", event.topic(), e);
+        }
+    }
+
+    private record TelemetryEvent(String topic, String key, EventPayload payload) {
+    }
+}
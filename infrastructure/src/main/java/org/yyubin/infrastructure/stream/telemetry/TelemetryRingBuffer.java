@@ -0,0 +1,69 @@
+package org.yyubin.infrastructure.stream.telemetry;
+
+import java.util.List;
+import org.yyubin.infrastructure.config.TelemetryDeliveryProperties.DropPolicy;
+
+/**
+ * 고정 용량 링 버퍼
+ * - 가득 차면 DropPolicy 에 따라 가장 오래된 항목을 덮어쓰거나 새 항목을 버림 (생산자를 막지 않음)
+ * - 생산자(요청 스레드)가 여럿이고 소비자(flush)는 하나라 단일 모니터로 보호
+ */
+final class TelemetryRingBuffer<T> {
+
+    private final Object[] slots;
+    private final DropPolicy dropPolicy;
+    private int head;
+    private int size;
+
+    TelemetryRingBuffer(int capacity, DropPolicy dropPolicy) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive");
+        }
+        this.slots = new Object[capacity];
+        this.dropPolicy = dropPolicy;
+    }
+
+    /**
+     * 항목 추가
+     *
+     * @return 버려진 항목 수 (0 또는 1)
+     */
+    synchronized int offer(T item) {
+        if (size < slots.length) {
+            slots[(head + size) % slots.length] = item;
+            size++;
+            return 0;
+        }
+        if (dropPolicy == DropPolicy.DROP_NEWEST) {
+            return 1;
+        }
+        slots[head] = item;
+        head = (head + 1) % slots.length;
+        return 1;
+    }
+
+    /**
+     * 오래된 순으로 최대 maxItems 개를 꺼냄
+     *
+     * @return 꺼낸 항목 수
+     */
+    @SuppressWarnings("unchecked")
+    synchronized int drainTo(List<T> target, int maxItems) {
+        int count = Math.min(size, maxItems);
+        for (int i = 0; i < count; i++) {
+            target.add((T) slots[head]);
+            slots[head] = null;
+            head = (head + 1) % slots.length;
+        }
+        size -= count;
+        return count;
+    }
+
+    synchronized int size() {
+        return size;
+    }
+
+    int capacity() {
+        return slots.length;
+    }
+}
@@ -0,0 +1,13 @@
+-- event_outbox 인스턴스별 선점(lease) 컬럼과 선점 조회 인덱스 (MySQL 8)
+-- ddl-auto: none 인 환경(prod/local)에서 OutboxProcessor 배포 전에 한 번 실행
+-- 파티션 모드로 전환하기 전에 실행 (전환 후에는 ALTER 가 모든 파티션을 다시 씀)
+
+ALTER TABLE event_outbox
+    ADD COLUMN claimed_by VARCHAR(100) NULL AFTER last_error,
+    ADD COLUMN lease_until TIMESTAMP(6) NULL AFTER claimed_by;
+
+-- 선점 조회: WHERE status = 'PENDING' ... ORDER BY id
+CREATE INDEX idx_outbox_status_id ON event_outbox (status, id);
+
+-- key 순서 확인: WHERE status = 'PENDING' AND event_key IN (...) GROUP BY event_key (MIN(id))
+CREATE INDEX idx_outbox_key_status_id ON event_outbox (event_key, status, id);
@@ -0,0 +1,18 @@
+-- 파티션 모드 보존 기간 정리 때 DEAD 이벤트를 옮겨 두는 테이블 (MySQL 8)
+-- ddl-auto: none 인 환경(prod/local)에서 outbox.partitioning.enabled 를 켜기 전에 한 번 실행
+-- 테이블이 없으면 정리는 DEAD 행이 있는 파티션을 DROP 하지 않고 남겨 둠
+
+CREATE TABLE IF NOT EXISTS event_outbox_dead (
+    id BIGINT NOT NULL,
+    topic VARCHAR(200) NOT NULL,
+    event_key VARCHAR(200) NOT NULL,
+    payload TEXT NOT NULL,
+    occurred_at TIMESTAMP(6) NOT NULL,
+    retry_count INT NOT NULL,
+    last_error VARCHAR(500),
+    created_at TIMESTAMP(6) NOT NULL,
+    updated_at TIMESTAMP(6) NOT NULL,
+    archived_at TIMESTAMP(6) NOT NULL,
+    PRIMARY KEY (id),
+    INDEX idx_outbox_dead_occurred (occurred_at)
+);
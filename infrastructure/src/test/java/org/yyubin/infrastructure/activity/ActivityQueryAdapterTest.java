@@ -4,22 +4,16 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.mockito.junit.jupiter.MockitoSettings;
-import org.mockito.quality.Strictness;
 import org.springframework.data.domain.PageRequest;
 import org.yyubin.domain.activity.ActivityItem;
 import org.yyubin.domain.activity.ActivityType;
-import org.yyubin.domain.review.ReviewVisibility;
-import org.yyubin.infrastructure.persistence.review.ReviewEntity;
-import org.yyubin.infrastructure.persistence.review.ReviewJpaRepository;
-import org.yyubin.infrastructure.persistence.review.bookmark.ReviewBookmarkEntity;
-import org.yyubin.infrastructure.persistence.review.bookmark.ReviewBookmarkJpaRepository;
-import org.yyubin.infrastructure.persistence.review.like.ReviewLikeEntity;
-import org.yyubin.infrastructure.persistence.review.like.ReviewLikeJpaRepository;
-import org.yyubin.infrastructure.persistence.user.UserEntity;
+import org.yyubin.domain.review.ReviewId;
+import org.yyubin.domain.user.UserId;
+import org.yyubin.infrastructure.config.ActivityTimelineProperties;
+import org.yyubin.infrastructure.persistence.activity.ActivityTimelineStore;
+import org.yyubin.infrastructure.persistence.user.FollowingIdsCache;
 import org.yyubin.infrastructure.persistence.user.UserFollowingEntity;
 import org.yyubin.infrastructure.persistence.user.UserFollowingJpaRepository;
 
@@ -28,29 +22,26 @@ import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
-@MockitoSettings(strictness = Strictness.LENIENT)
 @DisplayName("ActivityQueryAdapter 테스트")
 class ActivityQueryAdapterTest {
 
     @Mock
-    private ReviewJpaRepository reviewJpaRepository;
+    private ActivityTimelineStore activityTimelineStore;
 
     @Mock
-    private ReviewLikeJpaRepository reviewLikeJpaRepository;
-
-    @Mock
-    private ReviewBookmarkJpaRepository reviewBookmarkJpaRepository;
+    private FollowingIdsCache followingIdsCache;
 
     @Mock
     private UserFollowingJpaRepository userFollowingJpaRepository;
 
-    @InjectMocks
     private ActivityQueryAdapter adapter;
 
     private LocalDateTime now;
@@ -58,211 +49,191 @@ class ActivityQueryAdapterTest {
     @BeforeEach
     void setUp() {
         now = LocalDateTime.of(2024, 1, 15, 10, 0);
+        ActivityTimelineProperties properties = new ActivityTimelineProperties();
+        properties.setActorChunkSize(2);
+        adapter = new ActivityQueryAdapter(activityTimelineStore, followingIdsCache, userFollowingJpaRepository, properties);
     }
 
     @Test
-    @DisplayName("모든 타입의 활동을 조회하고 정렬한다")
-    void loadActivities_LoadsAllTypesAndSorts() {
+    @DisplayName("팔로우 대상 활동과 나를 팔로우한 활동을 최신순으로 병합한다")
+    void loadActivities_MergesSourcesNewestFirst() {
         // Given
-        List<Long> followingIds = List.of(2L, 3L);
-        Long userId = 1L;
-
-        ReviewEntity review = createReviewEntity(100L, 2L, now.minusHours(1));
-        when(reviewJpaRepository.findByUserIdInAndDeletedFalseAndVisibilityOrderByCreatedAtDesc(
-            eq(followingIds), eq(ReviewVisibility.PUBLIC), any(PageRequest.class)
-        )).thenReturn(List.of(review));
+        when(followingIdsCache.get(1L)).thenReturn(new long[]{2L, 3L});
+        when(activityTimelineStore.loadByActors(List.of(2L, 3L), null, null, 10)).thenReturn(List.of(
+                ActivityItem.reviewCreated(10L, new UserId(2L), ReviewId.of(100L), now.minusHours(1)),
+                ActivityItem.reviewLiked(9L, new UserId(3L), ReviewId.of(101L), now.minusHours(2)),
+                ActivityItem.reviewBookmarked(8L, new UserId(2L), ReviewId.of(102L), now.minusHours(3))
+        ));
+        when(userFollowingJpaRepository.findByFolloweeIdOrderByCreatedAtDescIdDesc(eq(1L), any(PageRequest.class)))
+                .thenReturn(List.of(createFollowEntity(400L, 4L, 1L, now)));
 
-        ReviewLikeEntity like = new ReviewLikeEntity(200L, 101L, 3L, now.minusHours(2));
-        when(reviewLikeJpaRepository.findByUserIdInOrderByCreatedAtDesc(eq(followingIds), any(PageRequest.class)))
-            .thenReturn(List.of(like));
+        // When
+        List<ActivityItem> result = adapter.loadActivities(1L, null, null, null, 10);
 
-        ReviewBookmarkEntity bookmark = createBookmarkEntity(300L, 2L, 102L, now.minusHours(3));
-        when(reviewBookmarkJpaRepository.findByUserIdInOrderByCreatedAtDesc(eq(followingIds), any(PageRequest.class)))
-            .thenReturn(List.of(bookmark));
+        // Then
+        assertThat(result).extracting(ActivityItem::getType).containsExactly(
+                ActivityType.USER_FOLLOWED,
+                ActivityType.REVIEW_CREATED,
+                ActivityType.REVIEW_LIKED,
+                ActivityType.REVIEW_BOOKMARKED
+        );
+    }
 
-        UserFollowingEntity follow = createFollowEntity(400L, 4L, userId, now);
-        when(userFollowingJpaRepository.findByFolloweeIdOrderByCreatedAtDesc(eq(userId), any(PageRequest.class)))
-            .thenReturn(List.of(follow));
+    @Test
+    @DisplayName("팔로우 대상은 묶음 단위로 조회하고 묶음 결과를 병합한 뒤 size 만큼 자른다")
+    void loadActivities_QueriesActorChunksAndTrims() {
+        // Given
+        when(followingIdsCache.get(1L)).thenReturn(new long[]{2L, 3L, 4L});
+        when(activityTimelineStore.loadByActors(List.of(2L, 3L), null, null, 3)).thenReturn(List.of(
+                ActivityItem.reviewCreated(5L, new UserId(2L), ReviewId.of(105L), now),
+                ActivityItem.reviewCreated(3L, new UserId(3L), ReviewId.of(103L), now.minusMinutes(2)),
+                ActivityItem.reviewCreated(1L, new UserId(2L), ReviewId.of(101L), now.minusMinutes(4))
+        ));
+        when(activityTimelineStore.loadByActors(List.of(4L), null, null, 3)).thenReturn(List.of(
+                ActivityItem.reviewCreated(4L, new UserId(4L), ReviewId.of(104L), now.minusMinutes(1)),
+                ActivityItem.reviewCreated(2L, new UserId(4L), ReviewId.of(102L), now.minusMinutes(3))
+        ));
+        when(userFollowingJpaRepository.findByFolloweeIdOrderByCreatedAtDescIdDesc(eq(1L), any(PageRequest.class)))
+                .thenReturn(List.of());
 
         // When
-        List<ActivityItem> result = adapter.loadActivities(followingIds, userId, null, 10);
+        List<ActivityItem> result = adapter.loadActivities(1L, null, null, null, 3);
 
         // Then
-        assertThat(result).hasSize(4);
-        // 최신순 정렬 확인 (follow가 가장 최근)
-        assertThat(result.get(0).getType()).isEqualTo(ActivityType.USER_FOLLOWED);
-        assertThat(result.get(1).getType()).isEqualTo(ActivityType.REVIEW_CREATED);
-        assertThat(result.get(2).getType()).isEqualTo(ActivityType.REVIEW_LIKED);
-        assertThat(result.get(3).getType()).isEqualTo(ActivityType.REVIEW_BOOKMARKED);
+        assertThat(result).extracting(ActivityItem::getId).containsExactly(5L, 4L, 3L);
     }
 
     @Test
-    @DisplayName("followingIds가 비어있으면 팔로우 활동만 조회한다")
-    void loadActivities_EmptyFollowingIds_OnlyLoadsFollowActivities() {
+    @DisplayName("같은 시각의 활동은 소스 순위, id 역순으로 정렬한다")
+    void loadActivities_TiebreakBySourceRankThenId() {
         // Given
-        Long userId = 1L;
-
-        UserFollowingEntity follow = createFollowEntity(400L, 4L, userId, now);
-        when(userFollowingJpaRepository.findByFolloweeIdOrderByCreatedAtDesc(eq(userId), any(PageRequest.class)))
-            .thenReturn(List.of(follow));
+        when(followingIdsCache.get(1L)).thenReturn(new long[]{2L, 3L});
+        when(activityTimelineStore.loadByActors(List.of(2L, 3L), null, null, 10)).thenReturn(List.of(
+                ActivityItem.reviewLiked(7L, new UserId(3L), ReviewId.of(101L), now),
+                ActivityItem.reviewCreated(5L, new UserId(2L), ReviewId.of(102L), now)
+        ));
+        when(userFollowingJpaRepository.findByFolloweeIdOrderByCreatedAtDescIdDesc(eq(1L), any(PageRequest.class)))
+                .thenReturn(List.of(createFollowEntity(9L, 4L, 1L, now)));
 
         // When
-        List<ActivityItem> result = adapter.loadActivities(List.of(), userId, null, 10);
+        List<ActivityItem> result = adapter.loadActivities(1L, null, null, null, 10);
 
         // Then
-        assertThat(result).hasSize(1);
-        assertThat(result.get(0).getType()).isEqualTo(ActivityType.USER_FOLLOWED);
-        verify(reviewJpaRepository, never()).findByUserIdInAndDeletedFalseAndVisibilityOrderByCreatedAtDesc(any(), any(), any());
+        assertThat(result).extracting(ActivityItem::getId).containsExactly(7L, 5L, 9L);
     }
 
     @Test
-    @DisplayName("followingIds가 null이면 팔로우 활동만 조회한다")
-    void loadActivities_NullFollowingIds_OnlyLoadsFollowActivities() {
+    @DisplayName("같은 시각·같은 id 의 다른 소스 활동이 커서 경계에 걸려도 빠지지 않는다")
+    void loadActivities_CursorOnActivitySource_KeepsSameTimeFollowActivity() {
         // Given
-        Long userId = 1L;
-
-        UserFollowingEntity follow = createFollowEntity(400L, 4L, userId, now);
-        when(userFollowingJpaRepository.findByFolloweeIdOrderByCreatedAtDesc(eq(userId), any(PageRequest.class)))
-            .thenReturn(List.of(follow));
+        when(followingIdsCache.get(1L)).thenReturn(new long[]{2L});
+        when(activityTimelineStore.loadByActors(List.of(2L), now, 7L, 10)).thenReturn(List.of());
+        when(userFollowingJpaRepository.findFollowedBefore(eq(1L), eq(now), eq(Long.MAX_VALUE), any(PageRequest.class)))
+                .thenReturn(List.of(createFollowEntity(7L, 4L, 1L, now)));
 
         // When
-        List<ActivityItem> result = adapter.loadActivities(null, userId, null, 10);
+        List<ActivityItem> result = adapter.loadActivities(1L, now, ActivityItem.ACTIVITY_SOURCE_RANK, 7L, 10);
 
         // Then
-        assertThat(result).hasSize(1);
+        assertThat(result).extracting(ActivityItem::getType).containsExactly(ActivityType.USER_FOLLOWED);
+        assertThat(result).extracting(ActivityItem::getId).containsExactly(7L);
     }
 
     @Test
-    @DisplayName("userId가 null이면 팔로우 활동을 조회하지 않는다")
-    void loadActivities_NullUserId_NoFollowActivities() {
+    @DisplayName("커서가 팔로우 소스이면 같은 시각의 activity 행은 이미 반환된 것으로 보고 제외한다")
+    void loadActivities_CursorOnFollowSource_SkipsSameTimeActivities() {
         // Given
-        List<Long> followingIds = List.of(2L, 3L);
-
-        when(reviewJpaRepository.findByUserIdInAndDeletedFalseAndVisibilityOrderByCreatedAtDesc(
-            eq(followingIds), eq(ReviewVisibility.PUBLIC), any(PageRequest.class)
-        )).thenReturn(List.of());
-        when(reviewLikeJpaRepository.findByUserIdInOrderByCreatedAtDesc(eq(followingIds), any(PageRequest.class)))
-            .thenReturn(List.of());
-        when(reviewBookmarkJpaRepository.findByUserIdInOrderByCreatedAtDesc(eq(followingIds), any(PageRequest.class)))
-            .thenReturn(List.of());
+        when(followingIdsCache.get(1L)).thenReturn(new long[]{2L});
+        when(activityTimelineStore.loadByActors(List.of(2L), now, null, 10)).thenReturn(List.of());
+        when(userFollowingJpaRepository.findFollowedBefore(eq(1L), eq(now), eq(9L), any(PageRequest.class)))
+                .thenReturn(List.of());
 
         // When
-        List<ActivityItem> result = adapter.loadActivities(followingIds, null, null, 10);
+        List<ActivityItem> result = adapter.loadActivities(1L, now, ActivityItem.FOLLOW_SOURCE_RANK, 9L, 10);
 
         // Then
         assertThat(result).isEmpty();
-        verify(userFollowingJpaRepository, never()).findByFolloweeIdOrderByCreatedAtDesc(any(), any());
     }
 
     @Test
-    @DisplayName("cursor가 있으면 커서 기반 쿼리를 사용한다")
-    void loadActivities_WithCursor_UsesCursorQuery() {
+    @DisplayName("팔로우 대상이 없으면 팔로우 활동만 조회한다")
+    void loadActivities_NoFollowing_OnlyLoadsFollowActivities() {
         // Given
-        List<Long> followingIds = List.of(2L);
-        Long userId = 1L;
-        LocalDateTime cursor = now.minusHours(1);
+        when(followingIdsCache.get(1L)).thenReturn(new long[0]);
+        when(userFollowingJpaRepository.findByFolloweeIdOrderByCreatedAtDescIdDesc(eq(1L), any(PageRequest.class)))
+                .thenReturn(List.of(createFollowEntity(400L, 4L, 1L, now)));
+
+        // When
+        List<ActivityItem> result = adapter.loadActivities(1L, null, null, null, 10);
 
-        when(reviewJpaRepository.findByUserIdInAndDeletedFalseAndVisibilityAndCreatedAtBeforeOrderByCreatedAtDesc(
-            eq(followingIds), eq(ReviewVisibility.PUBLIC), eq(cursor), any(PageRequest.class)
-        )).thenReturn(List.of());
-        when(reviewLikeJpaRepository.findByUserIdInAndCreatedAtBeforeOrderByCreatedAtDesc(
-            eq(followingIds), eq(cursor), any(PageRequest.class)
-        )).thenReturn(List.of());
-        when(reviewBookmarkJpaRepository.findByUserIdInAndCreatedAtBeforeOrderByCreatedAtDesc(
-            eq(followingIds), eq(cursor), any(PageRequest.class)
-        )).thenReturn(List.of());
-        when(userFollowingJpaRepository.findByFolloweeIdAndCreatedAtBeforeOrderByCreatedAtDesc(
-            eq(userId), eq(cursor), any(PageRequest.class)
-        )).thenReturn(List.of());
+        // Then
+        assertThat(result).hasSize(1);
+        assertThat(result.get(0).getType()).isEqualTo(ActivityType.USER_FOLLOWED);
+        verify(activityTimelineStore, never()).loadByActors(any(), any(), any(), anyInt());
+    }
 
+    @Test
+    @DisplayName("userId가 null이면 아무것도 조회하지 않는다")
+    void loadActivities_NullUserId_ReturnsEmpty() {
         // When
-        adapter.loadActivities(followingIds, userId, cursor, 10);
+        List<ActivityItem> result = adapter.loadActivities(null, null, null, null, 10);
 
         // Then
-        verify(reviewJpaRepository).findByUserIdInAndDeletedFalseAndVisibilityAndCreatedAtBeforeOrderByCreatedAtDesc(
-            eq(followingIds), eq(ReviewVisibility.PUBLIC), eq(cursor), any(PageRequest.class)
-        );
+        assertThat(result).isEmpty();
+        verifyNoInteractions(followingIdsCache, activityTimelineStore, userFollowingJpaRepository);
     }
 
     @Test
-    @DisplayName("결과가 size보다 크면 잘라서 반환한다")
-    void loadActivities_TrimResultsToSize() {
+    @DisplayName("cursor가 있으면 (createdAt, sourceRank, id) 커서로 모든 소스를 조회한다")
+    void loadActivities_WithCursor_UsesKeysetQueries() {
         // Given
-        List<Long> followingIds = List.of(2L);
-        Long userId = 1L;
-
-        // 5개의 리뷰 활동 생성
-        List<ReviewEntity> reviews = List.of(
-            createReviewEntity(1L, 2L, now),
-            createReviewEntity(2L, 2L, now.minusMinutes(1)),
-            createReviewEntity(3L, 2L, now.minusMinutes(2)),
-            createReviewEntity(4L, 2L, now.minusMinutes(3)),
-            createReviewEntity(5L, 2L, now.minusMinutes(4))
-        );
-        when(reviewJpaRepository.findByUserIdInAndDeletedFalseAndVisibilityOrderByCreatedAtDesc(
-            eq(followingIds), eq(ReviewVisibility.PUBLIC), any(PageRequest.class)
-        )).thenReturn(reviews);
-
-        when(reviewLikeJpaRepository.findByUserIdInOrderByCreatedAtDesc(eq(followingIds), any(PageRequest.class)))
-            .thenReturn(List.of());
-        when(reviewBookmarkJpaRepository.findByUserIdInOrderByCreatedAtDesc(eq(followingIds), any(PageRequest.class)))
-            .thenReturn(List.of());
-        when(userFollowingJpaRepository.findByFolloweeIdOrderByCreatedAtDesc(eq(userId), any(PageRequest.class)))
-            .thenReturn(List.of());
+        LocalDateTime cursor = now.minusHours(1);
+        when(followingIdsCache.get(1L)).thenReturn(new long[]{2L});
+        when(activityTimelineStore.loadByActors(List.of(2L), cursor, 50L, 10)).thenReturn(List.of());
+        when(userFollowingJpaRepository.findFollowedBefore(eq(1L), eq(cursor), eq(Long.MAX_VALUE), any(PageRequest.class)))
+                .thenReturn(List.of());
 
         // When
-        List<ActivityItem> result = adapter.loadActivities(followingIds, userId, null, 3);
+        List<ActivityItem> result = adapter.loadActivities(1L, cursor, ActivityItem.ACTIVITY_SOURCE_RANK, 50L, 10);
 
         // Then
-        assertThat(result).hasSize(3);
+        assertThat(result).isEmpty();
+        verify(userFollowingJpaRepository, never()).findByFolloweeIdOrderByCreatedAtDescIdDesc(any(), any());
     }
 
     @Test
-    @DisplayName("리뷰 활동을 올바르게 변환한다")
-    void loadActivities_ReviewActivity_ConvertedCorrectly() {
+    @DisplayName("id 없는 이전 커서는 cursor 이전 활동만 조회한다")
+    void loadActivities_LegacyCursorWithoutId() {
         // Given
-        List<Long> followingIds = List.of(2L);
-        ReviewEntity review = createReviewEntity(100L, 2L, now);
-        when(reviewJpaRepository.findByUserIdInAndDeletedFalseAndVisibilityOrderByCreatedAtDesc(
-            eq(followingIds), eq(ReviewVisibility.PUBLIC), any(PageRequest.class)
-        )).thenReturn(List.of(review));
-
-        when(reviewLikeJpaRepository.findByUserIdInOrderByCreatedAtDesc(any(), any())).thenReturn(List.of());
-        when(reviewBookmarkJpaRepository.findByUserIdInOrderByCreatedAtDesc(any(), any())).thenReturn(List.of());
-        when(userFollowingJpaRepository.findByFolloweeIdOrderByCreatedAtDesc(any(), any())).thenReturn(List.of());
+        LocalDateTime cursor = now.minusHours(1);
+        when(followingIdsCache.get(1L)).thenReturn(new long[0]);
+        when(userFollowingJpaRepository.findFollowedBefore(eq(1L), eq(cursor), eq(0L), any(PageRequest.class)))
+                .thenReturn(List.of());
 
         // When
-        List<ActivityItem> result = adapter.loadActivities(followingIds, null, null, 10);
+        List<ActivityItem> result = adapter.loadActivities(1L, cursor, null, null, 10);
 
         // Then
-        assertThat(result).hasSize(1);
-        ActivityItem activity = result.get(0);
-        assertThat(activity.getId()).isEqualTo(100L);
-        assertThat(activity.getType()).isEqualTo(ActivityType.REVIEW_CREATED);
-        assertThat(activity.getActorId().value()).isEqualTo(2L);
-        assertThat(activity.getReviewId().getValue()).isEqualTo(100L);
+        assertThat(result).isEmpty();
     }
 
-    private ReviewEntity createReviewEntity(Long id, Long userId, LocalDateTime createdAt) {
-        return ReviewEntity.builder()
-            .id(id)
-            .userId(userId)
-            .bookId(1L)
-            .rating(4)
-            .visibility(ReviewVisibility.PUBLIC)
-            .createdAt(createdAt)
-            .build();
-    }
+    @Test
+    @DisplayName("팔로우 활동이 올바르게 변환된다")
+    void loadActivities_FollowActivity_ConvertedCorrectly() {
+        // Given
+        when(followingIdsCache.get(1L)).thenReturn(new long[0]);
+        when(userFollowingJpaRepository.findByFolloweeIdOrderByCreatedAtDescIdDesc(eq(1L), any(PageRequest.class)))
+                .thenReturn(List.of(createFollowEntity(400L, 4L, 1L, now)));
 
-    private ReviewBookmarkEntity createBookmarkEntity(Long id, Long userId, Long reviewId, LocalDateTime createdAt) {
-        UserEntity user = UserEntity.builder().id(userId).build();
-        ReviewEntity review = ReviewEntity.builder().id(reviewId).build();
-        return ReviewBookmarkEntity.builder()
-            .id(id)
-            .user(user)
-            .review(review)
-            .createdAt(createdAt)
-            .build();
+        // When
+        List<ActivityItem> result = adapter.loadActivities(1L, null, null, null, 10);
+
+        // Then
+        ActivityItem activity = result.get(0);
+        assertThat(activity.getId()).isEqualTo(400L);
+        assertThat(activity.getActorId().value()).isEqualTo(4L);
+        assertThat(activity.getTargetUserId().value()).isEqualTo(1L);
+        assertThat(activity.getCreatedAt()).isEqualTo(now);
     }
 
     private UserFollowingEntity createFollowEntity(Long id, Long followerId, Long followeeId, LocalDateTime createdAt) {
@@ -1,6 +1,7 @@
 package org.yyubin.infrastructure.feed;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -82,6 +83,34 @@ class DualFeedItemWriterTest {
         verify(redisWriter).save(savedItem);
     }
 
+    @Test
+    @DisplayName("일괄 저장은 DB 배치 저장 후 Redis 에 반영한다")
+    void saveAll_WritesDbThenRedis() {
+        // Given
+        List<FeedItem> feedItems = List.of(createFeedItem(null), createFeedItem(null));
+
+        // When
+        dualFeedItemWriter.saveAll(feedItems);
+
+        // Then
+        verify(dbWriter).saveAll(feedItems);
+        verify(redisWriter).saveAll(feedItems);
+    }
+
+    @Test
+    @DisplayName("일괄 저장 중 Redis 반영이 실패해도 예외를 던지지 않는다")
+    void saveAll_RedisFailure_IsSwallowed() {
+        // Given
+        List<FeedItem> feedItems = List.of(createFeedItem(null));
+        doThrow(new RuntimeException("Redis connection failed")).when(redisWriter).saveAll(feedItems);
+
+        // When
+        dualFeedItemWriter.saveAll(feedItems);
+
+        // Then
+        verify(dbWriter).saveAll(feedItems);
+    }
+
     private FeedItem createFeedItem(Long id) {
         return FeedItem.of(
             id,
@@ -3,15 +3,20 @@ package org.yyubin.infrastructure.feed;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.yyubin.application.user.port.FollowQueryPort;
 import org.yyubin.domain.feed.FeedItem;
 import org.yyubin.domain.review.ReviewId;
 import org.yyubin.domain.user.UserId;
+import org.yyubin.infrastructure.config.HomeFeedProperties;
 import org.yyubin.infrastructure.persistence.feed.FeedItemPersistenceAdapter;
 import org.yyubin.infrastructure.stream.feed.RedisFeedItemAdapter;
 import org.yyubin.recommendation.service.ReviewRecommendationResult;
@@ -20,9 +25,9 @@ import org.yyubin.recommendation.service.ReviewRecommendationService;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.never;
-import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -36,167 +41,166 @@ class FallbackFeedServiceTest {
     @Mock
     private FeedItemPersistenceAdapter dbAdapter;
 
+    @Mock
+    private FollowQueryPort followQueryPort;
+
     @Mock
     private ReviewRecommendationService reviewRecommendationService;
 
-    @InjectMocks
     private FallbackFeedService fallbackFeedService;
 
+    private final UserId userId = new UserId(1L);
+
+    @BeforeEach
+    void setUp() {
+        HomeFeedProperties properties = new HomeFeedProperties();
+        properties.setMaxItems(800);
+        fallbackFeedService = new FallbackFeedService(
+                redisAdapter, dbAdapter, followQueryPort, reviewRecommendationService, properties);
+    }
+
     @Test
-    @DisplayName("Redis에 데이터가 있으면 Redis에서 반환한다")
+    @DisplayName("Redis 피드가 있으면 Redis에서 반환한다")
     void loadFeed_RedisHasData_ReturnsFromRedis() {
         // Given
-        UserId userId = new UserId(1L);
-        List<FeedItem> redisItems = List.of(
-            createFeedItem(1L, 100L),
-            createFeedItem(2L, 101L)
-        );
-        when(redisAdapter.loadFeed(userId, null, 10)).thenReturn(redisItems);
+        List<FeedItem> redisItems = List.of(createFeedItem(100L), createFeedItem(101L));
+        when(redisAdapter.loadFeed(userId, null, 10)).thenReturn(Optional.of(redisItems));
 
         // When
         List<FeedItem> result = fallbackFeedService.loadFeed(userId, null, 10);
 
         // Then
         assertThat(result).hasSize(2);
-        verify(redisAdapter).loadFeed(userId, null, 10);
-        verify(reviewRecommendationService, never()).recommendFeed(any(), anyInt(), eq(false));
         verify(dbAdapter, never()).loadFeed(any(), any(), anyInt());
+        verify(reviewRecommendationService, never()).recommendFeed(anyLong(), anyInt(), eq(false));
     }
 
     @Test
-    @DisplayName("Redis가 비어있으면 추천으로 워밍업한다")
-    void loadFeed_RedisEmpty_WarmsUpFromRecommendations() {
+    @DisplayName("캐시가 없으면 feed_item 과 팔로우 목록으로 다시 채운 뒤 조회한다")
+    void loadFeed_Cold_RebuildsFromDb() {
         // Given
-        UserId userId = new UserId(1L);
-        when(redisAdapter.loadFeed(userId, null, 10)).thenReturn(List.of());
-
-        List<ReviewRecommendationResult> recommendations = List.of(
-            createRecommendationResult(100L),
-            createRecommendationResult(101L)
-        );
-        when(reviewRecommendationService.recommendFeed(1L, 10, false)).thenReturn(recommendations);
+        List<FeedItem> recent = List.of(createFeedItem(100L));
+        when(redisAdapter.loadFeed(userId, null, 10))
+                .thenReturn(Optional.empty())
+                .thenReturn(Optional.of(recent));
+        when(dbAdapter.loadFeed(userId, null, 800)).thenReturn(recent);
+        when(followQueryPort.loadFollowingIdsAll(1L)).thenReturn(List.of(7L, 8L));
 
         // When
         List<FeedItem> result = fallbackFeedService.loadFeed(userId, null, 10);
 
         // Then
-        assertThat(result).hasSize(2);
-        verify(reviewRecommendationService).recommendFeed(1L, 10, false);
-        verify(redisAdapter, times(2)).save(any(FeedItem.class));
+        assertThat(result).isEqualTo(recent);
+        verify(redisAdapter).rebuild(userId, recent, List.of(7L, 8L));
     }
 
     @Test
-    @DisplayName("추천도 비어있으면 DB에서 조회한다")
-    void loadFeed_RecommendationsEmpty_FallsBackToDb() {
+    @DisplayName("팔로우 피드가 비어 있으면 추천으로 채우고 다음 페이지를 위해 보관한다")
+    void loadFeed_Empty_WarmsUpFromRecommendations() {
         // Given
-        UserId userId = new UserId(1L);
-        when(redisAdapter.loadFeed(userId, null, 10)).thenReturn(List.of());
-        when(reviewRecommendationService.recommendFeed(1L, 10, false)).thenReturn(List.of());
-
-        List<FeedItem> dbItems = List.of(createFeedItem(1L, 100L));
-        when(dbAdapter.loadFeed(userId, null, 10)).thenReturn(dbItems);
+        when(redisAdapter.loadFeed(userId, null, 10)).thenReturn(Optional.of(List.of()));
+        when(reviewRecommendationService.recommendFeed(1L, 10, false)).thenReturn(List.of(
+                createRecommendationResult(100L),
+                createRecommendationResult(101L)
+        ));
 
         // When
         List<FeedItem> result = fallbackFeedService.loadFeed(userId, null, 10);
 
         // Then
-        assertThat(result).hasSize(1);
-        verify(dbAdapter).loadFeed(userId, null, 10);
+        assertThat(result).hasSize(2);
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<FeedItem>> captor = ArgumentCaptor.forClass(List.class);
+        verify(redisAdapter).saveFallback(eq(userId), captor.capture());
+        assertThat(captor.getValue()).hasSize(2);
     }
 
     @Test
-    @DisplayName("결과가 size보다 크면 잘라서 반환한다")
-    void loadFeed_TrimResultsToSize() {
+    @DisplayName("추천 결과에 null reviewId가 있으면 제외한다")
+    void loadFeed_RecommendationWithNullReviewId_IsExcluded() {
         // Given
-        UserId userId = new UserId(1L);
-        List<FeedItem> manyItems = new ArrayList<>();
-        for (int i = 0; i < 20; i++) {
-            manyItems.add(createFeedItem((long) i, 100L + i));
-        }
-        when(redisAdapter.loadFeed(userId, null, 5)).thenReturn(manyItems);
+        when(redisAdapter.loadFeed(userId, null, 10)).thenReturn(Optional.of(List.of()));
+        ReviewRecommendationResult nullRec = ReviewRecommendationResult.builder()
+                .reviewId(null)
+                .createdAt(LocalDateTime.now())
+                .build();
+        when(reviewRecommendationService.recommendFeed(1L, 10, false))
+                .thenReturn(List.of(createRecommendationResult(100L), nullRec));
 
         // When
-        List<FeedItem> result = fallbackFeedService.loadFeed(userId, null, 5);
+        List<FeedItem> result = fallbackFeedService.loadFeed(userId, null, 10);
 
         // Then
-        assertThat(result).hasSize(5);
+        assertThat(result).hasSize(1);
     }
 
     @Test
-    @DisplayName("Redis가 null을 반환하면 추천으로 폴백한다")
-    void loadFeed_RedisReturnsNull_FallsBackToRecommendations() {
+    @DisplayName("다음 페이지에서 팔로우 피드가 비어 있으면 보관한 추천을 이어서 반환한다")
+    void loadFeed_NextPageOfFallback() {
         // Given
-        UserId userId = new UserId(1L);
-        when(redisAdapter.loadFeed(userId, null, 10)).thenReturn(null);
-
-        List<ReviewRecommendationResult> recommendations = List.of(
-            createRecommendationResult(100L)
-        );
-        when(reviewRecommendationService.recommendFeed(1L, 10, false)).thenReturn(recommendations);
+        Double cursor = 1_000.0;
+        List<FeedItem> fallback = List.of(createFeedItem(102L));
+        when(redisAdapter.loadFeed(userId, cursor, 10)).thenReturn(Optional.of(List.of()));
+        when(redisAdapter.loadFallback(userId, cursor, 10)).thenReturn(fallback);
 
         // When
-        List<FeedItem> result = fallbackFeedService.loadFeed(userId, null, 10);
+        List<FeedItem> result = fallbackFeedService.loadFeed(userId, cursor, 10);
 
         // Then
-        assertThat(result).hasSize(1);
-        verify(reviewRecommendationService).recommendFeed(1L, 10, false);
+        assertThat(result).isEqualTo(fallback);
+        verify(reviewRecommendationService, never()).recommendFeed(anyLong(), anyInt(), eq(false));
     }
 
     @Test
-    @DisplayName("추천 결과에 null reviewId가 있으면 제외한다")
-    void loadFeed_RecommendationWithNullReviewId_IsExcluded() {
+    @DisplayName("추천 결과가 size보다 많으면 잘라서 반환한다")
+    void loadFeed_TrimRecommendationsToSize() {
         // Given
-        UserId userId = new UserId(1L);
-        when(redisAdapter.loadFeed(userId, null, 10)).thenReturn(List.of());
-
-        ReviewRecommendationResult validRec = createRecommendationResult(100L);
-        ReviewRecommendationResult nullRec = ReviewRecommendationResult.builder()
-            .reviewId(null)
-            .createdAt(LocalDateTime.now())
-            .build();
-
-        when(reviewRecommendationService.recommendFeed(1L, 10, false))
-            .thenReturn(List.of(validRec, nullRec));
+        List<ReviewRecommendationResult> recs = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            recs.add(createRecommendationResult(100L + i));
+        }
+        when(redisAdapter.loadFeed(userId, null, 5)).thenReturn(Optional.of(List.of()));
+        when(reviewRecommendationService.recommendFeed(1L, 5, false)).thenReturn(recs);
 
         // When
-        List<FeedItem> result = fallbackFeedService.loadFeed(userId, null, 10);
+        List<FeedItem> result = fallbackFeedService.loadFeed(userId, null, 5);
 
         // Then
-        assertThat(result).hasSize(1);
+        assertThat(result).hasSize(5);
     }
 
     @Test
-    @DisplayName("cursorScore가 전달된다")
-    void loadFeed_CursorScore_IsPassedToRedis() {
+    @DisplayName("Redis 장애 시 DB에서 조회한다")
+    void loadFeed_RedisFailure_FallsBackToDb() {
         // Given
-        UserId userId = new UserId(1L);
-        Double cursorScore = 123.45;
-        when(redisAdapter.loadFeed(userId, cursorScore, 10)).thenReturn(List.of(createFeedItem(1L, 100L)));
+        List<FeedItem> dbItems = List.of(createFeedItem(100L));
+        when(redisAdapter.loadFeed(userId, null, 10)).thenThrow(new RedisConnectionFailureException("down"));
+        when(dbAdapter.loadFeed(userId, null, 10)).thenReturn(dbItems);
 
         // When
-        fallbackFeedService.loadFeed(userId, cursorScore, 10);
+        List<FeedItem> result = fallbackFeedService.loadFeed(userId, null, 10);
 
         // Then
-        verify(redisAdapter).loadFeed(userId, cursorScore, 10);
+        assertThat(result).isEqualTo(dbItems);
     }
 
-    private FeedItem createFeedItem(Long id, Long reviewId) {
+    private FeedItem createFeedItem(Long reviewId) {
         return FeedItem.of(
-            id,
-            new UserId(1L),
-            ReviewId.of(reviewId),
-            LocalDateTime.of(2024, 1, 1, 10, 0)
+                null,
+                userId,
+                ReviewId.of(reviewId),
+                LocalDateTime.of(2024, 1, 1, 10, 0)
         );
     }
 
     private ReviewRecommendationResult createRecommendationResult(Long reviewId) {
         return ReviewRecommendationResult.builder()
-            .reviewId(reviewId)
-            .bookId(200L)
-            .score(0.9)
-            .rank(1)
-            .source("TEST")
-            .createdAt(LocalDateTime.now())
-            .build();
+                .reviewId(reviewId)
+                .bookId(200L)
+                .score(0.9)
+                .rank(1)
+                .source("TEST")
+                .createdAt(LocalDateTime.now())
+                .build();
     }
 }
@@ -0,0 +1,210 @@
+package org.yyubin.infrastructure.persistence.outbox;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.mysql.MySQLContainer;
+import org.yyubin.infrastructure.config.OutboxPartitionProperties;
+
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("OutboxPartitionManager MySQL 테스트")
+class OutboxPartitionManagerMySqlTest {
+
+    @Container
+    static final MySQLContainer MYSQL = new MySQLContainer("mysql:8.0");
+
+    private static final LocalDate TODAY = LocalDate.now(ZoneOffset.UTC);
+    private static final LocalDate START = TODAY.minusDays(3);
+
+    private JdbcTemplate jdbcTemplate;
+    private OutboxPartitionManager manager;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                MYSQL.getJdbcUrl(), MYSQL.getUsername(), MYSQL.getPassword());
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("DROP TABLE IF EXISTS event_outbox");
+        jdbcTemplate.execute("DROP TABLE IF EXISTS event_outbox_dead");
+        jdbcTemplate.execute("""
+                CREATE TABLE event_outbox (
+                    id BIGINT NOT NULL AUTO_INCREMENT,
+                    topic VARCHAR(200) NOT NULL,
+                    event_key VARCHAR(200) NOT NULL,
+                    payload TEXT NOT NULL,
+                    occurred_at TIMESTAMP(6) NOT NULL,
+                    status VARCHAR(20) NOT NULL,
+                    retry_count INT NOT NULL,
+                    last_error VARCHAR(500),
+                    claimed_by VARCHAR(100),
+                    lease_until TIMESTAMP(6) NULL,
+                    created_at TIMESTAMP(6) NOT NULL,
+                    updated_at TIMESTAMP(6) NOT NULL,
+                    PRIMARY KEY (id),
+                    INDEX idx_outbox_status_occurred (status, occurred_at),
+                    INDEX idx_outbox_status_id (status, id),
+                    INDEX idx_outbox_key_status_id (event_key, status, id)
+                )
+                """);
+        new ResourceDatabasePopulator(new ClassPathResource("db/outbox/002_event_outbox_dead.sql")).execute(dataSource);
+
+        OutboxPartitionProperties properties = new OutboxPartitionProperties();
+        properties.setEnabled(true);
+        properties.setConvertOnStartup(true);
+        properties.setPrecreateDays(7);
+        manager = new OutboxPartitionManager(dataSource, properties);
+    }
+
+    @Test
+    @DisplayName("전환 후 일 파티션이 미리 만들어지고 ensurePartitions 는 부족한 날만 추가한다")
+    void convertAndEnsurePartitions() {
+        // When
+        manager.convert(START);
+        manager.ensurePartitions(TODAY);
+
+        // Then
+        assertThat(manager.isPartitioned()).isTrue();
+        List<String> names = partitionNames();
+        assertThat(names.get(0)).isEqualTo("p_history");
+        assertThat(names.get(names.size() - 1)).isEqualTo("p_future");
+        assertThat(names).contains(name(START), name(TODAY), name(TODAY.plusDays(7)));
+        assertThat(names).doesNotContain(name(TODAY.plusDays(8)));
+    }
+
+    @Test
+    @DisplayName("cutoff 이전 파티션은 DEAD 를 dead-letter 테이블로 옮긴 뒤 DROP 하고, PENDING 이 남은 파티션은 유지한다")
+    void dropPartitionsBefore() {
+        // Given
+        manager.convert(START);
+        insertBulk(START, "SENT", 5_000);
+        insertBulk(START, "DEAD", 2);
+        insertBulk(START.plusDays(1), "SENT", 5_000);
+        insertBulk(START.plusDays(1), "PENDING", 1);
+        insertBulk(TODAY, "SENT", 100);
+        Instant cutoff = START.plusDays(2).atStartOfDay(ZoneOffset.UTC).toInstant();
+        Long pendingOccurredAt = jdbcTemplate.queryForObject(
+                "SELECT UNIX_TIMESTAMP(occurred_at) FROM event_outbox WHERE status = 'PENDING'", Long.class);
+
+        // When
+        manager.dropPartitionsBefore(cutoff);
+
+        // Then
+        assertThat(partitionNames()).doesNotContain("p_history", name(START));
+        assertThat(partitionNames()).contains(name(START.plusDays(1)), name(START.plusDays(2)), name(TODAY));
+        assertThat(countByStatus("SENT")).isEqualTo(100);
+        assertThat(countByStatus("DEAD")).isZero();
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM event_outbox_dead", Long.class)).isEqualTo(2);
+        assertThat(countByStatus("PENDING")).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT UNIX_TIMESTAMP(occurred_at) FROM event_outbox WHERE status = 'PENDING'", Long.class))
+                .isEqualTo(pendingOccurredAt);
+    }
+
+    @Test
+    @DisplayName("dead-letter 테이블이 없으면 DEAD 가 남은 파티션은 DROP 하지 않는다")
+    void dropPartitionsBefore_WithoutDeadLetterTable_KeepsPartition() {
+        // Given
+        jdbcTemplate.execute("DROP TABLE event_outbox_dead");
+        manager.convert(START);
+        insertBulk(START, "SENT", 10);
+        insertBulk(START, "DEAD", 1);
+
+        // When
+        manager.dropPartitionsBefore(START.plusDays(1).atStartOfDay(ZoneOffset.UTC).toInstant());
+
+        // Then
+        assertThat(partitionNames()).contains(name(START));
+        assertThat(countByStatus("SENT")).isZero();
+        assertThat(countByStatus("DEAD")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("파티션 DROP 중에도 insert 지연이 평소 수준으로 유지된다")
+    void insertLatencyStaysFlatDuringCleanup() throws Exception {
+        // Given
+        manager.convert(START);
+        insertBulk(START, "SENT", 200_000);
+        insertBulk(START.plusDays(1), "SENT", 200_000);
+        long baselineP99 = p99(measureInserts(500, new AtomicBoolean(false)));
+
+        // When
+        AtomicBoolean cleaning = new AtomicBoolean(true);
+        CompletableFuture<List<Long>> duringCleanup = CompletableFuture.supplyAsync(
+                () -> measureInserts(50, cleaning));
+        manager.dropPartitionsBefore(TODAY.atStartOfDay(ZoneOffset.UTC).toInstant());
+        cleaning.set(false);
+        List<Long> latencies = duringCleanup.get();
+
+        // Then
+        assertThat(countByStatus("SENT")).isEqualTo(500L + latencies.size());
+        assertThat(p99(latencies)).isLessThan(Math.max(baselineP99 * 5, 50_000_000L));
+    }
+
+    /**
+     * 오늘 파티션에 한 건씩 insert 하며 지연(ns) 측정
+     * - 최소 minCount 건, running 이 true 인 동안은 계속
+     */
+    private List<Long> measureInserts(int minCount, AtomicBoolean running) {
+        List<Long> latencies = new ArrayList<>();
+        Timestamp now = Timestamp.from(Instant.now());
+        while (latencies.size() < minCount || running.get()) {
+            long start = System.nanoTime();
+            jdbcTemplate.update("""
+                    INSERT INTO event_outbox
+                        (topic, event_key, payload, occurred_at, status, retry_count, created_at, updated_at)
+                    VALUES ('topic', 'key', '{}', ?, 'SENT', 0, ?, ?)
+                    """, now, now, now);
+            latencies.add(System.nanoTime() - start);
+        }
+        return latencies;
+    }
+
+    private void insertBulk(LocalDate day, String status, int count) {
+        Timestamp occurredAt = Timestamp.from(day.atStartOfDay(ZoneOffset.UTC).plusHours(12).toInstant());
+        jdbcTemplate.execute("SET SESSION cte_max_recursion_depth = " + Math.max(1000, count + 1));
+        jdbcTemplate.update("""
+                INSERT INTO event_outbox
+                    (topic, event_key, payload, occurred_at, status, retry_count, created_at, updated_at)
+                WITH RECURSIVE seq (n) AS (SELECT 1 UNION ALL SELECT n + 1 FROM seq WHERE n < ?)
+                SELECT 'topic', CONCAT('key-', n), '{}', ?, ?, 0, ?, ?
+                FROM seq
+                """, count, occurredAt, status, occurredAt, occurredAt);
+    }
+
+    private long countByStatus(String status) {
+        Long count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM event_outbox WHERE status = ?", Long.class, status);
+        return count != null ? count : 0;
+    }
+
+    private List<String> partitionNames() {
+        return manager.listPartitions().stream()
+                .map(OutboxPartitionManager.PartitionInfo::name)
+                .toList();
+    }
+
+    private static long p99(List<Long> latencies) {
+        List<Long> sorted = latencies.stream().sorted().toList();
+        return sorted.get(Math.min(sorted.size() - 1, (int) (sorted.size() * 0.99)));
+    }
+
+    private static String name(LocalDate day) {
+        return "p" + day.toString().replace("-", "");
+    }
+}
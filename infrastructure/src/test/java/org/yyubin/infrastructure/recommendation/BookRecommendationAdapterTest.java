@@ -30,7 +30,7 @@ class BookRecommendationAdapterTest {
     void getRecommendations_MapsResultsCorrectly() {
         // Given
         Long userId = 1L;
-        Long cursor = null;
+        String cursor = null;
         int limit = 10;
         boolean forceRefresh = false;
         boolean enableSampling = true;
@@ -43,6 +43,7 @@ class BookRecommendationAdapterTest {
                 .rank(1)
                 .source("HYBRID")
                 .reason("Top pick for you")
+                .cursor("s:0.95:100")
                 .build(),
             RecommendationResult.builder()
                 .bookId(101L)
@@ -68,6 +69,7 @@ class BookRecommendationAdapterTest {
         assertThat(first.rank()).isEqualTo(1);
         assertThat(first.source()).isEqualTo("HYBRID");
         assertThat(first.reason()).isEqualTo("Top pick for you");
+        assertThat(first.cursor()).isEqualTo("s:0.95:100");
 
         RecommendationItem second = result.get(1);
         assertThat(second.bookId()).isEqualTo(101L);
@@ -97,7 +99,7 @@ class BookRecommendationAdapterTest {
     void getRecommendations_AllParametersPassed() {
         // Given
         Long userId = 5L;
-        Long cursor = 100L;
+        String cursor = "s:0.85:100";
         int limit = 20;
         boolean forceRefresh = true;
         boolean enableSampling = true;
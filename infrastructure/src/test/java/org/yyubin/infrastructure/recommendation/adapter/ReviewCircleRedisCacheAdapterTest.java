@@ -11,15 +11,22 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.ValueOperations;
 import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.yyubin.infrastructure.config.ReviewCircleCacheProperties;
 import org.yyubin.domain.recommendation.ReviewCircle;
 import org.yyubin.domain.recommendation.ReviewCircleTopic;
 import org.yyubin.domain.recommendation.SimilarUser;
 import org.yyubin.domain.recommendation.UserTasteVector;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -27,10 +34,13 @@ import java.util.Set;
 import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.AdditionalMatchers.aryEq;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -48,17 +58,31 @@ class ReviewCircleRedisCacheAdapterTest {
     @Mock
     private ZSetOperations<String, String> zSetOperations;
 
+    @Mock
+    private RedisConnection connection;
+
+    @Mock
+    private RedisStringCommands stringCommands;
+
     private ObjectMapper objectMapper;
+    private ReviewCircleCacheProperties properties;
     private ReviewCircleRedisCacheAdapter adapter;
 
     @BeforeEach
     void setUp() {
         objectMapper = new ObjectMapper();
         objectMapper.registerModule(new JavaTimeModule());
-        adapter = new ReviewCircleRedisCacheAdapter(redisTemplate, objectMapper);
+        properties = new ReviewCircleCacheProperties();
+        adapter = new ReviewCircleRedisCacheAdapter(redisTemplate, objectMapper, properties);
 
         when(redisTemplate.opsForValue()).thenReturn(valueOperations);
         when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+        when(redisTemplate.getStringSerializer()).thenReturn(RedisSerializer.string());
+        when(connection.stringCommands()).thenReturn(stringCommands);
+        when(redisTemplate.execute(any(RedisCallback.class))).thenAnswer(invocation -> {
+            RedisCallback<?> callback = invocation.getArgument(0);
+            return callback.doInRedis(connection);
+        });
     }
 
     @Test
@@ -95,7 +119,7 @@ class ReviewCircleRedisCacheAdapterTest {
                 "calculatedAt": "2024-01-01T10:00:00"
             }
             """;
-        when(valueOperations.get("review_circle:taste_vector:1")).thenReturn(json);
+        stubGet("review_circle:taste_vector:1", json.getBytes(StandardCharsets.UTF_8));
 
         // When
         Optional<UserTasteVector> result = adapter.getTasteVector(userId);
@@ -106,12 +130,33 @@ class ReviewCircleRedisCacheAdapterTest {
         assertThat(result.get().vector()).containsEntry("fantasy", 0.8);
     }
 
+    @Test
+    @DisplayName("JSON 인코딩 설정이어도 바이너리로 저장된 TasteVector를 조회한다")
+    void getTasteVector_JsonEncoding_ReadsBinaryValue() {
+        // Given
+        properties.setTasteVectorEncoding(ReviewCircleCacheProperties.TasteVectorEncoding.JSON);
+        byte[] binary = TasteVectorBinaryCodec.encode(new UserTasteVector(
+            1L,
+            Map.of("genre:FANTASY", 0.8),
+            LocalDateTime.of(2024, 1, 1, 10, 0)
+        ));
+        stubGet("review_circle:taste_vector:1", binary);
+
+        // When
+        Optional<UserTasteVector> result = adapter.getTasteVector(1L);
+
+        // Then
+        assertThat(result).isPresent();
+        assertThat(result.get().userId()).isEqualTo(1L);
+        assertThat(result.get().vector()).containsEntry("genre:FANTASY", 0.8);
+    }
+
     @Test
     @DisplayName("존재하지 않는 TasteVector 조회 시 빈 Optional 반환")
     void getTasteVector_NotFound_ReturnsEmpty() {
         // Given
         Long userId = 999L;
-        when(valueOperations.get("review_circle:taste_vector:999")).thenReturn(null);
+        stubGet("review_circle:taste_vector:999", null);
 
         // When
         Optional<UserTasteVector> result = adapter.getTasteVector(userId);
@@ -120,6 +165,63 @@ class ReviewCircleRedisCacheAdapterTest {
         assertThat(result).isEmpty();
     }
 
+    @Test
+    @DisplayName("여러 사용자의 TasteVector를 파이프라인 MGET으로 일괄 조회한다")
+    void getTasteVectors_PipelinedMget() {
+        // Given
+        properties.setMgetBatchSize(2);
+        byte[] json = """
+            {"userId": 1, "vector": {"genre:FANTASY": 0.8}, "calculatedAt": "2024-01-01T10:00:00"}
+            """.getBytes(StandardCharsets.UTF_8);
+        byte[] binary = TasteVectorBinaryCodec.encode(new UserTasteVector(
+            3L,
+            Map.of("keyword:magic", 0.6),
+            LocalDateTime.of(2024, 1, 1, 10, 0)
+        ));
+        when(redisTemplate.getStringSerializer()).thenReturn(RedisSerializer.string());
+        when(redisTemplate.executePipelined(any(RedisCallback.class), isNull()))
+            .thenReturn(List.of(Arrays.asList(json, null), Arrays.asList(binary)));
+
+        // When
+        List<UserTasteVector> result = adapter.getTasteVectors(List.of(1L, 2L, 3L));
+
+        // Then
+        assertThat(result).extracting(UserTasteVector::userId).containsExactly(1L, 3L);
+        assertThat(result.get(0).vector()).containsEntry("genre:FANTASY", 0.8);
+        assertThat(result.get(1).vector()).containsEntry("keyword:magic", 0.6);
+    }
+
+    @Test
+    @DisplayName("빈 ID 목록은 Redis를 호출하지 않는다")
+    void getTasteVectors_EmptyIds_ReturnsEmpty() {
+        // When
+        List<UserTasteVector> result = adapter.getTasteVectors(List.of());
+
+        // Then
+        assertThat(result).isEmpty();
+        verify(redisTemplate, never()).executePipelined(any(RedisCallback.class), any());
+    }
+
+    @Test
+    @DisplayName("바이너리 인코딩 설정 시 JSON 대신 바이너리로 저장한다")
+    void saveTasteVector_BinaryEncoding() {
+        // Given
+        properties.setTasteVectorEncoding(ReviewCircleCacheProperties.TasteVectorEncoding.BINARY);
+        when(redisTemplate.getStringSerializer()).thenReturn(RedisSerializer.string());
+        UserTasteVector tasteVector = new UserTasteVector(
+            1L,
+            Map.of("genre:FANTASY", 0.8),
+            LocalDateTime.of(2024, 1, 1, 10, 0)
+        );
+
+        // When
+        adapter.saveTasteVector(tasteVector);
+
+        // Then
+        verify(redisTemplate).execute(any(RedisCallback.class));
+        verify(valueOperations, never()).set(anyString(), anyString(), anyLong(), any(TimeUnit.class));
+    }
+
     @Test
     @DisplayName("SimilarUsers를 저장한다")
     void saveSimilarUsers_StoresInZSet() {
@@ -267,6 +369,10 @@ class ReviewCircleRedisCacheAdapterTest {
         verify(redisTemplate).delete("review_circle:topics:1:weekly");
     }
 
+    private void stubGet(String key, byte[] value) {
+        when(stringCommands.get(aryEq(key.getBytes(StandardCharsets.UTF_8)))).thenReturn(value);
+    }
+
     private ZSetOperations.TypedTuple<String> createTuple(String value, double score) {
         return new ZSetOperations.TypedTuple<>() {
             @Override
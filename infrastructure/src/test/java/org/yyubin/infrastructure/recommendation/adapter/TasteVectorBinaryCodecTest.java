@@ -0,0 +1,71 @@
+package org.yyubin.infrastructure.recommendation.adapter;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.yyubin.domain.recommendation.UserTasteVector;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("TasteVectorBinaryCodec 테스트")
+class TasteVectorBinaryCodecTest {
+
+    @Test
+    @DisplayName("인코딩 후 디코딩하면 원본과 동일하다")
+    void roundTrip() {
+        // Given
+        Map<String, Double> vector = new HashMap<>();
+        vector.put("genre:판타지", 0.7071067811865476);
+        vector.put("keyword:마법", 0.5);
+        vector.put("keyword:" + "a".repeat(300), 0.1);
+        vector.put("legacy", 0.25);
+        UserTasteVector original = new UserTasteVector(42L, vector, LocalDateTime.of(2024, 5, 1, 3, 0, 1, 123_456_789));
+
+        // When
+        byte[] encoded = TasteVectorBinaryCodec.encode(original);
+        UserTasteVector decoded = TasteVectorBinaryCodec.decode(encoded);
+
+        // Then
+        assertThat(TasteVectorBinaryCodec.isBinary(encoded)).isTrue();
+        assertThat(decoded).isEqualTo(original);
+    }
+
+    @Test
+    @DisplayName("빈 벡터도 인코딩할 수 있다")
+    void roundTrip_EmptyVector() {
+        UserTasteVector original = new UserTasteVector(1L, Map.of(), LocalDateTime.of(2024, 1, 1, 0, 0));
+
+        UserTasteVector decoded = TasteVectorBinaryCodec.decode(TasteVectorBinaryCodec.encode(original));
+
+        assertThat(decoded.vector()).isEmpty();
+        assertThat(decoded.calculatedAt()).isEqualTo(original.calculatedAt());
+    }
+
+    @Test
+    @DisplayName("JSON 값은 바이너리로 판별되지 않는다")
+    void isBinary_Json_ReturnsFalse() {
+        byte[] json = "{\"userId\":1}".getBytes(StandardCharsets.UTF_8);
+
+        assertThat(TasteVectorBinaryCodec.isBinary(json)).isFalse();
+        assertThatThrownBy(() -> TasteVectorBinaryCodec.decode(json))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("바이너리 인코딩이 JSON보다 작다")
+    void encode_SmallerThanJson() {
+        Map<String, Double> vector = new HashMap<>();
+        for (int i = 0; i < 20; i++) {
+            vector.put("keyword:keyword" + i, 0.123456789 * i);
+        }
+        UserTasteVector tasteVector = new UserTasteVector(1L, vector, LocalDateTime.of(2024, 1, 1, 0, 0));
+        int jsonSize = ("{\"userId\":1,\"vector\":" + vector + ",\"calculatedAt\":\"2024-01-01T00:00\"}").length();
+
+        assertThat(TasteVectorBinaryCodec.encode(tasteVector).length).isLessThan(jsonSize);
+    }
+}
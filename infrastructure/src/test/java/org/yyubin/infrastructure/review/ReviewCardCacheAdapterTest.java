@@ -0,0 +1,251 @@
+package org.yyubin.infrastructure.review;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.yyubin.application.review.dto.ReviewResult;
+import org.yyubin.domain.review.BookGenre;
+import org.yyubin.domain.review.ReviewVisibility;
+import org.yyubin.infrastructure.config.ReviewCardCacheProperties;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("ReviewCardCacheAdapter 테스트")
+class ReviewCardCacheAdapterTest {
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private ObjectMapper objectMapper;
+    private ReviewCardCacheProperties properties;
+    private ReviewCardCacheAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        objectMapper = new ObjectMapper();
+        objectMapper.registerModule(new JavaTimeModule());
+        properties = new ReviewCardCacheProperties();
+        adapter = new ReviewCardCacheAdapter(redisTemplate, objectMapper, properties);
+
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(redisTemplate.getStringSerializer()).thenReturn(RedisSerializer.string());
+    }
+
+    @Test
+    @DisplayName("저장한 카드는 로컬 캐시에서 바로 조회하고 Redis를 호출하지 않는다")
+    void putAll_ThenGetAll_ServedLocally() {
+        // Given
+        ReviewResult card = createCard(1L);
+
+        // When
+        adapter.putAll(List.of(card));
+        Map<Long, ReviewResult> result = adapter.getAll(List.of(1L));
+
+        // Then
+        assertThat(result).containsEntry(1L, card);
+        verify(redisTemplate).executePipelined(any(RedisCallback.class));
+        verify(valueOperations, never()).multiGet(anyList());
+    }
+
+    @Test
+    @DisplayName("로컬 미스는 Redis MGET 한 번으로 조회하고 요청별 필드는 기본값으로 복원한다")
+    void getAll_LocalMiss_ReadsRedis() throws Exception {
+        // Given
+        String json = objectMapper.writeValueAsString(Map.of(
+                "reviewId", 1, "userId", 7, "bookId", 3, "rating", 4, "content", "본문",
+                "createdAt", "2024-01-01T10:00:00", "visibility", "PUBLIC", "viewCount", 10, "genre", "ESSAY",
+                "keywords", List.of("성장")
+        ));
+        when(valueOperations.multiGet(List.of("review:card:1", "review:card:2"))).thenReturn(Arrays.asList(json, null));
+
+        // When
+        Map<Long, ReviewResult> result = adapter.getAll(List.of(1L, 2L));
+
+        // Then
+        assertThat(result).containsOnlyKeys(1L);
+        ReviewResult card = result.get(1L);
+        assertThat(card.content()).isEqualTo("본문");
+        assertThat(card.keywords()).containsExactly("성장");
+        assertThat(card.highlights()).isEmpty();
+        assertThat(card.bookmarked()).isFalse();
+        assertThat(card.reactions()).isEmpty();
+        assertThat(card.likeCount()).isZero();
+        assertThat(card.viewCount()).isEqualTo(10L);
+        assertThat(card.deleted()).isFalse();
+    }
+
+    @Test
+    @DisplayName("삭제 여부는 Redis 카드에도 저장하고 복원한다")
+    @SuppressWarnings("unchecked")
+    void putAll_PreservesDeletedFlag() throws Exception {
+        // Given
+        ReviewResult card = createCard(1L);
+        ReviewResult deleted = new ReviewResult(
+                card.reviewId(), card.userId(), card.authorNickname(), card.authorTasteTag(), card.bookId(), card.title(),
+                card.authors(), null, null, null, null, null, null, null, null, null,
+                card.rating(), null, card.content(), card.createdAt(), card.visibility(),
+                true, 0L, card.genre(), List.of(), List.of(), List.of(),
+                false, List.of(), null, false, 0L
+        );
+        ArgumentCaptor<RedisCallback<Object>> callback = ArgumentCaptor.forClass(RedisCallback.class);
+        RedisConnection connection = mock(RedisConnection.class);
+        RedisStringCommands stringCommands = mock(RedisStringCommands.class);
+        when(connection.stringCommands()).thenReturn(stringCommands);
+        adapter.putAll(List.of(deleted));
+        verify(redisTemplate).executePipelined(callback.capture());
+        callback.getValue().doInRedis(connection);
+        ArgumentCaptor<byte[]> value = ArgumentCaptor.forClass(byte[].class);
+        verify(stringCommands).setEx(any(byte[].class), anyLong(), value.capture());
+        String json = new String(value.getValue(), StandardCharsets.UTF_8);
+        adapter.evict(1L);
+        when(valueOperations.multiGet(List.of("review:card:1"))).thenReturn(Arrays.asList(json));
+
+        // When
+        Map<Long, ReviewResult> result = adapter.getAll(List.of(1L));
+
+        // Then
+        assertThat(result.get(1L).deleted()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Redis에서 읽은 카드는 로컬 캐시로 올린다")
+    void getAll_PromotesRedisHit() throws Exception {
+        // Given
+        String json = objectMapper.writeValueAsString(Map.of("reviewId", 1, "rating", 5, "visibility", "PUBLIC"));
+        when(valueOperations.multiGet(List.of("review:card:1"))).thenReturn(Arrays.asList(json));
+
+        // When
+        adapter.getAll(List.of(1L));
+        adapter.getAll(List.of(1L));
+
+        // Then
+        verify(valueOperations).multiGet(List.of("review:card:1"));
+    }
+
+    @Test
+    @DisplayName("Redis 장애는 캐시 미스로 처리한다")
+    void getAll_RedisFailure_TreatedAsMiss() {
+        // Given
+        when(valueOperations.multiGet(anyList())).thenThrow(new RuntimeException("redis down"));
+
+        // When
+        Map<Long, ReviewResult> result = adapter.getAll(List.of(1L));
+
+        // Then
+        assertThat(result).isEmpty();
+    }
+
+    @Test
+    @DisplayName("무효화하면 로컬 캐시와 Redis에서 모두 제거한다")
+    void evict_RemovesBothTiers() {
+        // Given
+        adapter.putAll(List.of(createCard(1L)));
+
+        // When
+        adapter.evict(1L);
+        adapter.getAll(List.of(1L));
+
+        // Then
+        verify(redisTemplate).delete("review:card:1");
+        verify(valueOperations).multiGet(List.of("review:card:1"));
+    }
+
+    @Test
+    @DisplayName("로컬 캐시는 최대 개수를 넘으면 가장 오래 사용하지 않은 카드를 버린다")
+    void localCache_EvictsLeastRecentlyUsed() {
+        // Given
+        ReviewCardCacheAdapter.LocalCache cache = new ReviewCardCacheAdapter.LocalCache(2, 60_000_000_000L);
+        cache.put(1L, createCard(1L));
+        cache.put(2L, createCard(2L));
+        cache.get(1L);
+
+        // When
+        cache.put(3L, createCard(3L));
+
+        // Then
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.get(2L)).isNull();
+        assertThat(cache.get(1L)).isNotNull();
+        assertThat(cache.get(3L)).isNotNull();
+    }
+
+    @Test
+    @DisplayName("로컬 캐시는 TTL이 지난 카드를 반환하지 않는다")
+    void localCache_ExpiresEntries() {
+        // Given
+        ReviewCardCacheAdapter.LocalCache cache = new ReviewCardCacheAdapter.LocalCache(2, 1L);
+        cache.put(1L, createCard(1L));
+
+        // When & Then
+        assertThat(cache.get(1L)).isNull();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("Redis 저장 시 요청별 필드는 빼고 TTL과 함께 파이프라인으로 저장한다")
+    @SuppressWarnings("unchecked")
+    void putAll_StoresViewerNeutralFields() throws Exception {
+        // Given
+        properties.setRedisTtlSeconds(120);
+        ReviewResult card = createCard(1L).withInteraction(0L, true, List.of(), "👍", true, 9L);
+        ArgumentCaptor<RedisCallback<Object>> callback = ArgumentCaptor.forClass(RedisCallback.class);
+        RedisConnection connection = mock(RedisConnection.class);
+        RedisStringCommands stringCommands = mock(RedisStringCommands.class);
+        when(connection.stringCommands()).thenReturn(stringCommands);
+
+        // When
+        adapter.putAll(List.of(card));
+
+        // Then
+        verify(redisTemplate).executePipelined(callback.capture());
+        callback.getValue().doInRedis(connection);
+
+        ArgumentCaptor<byte[]> value = ArgumentCaptor.forClass(byte[].class);
+        verify(stringCommands).setEx(eq("review:card:1".getBytes(StandardCharsets.UTF_8)), eq(120L), value.capture());
+        String json = new String(value.getValue(), StandardCharsets.UTF_8);
+        assertThat(json).contains("\"content\":\"Great book!\"");
+        assertThat(json).doesNotContain("likeCount", "userReaction", "bookmarked");
+    }
+
+    private ReviewResult createCard(Long reviewId) {
+        return new ReviewResult(
+                reviewId, 7L, "nickname", null, 3L, "Clean Code", List.of("Robert C. Martin"),
+                null, null, null, null, null, null, null, null, null,
+                5, null, "Great book!", LocalDateTime.of(2024, 1, 1, 10, 0), ReviewVisibility.PUBLIC,
+                false, 0L, BookGenre.ESSAY, List.of(), List.of(), List.of(),
+                false, List.of(), null, false, 0L
+        );
+    }
+}
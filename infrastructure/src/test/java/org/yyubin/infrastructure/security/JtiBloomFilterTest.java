@@ -0,0 +1,51 @@
+package org.yyubin.infrastructure.security;
+
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("JtiBloomFilter 테스트")
+class JtiBloomFilterTest {
+
+    @Test
+    @DisplayName("추가한 jti 는 항상 포함된다고 답한다")
+    void mightContain_NoFalseNegatives() {
+        // Given
+        JtiBloomFilter filter = new JtiBloomFilter(10_000, 0.01);
+        String[] jtis = new String[10_000];
+        for (int i = 0; i < jtis.length; i++) {
+            jtis[i] = UUID.randomUUID().toString();
+            filter.add(jtis[i]);
+        }
+
+        // When & Then
+        for (String jti : jtis) {
+            assertThat(filter.mightContain(jti)).isTrue();
+        }
+    }
+
+    @Test
+    @DisplayName("예상 개수만큼 넣어도 오탐률이 설정값 근처에 머문다")
+    void mightContain_FalsePositiveRateNearTarget() {
+        // Given
+        JtiBloomFilter filter = new JtiBloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.add(UUID.randomUUID().toString());
+        }
+
+        // When
+        int falsePositives = 0;
+        int probes = 100_000;
+        for (int i = 0; i < probes; i++) {
+            if (filter.mightContain(UUID.randomUUID().toString())) {
+                falsePositives++;
+            }
+        }
+
+        // Then
+        assertThat((double) falsePositives / probes).isLessThan(0.03);
+        assertThat(filter.hashCount()).isEqualTo(7);
+    }
+}
@@ -0,0 +1,105 @@
+package org.yyubin.infrastructure.security;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.Cookie;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.yyubin.application.auth.port.TokenBlacklistPort;
+import org.yyubin.support.jwt.JwtProperties;
+import org.yyubin.support.jwt.JwtProvider;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("JwtAuthenticationFilter 테스트")
+class JwtAuthenticationFilterTest {
+
+    private static final String SECRET = "test-secret-key-that-is-long-enough-for-hmac-sha256-algorithm-requirements";
+
+    @Mock
+    private TokenBlacklistPort tokenBlacklistPort;
+
+    private JwtProvider jwtProvider;
+    private JwtAuthenticationFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        JwtProperties properties = new JwtProperties();
+        properties.setSecret(SECRET);
+        properties.setAccessTokenExpiration(TimeUnit.MINUTES.toMillis(30));
+        properties.setRefreshTokenExpiration(TimeUnit.DAYS.toMillis(7));
+        jwtProvider = new JwtProvider(properties);
+        filter = new JwtAuthenticationFilter(jwtProvider, tokenBlacklistPort);
+        SecurityContextHolder.clearContext();
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("액세스 토큰이면 인증을 설정한다")
+    void doFilter_AccessToken_Authenticates() throws Exception {
+        // Given
+        String accessToken = jwtProvider.createAccessToken("12345", List.of(new SimpleGrantedAuthority("ROLE_USER")));
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("Authorization", "Bearer " + accessToken);
+        FilterChain chain = new MockFilterChain();
+
+        // When
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+        // Then
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        assertThat(authentication).isNotNull();
+        assertThat(authentication.getName()).isEqualTo("12345");
+    }
+
+    @Test
+    @DisplayName("Authorization 헤더의 리프레시 토큰으로는 인증되지 않는다")
+    void doFilter_RefreshTokenInHeader_NotAuthenticated() throws Exception {
+        // Given
+        String refreshToken = jwtProvider.createRefreshToken("12345");
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("Authorization", "Bearer " + refreshToken);
+        MockFilterChain chain = new MockFilterChain();
+
+        // When
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+        // Then
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+        assertThat(chain.getRequest()).isSameAs(request);
+    }
+
+    @Test
+    @DisplayName("accessToken 쿠키의 리프레시 토큰으로는 인증되지 않는다")
+    void doFilter_RefreshTokenInCookie_NotAuthenticated() throws Exception {
+        // Given
+        String refreshToken = jwtProvider.createRefreshToken("12345");
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setCookies(new Cookie("accessToken", refreshToken));
+        MockFilterChain chain = new MockFilterChain();
+
+        // When
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+        // Then
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+        assertThat(chain.getRequest()).isSameAs(request);
+    }
+}
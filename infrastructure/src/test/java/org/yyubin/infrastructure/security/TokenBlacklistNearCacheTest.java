@@ -0,0 +1,304 @@
+package org.yyubin.infrastructure.security;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.redisson.api.RBucket;
+import org.redisson.api.RKeys;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.api.listener.MessageListener;
+import org.redisson.client.codec.Codec;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.yyubin.infrastructure.config.TokenBlacklistNearCacheProperties;
+import org.yyubin.support.jwt.JwtProperties;
+import org.yyubin.support.jwt.JwtProvider;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("TokenBlacklistNearCache 테스트 (두 인스턴스 + 메모리 Redis)")
+class TokenBlacklistNearCacheTest {
+
+    private static final Duration PROPAGATION_BOUND = Duration.ofSeconds(1);
+
+    private InMemoryRedis redis;
+    private JwtProvider jwtProvider;
+    private TokenBlacklistService instanceA;
+    private TokenBlacklistService instanceB;
+
+    @BeforeEach
+    void setUp() {
+        redis = new InMemoryRedis(Duration.ofMillis(20));
+
+        JwtProperties jwtProperties = new JwtProperties();
+        jwtProperties.setSecret("test-secret-key-that-is-long-enough-for-hmac-sha256-algorithm-requirements");
+        jwtProperties.setAccessTokenExpiration(TimeUnit.MINUTES.toMillis(30));
+        jwtProperties.setRefreshTokenExpiration(TimeUnit.DAYS.toMillis(7));
+        jwtProvider = new JwtProvider(jwtProperties);
+
+        instanceA = instance();
+        instanceB = instance();
+    }
+
+    @AfterEach
+    void tearDown() {
+        redis.shutdown();
+    }
+
+    @Test
+    @DisplayName("한 인스턴스의 로그아웃(jti 블랙리스트)이 다른 인스턴스에 제한 시간 안에 전파된다")
+    void jtiRevocation_PropagatesAcrossInstances() {
+        // Given
+        String token = accessToken("1");
+        String jti = jwtProvider.getJtiFromToken(token);
+        assertThat(instanceB.isJtiBlacklisted(jti)).isFalse();
+
+        // When
+        instanceA.addToBlacklist(token);
+
+        // Then
+        assertThat(instanceA.isJtiBlacklisted(jti)).isTrue();
+        assertThat(awaitTrue(() -> instanceB.isJtiBlacklisted(jti))).isLessThan(PROPAGATION_BOUND);
+    }
+
+    @Test
+    @DisplayName("사용자 전체 무효화와 해제가 다른 인스턴스에 전파되고, 확인은 Redis 를 조회하지 않는다")
+    void userInvalidation_PropagatesAndIsCheckedLocally() {
+        // When
+        instanceA.invalidateAllUserTokens("7", 3600);
+
+        // Then
+        assertThat(awaitTrue(() -> instanceB.isUserTokensInvalidated("7"))).isLessThan(PROPAGATION_BOUND);
+        int lookups = redis.bucketLookups("blacklist:user:7");
+        assertThat(instanceB.isUserTokensInvalidated("7")).isTrue();
+        assertThat(instanceB.isUserTokensInvalidated("8")).isFalse();
+        assertThat(redis.bucketLookups("blacklist:user:7")).isEqualTo(lookups);
+        assertThat(redis.bucketLookups("blacklist:user:8")).isZero();
+
+        // When
+        instanceA.restoreUserTokens("7");
+
+        // Then
+        assertThat(awaitTrue(() -> !instanceB.isUserTokensInvalidated("7"))).isLessThan(PROPAGATION_BOUND);
+    }
+
+    @Test
+    @DisplayName("블룸 필터에 없는 jti 는 Redis 를 조회하지 않는다")
+    void bloomMiss_SkipsRedis() {
+        // When
+        boolean blacklisted = instanceB.isJtiBlacklisted("unknown-jti");
+
+        // Then
+        assertThat(blacklisted).isFalse();
+        assertThat(redis.bucketLookups("blacklist:jwt:unknown-jti")).isZero();
+    }
+
+    @Test
+    @DisplayName("블룸 필터 적중 후 Redis 에서 지워진 jti 는 Redis 확인 결과를 따른다")
+    void bloomHit_ConfirmsWithRedis() {
+        // Given
+        String token = accessToken("1");
+        String jti = jwtProvider.getJtiFromToken(token);
+        instanceA.addToBlacklist(token);
+
+        // When
+        instanceA.removeFromBlacklist(token);
+
+        // Then
+        assertThat(instanceA.isJtiBlacklisted(jti)).isFalse();
+        assertThat(redis.bucketLookups("blacklist:jwt:" + jti)).isPositive();
+    }
+
+    @Test
+    @DisplayName("새로 뜬 인스턴스는 시작 시 Redis 에서 near-cache 를 다시 만든다")
+    void start_RebuildsFromRedis() {
+        // Given
+        String token = accessToken("1");
+        String jti = jwtProvider.getJtiFromToken(token);
+        instanceA.addToBlacklist(token);
+        instanceA.invalidateAllUserTokens("9", 3600);
+
+        // When
+        TokenBlacklistService late = instance();
+
+        // Then
+        assertThat(late.isJtiBlacklisted(jti)).isTrue();
+        assertThat(late.isUserTokensInvalidated("9")).isTrue();
+    }
+
+    @Test
+    @DisplayName("메시지를 놓쳐도 재동기화하면 반영된다")
+    void resync_RecoversMissedMessages() {
+        // Given
+        TokenBlacklistNearCacheProperties properties = new TokenBlacklistNearCacheProperties();
+        TokenBlacklistNearCache deaf = new TokenBlacklistNearCache(redis.client(false), properties);
+        deaf.start();
+        instanceA.invalidateAllUserTokens("5", 3600);
+        assertThat(deaf.isUserInvalidated("5")).isFalse();
+
+        // When
+        deaf.resync();
+
+        // Then
+        assertThat(deaf.isUserInvalidated("5")).isTrue();
+    }
+
+    @Test
+    @DisplayName("near-cache 를 만들지 못하면 기존처럼 Redis 로 확인한다")
+    void notReady_FallsBackToRedis() {
+        // Given
+        TokenBlacklistNearCacheProperties properties = new TokenBlacklistNearCacheProperties();
+        properties.setEnabled(false);
+        RedissonClient client = redis.client(true);
+        TokenBlacklistService service = new TokenBlacklistService(
+                client, jwtProvider, new TokenBlacklistNearCache(client, properties));
+        instanceA.invalidateAllUserTokens("3", 3600);
+
+        // When
+        boolean invalidated = service.isUserTokensInvalidated("3");
+
+        // Then
+        assertThat(invalidated).isTrue();
+        assertThat(redis.bucketLookups("blacklist:user:3")).isPositive();
+    }
+
+    private TokenBlacklistService instance() {
+        RedissonClient client = redis.client(true);
+        TokenBlacklistNearCache nearCache = new TokenBlacklistNearCache(client, new TokenBlacklistNearCacheProperties());
+        nearCache.start();
+        return new TokenBlacklistService(client, jwtProvider, nearCache);
+    }
+
+    private String accessToken(String userId) {
+        return jwtProvider.createAccessToken(userId, List.of(new SimpleGrantedAuthority("ROLE_USER")));
+    }
+
+    private Duration awaitTrue(BooleanSupplier condition) {
+        long started = System.nanoTime();
+        long deadline = started + PROPAGATION_BOUND.multipliedBy(5).toNanos();
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                throw new AssertionError("Condition not met within " + PROPAGATION_BOUND.multipliedBy(5));
+            }
+            try {
+                Thread.sleep(5);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new AssertionError(e);
+            }
+        }
+        return Duration.ofNanos(System.nanoTime() - started);
+    }
+
+    /**
+     * Testcontainers 없이 쓰는 Redis 대역
+     * - 키/TTL 은 공유 맵, pub/sub 은 지연(deliveryDelay)을 두고 별도 스레드에서 모든 구독자에게 전달
+     * - client() 하나가 애플리케이션 인스턴스 하나의 RedissonClient 역할
+     */
+    private static final class InMemoryRedis {
+
+        private final Map<String, Entry> store = new ConcurrentHashMap<>();
+        private final Map<String, Integer> lookups = new ConcurrentHashMap<>();
+        private final List<MessageListener<String>> subscribers = new CopyOnWriteArrayList<>();
+        private final ExecutorService delivery = Executors.newSingleThreadExecutor();
+        private final Duration deliveryDelay;
+
+        private InMemoryRedis(Duration deliveryDelay) {
+            this.deliveryDelay = deliveryDelay;
+        }
+
+        @SuppressWarnings("unchecked")
+        RedissonClient client(boolean subscribe) {
+            RedissonClient client = mock(RedissonClient.class);
+            when(client.getBucket(anyString())).thenAnswer(invocation -> bucket(invocation.getArgument(0)));
+
+            RKeys keys = mock(RKeys.class);
+            when(keys.getKeysByPattern(anyString())).thenAnswer(invocation -> {
+                String prefix = invocation.<String>getArgument(0).replace("*", "");
+                long now = System.currentTimeMillis();
+                return store.entrySet().stream()
+                        .filter(entry -> entry.getKey().startsWith(prefix) && entry.getValue().expiresAt() > now)
+                        .map(Map.Entry::getKey)
+                        .toList();
+            });
+            when(client.getKeys()).thenReturn(keys);
+
+            RTopic topic = mock(RTopic.class);
+            when(topic.publish(any())).thenAnswer(invocation -> {
+                String message = invocation.getArgument(0);
+                delivery.submit(() -> {
+                    sleep(deliveryDelay);
+                    subscribers.forEach(subscriber -> subscriber.onMessage(TokenBlacklistNearCache.TOPIC, message));
+                });
+                return (long) subscribers.size();
+            });
+            when(topic.addListener(eq(String.class), any(MessageListener.class))).thenAnswer(invocation -> {
+                if (subscribe) {
+                    subscribers.add(invocation.getArgument(1));
+                }
+                return subscribers.size();
+            });
+            when(client.getTopic(anyString(), any(Codec.class))).thenReturn(topic);
+            return client;
+        }
+
+        int bucketLookups(String key) {
+            return lookups.getOrDefault(key, 0);
+        }
+
+        void shutdown() {
+            delivery.shutdownNow();
+        }
+
+        @SuppressWarnings("unchecked")
+        private RBucket<Object> bucket(String key) {
+            lookups.merge(key, 1, Integer::sum);
+            RBucket<Object> bucket = mock(RBucket.class);
+            doAnswer(invocation -> {
+                long ttl = invocation.<TimeUnit>getArgument(2).toMillis(invocation.getArgument(1));
+                store.put(key, new Entry(invocation.getArgument(0), System.currentTimeMillis() + ttl));
+                return null;
+            }).when(bucket).set(any(), anyLong(), any(TimeUnit.class));
+            when(bucket.isExists()).thenAnswer(invocation -> live(key) != null);
+            when(bucket.delete()).thenAnswer(invocation -> store.remove(key) != null);
+            when(bucket.remainTimeToLive()).thenAnswer(invocation -> {
+                Entry entry = live(key);
+                return entry == null ? -2L : entry.expiresAt() - System.currentTimeMillis();
+            });
+            return bucket;
+        }
+
+        private Entry live(String key) {
+            Entry entry = store.get(key);
+            return entry != null && entry.expiresAt() > System.currentTimeMillis() ? entry : null;
+        }
+
+        private static void sleep(Duration duration) {
+            try {
+                Thread.sleep(duration.toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        private record Entry(Object value, long expiresAt) {
+        }
+    }
+}
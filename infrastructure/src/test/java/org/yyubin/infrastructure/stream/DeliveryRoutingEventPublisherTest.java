@@ -0,0 +1,65 @@
+package org.yyubin.infrastructure.stream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.yyubin.application.event.DeliveryClass;
+import org.yyubin.application.event.EventPayload;
+import org.yyubin.application.event.EventTopics;
+import org.yyubin.infrastructure.stream.outbox.OutboxEventPublisher;
+import org.yyubin.infrastructure.stream.telemetry.TelemetryEventPublisher;
+
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DeliveryRoutingEventPublisher 테스트")
+class DeliveryRoutingEventPublisherTest {
+
+    @Mock
+    private OutboxEventPublisher outboxEventPublisher;
+
+    @Mock
+    private TelemetryEventPublisher telemetryEventPublisher;
+
+    @InjectMocks
+    private DeliveryRoutingEventPublisher publisher;
+
+    private final EventPayload payload = new EventPayload(null, "EVENT", 1L, null, null, null, null, null, 1);
+
+    @Test
+    @DisplayName("비즈니스 토픽은 아웃박스로 보낸다")
+    void publish_BusinessTopic_Outbox() {
+        // When
+        publisher.publish(EventTopics.REVIEW, "key", payload);
+
+        // Then
+        verify(outboxEventPublisher).publish(EventTopics.REVIEW, "key", payload);
+        verifyNoInteractions(telemetryEventPublisher);
+    }
+
+    @Test
+    @DisplayName("트래킹 토픽은 텔레메트리 버퍼로 보낸다")
+    void publish_TrackingTopic_Telemetry() {
+        // When
+        publisher.publish(EventTopics.TRACKING, "key", payload);
+
+        // Then
+        verify(telemetryEventPublisher).publish(EventTopics.TRACKING, "key", payload);
+        verifyNoInteractions(outboxEventPublisher);
+    }
+
+    @Test
+    @DisplayName("BEST_EFFORT 를 지정하면 비즈니스 토픽이라도 텔레메트리 버퍼로 보낸다")
+    void publish_ExplicitBestEffort_Telemetry() {
+        // When
+        publisher.publish(EventTopics.REVIEW, "key", payload, DeliveryClass.BEST_EFFORT);
+
+        // Then
+        verify(telemetryEventPublisher).publish(EventTopics.REVIEW, "key", payload);
+        verifyNoInteractions(outboxEventPublisher);
+    }
+}
@@ -1,35 +1,38 @@
 package org.yyubin.infrastructure.stream;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
 import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
 import org.springframework.data.redis.connection.stream.RecordId;
 import org.springframework.data.redis.connection.stream.StreamOffset;
 import org.springframework.data.redis.connection.stream.StreamReadOptions;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.StreamOperations;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.yyubin.application.notification.dto.NotificationEventPayload;
-import org.yyubin.application.notification.port.NotificationSettingPort;
 import org.yyubin.application.notification.service.NotificationCreator;
-import org.yyubin.domain.notification.NotificationSetting;
 import org.yyubin.domain.notification.NotificationType;
-import org.yyubin.domain.user.UserId;
+import org.yyubin.infrastructure.config.NotificationStreamProperties;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -46,21 +49,31 @@ class NotificationConsumerTest {
     @Mock
     private NotificationCreator notificationCreator;
 
-    @Mock
-    private NotificationSettingPort notificationSettingPort;
-
-    @InjectMocks
+    private SimpleMeterRegistry meterRegistry;
     private NotificationConsumer notificationConsumer;
 
     @BeforeEach
     void setUp() {
-        when(redisTemplate.opsForStream()).thenReturn(streamOperations);
+        NotificationStreamProperties properties = new NotificationStreamProperties();
+        properties.setBatchSize(50);
+        properties.setClaimIdleMillis(60_000);
+        properties.setClaimMaxRounds(3);
+        properties.setMaxDeliveries(5);
+
+        meterRegistry = new SimpleMeterRegistry();
+        notificationConsumer = new NotificationConsumer(
+                redisTemplate,
+                notificationCreator,
+                properties,
+                new StaticListableBeanFactory(Map.of("meterRegistry", meterRegistry)).getBeanProvider(MeterRegistry.class)
+        );
     }
 
     @Test
     @DisplayName("스트림이 없으면 초기화 시 생성하고 그룹을 만든다")
     void init_CreatesStreamAndGroup() {
         // Given
+        when(redisTemplate.opsForStream()).thenReturn(streamOperations);
         when(redisTemplate.hasKey("notifications")).thenReturn(false);
 
         // When
@@ -73,97 +86,194 @@ class NotificationConsumerTest {
 
     @Test
     @DisplayName("메시지가 없으면 아무 작업도 하지 않는다")
-    void consume_NoMessages_NoOp() {
+    void pollOnce_NoMessages_NoOp() {
         // Given
+        when(redisTemplate.opsForStream()).thenReturn(streamOperations);
         when(streamOperations.read(any(Consumer.class), any(StreamReadOptions.class), any(StreamOffset.class)))
                 .thenReturn(List.of());
 
         // When
-        notificationConsumer.consume();
+        int read = notificationConsumer.pollOnce("host-1");
 
         // Then
-        verify(notificationCreator, never()).create(any(NotificationEventPayload.class));
-        verify(streamOperations, never()).acknowledge(anyString(), anyString(), any(RecordId.class));
+        assertThat(read).isZero();
+        verify(notificationCreator, never()).createAll(anyList());
+        verify(streamOperations, never()).acknowledge(anyString(), anyString(), any(String[].class));
     }
 
     @Test
-    @DisplayName("잘못된 payload면 ack만 한다")
-    void consume_InvalidPayload_AckOnly() {
+    @DisplayName("배치를 블로킹으로 읽어 한 번에 저장하고 한 번에 ack 한다")
+    void pollOnce_StoresBatchAndAcksOnce() {
         // Given
-        var message = mock(org.springframework.data.redis.connection.stream.MapRecord.class);
-        when(message.getId()).thenReturn(RecordId.of("1-0"));
-        when(message.getValue()).thenReturn(Map.of("type", "INVALID"));
+        when(redisTemplate.opsForStream()).thenReturn(streamOperations);
+        List<MapRecord<String, Object, Object>> records = List.of(
+                record("1-0", valid(1L, "MENTION")),
+                record("2-0", Map.of("type", "INVALID")),
+                record("3-0", valid(2L, "LIKE_ON_REVIEW"))
+        );
+        when(streamOperations.read(any(Consumer.class), any(StreamReadOptions.class), any(StreamOffset.class)))
+                .thenReturn(records);
+        when(notificationCreator.createAll(anyList())).thenReturn(1);
+
+        // When
+        int read = notificationConsumer.pollOnce("host-1");
+
+        // Then
+        assertThat(read).isEqualTo(3);
+
+        ArgumentCaptor<StreamReadOptions> options = ArgumentCaptor.forClass(StreamReadOptions.class);
+        verify(streamOperations).read(eq(Consumer.from("notification-consumers", "host-1")), options.capture(), any(StreamOffset.class));
+        assertThat(options.getValue().getCount()).isEqualTo(50L);
+        assertThat(options.getValue().isBlocking()).isTrue();
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<NotificationEventPayload>> payloads = ArgumentCaptor.forClass(List.class);
+        verify(notificationCreator).createAll(payloads.capture());
+        assertThat(payloads.getValue()).extracting(NotificationEventPayload::recipientId).containsExactly(1L, 2L);
+        assertThat(payloads.getValue().get(0).type()).isEqualTo(NotificationType.MENTION);
 
+        verify(streamOperations).acknowledge("notifications", "notification-consumers", "1-0", "2-0", "3-0");
+        assertThat(processed("created")).isEqualTo(1.0);
+        assertThat(processed("filtered")).isEqualTo(1.0);
+        assertThat(processed("invalid")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("저장에 실패하면 ack 하지 않고 pending 으로 남긴다")
+    void pollOnce_StoreFails_LeavesPending() {
+        // Given
+        when(redisTemplate.opsForStream()).thenReturn(streamOperations);
+        List<MapRecord<String, Object, Object>> records = List.of(record("1-0", valid(1L, "MENTION")));
         when(streamOperations.read(any(Consumer.class), any(StreamReadOptions.class), any(StreamOffset.class)))
-                .thenReturn(List.of(message));
+                .thenReturn(records);
+        when(notificationCreator.createAll(anyList())).thenThrow(new IllegalStateException("db down"));
 
         // When
-        notificationConsumer.consume();
+        notificationConsumer.pollOnce("host-1");
 
         // Then
-        verify(streamOperations).acknowledge(eq("notifications"), eq("notification-consumers"), eq(RecordId.of("1-0")));
-        verify(notificationCreator, never()).create(any(NotificationEventPayload.class));
-        verify(notificationSettingPort, never()).load(any(UserId.class));
+        verify(streamOperations, never()).acknowledge(anyString(), anyString(), any(String[].class));
+        assertThat(meterRegistry.get("notification.stream.failed").counter().count()).isEqualTo(1.0);
     }
 
     @Test
-    @DisplayName("설정에 의해 비활성화된 타입이면 ack만 한다")
-    void consume_DisabledSetting_AckOnly() {
+    @DisplayName("오래된 pending 메시지를 XAUTOCLAIM 으로 회수해 처리한다")
+    void claimIdle_ProcessesClaimedMessages() {
         // Given
-        var message = mock(org.springframework.data.redis.connection.stream.MapRecord.class);
-        when(message.getId()).thenReturn(RecordId.of("2-0"));
-        when(message.getValue()).thenReturn(Map.of(
-                "recipientId", "1",
-                "type", "LIKE_ON_REVIEW",
-                "actorId", "2",
-                "contentId", "3",
-                "message", "hello"
-        ));
+        when(redisTemplate.opsForStream()).thenReturn(streamOperations);
+        when(redisTemplate.execute(any(RedisScript.class), eq(List.of("notifications")),
+                eq("notification-consumers"), anyString(), eq("60000"), eq("0-0"), eq("50")))
+                .thenReturn(List.of("5-0", "4-0", List.of("recipientId", "7", "type", "MENTION", "message", "hi"), 2L));
+        when(redisTemplate.execute(any(RedisScript.class), eq(List.of("notifications")),
+                eq("notification-consumers"), anyString(), eq("60000"), eq("5-0"), eq("50")))
+                .thenReturn(List.of("0-0"));
+        when(notificationCreator.createAll(anyList())).thenReturn(1);
 
-        NotificationSetting setting = NotificationSetting.of(new UserId(1L), false, true, true);
-        when(notificationSettingPort.load(new UserId(1L))).thenReturn(Optional.of(setting));
-        when(streamOperations.read(any(Consumer.class), any(StreamReadOptions.class), any(StreamOffset.class)))
-                .thenReturn(List.of(message));
+        // When
+        notificationConsumer.claimIdle();
+
+        // Then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<NotificationEventPayload>> payloads = ArgumentCaptor.forClass(List.class);
+        verify(notificationCreator).createAll(payloads.capture());
+        assertThat(payloads.getValue()).singleElement().satisfies(payload -> {
+            assertThat(payload.recipientId()).isEqualTo(7L);
+            assertThat(payload.message()).isEqualTo("hi");
+        });
+        verify(streamOperations).acknowledge("notifications", "notification-consumers", "4-0");
+        assertThat(meterRegistry.get("notification.stream.claimed").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("회수한 배치가 다시 실패하면 한 건씩 저장하고, 실패한 메시지는 ack 하지 않고 pending 으로 남긴다")
+    void claimIdle_RetriesOneByOneAndLeavesFailuresPending() {
+        // Given
+        when(redisTemplate.opsForStream()).thenReturn(streamOperations);
+        when(redisTemplate.execute(any(RedisScript.class), eq(List.of("notifications")),
+                eq("notification-consumers"), anyString(), eq("60000"), eq("0-0"), eq("50")))
+                .thenReturn(List.of(
+                        "0-0",
+                        "4-0", List.of("recipientId", "7", "type", "MENTION"), 2L,
+                        "6-0", List.of("recipientId", "8", "type", "MENTION"), 4L
+                ));
+        when(notificationCreator.createAll(anyList()))
+                .thenThrow(new IllegalStateException("batch"))
+                .thenReturn(1)
+                .thenThrow(new IllegalStateException("db down"));
 
         // When
-        notificationConsumer.consume();
+        notificationConsumer.claimIdle();
 
         // Then
-        verify(streamOperations).acknowledge(eq("notifications"), eq("notification-consumers"), eq(RecordId.of("2-0")));
-        verify(notificationCreator, never()).create(any(NotificationEventPayload.class));
+        verify(notificationCreator, times(3)).createAll(anyList());
+        verify(streamOperations).acknowledge("notifications", "notification-consumers", "4-0");
+        verify(streamOperations, never()).add(anyString(), any(Map.class));
+        assertThat(meterRegistry.get("notification.stream.failed").counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("notification.stream.dead_lettered").counter().count()).isZero();
+        assertThat(processed("created")).isEqualTo(1.0);
     }
 
     @Test
-    @DisplayName("설정이 없으면 알림을 생성한다")
-    void consume_NoSetting_CreatesNotification() {
+    @DisplayName("전달 횟수가 최대에 도달한 메시지만 dead-letter 스트림으로 옮기고 ack 한다")
+    void claimIdle_MaxDeliveries_DeadLetters() {
         // Given
-        var message = mock(org.springframework.data.redis.connection.stream.MapRecord.class);
-        when(message.getId()).thenReturn(RecordId.of("3-0"));
-        when(message.getValue()).thenReturn(Map.of(
-                "recipientId", "1",
-                "type", "MENTION",
-                "actorId", "2",
-                "contentId", "3",
-                "message", "hello"
-        ));
+        when(redisTemplate.opsForStream()).thenReturn(streamOperations);
+        when(redisTemplate.execute(any(RedisScript.class), eq(List.of("notifications")),
+                eq("notification-consumers"), anyString(), eq("60000"), eq("0-0"), eq("50")))
+                .thenReturn(List.of("0-0", "6-0", List.of("recipientId", "8", "type", "MENTION"), 5L));
+        when(notificationCreator.createAll(anyList())).thenThrow(new IllegalStateException("poison"));
 
-        when(notificationSettingPort.load(new UserId(1L))).thenReturn(Optional.empty());
-        when(streamOperations.read(any(Consumer.class), any(StreamReadOptions.class), any(StreamOffset.class)))
-                .thenReturn(List.of(message));
+        // When
+        notificationConsumer.claimIdle();
+
+        // Then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Map<Object, Object>> fields = ArgumentCaptor.forClass(Map.class);
+        verify(streamOperations).add(eq("notifications:dead"), fields.capture());
+        assertThat(fields.getValue())
+                .containsEntry("recipientId", "8")
+                .containsEntry("sourceId", "6-0")
+                .containsEntry("deliveries", "5")
+                .containsEntry("error", "poison");
+        verify(streamOperations).acknowledge("notifications", "notification-consumers", "6-0");
+        assertThat(meterRegistry.get("notification.stream.dead_lettered").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("그룹 정보로 pending/lag 지표를 갱신한다")
+    void refreshGroupStats_UpdatesGauges() {
+        // Given
+        when(redisTemplate.execute(any(RedisScript.class), eq(List.of("notifications")),
+                eq("notification-consumers"), eq("3600000"), anyString()))
+                .thenReturn(List.of(12L, 40L, 1L));
 
         // When
-        notificationConsumer.consume();
+        notificationConsumer.refreshGroupStats();
 
         // Then
-        ArgumentCaptor<NotificationEventPayload> captor =
-                ArgumentCaptor.forClass(NotificationEventPayload.class);
-        verify(notificationCreator).create(captor.capture());
-        NotificationEventPayload payload = captor.getValue();
-        assertThat(payload.recipientId()).isEqualTo(1L);
-        assertThat(payload.type()).isEqualTo(NotificationType.MENTION);
-        assertThat(payload.actorId()).isEqualTo(2L);
-        assertThat(payload.contentId()).isEqualTo(3L);
-        assertThat(payload.message()).isEqualTo("hello");
-        verify(streamOperations).acknowledge(eq("notifications"), eq("notification-consumers"), eq(RecordId.of("3-0")));
+        assertThat(meterRegistry.get("notification.stream.pending").gauge().value()).isEqualTo(12.0);
+        assertThat(meterRegistry.get("notification.stream.lag").gauge().value()).isEqualTo(40.0);
+    }
+
+    private double processed(String result) {
+        return meterRegistry.get("notification.stream.processed").tag("result", result).counter().count();
+    }
+
+    private Map<Object, Object> valid(Long recipientId, String type) {
+        return Map.of(
+                "recipientId", String.valueOf(recipientId),
+                "type", type,
+                "actorId", "2",
+                "contentId", "3",
+                "message", "hello"
+        );
+    }
+
+    @SuppressWarnings("unchecked")
+    private MapRecord<String, Object, Object> record(String id, Map<Object, Object> value) {
+        MapRecord<String, Object, Object> record = mock(MapRecord.class);
+        when(record.getId()).thenReturn(RecordId.of(id));
+        when(record.getValue()).thenReturn(value);
+        return record;
     }
 }
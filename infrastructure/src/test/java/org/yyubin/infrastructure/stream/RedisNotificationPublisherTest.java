@@ -1,5 +1,6 @@
 package org.yyubin.infrastructure.stream;
 
+import java.util.List;
 import java.util.Map;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -10,12 +11,16 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
 import org.springframework.data.redis.core.StreamOperations;
 import org.yyubin.application.notification.dto.NotificationEventPayload;
 import org.yyubin.domain.notification.NotificationType;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -88,4 +93,25 @@ class RedisNotificationPublisherTest {
         assertThat(map.get("contentId")).isEqualTo("");
         assertThat(map.get("message")).isEqualTo("");
     }
+
+    @Test
+    @DisplayName("여러 payload는 파이프라인 한 번으로 발행한다")
+    void publishAll_PipelinesStreamEntries() {
+        // Given
+        doAnswer(invocation -> {
+            SessionCallback<?> callback = invocation.getArgument(0);
+            callback.execute(redisTemplate);
+            return List.of();
+        }).when(redisTemplate).executePipelined(any(SessionCallback.class));
+
+        // When
+        publisher.publishAll(List.of(
+                new NotificationEventPayload(1L, NotificationType.FOLLOWEE_NEW_REVIEW, 9L, 100L, "a"),
+                new NotificationEventPayload(2L, NotificationType.FOLLOWEE_NEW_REVIEW, 9L, 100L, "a")
+        ));
+
+        // Then
+        verify(redisTemplate).executePipelined(any(SessionCallback.class));
+        verify(streamOperations, times(2)).add(eq("notifications"), any(Map.class));
+    }
 }
@@ -0,0 +1,45 @@
+package org.yyubin.infrastructure.stream.feed;
+
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.yyubin.infrastructure.stream.feed.FeedTimelineMerger.Entry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("FeedTimelineMerger 테스트")
+class FeedTimelineMergerTest {
+
+    @Test
+    @DisplayName("여러 타임라인을 score 내림차순으로 limit 만큼 병합한다")
+    void merge_OrdersByScoreDescending() {
+        // Given
+        List<List<Entry>> timelines = List.of(
+                List.of(new Entry(5, 50), new Entry(2, 20)),
+                List.of(new Entry(4, 40), new Entry(3, 30), new Entry(1, 10)),
+                List.of()
+        );
+
+        // When
+        List<Entry> merged = FeedTimelineMerger.merge(timelines, 4);
+
+        // Then
+        assertThat(merged).extracting(Entry::reviewId).containsExactly(5L, 4L, 3L, 2L);
+    }
+
+    @Test
+    @DisplayName("여러 타임라인에 있는 리뷰는 한 번만 포함한다")
+    void merge_DeduplicatesReviews() {
+        // Given
+        List<List<Entry>> timelines = List.of(
+                List.of(new Entry(3, 30), new Entry(1, 10)),
+                List.of(new Entry(3, 30), new Entry(2, 20))
+        );
+
+        // When
+        List<Entry> merged = FeedTimelineMerger.merge(timelines, 10);
+
+        // Then
+        assertThat(merged).extracting(Entry::reviewId).containsExactly(3L, 2L, 1L);
+    }
+}
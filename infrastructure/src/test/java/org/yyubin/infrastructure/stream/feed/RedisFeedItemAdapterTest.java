@@ -3,25 +3,30 @@ package org.yyubin.infrastructure.stream.feed;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
-import java.util.Set;
+import java.util.List;
+import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.ArgumentCaptor;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.SetOperations;
 import org.springframework.data.redis.core.StringRedisTemplate;
-import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.yyubin.domain.feed.FeedItem;
 import org.yyubin.domain.review.ReviewId;
 import org.yyubin.domain.user.UserId;
+import org.yyubin.infrastructure.config.HomeFeedProperties;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -32,56 +37,95 @@ class RedisFeedItemAdapterTest {
     private StringRedisTemplate stringRedisTemplate;
 
     @Mock
-    private ZSetOperations<String, String> zSetOperations;
+    private SetOperations<String, String> setOperations;
 
-    @InjectMocks
     private RedisFeedItemAdapter adapter;
 
     @BeforeEach
     void setUp() {
-        when(stringRedisTemplate.opsForZSet()).thenReturn(zSetOperations);
+        HomeFeedProperties properties = new HomeFeedProperties();
+        properties.setPullFollowerThreshold(1_000);
+        adapter = new RedisFeedItemAdapter(stringRedisTemplate, properties);
     }
 
     @Test
-    @DisplayName("피드 저장 시 ZSET에 추가한다")
-    void save_AddsToZSet() {
+    @DisplayName("피드 캐시가 없으면 empty 를 반환한다")
+    void loadFeed_Cold_ReturnsEmpty() {
         // Given
-        FeedItem feedItem = FeedItem.of(
-                null,
-                new UserId(1L),
-                ReviewId.of(10L),
-                LocalDateTime.of(2024, 1, 1, 10, 0)
+        doReturn(List.of(0L)).when(stringRedisTemplate)
+                .execute(any(RedisScript.class), eq(List.of("feed:user:1", "feed:user:1:pull")), any(), any(), any(), any());
+
+        // When
+        Optional<List<FeedItem>> result = adapter.loadFeed(new UserId(1L), null, 10);
+
+        // Then
+        assertThat(result).isEmpty();
+    }
+
+    @Test
+    @DisplayName("push 피드와 pull 작성자 타임라인을 최신순으로 병합한다")
+    void loadFeed_MergesInboxAndPullTimelines() {
+        // Given
+        List<Object> scriptResult = List.of(
+                1L,
+                List.of("review:3", "3000", "review:1", "1000"),
+                List.of("review:4", "4000", "review:3", "3000", "review:2", "2000")
         );
+        doReturn(scriptResult).when(stringRedisTemplate)
+                .execute(any(RedisScript.class), eq(List.of("feed:user:1", "feed:user:1:pull")),
+                        eq("+inf"), eq("3"), eq("feed:author:"), any());
 
         // When
-        adapter.save(feedItem);
+        List<FeedItem> result = adapter.loadFeed(new UserId(1L), null, 3).orElseThrow();
 
         // Then
-        ArgumentCaptor<Double> scoreCaptor = ArgumentCaptor.forClass(Double.class);
-        verify(zSetOperations).add(eq("recommend:user:1"), eq("review:10"), scoreCaptor.capture());
-        Double score = scoreCaptor.getValue();
-        assertThat(score).isEqualTo(feedItem.getCreatedAt().toInstant(ZoneOffset.UTC).toEpochMilli());
+        assertThat(result).extracting(item -> item.getReviewId().getValue()).containsExactly(4L, 3L, 2L);
+        assertThat(result.get(0).getCreatedAt())
+                .isEqualTo(LocalDateTime.ofInstant(Instant.ofEpochMilli(4000), ZoneOffset.UTC));
+    }
+
+    @Test
+    @DisplayName("팔로워 수가 기준 이상이면 Redis 조회 없이 pull 작성자로 본다")
+    void isPullAuthor_AboveThreshold() {
+        // When & Then
+        assertThat(adapter.isPullAuthor(7L, 1_000)).isTrue();
+        verifyNoInteractions(stringRedisTemplate);
     }
 
     @Test
-    @DisplayName("피드 로드는 score를 createdAt으로 변환한다")
-    void loadFeed_ParsesEntries() {
+    @DisplayName("기준 미만이어도 이미 pull 로 등록된 작성자는 pull 로 유지한다")
+    void isPullAuthor_RegisteredStaysPull() {
         // Given
-        long score = 1000L;
-        Set<ZSetOperations.TypedTuple<String>> entries = Set.of(
-                new DefaultTypedTuple<>("review:1", (double) score),
-                new DefaultTypedTuple<>("invalid", 2000.0)
+        when(stringRedisTemplate.opsForSet()).thenReturn(setOperations);
+        when(setOperations.isMember("feed:pull-authors", "7")).thenReturn(true);
+
+        // When & Then
+        assertThat(adapter.isPullAuthor(7L, 10)).isTrue();
+    }
+
+    @Test
+    @DisplayName("피드 항목 일괄 저장은 파이프라인 한 번으로 보낸다")
+    void saveAll_Pipelines() {
+        // Given
+        List<FeedItem> items = List.of(
+                FeedItem.of(null, new UserId(1L), ReviewId.of(10L), LocalDateTime.of(2024, 1, 1, 10, 0)),
+                FeedItem.of(null, new UserId(2L), ReviewId.of(10L), LocalDateTime.of(2024, 1, 1, 10, 0))
         );
-        when(zSetOperations.reverseRangeByScoreWithScores(eq("recommend:user:1"), eq(Double.POSITIVE_INFINITY), eq(Double.NEGATIVE_INFINITY), eq(0L), eq(10L)))
-                .thenReturn(entries);
 
         // When
-        var result = adapter.loadFeed(new UserId(1L), null, 10);
+        adapter.saveAll(items);
+
+        // Then
+        verify(stringRedisTemplate).executePipelined(any(RedisCallback.class));
+    }
+
+    @Test
+    @DisplayName("빈 목록은 저장하지 않는다")
+    void saveAll_Empty() {
+        // When
+        adapter.saveAll(List.of());
 
         // Then
-        assertThat(result).hasSize(1);
-        FeedItem item = result.get(0);
-        assertThat(item.getReviewId().getValue()).isEqualTo(1L);
-        assertThat(item.getCreatedAt()).isEqualTo(LocalDateTime.ofInstant(Instant.ofEpochMilli(score), ZoneOffset.UTC));
+        verify(stringRedisTemplate, never()).executePipelined(any(RedisCallback.class));
     }
 }
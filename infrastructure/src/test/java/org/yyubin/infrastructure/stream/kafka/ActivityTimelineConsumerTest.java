@@ -0,0 +1,104 @@
+package org.yyubin.infrastructure.stream.kafka;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.yyubin.application.event.EventPayload;
+import org.yyubin.domain.activity.ActivityType;
+import org.yyubin.infrastructure.persistence.activity.ActivityTimelineStore;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ActivityTimelineConsumer 테스트")
+class ActivityTimelineConsumerTest {
+
+    private static final Instant OCCURRED_AT = Instant.parse("2025-01-01T12:00:00Z");
+
+    @Mock
+    private ActivityTimelineStore activityTimelineStore;
+
+    @InjectMocks
+    private ActivityTimelineConsumer consumer;
+
+    @Test
+    @DisplayName("공개 리뷰 생성은 리뷰 작성 시각으로 기록한다")
+    void consume_PublicReviewCreated() {
+        // When
+        consumer.consume(event("REVIEW_CREATED", Map.of("visibility", "PUBLIC", "createdAt", "2025-01-01T10:00")));
+
+        // Then
+        verify(activityTimelineStore).record(ActivityType.REVIEW_CREATED, 1L, 100L, LocalDateTime.of(2025, 1, 1, 10, 0));
+    }
+
+    @Test
+    @DisplayName("비공개로 수정된 리뷰는 활동에서 제거한다")
+    void consume_ReviewUpdatedToPrivate() {
+        // When
+        consumer.consume(event("REVIEW_UPDATED", Map.of("visibility", "PRIVATE")));
+
+        // Then
+        verify(activityTimelineStore).remove(ActivityType.REVIEW_CREATED, 1L, 100L);
+        verify(activityTimelineStore, never()).record(any(), anyLong(), anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("리뷰 삭제는 그 리뷰의 모든 활동을 제거한다")
+    void consume_ReviewDeleted() {
+        // When
+        consumer.consume(event("REVIEW_DELETED", Map.of()));
+
+        // Then
+        verify(activityTimelineStore).removeReview(100L);
+    }
+
+    @Test
+    @DisplayName("좋아요/취소는 이벤트 발생 시각으로 기록/제거한다")
+    void consume_LikeAndUnlike() {
+        // When
+        consumer.consume(event("REVIEW_LIKED", Map.of("reviewId", 100L)));
+        consumer.consume(event("REVIEW_UNLIKED", Map.of("reviewId", 100L)));
+
+        // Then
+        verify(activityTimelineStore).record(ActivityType.REVIEW_LIKED, 1L, 100L, LocalDateTime.of(2025, 1, 1, 12, 0));
+        verify(activityTimelineStore).remove(ActivityType.REVIEW_LIKED, 1L, 100L);
+    }
+
+    @Test
+    @DisplayName("북마크 추가/삭제를 기록/제거한다")
+    void consume_BookmarkAddAndRemove() {
+        // When
+        consumer.consume(event("BOOKMARK_ADD", Map.of("reviewId", 100L)));
+        consumer.consume(event("BOOKMARK_REMOVE", Map.of("reviewId", 100L)));
+
+        // Then
+        verify(activityTimelineStore).record(ActivityType.REVIEW_BOOKMARKED, 1L, 100L, LocalDateTime.of(2025, 1, 1, 12, 0));
+        verify(activityTimelineStore).remove(ActivityType.REVIEW_BOOKMARKED, 1L, 100L);
+    }
+
+    @Test
+    @DisplayName("관련 없는 이벤트는 무시한다")
+    void consume_IgnoresOtherEvents() {
+        // When
+        consumer.consume(event("REVIEW_VIEWED", Map.of()));
+        consumer.consume(event("REACTION_UPSERTED", Map.of()));
+
+        // Then
+        verifyNoInteractions(activityTimelineStore);
+    }
+
+    private EventPayload event(String type, Map<String, Object> metadata) {
+        return new EventPayload(UUID.randomUUID(), type, 1L, "REVIEW", "100", metadata, OCCURRED_AT, "api", 1);
+    }
+}
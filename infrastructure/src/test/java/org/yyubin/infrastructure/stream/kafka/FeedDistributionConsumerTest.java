@@ -0,0 +1,62 @@
+package org.yyubin.infrastructure.stream.kafka;
+
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.yyubin.application.event.EventPayload;
+import org.yyubin.application.feed.DistributeReviewToFeedsUseCase;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("FeedDistributionConsumer 테스트")
+class FeedDistributionConsumerTest {
+
+    @Mock
+    private DistributeReviewToFeedsUseCase distributeReviewToFeedsUseCase;
+
+    @InjectMocks
+    private FeedDistributionConsumer consumer;
+
+    @Test
+    @DisplayName("공개 리뷰 생성 이벤트를 작성 시각과 함께 배포한다")
+    void consume_PublicReviewCreated() {
+        // When
+        consumer.consume(event("REVIEW_CREATED", Map.of("visibility", "PUBLIC", "createdAt", "2025-01-01T10:00")));
+
+        // Then
+        verify(distributeReviewToFeedsUseCase).distribute(1L, 100L, LocalDateTime.of(2025, 1, 1, 10, 0));
+    }
+
+    @Test
+    @DisplayName("비공개 리뷰는 배포하지 않는다")
+    void consume_PrivateReviewIsSkipped() {
+        // When
+        consumer.consume(event("REVIEW_CREATED", Map.of("visibility", "PRIVATE")));
+
+        // Then
+        verifyNoInteractions(distributeReviewToFeedsUseCase);
+    }
+
+    @Test
+    @DisplayName("REVIEW_CREATED 가 아닌 이벤트는 무시한다")
+    void consume_IgnoresOtherEvents() {
+        // When
+        consumer.consume(event("REVIEW_UPDATED", Map.of("visibility", "PUBLIC")));
+
+        // Then
+        verifyNoInteractions(distributeReviewToFeedsUseCase);
+    }
+
+    private EventPayload event(String type, Map<String, Object> metadata) {
+        return new EventPayload(UUID.randomUUID(), type, 1L, "REVIEW", "100", metadata, Instant.now(), "api", 1);
+    }
+}
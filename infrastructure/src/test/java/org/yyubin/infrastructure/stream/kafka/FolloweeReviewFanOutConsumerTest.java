@@ -0,0 +1,190 @@
+package org.yyubin.infrastructure.stream.kafka;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.yyubin.application.event.EventPayload;
+import org.yyubin.application.event.EventTopics;
+import org.yyubin.application.notification.NotifyFolloweeReviewUseCase;
+import org.yyubin.application.user.dto.FollowerChunk;
+import org.yyubin.application.user.port.FollowQueryPort;
+import org.yyubin.infrastructure.config.FolloweeFanOutProperties;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("FolloweeReviewFanOutConsumer 테스트")
+class FolloweeReviewFanOutConsumerTest {
+
+    private static final String CHECKPOINT_KEY = "notification:fanout:review:100";
+
+    @Mock
+    private FollowQueryPort followQueryPort;
+
+    @Mock
+    private NotifyFolloweeReviewUseCase notifyFolloweeReviewUseCase;
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Mock
+    private KafkaTemplate<String, EventPayload> kafkaTemplate;
+
+    private FolloweeReviewFanOutConsumer consumer;
+
+    @BeforeEach
+    void setUp() {
+        FolloweeFanOutProperties properties = new FolloweeFanOutProperties();
+        properties.setChunkSize(2);
+        properties.setMaxFollowersPerSecond(0);
+        consumer = new FolloweeReviewFanOutConsumer(
+                followQueryPort, notifyFolloweeReviewUseCase, redisTemplate, kafkaTemplate, properties);
+    }
+
+    @Test
+    @DisplayName("가득 찬 청크를 처리하면 다음 청크 이벤트를 먼저 발행하고 체크포인트를 옮긴다")
+    void consume_FullChunk_PublishesContinuation() {
+        // Given
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get(CHECKPOINT_KEY)).thenReturn(null);
+        when(followQueryPort.loadFollowerChunk(1L, null, 2)).thenReturn(new FollowerChunk(List.of(10L, 11L), 5L));
+        when(notifyFolloweeReviewUseCase.notifyFollowers(eq(1L), eq(100L), any())).thenReturn(2);
+        when(kafkaTemplate.send(eq(EventTopics.NOTIFICATION_FANOUT), eq("100"), any(EventPayload.class)))
+                .thenReturn(CompletableFuture.completedFuture(null));
+
+        // When
+        consumer.consume(reviewCreated("PUBLIC"));
+
+        // Then
+        ArgumentCaptor<EventPayload> next = ArgumentCaptor.forClass(EventPayload.class);
+        InOrder order = inOrder(notifyFolloweeReviewUseCase, kafkaTemplate, valueOperations);
+        order.verify(notifyFolloweeReviewUseCase).notifyFollowers(1L, 100L, List.of(10L, 11L));
+        order.verify(kafkaTemplate).send(eq(EventTopics.NOTIFICATION_FANOUT), eq("100"), next.capture());
+        order.verify(valueOperations).set(eq(CHECKPOINT_KEY), eq("5"), any(Duration.class));
+        assertThat(next.getValue().eventType()).isEqualTo("REVIEW_FANOUT_CHUNK");
+        assertThat(next.getValue().metadata()).containsEntry("cursor", 5L);
+        verify(followQueryPort, never()).loadFollowerChunk(1L, 5L, 2);
+    }
+
+    @Test
+    @DisplayName("다음 청크 이벤트는 체크포인트부터 한 청크만 처리하고, 마지막 청크면 완료로 표시한다")
+    void consume_ChunkEvent_ProcessesLastChunk() {
+        // Given
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get(CHECKPOINT_KEY)).thenReturn("5");
+        when(followQueryPort.loadFollowerChunk(1L, 5L, 2)).thenReturn(new FollowerChunk(List.of(12L), 9L));
+
+        // When
+        consumer.consume(chunkEvent(5L));
+
+        // Then
+        verify(notifyFolloweeReviewUseCase).notifyFollowers(1L, 100L, List.of(12L));
+        verify(valueOperations).set(eq(CHECKPOINT_KEY), eq("done"), any(Duration.class));
+        verifyNoInteractions(kafkaTemplate);
+    }
+
+    @Test
+    @DisplayName("체크포인트와 커서가 다른 중복 이벤트는 처리하지 않는다")
+    void consume_StaleCursor_Skips() {
+        // Given
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get(CHECKPOINT_KEY)).thenReturn("9");
+
+        // When
+        consumer.consume(chunkEvent(5L));
+
+        // Then
+        verifyNoInteractions(followQueryPort, notifyFolloweeReviewUseCase, kafkaTemplate);
+        verify(valueOperations, never()).set(anyString(), anyString(), any(Duration.class));
+    }
+
+    @Test
+    @DisplayName("이미 시작했거나 완료된 팬아웃의 REVIEW_CREATED 재전달은 무시한다")
+    void consume_RedeliveredReviewCreated_Skips() {
+        // Given
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get(CHECKPOINT_KEY)).thenReturn("done");
+
+        // When
+        consumer.consume(reviewCreated("PUBLIC"));
+
+        // Then
+        verifyNoInteractions(followQueryPort, notifyFolloweeReviewUseCase, kafkaTemplate);
+    }
+
+    @Test
+    @DisplayName("다음 청크 이벤트 발행에 실패하면 체크포인트를 옮기지 않고 예외를 던진다")
+    void consume_PublishFailure_KeepsCheckpoint() {
+        // Given
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get(CHECKPOINT_KEY)).thenReturn(null);
+        when(followQueryPort.loadFollowerChunk(1L, null, 2)).thenReturn(new FollowerChunk(List.of(10L, 11L), 5L));
+        when(kafkaTemplate.send(eq(EventTopics.NOTIFICATION_FANOUT), eq("100"), any(EventPayload.class)))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("broker down")));
+
+        // When & Then
+        assertThatThrownBy(() -> consumer.consume(reviewCreated("PUBLIC")))
+                .isInstanceOf(IllegalStateException.class);
+        verify(valueOperations, never()).set(anyString(), anyString(), any(Duration.class));
+    }
+
+    @Test
+    @DisplayName("공개되지 않은 리뷰는 팬아웃하지 않는다")
+    void consume_NonPublicReview_Skips() {
+        // When
+        consumer.consume(reviewCreated("PRIVATE"));
+
+        // Then
+        verifyNoInteractions(redisTemplate, followQueryPort, notifyFolloweeReviewUseCase, kafkaTemplate);
+    }
+
+    @Test
+    @DisplayName("REVIEW_CREATED 가 아닌 이벤트는 무시한다")
+    void consume_IgnoresOtherEvents() {
+        // When
+        consumer.consume(new EventPayload(
+                UUID.randomUUID(), "REVIEW_UPDATED", 1L, "REVIEW", "100", Map.of("visibility", "PUBLIC"),
+                Instant.now(), "api", 1));
+
+        // Then
+        verifyNoInteractions(redisTemplate, followQueryPort, notifyFolloweeReviewUseCase, kafkaTemplate);
+    }
+
+    private EventPayload reviewCreated(String visibility) {
+        return new EventPayload(
+                UUID.randomUUID(), "REVIEW_CREATED", 1L, "REVIEW", "100", Map.of("visibility", visibility),
+                Instant.now(), "api", 1);
+    }
+
+    private EventPayload chunkEvent(Long cursor) {
+        return new EventPayload(
+                UUID.randomUUID(), "REVIEW_FANOUT_CHUNK", 1L, "REVIEW", "100", Map.of("cursor", cursor),
+                Instant.now(), "notification-fanout", 1);
+    }
+}
@@ -0,0 +1,65 @@
+package org.yyubin.infrastructure.stream.kafka;
+
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.yyubin.application.event.EventPayload;
+import org.yyubin.application.review.port.ReviewCardCachePort;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ReviewCardCacheInvalidationConsumer 테스트")
+class ReviewCardCacheInvalidationConsumerTest {
+
+    @Mock
+    private ReviewCardCachePort reviewCardCachePort;
+
+    @InjectMocks
+    private ReviewCardCacheInvalidationConsumer consumer;
+
+    @Test
+    @DisplayName("REVIEW_UPDATED 이벤트는 대상 리뷰 카드를 무효화한다")
+    void consume_Updated_EvictsCard() {
+        // Given
+        EventPayload payload = new EventPayload(null, "REVIEW_UPDATED", 1L, "REVIEW", "10", Map.of("reviewId", 10L), null, null, 1);
+
+        // When
+        consumer.consume(payload);
+
+        // Then
+        verify(reviewCardCachePort).evict(10L);
+    }
+
+    @Test
+    @DisplayName("REVIEW_DELETED 이벤트는 메타데이터의 reviewId로도 무효화한다")
+    void consume_Deleted_UsesMetadata() {
+        // Given
+        EventPayload payload = new EventPayload(null, "REVIEW_DELETED", 1L, null, null, Map.of("reviewId", 11L), null, null, 1);
+
+        // When
+        consumer.consume(payload);
+
+        // Then
+        verify(reviewCardCachePort).evict(11L);
+    }
+
+    @Test
+    @DisplayName("조회 이벤트는 카드를 무효화하지 않는다")
+    void consume_Viewed_NoOp() {
+        // Given
+        EventPayload payload = new EventPayload(null, "REVIEW_VIEWED", 1L, "REVIEW", "10", Map.of("reviewId", 10L), null, null, 1);
+
+        // When
+        consumer.consume(payload);
+
+        // Then
+        verify(reviewCardCachePort, never()).evict(any());
+    }
+}
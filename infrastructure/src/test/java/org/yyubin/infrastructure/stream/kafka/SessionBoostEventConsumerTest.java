@@ -1,20 +1,41 @@
 package org.yyubin.infrastructure.stream.kafka;
 
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.invocation.Invocation;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisScriptingCommands;
+import org.springframework.data.redis.connection.RedisStringCommands;
 import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.yyubin.application.event.EventPayload;
 import org.yyubin.infrastructure.config.SessionBoostProperties;
-import org.yyubin.infrastructure.stream.metric.ReviewTrackingCounterAdapter;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.AdditionalMatchers.aryEq;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mockingDetails;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
@@ -27,11 +48,29 @@ class SessionBoostEventConsumerTest {
     private final SessionBoostProperties properties = new SessionBoostProperties();
 
     @Mock
-    private ReviewTrackingCounterAdapter reviewTrackingCounterAdapter;
+    private RedisConnection connection;
+
+    @Mock
+    private RedisScriptingCommands scriptingCommands;
+
+    @Mock
+    private RedisStringCommands stringCommands;
 
-    @InjectMocks
     private SessionBoostEventConsumer consumer;
 
+    @BeforeEach
+    void setUp() {
+        consumer = new SessionBoostEventConsumer(redisTemplate, properties);
+        lenient().when(redisTemplate.getStringSerializer()).thenReturn(RedisSerializer.string());
+        lenient().when(connection.scriptingCommands()).thenReturn(scriptingCommands);
+        lenient().when(connection.stringCommands()).thenReturn(stringCommands);
+        lenient().when(redisTemplate.executePipelined(any(RedisCallback.class))).thenAnswer(invocation -> {
+            RedisCallback<?> callback = invocation.getArgument(0);
+            callback.doInRedis(connection);
+            return List.of();
+        });
+    }
+
     @Test
     @DisplayName("userId가 null이면 아무 작업도 하지 않는다")
     void consume_NullUserId_NoOp() {
@@ -39,11 +78,10 @@ class SessionBoostEventConsumerTest {
         EventPayload payload = new EventPayload(null, "REVIEW_CLICKED", null, null, null, Map.of("reviewId", 1L), null, null, 1);
 
         // When
-        consumer.consume(payload);
+        consumer.consume(List.of(payload));
 
         // Then
         verify(redisTemplate, never()).executePipelined(any(RedisCallback.class));
-        verify(reviewTrackingCounterAdapter, never()).incrementClick(any());
     }
 
     @Test
@@ -53,24 +91,23 @@ class SessionBoostEventConsumerTest {
         EventPayload payload = new EventPayload(null, "REVIEW_CLICKED", 1L, null, null, Map.of(), null, null, 1);
 
         // When
-        consumer.consume(payload);
+        consumer.consume(List.of(payload));
 
         // Then
         verify(redisTemplate, never()).executePipelined(any(RedisCallback.class));
-        verify(reviewTrackingCounterAdapter, never()).incrementClick(any());
     }
 
     @Test
     @DisplayName("REVIEW_CLICKED 이벤트는 클릭 카운트를 증가시킨다")
     void consume_Click_IncrementsCounter() {
         // Given
-        EventPayload payload = new EventPayload(null, "REVIEW_CLICKED", 1L, null, null, Map.of("reviewId", 10L), null, null, 1);
+        EventPayload payload = event(1L, "REVIEW_CLICKED", 10L);
 
         // When
-        consumer.consume(payload);
+        consumer.consume(List.of(payload));
 
         // Then
-        verify(reviewTrackingCounterAdapter).incrementClick(10L);
+        verify(stringCommands).incrBy(bytes("metric:review:click:10"), eq(1L));
         verify(redisTemplate).executePipelined(any(RedisCallback.class));
     }
 
@@ -91,10 +128,11 @@ class SessionBoostEventConsumerTest {
         );
 
         // When
-        consumer.consume(payload);
+        consumer.consume(List.of(payload));
 
         // Then
-        verify(reviewTrackingCounterAdapter).addDwell(10L, 5000L);
+        verify(stringCommands).incrBy(bytes("metric:review:dwell:sum:10"), eq(5000L));
+        verify(stringCommands).incrBy(bytes("metric:review:dwell:count:10"), eq(1L));
         verify(redisTemplate).executePipelined(any(RedisCallback.class));
     }
 
@@ -102,13 +140,133 @@ class SessionBoostEventConsumerTest {
     @DisplayName("REVIEW_REACHED 이벤트는 도달 카운트를 증가시킨다")
     void consume_Reached_IncrementsReach() {
         // Given
-        EventPayload payload = new EventPayload(null, "REVIEW_REACHED", 1L, null, null, Map.of("reviewId", 11L), null, null, 1);
+        EventPayload payload = event(1L, "REVIEW_REACHED", 11L);
 
         // When
-        consumer.consume(payload);
+        consumer.consume(List.of(payload));
 
         // Then
-        verify(reviewTrackingCounterAdapter).incrementReach(11L);
+        verify(stringCommands).incrBy(bytes("metric:review:reach:11"), eq(1L));
         verify(redisTemplate).executePipelined(any(RedisCallback.class));
     }
+
+    @Test
+    @DisplayName("트래킹 카운터는 키별로 합쳐 세션 부스트와 같은 파이프라인에서 반영한다")
+    void consume_TrackingCountersFoldedIntoPipeline() {
+        // Given
+        List<EventPayload> payloads = List.of(
+                event(1L, "REVIEW_CLICKED", 10L),
+                event(2L, "REVIEW_CLICKED", 10L),
+                event(3L, "REVIEW_CLICKED", 10L),
+                event(1L, "REVIEW_REACHED", 11L)
+        );
+
+        // When
+        consumer.consume(payloads);
+
+        // Then
+        verify(redisTemplate, times(1)).executePipelined(any(RedisCallback.class));
+        verify(stringCommands).incrBy(bytes("metric:review:click:10"), eq(3L));
+        verify(stringCommands).incrBy(bytes("metric:review:reach:11"), eq(1L));
+        verify(stringCommands, times(2)).incrBy(any(byte[].class), anyLong());
+    }
+
+    @Test
+    @DisplayName("Redis 오류는 예외로 올리지 않아 배치가 재처리되며 카운터가 중복 증가하지 않는다")
+    void consume_RedisFailure_NotRethrown() {
+        // Given
+        doThrow(new RedisConnectionFailureException("redis down"))
+                .when(redisTemplate).executePipelined(any(RedisCallback.class));
+
+        // When & Then
+        assertThatCode(() -> consumer.consume(List.of(event(1L, "REVIEW_CLICKED", 10L))))
+                .doesNotThrowAnyException();
+        verify(redisTemplate, times(1)).executePipelined(any(RedisCallback.class));
+    }
+
+    @Test
+    @DisplayName("배치 안의 증분을 (세션, 리뷰)별로 합쳐 세션마다 스크립트 한 번으로 반영한다")
+    void consume_CoalescesPerSessionAndReview() {
+        // Given
+        List<EventPayload> payloads = List.of(
+                event(1L, "REVIEW_CLICKED", 10L),
+                event(1L, "REVIEW_CLICKED", 10L),
+                event(1L, "REVIEW_VIEWED", 10L),
+                event(1L, "REACTION_UPSERTED", 20L),
+                event(2L, "BOOKMARK_ADD", 10L)
+        );
+
+        // When
+        consumer.consume(payloads);
+
+        // Then
+        verify(redisTemplate, times(1)).executePipelined(any(RedisCallback.class));
+        List<List<String>> evals = evalArguments();
+        assertThat(evals).hasSize(2);
+
+        List<String> first = evals.get(0);
+        assertThat(first.subList(0, 4)).containsExactly("session:user:1:reviews", "3600", "100", "120");
+        Map<String, Double> increments = increments(first);
+        assertThat(increments).containsOnlyKeys("10", "20");
+        assertThat(increments.get("10")).isCloseTo(0.12 + 0.12 + 0.02, within(1e-9));
+        assertThat(increments.get("20")).isCloseTo(0.1, within(1e-9));
+
+        assertThat(evals.get(1).get(0)).isEqualTo("session:user:2:reviews");
+        assertThat(increments(evals.get(1))).containsOnlyKeys("10");
+    }
+
+    @Test
+    @DisplayName("10,000 이벤트를 poll 배치(500)로 받으면 Redis 명령 수가 배치 × 세션 수로 줄어든다")
+    void consume_TenThousandEvents_RedisOps() {
+        // Given
+        int events = 10_000;
+        int pollSize = 500;
+        int users = 50;
+        List<EventPayload> all = new ArrayList<>(events);
+        for (int i = 0; i < events; i++) {
+            all.add(event((long) (i % users) + 1, "REVIEW_VIEWED", (long) (i % 37) + 1));
+        }
+
+        // When
+        for (int from = 0; from < events; from += pollSize) {
+            consumer.consume(all.subList(from, from + pollSize));
+        }
+
+        // Then
+        int before = events * 3; // 이벤트마다 HINCRBYFLOAT + EXPIRE + EVAL
+        int after = evalArguments().size();
+        assertThat(after).isEqualTo((events / pollSize) * users);
+        assertThat(after).isLessThan(before / 25);
+        verify(redisTemplate, times(events / pollSize)).executePipelined(any(RedisCallback.class));
+    }
+
+    private EventPayload event(Long userId, String eventType, Long reviewId) {
+        return new EventPayload(null, eventType, userId, null, null, Map.of("reviewId", reviewId), null, null, 1);
+    }
+
+    private static byte[] bytes(String value) {
+        return aryEq(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private List<List<String>> evalArguments() {
+        List<List<String>> evals = new ArrayList<>();
+        for (Invocation invocation : mockingDetails(scriptingCommands).getInvocations()) {
+            if (!invocation.getMethod().getName().equals("eval")) {
+                continue;
+            }
+            Object[] arguments = invocation.getArguments();
+            evals.add(Arrays.stream(arguments, 3, arguments.length)
+                    .map(argument -> new String((byte[]) argument, StandardCharsets.UTF_8))
+                    .collect(Collectors.toList()));
+        }
+        return evals;
+    }
+
+    private Map<String, Double> increments(List<String> evalArguments) {
+        Map<String, Double> increments = new HashMap<>();
+        for (int i = 4; i + 1 < evalArguments.size(); i += 2) {
+            increments.put(evalArguments.get(i), Double.parseDouble(evalArguments.get(i + 1)));
+        }
+        return increments;
+    }
 }
@@ -0,0 +1,124 @@
+package org.yyubin.infrastructure.stream.metric;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+import org.yyubin.application.review.port.ReviewViewFlushPort;
+import org.yyubin.infrastructure.config.MetricProperties;
+
+/**
+ * 실제 Redis HLL 로 조회수 카운터를 정확한 고유 사용자 수와 비교
+ * - 허용 오차는 HLL 표준 오차(0.81%)의 3배
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("ReviewViewMetricAdapter Redis 테스트")
+class ReviewViewMetricAdapterRedisTest {
+
+    @Container
+    static final GenericContainer<?> REDIS = new GenericContainer<>(DockerImageName.parse("redis:7.2-alpine"))
+            .withExposedPorts(6379);
+
+    private static final double ERROR_BOUND = 3 * 0.0081;
+
+    private LettuceConnectionFactory connectionFactory;
+    private StringRedisTemplate redisTemplate;
+    private ReviewViewFlushPort reviewViewFlushPort;
+    private ReviewViewMetricAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        connectionFactory = new LettuceConnectionFactory(REDIS.getHost(), REDIS.getMappedPort(6379));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+        redisTemplate.execute((RedisCallback<Void>) connection -> {
+            connection.serverCommands().flushAll();
+            return null;
+        });
+
+        reviewViewFlushPort = mock(ReviewViewFlushPort.class);
+        when(reviewViewFlushPort.findCurrentViewCount(1L)).thenReturn(Optional.of(100L));
+        adapter = new ReviewViewMetricAdapter(redisTemplate, new MetricProperties(), reviewViewFlushPort);
+    }
+
+    @AfterEach
+    void tearDown() {
+        connectionFactory.destroy();
+    }
+
+    @Test
+    @DisplayName("같은 사용자의 반복 조회는 한 번만 세고, 익명 조회는 매번 센다 (증분 키에는 기준값 제외)")
+    void incrementAndGet_DedupsViewersOnly() {
+        // When
+        adapter.incrementAndGet(1L, 7L);
+        adapter.incrementAndGet(1L, 7L);
+        adapter.incrementAndGet(1L, null);
+        long result = adapter.incrementAndGet(1L, null);
+
+        // Then
+        assertThat(result).isEqualTo(100L + 1 + 2);
+        assertThat(adapter.getCachedCount(1L)).contains(103L);
+        assertThat(redisTemplate.opsForValue().get("metric:review:viewdelta:1")).isEqualTo("3");
+    }
+
+    @Test
+    @DisplayName("레지스터 수보다 많은 고유 사용자도 HLL 오차 범위 안에서 센다")
+    void incrementAndGet_WithinHllErrorBound() {
+        // Given
+        int uniqueViewers = 40_000;
+
+        // When
+        for (long userId = 1; userId <= uniqueViewers; userId++) {
+            adapter.incrementAndGet(1L, userId);
+        }
+        for (long userId = 1; userId <= uniqueViewers; userId += 10) {
+            adapter.incrementAndGet(1L, userId);
+        }
+
+        // Then
+        long counted = adapter.getCachedCount(1L).orElseThrow() - 100L;
+        assertThat(Math.abs(counted - uniqueViewers) / (double) uniqueViewers).isLessThan(ERROR_BOUND);
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 같은 사용자들로 동시에 조회해도 중복으로 세지 않는다")
+    void incrementAndGet_ConcurrentViewers() {
+        // Given
+        int uniqueViewers = 2_000;
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        // When
+        try {
+            CompletableFuture.allOf(IntStream.range(0, 8)
+                    .mapToObj(thread -> CompletableFuture.runAsync(() -> {
+                        for (long userId = 1; userId <= uniqueViewers; userId++) {
+                            adapter.incrementAndGet(1L, userId);
+                        }
+                    }, executor))
+                    .toArray(CompletableFuture[]::new)).join();
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // Then
+        long counted = adapter.getCachedCount(1L).orElseThrow() - 100L;
+        assertThat(Math.abs(counted - uniqueViewers) / (double) uniqueViewers).isLessThan(ERROR_BOUND);
+    }
+}
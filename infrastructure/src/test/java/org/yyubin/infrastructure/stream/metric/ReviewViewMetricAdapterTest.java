@@ -1,6 +1,6 @@
 package org.yyubin.infrastructure.stream.metric;
 
-import java.time.Duration;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -14,15 +14,17 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.core.SetOperations;
 import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.yyubin.application.review.port.ReviewViewFlushPort;
 import org.yyubin.infrastructure.config.MetricProperties;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -31,6 +33,9 @@ import static org.mockito.Mockito.when;
 @DisplayName("ReviewViewMetricAdapter 테스트")
 class ReviewViewMetricAdapterTest {
 
+    private static final List<String> KEYS = List.of(
+            "metric:review:view:1", "metric:review:viewhll:1", "metric:review:viewdelta:1");
+
     @Mock
     private RedisTemplate<String, String> redisTemplate;
 
@@ -43,18 +48,14 @@ class ReviewViewMetricAdapterTest {
     @Mock
     private ValueOperations<String, String> valueOperations;
 
-    @Mock
-    private SetOperations<String, String> setOperations;
-
     @InjectMocks
     private ReviewViewMetricAdapter adapter;
 
     @BeforeEach
     void setUp() {
         when(redisTemplate.opsForValue()).thenReturn(valueOperations);
-        when(redisTemplate.opsForSet()).thenReturn(setOperations);
         when(metricProperties.getDedupTtlSeconds()).thenReturn(3600L);
-        when(metricProperties.getCounterTtlSeconds()).thenReturn(3600L);
+        when(metricProperties.getCounterTtlSeconds()).thenReturn(7200L);
     }
 
     @Test
@@ -65,59 +66,99 @@ class ReviewViewMetricAdapterTest {
 
         // Then
         assertThat(result).isEqualTo(0L);
-        verify(redisTemplate, never()).opsForSet();
-        verify(redisTemplate, never()).opsForValue();
+        verify(redisTemplate, never()).execute(any(RedisScript.class), anyList(), any(Object[].class));
     }
 
     @Test
-    @DisplayName("이미 본 사용자면 캐시/DB 값으로 반환한다")
-    void incrementAndGet_Dedup_ReturnsExistingCount() {
+    @DisplayName("카운터가 있으면 스크립트 한 번으로 끝나고 DB 를 조회하지 않는다")
+    void incrementAndGet_CounterExists_SingleRoundTrip() {
         // Given
-        when(setOperations.add("metric:review:viewdedup:1", "2")).thenReturn(0L);
-        when(valueOperations.get("metric:review:view:1")).thenReturn("7");
+        when(redisTemplate.execute(ReviewViewMetricAdapter.VIEW_SCRIPT, KEYS, "2", "7200", "3600", ""))
+                .thenReturn(8L);
 
         // When
         long result = adapter.incrementAndGet(1L, 2L);
 
         // Then
-        assertThat(result).isEqualTo(7L);
-        verify(valueOperations, never()).increment("metric:review:view:1");
-        verify(redisTemplate).expire(eq("metric:review:viewdedup:1"), any(Duration.class));
+        assertThat(result).isEqualTo(8L);
+        verify(redisTemplate, times(1)).execute(any(RedisScript.class), anyList(), any(Object[].class));
+        verify(reviewViewFlushPort, never()).findCurrentViewCount(anyLong());
     }
 
     @Test
-    @DisplayName("카운터 초기화 후 증가시킨다")
-    void incrementAndGet_InitializesAndIncrements() {
+    @DisplayName("카운터가 없으면 DB 조회수를 기준값으로 넘겨 다시 실행한다")
+    void incrementAndGet_CounterMissing_RetriesWithDbBase() {
         // Given
-        when(setOperations.add("metric:review:viewdedup:1", "2")).thenReturn(1L);
-        when(valueOperations.get("metric:review:view:1")).thenReturn(null);
+        when(redisTemplate.execute(ReviewViewMetricAdapter.VIEW_SCRIPT, KEYS, "2", "7200", "3600", ""))
+                .thenReturn(-1L);
         when(reviewViewFlushPort.findCurrentViewCount(1L)).thenReturn(Optional.of(5L));
-        when(valueOperations.increment("metric:review:view:1")).thenReturn(6L);
+        when(redisTemplate.execute(ReviewViewMetricAdapter.VIEW_SCRIPT, KEYS, "2", "7200", "3600", "5"))
+                .thenReturn(6L);
 
         // When
         long result = adapter.incrementAndGet(1L, 2L);
 
         // Then
         assertThat(result).isEqualTo(6L);
-        verify(valueOperations).setIfAbsent(eq("metric:review:view:1"), eq("5"), any(Duration.class));
-        verify(redisTemplate).expire(eq("metric:review:view:1"), any(Duration.class));
+        verify(reviewViewFlushPort).findCurrentViewCount(1L);
+    }
+
+    @Test
+    @DisplayName("익명 조회는 빈 사용자 ID 로 실행한다 (중복 방지 없음)")
+    void incrementAndGet_Anonymous_PassesEmptyViewer() {
+        // Given
+        when(redisTemplate.execute(ReviewViewMetricAdapter.VIEW_SCRIPT, KEYS, "", "7200", "3600", ""))
+                .thenReturn(3L);
+
+        // When
+        long result = adapter.incrementAndGet(1L, null);
+
+        // Then
+        assertThat(result).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("배치 조회는 MGET 한 번으로 캐시된 값만 반환한다")
+    void getBatchCachedCounts_SingleMget() {
+        // Given
+        when(valueOperations.multiGet(List.of("metric:review:view:1", "metric:review:view:2", "metric:review:view:3")))
+                .thenReturn(Arrays.asList("10", null, "bad"));
+
+        // When
+        Map<Long, Long> result = adapter.getBatchCachedCounts(List.of(1L, 2L, 3L));
+
+        // Then
+        assertThat(result).containsOnly(Map.entry(1L, 10L));
+    }
+
+    @Test
+    @DisplayName("배치 조회는 캐시 미스만 IN 쿼리 한 번으로 DB 폴백한다")
+    void getBatchCountsWithFallback_UsesSingleFallbackQueryForMisses() {
+        // Given
+        when(valueOperations.multiGet(List.of("metric:review:view:1", "metric:review:view:2", "metric:review:view:3")))
+                .thenReturn(Arrays.asList("10", null, null));
+        when(reviewViewFlushPort.findCurrentViewCounts(List.of(2L, 3L))).thenReturn(Map.of(2L, 20L));
+
+        // When
+        Map<Long, Long> result = adapter.getBatchCountsWithFallback(List.of(1L, 2L, 3L));
+
+        // Then
+        assertThat(result).containsOnly(Map.entry(1L, 10L), Map.entry(2L, 20L));
+        verify(reviewViewFlushPort).findCurrentViewCounts(List.of(2L, 3L));
+        verify(reviewViewFlushPort, never()).findCurrentViewCount(anyLong());
     }
 
     @Test
-    @DisplayName("배치 조회는 캐시 미스만 DB 폴백을 사용한다")
-    void getBatchCountsWithFallback_UsesFallbackForMisses() {
+    @DisplayName("모두 캐시에 있으면 DB 를 조회하지 않는다")
+    void getBatchCountsWithFallback_AllCached_NoDbQuery() {
         // Given
-        when(valueOperations.get("metric:review:view:1")).thenReturn("10");
-        when(valueOperations.get("metric:review:view:2")).thenReturn(null);
-        when(reviewViewFlushPort.findCurrentViewCount(2L)).thenReturn(Optional.of(20L));
+        when(valueOperations.multiGet(List.of("metric:review:view:1"))).thenReturn(List.of("10"));
 
         // When
-        Map<Long, Long> result = adapter.getBatchCountsWithFallback(List.of(1L, 2L));
+        Map<Long, Long> result = adapter.getBatchCountsWithFallback(List.of(1L));
 
         // Then
-        assertThat(result).containsEntry(1L, 10L);
-        assertThat(result).containsEntry(2L, 20L);
-        verify(reviewViewFlushPort).findCurrentViewCount(2L);
-        verify(reviewViewFlushPort, never()).findCurrentViewCount(1L);
+        assertThat(result).containsOnly(Map.entry(1L, 10L));
+        verify(reviewViewFlushPort, never()).findCurrentViewCounts(anyList());
     }
 }
@@ -1,28 +1,39 @@
 package org.yyubin.infrastructure.stream.outbox;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.redisson.api.RLock;
-import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
 import org.springframework.kafka.core.KafkaTemplate;
-import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.kafka.support.SendResult;
 import org.yyubin.application.event.EventPayload;
 import org.yyubin.application.event.OutboxEvent;
 import org.yyubin.application.event.OutboxPort;
+import org.yyubin.infrastructure.config.OutboxProcessorProperties;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.contains;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -36,98 +47,207 @@ class OutboxProcessorTest {
     @Mock
     private KafkaTemplate<String, EventPayload> kafkaTemplate;
 
-    @Mock
-    private RedissonClient redissonClient;
+    private SimpleMeterRegistry registry;
+    private OutboxProcessorProperties properties;
+    private OutboxProcessor processor;
 
-    @Mock
-    private RLock lock;
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        properties = new OutboxProcessorProperties();
+        properties.setBatchSize(10);
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory(Map.of("meterRegistry", registry));
+        processor = new OutboxProcessor(outboxPort, kafkaTemplate, properties, beanFactory.getBeanProvider(MeterRegistry.class));
+    }
 
-    @InjectMocks
-    private OutboxProcessor processor;
+    @Test
+    @DisplayName("선점한 이벤트가 없으면 전송하지 않는다")
+    void process_NothingClaimed_NoOp() {
+        // Given
+        when(outboxPort.claimPending(anyString(), eq(10), any(Duration.class))).thenReturn(List.of());
+
+        // When
+        processor.process();
+
+        // Then
+        verify(kafkaTemplate, never()).send(anyString(), anyString(), any(EventPayload.class));
+        verify(outboxPort, never()).markSentAll(anyCollection());
+    }
 
     @Test
-    @DisplayName("락 획득 실패 시 처리하지 않는다")
-    void process_LockNotAcquired_NoOp() throws Exception {
+    @DisplayName("최대 재시도 초과 이벤트는 DEAD로 일괄 마킹한다")
+    void process_MaxRetry_MarksDead() {
         // Given
-        when(redissonClient.getLock(anyString())).thenReturn(lock);
-        when(lock.tryLock(org.mockito.ArgumentMatchers.anyLong(), org.mockito.ArgumentMatchers.anyLong(), any())).thenReturn(false);
-        when(lock.isHeldByCurrentThread()).thenReturn(false);
+        OutboxEvent event = event(1L, "key", 5);
+        when(outboxPort.claimPending(anyString(), eq(10), any(Duration.class))).thenReturn(List.of(event));
 
         // When
         processor.process();
 
         // Then
-        verify(outboxPort, never()).findPending(anyInt());
-        verify(lock, never()).unlock();
+        verify(outboxPort).markDeadAll(List.of(1L), "Max retry count exceeded: 5");
+        verify(kafkaTemplate, never()).send(anyString(), anyString(), any(EventPayload.class));
+        assertThat(outcome("dead")).isEqualTo(1.0);
     }
 
     @Test
-    @DisplayName("최대 재시도 초과 이벤트는 DEAD로 마킹한다")
-    void process_MaxRetry_MarksDead() throws Exception {
+    @DisplayName("배치 전송 성공 시 SENT로 한 번에 마킹한다")
+    void process_PublishSuccess_MarksSentInBulk() {
         // Given
-        when(redissonClient.getLock(anyString())).thenReturn(lock);
-        when(lock.tryLock(org.mockito.ArgumentMatchers.anyLong(), org.mockito.ArgumentMatchers.anyLong(), any())).thenReturn(true);
-        when(lock.isHeldByCurrentThread()).thenReturn(true);
+        OutboxEvent first = event(2L, "a", 0);
+        OutboxEvent second = event(3L, "b", 0);
+        when(outboxPort.claimPending(anyString(), eq(10), any(Duration.class))).thenReturn(List.of(first, second));
+        when(kafkaTemplate.send(anyString(), anyString(), any(EventPayload.class)))
+                .thenReturn(CompletableFuture.completedFuture(null));
 
-        ReflectionTestUtils.setField(processor, "batchSize", 10);
+        // When
+        processor.process();
 
-        EventPayload payload = new EventPayload(null, "EVENT", 1L, null, null, null, null, null, 1);
-        OutboxEvent event = new OutboxEvent(1L, "topic", "key", payload, Instant.now(), OutboxEvent.OutboxStatus.PENDING, 5, null);
-        when(outboxPort.findPending(10)).thenReturn(List.of(event));
+        // Then
+        verify(outboxPort).markSentAll(org.mockito.ArgumentMatchers.argThat(ids -> ids.containsAll(List.of(2L, 3L)) && ids.size() == 2));
+        verify(outboxPort, never()).markSent(any());
+        verify(outboxPort, never()).release(anyCollection());
+        assertThat(outcome("sent")).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("발행 실패 시 FAILED로 마킹한다")
+    void process_PublishFailure_MarksFailed() {
+        // Given
+        OutboxEvent event = event(3L, "key", 0);
+        when(outboxPort.claimPending(anyString(), eq(10), any(Duration.class))).thenReturn(List.of(event));
+        when(kafkaTemplate.send("topic", "key", event.payload()))
+                .thenReturn(CompletableFuture.failedFuture(new RuntimeException("fail")));
 
         // When
         processor.process();
 
         // Then
-        verify(outboxPort).markDead(1L, "Max retry count exceeded: 5");
-        verify(kafkaTemplate, never()).send(anyString(), anyString(), any(EventPayload.class));
-        verify(lock).unlock();
+        verify(outboxPort).markFailedAll(eq(List.of(3L)), contains("fail"));
+        assertThat(outcome("failed")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("같은 key 의 앞 이벤트가 실패하면 뒤 이벤트는 보내지 않고 선점만 해제한다")
+    void process_SameKeyFailure_ReleasesFollowingEvents() {
+        // Given
+        OutboxEvent first = event(4L, "user-1", 0);
+        OutboxEvent second = event(5L, "user-1", 0);
+        OutboxEvent other = event(6L, "user-2", 0);
+        when(outboxPort.claimPending(anyString(), eq(10), any(Duration.class))).thenReturn(List.of(first, second, other));
+        when(kafkaTemplate.send("topic", "user-1", first.payload()))
+                .thenReturn(CompletableFuture.failedFuture(new RuntimeException("broker down")));
+        when(kafkaTemplate.send("topic", "user-2", other.payload()))
+                .thenReturn(CompletableFuture.completedFuture(null));
+
+        // When
+        processor.process();
+
+        // Then
+        verify(kafkaTemplate, never()).send("topic", "user-1", second.payload());
+        verify(outboxPort).markSentAll(List.of(6L));
+        verify(outboxPort).markFailedAll(List.of(4L), "broker down");
+        verify(outboxPort).release(List.of(5L));
+        assertThat(outcome("released")).isEqualTo(1.0);
     }
 
     @Test
-    @DisplayName("발행 성공 시 SENT로 마킹한다")
-    void process_PublishSuccess_MarksSent() throws Exception {
+    @DisplayName("같은 key 의 이벤트는 앞 전송이 끝나기 전에는 보내지 않고, 보내는 중인 이벤트는 해제하지 않는다")
+    void process_SameKey_WaitsForPreviousSend() {
         // Given
-        when(redissonClient.getLock(anyString())).thenReturn(lock);
-        when(lock.tryLock(org.mockito.ArgumentMatchers.anyLong(), org.mockito.ArgumentMatchers.anyLong(), any())).thenReturn(true);
-        when(lock.isHeldByCurrentThread()).thenReturn(true);
+        properties.setSendTimeoutMs(50);
+        properties.setLeaseMs(200);
+        OutboxEvent first = event(7L, "user-1", 0);
+        OutboxEvent second = event(8L, "user-1", 0);
+        when(outboxPort.claimPending(anyString(), eq(10), any(Duration.class))).thenReturn(List.of(first, second));
+        when(kafkaTemplate.send("topic", "user-1", first.payload())).thenReturn(new CompletableFuture<>());
 
-        ReflectionTestUtils.setField(processor, "batchSize", 10);
+        // When
+        processor.process();
 
-        EventPayload payload = new EventPayload(null, "EVENT", 1L, null, null, null, null, null, 1);
-        OutboxEvent event = new OutboxEvent(2L, "topic", "key", payload, Instant.now(), OutboxEvent.OutboxStatus.PENDING, 0, null);
-        when(outboxPort.findPending(10)).thenReturn(List.of(event));
-        when(kafkaTemplate.send("topic", "key", payload)).thenReturn(CompletableFuture.completedFuture(null));
+        // Then
+        verify(kafkaTemplate, never()).send("topic", "user-1", second.payload());
+        verify(outboxPort).release(List.of(8L));
+        verify(outboxPort, never()).release(argThat(ids -> ids.contains(7L)));
+    }
+
+    @Test
+    @DisplayName("시간 초과 후에도 보내는 중인 전송은 lease 안에서 기다려 결과를 기록하고, 뒤 이벤트는 보내지 않는다")
+    void process_Timeout_WaitsForInFlightWithinLease() {
+        // Given
+        properties.setSendTimeoutMs(50);
+        properties.setLeaseMs(2_000);
+        OutboxEvent first = event(9L, "user-1", 0);
+        OutboxEvent second = event(10L, "user-1", 0);
+        when(outboxPort.claimPending(anyString(), eq(10), any(Duration.class))).thenReturn(List.of(first, second));
+        CompletableFuture<SendResult<String, EventPayload>> inFlight = new CompletableFuture<>();
+        when(kafkaTemplate.send("topic", "user-1", first.payload())).thenReturn(inFlight);
+        CompletableFuture.delayedExecutor(200, TimeUnit.MILLISECONDS).execute(() -> inFlight.complete(null));
 
         // When
         processor.process();
 
         // Then
-        verify(outboxPort).markSent(2L);
-        verify(lock).unlock();
+        verify(outboxPort).markSentAll(List.of(9L));
+        verify(outboxPort).release(List.of(10L));
+        verify(kafkaTemplate, never()).send("topic", "user-1", second.payload());
     }
 
     @Test
-    @DisplayName("발행 실패 시 FAILED로 마킹한다")
-    void process_PublishFailure_MarksFailed() throws Exception {
+    @DisplayName("전송 대기 시간이 lease 보다 길면 시작하지 않는다")
+    void constructor_SendTimeoutNotShorterThanLease_Throws() {
         // Given
-        when(redissonClient.getLock(anyString())).thenReturn(lock);
-        when(lock.tryLock(org.mockito.ArgumentMatchers.anyLong(), org.mockito.ArgumentMatchers.anyLong(), any())).thenReturn(true);
-        when(lock.isHeldByCurrentThread()).thenReturn(true);
+        OutboxProcessorProperties invalid = new OutboxProcessorProperties();
+        invalid.setLeaseMs(10_000);
+        invalid.setSendTimeoutMs(10_000);
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory(Map.of("meterRegistry", registry));
+
+        // When & Then
+        assertThatThrownBy(() -> new OutboxProcessor(outboxPort, kafkaTemplate, invalid, beanFactory.getBeanProvider(MeterRegistry.class)))
+                .isInstanceOf(IllegalStateException.class);
+    }
 
-        ReflectionTestUtils.setField(processor, "batchSize", 10);
+    @Test
+    @DisplayName("배치가 가득 차 있으면 최대 배치 수까지 이어서 처리한다")
+    void process_FullBatches_DrainsUpToLimit() {
+        // Given
+        properties.setBatchSize(2);
+        properties.setMaxBatchesPerRun(3);
+        when(outboxPort.claimPending(anyString(), eq(2), any(Duration.class)))
+                .thenReturn(List.of(event(1L, "a", 0), event(2L, "b", 0)))
+                .thenReturn(List.of(event(3L, "c", 0), event(4L, "d", 0)))
+                .thenReturn(List.of(event(5L, "e", 0)));
+        when(kafkaTemplate.send(anyString(), anyString(), any(EventPayload.class)))
+                .thenReturn(CompletableFuture.completedFuture(null));
 
-        EventPayload payload = new EventPayload(null, "EVENT", 1L, null, null, null, null, null, 1);
-        OutboxEvent event = new OutboxEvent(3L, "topic", "key", payload, Instant.now(), OutboxEvent.OutboxStatus.PENDING, 0, null);
-        when(outboxPort.findPending(10)).thenReturn(List.of(event));
-        when(kafkaTemplate.send("topic", "key", payload))
-                .thenReturn(CompletableFuture.failedFuture(new RuntimeException("fail")));
+        // When
+        processor.process();
+
+        // Then
+        verify(outboxPort, times(3)).claimPending(anyString(), anyInt(), any(Duration.class));
+        assertThat(outcome("sent")).isEqualTo(5.0);
+    }
+
+    @Test
+    @DisplayName("가장 오래된 PENDING 이벤트로 지연 시간을 측정한다")
+    void process_RecordsLag() {
+        // Given
+        when(outboxPort.findOldestPendingOccurredAt()).thenReturn(Optional.of(Instant.now().minusSeconds(30)));
+        when(outboxPort.claimPending(anyString(), eq(10), any(Duration.class))).thenReturn(List.of());
 
         // When
         processor.process();
 
         // Then
-        verify(outboxPort).markFailed(eq(3L), contains("fail"));
-        verify(lock).unlock();
+        assertThat(registry.get("outbox.processor.lag").gauge().value()).isBetween(29.0, 31.0);
+    }
+
+    private double outcome(String outcome) {
+        return registry.get("outbox.processor.events").tag("outcome", outcome).counter().count();
+    }
+
+    private OutboxEvent event(Long id, String key, int retryCount) {
+        EventPayload payload = new EventPayload(null, "EVENT-" + id, 1L, null, null, null, null, null, 1);
+        return new OutboxEvent(id, "topic", key, payload, Instant.now(), OutboxEvent.OutboxStatus.PENDING, retryCount, null);
     }
 }
@@ -0,0 +1,189 @@
+package org.yyubin.infrastructure.stream.telemetry;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.yyubin.application.event.EventPayload;
+import org.yyubin.infrastructure.config.TelemetryDeliveryProperties;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TelemetryEventPublisher 테스트")
+class TelemetryEventPublisherTest {
+
+    @Mock
+    private KafkaTemplate<String, EventPayload> kafkaTemplate;
+
+    private SimpleMeterRegistry registry;
+    private TelemetryDeliveryProperties properties;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        properties = new TelemetryDeliveryProperties();
+    }
+
+    @Test
+    @DisplayName("발행은 버퍼에만 넣고 Kafka 전송은 flush 에서 한다")
+    void publish_BuffersUntilFlush() {
+        // Given
+        TelemetryEventPublisher publisher = createPublisher();
+        EventPayload payload = payload("REVIEW_VIEWED");
+        CompletableFuture<SendResult<String, EventPayload>> sent = CompletableFuture.completedFuture(null);
+        when(kafkaTemplate.send("events.review", "1", payload)).thenReturn(sent);
+
+        // When
+        publisher.publish("events.review", "1", payload);
+
+        // Then
+        verify(kafkaTemplate, never()).send(anyString(), anyString(), any());
+        assertThat(registry.get("events.telemetry.buffer.size").gauge().value()).isEqualTo(1.0);
+
+        publisher.flush();
+
+        verify(kafkaTemplate).send("events.review", "1", payload);
+        assertThat(registry.get("events.telemetry.buffer.size").gauge().value()).isZero();
+        assertThat(registry.get("events.telemetry.sent").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("flush 는 배치 크기씩 나눠 버퍼를 비운다")
+    void flush_DrainsInBatches() {
+        // Given
+        properties.setBatchSize(2);
+        TelemetryEventPublisher publisher = createPublisher();
+        when(kafkaTemplate.send(anyString(), anyString(), any())).thenReturn(CompletableFuture.completedFuture(null));
+        for (int i = 0; i < 5; i++) {
+            publisher.publish("events.tracking", "k" + i, payload("IMPRESSION"));
+        }
+
+        // When
+        publisher.flush();
+
+        // Then
+        verify(kafkaTemplate, times(5)).send(anyString(), anyString(), any());
+    }
+
+    @Test
+    @DisplayName("flush 한 번은 최대 배치 수까지만 처리하고 나머지는 다음 flush 로 넘긴다")
+    void flush_CapsBatchesPerRun() {
+        // Given
+        properties.setBatchSize(2);
+        properties.setMaxBatchesPerFlush(2);
+        TelemetryEventPublisher publisher = createPublisher();
+        when(kafkaTemplate.send(anyString(), anyString(), any())).thenReturn(CompletableFuture.completedFuture(null));
+        for (int i = 0; i < 5; i++) {
+            publisher.publish("events.tracking", "k" + i, payload("IMPRESSION"));
+        }
+
+        // When
+        publisher.flush();
+
+        // Then
+        verify(kafkaTemplate, times(4)).send(anyString(), anyString(), any());
+        assertThat(registry.get("events.telemetry.buffer.size").gauge().value()).isEqualTo(1.0);
+
+        publisher.flush();
+        verify(kafkaTemplate, times(5)).send(anyString(), anyString(), any());
+    }
+
+    @Test
+    @DisplayName("종료 시에는 배치 수 제한 없이 버퍼를 모두 비운다")
+    void shutdown_DrainsEverything() {
+        // Given
+        properties.setBatchSize(2);
+        properties.setMaxBatchesPerFlush(1);
+        TelemetryEventPublisher publisher = createPublisher();
+        when(kafkaTemplate.send(anyString(), anyString(), any())).thenReturn(CompletableFuture.completedFuture(null));
+        for (int i = 0; i < 5; i++) {
+            publisher.publish("events.tracking", "k" + i, payload("IMPRESSION"));
+        }
+
+        // When
+        publisher.shutdown();
+
+        // Then
+        verify(kafkaTemplate, times(5)).send(anyString(), anyString(), any());
+        verify(kafkaTemplate).flush();
+    }
+
+    @Test
+    @DisplayName("버퍼가 가득 차면 버린 이벤트를 정책 태그와 함께 센다")
+    void publish_BufferFull_CountsDropped() {
+        // Given
+        properties.setBufferCapacity(2);
+        properties.setDropPolicy(TelemetryDeliveryProperties.DropPolicy.DROP_NEWEST);
+        TelemetryEventPublisher publisher = createPublisher();
+
+        // When
+        publisher.publish("events.tracking", "1", payload("CLICK"));
+        publisher.publish("events.tracking", "2", payload("CLICK"));
+        publisher.publish("events.tracking", "3", payload("CLICK"));
+
+        // Then
+        assertThat(registry.get("events.telemetry.dropped").tag("policy", "DROP_NEWEST").counter().count()).isEqualTo(1.0);
+        assertThat(registry.get("events.telemetry.enqueued").counter().count()).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("DROP_OLDEST 는 새 이벤트를 넣으므로 버려도 enqueued 로 센다")
+    void publish_BufferFull_DropOldest_CountsEnqueued() {
+        // Given
+        properties.setBufferCapacity(2);
+        properties.setDropPolicy(TelemetryDeliveryProperties.DropPolicy.DROP_OLDEST);
+        TelemetryEventPublisher publisher = createPublisher();
+
+        // When
+        publisher.publish("events.tracking", "1", payload("CLICK"));
+        publisher.publish("events.tracking", "2", payload("CLICK"));
+        publisher.publish("events.tracking", "3", payload("CLICK"));
+
+        // Then
+        assertThat(registry.get("events.telemetry.dropped").tag("policy", "DROP_OLDEST").counter().count()).isEqualTo(1.0);
+        assertThat(registry.get("events.telemetry.enqueued").counter().count()).isEqualTo(3.0);
+    }
+
+    @Test
+    @DisplayName("전송 실패는 재시도하지 않고 실패 카운터만 올린다")
+    void flush_SendFailure_Counted() {
+        // Given
+        TelemetryEventPublisher publisher = createPublisher();
+        when(kafkaTemplate.send(anyString(), anyString(), any()))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("broker down")));
+        publisher.publish("events.tracking", "1", payload("CLICK"));
+
+        // When
+        publisher.flush();
+        publisher.flush();
+
+        // Then
+        verify(kafkaTemplate, times(1)).send(anyString(), anyString(), any());
+        assertThat(registry.get("events.telemetry.send.failed").counter().count()).isEqualTo(1.0);
+    }
+
+    private TelemetryEventPublisher createPublisher() {
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory(Map.of("meterRegistry", registry));
+        return new TelemetryEventPublisher(kafkaTemplate, properties, beanFactory.getBeanProvider(MeterRegistry.class));
+    }
+
+    private EventPayload payload(String eventType) {
+        return new EventPayload(null, eventType, 1L, null, null, Map.of(), null, null, 1);
+    }
+}
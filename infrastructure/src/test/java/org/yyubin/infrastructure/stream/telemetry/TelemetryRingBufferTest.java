@@ -0,0 +1,88 @@
+package org.yyubin.infrastructure.stream.telemetry;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.yyubin.infrastructure.config.TelemetryDeliveryProperties.DropPolicy;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("TelemetryRingBuffer 테스트")
+class TelemetryRingBufferTest {
+
+    @Test
+    @DisplayName("넣은 순서대로 최대 개수만큼 꺼낸다")
+    void drainTo_FifoUpToMax() {
+        // Given
+        TelemetryRingBuffer<Integer> buffer = new TelemetryRingBuffer<>(4, DropPolicy.DROP_OLDEST);
+        buffer.offer(1);
+        buffer.offer(2);
+        buffer.offer(3);
+
+        // When
+        List<Integer> drained = new ArrayList<>();
+        int count = buffer.drainTo(drained, 2);
+
+        // Then
+        assertThat(count).isEqualTo(2);
+        assertThat(drained).containsExactly(1, 2);
+        assertThat(buffer.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("DROP_OLDEST - 가득 차면 가장 오래된 항목을 덮어쓴다")
+    void offer_DropOldest() {
+        // Given
+        TelemetryRingBuffer<Integer> buffer = new TelemetryRingBuffer<>(2, DropPolicy.DROP_OLDEST);
+        buffer.offer(1);
+        buffer.offer(2);
+
+        // When
+        int dropped = buffer.offer(3);
+
+        // Then
+        List<Integer> drained = new ArrayList<>();
+        buffer.drainTo(drained, 10);
+        assertThat(dropped).isEqualTo(1);
+        assertThat(drained).containsExactly(2, 3);
+    }
+
+    @Test
+    @DisplayName("DROP_NEWEST - 가득 차면 새 항목을 버린다")
+    void offer_DropNewest() {
+        // Given
+        TelemetryRingBuffer<Integer> buffer = new TelemetryRingBuffer<>(2, DropPolicy.DROP_NEWEST);
+        buffer.offer(1);
+        buffer.offer(2);
+
+        // When
+        int dropped = buffer.offer(3);
+
+        // Then
+        List<Integer> drained = new ArrayList<>();
+        buffer.drainTo(drained, 10);
+        assertThat(dropped).isEqualTo(1);
+        assertThat(drained).containsExactly(1, 2);
+    }
+
+    @Test
+    @DisplayName("꺼낸 뒤에는 감싼 위치에서 이어서 채운다")
+    void offer_WrapsAround() {
+        // Given
+        TelemetryRingBuffer<Integer> buffer = new TelemetryRingBuffer<>(3, DropPolicy.DROP_NEWEST);
+        buffer.offer(1);
+        buffer.offer(2);
+        buffer.drainTo(new ArrayList<>(), 2);
+
+        // When
+        buffer.offer(3);
+        buffer.offer(4);
+        buffer.offer(5);
+
+        // Then
+        List<Integer> drained = new ArrayList<>();
+        buffer.drainTo(drained, 10);
+        assertThat(drained).containsExactly(3, 4, 5);
+    }
+}
@@ -2,6 +2,7 @@ plugins {
     java
     id("org.springframework.boot") version "4.0.0"
     id("io.spring.dependency-management") version "1.1.7"
+    id("me.champeau.jmh") version "0.7.2"
 }
 
 group = "org.yyubin"
@@ -44,6 +45,9 @@ dependencies {
     // Kafka (event ingest)
     implementation("org.springframework.kafka:spring-kafka")
 
+    // Metrics
+    implementation("io.micrometer:micrometer-core")
+
     // JSON processing
     implementation("com.fasterxml.jackson.core:jackson-databind")
     implementation("com.fasterxml.jackson.datatype:jackson-datatype-jsr310")
@@ -61,6 +65,12 @@ tasks.withType<Test> {
     useJUnitPlatform()
 }
 
+// JMH 벤치마크 (src/jmh/java) - ./gradlew :recommendation:jmh
+jmh {
+    jmhVersion = "1.37"
+    fork = 1
+}
+
 // 라이브러리 모듈이므로 bootJar 비활성화
 tasks.named<org.springframework.boot.gradle.tasks.bundling.BootJar>("bootJar") {
     enabled = false
@@ -0,0 +1,176 @@
+package org.yyubin.recommendation.scoring;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.yyubin.recommendation.candidate.RecommendationCandidate;
+import org.yyubin.recommendation.candidate.ReviewRecommendationCandidate;
+import org.yyubin.recommendation.config.RecommendationProperties;
+import org.yyubin.recommendation.config.ReviewRecommendationProperties;
+import org.yyubin.recommendation.feature.BookFeatureStore;
+import org.yyubin.recommendation.scoring.review.ReviewBookContextScorer;
+import org.yyubin.recommendation.scoring.review.ReviewContentScorer;
+import org.yyubin.recommendation.scoring.review.ReviewEngagementScorer;
+import org.yyubin.recommendation.scoring.review.ReviewFreshnessScorer;
+import org.yyubin.recommendation.scoring.review.ReviewHybridScorer;
+import org.yyubin.recommendation.scoring.review.ReviewPopularityScorer;
+import org.yyubin.recommendation.search.repository.BookDocumentRepository;
+
+import java.lang.reflect.Proxy;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 하이브리드 스코어링 벤치마크 (외부 저장소 없이 CPU 비용만 측정)
+ * - perCandidate: batchCalculate (후보마다 스코어러 호출, HashMap boxing) + 전체 정렬 + 후보 재조회
+ * - columnar: scoreAll (스코어러별 컬럼, primitive 가중합) + topK 힙
+ *
+ * 인기도/신선도는 후보 도서를 채운 BookFeatureStore 에서 읽고, 참여도 스코어러의 Redis 호출은
+ * 세션 부스트가 없는 스텁으로 대체합니다.
+ * 실행: ./gradlew :recommendation:jmh -Pjmh.includes=HybridScorerBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class HybridScorerBenchmark {
+
+    private static final int TOP_K = 100;
+
+    @Param({"200", "2000", "20000"})
+    public int candidates;
+
+    private HybridScorer hybridScorer;
+    private ReviewHybridScorer reviewHybridScorer;
+    private List<RecommendationCandidate> bookCandidates;
+    private List<ReviewRecommendationCandidate> reviewCandidates;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        BookFeatureStore featureStore = new BookFeatureStore(
+                unusedRepository(),
+                new RecommendationProperties(),
+                new StaticListableBeanFactory().getBeanProvider(MeterRegistry.class)
+        );
+        hybridScorer = new HybridScorer(
+                new GraphScorer(),
+                new SemanticScorer(),
+                new PopularityScorer(featureStore),
+                new FreshnessScorer(featureStore),
+                new RecommendationProperties()
+        );
+        reviewHybridScorer = new ReviewHybridScorer(
+                new ReviewPopularityScorer(),
+                new ReviewFreshnessScorer(),
+                new NoSessionEngagementScorer(),
+                new ReviewContentScorer(),
+                new ReviewBookContextScorer(),
+                new ReviewRecommendationProperties()
+        );
+
+        SplittableRandom random = new SplittableRandom(7L);
+        RecommendationCandidate.CandidateSource[] bookSources = RecommendationCandidate.CandidateSource.values();
+        ReviewRecommendationCandidate.CandidateSource[] reviewSources =
+                ReviewRecommendationCandidate.CandidateSource.values();
+        LocalDateTime now = LocalDateTime.now();
+
+        bookCandidates = new ArrayList<>(candidates);
+        reviewCandidates = new ArrayList<>(candidates);
+        for (long id = 1; id <= candidates; id++) {
+            featureStore.add(id, random.nextInt(10_000), random.nextInt(100), random.nextInt(50));
+            bookCandidates.add(RecommendationCandidate.builder()
+                    .bookId(id)
+                    .source(bookSources[random.nextInt(bookSources.length)])
+                    .initialScore(random.nextDouble())
+                    .build());
+            reviewCandidates.add(ReviewRecommendationCandidate.builder()
+                    .reviewId(id)
+                    .bookId(random.nextLong(1, 1_000))
+                    .source(reviewSources[random.nextInt(reviewSources.length)])
+                    .initialScore(random.nextDouble())
+                    .createdAt(now.minusDays(random.nextInt(365)))
+                    .build());
+        }
+    }
+
+    @Benchmark
+    public void bookPerCandidate(Blackhole blackhole) {
+        Map<Long, Double> scores = hybridScorer.batchCalculate(1L, bookCandidates);
+        blackhole.consume(scores.entrySet().stream()
+                .sorted(Map.Entry.<Long, Double>comparingByValue().reversed())
+                .limit(TOP_K)
+                .toList());
+    }
+
+    @Benchmark
+    public void bookColumnar(Blackhole blackhole) {
+        ScoredCandidates<RecommendationCandidate> scored = hybridScorer.scoreAll(1L, bookCandidates);
+        blackhole.consume(scored.toMap(scored.topK(TOP_K)));
+    }
+
+    @Benchmark
+    public void reviewPerCandidate(Blackhole blackhole) {
+        Map<Long, Double> scores = reviewHybridScorer.batchCalculate(1L, null, reviewCandidates);
+        blackhole.consume(scores.entrySet().stream()
+                .sorted(Map.Entry.<Long, Double>comparingByValue().reversed())
+                .limit(TOP_K)
+                .toList());
+    }
+
+    @Benchmark
+    public void reviewColumnar(Blackhole blackhole) {
+        ScoredCandidates<ReviewRecommendationCandidate> scored =
+                reviewHybridScorer.scoreAll(1L, null, reviewCandidates);
+        blackhole.consume(scored.toMap(scored.topK(TOP_K)));
+    }
+
+    /**
+     * reconcile 을 호출하지 않으므로 쓰이지 않는 저장소
+     */
+    private static BookDocumentRepository unusedRepository() {
+        return (BookDocumentRepository) Proxy.newProxyInstance(
+                BookDocumentRepository.class.getClassLoader(),
+                new Class<?>[]{BookDocumentRepository.class},
+                (proxy, method, args) -> {
+                    throw new UnsupportedOperationException(method.getName());
+                }
+        );
+    }
+
+    /**
+     * 세션 부스트가 없는 사용자의 참여도 스코어러
+     */
+    private static class NoSessionEngagementScorer extends ReviewEngagementScorer {
+
+        NoSessionEngagementScorer() {
+            super(null);
+        }
+
+        @Override
+        public double score(Long userId, ReviewRecommendationCandidate candidate) {
+            return 0.0;
+        }
+
+        @Override
+        public void scoreInto(Long userId, List<ReviewRecommendationCandidate> candidates, double[] column) {
+            Arrays.fill(column, 0, candidates.size(), 0.0);
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package org.yyubin.recommendation.service;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.yyubin.recommendation.config.RecommendationProperties;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 추천 캐시 저장 벤치마크 (실제 Redis 필요)
+ * - legacyPerMemberWrites: 기존 방식 (DEL → 후보별 ZADD → ZCARD → ZREMRANGEBYRANK → EXPIRE)
+ * - scriptedReplace: RecommendationCacheService.saveRecommendations (스크립트 1회)
+ *
+ * roundTrips 보조 카운터는 저장 1회당 Redis 왕복 횟수입니다.
+ * 실행: REDIS_HOST=localhost REDIS_PORT=6379 ./gradlew :recommendation:jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class RecommendationCacheWriteBenchmark {
+
+    private static final String KEY_PREFIX = "recommend:user:";
+    private static final int MAX_CACHED_ITEMS = 100;
+
+    @Param({"50", "200", "500"})
+    public int candidates;
+
+    private LettuceConnectionFactory connectionFactory;
+    private StringRedisTemplate redisTemplate;
+    private RecommendationCacheService cacheService;
+    private RecommendationProperties properties;
+    private Map<Long, Double> recommendations;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class RoundTrips {
+        public long roundTrips;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            roundTrips = 0;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        String host = System.getenv().getOrDefault("REDIS_HOST", "localhost");
+        int port = Integer.parseInt(System.getenv().getOrDefault("REDIS_PORT", "6379"));
+        connectionFactory = new LettuceConnectionFactory(host, port);
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+        properties = new RecommendationProperties();
+        cacheService = new RecommendationCacheService(redisTemplate, properties, null);
+
+        SplittableRandom random = new SplittableRandom(7L);
+        recommendations = new HashMap<>();
+        for (long bookId = 1; bookId <= candidates; bookId++) {
+            recommendations.put(bookId, random.nextDouble());
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        redisTemplate.delete(KEY_PREFIX + "bench-legacy");
+        cacheService.clearRecommendations(-1L);
+        connectionFactory.destroy();
+    }
+
+    @Benchmark
+    public void legacyPerMemberWrites(RoundTrips counter) {
+        String key = KEY_PREFIX + "bench-legacy";
+        redisTemplate.delete(key);
+        for (Map.Entry<Long, Double> entry : recommendations.entrySet()) {
+            redisTemplate.opsForZSet().add(key, "book:" + entry.getKey(), entry.getValue());
+        }
+        long size = redisTemplate.opsForZSet().size(key);
+        long trips = 1L + recommendations.size() + 1L;
+        if (size > MAX_CACHED_ITEMS) {
+            redisTemplate.opsForZSet().removeRange(key, 0, size - MAX_CACHED_ITEMS - 1);
+            trips++;
+        }
+        redisTemplate.expire(key, properties.getCache().getTtlHours(), TimeUnit.HOURS);
+        counter.roundTrips += trips + 1;
+    }
+
+    @Benchmark
+    public void scriptedReplace(RoundTrips counter) {
+        cacheService.saveRecommendations(-1L, recommendations);
+        counter.roundTrips += 1;
+    }
+}
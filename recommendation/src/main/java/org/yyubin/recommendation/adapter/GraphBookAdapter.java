@@ -1,7 +1,14 @@
 package org.yyubin.recommendation.adapter;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import org.springframework.stereotype.Component;
+import org.yyubin.recommendation.graph.node.AuthorNode;
+import org.yyubin.recommendation.graph.node.GenreNode;
+import org.yyubin.recommendation.graph.node.TopicNode;
+import org.yyubin.recommendation.graph.writer.GraphBulkWriter;
 import org.yyubin.recommendation.port.GraphBookPort;
 import org.yyubin.recommendation.graph.node.BookNode;
 import org.yyubin.recommendation.graph.repository.BookNodeRepository;
@@ -9,14 +16,60 @@ import org.yyubin.recommendation.graph.repository.BookNodeRepository;
 /**
  * GraphBookPort 구현체
  * Batch 모듈에서 BookNode를 Neo4j에 저장할 때 사용
+ *
+ * upsertAll 은 청크당 구문 5개 (도서 노드 / 오래된 관계 삭제 / WRITTEN_BY / BELONGS_TO_GENRE / HAS_TOPIC)
+ * - 저자/장르/토픽 노드는 동기화 대상 속성만 갱신 (설명 같은 다른 속성은 덮어쓰지 않음)
  */
 @Component
 public class GraphBookAdapter implements GraphBookPort {
 
+    static final String UPSERT_BOOKS = """
+            UNWIND $rows AS row
+            MERGE (b:Book {id: row.id})
+            SET b.title = row.title, b.isbn = row.isbn, b.description = row.description,
+                b.publishedDate = row.publishedDate, b.viewCount = row.viewCount,
+                b.wishlistCount = row.wishlistCount, b.reviewCount = row.reviewCount
+            """;
+
+    static final String DELETE_STALE_RELATIONSHIPS = """
+            UNWIND $rows AS row
+            MATCH (b:Book {id: row.id})-[r:WRITTEN_BY|BELONGS_TO_GENRE|HAS_TOPIC]->(t)
+            WHERE (type(r) = 'WRITTEN_BY' AND NOT t.id IN row.authorIds)
+               OR (type(r) = 'BELONGS_TO_GENRE' AND NOT t.name IN row.genreNames)
+               OR (type(r) = 'HAS_TOPIC' AND NOT t.name IN row.topicNames)
+            DELETE r
+            """;
+
+    static final String MERGE_AUTHORS = """
+            UNWIND $rows AS row
+            MATCH (b:Book {id: row.bookId})
+            MERGE (a:Author {id: row.id})
+            SET a.name = row.name
+            MERGE (b)-[:WRITTEN_BY]->(a)
+            """;
+
+    static final String MERGE_GENRES = """
+            UNWIND $rows AS row
+            MATCH (b:Book {id: row.bookId})
+            MERGE (g:Genre {name: row.name})
+            SET g.bookCount = coalesce(row.bookCount, g.bookCount)
+            MERGE (b)-[:BELONGS_TO_GENRE]->(g)
+            """;
+
+    static final String MERGE_TOPICS = """
+            UNWIND $rows AS row
+            MATCH (b:Book {id: row.bookId})
+            MERGE (t:Topic {name: row.name})
+            SET t.bookCount = coalesce(row.bookCount, t.bookCount)
+            MERGE (b)-[:HAS_TOPIC]->(t)
+            """;
+
     private final BookNodeRepository bookNodeRepository;
+    private final GraphBulkWriter graphBulkWriter;
 
-    public GraphBookAdapter(BookNodeRepository bookNodeRepository) {
+    public GraphBookAdapter(BookNodeRepository bookNodeRepository, GraphBulkWriter graphBulkWriter) {
         this.bookNodeRepository = bookNodeRepository;
+        this.graphBulkWriter = graphBulkWriter;
     }
 
     @Override
@@ -25,4 +78,67 @@ public class GraphBookAdapter implements GraphBookPort {
         bookNodeRepository.saveAll(books).forEach(result::add);
         return result;
     }
+
+    @Override
+    public void upsertAll(List<? extends BookNode> books) {
+        if (books.isEmpty()) {
+            return;
+        }
+
+        List<Map<String, Object>> bookRows = new ArrayList<>(books.size());
+        List<Map<String, Object>> authorRows = new ArrayList<>();
+        List<Map<String, Object>> genreRows = new ArrayList<>();
+        List<Map<String, Object>> topicRows = new ArrayList<>();
+        for (BookNode book : books) {
+            List<Long> authorIds = new ArrayList<>();
+            for (AuthorNode author : book.getAuthors()) {
+                Map<String, Object> row = new HashMap<>();
+                row.put("bookId", book.getId());
+                row.put("id", author.getId());
+                row.put("name", author.getName());
+                authorRows.add(row);
+                authorIds.add(author.getId());
+            }
+
+            List<String> genreNames = new ArrayList<>();
+            for (GenreNode genre : book.getGenres()) {
+                genreRows.add(tagRow(book.getId(), genre.getName(), genre.getBookCount()));
+                genreNames.add(genre.getName());
+            }
+
+            List<String> topicNames = new ArrayList<>();
+            for (TopicNode topic : book.getTopics()) {
+                topicRows.add(tagRow(book.getId(), topic.getName(), topic.getBookCount()));
+                topicNames.add(topic.getName());
+            }
+
+            Map<String, Object> row = new HashMap<>();
+            row.put("id", book.getId());
+            row.put("title", book.getTitle());
+            row.put("isbn", book.getIsbn());
+            row.put("description", book.getDescription());
+            row.put("publishedDate", book.getPublishedDate());
+            row.put("viewCount", book.getViewCount());
+            row.put("wishlistCount", book.getWishlistCount());
+            row.put("reviewCount", book.getReviewCount());
+            row.put("authorIds", authorIds);
+            row.put("genreNames", genreNames);
+            row.put("topicNames", topicNames);
+            bookRows.add(row);
+        }
+
+        graphBulkWriter.unwind(UPSERT_BOOKS, bookRows);
+        graphBulkWriter.unwind(DELETE_STALE_RELATIONSHIPS, bookRows);
+        graphBulkWriter.unwind(MERGE_AUTHORS, authorRows);
+        graphBulkWriter.unwind(MERGE_GENRES, genreRows);
+        graphBulkWriter.unwind(MERGE_TOPICS, topicRows);
+    }
+
+    private Map<String, Object> tagRow(Long bookId, String name, Integer bookCount) {
+        Map<String, Object> row = new HashMap<>();
+        row.put("bookId", bookId);
+        row.put("name", name);
+        row.put("bookCount", bookCount);
+        return row;
+    }
 }
@@ -1,22 +1,52 @@
 package org.yyubin.recommendation.adapter;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import org.springframework.stereotype.Component;
+import org.yyubin.recommendation.graph.writer.GraphBulkWriter;
 import org.yyubin.recommendation.port.GraphReviewPort;
+import org.yyubin.recommendation.review.graph.HighlightNode;
 import org.yyubin.recommendation.review.graph.ReviewNode;
 import org.yyubin.recommendation.review.graph.ReviewNodeRepository;
 
 /**
  * GraphReviewPort 구현체
  * Batch 모듈에서 ReviewNode를 Neo4j에 저장할 때 사용
+ *
+ * upsertAll 은 청크당 구문 3개 (리뷰 노드 / 오래된 HAS_HIGHLIGHT 삭제 / HAS_HIGHLIGHT)
  */
 @Component
 public class GraphReviewAdapter implements GraphReviewPort {
 
+    static final String UPSERT_REVIEWS = """
+            UNWIND $rows AS row
+            MERGE (r:Review {reviewId: row.reviewId})
+            SET r.userId = row.userId, r.bookId = row.bookId
+            """;
+
+    static final String DELETE_STALE_HIGHLIGHTS = """
+            UNWIND $rows AS row
+            MATCH (r:Review {reviewId: row.reviewId})-[rel:HAS_HIGHLIGHT]->(h:Highlight)
+            WHERE NOT h.normalizedValue IN row.highlights
+            DELETE rel
+            """;
+
+    static final String MERGE_HIGHLIGHTS = """
+            UNWIND $rows AS row
+            MATCH (r:Review {reviewId: row.reviewId})
+            MERGE (h:Highlight {normalizedValue: row.normalizedValue})
+            SET h.rawValue = row.rawValue
+            MERGE (r)-[:HAS_HIGHLIGHT]->(h)
+            """;
+
     private final ReviewNodeRepository reviewNodeRepository;
+    private final GraphBulkWriter graphBulkWriter;
 
-    public GraphReviewAdapter(ReviewNodeRepository reviewNodeRepository) {
+    public GraphReviewAdapter(ReviewNodeRepository reviewNodeRepository, GraphBulkWriter graphBulkWriter) {
         this.reviewNodeRepository = reviewNodeRepository;
+        this.graphBulkWriter = graphBulkWriter;
     }
 
     @Override
@@ -25,4 +55,38 @@ public class GraphReviewAdapter implements GraphReviewPort {
         reviewNodeRepository.saveAll(reviews).forEach(result::add);
         return result;
     }
+
+    @Override
+    public void upsertAll(List<? extends ReviewNode> reviews) {
+        if (reviews.isEmpty()) {
+            return;
+        }
+
+        List<Map<String, Object>> reviewRows = new ArrayList<>(reviews.size());
+        List<Map<String, Object>> highlightRows = new ArrayList<>();
+        for (ReviewNode review : reviews) {
+            List<String> highlights = new ArrayList<>();
+            if (review.getHighlights() != null) {
+                for (HighlightNode highlight : review.getHighlights()) {
+                    Map<String, Object> row = new HashMap<>();
+                    row.put("reviewId", review.getReviewId());
+                    row.put("normalizedValue", highlight.getNormalizedValue());
+                    row.put("rawValue", highlight.getRawValue());
+                    highlightRows.add(row);
+                    highlights.add(highlight.getNormalizedValue());
+                }
+            }
+
+            Map<String, Object> row = new HashMap<>();
+            row.put("reviewId", review.getReviewId());
+            row.put("userId", review.getUserId());
+            row.put("bookId", review.getBookId());
+            row.put("highlights", highlights);
+            reviewRows.add(row);
+        }
+
+        graphBulkWriter.unwind(UPSERT_REVIEWS, reviewRows);
+        graphBulkWriter.unwind(DELETE_STALE_HIGHLIGHTS, reviewRows);
+        graphBulkWriter.unwind(MERGE_HIGHLIGHTS, highlightRows);
+    }
 }
@@ -1,7 +1,14 @@
 package org.yyubin.recommendation.adapter;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import org.springframework.stereotype.Component;
+import org.yyubin.recommendation.graph.node.LikedReviewOfRelationship;
+import org.yyubin.recommendation.graph.node.ViewedRelationship;
+import org.yyubin.recommendation.graph.node.WishlistedRelationship;
+import org.yyubin.recommendation.graph.writer.GraphBulkWriter;
 import org.yyubin.recommendation.port.GraphUserPort;
 import org.yyubin.recommendation.graph.node.UserNode;
 import org.yyubin.recommendation.graph.repository.UserNodeRepository;
@@ -9,14 +16,60 @@ import org.yyubin.recommendation.graph.repository.UserNodeRepository;
 /**
  * GraphUserPort 구현체
  * Batch 모듈에서 UserNode를 Neo4j에 저장할 때 사용
+ *
+ * upsertAll 은 청크당 구문 5개 (사용자 노드 / 오래된 관계 삭제 / VIEWED / WISHLISTED / LIKED_REVIEW_OF)
+ * - 모든 구문이 MERGE/조건부 DELETE 라 청크를 다시 실행해도 결과가 같음
  */
 @Component
 public class GraphUserAdapter implements GraphUserPort {
 
+    static final String UPSERT_USERS = """
+            UNWIND $rows AS row
+            MERGE (u:User {id: row.id})
+            SET u.username = row.username, u.email = row.email, u.createdAt = row.createdAt
+            """;
+
+    static final String DELETE_STALE_RELATIONSHIPS = """
+            UNWIND $rows AS row
+            MATCH (u:User {id: row.id})-[r:VIEWED|WISHLISTED|LIKED_REVIEW_OF]->(b:Book)
+            WHERE (type(r) = 'VIEWED' AND NOT b.id IN row.viewedBookIds)
+               OR (type(r) = 'WISHLISTED' AND NOT b.id IN row.wishlistedBookIds)
+               OR (type(r) = 'LIKED_REVIEW_OF' AND NOT r.reviewId IN row.likedReviewIds)
+            DELETE r
+            """;
+
+    static final String MERGE_VIEWED = """
+            UNWIND $rows AS row
+            MATCH (u:User {id: row.userId})
+            MERGE (b:Book {id: row.bookId})
+            MERGE (u)-[r:VIEWED]->(b)
+            SET r.firstViewedAt = row.firstViewedAt, r.lastViewedAt = row.lastViewedAt,
+                r.viewCount = row.viewCount, r.totalDwellTimeSeconds = row.totalDwellTimeSeconds,
+                r.weight = row.weight
+            """;
+
+    static final String MERGE_WISHLISTED = """
+            UNWIND $rows AS row
+            MATCH (u:User {id: row.userId})
+            MERGE (b:Book {id: row.bookId})
+            MERGE (u)-[r:WISHLISTED]->(b)
+            SET r.addedAt = row.addedAt, r.weight = row.weight
+            """;
+
+    static final String MERGE_LIKED_REVIEW_OF = """
+            UNWIND $rows AS row
+            MATCH (u:User {id: row.userId})
+            MERGE (b:Book {id: row.bookId})
+            MERGE (u)-[r:LIKED_REVIEW_OF {reviewId: row.reviewId}]->(b)
+            SET r.likedAt = row.likedAt, r.likeCount = row.likeCount, r.weight = row.weight
+            """;
+
     private final UserNodeRepository userNodeRepository;
+    private final GraphBulkWriter graphBulkWriter;
 
-    public GraphUserAdapter(UserNodeRepository userNodeRepository) {
+    public GraphUserAdapter(UserNodeRepository userNodeRepository, GraphBulkWriter graphBulkWriter) {
         this.userNodeRepository = userNodeRepository;
+        this.graphBulkWriter = graphBulkWriter;
     }
 
     @Override
@@ -25,4 +78,72 @@ public class GraphUserAdapter implements GraphUserPort {
         userNodeRepository.saveAll(users).forEach(result::add);
         return result;
     }
+
+    @Override
+    public void upsertAll(List<? extends UserNode> users) {
+        if (users.isEmpty()) {
+            return;
+        }
+
+        List<Map<String, Object>> userRows = new ArrayList<>(users.size());
+        List<Map<String, Object>> viewedRows = new ArrayList<>();
+        List<Map<String, Object>> wishlistedRows = new ArrayList<>();
+        List<Map<String, Object>> likedRows = new ArrayList<>();
+        for (UserNode user : users) {
+            List<Long> viewedBookIds = new ArrayList<>();
+            for (ViewedRelationship viewed : user.getViewedBooks()) {
+                Map<String, Object> row = relationshipRow(user.getId(), viewed.getBook().getId());
+                row.put("firstViewedAt", viewed.getFirstViewedAt());
+                row.put("lastViewedAt", viewed.getLastViewedAt());
+                row.put("viewCount", viewed.getViewCount());
+                row.put("totalDwellTimeSeconds", viewed.getTotalDwellTimeSeconds());
+                row.put("weight", viewed.getWeight());
+                viewedRows.add(row);
+                viewedBookIds.add(viewed.getBook().getId());
+            }
+
+            List<Long> wishlistedBookIds = new ArrayList<>();
+            for (WishlistedRelationship wishlisted : user.getWishlistedBooks()) {
+                Map<String, Object> row = relationshipRow(user.getId(), wishlisted.getBook().getId());
+                row.put("addedAt", wishlisted.getAddedAt());
+                row.put("weight", wishlisted.getWeight());
+                wishlistedRows.add(row);
+                wishlistedBookIds.add(wishlisted.getBook().getId());
+            }
+
+            List<Long> likedReviewIds = new ArrayList<>();
+            for (LikedReviewOfRelationship liked : user.getLikedReviewBooks()) {
+                Map<String, Object> row = relationshipRow(user.getId(), liked.getBook().getId());
+                row.put("reviewId", liked.getReviewId());
+                row.put("likedAt", liked.getLikedAt());
+                row.put("likeCount", liked.getLikeCount());
+                row.put("weight", liked.getWeight());
+                likedRows.add(row);
+                likedReviewIds.add(liked.getReviewId());
+            }
+
+            Map<String, Object> row = new HashMap<>();
+            row.put("id", user.getId());
+            row.put("username", user.getUsername());
+            row.put("email", user.getEmail());
+            row.put("createdAt", user.getCreatedAt());
+            row.put("viewedBookIds", viewedBookIds);
+            row.put("wishlistedBookIds", wishlistedBookIds);
+            row.put("likedReviewIds", likedReviewIds);
+            userRows.add(row);
+        }
+
+        graphBulkWriter.unwind(UPSERT_USERS, userRows);
+        graphBulkWriter.unwind(DELETE_STALE_RELATIONSHIPS, userRows);
+        graphBulkWriter.unwind(MERGE_VIEWED, viewedRows);
+        graphBulkWriter.unwind(MERGE_WISHLISTED, wishlistedRows);
+        graphBulkWriter.unwind(MERGE_LIKED_REVIEW_OF, likedRows);
+    }
+
+    private Map<String, Object> relationshipRow(Long userId, Long bookId) {
+        Map<String, Object> row = new HashMap<>();
+        row.put("userId", userId);
+        row.put("bookId", bookId);
+        return row;
+    }
 }
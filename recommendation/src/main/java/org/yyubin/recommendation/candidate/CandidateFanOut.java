@@ -0,0 +1,147 @@
+package org.yyubin.recommendation.candidate;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+import org.yyubin.recommendation.config.RecommendationProperties;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 후보 생성 fan-out
+ * - 등록된 모든 CandidateGenerator 의 source 를 가상 스레드에서 동시에 실행
+ * - 요청별 마감 시간(candidateBudgetMs)까지 끝난 source 만 합치고, 늦거나 실패한 source 는 제외 후 메트릭에 기록
+ *
+ * 메트릭
+ * - recommendation.candidate.source (timer, tags: source, outcome=success|failure) : source 별 소요 시간
+ * - recommendation.candidate.source.dropped (counter, tags: source) : 마감 시간을 넘겨 제외된 source
+ * - recommendation.candidate.fanout (timer) : 요청 전체 후보 생성 시간
+ */
+@Slf4j
+@Component
+public class CandidateFanOut {
+
+    private static final String SOURCE_TIMER = "recommendation.candidate.source";
+    private static final String DROPPED_COUNTER = "recommendation.candidate.source.dropped";
+    private static final String FANOUT_TIMER = "recommendation.candidate.fanout";
+
+    private final List<CandidateGenerator> generators;
+    private final RecommendationProperties properties;
+    private final ExecutorService executor;
+    private final MeterRegistry meterRegistry;
+
+    public CandidateFanOut(
+            List<CandidateGenerator> generators,
+            RecommendationProperties properties,
+            @Qualifier("candidateFanOutExecutor") ExecutorService executor,
+            ObjectProvider<MeterRegistry> meterRegistry
+    ) {
+        this.generators = generators;
+        this.properties = properties;
+        this.executor = executor;
+        this.meterRegistry = meterRegistry.getIfAvailable(SimpleMeterRegistry::new);
+    }
+
+    /**
+     * 모든 생성기의 후보를 마감 시간 안에서 동시에 생성
+     *
+     * @param userId 사용자 ID
+     * @param maxCandidates 전체 후보 수 (생성기별로 균등 분배)
+     * @return 마감 시간 안에 완료된 source 의 후보 합
+     */
+    public List<RecommendationCandidate> generate(Long userId, int maxCandidates) {
+        if (generators.isEmpty()) {
+            return List.of();
+        }
+
+        long startedAt = System.nanoTime();
+        long budgetMs = properties.getSearch().getCandidateBudgetMs();
+        int perGeneratorLimit = maxCandidates / generators.size();
+
+        Map<String, CompletableFuture<List<RecommendationCandidate>>> sources = new LinkedHashMap<>();
+        for (CandidateGenerator generator : generators) {
+            try {
+                generator.generateCandidatesAsync(userId, perGeneratorLimit, executor)
+                        .forEach((source, future) -> sources.put(source, timed(source, future, startedAt)));
+            } catch (Exception e) {
+                log.error("Failed to start candidate generator {} for user {}",
+                        generator.getClass().getSimpleName(), userId, e);
+            }
+        }
+
+        awaitUntil(sources.values(), startedAt + TimeUnit.MILLISECONDS.toNanos(budgetMs));
+
+        List<RecommendationCandidate> candidates = new ArrayList<>();
+        for (Map.Entry<String, CompletableFuture<List<RecommendationCandidate>>> entry : sources.entrySet()) {
+            String source = entry.getKey();
+            CompletableFuture<List<RecommendationCandidate>> future = entry.getValue();
+
+            if (!future.isDone()) {
+                // 진행 중인 원격 호출은 끝까지 실행되지만 결과는 사용하지 않음
+                future.cancel(false);
+                meterRegistry.counter(DROPPED_COUNTER, "source", source).increment();
+                log.warn("Dropped candidate source {} for user {} (budget {}ms exceeded)", source, userId, budgetMs);
+                continue;
+            }
+            if (future.isCompletedExceptionally()) {
+                continue;
+            }
+
+            List<RecommendationCandidate> result = future.join();
+            candidates.addAll(result);
+            log.debug("Candidate source {} returned {} candidates", source, result.size());
+        }
+
+        meterRegistry.timer(FANOUT_TIMER).record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        return candidates;
+    }
+
+    private CompletableFuture<List<RecommendationCandidate>> timed(
+            String source,
+            CompletableFuture<List<RecommendationCandidate>> future,
+            long startedAt
+    ) {
+        return future.whenComplete((result, error) -> {
+            String outcome = error == null ? "success" : "failure";
+            Timer.builder(SOURCE_TIMER)
+                    .tag("source", source)
+                    .tag("outcome", outcome)
+                    .register(meterRegistry)
+                    .record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            if (error != null) {
+                log.error("Candidate source {} failed", source, error);
+            }
+        });
+    }
+
+    private void awaitUntil(Iterable<CompletableFuture<List<RecommendationCandidate>>> futures, long deadlineNanos) {
+        List<CompletableFuture<List<RecommendationCandidate>>> pending = new ArrayList<>();
+        futures.forEach(pending::add);
+
+        long remaining = deadlineNanos - System.nanoTime();
+        if (remaining <= 0) {
+            return;
+        }
+        try {
+            // 실패한 source 가 있어도 나머지를 기다리도록 예외는 무시 (결과는 source 별로 확인)
+            CompletableFuture.allOf(pending.toArray(CompletableFuture[]::new))
+                    .get(remaining, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException | ExecutionException ignored) {
+            // 마감 시간 초과 또는 일부 source 실패
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -1,9 +1,13 @@
 package org.yyubin.recommendation.candidate;
 
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 /**
  * 후보 생성기 인터페이스
+ * - 빈으로 등록된 구현체는 CandidateFanOut 이 자동으로 수집해 병렬 실행합니다.
  */
 public interface CandidateGenerator {
 
@@ -16,6 +20,28 @@ public interface CandidateGenerator {
      */
     List<RecommendationCandidate> generateCandidates(Long userId, int limit);
 
+    /**
+     * 특정 사용자에 대한 추천 후보 비동기 생성
+     * - 독립적으로 실행할 수 있는 조회 단위(source)별 future 를 반환합니다.
+     * - 호출 측은 마감 시간까지 완료된 source 만 사용하고, 늦은 source 는 버립니다.
+     * - 기본 구현은 generateCandidates 전체를 하나의 source 로 실행합니다.
+     *
+     * @param userId 사용자 ID
+     * @param limit 생성할 후보 수
+     * @param executor 조회를 실행할 executor
+     * @return source 이름 -> 후보 future
+     */
+    default Map<String, CompletableFuture<List<RecommendationCandidate>>> generateCandidatesAsync(
+            Long userId,
+            int limit,
+            Executor executor
+    ) {
+        return Map.of(
+                getSourceType().name(),
+                CompletableFuture.supplyAsync(() -> generateCandidates(userId, limit), executor)
+        );
+    }
+
     /**
      * 이 생성기가 지원하는 소스 타입
      */
@@ -12,9 +12,14 @@ import org.yyubin.recommendation.search.repository.BookDocumentRepository;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.BiFunction;
 
 /**
  * Elasticsearch 기반 후보 생성기
@@ -28,6 +33,7 @@ public class ElasticsearchCandidateGenerator implements CandidateGenerator {
     private final BookDocumentRepository bookDocumentRepository;
     private final RecommendationProperties properties;
     private final UserAnalysisContextPort userAnalysisContextPort;
+    private final PopularBooksSnapshot popularBooksSnapshot;
 
     private static final int DEFAULT_SEED_LIMIT = 3;
 
@@ -41,13 +47,53 @@ public class ElasticsearchCandidateGenerator implements CandidateGenerator {
             return candidates;
         }
 
-        List<BookDocument> popularBooks = bookDocumentRepository
-                .findTop100ByOrderByViewCountDescWishlistCountDesc();
-        if (popularBooks.isEmpty()) {
+        // 인기 도서 풀은 메모리 스냅샷에서 제공 (ES 조회 없음)
+        if (popularBooksSnapshot.isEmpty()) {
             return candidates;
         }
 
-        UserAnalysisContextPort.UserAnalysisContext context = loadUserContext(userId);
+        SourcePlan plan = planSources(loadUserContext(userId), limit);
+
+        candidates.addAll(popularBooksSnapshot.topCandidates(plan.popularityLimit()));
+        candidates.addAll(generateMltCandidates(plan.mltSeeds(), plan.mltLimit()));
+        candidates.addAll(generateSemanticCandidates(plan.semanticQueries(), plan.semanticLimit()));
+
+        log.debug("Generated {} Elasticsearch candidates for user {}", candidates.size(), userId);
+
+        return candidates;
+    }
+
+    /**
+     * 인기 / MLT / 시맨틱 조회를 각각 독립 source 로 동시에 실행
+     * - 인기 도서는 스냅샷에서 꺼내고, MLT·시맨틱은 사용자 컨텍스트가 준비되면 시드별 쿼리를 병렬로 실행합니다.
+     */
+    @Override
+    public Map<String, CompletableFuture<List<RecommendationCandidate>>> generateCandidatesAsync(
+            Long userId,
+            int limit,
+            Executor executor
+    ) {
+        Map<String, CompletableFuture<List<RecommendationCandidate>>> futures = new LinkedHashMap<>();
+        if (limit <= 0) {
+            return futures;
+        }
+
+        CompletableFuture<SourcePlan> plan = CompletableFuture.supplyAsync(
+                () -> planSources(loadUserContext(userId), limit), executor);
+
+        futures.put("es.popular", plan.thenApply(p -> popularBooksSnapshot.topCandidates(p.popularityLimit())));
+        futures.put("es.mlt", plan.thenCompose(p -> generatePerSeedAsync(
+                p.mltSeeds(), p.mltLimit(), this::generateMoreLikeThisCandidates, executor)));
+        futures.put("es.semantic", plan.thenCompose(p -> generatePerSeedAsync(
+                p.semanticQueries(), p.semanticLimit(), this::generateSemanticSearchCandidates, executor)));
+        return futures;
+    }
+
+    /**
+     * 사용자 컨텍스트로 source 별 시드와 할당량 결정
+     * - MLT 시드나 검색어가 없으면 해당 몫을 인기 도서에 넘깁니다.
+     */
+    private SourcePlan planSources(UserAnalysisContextPort.UserAnalysisContext context, int limit) {
         List<Long> mltSeeds = resolveMltSeeds(context);
         List<String> semanticQueries = resolveSemanticQueries(context);
 
@@ -64,37 +110,38 @@ public class ElasticsearchCandidateGenerator implements CandidateGenerator {
             semanticLimit = 0;
         }
 
-        candidates.addAll(generatePopularBooksCandidates(popularBooks, popularityLimit));
-        candidates.addAll(generateMltCandidates(mltSeeds, mltLimit));
-        candidates.addAll(generateSemanticCandidates(semanticQueries, semanticLimit));
-
-        log.debug("Generated {} Elasticsearch candidates for user {}", candidates.size(), userId);
-
-        return candidates;
+        return new SourcePlan(mltSeeds, semanticQueries, popularityLimit, mltLimit, semanticLimit);
     }
 
     /**
-     * 인기 도서 후보 생성
+     * 시드별 쿼리를 병렬 실행하고 시드 순서대로 합침 (generateMltCandidates 와 같은 분배)
      */
-    private List<RecommendationCandidate> generatePopularBooksCandidates(List<BookDocument> popularBooks, int limit) {
-        return popularBooks.stream()
-                .limit(limit)
-                .map(book -> {
-                    // 정규화된 인기 점수 계산
-                    double popularityScore = calculatePopularityScore(
-                            book.getViewCount(),
-                            book.getWishlistCount(),
-                            book.getReviewCount()
-                    );
-
-                    return RecommendationCandidate.builder()
-                            .bookId(Long.parseLong(book.getId()))
-                            .source(RecommendationCandidate.CandidateSource.POPULARITY)
-                            .initialScore(popularityScore)
-                            .reason("Popular book (views: " + book.getViewCount() + ")")
-                            .build();
-                })
-                .toList();
+    private <T> CompletableFuture<List<RecommendationCandidate>> generatePerSeedAsync(
+            List<T> seeds,
+            int limit,
+            BiFunction<T, Integer, List<RecommendationCandidate>> query,
+            Executor executor
+    ) {
+        if (limit <= 0 || seeds.isEmpty()) {
+            return CompletableFuture.completedFuture(List.of());
+        }
+        int seedCount = Math.min(DEFAULT_SEED_LIMIT, seeds.size());
+        int perSeedLimit = Math.max(1, limit / seedCount);
+
+        List<CompletableFuture<List<RecommendationCandidate>>> perSeed = new ArrayList<>(seedCount);
+        for (int i = 0; i < seedCount; i++) {
+            T seed = seeds.get(i);
+            perSeed.add(CompletableFuture.supplyAsync(() -> query.apply(seed, perSeedLimit), executor));
+        }
+
+        return CompletableFuture.allOf(perSeed.toArray(CompletableFuture[]::new))
+                .thenApply(ignored -> {
+                    List<RecommendationCandidate> candidates = new ArrayList<>();
+                    for (CompletableFuture<List<RecommendationCandidate>> future : perSeed) {
+                        candidates.addAll(future.join());
+                    }
+                    return candidates.size() > limit ? candidates.subList(0, limit) : candidates;
+                });
     }
 
     private List<RecommendationCandidate> generateMltCandidates(List<Long> seedBookIds, int limit) {
@@ -245,23 +292,17 @@ public class ElasticsearchCandidateGenerator implements CandidateGenerator {
                 .toList();
     }
 
-    /**
-     * 인기도 점수 계산
-     */
-    private double calculatePopularityScore(Integer viewCount, Integer wishlistCount, Integer reviewCount) {
-        if (viewCount == null) viewCount = 0;
-        if (wishlistCount == null) wishlistCount = 0;
-        if (reviewCount == null) reviewCount = 0;
-
-        // 가중 평균
-        double weighted = (viewCount * 1.0) + (wishlistCount * 5.0) + (reviewCount * 3.0);
-
-        // 로그 스케일로 정규화 (0.0 ~ 1.0)
-        return Math.min(1.0, Math.log10(weighted + 1) / 4.0);
-    }
-
     @Override
     public RecommendationCandidate.CandidateSource getSourceType() {
         return RecommendationCandidate.CandidateSource.ELASTICSEARCH_SEMANTIC;
     }
+
+    private record SourcePlan(
+            List<Long> mltSeeds,
+            List<String> semanticQueries,
+            int popularityLimit,
+            int mltLimit,
+            int semanticLimit
+    ) {
+    }
 }
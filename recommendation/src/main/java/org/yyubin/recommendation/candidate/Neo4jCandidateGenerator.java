@@ -9,8 +9,12 @@ import org.yyubin.recommendation.graph.repository.UserNodeRepository;
 
 import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 /**
  * Neo4j 기반 후보 생성기
@@ -48,6 +52,29 @@ public class Neo4jCandidateGenerator implements CandidateGenerator {
         return new ArrayList<>(candidates);
     }
 
+    /**
+     * 4가지 Cypher 쿼리를 각각 독립 source 로 동시에 실행
+     */
+    @Override
+    public Map<String, CompletableFuture<List<RecommendationCandidate>>> generateCandidatesAsync(
+            Long userId,
+            int limit,
+            Executor executor
+    ) {
+        int perQueryLimit = limit / 4;
+
+        Map<String, CompletableFuture<List<RecommendationCandidate>>> futures = new LinkedHashMap<>();
+        futures.put("neo4j.collaborative", CompletableFuture.supplyAsync(
+                () -> generateCollaborativeFilteringCandidates(userId, perQueryLimit), executor));
+        futures.put("neo4j.genre", CompletableFuture.supplyAsync(
+                () -> generateGenreBasedCandidates(userId, perQueryLimit), executor));
+        futures.put("neo4j.author", CompletableFuture.supplyAsync(
+                () -> generateAuthorBasedCandidates(userId, perQueryLimit), executor));
+        futures.put("neo4j.similar", CompletableFuture.supplyAsync(
+                () -> generateSimilarBooksCandidates(userId, perQueryLimit), executor));
+        return futures;
+    }
+
     /**
      * 협업 필터링: 비슷한 취향의 사용자들이 본 도서
      */
@@ -0,0 +1,280 @@
+package org.yyubin.recommendation.candidate;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.yyubin.recommendation.config.RecommendationProperties;
+import org.yyubin.recommendation.feature.BookFeatureStore;
+import org.yyubin.recommendation.search.document.BookDocument;
+import org.yyubin.recommendation.search.repository.BookDocumentRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 인기 도서 후보 풀 스냅샷
+ * - 전역 인기 도서 top 100 과 인기 점수를 불변 배열로 메모리에 보관하여 요청마다 ES 를 조회하지 않음
+ * - refresh-ahead: 스케줄러가 refreshIntervalMs 마다 미리 교체하므로 요청 경로에서는 만료를 보지 않음
+ * - staleness bound: maxStalenessMs 를 넘긴 스냅샷도 그대로 응답하고, 한 번에 하나의 비동기 갱신만 띄움
+ *   (요청 스레드는 ES 를 기다리지 않음)
+ * - 스냅샷이 아직 없을 때만 락을 얻은 한 스레드가 적재하고, 나머지 스레드는 기다리지 않고 빈 후보를 받음
+ * - max serve age: 갱신이 계속 실패해 maxServeAgeMs 를 넘기면 오래된 인기 목록 대신 빈 후보를 응답
+ *   (비동기 갱신은 계속 시도하며, 갱신되면 바로 다시 응답)
+ *
+ * 메트릭:
+ * - recommendation.popular.snapshot.age (gauge, seconds) - 현재 스냅샷 생성 후 경과 시간
+ * - recommendation.popular.snapshot.expired (counter) - max serve age 를 넘겨 빈 후보로 응답한 요청 수
+ */
+@Slf4j
+@Component
+public class PopularBooksSnapshot {
+
+    private static final long FAILURE_BACKOFF_MS = 5_000;
+    private static final long EXPIRED_LOG_INTERVAL_MS = 60_000;
+
+    private final BookDocumentRepository bookDocumentRepository;
+    private final RecommendationProperties properties;
+    private final Executor refreshExecutor;
+    private final ReentrantLock refreshLock = new ReentrantLock();
+    private final AtomicBoolean asyncRefreshing = new AtomicBoolean();
+    private final AtomicLong lastExpiredLogAtNanos = new AtomicLong();
+    private final Counter expiredCounter;
+
+    private volatile Snapshot current;
+    private volatile long lastFailureAtNanos;
+
+    public PopularBooksSnapshot(
+            BookDocumentRepository bookDocumentRepository,
+            RecommendationProperties properties,
+            ObjectProvider<MeterRegistry> meterRegistry,
+            @Qualifier("recommendationTaskExecutor") Executor refreshExecutor
+    ) {
+        this.bookDocumentRepository = bookDocumentRepository;
+        this.properties = properties;
+        this.refreshExecutor = refreshExecutor;
+
+        MeterRegistry registry = meterRegistry.getIfAvailable(SimpleMeterRegistry::new);
+        Gauge.builder("recommendation.popular.snapshot.age", this, PopularBooksSnapshot::ageSeconds)
+                .description("Seconds since the popular books snapshot was loaded")
+                .baseUnit("seconds")
+                .register(registry);
+        this.expiredCounter = Counter.builder("recommendation.popular.snapshot.expired")
+                .description("Requests answered with no popular books because the snapshot exceeded max serve age")
+                .register(registry);
+    }
+
+    /**
+     * 인기 점수 순 상위 후보
+     *
+     * @param limit 후보 수
+     * @return 인기 도서 후보 (ES 조회 없음, 아직 스냅샷이 없을 때만 예외, max serve age 를 넘기면 빈 리스트)
+     */
+    public List<RecommendationCandidate> topCandidates(int limit) {
+        Snapshot snapshot = snapshot();
+        int size = Math.min(limit, snapshot.size());
+        if (size <= 0) {
+            return List.of();
+        }
+
+        List<RecommendationCandidate> candidates = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            candidates.add(RecommendationCandidate.builder()
+                    .bookId(snapshot.bookIds()[i])
+                    .source(RecommendationCandidate.CandidateSource.POPULARITY)
+                    .initialScore(snapshot.scores()[i])
+                    .reason(snapshot.reasons()[i])
+                    .build());
+        }
+        return candidates;
+    }
+
+    public boolean isEmpty() {
+        return snapshot().size() == 0;
+    }
+
+    /**
+     * 스냅샷 선제 갱신 (refresh-ahead)
+     * - 실패하면 기존 스냅샷을 유지
+     */
+    @Scheduled(
+            fixedDelayString = "${recommendation.popular-snapshot.refresh-interval-ms:60000}",
+            initialDelayString = "${recommendation.popular-snapshot.initial-delay-ms:0}"
+    )
+    public void refresh() {
+        refreshLock.lock();
+        try {
+            reload();
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    double ageSeconds() {
+        Snapshot snapshot = current;
+        if (snapshot == null) {
+            return Double.NaN;
+        }
+        return (System.nanoTime() - snapshot.loadedAtNanos()) / 1_000_000_000.0;
+    }
+
+    private Snapshot snapshot() {
+        Snapshot snapshot = current;
+        if (snapshot == null) {
+            return loadInitial();
+        }
+        if (isStale(snapshot)) {
+            refreshAsync();
+            snapshot = current;
+            if (isExpired(snapshot)) {
+                onExpired(snapshot);
+                return Snapshot.EMPTY;
+            }
+        }
+        return snapshot;
+    }
+
+    /**
+     * 스냅샷이 아직 없으면 돌려줄 값이 없으므로 락을 얻은 한 스레드만 적재
+     * - 다른 스레드가 적재 중이거나 직전 적재가 실패했으면 기다리지 않고 빈 스냅샷
+     */
+    private Snapshot loadInitial() {
+        if (inFailureBackoff() || !refreshLock.tryLock()) {
+            Snapshot snapshot = current;
+            return snapshot != null ? snapshot : Snapshot.EMPTY;
+        }
+        try {
+            Snapshot snapshot = current;
+            if (snapshot != null) {
+                return snapshot;
+            }
+            Snapshot reloaded = reload();
+            return reloaded != null ? reloaded : Snapshot.EMPTY;
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    /**
+     * staleness bound 를 넘긴 스냅샷을 비동기로 갱신 (동시에 하나만, 요청 스레드는 기존 스냅샷으로 응답)
+     */
+    private void refreshAsync() {
+        if (inFailureBackoff() || !asyncRefreshing.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    refreshLock.lock();
+                    try {
+                        Snapshot snapshot = current;
+                        if (snapshot == null || isStale(snapshot)) {
+                            reload();
+                        }
+                    } finally {
+                        refreshLock.unlock();
+                    }
+                } finally {
+                    asyncRefreshing.set(false);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            asyncRefreshing.set(false);
+            log.warn("Popular books snapshot refresh rejected, serving stale snapshot (age: {}s)", ageSeconds());
+        }
+    }
+
+    /**
+     * 직전 갱신이 실패했다면 잠시 ES 호출을 멈춤
+     */
+    private boolean inFailureBackoff() {
+        long failedAt = lastFailureAtNanos;
+        return failedAt != 0 && System.nanoTime() - failedAt < TimeUnit.MILLISECONDS.toNanos(FAILURE_BACKOFF_MS);
+    }
+
+    private boolean isStale(Snapshot snapshot) {
+        long maxStalenessMs = properties.getPopularSnapshot().getMaxStalenessMs();
+        return System.nanoTime() - snapshot.loadedAtNanos() > TimeUnit.MILLISECONDS.toNanos(maxStalenessMs);
+    }
+
+    private boolean isExpired(Snapshot snapshot) {
+        long maxServeAgeMs = properties.getPopularSnapshot().getMaxServeAgeMs();
+        return System.nanoTime() - snapshot.loadedAtNanos() > TimeUnit.MILLISECONDS.toNanos(maxServeAgeMs);
+    }
+
+    /**
+     * max serve age 초과 응답 기록 (로그는 EXPIRED_LOG_INTERVAL_MS 마다 한 번)
+     */
+    private void onExpired(Snapshot snapshot) {
+        expiredCounter.increment();
+        long now = System.nanoTime();
+        long lastLoggedAt = lastExpiredLogAtNanos.get();
+        if ((lastLoggedAt == 0 || now - lastLoggedAt > TimeUnit.MILLISECONDS.toNanos(EXPIRED_LOG_INTERVAL_MS))
+                && lastExpiredLogAtNanos.compareAndSet(lastLoggedAt, now)) {
+            log.warn("Popular books snapshot exceeded max serve age ({}s), serving no popular candidates until refresh succeeds",
+                    (now - snapshot.loadedAtNanos()) / 1_000_000_000L);
+        }
+    }
+
+    private Snapshot reload() {
+        try {
+            List<BookDocument> popularBooks = bookDocumentRepository.findTop100ByOrderByViewCountDescWishlistCountDesc();
+
+            int size = popularBooks.size();
+            long[] bookIds = new long[size];
+            double[] scores = new double[size];
+            String[] reasons = new String[size];
+            for (int i = 0; i < size; i++) {
+                BookDocument book = popularBooks.get(i);
+                bookIds[i] = Long.parseLong(book.getId());
+                scores[i] = calculatePopularityScore(book.getViewCount(), book.getWishlistCount(), book.getReviewCount());
+                reasons[i] = "Popular book (views: " + book.getViewCount() + ")";
+            }
+
+            Snapshot snapshot = new Snapshot(bookIds, scores, reasons, System.nanoTime());
+            current = snapshot;
+            lastFailureAtNanos = 0;
+            log.debug("Refreshed popular books snapshot ({} books)", size);
+            return snapshot;
+
+        } catch (Exception e) {
+            lastFailureAtNanos = System.nanoTime();
+            log.error("Failed to refresh popular books snapshot (keeping previous, age: {}s)", ageSeconds(), e);
+            return null;
+        }
+    }
+
+    /**
+     * 인기도 점수 계산 (BookFeatureStore 와 같은 식)
+     */
+    static double calculatePopularityScore(Integer viewCount, Integer wishlistCount, Integer reviewCount) {
+        return BookFeatureStore.calculatePopularityScore(
+                viewCount != null ? viewCount : 0,
+                wishlistCount != null ? wishlistCount : 0,
+                reviewCount != null ? reviewCount : 0
+        );
+    }
+
+    /**
+     * 불변 스냅샷 (배열은 생성 후 수정하지 않음)
+     */
+    private record Snapshot(long[] bookIds, double[] scores, String[] reasons, long loadedAtNanos) {
+
+        static final Snapshot EMPTY = new Snapshot(new long[0], new double[0], new String[0], 0L);
+
+        int size() {
+            return bookIds.length;
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package org.yyubin.recommendation.config;
 
 import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -25,4 +27,15 @@ public class AsyncConfig {
         executor.initialize();
         return executor;
     }
+
+    /**
+     * 후보 생성 fan-out 용 가상 스레드 executor
+     * - 요청마다 Neo4j / Elasticsearch 조회 여러 건을 동시에 띄우므로 플랫폼 스레드 풀 대신 작업당 가상 스레드 사용
+     */
+    @Bean(name = "candidateFanOutExecutor", destroyMethod = "close")
+    public ExecutorService candidateFanOutExecutor() {
+        return Executors.newThreadPerTaskExecutor(
+                Thread.ofVirtual().name("candidate-fanout-", 0).factory()
+        );
+    }
 }
@@ -18,6 +18,8 @@ public class RecommendationProperties {
     private SearchConfig search = new SearchConfig();
     private ScoringConfig scoring = new ScoringConfig();
     private CacheConfig cache = new CacheConfig();
+    private PopularSnapshotConfig popularSnapshot = new PopularSnapshotConfig();
+    private FeatureStoreConfig featureStore = new FeatureStoreConfig();
 
     @Getter
     @Setter
@@ -35,6 +37,7 @@ public class RecommendationProperties {
         private int contextLibraryLimit = 5;
         private int contextSearchLimit = 5;
         private int contextSearchDays = 30;
+        private long candidateBudgetMs = 300; // 후보 생성 전체 마감 시간 (늦은 source 는 제외)
     }
 
     @Getter
@@ -52,9 +55,26 @@ public class RecommendationProperties {
         }
     }
 
+    @Getter
+    @Setter
+    public static class PopularSnapshotConfig {
+        private long refreshIntervalMs = 60_000;   // 선제 갱신 주기
+        private long maxStalenessMs = 300_000;     // 이 시간을 넘긴 스냅샷은 그대로 응답하며 비동기 갱신
+        private long maxServeAgeMs = 1_800_000;    // 이 시간을 넘긴 스냅샷은 응답하지 않고 빈 후보 (갱신이 계속 실패할 때의 상한)
+    }
+
+    @Getter
+    @Setter
+    public static class FeatureStoreConfig {
+        private boolean enabled = true;             // 피처 적재/이벤트 구독 여부 (추천을 서빙하지 않는 배치는 false)
+        private int maxBooks = 100_000;             // 메모리에 보관할 최대 도서 수
+        private long reconcileIntervalMs = 600_000; // BookDocument 기준 재적재 주기
+    }
+
     @Getter
     @Setter
     public static class CacheConfig {
         private int ttlHours = 3;
+        private int sessionOrderTtlMinutes = 30; // 세션별 샘플링 순서 보관 시간
     }
 }
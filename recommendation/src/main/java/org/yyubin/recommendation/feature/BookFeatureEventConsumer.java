@@ -0,0 +1,83 @@
+package org.yyubin.recommendation.feature;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+import org.yyubin.application.event.EventPayload;
+import org.yyubin.application.event.EventTopics;
+
+/**
+ * 도서 피처 증분 반영 컨슈머
+ * - 피처 저장소는 인스턴스마다 메모리에 있으므로 인스턴스별 컨슈머 그룹으로 모든 파티션을 구독
+ *   (그룹 이름은 app.instance-id 로 고정해 재시작해도 커밋된 오프셋부터 이어 읽음)
+ * - WISHLIST_ADD/REMOVE → 위시리스트 수, REVIEW_CREATED/DELETED → 리뷰 수
+ * - 도서 조회 이벤트는 발행되지 않으므로 조회수는 reconcile 로만 갱신 (리뷰 조회는 도서 조회수가 아님)
+ * - poll 배치 안의 증분을 도서별로 합쳐 저장소에 한 번에 반영
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BookFeatureEventConsumer {
+
+    private final BookFeatureStore featureStore;
+
+    @KafkaListener(
+            topics = {EventTopics.REVIEW, EventTopics.WISHLIST_BOOKMARK},
+            groupId = "${recommendation.feature-store.group-id-prefix:cg-recommendation-features}-${app.instance-id:${HOSTNAME:local}}",
+            containerFactory = "recommendationKafkaListenerContainerFactory",
+            autoStartup = "${recommendation.feature-store.enabled:true}",
+            batch = "true"
+    )
+    public void consume(List<EventPayload> payloads) {
+        Map<Long, BookFeatureStore.Delta> deltas = new HashMap<>();
+        for (EventPayload payload : payloads) {
+            BookFeatureStore.Delta delta = deltaOf(payload);
+            if (delta == null) {
+                continue;
+            }
+            Long bookId = resolveBookId(payload);
+            if (bookId == null) {
+                log.debug("Skipping feature event {} without bookId", payload.eventId());
+                continue;
+            }
+            deltas.merge(bookId, delta, BookFeatureStore.Delta::plus);
+        }
+        featureStore.addAll(deltas);
+    }
+
+    private BookFeatureStore.Delta deltaOf(EventPayload payload) {
+        if (payload == null || payload.eventType() == null) {
+            return null;
+        }
+        return switch (payload.eventType()) {
+            case "WISHLIST_ADD" -> new BookFeatureStore.Delta(0, 1, 0);
+            case "WISHLIST_REMOVE" -> new BookFeatureStore.Delta(0, -1, 0);
+            case "REVIEW_CREATED" -> new BookFeatureStore.Delta(0, 0, 1);
+            case "REVIEW_DELETED" -> new BookFeatureStore.Delta(0, 0, -1);
+            default -> null;
+        };
+    }
+
+    private Long resolveBookId(EventPayload payload) {
+        Map<String, Object> metadata = payload.metadata();
+        Object value = metadata != null ? metadata.get("bookId") : null;
+        if (value == null && "BOOK".equals(payload.targetType())) {
+            value = payload.targetId();
+        }
+        if (value instanceof Number number) {
+            return number.longValue();
+        }
+        if (value instanceof String text) {
+            try {
+                return Long.parseLong(text);
+            } catch (NumberFormatException ignored) {
+                return null;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,434 @@
+package org.yyubin.recommendation.feature;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.yyubin.recommendation.config.RecommendationProperties;
+import org.yyubin.recommendation.search.document.BookDocument;
+import org.yyubin.recommendation.search.repository.BookDocumentRepository;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.StampedLock;
+import java.util.stream.Stream;
+
+/**
+ * 도서 피처 저장소
+ * - bookId → 조회수/위시리스트 수/리뷰 수/출간일(epoch day) 을 메모리에 보관해 스코어러가 원격 호출 없이 O(1) 로 조회
+ * - primitive long 키 open addressing 테이블 (boxing 없음), 용량은 maxBooks 로 고정되어 메모리 상한이 정해짐
+ * - Kafka 이벤트로 카운트를 증분 반영하고, 주기적으로 BookDocument 전체를 읽어 새 테이블로 교체(reconcile)
+ *
+ * 카운트는 랭킹용 근사치입니다. reconcile 은 배치 동기화된 BookDocument 값으로 기준을 다시 맞추되,
+ * 적재 시작 시점의 카운트를 떠 두고 교체 직전에 (현재 카운트 - 시작 카운트) 를 delta 로 더하므로
+ * 적재하는 동안 들어온 증분을 덮어쓰지 않습니다.
+ *
+ * 동시성
+ * - 쓰기는 poll 배치 단위로 합친 증분을 StampedLock 쓰기 잠금 한 번에 반영 (이벤트마다 잠그지 않음)
+ * - 읽기는 낙관적 읽기 후 검증 실패 시에만 읽기 잠금
+ * - reconcile 은 전용 스레드에서 실행해 공용 스케줄러 스레드를 붙잡지 않음
+ * - recommendation.feature-store.enabled=false 인 애플리케이션(배치)에서는 적재하지 않음
+ *
+ * 메트릭
+ * - recommendation.feature.books (gauge) : 보관 중인 도서 수
+ * - recommendation.feature.dropped (counter) : 용량 초과로 반영하지 못한 도서
+ */
+@Slf4j
+@Component
+public class BookFeatureStore {
+
+    public static final long UNKNOWN_DATE = Long.MIN_VALUE;
+
+    private static final int NO_DATE = Integer.MIN_VALUE;
+
+    private final BookDocumentRepository bookDocumentRepository;
+    private final int maxBooks;
+    private final boolean enabled;
+    private final StampedLock lock = new StampedLock();
+    private final Counter droppedCounter;
+    private final AtomicBoolean reconciling = new AtomicBoolean(false);
+    private final ExecutorService reconcileExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "book-feature-reconcile");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private Table table;
+
+    public BookFeatureStore(
+            BookDocumentRepository bookDocumentRepository,
+            RecommendationProperties properties,
+            ObjectProvider<MeterRegistry> meterRegistry
+    ) {
+        this.bookDocumentRepository = bookDocumentRepository;
+        this.maxBooks = properties.getFeatureStore().getMaxBooks();
+        this.enabled = properties.getFeatureStore().isEnabled();
+        this.table = new Table(maxBooks);
+
+        MeterRegistry registry = meterRegistry.getIfAvailable(SimpleMeterRegistry::new);
+        Gauge.builder("recommendation.feature.books", this, BookFeatureStore::size)
+                .description("Books held in the in-memory feature store")
+                .register(registry);
+        this.droppedCounter = Counter.builder("recommendation.feature.dropped")
+                .description("Books not stored because the feature store is full")
+                .register(registry);
+    }
+
+    /**
+     * 인기도 점수 (보관하지 않은 도서는 0.0)
+     */
+    public double popularityScore(long bookId) {
+        long stamp = lock.tryOptimisticRead();
+        double score = readPopularity(table, bookId);
+        if (lock.validate(stamp)) {
+            return score;
+        }
+        stamp = lock.readLock();
+        try {
+            return readPopularity(table, bookId);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * 출간일 epoch day (알 수 없으면 UNKNOWN_DATE)
+     */
+    public long publishedEpochDay(long bookId) {
+        long stamp = lock.tryOptimisticRead();
+        long day = readPublishedDay(table, bookId);
+        if (lock.validate(stamp)) {
+            return day;
+        }
+        stamp = lock.readLock();
+        try {
+            return readPublishedDay(table, bookId);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * 카운트 증분 반영
+     */
+    public void add(long bookId, int viewsDelta, int wishlistsDelta, int reviewsDelta) {
+        addAll(Map.of(bookId, new Delta(viewsDelta, wishlistsDelta, reviewsDelta)));
+    }
+
+    /**
+     * 도서별로 합친 증분을 쓰기 잠금 한 번에 반영 (Kafka poll 배치)
+     */
+    public void addAll(Map<Long, Delta> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        int dropped;
+        long stamp = lock.writeLock();
+        try {
+            dropped = apply(table, deltas);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+        if (dropped > 0) {
+            droppedCounter.increment(dropped);
+        }
+    }
+
+    /**
+     * 주기적 reconcile 을 전용 스레드로 넘김
+     */
+    @Scheduled(
+            fixedDelayString = "${recommendation.feature-store.reconcile-interval-ms:600000}",
+            initialDelayString = "${recommendation.feature-store.initial-delay-ms:0}"
+    )
+    public void scheduleReconcile() {
+        if (!enabled || reconciling.get()) {
+            return;
+        }
+        reconcileExecutor.execute(this::reconcile);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        reconcileExecutor.shutdownNow();
+    }
+
+    /**
+     * BookDocument 전체로 새 테이블을 만들어 교체
+     * - 기존 테이블은 적재가 끝날 때까지 그대로 조회에 사용
+     * - 새 카운트 = 문서 값 + 적재 중 기존 테이블에 더해진 delta (시작 시점 카운트와 비교)
+     * - 이미 실행 중이면 건너뜀
+     */
+    public void reconcile() {
+        if (!reconciling.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            doReconcile();
+        } finally {
+            reconciling.set(false);
+        }
+    }
+
+    private void doReconcile() {
+        Table start;
+        long stamp = lock.readLock();
+        try {
+            start = table.copy();
+        } finally {
+            lock.unlockRead(stamp);
+        }
+
+        Table fresh = new Table(maxBooks);
+        int dropped = 0;
+        try (Stream<BookDocument> books = bookDocumentRepository.streamAllBy()) {
+            Iterator<BookDocument> iterator = books.iterator();
+            while (iterator.hasNext()) {
+                BookDocument book = iterator.next();
+                long bookId;
+                try {
+                    bookId = Long.parseLong(book.getId());
+                } catch (NumberFormatException e) {
+                    continue;
+                }
+                int slot = fresh.slotFor(bookId);
+                if (slot < 0) {
+                    dropped++;
+                    continue;
+                }
+                fresh.views[slot] = nonNull(book.getViewCount());
+                fresh.wishlists[slot] = nonNull(book.getWishlistCount());
+                fresh.reviews[slot] = nonNull(book.getReviewCount());
+                fresh.publishedDays[slot] = book.getPublishedDate() != null
+                        ? (int) book.getPublishedDate().toEpochDay()
+                        : NO_DATE;
+            }
+        } catch (Exception e) {
+            log.error("Failed to reconcile book feature store (keeping {} books)", size(), e);
+            return;
+        }
+
+        int changed;
+        stamp = lock.writeLock();
+        try {
+            changed = addChangesSince(start, table, fresh);
+            table = fresh;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+
+        if (dropped > 0) {
+            droppedCounter.increment(dropped);
+            log.warn("Book feature store is full ({} books), {} books not stored", maxBooks, dropped);
+        }
+        log.info("Reconciled book feature store ({} books, {} books updated during load)", fresh.size, changed);
+    }
+
+    public int size() {
+        long stamp = lock.readLock();
+        try {
+            return table.size;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * 인기도 점수 계산
+     * - 가중 합을 로그 스케일로 정규화 (0.0 ~ 1.0)
+     */
+    public static double calculatePopularityScore(long viewCount, long wishlistCount, long reviewCount) {
+        // 가중 평균
+        double weighted = (viewCount * 1.0) + (wishlistCount * 5.0) + (reviewCount * 3.0);
+
+        // 로그 스케일로 정규화 (0.0 ~ 1.0)
+        return Math.min(1.0, Math.log10(weighted + 1) / 4.0);
+    }
+
+    /**
+     * 증분 반영 (쓰기 잠금 안에서 호출)
+     *
+     * @return 용량 초과로 반영하지 못한 도서 수
+     */
+    private static int apply(Table table, Map<Long, Delta> deltas) {
+        int dropped = 0;
+        for (Map.Entry<Long, Delta> entry : deltas.entrySet()) {
+            int slot = table.slotFor(entry.getKey());
+            if (slot < 0) {
+                dropped++;
+                continue;
+            }
+            Delta delta = entry.getValue();
+            table.views[slot] = Math.max(0, table.views[slot] + delta.views());
+            table.wishlists[slot] = Math.max(0, table.wishlists[slot] + delta.wishlists());
+            table.reviews[slot] = Math.max(0, table.reviews[slot] + delta.reviews());
+        }
+        return dropped;
+    }
+
+    /**
+     * 적재 중 기존 테이블에 더해진 증분(current - start)을 새 테이블의 문서 값에 delta 로 더함 (쓰기 잠금 안에서 호출)
+     * - 새 테이블에 없는 도서(문서에서 사라졌거나 용량 초과)는 반영하지 않음
+     *
+     * @return 적재 중 카운트가 바뀐 도서 수
+     */
+    private static int addChangesSince(Table start, Table current, Table fresh) {
+        int changed = 0;
+        for (int slot = 0; slot < current.keys.length; slot++) {
+            long bookId = current.keys[slot];
+            if (bookId == 0) {
+                continue;
+            }
+            int startSlot = start.indexOf(bookId);
+            int views = current.views[slot] - (startSlot >= 0 ? start.views[startSlot] : 0);
+            int wishlists = current.wishlists[slot] - (startSlot >= 0 ? start.wishlists[startSlot] : 0);
+            int reviews = current.reviews[slot] - (startSlot >= 0 ? start.reviews[startSlot] : 0);
+            if (views == 0 && wishlists == 0 && reviews == 0) {
+                continue;
+            }
+            int freshSlot = fresh.indexOf(bookId);
+            if (freshSlot < 0) {
+                continue;
+            }
+            fresh.views[freshSlot] = Math.max(0, fresh.views[freshSlot] + views);
+            fresh.wishlists[freshSlot] = Math.max(0, fresh.wishlists[freshSlot] + wishlists);
+            fresh.reviews[freshSlot] = Math.max(0, fresh.reviews[freshSlot] + reviews);
+            changed++;
+        }
+        return changed;
+    }
+
+    private static double readPopularity(Table table, long bookId) {
+        int slot = table.indexOf(bookId);
+        if (slot < 0) {
+            return 0.0;
+        }
+        return calculatePopularityScore(table.views[slot], table.wishlists[slot], table.reviews[slot]);
+    }
+
+    private static long readPublishedDay(Table table, long bookId) {
+        int slot = table.indexOf(bookId);
+        if (slot < 0 || table.publishedDays[slot] == NO_DATE) {
+            return UNKNOWN_DATE;
+        }
+        return table.publishedDays[slot];
+    }
+
+    private static int nonNull(Integer value) {
+        return value != null ? Math.max(0, value) : 0;
+    }
+
+    /**
+     * 도서 하나의 카운트 증분
+     */
+    public record Delta(int views, int wishlists, int reviews) {
+
+        public Delta plus(Delta other) {
+            return new Delta(views + other.views, wishlists + other.wishlists, reviews + other.reviews);
+        }
+    }
+
+    /**
+     * 고정 용량 open addressing 테이블 (선형 탐사, 삭제 없음)
+     * - 슬롯 수는 maxBooks 의 2 배 이상 2 의 거듭제곱으로 두어 적재율을 0.5 이하로 유지
+     * - bookId 는 양수이므로 키 0 을 빈 슬롯으로 사용
+     */
+    static final class Table {
+
+        final long[] keys;
+        final int[] views;
+        final int[] wishlists;
+        final int[] reviews;
+        final int[] publishedDays;
+        final int mask;
+        final int maxSize;
+        int size;
+
+        Table(int maxSize) {
+            int capacity = Integer.highestOneBit(Math.max(2, maxSize) * 2 - 1) << 1;
+            this.keys = new long[capacity];
+            this.views = new int[capacity];
+            this.wishlists = new int[capacity];
+            this.reviews = new int[capacity];
+            this.publishedDays = new int[capacity];
+            Arrays.fill(publishedDays, NO_DATE);
+            this.mask = capacity - 1;
+            this.maxSize = maxSize;
+        }
+
+        /**
+         * 같은 내용의 복사본 (reconcile 시작 시점 카운트 보관용)
+         */
+        Table copy() {
+            return new Table(this);
+        }
+
+        private Table(Table source) {
+            this.keys = source.keys.clone();
+            this.views = source.views.clone();
+            this.wishlists = source.wishlists.clone();
+            this.reviews = source.reviews.clone();
+            this.publishedDays = source.publishedDays.clone();
+            this.mask = source.mask;
+            this.maxSize = source.maxSize;
+            this.size = source.size;
+        }
+
+        int indexOf(long key) {
+            if (key <= 0) {
+                return -1;
+            }
+            int slot = hash(key) & mask;
+            while (true) {
+                long current = keys[slot];
+                if (current == key) {
+                    return slot;
+                }
+                if (current == 0) {
+                    return -1;
+                }
+                slot = (slot + 1) & mask;
+            }
+        }
+
+        /**
+         * 키의 슬롯 (없으면 추가, 용량 초과 시 -1)
+         */
+        int slotFor(long key) {
+            if (key <= 0) {
+                return -1;
+            }
+            int slot = hash(key) & mask;
+            while (true) {
+                long current = keys[slot];
+                if (current == key) {
+                    return slot;
+                }
+                if (current == 0) {
+                    if (size >= maxSize) {
+                        return -1;
+                    }
+                    keys[slot] = key;
+                    size++;
+                    return slot;
+                }
+                slot = (slot + 1) & mask;
+            }
+        }
+
+        private static int hash(long key) {
+            long h = key * 0x9E3779B97F4A7C15L;
+            return (int) (h ^ (h >>> 32));
+        }
+    }
+}
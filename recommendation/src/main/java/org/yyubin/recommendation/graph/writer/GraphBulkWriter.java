@@ -0,0 +1,58 @@
+package org.yyubin.recommendation.graph.writer;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.neo4j.core.Neo4jClient;
+import org.springframework.stereotype.Component;
+
+/**
+ * UNWIND 일괄 쓰기
+ * - 청크 전체를 $rows 파라미터 하나로 넘겨 구문 하나로 실행 (엔티티/관계마다 구문을 만들지 않음)
+ * - MERGE 가 레이블 전체를 훑지 않도록 첫 쓰기 전에 키 속성 유니크 제약을 한 번 생성
+ *   (기존 데이터에 중복이 있어 실패하면 경고만 남기고 계속 진행)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GraphBulkWriter {
+
+    private static final List<String> CONSTRAINTS = List.of(
+            "CREATE CONSTRAINT user_id IF NOT EXISTS FOR (n:User) REQUIRE n.id IS UNIQUE",
+            "CREATE CONSTRAINT book_id IF NOT EXISTS FOR (n:Book) REQUIRE n.id IS UNIQUE",
+            "CREATE CONSTRAINT author_id IF NOT EXISTS FOR (n:Author) REQUIRE n.id IS UNIQUE",
+            "CREATE CONSTRAINT genre_name IF NOT EXISTS FOR (n:Genre) REQUIRE n.name IS UNIQUE",
+            "CREATE CONSTRAINT topic_name IF NOT EXISTS FOR (n:Topic) REQUIRE n.name IS UNIQUE",
+            "CREATE CONSTRAINT review_id IF NOT EXISTS FOR (n:Review) REQUIRE n.reviewId IS UNIQUE",
+            "CREATE CONSTRAINT highlight_value IF NOT EXISTS FOR (n:Highlight) REQUIRE n.normalizedValue IS UNIQUE"
+    );
+
+    private final Neo4jClient neo4jClient;
+    private final AtomicBoolean constraintsEnsured = new AtomicBoolean();
+
+    /**
+     * UNWIND $rows 구문 실행 (행이 없으면 실행하지 않음)
+     */
+    public void unwind(String cypher, List<Map<String, Object>> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        ensureConstraints();
+        neo4jClient.query(cypher).bind(rows).to("rows").run();
+    }
+
+    private void ensureConstraints() {
+        if (!constraintsEnsured.compareAndSet(false, true)) {
+            return;
+        }
+        for (String constraint : CONSTRAINTS) {
+            try {
+                neo4jClient.query(constraint).run();
+            } catch (Exception e) {
+                log.warn("Failed to create Neo4j constraint ({})", constraint, e);
+            }
+        }
+    }
+}
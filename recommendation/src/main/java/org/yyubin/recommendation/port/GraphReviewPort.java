@@ -5,4 +5,10 @@ import org.yyubin.recommendation.review.graph.ReviewNode;
 
 public interface GraphReviewPort {
     <S extends ReviewNode> List<S> saveAll(Iterable<S> reviews);
+
+    /**
+     * UNWIND 일괄 저장
+     * - 노드와 관계를 유형별 구문 하나씩으로 반영하고, 목록에 없는 기존 관계는 삭제
+     */
+    void upsertAll(List<? extends ReviewNode> reviews);
 }
@@ -29,6 +29,14 @@ public class WindowSampler {
     private final WindowSamplingConfig config;
     private final ShuffleStrategyFactory strategyFactory;
 
+    /**
+     * 윈도우 샘플링 사용 여부
+     * - false 면 applySampling 은 입력 순서(점수순)를 그대로 반환
+     */
+    public boolean isEnabled() {
+        return config.isEnabled();
+    }
+
     /**
      * 추천 리스트에 윈도우 샘플링 적용
      *
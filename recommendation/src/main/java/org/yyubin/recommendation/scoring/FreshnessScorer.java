@@ -4,12 +4,11 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 import org.yyubin.recommendation.candidate.RecommendationCandidate;
-import org.yyubin.recommendation.search.document.BookDocument;
-import org.yyubin.recommendation.search.repository.BookDocumentRepository;
+import org.yyubin.recommendation.feature.BookFeatureStore;
 
 import java.time.LocalDate;
 import java.time.temporal.ChronoUnit;
-import java.util.Optional;
+import java.util.List;
 
 /**
  * 신선도 기반 스코어러
@@ -20,37 +19,48 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public class FreshnessScorer implements Scorer {
 
-    private final BookDocumentRepository bookDocumentRepository;
+    private static final double DEFAULT_SCORE = 0.5; // 출간일을 알 수 없는 경우
+
+    private final BookFeatureStore featureStore;
 
     @Override
     public double score(Long userId, RecommendationCandidate candidate) {
-        try {
-            Optional<BookDocument> bookOpt = bookDocumentRepository
-                    .findById(String.valueOf(candidate.getBookId()));
+        long publishedDay = featureStore.publishedEpochDay(candidate.getBookId());
+        if (publishedDay == BookFeatureStore.UNKNOWN_DATE) {
+            return DEFAULT_SCORE;
+        }
+        return freshness(LocalDate.ofEpochDay(publishedDay), LocalDate.now());
+    }
 
-            if (bookOpt.isPresent() && bookOpt.get().getPublishedDate() != null) {
-                LocalDate publishedDate = bookOpt.get().getPublishedDate();
-                LocalDate now = LocalDate.now();
+    /**
+     * 컬럼 스코어링
+     * - 기준일을 한 번만 계산하고 피처 저장소에서 출간일을 읽어 채움
+     */
+    @Override
+    public void scoreInto(Long userId, List<RecommendationCandidate> candidates, double[] column) {
+        LocalDate now = LocalDate.now();
+        for (int i = 0; i < candidates.size(); i++) {
+            long publishedDay = featureStore.publishedEpochDay(candidates.get(i).getBookId());
+            column[i] = publishedDay == BookFeatureStore.UNKNOWN_DATE
+                    ? DEFAULT_SCORE
+                    : freshness(LocalDate.ofEpochDay(publishedDay), now);
+        }
+    }
 
-                // 출간일로부터 경과 일수
-                long daysSincePublished = ChronoUnit.DAYS.between(publishedDate, now);
+    private static double freshness(LocalDate publishedDate, LocalDate now) {
+        // 출간일로부터 경과 일수
+        long daysSincePublished = ChronoUnit.DAYS.between(publishedDate, now);
 
-                // 최근 1년 이내는 높은 점수
-                if (daysSincePublished < 365) {
-                    return 1.0 - (daysSincePublished / 365.0);
-                } else if (daysSincePublished < 365 * 3) {
-                    // 3년 이내는 중간 점수
-                    return 0.5 - ((daysSincePublished - 365) / (365.0 * 2)) * 0.5;
-                } else {
-                    // 3년 이상은 낮은 점수
-                    return 0.1;
-                }
-            }
-        } catch (Exception e) {
-            log.warn("Failed to calculate freshness for book {}", candidate.getBookId(), e);
+        // 최근 1년 이내는 높은 점수
+        if (daysSincePublished < 365) {
+            return 1.0 - (daysSincePublished / 365.0);
+        } else if (daysSincePublished < 365 * 3) {
+            // 3년 이내는 중간 점수
+            return 0.5 - ((daysSincePublished - 365) / (365.0 * 2)) * 0.5;
+        } else {
+            // 3년 이상은 낮은 점수
+            return 0.1;
         }
-
-        return 0.5; // 기본값
     }
 
     @Override
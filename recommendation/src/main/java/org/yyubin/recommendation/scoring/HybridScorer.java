@@ -55,7 +55,55 @@ public class HybridScorer {
     }
 
     /**
-     * 배치 스코어링
+     * 컬럼 스코어링
+     * - 후보를 bookId 배열과 스코어러별 점수 컬럼으로 펼치고, 각 스코어러가 자기 컬럼을 한 번에 채움
+     * - 가중치는 호출당 한 번만 읽고 가중합은 primitive 배열 위의 단일 루프로 계산
+     *
+     * @param userId 사용자 ID
+     * @param candidates 후보 리스트 (bookId 중복 없음)
+     * @return 후보 순서를 유지한 컬럼 결과 (상위 K 는 ScoredCandidates.topK)
+     */
+    public ScoredCandidates<RecommendationCandidate> scoreAll(Long userId, List<RecommendationCandidate> candidates) {
+        int n = candidates.size();
+        if (n == 0) {
+            return ScoredCandidates.empty();
+        }
+
+        long[] bookIds = new long[n];
+        for (int i = 0; i < n; i++) {
+            bookIds[i] = candidates.get(i).getBookId();
+        }
+
+        double[] graph = new double[n];
+        double[] semantic = new double[n];
+        double[] popularity = new double[n];
+        double[] freshness = new double[n];
+        graphScorer.scoreInto(userId, candidates, graph);
+        semanticScorer.scoreInto(userId, candidates, semantic);
+        popularityScorer.scoreInto(userId, candidates, popularity);
+        freshnessScorer.scoreInto(userId, candidates, freshness);
+
+        var weights = properties.getScoring().getWeights();
+        double wGraph = weights.getGraph();
+        double wSemantic = weights.getSemantic();
+        double wPopularity = weights.getPopularity();
+        double wFreshness = weights.getFreshness();
+
+        double[] finalScores = new double[n];
+        for (int i = 0; i < n; i++) {
+            finalScores[i] = graph[i] * wGraph
+                    + semantic[i] * wSemantic
+                    + popularity[i] * wPopularity
+                    + freshness[i] * wFreshness;
+        }
+
+        log.debug("Calculated {} columnar scores for user {}", n, userId);
+        return new ScoredCandidates<>(candidates, bookIds, finalScores);
+    }
+
+    /**
+     * 배치 스코어링 (후보 단위)
+     * - 후보마다 스코어러를 호출하고 결과를 맵으로 반환. 대량 후보는 scoreAll 사용
      *
      * @param userId 사용자 ID
      * @param candidates 후보 리스트
@@ -4,7 +4,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 import org.yyubin.recommendation.candidate.RecommendationCandidate;
-import org.yyubin.recommendation.search.repository.BookDocumentRepository;
+import org.yyubin.recommendation.feature.BookFeatureStore;
 
 /**
  * 인기도 기반 스코어러
@@ -15,7 +15,7 @@ import org.yyubin.recommendation.search.repository.BookDocumentRepository;
 @RequiredArgsConstructor
 public class PopularityScorer implements Scorer {
 
-    private final BookDocumentRepository bookDocumentRepository;
+    private final BookFeatureStore featureStore;
 
     @Override
     public double score(Long userId, RecommendationCandidate candidate) {
@@ -24,9 +24,8 @@ public class PopularityScorer implements Scorer {
             return candidate.getInitialScore();
         }
 
-        // TODO: Elasticsearch에서 bookId로 조회하여 실시간 인기도 계산
-        // 비-인기도 후보는 인기도 점수 미반영
-        return 0.0;
+        // 그 외 후보는 피처 저장소의 실시간 카운트로 계산 (저장소에 없는 도서는 0점)
+        return featureStore.popularityScore(candidate.getBookId());
     }
 
     @Override
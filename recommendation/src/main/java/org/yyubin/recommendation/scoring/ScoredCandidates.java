@@ -0,0 +1,141 @@
+package org.yyubin.recommendation.scoring;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 컬럼 형태의 스코어링 결과
+ * - i 번째 후보의 ID 와 최종 점수를 병렬 primitive 배열로 보관 (boxing 없음)
+ * - 상위 K 개는 전체 정렬 대신 크기 K 의 primitive min-heap 으로 선택
+ *
+ * @param <C> 후보 타입 (도서 후보, 리뷰 후보)
+ */
+public final class ScoredCandidates<C> {
+
+    private final List<C> candidates;
+    private final long[] ids;
+    private final double[] scores;
+
+    public ScoredCandidates(List<C> candidates, long[] ids, double[] scores) {
+        if (candidates.size() != ids.length || ids.length != scores.length) {
+            throw new IllegalArgumentException("Column lengths differ: candidates=" + candidates.size()
+                    + ", ids=" + ids.length + ", scores=" + scores.length);
+        }
+        this.candidates = candidates;
+        this.ids = ids;
+        this.scores = scores;
+    }
+
+    public static <C> ScoredCandidates<C> empty() {
+        return new ScoredCandidates<>(List.of(), new long[0], new double[0]);
+    }
+
+    public int size() {
+        return ids.length;
+    }
+
+    public boolean isEmpty() {
+        return ids.length == 0;
+    }
+
+    public C candidate(int index) {
+        return candidates.get(index);
+    }
+
+    public long id(int index) {
+        return ids[index];
+    }
+
+    public double score(int index) {
+        return scores[index];
+    }
+
+    /**
+     * 점수 상위 K 개 후보의 인덱스
+     * - 점수 내림차순, 동점이면 ID 내림차순 (캐시 ZSET 역순 조회와 같은 방향)
+     * - O(n log k), 후보 전체를 정렬하거나 boxing 하지 않음
+     *
+     * @param k 선택할 개수
+     * @return 후보 인덱스 배열 (순위 순)
+     */
+    public int[] topK(int k) {
+        int n = ids.length;
+        int size = Math.min(k, n);
+        if (size <= 0) {
+            return new int[0];
+        }
+
+        // heap[0] 이 현재 top-K 중 가장 낮은 순위
+        int[] heap = new int[size];
+        int filled = 0;
+        for (int i = 0; i < n; i++) {
+            if (filled < size) {
+                heap[filled] = i;
+                siftUp(heap, filled++);
+            } else if (ranksAbove(i, heap[0])) {
+                heap[0] = i;
+                siftDown(heap, 0, size);
+            }
+        }
+
+        // 최하위를 뒤에서부터 채워 순위 순으로 정렬
+        int[] ordered = new int[size];
+        for (int last = size - 1; last >= 0; last--) {
+            ordered[last] = heap[0];
+            heap[0] = heap[last];
+            siftDown(heap, 0, last);
+        }
+        return ordered;
+    }
+
+    /**
+     * 지정한 인덱스의 ID → 점수 맵 (순서 유지)
+     */
+    public Map<Long, Double> toMap(int[] indices) {
+        Map<Long, Double> map = new LinkedHashMap<>(indices.length * 2);
+        for (int index : indices) {
+            map.put(ids[index], scores[index]);
+        }
+        return map;
+    }
+
+    private boolean ranksAbove(int a, int b) {
+        int byScore = Double.compare(scores[a], scores[b]);
+        if (byScore != 0) {
+            return byScore > 0;
+        }
+        return ids[a] > ids[b];
+    }
+
+    private void siftUp(int[] heap, int position) {
+        int item = heap[position];
+        while (position > 0) {
+            int parent = (position - 1) >>> 1;
+            if (!ranksAbove(heap[parent], item)) {
+                break;
+            }
+            heap[position] = heap[parent];
+            position = parent;
+        }
+        heap[position] = item;
+    }
+
+    private void siftDown(int[] heap, int position, int size) {
+        int item = heap[position];
+        int half = size >>> 1;
+        while (position < half) {
+            int child = 2 * position + 1;
+            int right = child + 1;
+            if (right < size && ranksAbove(heap[child], heap[right])) {
+                child = right;
+            }
+            if (!ranksAbove(item, heap[child])) {
+                break;
+            }
+            heap[position] = heap[child];
+            position = child;
+        }
+        heap[position] = item;
+    }
+}
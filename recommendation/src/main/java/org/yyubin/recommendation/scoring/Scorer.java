@@ -31,6 +31,21 @@ public interface Scorer {
                 .toList();
     }
 
+    /**
+     * 컬럼 스코어링
+     * - candidates 와 같은 순서로 column 을 한 번의 순회로 채움
+     * - 외부 저장소를 조회하는 스코어러는 후보 단건 조회 대신 일괄 조회로 재정의
+     *
+     * @param userId 사용자 ID
+     * @param candidates 후보 리스트
+     * @param column 점수를 기록할 배열 (candidates.size() 이상)
+     */
+    default void scoreInto(Long userId, List<RecommendationCandidate> candidates, double[] column) {
+        for (int i = 0; i < candidates.size(); i++) {
+            column[i] = score(userId, candidates.get(i));
+        }
+    }
+
     /**
      * 스코어러 이름
      */
@@ -1,5 +1,7 @@
 package org.yyubin.recommendation.scoring.review;
 
+import java.util.Arrays;
+import java.util.List;
 import org.springframework.stereotype.Component;
 import org.yyubin.recommendation.candidate.ReviewRecommendationCandidate;
 
@@ -15,4 +17,20 @@ public class ReviewBookContextScorer {
         }
         return bookContextId.equals(candidate.getBookId()) ? 1.0 : 0.0;
     }
+
+    /**
+     * 컬럼 스코어링
+     * - 도서 컨텍스트가 없으면 후보를 보지 않고 0 으로 채움
+     */
+    public void scoreInto(Long bookContextId, List<ReviewRecommendationCandidate> candidates, double[] column) {
+        if (bookContextId == null) {
+            Arrays.fill(column, 0, candidates.size(), 0.0);
+            return;
+        }
+        long contextId = bookContextId;
+        for (int i = 0; i < candidates.size(); i++) {
+            Long bookId = candidates.get(i).getBookId();
+            column[i] = bookId != null && bookId == contextId ? 1.0 : 0.0;
+        }
+    }
 }
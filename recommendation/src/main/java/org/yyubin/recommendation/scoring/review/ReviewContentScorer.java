@@ -1,5 +1,6 @@
 package org.yyubin.recommendation.scoring.review;
 
+import java.util.List;
 import org.springframework.stereotype.Component;
 import org.yyubin.recommendation.candidate.ReviewRecommendationCandidate;
 
@@ -11,11 +12,24 @@ import org.yyubin.recommendation.candidate.ReviewRecommendationCandidate;
 public class ReviewContentScorer {
 
     public double score(ReviewRecommendationCandidate candidate) {
-        if (candidate.getSource() == null) {
+        return score(candidate.getSource());
+    }
+
+    /**
+     * 컬럼 스코어링 - candidates 와 같은 순서로 column 을 채움
+     */
+    public void scoreInto(List<ReviewRecommendationCandidate> candidates, double[] column) {
+        for (int i = 0; i < candidates.size(); i++) {
+            column[i] = score(candidates.get(i).getSource());
+        }
+    }
+
+    private static double score(ReviewRecommendationCandidate.CandidateSource source) {
+        if (source == null) {
             return 0.5;
         }
 
-        return switch (candidate.getSource()) {
+        return switch (source) {
             case SIMILAR_REVIEW -> 0.8;
             case FOLLOWED_USER -> 0.9;
             case BOOK_POPULAR -> 0.7;
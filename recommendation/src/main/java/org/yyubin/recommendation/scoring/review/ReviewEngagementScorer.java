@@ -1,5 +1,8 @@
 package org.yyubin.recommendation.scoring.review;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.core.RedisTemplate;
@@ -37,4 +40,34 @@ public class ReviewEngagementScorer {
 
         return 0.0;
     }
+
+    /**
+     * 컬럼 스코어링
+     * - 세션 부스트 해시를 HMGET 한 번으로 조회해 candidates 와 같은 순서로 column 을 채움
+     */
+    public void scoreInto(Long userId, List<ReviewRecommendationCandidate> candidates, double[] column) {
+        Arrays.fill(column, 0, candidates.size(), 0.0);
+        if (userId == null || candidates.isEmpty()) {
+            return;
+        }
+
+        String key = "session:user:" + userId + ":reviews";
+        List<Object> fields = new ArrayList<>(candidates.size());
+        for (ReviewRecommendationCandidate candidate : candidates) {
+            fields.add(String.valueOf(candidate.getReviewId()));
+        }
+
+        try {
+            List<Object> values = redisTemplate.opsForHash().multiGet(key, fields);
+            for (int i = 0; i < candidates.size() && i < values.size(); i++) {
+                Object value = values.get(i);
+                if (value != null) {
+                    column[i] = Math.min(1.0, Double.parseDouble(value.toString()) / 0.5);
+                }
+            }
+        } catch (Exception e) {
+            log.warn("Failed to read session boosts for user {} ({} reviews)", userId, candidates.size(), e);
+            Arrays.fill(column, 0, candidates.size(), 0.0);
+        }
+    }
 }
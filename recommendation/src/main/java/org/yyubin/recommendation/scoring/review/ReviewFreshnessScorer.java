@@ -2,6 +2,7 @@ package org.yyubin.recommendation.scoring.review;
 
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
+import java.util.List;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 import org.yyubin.recommendation.candidate.ReviewRecommendationCandidate;
@@ -14,13 +15,28 @@ import org.yyubin.recommendation.candidate.ReviewRecommendationCandidate;
 public class ReviewFreshnessScorer {
 
     public double score(ReviewRecommendationCandidate candidate) {
+        return score(candidate, LocalDateTime.now());
+    }
+
+    /**
+     * 컬럼 스코어링
+     * - 기준 시각을 호출당 한 번만 읽고 candidates 와 같은 순서로 column 을 채움
+     */
+    public void scoreInto(List<ReviewRecommendationCandidate> candidates, double[] column) {
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < candidates.size(); i++) {
+            column[i] = score(candidates.get(i), now);
+        }
+    }
+
+    private double score(ReviewRecommendationCandidate candidate, LocalDateTime now) {
         LocalDateTime createdAt = candidate.getCreatedAt();
         if (createdAt == null) {
             return 0.5;
         }
 
         try {
-            long days = ChronoUnit.DAYS.between(createdAt, LocalDateTime.now());
+            long days = ChronoUnit.DAYS.between(createdAt, now);
             if (days <= 0) {
                 return 1.0;
             }
@@ -1,5 +1,6 @@
 package org.yyubin.recommendation.scoring.review;
 
+import java.util.List;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 import org.yyubin.recommendation.candidate.ReviewRecommendationCandidate;
@@ -18,6 +19,16 @@ public class ReviewPopularityScorer {
         return 0.5;
     }
 
+    /**
+     * 컬럼 스코어링 - candidates 와 같은 순서로 column 을 채움
+     */
+    public void scoreInto(List<ReviewRecommendationCandidate> candidates, double[] column) {
+        for (int i = 0; i < candidates.size(); i++) {
+            Double initialScore = candidates.get(i).getInitialScore();
+            column[i] = initialScore != null ? Math.max(0.0, Math.min(1.0, initialScore)) : 0.5;
+        }
+    }
+
     private double clamp(Double value) {
         if (value == null) {
             return 0.0;
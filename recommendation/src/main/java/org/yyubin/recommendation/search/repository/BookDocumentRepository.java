@@ -8,6 +8,7 @@ import org.springframework.stereotype.Repository;
 import org.yyubin.recommendation.search.document.BookDocument;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * BookDocument Repository
@@ -89,4 +90,10 @@ public interface BookDocumentRepository extends ElasticsearchRepository<BookDocu
      * 인기도 기준 정렬 검색
      */
     List<BookDocument> findTop100ByOrderByViewCountDescWishlistCountDesc();
+
+    /**
+     * 전체 도서 스트리밍 조회 (scroll API, 결과 창 제한 없음)
+     * - 호출 측에서 스트림을 닫아야 scroll 컨텍스트가 정리됨
+     */
+    Stream<BookDocument> streamAllBy();
 }
@@ -4,12 +4,15 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
 import org.springframework.stereotype.Service;
 import org.yyubin.recommendation.config.RecommendationProperties;
 import org.yyubin.recommendation.sampling.WindowSampler;
 
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
 
@@ -27,7 +30,46 @@ public class RecommendationCacheService {
     private final WindowSampler windowSampler;
 
     private static final String RECOMMENDATION_KEY_PREFIX = "recommend:user:";
-    private static final int MAX_CACHED_ITEMS = 100; // 최대 100개까지 캐시
+    private static final String SESSION_ORDER_KEY_INFIX = ":session:";
+    static final int MAX_CACHED_ITEMS = 100; // 최대 100개까지 캐시
+
+    /**
+     * 추천 ZSET 교체 스크립트
+     * 스크립트는 원자적으로 실행되므로 DEL~ZADD 사이의 빈/부분 ZSET이 다른 클라이언트에 노출되지 않습니다.
+     * 단일 키만 다루므로 임시 키 + RENAME 없이도 클러스터 슬롯 제약 없이 교체됩니다.
+     * ARGV: ttlSeconds, score1, member1, score2, member2, ...
+     */
+    private static final String REPLACE_SCRIPT = """
+            local key = KEYS[1]
+            redis.call('DEL', key)
+            if #ARGV < 3 then
+              return 0
+            end
+            redis.call('ZADD', key, unpack(ARGV, 2))
+            redis.call('EXPIRE', key, tonumber(ARGV[1]))
+            return (#ARGV - 1) / 2
+            """;
+
+    /**
+     * 점수 증분 + 상위 N개 유지 + TTL 갱신 스크립트
+     * ARGV: member, delta, maxItems, ttlSeconds
+     */
+    private static final String INCREMENT_SCRIPT = """
+            local key = KEYS[1]
+            redis.call('ZINCRBY', key, ARGV[2], ARGV[1])
+            local max = tonumber(ARGV[3])
+            local size = redis.call('ZCARD', key)
+            if size > max then
+              redis.call('ZREMRANGEBYRANK', key, 0, size - max - 1)
+            end
+            redis.call('EXPIRE', key, tonumber(ARGV[4]))
+            return size
+            """;
+
+    private static final DefaultRedisScript<Long> REPLACE_RECOMMENDATIONS =
+            new DefaultRedisScript<>(REPLACE_SCRIPT, Long.class);
+    private static final DefaultRedisScript<Long> INCREMENT_SCORE =
+            new DefaultRedisScript<>(INCREMENT_SCRIPT, Long.class);
 
     /**
      * 추천 결과를 Redis ZSET에 저장
@@ -35,33 +77,34 @@ public class RecommendationCacheService {
      * @param userId 사용자 ID
      * @param recommendations bookId -> score 맵
      */
-    public void saveRecommendations(Long userId, java.util.Map<Long, Double> recommendations) {
+    public void saveRecommendations(Long userId, Map<Long, Double> recommendations) {
         String key = getRecommendationKey(userId);
 
         try {
-            // 기존 데이터 삭제
-            redisTemplate.delete(key);
-
-            // 새로운 데이터 저장
-            for (var entry : recommendations.entrySet()) {
-                String member = "book:" + entry.getKey();
-                double score = entry.getValue();
-                redisTemplate.opsForZSet().add(key, member, score);
-            }
+            // 상위 N개만 메모리에서 선별 (ZSET 제거 순서와 동일: 점수, 동점이면 member 사전순)
+            List<Map.Entry<String, Double>> topItems = recommendations.entrySet().stream()
+                    .filter(entry -> entry.getKey() != null && entry.getValue() != null)
+                    .map(entry -> Map.entry("book:" + entry.getKey(), entry.getValue()))
+                    .sorted(Comparator.<Map.Entry<String, Double>>comparingDouble(Map.Entry::getValue)
+                            .thenComparing(Map.Entry::getKey)
+                            .reversed())
+                    .limit(MAX_CACHED_ITEMS)
+                    .toList();
 
-            // 상위 N개만 유지 (메모리 효율)
-            long size = redisTemplate.opsForZSet().size(key);
-            if (size > MAX_CACHED_ITEMS) {
-                // 하위 항목 제거
-                redisTemplate.opsForZSet().removeRange(key, 0, size - MAX_CACHED_ITEMS - 1);
+            int ttlHours = properties.getCache().getTtlHours();
+            String[] args = new String[1 + topItems.size() * 2];
+            args[0] = Long.toString(TimeUnit.HOURS.toSeconds(ttlHours));
+            int i = 1;
+            for (Map.Entry<String, Double> item : topItems) {
+                args[i++] = Double.toString(item.getValue());
+                args[i++] = item.getKey();
             }
 
-            // TTL 설정
-            int ttlHours = properties.getCache().getTtlHours();
-            redisTemplate.expire(key, ttlHours, TimeUnit.HOURS);
+            // DEL + 다중 member ZADD + EXPIRE 를 한 번의 스크립트 호출로 원자적으로 교체
+            redisTemplate.execute(REPLACE_RECOMMENDATIONS, List.of(key), (Object[]) args);
 
             log.info("Saved {} recommendations for user {} (TTL: {}h)",
-                    recommendations.size(), userId, ttlHours);
+                    topItems.size(), userId, ttlHours);
 
         } catch (Exception e) {
             log.error("Failed to save recommendations for user {}", userId, e);
@@ -81,63 +124,22 @@ public class RecommendationCacheService {
 
     /**
      * 추천 결과 조회 (cursor 기반 페이징)
+     * - (score, bookId) 커서 위치부터 ZREVRANGEBYSCORE + LIMIT 으로 필요한 만큼만 조회 (O(log n + limit))
      *
      * @param userId 사용자 ID
-     * @param cursor 이전 페이지의 마지막 bookId
+     * @param cursor 이전 페이지 커서 ("s:{score}:{bookId}", 기존 클라이언트는 마지막 bookId)
      * @param limit 조회할 개수
      * @return 추천 결과 리스트
      */
-    public List<RecommendationResult> getRecommendations(Long userId, Long cursor, int limit) {
-        String key = getRecommendationKey(userId);
-
-        try {
-            // 전체 결과를 가져옴 (점수 높은 순)
-            Set<ZSetOperations.TypedTuple<String>> allResults = redisTemplate.opsForZSet()
-                    .reverseRangeWithScores(key, 0, -1);
-
-            if (allResults == null || allResults.isEmpty()) {
-                log.debug("No cached recommendations for user {}", userId);
-                return List.of();
-            }
-
-            List<RecommendationResult> recommendations = new ArrayList<>();
-            boolean foundCursor = cursor == null;
-            int rank = 1;
-
-            for (ZSetOperations.TypedTuple<String> tuple : allResults) {
-                String member = tuple.getValue();
-                Double score = tuple.getScore();
-
-                if (member != null && member.startsWith("book:")) {
-                    Long bookId = Long.parseLong(member.substring(5));
-
-                    if (foundCursor) {
-                        recommendations.add(RecommendationResult.builder()
-                                .bookId(bookId)
-                                .score(score)
-                                .rank(rank++)
-                                .build());
-
-                        if (recommendations.size() >= limit) {
-                            break;
-                        }
-                    } else if (bookId.equals(cursor)) {
-                        foundCursor = true;
-                    }
-                }
-            }
-
-            log.debug("Retrieved {} recommendations for user {}", recommendations.size(), userId);
-            return recommendations;
-
-        } catch (Exception e) {
-            log.error("Failed to get recommendations for user {}", userId, e);
-            return List.of();
-        }
+    public List<RecommendationResult> getRecommendations(Long userId, String cursor, int limit) {
+        return getRecommendationsByScore(userId, RecommendationCursor.parse(cursor), limit);
     }
 
     /**
      * 윈도우 샘플링을 적용한 추천 조회
+     * - 첫 페이지에서 샘플링한 순서를 세션 키에 저장하고, 이후 페이지는 그 순서에서 위치(offset)로 조회
+     * - 샘플링 시드는 시간에 따라 바뀌므로 매 페이지 재샘플링하면 페이지 사이에 중복/누락이 생길 수 있음
+     * - 모든 경로에서 rank 는 페이지 안에서의 순위(1부터)이고, 전체 순서상 위치는 커서가 담음
      *
      * @param userId 사용자 ID
      * @param cursor 페이징 커서
@@ -148,11 +150,31 @@ public class RecommendationCacheService {
      */
     public List<RecommendationResult> getRecommendationsWithSampling(
             Long userId,
-            Long cursor,
+            String cursor,
             int limit,
             String sessionId,
             boolean enableSampling
     ) {
+        RecommendationCursor parsed = RecommendationCursor.parse(cursor);
+
+        // 샘플링을 쓰지 않거나 점수 커서로 이어지는 요청은 ZSET 에서 직접 페이징
+        if (!enableSampling || (parsed != null && parsed.type() == RecommendationCursor.Type.SCORE)) {
+            return getRecommendationsByScore(userId, parsed, limit);
+        }
+
+        // 세션에 저장된 샘플링 순서가 있으면 그대로 이어서 조회
+        if (parsed != null && parsed.type() == RecommendationCursor.Type.OFFSET && sessionId != null) {
+            List<RecommendationResult> page = getSessionOrderPage(userId, sessionId, parsed.offset(), limit);
+            if (page != null) {
+                return page;
+            }
+        }
+
+        // 샘플러가 꺼져 있으면 점수 순서 그대로이므로 점수 커서로 페이징
+        if (!windowSampler.isEnabled()) {
+            return getRecommendationsByScore(userId, parsed, limit);
+        }
+
         // 1. 캐시에서 전체 추천 리스트 조회 (점수순)
         List<RecommendationResult> allRecommendations = getAllRecommendations(userId);
 
@@ -164,13 +186,92 @@ public class RecommendationCacheService {
         log.debug("Retrieved {} recommendations for user {} (enableSampling: {})",
                 allRecommendations.size(), userId, enableSampling);
 
-        // 2. 샘플링 적용 (활성화된 경우)
-        List<RecommendationResult> sampledRecommendations = enableSampling
-                ? windowSampler.applySampling(allRecommendations, sessionId)
-                : allRecommendations;
+        // 2. 샘플링 적용
+        List<RecommendationResult> sampledRecommendations =
+                windowSampler.applySampling(allRecommendations, sessionId);
 
-        // 3. Cursor 기반 페이징 적용
-        return applyCursorPagination(sampledRecommendations, cursor, limit);
+        int start = parsed == null ? 0 : parsed.startIndex(sampledRecommendations);
+
+        // 3. 세션별 샘플링 순서 저장 후 위치 기반 페이징
+        if (sessionId != null) {
+            saveSessionOrder(userId, sessionId, sampledRecommendations);
+        }
+        return slice(sampledRecommendations, start, limit, true);
+    }
+
+    /**
+     * 점수 순서 페이징 (내부 메서드)
+     * - 커서 점수 이하 구간을 LIMIT 단위로 읽고, 동점 중 커서 member 이전 항목과 book 이 아닌 member 는 건너뜀
+     */
+    private List<RecommendationResult> getRecommendationsByScore(Long userId, RecommendationCursor cursor, int limit) {
+        String key = getRecommendationKey(userId);
+
+        try {
+            // 기존 bookId 커서는 ZSCORE 로 점수를 찾아 점수 커서로 변환
+            if (cursor != null && cursor.type() == RecommendationCursor.Type.BOOK_ID) {
+                Double cursorScore = redisTemplate.opsForZSet()
+                        .score(key, RecommendationCursor.member(cursor.bookId()));
+                if (cursorScore == null) {
+                    log.debug("Cursor book {} not found in cached recommendations for user {}",
+                            cursor.bookId(), userId);
+                    return List.of();
+                }
+                cursor = RecommendationCursor.afterScore(cursorScore, cursor.bookId());
+            }
+            if (cursor != null && cursor.type() == RecommendationCursor.Type.OFFSET) {
+                return slice(getAllRecommendations(userId), cursor.offset(), limit, false);
+            }
+
+            double max = cursor != null ? cursor.score() : Double.POSITIVE_INFINITY;
+            int fetchSize = limit + 1;
+            long offset = 0;
+            List<RecommendationResult> recommendations = new ArrayList<>(limit);
+
+            while (recommendations.size() < limit) {
+                Set<ZSetOperations.TypedTuple<String>> batch = redisTemplate.opsForZSet()
+                        .reverseRangeByScoreWithScores(key, Double.NEGATIVE_INFINITY, max, offset, fetchSize);
+
+                if (batch == null || batch.isEmpty()) {
+                    break;
+                }
+
+                for (ZSetOperations.TypedTuple<String> tuple : batch) {
+                    String member = tuple.getValue();
+                    Double score = tuple.getScore();
+
+                    if (member == null || score == null || !member.startsWith("book:")) {
+                        continue;
+                    }
+                    if (cursor != null && !cursor.precedes(score, member)) {
+                        continue;
+                    }
+
+                    Long bookId = Long.parseLong(member.substring(5));
+                    recommendations.add(RecommendationResult.builder()
+                            .bookId(bookId)
+                            .score(score)
+                            .rank(recommendations.size() + 1)
+                            .cursor(RecommendationCursor.afterScore(score, bookId).encode())
+                            .build());
+
+                    if (recommendations.size() >= limit) {
+                        break;
+                    }
+                }
+
+                if (batch.size() < fetchSize) {
+                    break;
+                }
+                offset += batch.size();
+            }
+
+            log.debug("Retrieved {} recommendations for user {}", recommendations.size(), userId);
+            return recommendations;
+
+        } catch (Exception e) {
+            log.error("Failed to get recommendations for user {}", userId, e);
+            return List.of();
+        }
     }
 
     /**
@@ -210,48 +311,93 @@ public class RecommendationCacheService {
     }
 
     /**
-     * Cursor 기반 페이징 적용 (내부 메서드)
+     * 세션별 샘플링 순서 저장 (내부 메서드)
+     * - member: "{bookId}:{score}", score: 순서상 위치
      */
-    private List<RecommendationResult> applyCursorPagination(
-            List<RecommendationResult> recommendations,
-            Long cursor,
-            int limit
-    ) {
-        if (cursor == null) {
-            // cursor가 없으면 처음부터 limit개 반환
-            List<RecommendationResult> page = recommendations.stream()
-                    .limit(limit)
-                    .toList();
+    private void saveSessionOrder(Long userId, String sessionId, List<RecommendationResult> ordered) {
+        String key = getSessionOrderKey(userId, sessionId);
 
-            // 순위 매기기
-            int rank = 1;
-            for (RecommendationResult result : page) {
-                result.setRank(rank++);
+        try {
+            int ttlMinutes = properties.getCache().getSessionOrderTtlMinutes();
+            String[] args = new String[1 + ordered.size() * 2];
+            args[0] = Long.toString(TimeUnit.MINUTES.toSeconds(ttlMinutes));
+            int i = 1;
+            for (int position = 0; position < ordered.size(); position++) {
+                RecommendationResult result = ordered.get(position);
+                args[i++] = Integer.toString(position);
+                args[i++] = result.getBookId() + ":" + result.getScore();
             }
 
-            return page;
+            redisTemplate.execute(REPLACE_RECOMMENDATIONS, List.of(key), (Object[]) args);
+
+        } catch (Exception e) {
+            log.error("Failed to save session order for user {} session {}", userId, sessionId, e);
         }
+    }
 
-        // cursor 이후의 항목들만 필터링
-        boolean foundCursor = false;
-        List<RecommendationResult> page = new ArrayList<>();
-        int rank = 1;
+    /**
+     * 세션별 샘플링 순서에서 위치 기반 조회 (내부 메서드)
+     *
+     * @return 페이지 (저장된 순서가 없으면 null)
+     */
+    private List<RecommendationResult> getSessionOrderPage(Long userId, String sessionId, int offset, int limit) {
+        String key = getSessionOrderKey(userId, sessionId);
 
-        for (RecommendationResult result : recommendations) {
-            if (foundCursor) {
-                result.setRank(rank++);
-                page.add(result);
-                if (page.size() >= limit) {
-                    break;
-                }
-            } else if (result.getBookId().equals(cursor)) {
-                foundCursor = true;
-                rank = result.getRank() != null ? result.getRank() + 1 : 1;
-            } else {
-                rank++;
+        try {
+            Set<String> members = redisTemplate.opsForZSet()
+                    .rangeByScore(key, offset, Double.POSITIVE_INFINITY, 0, limit);
+
+            if (members == null || members.isEmpty()) {
+                // 순서가 남아 있으면 마지막 페이지를 지난 것, 없으면 만료된 것
+                return Boolean.TRUE.equals(redisTemplate.hasKey(key)) ? List.of() : null;
+            }
+
+            List<RecommendationResult> page = new ArrayList<>(members.size());
+            int position = offset;
+            for (String member : members) {
+                int separator = member.indexOf(':');
+                page.add(RecommendationResult.builder()
+                        .bookId(Long.parseLong(member.substring(0, separator)))
+                        .score(Double.parseDouble(member.substring(separator + 1)))
+                        .rank(position - offset + 1)
+                        .cursor(RecommendationCursor.afterOffset(position + 1).encode())
+                        .build());
+                position++;
             }
+            return page;
+
+        } catch (Exception e) {
+            log.error("Failed to get session order for user {} session {}", userId, sessionId, e);
+            return null;
         }
+    }
 
+    /**
+     * 메모리 리스트 페이징 (내부 메서드)
+     * - rank 는 페이지 안에서의 순위(1부터)
+     *
+     * @param positional true 면 위치 커서, false 면 점수 커서를 각 항목에 기록
+     */
+    private List<RecommendationResult> slice(
+            List<RecommendationResult> recommendations,
+            int start,
+            int limit,
+            boolean positional
+    ) {
+        int end = Math.min(recommendations.size(), start + limit);
+        if (start >= end) {
+            return List.of();
+        }
+
+        List<RecommendationResult> page = new ArrayList<>(end - start);
+        for (int position = start; position < end; position++) {
+            RecommendationResult result = recommendations.get(position);
+            result.setRank(position - start + 1);
+            result.setCursor(positional
+                    ? RecommendationCursor.afterOffset(position + 1).encode()
+                    : RecommendationCursor.after(result).encode());
+            page.add(result);
+        }
         return page;
     }
 
@@ -284,13 +430,15 @@ public class RecommendationCacheService {
         String key = getRecommendationKey(userId);
         String member = "book:" + bookId;
         try {
-            redisTemplate.opsForZSet().incrementScore(key, member, delta);
-            long size = redisTemplate.opsForZSet().size(key);
-            if (size > MAX_CACHED_ITEMS) {
-                redisTemplate.opsForZSet().removeRange(key, 0, size - MAX_CACHED_ITEMS - 1);
-            }
             int ttlHours = properties.getCache().getTtlHours();
-            redisTemplate.expire(key, ttlHours, TimeUnit.HOURS);
+            redisTemplate.execute(
+                    INCREMENT_SCORE,
+                    List.of(key),
+                    member,
+                    Double.toString(delta),
+                    Integer.toString(MAX_CACHED_ITEMS),
+                    Long.toString(TimeUnit.HOURS.toSeconds(ttlHours))
+            );
         } catch (Exception e) {
             log.error("Failed to increment score for user {} book {}", userId, bookId, e);
         }
@@ -340,6 +488,10 @@ public class RecommendationCacheService {
         return RECOMMENDATION_KEY_PREFIX + userId;
     }
 
+    private String getSessionOrderKey(Long userId, String sessionId) {
+        return RECOMMENDATION_KEY_PREFIX + userId + SESSION_ORDER_KEY_INFIX + sessionId;
+    }
+
     /**
      * 캐시 통계 DTO
      */
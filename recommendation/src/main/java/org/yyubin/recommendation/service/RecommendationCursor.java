@@ -0,0 +1,146 @@
+package org.yyubin.recommendation.service;
+
+import java.util.Comparator;
+import java.util.List;
+import org.yyubin.application.recommendation.exception.InvalidRecommendationCursorException;
+
+/**
+ * 추천 페이징 커서
+ * - SCORE: 이전 페이지 마지막 항목의 (score, bookId). 캐시 ZSET 을 ZREVRANGEBYSCORE + LIMIT 으로 이어서 조회
+ * - OFFSET: 세션별로 고정(materialize)된 샘플링 순서에서의 다음 위치
+ * - BOOK_ID: 기존 클라이언트 호환용 (이전 페이지 마지막 bookId)
+ *
+ * 직렬화 형식: "s:{score}:{bookId}", "o:{offset}", 숫자만 있으면 bookId
+ */
+public record RecommendationCursor(Type type, double score, long bookId, int offset) {
+
+    private static final String BOOK_MEMBER_PREFIX = "book:";
+    private static final String SCORE_PREFIX = "s:";
+    private static final String OFFSET_PREFIX = "o:";
+
+    /**
+     * Redis ZSET 역순 조회와 같은 정렬
+     * - 점수 내림차순, 동점이면 member("book:{id}") 사전 역순
+     */
+    public static final Comparator<RecommendationResult> ORDER = (a, b) -> {
+        int byScore = Double.compare(scoreOf(b), scoreOf(a));
+        if (byScore != 0) {
+            return byScore;
+        }
+        return member(b.getBookId()).compareTo(member(a.getBookId()));
+    };
+
+    public enum Type {
+        SCORE,
+        OFFSET,
+        BOOK_ID
+    }
+
+    public static RecommendationCursor afterScore(double score, long bookId) {
+        return new RecommendationCursor(Type.SCORE, score, bookId, 0);
+    }
+
+    public static RecommendationCursor afterOffset(int offset) {
+        return new RecommendationCursor(Type.OFFSET, 0.0, 0L, offset);
+    }
+
+    public static RecommendationCursor afterBookId(long bookId) {
+        return new RecommendationCursor(Type.BOOK_ID, 0.0, bookId, 0);
+    }
+
+    public static RecommendationCursor after(RecommendationResult result) {
+        return afterScore(scoreOf(result), result.getBookId());
+    }
+
+    /**
+     * 커서 문자열 파싱
+     *
+     * @param raw 클라이언트가 전달한 커서 (null 이면 첫 페이지)
+     * @return 파싱된 커서 (첫 페이지면 null)
+     * @throws InvalidRecommendationCursorException 형식이 잘못된 경우 (API 에서 400)
+     */
+    public static RecommendationCursor parse(String raw) {
+        if (raw == null || raw.isBlank()) {
+            return null;
+        }
+        try {
+            if (raw.startsWith(SCORE_PREFIX)) {
+                int separator = raw.lastIndexOf(':');
+                double score = Double.parseDouble(raw.substring(SCORE_PREFIX.length(), separator));
+                long bookId = Long.parseLong(raw.substring(separator + 1));
+                return afterScore(score, bookId);
+            }
+            if (raw.startsWith(OFFSET_PREFIX)) {
+                int offset = Integer.parseInt(raw.substring(OFFSET_PREFIX.length()));
+                if (offset < 0) {
+                    throw new InvalidRecommendationCursorException("Invalid recommendation cursor: " + raw, null);
+                }
+                return afterOffset(offset);
+            }
+            return afterBookId(Long.parseLong(raw));
+        } catch (NumberFormatException | StringIndexOutOfBoundsException e) {
+            throw new InvalidRecommendationCursorException("Invalid recommendation cursor: " + raw, e);
+        }
+    }
+
+    public String encode() {
+        return switch (type) {
+            case SCORE -> SCORE_PREFIX + score + ":" + bookId;
+            case OFFSET -> OFFSET_PREFIX + offset;
+            case BOOK_ID -> Long.toString(bookId);
+        };
+    }
+
+    /**
+     * (score, member) 항목이 SCORE 커서 뒤(다음 페이지)에 오는지 여부
+     */
+    public boolean precedes(double itemScore, String itemMember) {
+        int byScore = Double.compare(score, itemScore);
+        if (byScore != 0) {
+            return byScore > 0;
+        }
+        return member(bookId).compareTo(itemMember) > 0;
+    }
+
+    /**
+     * ORDER 로 정렬된 리스트에서 커서 다음 항목의 인덱스
+     * - SCORE: 이진 탐색 (커서 항목이 사라졌어도 같은 위치에서 이어짐)
+     * - OFFSET: 그대로 사용
+     * - BOOK_ID: 선형 탐색, 찾지 못하면 리스트 끝
+     */
+    public int startIndex(List<RecommendationResult> ordered) {
+        return switch (type) {
+            case OFFSET -> Math.min(offset, ordered.size());
+            case BOOK_ID -> {
+                for (int i = 0; i < ordered.size(); i++) {
+                    if (ordered.get(i).getBookId() == bookId) {
+                        yield i + 1;
+                    }
+                }
+                yield ordered.size();
+            }
+            case SCORE -> {
+                int low = 0;
+                int high = ordered.size();
+                while (low < high) {
+                    int mid = (low + high) >>> 1;
+                    RecommendationResult item = ordered.get(mid);
+                    if (precedes(scoreOf(item), member(item.getBookId()))) {
+                        high = mid;
+                    } else {
+                        low = mid + 1;
+                    }
+                }
+                yield low;
+            }
+        };
+    }
+
+    static String member(long bookId) {
+        return BOOK_MEMBER_PREFIX + bookId;
+    }
+
+    private static double scoreOf(RecommendationResult result) {
+        return result.getScore() != null ? result.getScore() : 0.0;
+    }
+}
@@ -18,4 +18,7 @@ public class RecommendationResult {
     // 메타데이터
     private String source;
     private String reason;
+
+    // 이 항목 다음 페이지를 요청할 때 사용하는 커서 (RecommendationCursor 직렬화 값)
+    private String cursor;
 }
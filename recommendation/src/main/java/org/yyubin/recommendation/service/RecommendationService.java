@@ -3,11 +3,12 @@ package org.yyubin.recommendation.service;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.yyubin.recommendation.candidate.ElasticsearchCandidateGenerator;
-import org.yyubin.recommendation.candidate.Neo4jCandidateGenerator;
+import org.yyubin.recommendation.candidate.CandidateFanOut;
+import org.yyubin.recommendation.candidate.PopularBooksSnapshot;
 import org.yyubin.recommendation.candidate.RecommendationCandidate;
 import org.yyubin.recommendation.config.RecommendationProperties;
 import org.yyubin.recommendation.scoring.HybridScorer;
+import org.yyubin.recommendation.scoring.ScoredCandidates;
 
 import java.util.*;
 import java.util.stream.Collectors;
@@ -21,8 +22,8 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class RecommendationService {
 
-    private final Neo4jCandidateGenerator neo4jCandidateGenerator;
-    private final ElasticsearchCandidateGenerator elasticsearchCandidateGenerator;
+    private final CandidateFanOut candidateFanOut;
+    private final PopularBooksSnapshot popularBooksSnapshot;
     private final HybridScorer hybridScorer;
     private final RecommendationCacheService cacheService;
     private final RecommendationProperties properties;
@@ -43,12 +44,12 @@ public class RecommendationService {
      * 사용자 맞춤 추천 생성 (cursor 기반 페이징)
      *
      * @param userId 사용자 ID (nullable - null이면 비로그인 사용자)
-     * @param cursor 이전 페이지의 마지막 bookId
+     * @param cursor 이전 페이지 커서 (RecommendationCursor 형식, 기존 bookId 도 허용)
      * @param limit 추천할 도서 수
      * @param forceRefresh 캐시 무시하고 재계산 여부
      * @return 추천 결과 리스트
      */
-    public List<RecommendationResult> generateRecommendations(Long userId, Long cursor, int limit, boolean forceRefresh) {
+    public List<RecommendationResult> generateRecommendations(Long userId, String cursor, int limit, boolean forceRefresh) {
         return generateRecommendations(userId, cursor, limit, forceRefresh, false, null);
     }
 
@@ -56,7 +57,7 @@ public class RecommendationService {
      * 사용자 맞춤 추천 생성 (샘플링 지원)
      *
      * @param userId 사용자 ID (nullable - null이면 비로그인 사용자)
-     * @param cursor 이전 페이지의 마지막 bookId
+     * @param cursor 이전 페이지 커서 (RecommendationCursor 형식, 기존 bookId 도 허용)
      * @param limit 추천할 도서 수
      * @param forceRefresh 캐시 무시하고 재계산 여부
      * @param enableSampling 윈도우 샘플링 활성화 여부
@@ -65,7 +66,7 @@ public class RecommendationService {
      */
     public List<RecommendationResult> generateRecommendations(
             Long userId,
-            Long cursor,
+            String cursor,
             int limit,
             boolean forceRefresh,
             boolean enableSampling,
@@ -74,6 +75,8 @@ public class RecommendationService {
         log.info("Generating recommendations for user {} (cursor: {}, limit: {}, forceRefresh: {}, sampling: {})",
                 userId, cursor, limit, forceRefresh, enableSampling);
 
+        RecommendationCursor parsedCursor = RecommendationCursor.parse(cursor);
+
         // 비로그인 사용자는 기본 추천 반환
         if (userId == null) {
             log.info("Generating default recommendations for non-logged-in user");
@@ -105,34 +108,29 @@ public class RecommendationService {
 
         log.debug("Unique candidates: {} (from {} total)", uniqueCandidates.size(), candidates.size());
 
-        // 5. 스코어링
-        Map<Long, Double> scores = hybridScorer.batchCalculate(userId, new ArrayList<>(uniqueCandidates.values()));
+        // 5. 스코어링 (컬럼 단위 계산 후 캐시에 남길 상위 K 개만 선택)
+        ScoredCandidates<RecommendationCandidate> scored =
+                hybridScorer.scoreAll(userId, new ArrayList<>(uniqueCandidates.values()));
+        int[] top = scored.topK(RecommendationCacheService.MAX_CACHED_ITEMS);
 
         // 6. Redis에 저장
-        cacheService.saveRecommendations(userId, scores);
-
-        // 7. 정렬 및 결과 반환
-        List<RecommendationResult> allResults = scores.entrySet().stream()
-                .sorted(Map.Entry.<Long, Double>comparingByValue().reversed())
-                .map(entry -> {
-                    RecommendationCandidate candidate = uniqueCandidates.get(entry.getKey());
-                    return RecommendationResult.builder()
-                            .bookId(entry.getKey())
-                            .score(entry.getValue())
-                            .source(candidate.getSource().name())
-                            .reason(candidate.getReason())
-                            .build();
-                })
-                .toList();
-
-        // 8. cursor 기반 페이징
-        List<RecommendationResult> results = applyCursorPagination(allResults, cursor, limit);
-
-        // 9. 순위 매기기
-        int rank = 1;
-        for (RecommendationResult result : results) {
-            result.setRank(rank++);
+        cacheService.saveRecommendations(userId, scored.toMap(top));
+
+        // 7. 결과 변환 (캐시 ZSET 과 같은 순서로 정렬해야 커서가 두 경로에서 호환됨)
+        List<RecommendationResult> allResults = new ArrayList<>(top.length);
+        for (int index : top) {
+            RecommendationCandidate candidate = scored.candidate(index);
+            allResults.add(RecommendationResult.builder()
+                    .bookId(scored.id(index))
+                    .score(scored.score(index))
+                    .source(candidate.getSource().name())
+                    .reason(candidate.getReason())
+                    .build());
         }
+        allResults.sort(RecommendationCursor.ORDER);
+
+        // 8. cursor 기반 페이징 및 순위 매기기
+        List<RecommendationResult> results = applyCursorPagination(allResults, parsedCursor, limit);
 
         log.info("Generated {} recommendations for user {}", results.size(), userId);
         return results;
@@ -152,18 +150,19 @@ public class RecommendationService {
     /**
      * 기본 추천 생성 (cursor 기반 페이징)
      *
-     * @param cursor 이전 페이지의 마지막 bookId
+     * @param cursor 이전 페이지 커서 (RecommendationCursor 형식, 기존 bookId 도 허용)
      * @param limit 추천할 도서 수
      * @return 추천 결과 리스트
      */
-    public List<RecommendationResult> generateDefaultRecommendations(Long cursor, int limit) {
+    public List<RecommendationResult> generateDefaultRecommendations(String cursor, int limit) {
         log.info("Generating default recommendations (cursor: {}, limit: {})", cursor, limit);
 
+        RecommendationCursor parsedCursor = RecommendationCursor.parse(cursor);
+
         try {
-            // Elasticsearch에서 인기 도서 후보 생성 (cursor 고려하여 더 많이 가져옴)
+            // 인기 도서 스냅샷에서 후보 생성 (ES 조회 없음, cursor 고려하여 더 많이 가져옴)
             int fetchLimit = cursor != null ? limit * 3 : limit;
-            List<RecommendationCandidate> popularCandidates =
-                    elasticsearchCandidateGenerator.generateCandidates(null, fetchLimit);
+            List<RecommendationCandidate> popularCandidates = popularBooksSnapshot.topCandidates(fetchLimit);
 
             if (popularCandidates.isEmpty()) {
                 log.warn("No popular books found for default recommendations");
@@ -178,16 +177,12 @@ public class RecommendationService {
                             .source(candidate.getSource().name())
                             .reason(candidate.getReason())
                             .build())
+                    .sorted(RecommendationCursor.ORDER)
                     .toList();
 
-            // cursor 기반 페이징
-            List<RecommendationResult> results = applyCursorPagination(allResults, cursor, limit);
-
-            // 순위 매기기
-            int rank = 1;
-            for (RecommendationResult result : results) {
-                result.setRank(rank++);
-            }
+            // cursor 기반 페이징 및 순위 매기기
+            List<RecommendationResult> results =
+                    applyCursorPagination(allResults, parsedCursor, limit);
 
             log.info("Generated {} default recommendations", results.size());
             return results;
@@ -213,11 +208,11 @@ public class RecommendationService {
      * 캐시된 추천 조회 (cursor 기반 페이징)
      *
      * @param userId 사용자 ID
-     * @param cursor 이전 페이지의 마지막 bookId
+     * @param cursor 이전 페이지 커서 (RecommendationCursor 형식, 기존 bookId 도 허용)
      * @param limit 조회할 개수
      * @return 추천 결과 리스트
      */
-    public List<RecommendationResult> getCachedRecommendations(Long userId, Long cursor, int limit) {
+    public List<RecommendationResult> getCachedRecommendations(Long userId, String cursor, int limit) {
         return cacheService.getRecommendations(userId, cursor, limit);
     }
 
@@ -252,35 +247,12 @@ public class RecommendationService {
 
     /**
      * 후보 생성 (내부 메서드)
+     * - 모든 후보 source 를 동시에 실행하고 마감 시간 안에 끝난 결과만 사용
      */
     private List<RecommendationCandidate> generateCandidates(Long userId) {
-        List<RecommendationCandidate> candidates = new ArrayList<>();
-
         int maxCandidates = properties.getSearch().getMaxCandidates();
-        int perGeneratorLimit = maxCandidates / 2; // Neo4j와 Elasticsearch에 균등 분배
-
-        try {
-            // Neo4j 기반 후보
-            List<RecommendationCandidate> neo4jCandidates =
-                    neo4jCandidateGenerator.generateCandidates(userId, perGeneratorLimit);
-            candidates.addAll(neo4jCandidates);
-            log.debug("Generated {} Neo4j candidates", neo4jCandidates.size());
-
-        } catch (Exception e) {
-            log.error("Failed to generate Neo4j candidates for user {}", userId, e);
-        }
-
-        try {
-            // Elasticsearch 기반 후보
-            List<RecommendationCandidate> esCandidates =
-                    elasticsearchCandidateGenerator.generateCandidates(userId, perGeneratorLimit);
-            candidates.addAll(esCandidates);
-            log.debug("Generated {} Elasticsearch candidates", esCandidates.size());
-
-        } catch (Exception e) {
-            log.error("Failed to generate Elasticsearch candidates for user {}", userId, e);
-        }
-
+        List<RecommendationCandidate> candidates = candidateFanOut.generate(userId, maxCandidates);
+        log.debug("Generated {} candidates for user {}", candidates.size(), userId);
         return candidates;
     }
 
@@ -298,27 +270,27 @@ public class RecommendationService {
                 .build();
     }
 
+    /**
+     * 점수순 결과에 cursor 페이징 적용
+     * - 커서 위치는 이진 탐색으로 찾고, 각 항목에 다음 페이지 커서를 기록
+     */
     private List<RecommendationResult> applyCursorPagination(
             List<RecommendationResult> allResults,
-            Long cursor,
+            RecommendationCursor cursor,
             int limit
     ) {
-        if (cursor == null) {
-            return allResults.stream().limit(limit).toList();
+        int start = cursor == null ? 0 : cursor.startIndex(allResults);
+        int end = Math.min(allResults.size(), start + limit);
+        if (start >= end) {
+            return List.of();
         }
 
-        // cursor 이후의 항목들만 필터링
-        boolean foundCursor = false;
-        List<RecommendationResult> results = new ArrayList<>();
-        for (RecommendationResult result : allResults) {
-            if (foundCursor) {
-                results.add(result);
-                if (results.size() >= limit) {
-                    break;
-                }
-            } else if (result.getBookId().equals(cursor)) {
-                foundCursor = true;
-            }
+        List<RecommendationResult> results = new ArrayList<>(end - start);
+        int rank = 1;
+        for (RecommendationResult result : allResults.subList(start, end)) {
+            result.setRank(rank++);
+            result.setCursor(RecommendationCursor.after(result).encode());
+            results.add(result);
         }
         return results;
     }
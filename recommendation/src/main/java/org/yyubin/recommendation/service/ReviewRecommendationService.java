@@ -11,6 +11,7 @@ import org.yyubin.recommendation.candidate.ReviewElasticsearchCandidateGenerator
 import org.yyubin.recommendation.candidate.ReviewNeo4jCandidateGenerator;
 import org.yyubin.recommendation.candidate.ReviewRecommendationCandidate;
 import org.yyubin.recommendation.config.ReviewRecommendationProperties;
+import org.yyubin.recommendation.scoring.ScoredCandidates;
 import org.yyubin.recommendation.scoring.review.ReviewHybridScorer;
 
 /**
@@ -87,23 +88,23 @@ public class ReviewRecommendationService {
                         }
                 ));
 
-        Map<Long, Double> scores = hybridScorer.batchCalculate(userId, bookContextId, new ArrayList<>(unique.values()));
-        cacheService.save(userId, bookContextId, scores);
-
-        List<ReviewRecommendationResult> allResults = scores.entrySet().stream()
-                .sorted(Map.Entry.<Long, Double>comparingByValue().reversed())
-                .map(entry -> {
-                    ReviewRecommendationCandidate candidate = unique.get(entry.getKey());
-                    return ReviewRecommendationResult.builder()
-                            .reviewId(entry.getKey())
-                            .bookId(candidate != null ? candidate.getBookId() : null)
-                            .score(entry.getValue())
-                            .source(candidate != null && candidate.getSource() != null ? candidate.getSource().name() : null)
-                            .reason(candidate != null ? candidate.getReason() : null)
-                            .createdAt(candidate != null ? candidate.getCreatedAt() : null)
-                            .build();
-                })
-                .toList();
+        ScoredCandidates<ReviewRecommendationCandidate> scored =
+                hybridScorer.scoreAll(userId, bookContextId, new ArrayList<>(unique.values()));
+        int[] top = scored.topK(properties.getCache().getMaxItems());
+        cacheService.save(userId, bookContextId, scored.toMap(top));
+
+        List<ReviewRecommendationResult> allResults = new ArrayList<>(top.length);
+        for (int index : top) {
+            ReviewRecommendationCandidate candidate = scored.candidate(index);
+            allResults.add(ReviewRecommendationResult.builder()
+                    .reviewId(scored.id(index))
+                    .bookId(candidate.getBookId())
+                    .score(scored.score(index))
+                    .source(candidate.getSource() != null ? candidate.getSource().name() : null)
+                    .reason(candidate.getReason())
+                    .createdAt(candidate.getCreatedAt())
+                    .build());
+        }
 
         // cursor 기반 페이징
         List<ReviewRecommendationResult> results = applyCursorPagination(allResults, cursor, limit);
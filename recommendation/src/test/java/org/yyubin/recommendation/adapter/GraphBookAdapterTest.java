@@ -4,9 +4,13 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.yyubin.recommendation.graph.writer.GraphBulkWriter;
+import org.yyubin.recommendation.graph.node.AuthorNode;
+import org.yyubin.recommendation.graph.node.GenreNode;
 import org.yyubin.recommendation.graph.node.BookNode;
 import org.yyubin.recommendation.graph.repository.BookNodeRepository;
 
@@ -14,8 +18,13 @@ import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -25,6 +34,9 @@ class GraphBookAdapterTest {
     @Mock
     private BookNodeRepository bookNodeRepository;
 
+    @Mock
+    private GraphBulkWriter graphBulkWriter;
+
     @InjectMocks
     private GraphBookAdapter graphBookAdapter;
 
@@ -139,4 +151,48 @@ class GraphBookAdapterTest {
             assertThat(result.get(0).getReviewCount()).isEqualTo(500);
         }
     }
+
+    @Nested
+    @DisplayName("upsertAll 테스트")
+    class UpsertAllTest {
+
+        @Test
+        @DisplayName("도서와 저자/장르/토픽 관계를 유형별 UNWIND 구문으로 저장한다")
+        void upsertAll_OneStatementPerType() {
+            // Given
+            BookNode book = BookNode.builder()
+                    .id(1L)
+                    .title("Book 1")
+                    .authors(Set.of(AuthorNode.builder().id(7L).name("Author").build()))
+                    .genres(Set.of(GenreNode.builder().name("문학").bookCount(3).build()))
+                    .build();
+
+            // When
+            graphBookAdapter.upsertAll(List.of(book));
+
+            // Then
+            @SuppressWarnings("unchecked")
+            ArgumentCaptor<List<Map<String, Object>>> bookRows = ArgumentCaptor.forClass(List.class);
+            verify(graphBulkWriter).unwind(eq(GraphBookAdapter.UPSERT_BOOKS), bookRows.capture());
+            assertThat(bookRows.getValue()).singleElement().satisfies(row -> {
+                assertThat(row.get("title")).isEqualTo("Book 1");
+                assertThat(row.get("authorIds")).isEqualTo(List.of(7L));
+                assertThat(row.get("genreNames")).isEqualTo(List.of("문학"));
+                assertThat(row.get("topicNames")).isEqualTo(List.of());
+            });
+            verify(graphBulkWriter).unwind(GraphBookAdapter.DELETE_STALE_RELATIONSHIPS, bookRows.getValue());
+
+            @SuppressWarnings("unchecked")
+            ArgumentCaptor<List<Map<String, Object>>> authorRows = ArgumentCaptor.forClass(List.class);
+            verify(graphBulkWriter).unwind(eq(GraphBookAdapter.MERGE_AUTHORS), authorRows.capture());
+            assertThat(authorRows.getValue()).singleElement().satisfies(row -> {
+                assertThat(row.get("bookId")).isEqualTo(1L);
+                assertThat(row.get("id")).isEqualTo(7L);
+                assertThat(row.get("name")).isEqualTo("Author");
+            });
+            verify(graphBulkWriter).unwind(eq(GraphBookAdapter.MERGE_GENRES), anyList());
+            verify(graphBulkWriter).unwind(GraphBookAdapter.MERGE_TOPICS, List.of());
+            verify(bookNodeRepository, never()).saveAll(anyList());
+        }
+    }
 }
@@ -4,17 +4,25 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.yyubin.recommendation.graph.writer.GraphBulkWriter;
+import org.yyubin.recommendation.review.graph.HighlightNode;
 import org.yyubin.recommendation.review.graph.ReviewNode;
 import org.yyubin.recommendation.review.graph.ReviewNodeRepository;
 
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -24,6 +32,9 @@ class GraphReviewAdapterTest {
     @Mock
     private ReviewNodeRepository reviewNodeRepository;
 
+    @Mock
+    private GraphBulkWriter graphBulkWriter;
+
     @InjectMocks
     private GraphReviewAdapter graphReviewAdapter;
 
@@ -134,4 +145,33 @@ class GraphReviewAdapterTest {
                     .containsExactly(100L, 101L);
         }
     }
+
+    @Nested
+    @DisplayName("upsertAll 테스트")
+    class UpsertAllTest {
+
+        @Test
+        @DisplayName("리뷰와 하이라이트 관계를 UNWIND 구문으로 저장한다")
+        void upsertAll_UpsertsReviewsAndHighlights() {
+            // Given
+            ReviewNode review = new ReviewNode(1L, 10L, 100L, Set.of(new HighlightNode("norm", "Raw")));
+
+            // When
+            graphReviewAdapter.upsertAll(List.of(review));
+
+            // Then
+            @SuppressWarnings("unchecked")
+            ArgumentCaptor<List<Map<String, Object>>> reviewRows = ArgumentCaptor.forClass(List.class);
+            verify(graphBulkWriter).unwind(eq(GraphReviewAdapter.UPSERT_REVIEWS), reviewRows.capture());
+            assertThat(reviewRows.getValue()).singleElement().satisfies(row -> {
+                assertThat(row.get("reviewId")).isEqualTo(1L);
+                assertThat(row.get("userId")).isEqualTo(10L);
+                assertThat(row.get("bookId")).isEqualTo(100L);
+                assertThat(row.get("highlights")).isEqualTo(List.of("norm"));
+            });
+            verify(graphBulkWriter).unwind(GraphReviewAdapter.DELETE_STALE_HIGHLIGHTS, reviewRows.getValue());
+            verify(graphBulkWriter).unwind(eq(GraphReviewAdapter.MERGE_HIGHLIGHTS), anyList());
+            verify(reviewNodeRepository, never()).saveAll(anyList());
+        }
+    }
 }
@@ -4,9 +4,14 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.yyubin.recommendation.graph.writer.GraphBulkWriter;
+import org.yyubin.recommendation.graph.node.BookNode;
+import org.yyubin.recommendation.graph.node.LikedReviewOfRelationship;
+import org.yyubin.recommendation.graph.node.ViewedRelationship;
 import org.yyubin.recommendation.graph.node.UserNode;
 import org.yyubin.recommendation.graph.repository.UserNodeRepository;
 
@@ -14,8 +19,12 @@ import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -25,6 +34,9 @@ class GraphUserAdapterTest {
     @Mock
     private UserNodeRepository userNodeRepository;
 
+    @Mock
+    private GraphBulkWriter graphBulkWriter;
+
     @InjectMocks
     private GraphUserAdapter graphUserAdapter;
 
@@ -151,4 +163,60 @@ class GraphUserAdapterTest {
             assertThat(result.get(0).getUsername()).isEqualTo("noEmailUser");
         }
     }
+
+    @Nested
+    @DisplayName("upsertAll 테스트")
+    class UpsertAllTest {
+
+        @Test
+        @DisplayName("청크를 노드/관계 유형별 UNWIND 구문 하나씩으로 저장한다")
+        void upsertAll_OneStatementPerType() {
+            // Given
+            UserNode user = UserNode.builder().id(1L).username("user1").build();
+            user.getViewedBooks().add(ViewedRelationship.builder()
+                    .book(BookNode.builder().id(10L).build())
+                    .viewCount(3)
+                    .build());
+            user.getLikedReviewBooks().add(LikedReviewOfRelationship.builder()
+                    .book(BookNode.builder().id(20L).build())
+                    .reviewId(200L)
+                    .build());
+            UserNode other = UserNode.builder().id(2L).username("user2").build();
+
+            // When
+            graphUserAdapter.upsertAll(List.of(user, other));
+
+            // Then
+            @SuppressWarnings("unchecked")
+            ArgumentCaptor<List<Map<String, Object>>> userRows = ArgumentCaptor.forClass(List.class);
+            verify(graphBulkWriter).unwind(eq(GraphUserAdapter.UPSERT_USERS), userRows.capture());
+            assertThat(userRows.getValue()).extracting(row -> row.get("id")).containsExactly(1L, 2L);
+            assertThat(userRows.getValue().get(0).get("viewedBookIds")).isEqualTo(List.of(10L));
+            assertThat(userRows.getValue().get(0).get("likedReviewIds")).isEqualTo(List.of(200L));
+            assertThat(userRows.getValue().get(1).get("viewedBookIds")).isEqualTo(List.of());
+            verify(graphBulkWriter).unwind(GraphUserAdapter.DELETE_STALE_RELATIONSHIPS, userRows.getValue());
+
+            @SuppressWarnings("unchecked")
+            ArgumentCaptor<List<Map<String, Object>>> viewedRows = ArgumentCaptor.forClass(List.class);
+            verify(graphBulkWriter).unwind(eq(GraphUserAdapter.MERGE_VIEWED), viewedRows.capture());
+            assertThat(viewedRows.getValue()).singleElement().satisfies(row -> {
+                assertThat(row.get("userId")).isEqualTo(1L);
+                assertThat(row.get("bookId")).isEqualTo(10L);
+                assertThat(row.get("viewCount")).isEqualTo(3);
+            });
+            verify(graphBulkWriter).unwind(GraphUserAdapter.MERGE_WISHLISTED, List.of());
+            verify(graphBulkWriter).unwind(eq(GraphUserAdapter.MERGE_LIKED_REVIEW_OF), anyList());
+            verify(userNodeRepository, never()).saveAll(anyList());
+        }
+
+        @Test
+        @DisplayName("빈 청크는 아무 구문도 실행하지 않는다")
+        void upsertAll_Empty() {
+            // When
+            graphUserAdapter.upsertAll(List.of());
+
+            // Then
+            verify(graphBulkWriter, never()).unwind(anyString(), anyList());
+        }
+    }
 }
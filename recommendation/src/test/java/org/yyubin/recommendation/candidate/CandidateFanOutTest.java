@@ -0,0 +1,191 @@
+package org.yyubin.recommendation.candidate;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.yyubin.recommendation.config.RecommendationProperties;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("CandidateFanOut 테스트")
+class CandidateFanOutTest {
+
+    private ExecutorService executor;
+    private MeterRegistry meterRegistry;
+    private RecommendationProperties properties;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newVirtualThreadPerTaskExecutor();
+        meterRegistry = new SimpleMeterRegistry();
+        properties = new RecommendationProperties();
+        properties.getSearch().setCandidateBudgetMs(1_000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("모든 source 를 동시에 실행해 후보를 합친다")
+    void generate_RunsSourcesConcurrently() {
+        // Given
+        CandidateGenerator neo4j = new StubGenerator(Map.of(
+                "neo4j.genre", delayed(300, candidate(1L)),
+                "neo4j.author", delayed(300, candidate(2L))
+        ));
+        CandidateGenerator es = new StubGenerator(Map.of(
+                "es.popular", delayed(300, candidate(3L))
+        ));
+        CandidateFanOut fanOut = fanOut(List.of(neo4j, es));
+
+        // When
+        long startedAt = System.nanoTime();
+        List<RecommendationCandidate> candidates = fanOut.generate(1L, 100);
+        long elapsedMs = (System.nanoTime() - startedAt) / 1_000_000;
+
+        // Then
+        assertThat(candidates).extracting(RecommendationCandidate::getBookId)
+                .containsExactlyInAnyOrder(1L, 2L, 3L);
+        assertThat(elapsedMs).isLessThan(800);
+        assertThat(meterRegistry.find("recommendation.candidate.source")
+                .tag("source", "neo4j.genre").tag("outcome", "success").timer()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("마감 시간을 넘긴 source 는 제외하고 메트릭에 기록한다")
+    void generate_DropsLateSource() {
+        // Given
+        properties.getSearch().setCandidateBudgetMs(100);
+        CandidateGenerator generator = new StubGenerator(Map.of(
+                "fast", delayed(0, candidate(1L)),
+                "slow", delayed(2_000, candidate(2L))
+        ));
+        CandidateFanOut fanOut = fanOut(List.of(generator));
+
+        // When
+        long startedAt = System.nanoTime();
+        List<RecommendationCandidate> candidates = fanOut.generate(1L, 100);
+        long elapsedMs = (System.nanoTime() - startedAt) / 1_000_000;
+
+        // Then
+        assertThat(candidates).extracting(RecommendationCandidate::getBookId).containsExactly(1L);
+        assertThat(elapsedMs).isLessThan(1_000);
+        assertThat(meterRegistry.counter("recommendation.candidate.source.dropped", "source", "slow").count())
+                .isEqualTo(1.0);
+        assertThat(meterRegistry.counter("recommendation.candidate.source.dropped", "source", "fast").count())
+                .isZero();
+    }
+
+    @Test
+    @DisplayName("실패한 source 는 제외하고 나머지 후보를 반환한다")
+    void generate_SkipsFailedSource() {
+        // Given
+        CandidateGenerator generator = new StubGenerator(Map.of(
+                "ok", delayed(0, candidate(1L)),
+                "broken", () -> {
+                    throw new IllegalStateException("Neo4j error");
+                }
+        ));
+        CandidateFanOut fanOut = fanOut(List.of(generator));
+
+        // When
+        List<RecommendationCandidate> candidates = fanOut.generate(1L, 100);
+
+        // Then
+        assertThat(candidates).extracting(RecommendationCandidate::getBookId).containsExactly(1L);
+        assertThat(meterRegistry.find("recommendation.candidate.source")
+                .tag("source", "broken").tag("outcome", "failure").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("전체 후보 수를 생성기별로 균등 분배한다")
+    void generate_SplitsLimitPerGenerator() {
+        // Given
+        StubGenerator first = new StubGenerator(Map.of());
+        StubGenerator second = new StubGenerator(Map.of());
+        CandidateFanOut fanOut = fanOut(List.of(first, second));
+
+        // When
+        fanOut.generate(1L, 500);
+
+        // Then
+        assertThat(first.requestedLimit).isEqualTo(250);
+        assertThat(second.requestedLimit).isEqualTo(250);
+    }
+
+    private CandidateFanOut fanOut(List<CandidateGenerator> generators) {
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+        beanFactory.addBean("meterRegistry", meterRegistry);
+        ObjectProvider<MeterRegistry> provider = beanFactory.getBeanProvider(MeterRegistry.class);
+        return new CandidateFanOut(generators, properties, executor, provider);
+    }
+
+    private static Supplier<List<RecommendationCandidate>> delayed(long millis, RecommendationCandidate candidate) {
+        return () -> {
+            if (millis > 0) {
+                try {
+                    Thread.sleep(millis);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return List.of(candidate);
+        };
+    }
+
+    private static RecommendationCandidate candidate(Long bookId) {
+        return RecommendationCandidate.builder()
+                .bookId(bookId)
+                .source(RecommendationCandidate.CandidateSource.POPULARITY)
+                .initialScore(0.5)
+                .build();
+    }
+
+    private static class StubGenerator implements CandidateGenerator {
+
+        private final Map<String, Supplier<List<RecommendationCandidate>>> sources;
+        private int requestedLimit;
+
+        StubGenerator(Map<String, Supplier<List<RecommendationCandidate>>> sources) {
+            this.sources = new LinkedHashMap<>(sources);
+        }
+
+        @Override
+        public List<RecommendationCandidate> generateCandidates(Long userId, int limit) {
+            return List.of();
+        }
+
+        @Override
+        public Map<String, CompletableFuture<List<RecommendationCandidate>>> generateCandidatesAsync(
+                Long userId,
+                int limit,
+                Executor executor
+        ) {
+            requestedLimit = limit;
+            Map<String, CompletableFuture<List<RecommendationCandidate>>> futures = new LinkedHashMap<>();
+            sources.forEach((name, supplier) -> futures.put(name, CompletableFuture.supplyAsync(supplier, executor)));
+            return futures;
+        }
+
+        @Override
+        public RecommendationCandidate.CandidateSource getSourceType() {
+            return RecommendationCandidate.CandidateSource.POPULARITY;
+        }
+    }
+}
@@ -1,12 +1,13 @@
 package org.yyubin.recommendation.candidate;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
@@ -21,6 +22,8 @@ import org.yyubin.recommendation.search.repository.BookDocumentRepository;
 import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.*;
@@ -40,7 +43,6 @@ class ElasticsearchCandidateGeneratorTest {
     @Mock
     private UserAnalysisContextPort userAnalysisContextPort;
 
-    @InjectMocks
     private ElasticsearchCandidateGenerator elasticsearchCandidateGenerator;
 
     private Long userId;
@@ -59,6 +61,21 @@ class ElasticsearchCandidateGeneratorTest {
         searchConfig.setContextSearchDays(30);
 
         lenient().when(properties.getSearch()).thenReturn(searchConfig);
+        lenient().when(properties.getPopularSnapshot()).thenReturn(new RecommendationProperties.PopularSnapshotConfig());
+
+        // 인기 도서는 스냅샷을 거치며, 첫 조회 시 bookDocumentRepository 에서 한 번 적재
+        PopularBooksSnapshot popularBooksSnapshot = new PopularBooksSnapshot(
+                bookDocumentRepository,
+                properties,
+                new StaticListableBeanFactory().getBeanProvider(MeterRegistry.class),
+                Runnable::run
+        );
+        elasticsearchCandidateGenerator = new ElasticsearchCandidateGenerator(
+                bookDocumentRepository,
+                properties,
+                userAnalysisContextPort,
+                popularBooksSnapshot
+        );
     }
 
     @Test
@@ -175,6 +192,45 @@ class ElasticsearchCandidateGeneratorTest {
                 c.getSource() == RecommendationCandidate.CandidateSource.ELASTICSEARCH_MLT);
     }
 
+    @Test
+    @DisplayName("비동기 생성 - 인기/MLT/시맨틱을 각각 source 로 반환")
+    void generateCandidatesAsync_SplitsSources() {
+        // Given
+        BookDocument popularBook = BookDocument.builder()
+                .id("100")
+                .title("Popular Book")
+                .viewCount(500)
+                .build();
+        BookDocument similarBook = BookDocument.builder().id("200").title("Similar Book").build();
+        BookDocument matchedBook = BookDocument.builder().id("300").title("Matched Book").build();
+
+        UserAnalysisContext context = new UserAnalysisContext(
+                userId,
+                List.of(new ReviewSnapshot(1L, 150L, "Seed Book", List.of("Author"), 4, "Fiction", "Summary", List.of(), LocalDateTime.now())),
+                List.of(),
+                List.of()
+        );
+
+        when(bookDocumentRepository.findTop100ByOrderByViewCountDescWishlistCountDesc())
+                .thenReturn(List.of(popularBook));
+        when(userAnalysisContextPort.loadContext(anyLong(), anyInt(), anyInt(), anyInt(), any()))
+                .thenReturn(context);
+        when(bookDocumentRepository.findSimilarBooks(anyString(), any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of(similarBook)));
+        when(bookDocumentRepository.searchByMultiMatch(anyString(), any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of(matchedBook)));
+
+        // When
+        Map<String, CompletableFuture<List<RecommendationCandidate>>> sources =
+                elasticsearchCandidateGenerator.generateCandidatesAsync(userId, 10, Runnable::run);
+
+        // Then
+        assertThat(sources).containsOnlyKeys("es.popular", "es.mlt", "es.semantic");
+        assertThat(sources.get("es.popular").join()).extracting(RecommendationCandidate::getBookId).containsExactly(100L);
+        assertThat(sources.get("es.mlt").join()).extracting(RecommendationCandidate::getBookId).containsExactly(200L);
+        assertThat(sources.get("es.semantic").join()).extracting(RecommendationCandidate::getBookId).contains(300L);
+    }
+
     @Test
     @DisplayName("시맨틱 검색 기반 후보 생성 - 검색어가 있는 경우")
     void generateCandidates_WithSemanticQueries() {
@@ -14,6 +14,8 @@ import org.yyubin.recommendation.graph.repository.UserNodeRepository;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.anyInt;
@@ -302,6 +304,35 @@ class Neo4jCandidateGeneratorTest {
         assertThat(candidates.get(0).getInitialScore()).isEqualTo(1.0);
     }
 
+    @Test
+    @DisplayName("비동기 생성 - 4가지 쿼리를 각각 source 로 반환")
+    void generateCandidatesAsync_SplitsQueries() {
+        // Given
+        BookNode book1 = BookNode.builder().id(100L).title("Book 1").build();
+        BookNode book2 = BookNode.builder().id(200L).title("Book 2").build();
+
+        when(userNodeRepository.findBooksByCollaborativeFiltering(anyLong(), anyInt()))
+                .thenReturn(createObjectArrayList(new Object[]{book1, 5L}));
+        when(userNodeRepository.findBooksByPreferredGenres(anyLong(), anyInt()))
+                .thenReturn(Collections.emptyList());
+        when(userNodeRepository.findBooksByPreferredAuthors(anyLong(), anyInt()))
+                .thenReturn(Collections.emptyList());
+        when(userNodeRepository.findSimilarBooks(anyLong(), anyInt()))
+                .thenReturn(createObjectArrayList(new Object[]{book2, 3L}));
+
+        // When
+        Map<String, CompletableFuture<List<RecommendationCandidate>>> sources =
+                neo4jCandidateGenerator.generateCandidatesAsync(userId, 20, Runnable::run);
+
+        // Then
+        assertThat(sources).containsOnlyKeys("neo4j.collaborative", "neo4j.genre", "neo4j.author", "neo4j.similar");
+        assertThat(sources.get("neo4j.collaborative").join())
+                .extracting(RecommendationCandidate::getBookId).containsExactly(100L);
+        assertThat(sources.get("neo4j.similar").join())
+                .extracting(RecommendationCandidate::getBookId).containsExactly(200L);
+        assertThat(sources.get("neo4j.genre").join()).isEmpty();
+    }
+
     @Test
     @DisplayName("getSourceType 반환값 확인")
     void getSourceType_ReturnsCollaborative() {
@@ -0,0 +1,255 @@
+package org.yyubin.recommendation.candidate;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.yyubin.recommendation.config.RecommendationProperties;
+import org.yyubin.recommendation.search.document.BookDocument;
+import org.yyubin.recommendation.search.repository.BookDocumentRepository;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PopularBooksSnapshot 테스트")
+class PopularBooksSnapshotTest {
+
+    @Mock
+    private BookDocumentRepository bookDocumentRepository;
+
+    private RecommendationProperties properties;
+    private MeterRegistry meterRegistry;
+    private PopularBooksSnapshot snapshot;
+
+    @BeforeEach
+    void setUp() {
+        properties = new RecommendationProperties();
+        meterRegistry = new SimpleMeterRegistry();
+        snapshot = createSnapshot(Runnable::run);
+    }
+
+    @Test
+    @DisplayName("스냅샷이 유효하면 반복 조회해도 ES 를 한 번만 호출한다")
+    void topCandidates_ServedFromSnapshot() {
+        // Given
+        when(bookDocumentRepository.findTop100ByOrderByViewCountDescWishlistCountDesc())
+                .thenReturn(List.of(book("100", 1000), book("101", 10)));
+
+        // When
+        List<RecommendationCandidate> first = snapshot.topCandidates(10);
+        List<RecommendationCandidate> second = snapshot.topCandidates(1);
+
+        // Then
+        assertThat(first).extracting(RecommendationCandidate::getBookId).containsExactly(100L, 101L);
+        assertThat(first).allMatch(c -> c.getSource() == RecommendationCandidate.CandidateSource.POPULARITY);
+        assertThat(first.get(0).getInitialScore()).isGreaterThan(first.get(1).getInitialScore());
+        assertThat(second).extracting(RecommendationCandidate::getBookId).containsExactly(100L);
+        verify(bookDocumentRepository, times(1)).findTop100ByOrderByViewCountDescWishlistCountDesc();
+    }
+
+    @Test
+    @DisplayName("선제 갱신이 새 스냅샷으로 교체한다")
+    void refresh_ReplacesSnapshot() {
+        // Given
+        when(bookDocumentRepository.findTop100ByOrderByViewCountDescWishlistCountDesc())
+                .thenReturn(List.of(book("100", 1000)))
+                .thenReturn(List.of(book("200", 2000)));
+        snapshot.refresh();
+
+        // When
+        snapshot.refresh();
+
+        // Then
+        assertThat(snapshot.topCandidates(10)).extracting(RecommendationCandidate::getBookId).containsExactly(200L);
+        verify(bookDocumentRepository, times(2)).findTop100ByOrderByViewCountDescWishlistCountDesc();
+    }
+
+    @Test
+    @DisplayName("staleness bound 를 넘긴 스냅샷은 그대로 응답하고 비동기로 다시 적재한다")
+    void topCandidates_ServesStaleAndRefreshesAsync() {
+        // Given
+        properties.getPopularSnapshot().setMaxStalenessMs(0);
+        when(bookDocumentRepository.findTop100ByOrderByViewCountDescWishlistCountDesc())
+                .thenReturn(List.of(book("100", 1000)))
+                .thenReturn(List.of(book("200", 2000)));
+        snapshot.topCandidates(10);
+
+        // When
+        List<RecommendationCandidate> stale = snapshot.topCandidates(10);
+        List<RecommendationCandidate> refreshed = snapshot.topCandidates(10);
+
+        // Then
+        assertThat(stale).extracting(RecommendationCandidate::getBookId).containsExactly(100L);
+        assertThat(refreshed).extracting(RecommendationCandidate::getBookId).containsExactly(200L);
+    }
+
+    @Test
+    @DisplayName("갱신 중에도 요청 스레드는 기다리지 않고 기존 스냅샷으로 응답하며, 갱신은 하나만 띄운다")
+    void topCandidates_DoesNotWaitForRefresh() throws Exception {
+        // Given
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        CountDownLatch release = new CountDownLatch(1);
+        try {
+            PopularBooksSnapshot asyncSnapshot = createSnapshot(executor);
+            when(bookDocumentRepository.findTop100ByOrderByViewCountDescWishlistCountDesc())
+                    .thenReturn(List.of(book("100", 1000)))
+                    .thenAnswer(invocation -> {
+                        release.await(5, TimeUnit.SECONDS);
+                        return List.of(book("200", 2000));
+                    });
+            asyncSnapshot.refresh();
+            properties.getPopularSnapshot().setMaxStalenessMs(0);
+
+            // When
+            long start = System.nanoTime();
+            for (int i = 0; i < 10; i++) {
+                assertThat(asyncSnapshot.topCandidates(10))
+                        .extracting(RecommendationCandidate::getBookId).containsExactly(100L);
+            }
+            long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+            // Then
+            assertThat(elapsedMs).isLessThan(1_000);
+            release.countDown();
+            executor.shutdown();
+            assertThat(executor.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+            verify(bookDocumentRepository, times(2)).findTop100ByOrderByViewCountDescWishlistCountDesc();
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("갱신이 실패하면 기존 스냅샷을 유지한다")
+    void refresh_FailureKeepsPreviousSnapshot() {
+        // Given
+        when(bookDocumentRepository.findTop100ByOrderByViewCountDescWishlistCountDesc())
+                .thenReturn(List.of(book("100", 1000)))
+                .thenThrow(new RuntimeException("ES error"));
+        snapshot.refresh();
+
+        // When
+        snapshot.refresh();
+
+        // Then
+        assertThat(snapshot.topCandidates(10)).extracting(RecommendationCandidate::getBookId).containsExactly(100L);
+    }
+
+    @Test
+    @DisplayName("갱신이 계속 실패해 max serve age 를 넘긴 스냅샷은 응답하지 않고 만료 카운터를 올린다")
+    void topCandidates_ExpiredSnapshot_ReturnsEmpty() {
+        // Given
+        when(bookDocumentRepository.findTop100ByOrderByViewCountDescWishlistCountDesc())
+                .thenReturn(List.of(book("100", 1000)))
+                .thenThrow(new RuntimeException("ES error"));
+        snapshot.refresh();
+        properties.getPopularSnapshot().setMaxStalenessMs(0);
+        properties.getPopularSnapshot().setMaxServeAgeMs(0);
+
+        // When
+        List<RecommendationCandidate> first = snapshot.topCandidates(10);
+        List<RecommendationCandidate> second = snapshot.topCandidates(10);
+
+        // Then
+        assertThat(first).isEmpty();
+        assertThat(second).isEmpty();
+        assertThat(meterRegistry.counter("recommendation.popular.snapshot.expired").count()).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("max serve age 를 넘겼더라도 갱신이 성공하면 다시 인기 후보로 응답한다")
+    void topCandidates_ExpiredSnapshot_RecoversAfterRefresh() {
+        // Given
+        when(bookDocumentRepository.findTop100ByOrderByViewCountDescWishlistCountDesc())
+                .thenReturn(List.of(book("100", 1000)))
+                .thenThrow(new RuntimeException("ES error"))
+                .thenReturn(List.of(book("200", 2000)));
+        snapshot.refresh();
+        properties.getPopularSnapshot().setMaxStalenessMs(0);
+        properties.getPopularSnapshot().setMaxServeAgeMs(0);
+        assertThat(snapshot.topCandidates(10)).isEmpty();
+
+        // When
+        properties.getPopularSnapshot().setMaxServeAgeMs(60_000);
+        snapshot.refresh();
+
+        // Then
+        assertThat(snapshot.topCandidates(10)).extracting(RecommendationCandidate::getBookId).containsExactly(200L);
+        assertThat(meterRegistry.counter("recommendation.popular.snapshot.expired").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("적재 전 실패하면 빈 후보를 반환한다")
+    void topCandidates_NoSnapshot_ReturnsEmpty() {
+        // Given
+        when(bookDocumentRepository.findTop100ByOrderByViewCountDescWishlistCountDesc())
+                .thenThrow(new RuntimeException("ES error"));
+
+        // When & Then
+        assertThat(snapshot.topCandidates(10)).isEmpty();
+        assertThat(snapshot.isEmpty()).isTrue();
+    }
+
+    @Test
+    @DisplayName("스냅샷 경과 시간을 gauge 로 노출한다")
+    void ageGauge_Registered() {
+        // Given
+        Gauge gauge = meterRegistry.find("recommendation.popular.snapshot.age").gauge();
+        assertThat(gauge).isNotNull();
+        assertThat(gauge.value()).isNaN();
+
+        when(bookDocumentRepository.findTop100ByOrderByViewCountDescWishlistCountDesc())
+                .thenReturn(List.of(book("100", 1000)));
+
+        // When
+        snapshot.refresh();
+
+        // Then
+        assertThat(gauge.value()).isGreaterThanOrEqualTo(0.0).isLessThan(5.0);
+    }
+
+    @Test
+    @DisplayName("인기도 점수 계산 - null 값은 0 으로 처리")
+    void calculatePopularityScore_NullValues() {
+        assertThat(PopularBooksSnapshot.calculatePopularityScore(null, null, null)).isZero();
+        assertThat(PopularBooksSnapshot.calculatePopularityScore(10000, 500, 200)).isLessThanOrEqualTo(1.0);
+    }
+
+    private PopularBooksSnapshot createSnapshot(Executor refreshExecutor) {
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+        beanFactory.addBean("meterRegistry", meterRegistry);
+        return new PopularBooksSnapshot(
+                bookDocumentRepository,
+                properties,
+                beanFactory.getBeanProvider(MeterRegistry.class),
+                refreshExecutor
+        );
+    }
+
+    private static BookDocument book(String id, int viewCount) {
+        return BookDocument.builder()
+                .id(id)
+                .title("Book " + id)
+                .viewCount(viewCount)
+                .wishlistCount(viewCount / 10)
+                .reviewCount(viewCount / 20)
+                .build();
+    }
+}
@@ -0,0 +1,87 @@
+package org.yyubin.recommendation.feature;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.yyubin.application.event.EventPayload;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BookFeatureEventConsumer 테스트")
+class BookFeatureEventConsumerTest {
+
+    @Mock
+    private BookFeatureStore featureStore;
+
+    @InjectMocks
+    private BookFeatureEventConsumer consumer;
+
+    @Test
+    @DisplayName("REVIEW_VIEWED - 리뷰 조회는 도서 조회수에 반영하지 않는다")
+    void reviewViewed_DoesNotIncrementBookViews() {
+        consumer.consume(List.of(payload("REVIEW_VIEWED", "REVIEW", "1", Map.of("bookId", 100L))));
+
+        verify(featureStore).addAll(Map.of());
+    }
+
+    @Test
+    @DisplayName("WISHLIST_ADD / WISHLIST_REMOVE - 위시리스트 수 증감 (targetId 사용)")
+    void wishlist_AdjustsWishlists() {
+        consumer.consume(List.of(payload("WISHLIST_ADD", "BOOK", "100", null)));
+        consumer.consume(List.of(payload("WISHLIST_REMOVE", "BOOK", "100", null)));
+
+        verify(featureStore).addAll(Map.of(100L, new BookFeatureStore.Delta(0, 1, 0)));
+        verify(featureStore).addAll(Map.of(100L, new BookFeatureStore.Delta(0, -1, 0)));
+    }
+
+    @Test
+    @DisplayName("REVIEW_CREATED / REVIEW_DELETED - 리뷰 수 증감")
+    void review_AdjustsReviews() {
+        consumer.consume(List.of(payload("REVIEW_CREATED", "REVIEW", "1", Map.of("bookId", "100"))));
+        consumer.consume(List.of(payload("REVIEW_DELETED", "REVIEW", "1", Map.of("bookId", 100))));
+
+        verify(featureStore).addAll(Map.of(100L, new BookFeatureStore.Delta(0, 0, 1)));
+        verify(featureStore).addAll(Map.of(100L, new BookFeatureStore.Delta(0, 0, -1)));
+    }
+
+    @Test
+    @DisplayName("poll 배치의 증분은 도서별로 합쳐 한 번에 반영한다")
+    void batch_MergesDeltasPerBook() {
+        consumer.consume(List.of(
+                payload("REVIEW_CREATED", "REVIEW", "1", Map.of("bookId", 100L)),
+                payload("REVIEW_CREATED", "REVIEW", "2", Map.of("bookId", 100L)),
+                payload("WISHLIST_ADD", "BOOK", "100", null),
+                payload("REVIEW_CREATED", "REVIEW", "3", Map.of("bookId", 200L))
+        ));
+
+        verify(featureStore).addAll(Map.of(
+                100L, new BookFeatureStore.Delta(0, 1, 2),
+                200L, new BookFeatureStore.Delta(0, 0, 1)
+        ));
+    }
+
+    @Test
+    @DisplayName("bookId 가 없거나 관련 없는 이벤트는 무시")
+    void ignoresIrrelevantEvents() {
+        consumer.consume(Arrays.asList(
+                payload("REVIEW_CREATED", "REVIEW", "1", Map.of()),
+                payload("REVIEW_UPDATED", "REVIEW", "1", Map.of("bookId", 100L)),
+                payload(null, "REVIEW", "1", null),
+                null
+        ));
+
+        verify(featureStore).addAll(Map.of());
+    }
+
+    private EventPayload payload(String eventType, String targetType, String targetId, Map<String, Object> metadata) {
+        return new EventPayload(null, eventType, 1L, targetType, targetId, metadata, null, "test", 1);
+    }
+}
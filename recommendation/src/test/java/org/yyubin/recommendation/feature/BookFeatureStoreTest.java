@@ -0,0 +1,246 @@
+package org.yyubin.recommendation.feature;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.yyubin.recommendation.config.RecommendationProperties;
+import org.yyubin.recommendation.search.document.BookDocument;
+import org.yyubin.recommendation.search.repository.BookDocumentRepository;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BookFeatureStore 테스트")
+class BookFeatureStoreTest {
+
+    @Mock
+    private BookDocumentRepository bookDocumentRepository;
+
+    private RecommendationProperties properties;
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        properties = new RecommendationProperties();
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    @DisplayName("보관하지 않은 도서는 인기도 0, 출간일 UNKNOWN_DATE")
+    void unknownBook_ReturnsDefaults() {
+        // Given
+        BookFeatureStore store = createStore();
+
+        // When & Then
+        assertThat(store.popularityScore(100L)).isEqualTo(0.0);
+        assertThat(store.publishedEpochDay(100L)).isEqualTo(BookFeatureStore.UNKNOWN_DATE);
+        assertThat(store.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("증분 반영 - 카운트가 누적되고 0 아래로 내려가지 않는다")
+    void add_AccumulatesAndClampsAtZero() {
+        // Given
+        BookFeatureStore store = createStore();
+
+        // When
+        store.add(100L, 10, 2, 0);
+        store.add(100L, 5, -1, -1);
+
+        // Then
+        // views 15, wishlists 1, reviews 0
+        assertThat(store.popularityScore(100L))
+                .isEqualTo(BookFeatureStore.calculatePopularityScore(15, 1, 0));
+        assertThat(store.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("reconcile - BookDocument 값으로 테이블을 교체한다")
+    void reconcile_ReplacesTable() {
+        // Given
+        BookFeatureStore store = createStore();
+        store.add(999L, 100, 0, 0);
+        LocalDate publishedDate = LocalDate.of(2024, 3, 1);
+        when(bookDocumentRepository.streamAllBy()).thenReturn(Stream.of(
+                book("100", 1000, 50, 20, publishedDate),
+                book("101", null, null, null, null),
+                book("not-a-number", 1, 1, 1, null)
+        ));
+
+        // When
+        store.reconcile();
+
+        // Then
+        assertThat(store.size()).isEqualTo(2);
+        assertThat(store.popularityScore(100L))
+                .isEqualTo(BookFeatureStore.calculatePopularityScore(1000, 50, 20));
+        assertThat(store.publishedEpochDay(100L)).isEqualTo(publishedDate.toEpochDay());
+        assertThat(store.popularityScore(101L)).isEqualTo(0.0);
+        assertThat(store.publishedEpochDay(101L)).isEqualTo(BookFeatureStore.UNKNOWN_DATE);
+        assertThat(store.popularityScore(999L)).isEqualTo(0.0);
+    }
+
+    @Test
+    @DisplayName("reconcile 적재 중 들어온 증분은 덮어쓰지 않고 문서 값에 delta 로 더한다")
+    void reconcile_ReplaysDeltasDuringLoad() {
+        // Given
+        BookFeatureStore store = createStore();
+        when(bookDocumentRepository.streamAllBy()).thenReturn(Stream.of(
+                book("100", 1000, 50, 20, null),
+                book("101", 10, 0, 0, null)
+        ).peek(book -> store.add(100L, 5, 1, 0)));
+
+        // When
+        store.reconcile();
+
+        // Then
+        // 적재 중 증분 2 번 (views +10, wishlists +2)
+        assertThat(store.popularityScore(100L))
+                .isEqualTo(BookFeatureStore.calculatePopularityScore(1010, 52, 20));
+        assertThat(store.popularityScore(101L))
+                .isEqualTo(BookFeatureStore.calculatePopularityScore(10, 0, 0));
+    }
+
+    @Test
+    @DisplayName("reconcile 시작 전 증분은 문서 값으로 대체되고 적재 중 증분만 더해진다")
+    void reconcile_AddsOnlyDeltaSinceStart() {
+        // Given
+        BookFeatureStore store = createStore();
+        store.add(100L, 7, 3, 1);
+        when(bookDocumentRepository.streamAllBy()).thenReturn(Stream.of(
+                book("100", 1000, 50, 20, null)
+        ).peek(book -> store.add(100L, 2, -1, 0)));
+
+        // When
+        store.reconcile();
+
+        // Then
+        // 시작 전 (7, 3, 1) 은 문서 값에 이미 포함된 것으로 보고, 적재 중 (2, -1, 0) 만 더함
+        assertThat(store.popularityScore(100L))
+                .isEqualTo(BookFeatureStore.calculatePopularityScore(1002, 49, 20));
+    }
+
+    @Test
+    @DisplayName("증분 일괄 반영 - 여러 도서를 한 번에 반영한다")
+    void addAll_AppliesEachBook() {
+        // Given
+        BookFeatureStore store = createStore();
+
+        // When
+        store.addAll(Map.of(
+                100L, new BookFeatureStore.Delta(3, 1, 0),
+                200L, new BookFeatureStore.Delta(0, 0, 2)
+        ));
+
+        // Then
+        assertThat(store.size()).isEqualTo(2);
+        assertThat(store.popularityScore(100L)).isEqualTo(BookFeatureStore.calculatePopularityScore(3, 1, 0));
+        assertThat(store.popularityScore(200L)).isEqualTo(BookFeatureStore.calculatePopularityScore(0, 0, 2));
+    }
+
+    @Test
+    @DisplayName("비활성화되면 주기 reconcile 을 실행하지 않는다")
+    void scheduleReconcile_Disabled_Skips() {
+        // Given
+        properties.getFeatureStore().setEnabled(false);
+        BookFeatureStore store = createStore();
+
+        // When
+        store.scheduleReconcile();
+        store.shutdown();
+
+        // Then
+        verifyNoInteractions(bookDocumentRepository);
+    }
+
+    @Test
+    @DisplayName("reconcile 실패 시 기존 테이블 유지")
+    void reconcile_Failure_KeepsTable() {
+        // Given
+        BookFeatureStore store = createStore();
+        store.add(100L, 10, 0, 0);
+        when(bookDocumentRepository.streamAllBy()).thenThrow(new RuntimeException("ES down"));
+
+        // When
+        store.reconcile();
+
+        // Then
+        assertThat(store.size()).isEqualTo(1);
+        assertThat(store.popularityScore(100L))
+                .isEqualTo(BookFeatureStore.calculatePopularityScore(10, 0, 0));
+    }
+
+    @Test
+    @DisplayName("용량을 넘는 도서는 저장하지 않고 dropped 카운터를 올린다")
+    void add_OverCapacity_Dropped() {
+        // Given
+        properties.getFeatureStore().setMaxBooks(2);
+        BookFeatureStore store = createStore();
+
+        // When
+        store.add(1L, 1, 0, 0);
+        store.add(2L, 1, 0, 0);
+        store.add(3L, 1, 0, 0);
+        store.add(1L, 1, 0, 0);
+
+        // Then
+        assertThat(store.size()).isEqualTo(2);
+        assertThat(store.popularityScore(3L)).isEqualTo(0.0);
+        assertThat(store.popularityScore(1L))
+                .isEqualTo(BookFeatureStore.calculatePopularityScore(2, 0, 0));
+        assertThat(meterRegistry.get("recommendation.feature.dropped").counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("recommendation.feature.books").gauge().value()).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("테이블은 많은 키에서도 모든 값을 구분한다")
+    void table_ManyKeys() {
+        // Given
+        BookFeatureStore.Table table = new BookFeatureStore.Table(10_000);
+
+        // When
+        for (long key = 1; key <= 10_000; key++) {
+            table.views[table.slotFor(key * 31)] = (int) key;
+        }
+
+        // Then
+        assertThat(table.size).isEqualTo(10_000);
+        for (long key = 1; key <= 10_000; key++) {
+            assertThat(table.views[table.indexOf(key * 31)]).isEqualTo((int) key);
+        }
+        assertThat(table.indexOf(7L)).isEqualTo(-1);
+        assertThat(table.slotFor(10_001L * 31)).isEqualTo(-1);
+    }
+
+    private BookFeatureStore createStore() {
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+        beanFactory.addBean("meterRegistry", meterRegistry);
+        return new BookFeatureStore(
+                bookDocumentRepository,
+                properties,
+                beanFactory.getBeanProvider(MeterRegistry.class)
+        );
+    }
+
+    private BookDocument book(String id, Integer views, Integer wishlists, Integer reviews, LocalDate publishedDate) {
+        return BookDocument.builder()
+                .id(id)
+                .viewCount(views)
+                .wishlistCount(wishlists)
+                .reviewCount(reviews)
+                .publishedDate(publishedDate)
+                .build();
+    }
+}
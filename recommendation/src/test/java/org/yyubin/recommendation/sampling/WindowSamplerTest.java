@@ -56,6 +56,17 @@ class WindowSamplerTest {
         verify(strategyFactory, never()).getStrategy(any());
     }
 
+    @Test
+    @DisplayName("샘플링 사용 여부는 설정을 따른다")
+    void isEnabled_FollowsConfig() {
+        // Given
+        when(config.isEnabled()).thenReturn(true, false);
+
+        // When & Then
+        assertThat(windowSampler.isEnabled()).isTrue();
+        assertThat(windowSampler.isEnabled()).isFalse();
+    }
+
     @Test
     @DisplayName("빈 리스트 전달 시 빈 리스트 반환")
     void applySampling_EmptyList_ReturnsEmptyList() {
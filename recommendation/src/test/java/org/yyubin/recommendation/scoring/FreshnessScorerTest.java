@@ -8,15 +8,14 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.yyubin.recommendation.candidate.RecommendationCandidate;
-import org.yyubin.recommendation.search.document.BookDocument;
-import org.yyubin.recommendation.search.repository.BookDocumentRepository;
+import org.yyubin.recommendation.feature.BookFeatureStore;
 
 import java.time.LocalDate;
-import java.util.Optional;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.within;
-import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -24,7 +23,7 @@ import static org.mockito.Mockito.when;
 class FreshnessScorerTest {
 
     @Mock
-    private BookDocumentRepository bookDocumentRepository;
+    private BookFeatureStore featureStore;
 
     @InjectMocks
     private FreshnessScorer freshnessScorer;
@@ -47,8 +46,7 @@ class FreshnessScorerTest {
     void score_RecentBook_HighScore() {
         // Given
         LocalDate oneMonthAgo = LocalDate.now().minusMonths(1);
-        BookDocument bookDocument = createBookDocument(oneMonthAgo);
-        when(bookDocumentRepository.findById(anyString())).thenReturn(Optional.of(bookDocument));
+        givenPublishedDate(oneMonthAgo);
 
         // When
         double score = freshnessScorer.score(userId, candidate);
@@ -63,8 +61,7 @@ class FreshnessScorerTest {
     void score_SixMonthsOldBook_MediumScore() {
         // Given
         LocalDate sixMonthsAgo = LocalDate.now().minusMonths(6);
-        BookDocument bookDocument = createBookDocument(sixMonthsAgo);
-        when(bookDocumentRepository.findById(anyString())).thenReturn(Optional.of(bookDocument));
+        givenPublishedDate(sixMonthsAgo);
 
         // When
         double score = freshnessScorer.score(userId, candidate);
@@ -79,8 +76,7 @@ class FreshnessScorerTest {
     void score_OneYearOldBook_LowerMediumScore() {
         // Given
         LocalDate oneYearAgo = LocalDate.now().minusYears(1);
-        BookDocument bookDocument = createBookDocument(oneYearAgo);
-        when(bookDocumentRepository.findById(anyString())).thenReturn(Optional.of(bookDocument));
+        givenPublishedDate(oneYearAgo);
 
         // When
         double score = freshnessScorer.score(userId, candidate);
@@ -95,8 +91,7 @@ class FreshnessScorerTest {
     void score_TwoYearsOldBook_LowScore() {
         // Given
         LocalDate twoYearsAgo = LocalDate.now().minusYears(2);
-        BookDocument bookDocument = createBookDocument(twoYearsAgo);
-        when(bookDocumentRepository.findById(anyString())).thenReturn(Optional.of(bookDocument));
+        givenPublishedDate(twoYearsAgo);
 
         // When
         double score = freshnessScorer.score(userId, candidate);
@@ -111,8 +106,7 @@ class FreshnessScorerTest {
     void score_VeryOldBook_VeryLowScore() {
         // Given
         LocalDate fiveYearsAgo = LocalDate.now().minusYears(5);
-        BookDocument bookDocument = createBookDocument(fiveYearsAgo);
-        when(bookDocumentRepository.findById(anyString())).thenReturn(Optional.of(bookDocument));
+        givenPublishedDate(fiveYearsAgo);
 
         // When
         double score = freshnessScorer.score(userId, candidate);
@@ -122,11 +116,10 @@ class FreshnessScorerTest {
     }
 
     @Test
-    @DisplayName("출간일이 null인 경우 - 기본값 반환")
+    @DisplayName("출간일을 알 수 없는 경우 - 기본값 반환")
     void score_NullPublishedDate_ReturnsDefault() {
         // Given
-        BookDocument bookDocument = createBookDocument(null);
-        when(bookDocumentRepository.findById(anyString())).thenReturn(Optional.of(bookDocument));
+        when(featureStore.publishedEpochDay(100L)).thenReturn(BookFeatureStore.UNKNOWN_DATE);
 
         // When
         double score = freshnessScorer.score(userId, candidate);
@@ -136,10 +129,10 @@ class FreshnessScorerTest {
     }
 
     @Test
-    @DisplayName("책을 찾을 수 없는 경우 - 기본값 반환")
+    @DisplayName("피처 저장소에 없는 도서 - 기본값 반환")
     void score_BookNotFound_ReturnsDefault() {
         // Given
-        when(bookDocumentRepository.findById(anyString())).thenReturn(Optional.empty());
+        when(featureStore.publishedEpochDay(anyLong())).thenReturn(BookFeatureStore.UNKNOWN_DATE);
 
         // When
         double score = freshnessScorer.score(userId, candidate);
@@ -149,32 +142,38 @@ class FreshnessScorerTest {
     }
 
     @Test
-    @DisplayName("예외 발생 시 - 기본값 반환")
-    void score_ExceptionThrown_ReturnsDefault() {
+    @DisplayName("미래 출간 예정 도서 - 최고 점수")
+    void score_FuturePublishedBook_HighestScore() {
         // Given
-        when(bookDocumentRepository.findById(anyString())).thenThrow(new RuntimeException("DB error"));
+        LocalDate futureDate = LocalDate.now().plusMonths(1);
+        givenPublishedDate(futureDate);
 
         // When
         double score = freshnessScorer.score(userId, candidate);
 
         // Then
-        assertThat(score).isEqualTo(0.5);
+        // 미래 날짜는 음수 daysSincePublished가 되어 1.0보다 클 수 있음
+        assertThat(score).isGreaterThan(1.0);
     }
 
     @Test
-    @DisplayName("미래 출간 예정 도서 - 최고 점수")
-    void score_FuturePublishedBook_HighestScore() {
+    @DisplayName("컬럼 스코어링 - 피처 저장소에서 후보 순서대로 채운다")
+    void scoreInto_ReadsFeatureStore() {
         // Given
-        LocalDate futureDate = LocalDate.now().plusMonths(1);
-        BookDocument bookDocument = createBookDocument(futureDate);
-        when(bookDocumentRepository.findById(anyString())).thenReturn(Optional.of(bookDocument));
+        RecommendationCandidate unknown = RecommendationCandidate.builder()
+                .bookId(200L)
+                .source(RecommendationCandidate.CandidateSource.POPULARITY)
+                .initialScore(0.5)
+                .build();
+        givenPublishedDate(LocalDate.now().minusYears(5));
+        when(featureStore.publishedEpochDay(200L)).thenReturn(BookFeatureStore.UNKNOWN_DATE);
+        double[] column = new double[2];
 
         // When
-        double score = freshnessScorer.score(userId, candidate);
+        freshnessScorer.scoreInto(userId, List.of(candidate, unknown), column);
 
         // Then
-        // 미래 날짜는 음수 daysSincePublished가 되어 1.0보다 클 수 있음
-        assertThat(score).isGreaterThan(1.0);
+        assertThat(column).containsExactly(0.1, 0.5);
     }
 
     @Test
@@ -197,10 +196,7 @@ class FreshnessScorerTest {
         assertThat(weight).isEqualTo(0.05);
     }
 
-    private BookDocument createBookDocument(LocalDate publishedDate) {
-        BookDocument document = new BookDocument();
-        document.setId(String.valueOf(candidate.getBookId()));
-        document.setPublishedDate(publishedDate);
-        return document;
+    private void givenPublishedDate(LocalDate publishedDate) {
+        when(featureStore.publishedEpochDay(candidate.getBookId())).thenReturn(publishedDate.toEpochDay());
     }
 }
@@ -16,7 +16,9 @@ import java.util.Map;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.within;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doCallRealMethod;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.when;
 
@@ -231,4 +233,52 @@ class HybridScorerTest {
         // 0.5 + 0.2 + 0.1 + 0.1 = 0.9
         assertThat(finalScore).isCloseTo(0.9, within(0.0001));
     }
+
+    @Test
+    @DisplayName("컬럼 스코어링 - 후보 단위 계산과 같은 점수를 후보 순서대로 반환")
+    void scoreAll_MatchesPerCandidateScores() {
+        // Given
+        List<RecommendationCandidate> candidates = List.of(
+                RecommendationCandidate.builder().bookId(1L)
+                        .source(RecommendationCandidate.CandidateSource.NEO4J_GENRE).initialScore(0.2).build(),
+                RecommendationCandidate.builder().bookId(2L)
+                        .source(RecommendationCandidate.CandidateSource.NEO4J_GENRE).initialScore(0.9).build(),
+                RecommendationCandidate.builder().bookId(3L)
+                        .source(RecommendationCandidate.CandidateSource.NEO4J_GENRE).initialScore(0.5).build()
+        );
+
+        // 스코어러 기본 scoreInto 는 score 를 후보마다 호출해 컬럼을 채움
+        for (Scorer scorer : List.of(graphScorer, semanticScorer, popularityScorer, freshnessScorer)) {
+            doCallRealMethod().when(scorer).scoreInto(anyLong(), anyList(), any(double[].class));
+        }
+        when(graphScorer.score(anyLong(), any()))
+                .thenAnswer(invocation -> invocation.<RecommendationCandidate>getArgument(1).getInitialScore());
+        when(semanticScorer.score(anyLong(), any())).thenReturn(0.5);
+        when(popularityScorer.score(anyLong(), any())).thenReturn(0.2);
+        when(freshnessScorer.score(anyLong(), any())).thenReturn(1.0);
+
+        // When
+        ScoredCandidates<RecommendationCandidate> scored = hybridScorer.scoreAll(userId, candidates);
+
+        // Then
+        assertThat(scored.size()).isEqualTo(3);
+        for (int i = 0; i < candidates.size(); i++) {
+            assertThat(scored.id(i)).isEqualTo(candidates.get(i).getBookId());
+            assertThat(scored.candidate(i)).isSameAs(candidates.get(i));
+            assertThat(scored.score(i))
+                    .isCloseTo(hybridScorer.calculateFinalScore(userId, candidates.get(i)), within(1e-12));
+        }
+        assertThat(scored.topK(2)).containsExactly(1, 2);
+    }
+
+    @Test
+    @DisplayName("컬럼 스코어링 - 빈 후보는 빈 결과")
+    void scoreAll_EmptyList() {
+        // When
+        ScoredCandidates<RecommendationCandidate> scored = hybridScorer.scoreAll(userId, List.of());
+
+        // Then
+        assertThat(scored.isEmpty()).isTrue();
+        assertThat(scored.topK(10)).isEmpty();
+    }
 }
@@ -10,16 +10,17 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.yyubin.recommendation.candidate.RecommendationCandidate;
-import org.yyubin.recommendation.search.repository.BookDocumentRepository;
+import org.yyubin.recommendation.feature.BookFeatureStore;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("PopularityScorer 테스트")
 class PopularityScorerTest {
 
     @Mock
-    private BookDocumentRepository bookDocumentRepository;
+    private BookFeatureStore featureStore;
 
     @InjectMocks
     private PopularityScorer popularityScorer;
@@ -53,7 +54,7 @@ class PopularityScorerTest {
     @EnumSource(value = RecommendationCandidate.CandidateSource.class,
             names = {"NEO4J_COLLABORATIVE", "NEO4J_GENRE", "NEO4J_AUTHOR", "NEO4J_TOPIC",
                     "ELASTICSEARCH_SEMANTIC", "ELASTICSEARCH_MLT", "RECENT"})
-    @DisplayName("비-POPULARITY 소스 후보 - 0점 반환")
+    @DisplayName("비-POPULARITY 소스 후보 - 피처 저장소에 없으면 0점 반환")
     void score_NonPopularityCandidate_ReturnsZero(RecommendationCandidate.CandidateSource source) {
         // Given
         RecommendationCandidate candidate = RecommendationCandidate.builder()
@@ -70,7 +71,25 @@ class PopularityScorerTest {
     }
 
     @Test
-    @DisplayName("NEO4J_GENRE 후보 - 0점 반환")
+    @DisplayName("비-POPULARITY 소스 후보 - 피처 저장소의 인기도 점수 반환")
+    void score_NonPopularityCandidate_ReturnsFeatureStoreScore() {
+        // Given
+        RecommendationCandidate candidate = RecommendationCandidate.builder()
+                .bookId(100L)
+                .source(RecommendationCandidate.CandidateSource.NEO4J_GENRE)
+                .initialScore(0.85)
+                .build();
+        when(featureStore.popularityScore(100L)).thenReturn(0.6);
+
+        // When
+        double score = popularityScorer.score(userId, candidate);
+
+        // Then
+        assertThat(score).isEqualTo(0.6);
+    }
+
+    @Test
+    @DisplayName("NEO4J_GENRE 후보 - 피처 저장소에 없으면 0점 반환")
     void score_Neo4jGenreCandidate_ReturnsZero() {
         // Given
         RecommendationCandidate candidate = RecommendationCandidate.builder()
@@ -87,7 +106,7 @@ class PopularityScorerTest {
     }
 
     @Test
-    @DisplayName("ELASTICSEARCH_SEMANTIC 후보 - 0점 반환")
+    @DisplayName("ELASTICSEARCH_SEMANTIC 후보 - 피처 저장소에 없으면 0점 반환")
     void score_ElasticsearchSemanticCandidate_ReturnsZero() {
         // Given
         RecommendationCandidate candidate = RecommendationCandidate.builder()
@@ -0,0 +1,75 @@
+package org.yyubin.recommendation.scoring;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.entry;
+
+@DisplayName("ScoredCandidates 테스트")
+class ScoredCandidatesTest {
+
+    @Test
+    @DisplayName("topK 는 전체 정렬의 앞부분과 같다")
+    void topK_MatchesFullSort() {
+        // Given
+        int n = 2_000;
+        SplittableRandom random = new SplittableRandom(42L);
+        long[] ids = new long[n];
+        double[] scores = new double[n];
+        for (int i = 0; i < n; i++) {
+            ids[i] = i + 1;
+            scores[i] = Math.round(random.nextDouble() * 100) / 100.0; // 동점이 생기도록 반올림
+        }
+        ScoredCandidates<Object> scored = new ScoredCandidates<>(Collections.nCopies(n, new Object()), ids, scores);
+
+        Comparator<Integer> byRank = Comparator.<Integer>comparingDouble(i -> scores[i]).reversed()
+                .thenComparing(Comparator.<Integer>comparingLong(i -> ids[i]).reversed());
+        List<Integer> expected = IntStream.range(0, n).boxed().sorted(byRank).limit(100).toList();
+
+        // When
+        int[] top = scored.topK(100);
+
+        // Then
+        assertThat(top).containsExactly(expected.stream().mapToInt(Integer::intValue).toArray());
+    }
+
+    @Test
+    @DisplayName("K 가 후보 수보다 크면 전체를 순위 순으로 반환")
+    void topK_LargerThanSize() {
+        // Given
+        ScoredCandidates<String> scored = new ScoredCandidates<>(
+                List.of("a", "b", "c"), new long[]{10L, 20L, 30L}, new double[]{0.3, 0.9, 0.3});
+
+        // When
+        int[] top = scored.topK(10);
+
+        // Then
+        // 동점(0.3)은 ID 내림차순
+        assertThat(top).containsExactly(1, 2, 0);
+        assertThat(scored.toMap(top)).containsExactly(entry(20L, 0.9), entry(30L, 0.3), entry(10L, 0.3));
+    }
+
+    @Test
+    @DisplayName("K 가 0 이하이거나 후보가 없으면 빈 배열")
+    void topK_EmptyCases() {
+        ScoredCandidates<String> scored = new ScoredCandidates<>(List.of("a"), new long[]{1L}, new double[]{0.5});
+
+        assertThat(scored.topK(0)).isEmpty();
+        assertThat(ScoredCandidates.empty().topK(10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("컬럼 길이가 다르면 예외")
+    void constructor_LengthMismatch_Throws() {
+        assertThatThrownBy(() -> new ScoredCandidates<>(List.of("a"), new long[]{1L, 2L}, new double[]{0.5}))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -7,6 +7,8 @@ import org.mockito.InjectMocks;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.yyubin.recommendation.candidate.ReviewRecommendationCandidate;
 
+import java.util.List;
+
 import static org.assertj.core.api.Assertions.assertThat;
 
 @ExtendWith(MockitoExtension.class)
@@ -131,4 +133,25 @@ class ReviewBookContextScorerTest {
         // Then
         assertThat(score).isEqualTo(0.0);
     }
+
+    @Test
+    @DisplayName("컬럼 스코어링은 같은 도서만 1, 나머지와 컨텍스트가 없을 때는 0 으로 채운다")
+    void scoreInto_MarksMatchingBooks() {
+        // Given
+        List<ReviewRecommendationCandidate> candidates = List.of(
+                ReviewRecommendationCandidate.builder().reviewId(1L).bookId(100L).build(),
+                ReviewRecommendationCandidate.builder().reviewId(2L).bookId(200L).build(),
+                ReviewRecommendationCandidate.builder().reviewId(3L).bookId(null).build()
+        );
+        double[] column = new double[candidates.size()];
+        double[] noContext = {1.0, 1.0, 1.0};
+
+        // When
+        reviewBookContextScorer.scoreInto(100L, candidates, column);
+        reviewBookContextScorer.scoreInto(null, candidates, noContext);
+
+        // Then
+        assertThat(column).containsExactly(1.0, 0.0, 0.0);
+        assertThat(noContext).containsExactly(0.0, 0.0, 0.0);
+    }
 }
@@ -10,6 +10,7 @@ import org.mockito.InjectMocks;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.yyubin.recommendation.candidate.ReviewRecommendationCandidate;
 
+import java.util.List;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -130,4 +131,24 @@ class ReviewContentScorerTest {
         // Then
         assertThat(score).isEqualTo(0.55);
     }
+
+    @Test
+    @DisplayName("컬럼 스코어링은 후보 순서대로 score 와 같은 값을 채운다")
+    void scoreInto_MatchesScore() {
+        // Given
+        List<ReviewRecommendationCandidate> candidates = List.of(
+                ReviewRecommendationCandidate.builder().reviewId(1L)
+                        .source(ReviewRecommendationCandidate.CandidateSource.FOLLOWED_USER).build(),
+                ReviewRecommendationCandidate.builder().reviewId(2L).source(null).build(),
+                ReviewRecommendationCandidate.builder().reviewId(3L)
+                        .source(ReviewRecommendationCandidate.CandidateSource.RECENT).build()
+        );
+        double[] column = new double[candidates.size()];
+
+        // When
+        reviewContentScorer.scoreInto(candidates, column);
+
+        // Then
+        assertThat(column).containsExactly(0.9, 0.5, 0.55);
+    }
 }
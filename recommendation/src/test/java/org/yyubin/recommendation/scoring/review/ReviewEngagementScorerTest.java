@@ -11,8 +11,14 @@ import org.springframework.data.redis.core.HashOperations;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.yyubin.recommendation.candidate.ReviewRecommendationCandidate;
 
+import java.util.Arrays;
+import java.util.List;
+
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -185,4 +191,39 @@ class ReviewEngagementScorerTest {
         // 0.25 / 0.5 = 0.5
         assertThat(score).isEqualTo(0.5);
     }
+
+    @Test
+    @DisplayName("컬럼 스코어링 - HMGET 한 번으로 후보 순서대로 채운다")
+    void scoreInto_SingleMultiGet() {
+        // Given
+        ReviewRecommendationCandidate other = ReviewRecommendationCandidate.builder()
+                .reviewId(200L)
+                .bookId(10L)
+                .build();
+        when(redisTemplate.opsForHash()).thenReturn(hashOperations);
+        when(hashOperations.multiGet("session:user:1:reviews", List.of("100", "200")))
+                .thenReturn(Arrays.asList("0.25", null));
+        double[] column = new double[2];
+
+        // When
+        reviewEngagementScorer.scoreInto(userId, List.of(candidate, other), column);
+
+        // Then
+        assertThat(column).containsExactly(0.5, 0.0);
+        verify(hashOperations, never()).get(anyString(), any());
+    }
+
+    @Test
+    @DisplayName("컬럼 스코어링 - userId가 null이면 Redis 를 조회하지 않는다")
+    void scoreInto_NullUserId_AllZero() {
+        // Given
+        double[] column = {0.3};
+
+        // When
+        reviewEngagementScorer.scoreInto(null, List.of(candidate), column);
+
+        // Then
+        assertThat(column).containsExactly(0.0);
+        verify(redisTemplate, never()).opsForHash();
+    }
 }
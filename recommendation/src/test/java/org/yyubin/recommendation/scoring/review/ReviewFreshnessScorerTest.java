@@ -8,6 +8,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.yyubin.recommendation.candidate.ReviewRecommendationCandidate;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.within;
@@ -185,4 +186,25 @@ class ReviewFreshnessScorerTest {
         // 0.5 - ((31-30)/150) * 0.3 = 0.5 - 0.002 ≈ 0.498
         assertThat(score).isCloseTo(0.498, within(0.01));
     }
+
+    @Test
+    @DisplayName("컬럼 스코어링은 후보 순서대로 score 와 같은 값을 채운다")
+    void scoreInto_MatchesScore() {
+        // Given
+        List<ReviewRecommendationCandidate> candidates = List.of(
+                ReviewRecommendationCandidate.builder().reviewId(1L).createdAt(LocalDateTime.now()).build(),
+                ReviewRecommendationCandidate.builder().reviewId(2L).createdAt(null).build(),
+                ReviewRecommendationCandidate.builder().reviewId(3L).createdAt(LocalDateTime.now().minusDays(15)).build(),
+                ReviewRecommendationCandidate.builder().reviewId(4L).createdAt(LocalDateTime.now().minusDays(365)).build()
+        );
+        double[] column = new double[candidates.size()];
+
+        // When
+        reviewFreshnessScorer.scoreInto(candidates, column);
+
+        // Then
+        for (int i = 0; i < candidates.size(); i++) {
+            assertThat(column[i]).isCloseTo(reviewFreshnessScorer.score(candidates.get(i)), within(0.001));
+        }
+    }
 }
@@ -7,18 +7,25 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.stubbing.Answer;
 import org.yyubin.recommendation.candidate.ReviewRecommendationCandidate;
 import org.yyubin.recommendation.config.ReviewRecommendationProperties;
+import org.yyubin.recommendation.scoring.ScoredCandidates;
 
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
 import static org.assertj.core.api.Assertions.within;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -262,4 +269,50 @@ class ReviewHybridScorerTest {
         // 0.5*0.35 + 0.5*0.15 + 0.5*0.2 + 0.5*0.2 + 0.0*0.1 = 0.175 + 0.075 + 0.1 + 0.1 + 0 = 0.45
         assertThat(finalScore).isCloseTo(0.45, within(0.001));
     }
+
+    @Test
+    @DisplayName("컬럼 스코어링 - reviewId 가 없는 후보는 제외하고 가중합을 계산")
+    void scoreAll_WeightedColumns() {
+        // Given
+        ReviewRecommendationCandidate low = ReviewRecommendationCandidate.builder().reviewId(1L).bookId(100L).build();
+        ReviewRecommendationCandidate high = ReviewRecommendationCandidate.builder().reviewId(2L).bookId(100L).build();
+        ReviewRecommendationCandidate noId = ReviewRecommendationCandidate.builder().reviewId(null).bookId(100L).build();
+
+        List<ReviewRecommendationCandidate> scorable = List.of(low, high);
+        doAnswer(fillColumn(1, 0.2, 1.0)).when(popularityScorer).scoreInto(eq(scorable), any(double[].class));
+        doAnswer(fillColumn(1, 0.5, 0.5)).when(freshnessScorer).scoreInto(eq(scorable), any(double[].class));
+        doAnswer(fillColumn(2, 0.0, 1.0)).when(engagementScorer)
+                .scoreInto(eq(userId), eq(scorable), any(double[].class));
+        doAnswer(fillColumn(1, 0.5, 0.5)).when(contentScorer).scoreInto(eq(scorable), any(double[].class));
+        doAnswer(fillColumn(2, 1.0, 1.0)).when(bookContextScorer)
+                .scoreInto(eq(bookContextId), eq(scorable), any(double[].class));
+
+        // When
+        ScoredCandidates<ReviewRecommendationCandidate> scored =
+                reviewHybridScorer.scoreAll(userId, bookContextId, List.of(low, noId, high));
+
+        // Then
+        assertThat(scored.size()).isEqualTo(2);
+        // low: 0.2*0.35 + 0.5*0.15 + 0*0.2 + 0.5*0.2 + 1*0.1 = 0.345
+        // high: 1.0*0.35 + 0.5*0.15 + 1*0.2 + 0.5*0.2 + 1*0.1 = 0.825
+        assertThat(scored.score(0)).isCloseTo(0.345, within(1e-9));
+        assertThat(scored.score(1)).isCloseTo(0.825, within(1e-9));
+        int[] top = scored.topK(10);
+        assertThat(scored.toMap(top)).containsExactly(entry(2L, scored.score(1)), entry(1L, scored.score(0)));
+        verify(popularityScorer, never()).score(any());
+        verify(freshnessScorer, never()).score(any());
+        verify(contentScorer, never()).score(any());
+        verify(bookContextScorer, never()).score(any(), any());
+    }
+
+    /**
+     * columnIndex 번째 인자로 받은 컬럼을 values 로 채우는 스텁
+     */
+    private static Answer<Void> fillColumn(int columnIndex, double... values) {
+        return invocation -> {
+            double[] column = invocation.getArgument(columnIndex);
+            System.arraycopy(values, 0, column, 0, values.length);
+            return null;
+        };
+    }
 }
@@ -7,6 +7,8 @@ import org.mockito.InjectMocks;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.yyubin.recommendation.candidate.ReviewRecommendationCandidate;
 
+import java.util.List;
+
 import static org.assertj.core.api.Assertions.assertThat;
 
 @ExtendWith(MockitoExtension.class)
@@ -111,4 +113,22 @@ class ReviewPopularityScorerTest {
         // Then
         assertThat(score).isEqualTo(1.0);
     }
+
+    @Test
+    @DisplayName("컬럼 스코어링은 후보 순서대로 score 와 같은 값을 채운다")
+    void scoreInto_MatchesScore() {
+        // Given
+        List<ReviewRecommendationCandidate> candidates = List.of(
+                ReviewRecommendationCandidate.builder().reviewId(1L).initialScore(1.5).build(),
+                ReviewRecommendationCandidate.builder().reviewId(2L).initialScore(null).build(),
+                ReviewRecommendationCandidate.builder().reviewId(3L).initialScore(0.3).build()
+        );
+        double[] column = new double[candidates.size()];
+
+        // When
+        reviewPopularityScorer.scoreInto(candidates, column);
+
+        // Then
+        assertThat(column).containsExactly(1.0, 0.5, 0.3);
+    }
 }
@@ -5,11 +5,13 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.yyubin.recommendation.config.RecommendationProperties;
 import org.yyubin.recommendation.sampling.WindowSampler;
 
@@ -52,7 +54,7 @@ class RecommendationCacheServiceTest {
     class SaveRecommendationsTest {
 
         @Test
-        @DisplayName("추천 결과를 Redis ZSET에 저장한다")
+        @DisplayName("추천 결과를 스크립트 한 번으로 Redis ZSET에 저장한다")
         void save_Success() {
             // Given
             Long userId = 1L;
@@ -64,36 +66,47 @@ class RecommendationCacheServiceTest {
 
             when(properties.getCache()).thenReturn(cacheConfig);
             when(cacheConfig.getTtlHours()).thenReturn(3);
-            when(zSetOperations.size(anyString())).thenReturn(3L);
 
             // When
             cacheService.saveRecommendations(userId, recommendations);
 
             // Then
-            verify(redisTemplate).delete("recommend:user:1");
-            verify(zSetOperations, times(3)).add(eq("recommend:user:1"), anyString(), anyDouble());
-            verify(redisTemplate).expire(eq("recommend:user:1"), eq(3L), eq(TimeUnit.HOURS));
+            ArgumentCaptor<Object[]> argsCaptor = ArgumentCaptor.forClass(Object[].class);
+            verify(redisTemplate, times(1)).execute(any(RedisScript.class), eq(List.of("recommend:user:1")), argsCaptor.capture());
+            assertThat(argsCaptor.getValue()).containsExactly(
+                    "10800",
+                    "0.95", "book:100",
+                    "0.85", "book:101",
+                    "0.75", "book:102"
+            );
+            verify(redisTemplate, never()).delete(anyString());
+            verify(zSetOperations, never()).add(anyString(), anyString(), anyDouble());
         }
 
         @Test
-        @DisplayName("100개 초과시 하위 항목을 제거한다")
+        @DisplayName("100개 초과시 상위 100개만 전송한다")
         void save_TrimsExcess() {
             // Given
             Long userId = 1L;
             Map<Long, Double> recommendations = new HashMap<>();
             for (int i = 0; i < 150; i++) {
-                recommendations.put((long) i, 0.5);
+                recommendations.put((long) i, i / 150.0);
             }
 
             when(properties.getCache()).thenReturn(cacheConfig);
             when(cacheConfig.getTtlHours()).thenReturn(3);
-            when(zSetOperations.size(anyString())).thenReturn(150L);
 
             // When
             cacheService.saveRecommendations(userId, recommendations);
 
             // Then
-            verify(zSetOperations).removeRange(eq("recommend:user:1"), eq(0L), eq(49L));
+            ArgumentCaptor<Object[]> argsCaptor = ArgumentCaptor.forClass(Object[].class);
+            verify(redisTemplate).execute(any(RedisScript.class), anyList(), argsCaptor.capture());
+            Object[] args = argsCaptor.getValue();
+            assertThat(args).hasSize(1 + 100 * 2);
+            assertThat(args[2]).isEqualTo("book:149");
+            assertThat(args[args.length - 1]).isEqualTo("book:50");
+            verify(zSetOperations, never()).removeRange(anyString(), anyLong(), anyLong());
         }
 
         @Test
@@ -103,7 +116,10 @@ class RecommendationCacheServiceTest {
             Long userId = 1L;
             Map<Long, Double> recommendations = Map.of(100L, 0.95);
 
-            when(redisTemplate.delete(anyString())).thenThrow(new RuntimeException("Redis error"));
+            when(properties.getCache()).thenReturn(cacheConfig);
+            when(cacheConfig.getTtlHours()).thenReturn(3);
+            when(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+                    .thenThrow(new RuntimeException("Redis error"));
 
             // When & Then (no exception thrown)
             cacheService.saveRecommendations(userId, recommendations);
@@ -126,7 +142,8 @@ class RecommendationCacheServiceTest {
             tuples.add(createTuple("book:101", 0.85));
             tuples.add(createTuple("book:102", 0.75));
 
-            when(zSetOperations.reverseRangeWithScores(anyString(), eq(0L), eq(-1L)))
+            when(zSetOperations.reverseRangeByScoreWithScores(
+                    "recommend:user:1", Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY, 0L, 4L))
                     .thenReturn(tuples);
 
             // When
@@ -137,6 +154,7 @@ class RecommendationCacheServiceTest {
             assertThat(results.get(0).getBookId()).isEqualTo(100L);
             assertThat(results.get(0).getScore()).isEqualTo(0.95);
             assertThat(results.get(0).getRank()).isEqualTo(1);
+            assertThat(results.get(2).getCursor()).isEqualTo("s:0.75:102");
         }
 
         @Test
@@ -144,7 +162,7 @@ class RecommendationCacheServiceTest {
         void get_EmptyCache() {
             // Given
             Long userId = 1L;
-            when(zSetOperations.reverseRangeWithScores(anyString(), anyLong(), anyLong()))
+            when(zSetOperations.reverseRangeByScoreWithScores(anyString(), anyDouble(), anyDouble(), anyLong(), anyLong()))
                     .thenReturn(null);
 
             // When
@@ -155,23 +173,74 @@ class RecommendationCacheServiceTest {
         }
 
         @Test
-        @DisplayName("cursor 기반 페이징이 동작한다")
-        void get_WithCursor() {
+        @DisplayName("점수 커서 위치부터 ZREVRANGEBYSCORE 로 이어서 조회한다")
+        void get_WithScoreCursor() {
             // Given
             Long userId = 1L;
-            Long cursor = 100L;
             int limit = 2;
 
+            // 커서 점수와 같은 점수의 앞선 member(book:200, book:100)는 건너뜀
+            Set<ZSetOperations.TypedTuple<String>> tuples = new LinkedHashSet<>();
+            tuples.add(createTuple("book:200", 0.85));
+            tuples.add(createTuple("book:100", 0.85));
+            tuples.add(createTuple("book:099", 0.85));
+            tuples.add(createTuple("book:102", 0.75));
+
+            when(zSetOperations.reverseRangeByScoreWithScores("recommend:user:1", Double.NEGATIVE_INFINITY, 0.85, 0L, 3L))
+                    .thenReturn(tuples);
+
+            // When
+            List<RecommendationResult> results = cacheService.getRecommendations(userId, "s:0.85:100", limit);
+
+            // Then
+            assertThat(results).extracting(RecommendationResult::getBookId).containsExactly(99L, 102L);
+            verify(zSetOperations, never()).reverseRangeWithScores(anyString(), anyLong(), anyLong());
+        }
+
+        @Test
+        @DisplayName("한 번에 채우지 못하면 다음 구간을 이어서 조회한다")
+        void get_FetchesNextBatchWhenSkipped() {
+            // Given
+            Long userId = 1L;
+
+            Set<ZSetOperations.TypedTuple<String>> first = new LinkedHashSet<>();
+            first.add(createTuple("book:100", 0.95));
+            first.add(createTuple("review:7", 0.9));
+            first.add(createTuple("review:8", 0.88));
+            Set<ZSetOperations.TypedTuple<String>> second = new LinkedHashSet<>();
+            second.add(createTuple("book:101", 0.85));
+
+            when(zSetOperations.reverseRangeByScoreWithScores(anyString(), anyDouble(), anyDouble(), eq(0L), eq(3L)))
+                    .thenReturn(first);
+            when(zSetOperations.reverseRangeByScoreWithScores(anyString(), anyDouble(), anyDouble(), eq(3L), eq(3L)))
+                    .thenReturn(second);
+
+            // When
+            List<RecommendationResult> results = cacheService.getRecommendations(userId, 2);
+
+            // Then
+            assertThat(results).extracting(RecommendationResult::getBookId).containsExactly(100L, 101L);
+        }
+
+        @Test
+        @DisplayName("기존 bookId 커서는 ZSCORE 로 점수를 찾아 이어서 조회한다")
+        void get_WithLegacyBookIdCursor() {
+            // Given
+            Long userId = 1L;
+            int limit = 2;
+
+            when(zSetOperations.score("recommend:user:1", "book:100")).thenReturn(0.95);
+
             Set<ZSetOperations.TypedTuple<String>> tuples = new LinkedHashSet<>();
             tuples.add(createTuple("book:100", 0.95));
             tuples.add(createTuple("book:101", 0.85));
             tuples.add(createTuple("book:102", 0.75));
 
-            when(zSetOperations.reverseRangeWithScores(anyString(), eq(0L), eq(-1L)))
+            when(zSetOperations.reverseRangeByScoreWithScores("recommend:user:1", Double.NEGATIVE_INFINITY, 0.95, 0L, 3L))
                     .thenReturn(tuples);
 
             // When
-            List<RecommendationResult> results = cacheService.getRecommendations(userId, cursor, limit);
+            List<RecommendationResult> results = cacheService.getRecommendations(userId, "100", limit);
 
             // Then
             assertThat(results).hasSize(2);
@@ -179,6 +248,21 @@ class RecommendationCacheServiceTest {
             assertThat(results.get(1).getBookId()).isEqualTo(102L);
         }
 
+        @Test
+        @DisplayName("기존 bookId 커서가 캐시에 없으면 빈 리스트를 반환한다")
+        void get_WithUnknownBookIdCursor() {
+            // Given
+            when(zSetOperations.score("recommend:user:1", "book:999")).thenReturn(null);
+
+            // When
+            List<RecommendationResult> results = cacheService.getRecommendations(1L, "999", 10);
+
+            // Then
+            assertThat(results).isEmpty();
+            verify(zSetOperations, never())
+                    .reverseRangeByScoreWithScores(anyString(), anyDouble(), anyDouble(), anyLong(), anyLong());
+        }
+
         @Test
         @DisplayName("잘못된 member 형식은 무시한다")
         void get_IgnoresInvalidMember() {
@@ -190,7 +274,7 @@ class RecommendationCacheServiceTest {
             tuples.add(createTuple("invalid:200", 0.85)); // should be ignored
             tuples.add(createTuple("book:102", 0.75));
 
-            when(zSetOperations.reverseRangeWithScores(anyString(), eq(0L), eq(-1L)))
+            when(zSetOperations.reverseRangeByScoreWithScores(anyString(), anyDouble(), anyDouble(), eq(0L), eq(11L)))
                     .thenReturn(tuples);
 
             // When
@@ -207,7 +291,7 @@ class RecommendationCacheServiceTest {
         void get_ReturnsEmptyOnException() {
             // Given
             Long userId = 1L;
-            when(zSetOperations.reverseRangeWithScores(anyString(), anyLong(), anyLong()))
+            when(zSetOperations.reverseRangeByScoreWithScores(anyString(), anyDouble(), anyDouble(), anyLong(), anyLong()))
                     .thenThrow(new RuntimeException("Redis error"));
 
             // When
@@ -223,8 +307,8 @@ class RecommendationCacheServiceTest {
     class GetRecommendationsWithSamplingTest {
 
         @Test
-        @DisplayName("샘플링 활성화시 WindowSampler를 사용한다")
-        void withSampling_UsesWindowSampler() {
+        @DisplayName("첫 페이지는 샘플링 후 세션 순서를 저장하고 위치 커서를 반환한다")
+        void withSampling_MaterializesSessionOrder() {
             // Given
             Long userId = 1L;
             String sessionId = "session-123";
@@ -233,8 +317,11 @@ class RecommendationCacheServiceTest {
             tuples.add(createTuple("book:100", 0.95));
             tuples.add(createTuple("book:101", 0.85));
 
+            when(windowSampler.isEnabled()).thenReturn(true);
             when(zSetOperations.reverseRangeWithScores(anyString(), eq(0L), eq(-1L)))
                     .thenReturn(tuples);
+            when(properties.getCache()).thenReturn(cacheConfig);
+            when(cacheConfig.getSessionOrderTtlMinutes()).thenReturn(30);
 
             List<RecommendationResult> sampledResults = List.of(
                     RecommendationResult.builder().bookId(101L).score(0.85).build(),
@@ -244,12 +331,69 @@ class RecommendationCacheServiceTest {
 
             // When
             List<RecommendationResult> results = cacheService.getRecommendationsWithSampling(
-                    userId, null, 10, sessionId, true
+                    userId, null, 1, sessionId, true
             );
 
             // Then
             verify(windowSampler).applySampling(anyList(), eq(sessionId));
-            assertThat(results).hasSize(2);
+            assertThat(results).hasSize(1);
+            assertThat(results.get(0).getBookId()).isEqualTo(101L);
+            assertThat(results.get(0).getRank()).isEqualTo(1);
+            assertThat(results.get(0).getCursor()).isEqualTo("o:1");
+
+            ArgumentCaptor<Object[]> argsCaptor = ArgumentCaptor.forClass(Object[].class);
+            verify(redisTemplate).execute(
+                    any(RedisScript.class), eq(List.of("recommend:user:1:session:session-123")), argsCaptor.capture());
+            assertThat(argsCaptor.getValue()).containsExactly(
+                    "1800",
+                    "0", "101:0.85",
+                    "1", "100:0.95"
+            );
+        }
+
+        @Test
+        @DisplayName("위치 커서는 저장된 세션 순서에서 재샘플링 없이 조회한다")
+        void withSampling_PagesFromSessionOrder() {
+            // Given
+            Long userId = 1L;
+            String sessionId = "session-123";
+
+            Set<String> members = new LinkedHashSet<>(List.of("100:0.95"));
+            when(zSetOperations.rangeByScore("recommend:user:1:session:session-123", 1.0, Double.POSITIVE_INFINITY, 0L, 10L))
+                    .thenReturn(members);
+
+            // When
+            List<RecommendationResult> results = cacheService.getRecommendationsWithSampling(
+                    userId, "o:1", 10, sessionId, true
+            );
+
+            // Then
+            assertThat(results).hasSize(1);
+            assertThat(results.get(0).getBookId()).isEqualTo(100L);
+            assertThat(results.get(0).getScore()).isEqualTo(0.95);
+            // rank 는 페이지 안의 순위, 전체 위치는 커서가 담음
+            assertThat(results.get(0).getRank()).isEqualTo(1);
+            assertThat(results.get(0).getCursor()).isEqualTo("o:2");
+            verify(windowSampler, never()).applySampling(anyList(), anyString());
+            verify(zSetOperations, never()).reverseRangeWithScores(anyString(), anyLong(), anyLong());
+        }
+
+        @Test
+        @DisplayName("세션 순서의 끝을 지나면 빈 리스트를 반환한다")
+        void withSampling_EndOfSessionOrder() {
+            // Given
+            when(zSetOperations.rangeByScore(anyString(), anyDouble(), anyDouble(), anyLong(), anyLong()))
+                    .thenReturn(Set.of());
+            when(redisTemplate.hasKey("recommend:user:1:session:session-123")).thenReturn(true);
+
+            // When
+            List<RecommendationResult> results = cacheService.getRecommendationsWithSampling(
+                    1L, "o:2", 10, "session-123", true
+            );
+
+            // Then
+            assertThat(results).isEmpty();
+            verify(windowSampler, never()).applySampling(anyList(), anyString());
         }
 
         @Test
@@ -261,7 +405,7 @@ class RecommendationCacheServiceTest {
             Set<ZSetOperations.TypedTuple<String>> tuples = new LinkedHashSet<>();
             tuples.add(createTuple("book:100", 0.95));
 
-            when(zSetOperations.reverseRangeWithScores(anyString(), eq(0L), eq(-1L)))
+            when(zSetOperations.reverseRangeByScoreWithScores(anyString(), anyDouble(), anyDouble(), anyLong(), anyLong()))
                     .thenReturn(tuples);
 
             // When
@@ -271,11 +415,36 @@ class RecommendationCacheServiceTest {
             verify(windowSampler, never()).applySampling(anyList(), anyString());
         }
 
+        @Test
+        @DisplayName("샘플러가 꺼져 있으면 전체 목록을 읽지 않고 점수 커서로 페이징한다")
+        void samplerDisabled_PagesByScore() {
+            // Given
+            Set<ZSetOperations.TypedTuple<String>> tuples = new LinkedHashSet<>();
+            tuples.add(createTuple("book:100", 0.95));
+            tuples.add(createTuple("book:101", 0.85));
+
+            when(windowSampler.isEnabled()).thenReturn(false);
+            when(zSetOperations.reverseRangeByScoreWithScores(anyString(), anyDouble(), anyDouble(), anyLong(), anyLong()))
+                    .thenReturn(tuples);
+
+            // When
+            List<RecommendationResult> results = cacheService.getRecommendationsWithSampling(
+                    1L, null, 2, "session-123", true
+            );
+
+            // Then
+            assertThat(results).extracting(RecommendationResult::getRank).containsExactly(1, 2);
+            assertThat(results.get(1).getCursor()).startsWith("s:");
+            verify(windowSampler, never()).applySampling(anyList(), anyString());
+            verify(zSetOperations, never()).reverseRangeWithScores(anyString(), anyLong(), anyLong());
+        }
+
         @Test
         @DisplayName("빈 캐시는 빈 리스트를 반환한다")
         void withSampling_EmptyCache() {
             // Given
             Long userId = 1L;
+            when(windowSampler.isEnabled()).thenReturn(true);
             when(zSetOperations.reverseRangeWithScores(anyString(), anyLong(), anyLong()))
                     .thenReturn(null);
 
@@ -345,7 +514,7 @@ class RecommendationCacheServiceTest {
     class IncrementBookScoreTest {
 
         @Test
-        @DisplayName("점수를 증분한다")
+        @DisplayName("점수 증분, 트림, TTL 갱신을 스크립트 한 번으로 처리한다")
         void increment_Success() {
             // Given
             Long userId = 1L;
@@ -354,14 +523,16 @@ class RecommendationCacheServiceTest {
 
             when(properties.getCache()).thenReturn(cacheConfig);
             when(cacheConfig.getTtlHours()).thenReturn(3);
-            when(zSetOperations.size(anyString())).thenReturn(50L);
 
             // When
             cacheService.incrementBookScore(userId, bookId, delta);
 
             // Then
-            verify(zSetOperations).incrementScore("recommend:user:1", "book:100", delta);
-            verify(redisTemplate).expire(eq("recommend:user:1"), eq(3L), eq(TimeUnit.HOURS));
+            ArgumentCaptor<Object[]> argsCaptor = ArgumentCaptor.forClass(Object[].class);
+            verify(redisTemplate, times(1)).execute(any(RedisScript.class), eq(List.of("recommend:user:1")), argsCaptor.capture());
+            assertThat(argsCaptor.getValue()).containsExactly("book:100", "0.1", "100", "10800");
+            verify(zSetOperations, never()).incrementScore(anyString(), anyString(), anyDouble());
+            verify(redisTemplate, never()).expire(anyString(), anyLong(), any(TimeUnit.class));
         }
 
         @Test
@@ -385,18 +556,14 @@ class RecommendationCacheServiceTest {
         }
 
         @Test
-        @DisplayName("100개 초과시 하위 항목을 제거한다")
-        void increment_TrimsExcess() {
-            // Given
-            when(properties.getCache()).thenReturn(cacheConfig);
-            when(cacheConfig.getTtlHours()).thenReturn(3);
-            when(zSetOperations.size(anyString())).thenReturn(150L);
-
+        @DisplayName("null userId/bookId는 스크립트를 실행하지 않는다")
+        void increment_NullIds_SkipsScript() {
             // When
-            cacheService.incrementBookScore(1L, 100L, 0.1);
+            cacheService.incrementBookScore(null, 100L, 0.1);
+            cacheService.incrementBookScore(1L, null, 0.1);
 
             // Then
-            verify(zSetOperations).removeRange(eq("recommend:user:1"), eq(0L), eq(49L));
+            verify(redisTemplate, never()).execute(any(RedisScript.class), anyList(), any(Object[].class));
         }
     }
 
@@ -8,17 +8,21 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.yyubin.recommendation.candidate.ElasticsearchCandidateGenerator;
-import org.yyubin.recommendation.candidate.Neo4jCandidateGenerator;
+import org.mockito.stubbing.Answer;
+import org.yyubin.application.recommendation.exception.InvalidRecommendationCursorException;
+import org.yyubin.recommendation.candidate.CandidateFanOut;
+import org.yyubin.recommendation.candidate.PopularBooksSnapshot;
 import org.yyubin.recommendation.candidate.RecommendationCandidate;
 import org.yyubin.recommendation.config.RecommendationProperties;
 import org.yyubin.recommendation.scoring.HybridScorer;
+import org.yyubin.recommendation.scoring.ScoredCandidates;
 
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
@@ -27,10 +31,10 @@ import static org.mockito.Mockito.*;
 class RecommendationServiceTest {
 
     @Mock
-    private Neo4jCandidateGenerator neo4jCandidateGenerator;
+    private CandidateFanOut candidateFanOut;
 
     @Mock
-    private ElasticsearchCandidateGenerator elasticsearchCandidateGenerator;
+    private PopularBooksSnapshot popularBooksSnapshot;
 
     @Mock
     private HybridScorer hybridScorer;
@@ -69,7 +73,7 @@ class RecommendationServiceTest {
                     createCandidate(101L, RecommendationCandidate.CandidateSource.POPULARITY, 0.8)
             );
 
-            when(elasticsearchCandidateGenerator.generateCandidates(isNull(), anyInt()))
+            when(popularBooksSnapshot.topCandidates(anyInt()))
                     .thenReturn(popularCandidates);
 
             // When
@@ -77,7 +81,7 @@ class RecommendationServiceTest {
 
             // Then
             assertThat(results).hasSize(2);
-            verify(neo4jCandidateGenerator, never()).generateCandidates(anyLong(), anyInt());
+            verify(candidateFanOut, never()).generate(any(), anyInt());
         }
 
         @Test
@@ -98,8 +102,8 @@ class RecommendationServiceTest {
 
             // Then
             assertThat(results).hasSize(1);
-            verify(neo4jCandidateGenerator, never()).generateCandidates(anyLong(), anyInt());
-            verify(elasticsearchCandidateGenerator, never()).generateCandidates(anyLong(), anyInt());
+            verify(candidateFanOut, never()).generate(any(), anyInt());
+            verify(popularBooksSnapshot, never()).topCandidates(anyInt());
         }
 
         @Test
@@ -113,11 +117,10 @@ class RecommendationServiceTest {
                     createCandidate(100L, RecommendationCandidate.CandidateSource.NEO4J_COLLABORATIVE, 0.9)
             );
 
-            when(neo4jCandidateGenerator.generateCandidates(eq(userId), anyInt())).thenReturn(candidates);
-            when(elasticsearchCandidateGenerator.generateCandidates(eq(userId), anyInt())).thenReturn(List.of());
+            when(candidateFanOut.generate(eq(userId), anyInt())).thenReturn(candidates);
 
             Map<Long, Double> scores = Map.of(100L, 0.95);
-            when(hybridScorer.batchCalculate(eq(userId), anyList())).thenReturn(scores);
+            when(hybridScorer.scoreAll(eq(userId), anyList())).thenAnswer(scoredWith(scores));
 
             // When
             List<RecommendationResult> results = recommendationService.generateRecommendations(userId, limit, true);
@@ -125,7 +128,7 @@ class RecommendationServiceTest {
             // Then
             assertThat(results).hasSize(1);
             verify(cacheService, never()).hasCachedRecommendations(anyLong());
-            verify(neo4jCandidateGenerator).generateCandidates(eq(userId), anyInt());
+            verify(candidateFanOut).generate(eq(userId), anyInt());
         }
 
         @Test
@@ -136,13 +139,12 @@ class RecommendationServiceTest {
             int limit = 10;
 
             when(cacheService.hasCachedRecommendations(userId)).thenReturn(false);
-            when(neo4jCandidateGenerator.generateCandidates(eq(userId), anyInt())).thenReturn(List.of());
-            when(elasticsearchCandidateGenerator.generateCandidates(eq(userId), anyInt())).thenReturn(List.of());
+            when(candidateFanOut.generate(eq(userId), anyInt())).thenReturn(List.of());
 
             List<RecommendationCandidate> popularCandidates = List.of(
                     createCandidate(100L, RecommendationCandidate.CandidateSource.POPULARITY, 0.9)
             );
-            when(elasticsearchCandidateGenerator.generateCandidates(isNull(), anyInt()))
+            when(popularBooksSnapshot.topCandidates(anyInt()))
                     .thenReturn(popularCandidates);
 
             // When
@@ -167,11 +169,11 @@ class RecommendationServiceTest {
             );
 
             when(cacheService.hasCachedRecommendations(userId)).thenReturn(false);
-            when(neo4jCandidateGenerator.generateCandidates(eq(userId), anyInt())).thenReturn(neo4jCandidates);
-            when(elasticsearchCandidateGenerator.generateCandidates(eq(userId), anyInt())).thenReturn(esCandidates);
+            when(candidateFanOut.generate(eq(userId), anyInt()))
+                    .thenReturn(List.of(neo4jCandidates.get(0), esCandidates.get(0)));
 
             Map<Long, Double> scores = Map.of(100L, 0.95);
-            when(hybridScorer.batchCalculate(eq(userId), anyList())).thenReturn(scores);
+            when(hybridScorer.scoreAll(eq(userId), anyList())).thenAnswer(scoredWith(scores));
 
             // When
             List<RecommendationResult> results = recommendationService.generateRecommendations(userId, limit, false);
@@ -193,11 +195,10 @@ class RecommendationServiceTest {
             );
 
             when(cacheService.hasCachedRecommendations(userId)).thenReturn(false);
-            when(neo4jCandidateGenerator.generateCandidates(eq(userId), anyInt())).thenReturn(candidates);
-            when(elasticsearchCandidateGenerator.generateCandidates(eq(userId), anyInt())).thenReturn(List.of());
+            when(candidateFanOut.generate(eq(userId), anyInt())).thenReturn(candidates);
 
             Map<Long, Double> scores = Map.of(100L, 0.95);
-            when(hybridScorer.batchCalculate(eq(userId), anyList())).thenReturn(scores);
+            when(hybridScorer.scoreAll(eq(userId), anyList())).thenAnswer(scoredWith(scores));
 
             // When
             recommendationService.generateRecommendations(userId, limit, false);
@@ -219,13 +220,12 @@ class RecommendationServiceTest {
             );
 
             when(cacheService.hasCachedRecommendations(userId)).thenReturn(false);
-            when(neo4jCandidateGenerator.generateCandidates(eq(userId), anyInt())).thenReturn(candidates);
-            when(elasticsearchCandidateGenerator.generateCandidates(eq(userId), anyInt())).thenReturn(List.of());
+            when(candidateFanOut.generate(eq(userId), anyInt())).thenReturn(candidates);
 
             Map<Long, Double> scores = new HashMap<>();
             scores.put(100L, 0.95);
             scores.put(101L, 0.85);
-            when(hybridScorer.batchCalculate(eq(userId), anyList())).thenReturn(scores);
+            when(hybridScorer.scoreAll(eq(userId), anyList())).thenAnswer(scoredWith(scores));
 
             // When
             List<RecommendationResult> results = recommendationService.generateRecommendations(userId, limit, false);
@@ -243,7 +243,7 @@ class RecommendationServiceTest {
         void generate_CursorPagination() {
             // Given
             Long userId = 1L;
-            Long cursor = 100L;
+            String cursor = "100";
             int limit = 2;
 
             List<RecommendationCandidate> candidates = List.of(
@@ -253,14 +253,13 @@ class RecommendationServiceTest {
             );
 
             when(cacheService.hasCachedRecommendations(userId)).thenReturn(false);
-            when(neo4jCandidateGenerator.generateCandidates(eq(userId), anyInt())).thenReturn(candidates);
-            when(elasticsearchCandidateGenerator.generateCandidates(eq(userId), anyInt())).thenReturn(List.of());
+            when(candidateFanOut.generate(eq(userId), anyInt())).thenReturn(candidates);
 
             Map<Long, Double> scores = new HashMap<>();
             scores.put(100L, 0.95);
             scores.put(101L, 0.85);
             scores.put(102L, 0.75);
-            when(hybridScorer.batchCalculate(eq(userId), anyList())).thenReturn(scores);
+            when(hybridScorer.scoreAll(eq(userId), anyList())).thenAnswer(scoredWith(scores));
 
             // When
             List<RecommendationResult> results = recommendationService.generateRecommendations(userId, cursor, limit, false);
@@ -272,23 +271,64 @@ class RecommendationServiceTest {
         }
 
         @Test
-        @DisplayName("Neo4j 예외시에도 Elasticsearch 후보를 사용한다")
-        void generate_Neo4jException_FallsBackToES() {
+        @DisplayName("점수 커서는 커서 항목이 사라져도 같은 위치부터 이어서 반환한다")
+        void generate_ScoreCursorPagination() {
+            // Given
+            Long userId = 1L;
+            String cursor = "s:0.9:100"; // 100번 도서는 재계산 결과에 없음
+            int limit = 2;
+
+            List<RecommendationCandidate> candidates = List.of(
+                    createCandidate(101L, RecommendationCandidate.CandidateSource.NEO4J_GENRE, 0.8),
+                    createCandidate(102L, RecommendationCandidate.CandidateSource.POPULARITY, 0.7),
+                    createCandidate(103L, RecommendationCandidate.CandidateSource.POPULARITY, 0.7)
+            );
+
+            when(cacheService.hasCachedRecommendations(userId)).thenReturn(false);
+            when(candidateFanOut.generate(eq(userId), anyInt())).thenReturn(candidates);
+
+            Map<Long, Double> scores = new HashMap<>();
+            scores.put(101L, 0.95);
+            scores.put(102L, 0.85);
+            scores.put(103L, 0.75);
+            when(hybridScorer.scoreAll(eq(userId), anyList())).thenAnswer(scoredWith(scores));
+
+            // When
+            List<RecommendationResult> results = recommendationService.generateRecommendations(userId, cursor, limit, false);
+
+            // Then
+            assertThat(results).extracting(RecommendationResult::getBookId).containsExactly(102L, 103L);
+            assertThat(results).extracting(RecommendationResult::getCursor)
+                    .containsExactly("s:0.85:102", "s:0.75:103");
+        }
+
+        @Test
+        @DisplayName("잘못된 커서는 InvalidRecommendationCursorException")
+        void generate_InvalidCursor() {
+            // When & Then
+            assertThatThrownBy(() ->
+                            recommendationService.generateRecommendations(1L, "s:abc", 10, false))
+                    .isInstanceOf(InvalidRecommendationCursorException.class);
+            verifyNoInteractions(cacheService);
+        }
+
+        @Test
+        @DisplayName("일부 source 만 완료되어도 남은 후보로 추천한다")
+        void generate_PartialSources_UsesRemainingCandidates() {
             // Given
             Long userId = 1L;
             int limit = 10;
 
             when(cacheService.hasCachedRecommendations(userId)).thenReturn(false);
-            when(neo4jCandidateGenerator.generateCandidates(eq(userId), anyInt()))
-                    .thenThrow(new RuntimeException("Neo4j error"));
 
+            // Neo4j source 가 실패/지연되어 fan-out 이 Elasticsearch 후보만 반환
             List<RecommendationCandidate> esCandidates = List.of(
                     createCandidate(100L, RecommendationCandidate.CandidateSource.ELASTICSEARCH_MLT, 0.8)
             );
-            when(elasticsearchCandidateGenerator.generateCandidates(eq(userId), anyInt())).thenReturn(esCandidates);
+            when(candidateFanOut.generate(eq(userId), anyInt())).thenReturn(esCandidates);
 
             Map<Long, Double> scores = Map.of(100L, 0.85);
-            when(hybridScorer.batchCalculate(eq(userId), anyList())).thenReturn(scores);
+            when(hybridScorer.scoreAll(eq(userId), anyList())).thenAnswer(scoredWith(scores));
 
             // When
             List<RecommendationResult> results = recommendationService.generateRecommendations(userId, limit, false);
@@ -337,7 +377,7 @@ class RecommendationServiceTest {
                     createCandidate(101L, RecommendationCandidate.CandidateSource.POPULARITY, 0.8)
             );
 
-            when(elasticsearchCandidateGenerator.generateCandidates(isNull(), eq(limit)))
+            when(popularBooksSnapshot.topCandidates(eq(limit)))
                     .thenReturn(popularCandidates);
 
             // When
@@ -353,7 +393,7 @@ class RecommendationServiceTest {
         @DisplayName("후보가 없으면 빈 리스트를 반환한다")
         void generateDefault_NoCandidates_ReturnsEmpty() {
             // Given
-            when(elasticsearchCandidateGenerator.generateCandidates(isNull(), anyInt()))
+            when(popularBooksSnapshot.topCandidates(anyInt()))
                     .thenReturn(List.of());
 
             // When
@@ -367,8 +407,8 @@ class RecommendationServiceTest {
         @DisplayName("예외 발생시 빈 리스트를 반환한다")
         void generateDefault_Exception_ReturnsEmpty() {
             // Given
-            when(elasticsearchCandidateGenerator.generateCandidates(isNull(), anyInt()))
-                    .thenThrow(new RuntimeException("ES error"));
+            when(popularBooksSnapshot.topCandidates(anyInt()))
+                    .thenThrow(new RuntimeException("snapshot error"));
 
             // When
             List<RecommendationResult> results = recommendationService.generateDefaultRecommendations(10);
@@ -381,7 +421,7 @@ class RecommendationServiceTest {
         @DisplayName("cursor 기반 페이징이 동작한다")
         void generateDefault_CursorPagination() {
             // Given
-            Long cursor = 100L;
+            String cursor = "100";
             int limit = 2;
 
             List<RecommendationCandidate> popularCandidates = List.of(
@@ -391,7 +431,7 @@ class RecommendationServiceTest {
             );
 
             // cursor가 있으면 더 많이 가져옴
-            when(elasticsearchCandidateGenerator.generateCandidates(isNull(), eq(6)))
+            when(popularBooksSnapshot.topCandidates(eq(6)))
                     .thenReturn(popularCandidates);
 
             // When
@@ -433,7 +473,7 @@ class RecommendationServiceTest {
         void getCached_WithCursor() {
             // Given
             Long userId = 1L;
-            Long cursor = 100L;
+            String cursor = "s:0.95:100";
             int limit = 10;
 
             List<RecommendationResult> cached = List.of(
@@ -495,11 +535,10 @@ class RecommendationServiceTest {
             );
 
             lenient().when(cacheService.hasCachedRecommendations(userId)).thenReturn(false);
-            when(neo4jCandidateGenerator.generateCandidates(eq(userId), anyInt())).thenReturn(candidates);
-            when(elasticsearchCandidateGenerator.generateCandidates(eq(userId), anyInt())).thenReturn(List.of());
+            when(candidateFanOut.generate(eq(userId), anyInt())).thenReturn(candidates);
 
             Map<Long, Double> scores = Map.of(100L, 0.95);
-            when(hybridScorer.batchCalculate(eq(userId), anyList())).thenReturn(scores);
+            when(hybridScorer.scoreAll(eq(userId), anyList())).thenAnswer(scoredWith(scores));
 
             // When
             recommendationService.refreshRecommendations(userId);
@@ -563,6 +602,23 @@ class RecommendationServiceTest {
         }
     }
 
+    /**
+     * scoreAll 스텁: scores 에 있는 후보만 해당 점수로 반환
+     */
+    private static Answer<ScoredCandidates<RecommendationCandidate>> scoredWith(Map<Long, Double> scores) {
+        return invocation -> {
+            List<RecommendationCandidate> candidates = invocation.getArgument(1);
+            List<RecommendationCandidate> scored = candidates.stream()
+                    .filter(c -> scores.containsKey(c.getBookId()))
+                    .toList();
+            return new ScoredCandidates<>(
+                    scored,
+                    scored.stream().mapToLong(RecommendationCandidate::getBookId).toArray(),
+                    scored.stream().mapToDouble(c -> scores.get(c.getBookId())).toArray()
+            );
+        };
+    }
+
     private RecommendationCandidate createCandidate(Long bookId, RecommendationCandidate.CandidateSource source, double score) {
         return RecommendationCandidate.builder()
                 .bookId(bookId)
@@ -8,10 +8,12 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.stubbing.Answer;
 import org.yyubin.recommendation.candidate.ReviewElasticsearchCandidateGenerator;
 import org.yyubin.recommendation.candidate.ReviewNeo4jCandidateGenerator;
 import org.yyubin.recommendation.candidate.ReviewRecommendationCandidate;
 import org.yyubin.recommendation.config.ReviewRecommendationProperties;
+import org.yyubin.recommendation.scoring.ScoredCandidates;
 import org.yyubin.recommendation.scoring.review.ReviewHybridScorer;
 
 import java.time.LocalDateTime;
@@ -54,6 +56,7 @@ class ReviewRecommendationServiceTest {
         lenient().when(properties.getSearch()).thenReturn(searchConfig);
         lenient().when(properties.getMaxCandidates()).thenReturn(300);
         lenient().when(searchConfig.getFeedGraphRatio()).thenReturn(0.3);
+        lenient().when(properties.getCache()).thenReturn(new ReviewRecommendationProperties.Cache());
     }
 
     @Nested
@@ -100,7 +103,7 @@ class ReviewRecommendationServiceTest {
             when(exposureService.loadRecentReviewIds(userId)).thenReturn(Set.of());
 
             Map<Long, Double> scores = Map.of(100L, 0.95);
-            when(hybridScorer.batchCalculate(eq(userId), isNull(), anyList())).thenReturn(scores);
+            when(hybridScorer.scoreAll(eq(userId), isNull(), anyList())).thenAnswer(scoredWith(scores));
 
             // When
             List<ReviewRecommendationResult> results = reviewRecommendationService.recommendFeed(userId, limit, true);
@@ -149,7 +152,7 @@ class ReviewRecommendationServiceTest {
             when(exposureService.loadRecentReviewIds(userId)).thenReturn(Set.of());
 
             Map<Long, Double> scores = Map.of(100L, 0.95);
-            when(hybridScorer.batchCalculate(eq(userId), isNull(), anyList())).thenReturn(scores);
+            when(hybridScorer.scoreAll(eq(userId), isNull(), anyList())).thenAnswer(scoredWith(scores));
 
             // When
             List<ReviewRecommendationResult> results = reviewRecommendationService.recommendFeed(userId, limit, false);
@@ -182,7 +185,7 @@ class ReviewRecommendationServiceTest {
             Map<Long, Double> scores = new HashMap<>();
             scores.put(101L, 0.85);
             scores.put(102L, 0.75);
-            when(hybridScorer.batchCalculate(eq(userId), isNull(), anyList())).thenReturn(scores);
+            when(hybridScorer.scoreAll(eq(userId), isNull(), anyList())).thenAnswer(scoredWith(scores));
 
             // When
             List<ReviewRecommendationResult> results = reviewRecommendationService.recommendFeed(userId, limit, false);
@@ -212,7 +215,7 @@ class ReviewRecommendationServiceTest {
             when(exposureService.loadRecentReviewIds(userId)).thenReturn(Set.of(100L));
 
             Map<Long, Double> scores = Map.of(100L, 0.95);
-            when(hybridScorer.batchCalculate(eq(userId), isNull(), anyList())).thenReturn(scores);
+            when(hybridScorer.scoreAll(eq(userId), isNull(), anyList())).thenAnswer(scoredWith(scores));
 
             // When
             List<ReviewRecommendationResult> results = reviewRecommendationService.recommendFeed(userId, limit, false);
@@ -239,7 +242,7 @@ class ReviewRecommendationServiceTest {
             when(exposureService.loadRecentReviewIds(userId)).thenReturn(Set.of());
 
             Map<Long, Double> scores = Map.of(100L, 0.95);
-            when(hybridScorer.batchCalculate(eq(userId), isNull(), anyList())).thenReturn(scores);
+            when(hybridScorer.scoreAll(eq(userId), isNull(), anyList())).thenAnswer(scoredWith(scores));
 
             // When
             reviewRecommendationService.recommendFeed(userId, limit, false);
@@ -265,7 +268,7 @@ class ReviewRecommendationServiceTest {
             when(exposureService.loadRecentReviewIds(userId)).thenReturn(Set.of());
 
             Map<Long, Double> scores = Map.of(100L, 0.95);
-            when(hybridScorer.batchCalculate(eq(userId), isNull(), anyList())).thenReturn(scores);
+            when(hybridScorer.scoreAll(eq(userId), isNull(), anyList())).thenAnswer(scoredWith(scores));
 
             // When
             reviewRecommendationService.recommendFeed(userId, limit, false);
@@ -297,7 +300,7 @@ class ReviewRecommendationServiceTest {
             scores.put(100L, 0.95);
             scores.put(101L, 0.85);
             scores.put(102L, 0.75);
-            when(hybridScorer.batchCalculate(eq(userId), isNull(), anyList())).thenReturn(scores);
+            when(hybridScorer.scoreAll(eq(userId), isNull(), anyList())).thenAnswer(scoredWith(scores));
 
             // When
             List<ReviewRecommendationResult> results = reviewRecommendationService.recommendFeed(userId, cursor, limit, false);
@@ -328,7 +331,7 @@ class ReviewRecommendationServiceTest {
             Map<Long, Double> scores = new HashMap<>();
             scores.put(100L, 0.95);
             scores.put(101L, 0.85);
-            when(hybridScorer.batchCalculate(eq(userId), isNull(), anyList())).thenReturn(scores);
+            when(hybridScorer.scoreAll(eq(userId), isNull(), anyList())).thenAnswer(scoredWith(scores));
 
             // When
             List<ReviewRecommendationResult> results = reviewRecommendationService.recommendFeed(userId, limit, false);
@@ -357,7 +360,7 @@ class ReviewRecommendationServiceTest {
             when(exposureService.loadRecentReviewIds(userId)).thenReturn(Set.of());
 
             Map<Long, Double> scores = Map.of(101L, 0.85);
-            when(hybridScorer.batchCalculate(eq(userId), isNull(), anyList())).thenReturn(scores);
+            when(hybridScorer.scoreAll(eq(userId), isNull(), anyList())).thenAnswer(scoredWith(scores));
 
             // When
             List<ReviewRecommendationResult> results = reviewRecommendationService.recommendFeed(userId, limit, false);
@@ -389,7 +392,7 @@ class ReviewRecommendationServiceTest {
                     .thenReturn(candidates);
 
             Map<Long, Double> scores = Map.of(100L, 0.95);
-            when(hybridScorer.batchCalculate(eq(userId), eq(bookId), anyList())).thenReturn(scores);
+            when(hybridScorer.scoreAll(eq(userId), eq(bookId), anyList())).thenAnswer(scoredWith(scores));
 
             // When
             List<ReviewRecommendationResult> results = reviewRecommendationService.recommendForBook(userId, bookId, limit, false);
@@ -439,7 +442,7 @@ class ReviewRecommendationServiceTest {
                     .thenReturn(candidates);
 
             Map<Long, Double> scores = Map.of(100L, 0.95);
-            when(hybridScorer.batchCalculate(eq(userId), eq(bookId), anyList())).thenReturn(scores);
+            when(hybridScorer.scoreAll(eq(userId), eq(bookId), anyList())).thenAnswer(scoredWith(scores));
 
             // When
             reviewRecommendationService.recommendForBook(userId, bookId, limit, false);
@@ -472,7 +475,7 @@ class ReviewRecommendationServiceTest {
             scores.put(100L, 0.95);
             scores.put(101L, 0.85);
             scores.put(102L, 0.75);
-            when(hybridScorer.batchCalculate(eq(userId), eq(bookId), anyList())).thenReturn(scores);
+            when(hybridScorer.scoreAll(eq(userId), eq(bookId), anyList())).thenAnswer(scoredWith(scores));
 
             // When
             List<ReviewRecommendationResult> results = reviewRecommendationService.recommendForBook(userId, bookId, cursor, limit, false);
@@ -500,7 +503,7 @@ class ReviewRecommendationServiceTest {
                     .thenReturn(candidates);
 
             Map<Long, Double> scores = Map.of(100L, 0.95);
-            when(hybridScorer.batchCalculate(eq(userId), eq(bookId), anyList())).thenReturn(scores);
+            when(hybridScorer.scoreAll(eq(userId), eq(bookId), anyList())).thenAnswer(scoredWith(scores));
 
             // When
             reviewRecommendationService.recommendForBook(userId, bookId, limit, false);
@@ -531,7 +534,7 @@ class ReviewRecommendationServiceTest {
             when(exposureService.loadRecentReviewIds(userId)).thenReturn(Set.of());
 
             Map<Long, Double> scores = Map.of(100L, 0.95);
-            when(hybridScorer.batchCalculate(eq(userId), isNull(), anyList())).thenReturn(scores);
+            when(hybridScorer.scoreAll(eq(userId), isNull(), anyList())).thenAnswer(scoredWith(scores));
 
             // When
             List<ReviewRecommendationResult> results = reviewRecommendationService.recommendFeed(userId, limit, false);
@@ -543,6 +546,23 @@ class ReviewRecommendationServiceTest {
         }
     }
 
+    /**
+     * scoreAll 스텁: scores 에 있는 후보만 해당 점수로 반환
+     */
+    private static Answer<ScoredCandidates<ReviewRecommendationCandidate>> scoredWith(Map<Long, Double> scores) {
+        return invocation -> {
+            List<ReviewRecommendationCandidate> candidates = invocation.getArgument(2);
+            List<ReviewRecommendationCandidate> scored = candidates.stream()
+                    .filter(c -> c.getReviewId() != null && scores.containsKey(c.getReviewId()))
+                    .toList();
+            return new ScoredCandidates<>(
+                    scored,
+                    scored.stream().mapToLong(ReviewRecommendationCandidate::getReviewId).toArray(),
+                    scored.stream().mapToDouble(c -> scores.get(c.getReviewId())).toArray()
+            );
+        };
+    }
+
     private ReviewRecommendationCandidate createCandidate(
             Long reviewId,
             Long bookId,
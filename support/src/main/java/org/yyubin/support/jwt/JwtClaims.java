@@ -0,0 +1,24 @@
+package org.yyubin.support.jwt;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * 서명/만료 검증을 마친 액세스 토큰 claims (불변)
+ * - 필터가 토큰을 한 번만 파싱하고 사용자 ID/jti/권한을 여기서 꺼내 씀
+ *
+ * @param subject     사용자 ID
+ * @param jti         토큰 ID (블랙리스트 키)
+ * @param authorities 권한 목록
+ * @param expiresAt   만료 시각
+ */
+public record JwtClaims(String subject, String jti, List<String> authorities, Instant expiresAt) {
+
+    public JwtClaims {
+        authorities = authorities != null ? List.copyOf(authorities) : List.of();
+    }
+
+    public boolean isExpiredAt(long nowMillis) {
+        return expiresAt == null || expiresAt.toEpochMilli() <= nowMillis;
+    }
+}
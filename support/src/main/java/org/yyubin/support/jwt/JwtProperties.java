@@ -13,4 +13,6 @@ public class JwtProperties {
     private String secret;
     private long accessTokenExpiration;
     private long refreshTokenExpiration;
+    /** 검증된 토큰 claims 로컬 캐시 최대 개수 (0 이면 캐시하지 않음) */
+    private int verifiedCacheMaxEntries = 10_000;
 }
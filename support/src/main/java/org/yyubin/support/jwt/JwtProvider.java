@@ -2,12 +2,12 @@ package org.yyubin.support.jwt;
 
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.UnsupportedJwtException;
 import io.jsonwebtoken.security.Keys;
 import io.jsonwebtoken.security.SignatureException;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
@@ -21,20 +21,39 @@ import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Date;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
+/**
+ * JWT 발급/검증
+ * - 서명 키와 파서는 생성 시 한 번만 만들어 재사용 (JwtParser 는 불변/스레드 안전)
+ * - verify: 요청 경로용. 토큰을 한 번만 파싱해 JwtClaims 로 돌려주고,
+ *   검증된 claims 는 토큰 해시 기준으로 exp 까지 로컬 캐시 (jwt.verified-cache-max-entries)
+ * - 인증에는 액세스 토큰만 사용. token_type claim 이 access 가 아닌 토큰(리프레시 토큰)은
+ *   verify/getAuthentication 에서 거부 (token_type 이전에 발급된 토큰은 auth claim 유무로 구분)
+ */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class JwtProvider {
 
     private static final String AUTHORITIES_KEY = "auth";
+    private static final String TOKEN_TYPE_KEY = "token_type";
+    private static final String ACCESS_TOKEN_TYPE = "access";
+    private static final String REFRESH_TOKEN_TYPE = "refresh";
     private final JwtProperties jwtProperties;
-
-    private SecretKey getSigningKey() {
-        byte[] keyBytes = jwtProperties.getSecret().getBytes(StandardCharsets.UTF_8);
-        return Keys.hmacShaKeyFor(keyBytes);
+    private final SecretKey signingKey;
+    private final JwtParser jwtParser;
+    private final VerifiedTokenCache verifiedTokenCache;
+
+    public JwtProvider(JwtProperties jwtProperties) {
+        this.jwtProperties = jwtProperties;
+        this.signingKey = Keys.hmacShaKeyFor(jwtProperties.getSecret().getBytes(StandardCharsets.UTF_8));
+        this.jwtParser = Jwts.parser()
+                .verifyWith(signingKey)
+                .build();
+        this.verifiedTokenCache = new VerifiedTokenCache(jwtProperties.getVerifiedCacheMaxEntries());
     }
 
     public String createAccessToken(String userId, Collection<? extends GrantedAuthority> authorities) {
@@ -49,9 +68,10 @@ public class JwtProvider {
                 .subject(userId)
                 .id(UUID.randomUUID().toString())
                 .claim(AUTHORITIES_KEY, authoritiesString)
+                .claim(TOKEN_TYPE_KEY, ACCESS_TOKEN_TYPE)
                 .issuedAt(new Date(now))
                 .expiration(validity)
-                .signWith(getSigningKey())
+                .signWith(signingKey)
                 .compact();
     }
 
@@ -62,41 +82,69 @@ public class JwtProvider {
         return Jwts.builder()
                 .subject(userId)
                 .id(UUID.randomUUID().toString())
+                .claim(TOKEN_TYPE_KEY, REFRESH_TOKEN_TYPE)
                 .issuedAt(new Date(now))
                 .expiration(validity)
-                .signWith(getSigningKey())
+                .signWith(signingKey)
                 .compact();
     }
 
     public Authentication getAuthentication(String token) {
-        Claims claims = parseClaims(token);
+        JwtClaims claims = toAccessClaims(parseClaims(token));
+        if (claims == null) {
+            throw new UnsupportedJwtException("Not an access token");
+        }
+        return getAuthentication(claims, token);
+    }
 
-        Collection<? extends GrantedAuthority> authorities =
-                Arrays.stream(claims.get(AUTHORITIES_KEY, String.class).split(","))
-                        .filter(auth -> !auth.isEmpty())
-                        .map(SimpleGrantedAuthority::new)
-                        .toList();
+    /**
+     * 이미 검증한 claims 로 Authentication 생성 (재파싱 없음)
+     */
+    public Authentication getAuthentication(JwtClaims claims, String token) {
+        Collection<? extends GrantedAuthority> authorities = claims.authorities().stream()
+                .map(SimpleGrantedAuthority::new)
+                .toList();
 
-        User principal = new User(claims.getSubject(), "", authorities);
+        User principal = new User(claims.subject(), "", authorities);
         return new UsernamePasswordAuthenticationToken(principal, token, authorities);
     }
 
-    public boolean validateToken(String token) {
-        try {
-            parseClaims(token);
-            return true;
-        } catch (SignatureException e) {
-            log.error("Invalid JWT signature: {}", e.getMessage());
-        } catch (MalformedJwtException e) {
-            log.error("Invalid JWT token: {}", e.getMessage());
-        } catch (ExpiredJwtException e) {
-            log.error("JWT token is expired: {}", e.getMessage());
-        } catch (UnsupportedJwtException e) {
-            log.error("JWT token is unsupported: {}", e.getMessage());
-        } catch (IllegalArgumentException e) {
-            log.error("JWT claims string is empty: {}", e.getMessage());
+    /**
+     * 토큰을 한 번만 검증/파싱해 claims 반환 (검증된 토큰은 exp 까지 캐시)
+     *
+     * @return 유효하지 않거나 액세스 토큰이 아니면 empty
+     */
+    public Optional<JwtClaims> verify(String token) {
+        if (token == null || token.isEmpty()) {
+            return Optional.empty();
+        }
+
+        long now = System.currentTimeMillis();
+        String cacheKey = verifiedTokenCache.isEnabled() ? VerifiedTokenCache.keyOf(token) : null;
+        if (cacheKey != null) {
+            JwtClaims cached = verifiedTokenCache.get(cacheKey, now);
+            if (cached != null) {
+                return Optional.of(cached);
+            }
+        }
+
+        Claims claims = parseClaimsOrNull(token);
+        if (claims == null) {
+            return Optional.empty();
+        }
+        JwtClaims verified = toAccessClaims(claims);
+        if (verified == null) {
+            log.debug("JWT token is not an access token");
+            return Optional.empty();
+        }
+        if (cacheKey != null) {
+            verifiedTokenCache.put(cacheKey, verified, now);
         }
-        return false;
+        return Optional.of(verified);
+    }
+
+    public boolean validateToken(String token) {
+        return parseClaimsOrNull(token) != null;
     }
 
     public String getUserIdFromToken(String token) {
@@ -114,11 +162,51 @@ public class JwtProvider {
         return Math.max(0, remainingMs / 1000);
     }
 
+    int verifiedCacheSize() {
+        return verifiedTokenCache.size();
+    }
+
     private Claims parseClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        return jwtParser.parseSignedClaims(token).getPayload();
+    }
+
+    private Claims parseClaimsOrNull(String token) {
+        try {
+            return parseClaims(token);
+        } catch (SignatureException e) {
+            log.error("Invalid JWT signature: {}", e.getMessage());
+        } catch (MalformedJwtException e) {
+            log.error("Invalid JWT token: {}", e.getMessage());
+        } catch (ExpiredJwtException e) {
+            log.error("JWT token is expired: {}", e.getMessage());
+        } catch (UnsupportedJwtException e) {
+            log.error("JWT token is unsupported: {}", e.getMessage());
+        } catch (IllegalArgumentException e) {
+            log.error("JWT claims string is empty: {}", e.getMessage());
+        }
+        return null;
+    }
+
+    /**
+     * @return 액세스 토큰이 아니면 null
+     */
+    private JwtClaims toAccessClaims(Claims claims) {
+        String tokenType = claims.get(TOKEN_TYPE_KEY, String.class);
+        String authorities = claims.get(AUTHORITIES_KEY, String.class);
+        boolean accessToken = tokenType != null ? ACCESS_TOKEN_TYPE.equals(tokenType) : authorities != null;
+        if (!accessToken) {
+            return null;
+        }
+        List<String> authorityList = authorities == null
+                ? List.of()
+                : Arrays.stream(authorities.split(","))
+                        .filter(auth -> !auth.isEmpty())
+                        .toList();
+        return new JwtClaims(
+                claims.getSubject(),
+                claims.getId(),
+                authorityList,
+                claims.getExpiration() != null ? claims.getExpiration().toInstant() : null
+        );
     }
 }
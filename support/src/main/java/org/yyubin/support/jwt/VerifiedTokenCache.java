@@ -0,0 +1,66 @@
+package org.yyubin.support.jwt;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 검증된 JWT claims 로컬 캐시
+ * - 키는 토큰 원문이 아니라 SHA-256 해시 (메모리에 토큰을 남기지 않음)
+ * - 접근 순서 LinkedHashMap 기반 LRU, 항목은 토큰의 exp 에 만료
+ * - 폐기(블랙리스트) 여부는 캐시하지 않으므로 필터가 요청마다 따로 확인
+ */
+final class VerifiedTokenCache {
+
+    private final int maxEntries;
+    private final LinkedHashMap<String, JwtClaims> entries;
+
+    VerifiedTokenCache(int maxEntries) {
+        this.maxEntries = maxEntries;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, JwtClaims> eldest) {
+                return size() > VerifiedTokenCache.this.maxEntries;
+            }
+        };
+    }
+
+    boolean isEnabled() {
+        return maxEntries > 0;
+    }
+
+    synchronized JwtClaims get(String key, long nowMillis) {
+        JwtClaims claims = entries.get(key);
+        if (claims == null) {
+            return null;
+        }
+        if (claims.isExpiredAt(nowMillis)) {
+            entries.remove(key);
+            return null;
+        }
+        return claims;
+    }
+
+    synchronized void put(String key, JwtClaims claims, long nowMillis) {
+        if (!isEnabled() || claims.isExpiredAt(nowMillis)) {
+            return;
+        }
+        entries.put(key, claims);
+    }
+
+    synchronized int size() {
+        return entries.size();
+    }
+
+    static String keyOf(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
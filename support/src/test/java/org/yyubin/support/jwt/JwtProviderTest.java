@@ -2,6 +2,7 @@ package org.yyubin.support.jwt;
 
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.UnsupportedJwtException;
 import io.jsonwebtoken.security.Keys;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -12,11 +13,14 @@ import org.springframework.security.core.authority.SimpleGrantedAuthority;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.time.Instant;
 import java.util.Collection;
 import java.util.Date;
 import java.util.List;
+import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 @DisplayName("JwtProvider 테스트")
 class JwtProviderTest {
@@ -89,6 +93,7 @@ class JwtProviderTest {
 
         assertThat(claims.getSubject()).isEqualTo(userId);
         assertThat(claims.get("auth")).isNull(); // 리프레시 토큰에는 권한 정보 없음
+        assertThat(claims.get("token_type", String.class)).isEqualTo("refresh");
     }
 
     @Test
@@ -381,4 +386,150 @@ class JwtProviderTest {
         assertThat(remainingTime).isGreaterThan(0);
         assertThat(remainingTime).isLessThanOrEqualTo(REFRESH_TOKEN_EXPIRATION / 1000);
     }
+
+    @Test
+    @DisplayName("verify는 토큰을 한 번 검증해 불변 claims를 반환한다")
+    void verify_ValidToken_ReturnsClaims() {
+        // Given
+        Collection<GrantedAuthority> authorities = List.of(
+                new SimpleGrantedAuthority("ROLE_USER"),
+                new SimpleGrantedAuthority("ROLE_ADMIN")
+        );
+        String token = jwtProvider.createAccessToken("12345", authorities);
+
+        // When
+        Optional<JwtClaims> claims = jwtProvider.verify(token);
+
+        // Then
+        assertThat(claims).hasValueSatisfying(verified -> {
+            assertThat(verified.subject()).isEqualTo("12345");
+            assertThat(verified.jti()).isEqualTo(jwtProvider.getJtiFromToken(token));
+            assertThat(verified.authorities()).containsExactly("ROLE_USER", "ROLE_ADMIN");
+            assertThat(verified.expiresAt()).isAfter(Instant.now());
+        });
+        assertThatThrownBy(() -> claims.get().authorities().add("ROLE_HACKER"))
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    @DisplayName("verify는 유효하지 않은 토큰이면 empty를 반환하고 캐시하지 않는다")
+    void verify_InvalidToken_ReturnsEmpty() {
+        // When
+        Optional<JwtClaims> malformed = jwtProvider.verify("invalid.token.format");
+        Optional<JwtClaims> empty = jwtProvider.verify("");
+
+        // Then
+        assertThat(malformed).isEmpty();
+        assertThat(empty).isEmpty();
+        assertThat(jwtProvider.verifiedCacheSize()).isZero();
+    }
+
+    @Test
+    @DisplayName("verify는 만료된 토큰을 거부한다")
+    void verify_ExpiredToken_ReturnsEmpty() {
+        // Given
+        SecretKey key = Keys.hmacShaKeyFor(TEST_SECRET.getBytes(StandardCharsets.UTF_8));
+        String expiredToken = Jwts.builder()
+                .subject("12345")
+                .claim("auth", "ROLE_USER")
+                .issuedAt(new Date(System.currentTimeMillis() - 10000))
+                .expiration(new Date(System.currentTimeMillis() - 5000))
+                .signWith(key)
+                .compact();
+
+        // When
+        Optional<JwtClaims> claims = jwtProvider.verify(expiredToken);
+
+        // Then
+        assertThat(claims).isEmpty();
+    }
+
+    @Test
+    @DisplayName("검증된 토큰은 캐시되어 같은 claims를 재사용한다")
+    void verify_CachesVerifiedClaims() {
+        // Given
+        String token = jwtProvider.createAccessToken("12345", List.of(new SimpleGrantedAuthority("ROLE_USER")));
+
+        // When
+        JwtClaims first = jwtProvider.verify(token).orElseThrow();
+        JwtClaims second = jwtProvider.verify(token).orElseThrow();
+
+        // Then
+        assertThat(second).isSameAs(first);
+        assertThat(jwtProvider.verifiedCacheSize()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("캐시 크기가 0이면 매번 검증하고 캐시하지 않는다")
+    void verify_CacheDisabled() {
+        // Given
+        jwtProperties.setVerifiedCacheMaxEntries(0);
+        JwtProvider uncachedProvider = new JwtProvider(jwtProperties);
+        String token = uncachedProvider.createAccessToken("12345", List.of(new SimpleGrantedAuthority("ROLE_USER")));
+
+        // When
+        JwtClaims first = uncachedProvider.verify(token).orElseThrow();
+        JwtClaims second = uncachedProvider.verify(token).orElseThrow();
+
+        // Then
+        assertThat(second).isEqualTo(first).isNotSameAs(first);
+        assertThat(uncachedProvider.verifiedCacheSize()).isZero();
+    }
+
+    @Test
+    @DisplayName("verify는 리프레시 토큰을 거부한다")
+    void verify_RefreshToken_ReturnsEmpty() {
+        // Given
+        String refreshToken = jwtProvider.createRefreshToken("12345");
+
+        // When
+        Optional<JwtClaims> claims = jwtProvider.verify(refreshToken);
+
+        // Then
+        assertThat(claims).isEmpty();
+        assertThat(jwtProvider.verifiedCacheSize()).isZero();
+        assertThatThrownBy(() -> jwtProvider.getAuthentication(refreshToken))
+                .isInstanceOf(UnsupportedJwtException.class);
+    }
+
+    @Test
+    @DisplayName("token_type 이전에 발급된 토큰은 auth claim 유무로 액세스 토큰을 구분한다")
+    void verify_LegacyTokens_DistinguishedByAuthClaim() {
+        // Given
+        SecretKey key = Keys.hmacShaKeyFor(TEST_SECRET.getBytes(StandardCharsets.UTF_8));
+        Date expiration = new Date(System.currentTimeMillis() + ACCESS_TOKEN_EXPIRATION);
+        String legacyAccessToken = Jwts.builder()
+                .subject("12345")
+                .claim("auth", "ROLE_USER")
+                .expiration(expiration)
+                .signWith(key)
+                .compact();
+        String legacyRefreshToken = Jwts.builder()
+                .subject("12345")
+                .expiration(expiration)
+                .signWith(key)
+                .compact();
+
+        // When & Then
+        assertThat(jwtProvider.verify(legacyAccessToken)).hasValueSatisfying(claims ->
+                assertThat(claims.authorities()).containsExactly("ROLE_USER"));
+        assertThat(jwtProvider.verify(legacyRefreshToken)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("검증된 claims로 재파싱 없이 Authentication 객체 생성")
+    void getAuthentication_FromClaims() {
+        // Given
+        JwtClaims claims = new JwtClaims("12345", "jti-1", List.of("ROLE_USER"), Instant.now().plusSeconds(60));
+
+        // When
+        Authentication authentication = jwtProvider.getAuthentication(claims, "raw-token");
+
+        // Then
+        assertThat(authentication.getName()).isEqualTo("12345");
+        assertThat(authentication.getCredentials()).isEqualTo("raw-token");
+        assertThat(authentication.getAuthorities())
+                .extracting(GrantedAuthority::getAuthority)
+                .containsExactly("ROLE_USER");
+    }
 }
@@ -0,0 +1,74 @@
+package org.yyubin.support.jwt;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("VerifiedTokenCache 테스트")
+class VerifiedTokenCacheTest {
+
+    private static final long NOW = 1_700_000_000_000L;
+
+    @Test
+    @DisplayName("토큰 exp가 지나면 캐시에서 제거된다")
+    void get_ExpiredAtTokenExp() {
+        // Given
+        VerifiedTokenCache cache = new VerifiedTokenCache(10);
+        cache.put("key", claims(NOW + 1_000), NOW);
+
+        // When & Then
+        assertThat(cache.get("key", NOW + 999)).isNotNull();
+        assertThat(cache.get("key", NOW + 1_000)).isNull();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("이미 만료된 claims는 저장하지 않는다")
+    void put_IgnoresExpiredClaims() {
+        // Given
+        VerifiedTokenCache cache = new VerifiedTokenCache(10);
+
+        // When
+        cache.put("key", claims(NOW - 1), NOW);
+
+        // Then
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("최대 개수를 넘으면 가장 오래 사용하지 않은 항목을 제거한다")
+    void put_EvictsLeastRecentlyUsed() {
+        // Given
+        VerifiedTokenCache cache = new VerifiedTokenCache(2);
+        cache.put("a", claims(NOW + 60_000), NOW);
+        cache.put("b", claims(NOW + 60_000), NOW);
+        cache.get("a", NOW);
+
+        // When
+        cache.put("c", claims(NOW + 60_000), NOW);
+
+        // Then
+        assertThat(cache.get("a", NOW)).isNotNull();
+        assertThat(cache.get("b", NOW)).isNull();
+        assertThat(cache.get("c", NOW)).isNotNull();
+    }
+
+    @Test
+    @DisplayName("캐시 키는 토큰 원문이 아닌 SHA-256 해시다")
+    void keyOf_HashesToken() {
+        // When
+        String key = VerifiedTokenCache.keyOf("header.payload.signature");
+
+        // Then
+        assertThat(key).hasSize(64).doesNotContain("payload");
+        assertThat(VerifiedTokenCache.keyOf("header.payload.signature")).isEqualTo(key);
+    }
+
+    private JwtClaims claims(long expiresAtMillis) {
+        return new JwtClaims("1", "jti", List.of("ROLE_USER"), Instant.ofEpochMilli(expiresAtMillis));
+    }
+}